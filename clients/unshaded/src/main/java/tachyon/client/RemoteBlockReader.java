@@ -65,4 +65,36 @@ public interface RemoteBlockReader extends Closeable {
    */
   ByteBuffer readRemoteBlock(InetSocketAddress address, long blockId, long offset,
       long length, long lockId, long sessionId) throws IOException;
+
+  /**
+   * Streams a range of a remote block. The data server sends the range as a sequence of chunks of
+   * bounded size, so the first chunk can be consumed before the rest of the range is sent, and
+   * only a few chunks are buffered by the client at any time.
+   *
+   * @param address the {@link InetSocketAddress} of the data server
+   * @param blockId the id of the block trying to read
+   * @param offset the offset of the block
+   * @param length the length the client wants to read, must be positive
+   * @param lockId the acquired block lock id
+   * @param sessionId the session id of the client
+   * @return the stream of the chunks of the range
+   * @throws IOException if the remote server is not reachable
+   */
+  ChunkStream streamRemoteBlock(InetSocketAddress address, long blockId, long offset,
+      long length, long lockId, long sessionId) throws IOException;
+
+  /**
+   * The chunks of a range of a remote block, in order. Closing the stream releases the last chunk
+   * and discards the chunks which have not been read yet.
+   */
+  interface ChunkStream extends Closeable {
+    /**
+     * Waits for the next chunk of the range. The returned buffer is only valid until the next call
+     * to this method or until the stream is closed.
+     *
+     * @return the next chunk, or null if the whole range has been read
+     * @throws IOException if the remote server responds with failures or does not respond in time
+     */
+    ByteBuffer next() throws IOException;
+  }
 }
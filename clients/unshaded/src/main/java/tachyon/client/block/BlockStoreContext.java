@@ -17,15 +17,22 @@ package tachyon.client.block;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 
+import tachyon.Constants;
 import tachyon.client.ClientContext;
 import tachyon.client.Utils;
 import tachyon.client.worker.BlockWorkerClient;
 import tachyon.exception.ExceptionMessage;
 import tachyon.exception.PreconditionMessage;
+import tachyon.heartbeat.HeartbeatContext;
+import tachyon.heartbeat.HeartbeatThread;
 import tachyon.thrift.WorkerInfo;
 import tachyon.util.network.NetworkAddressUtils;
 import tachyon.worker.ClientMetrics;
@@ -39,8 +46,14 @@ import tachyon.worker.NetAddress;
 public enum BlockStoreContext {
   INSTANCE;
 
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
   private BlockMasterClientPool mBlockMasterClientPool;
   private BlockWorkerClientPool mLocalBlockWorkerClientPool;
+  /** The leases of the blocks on the local worker, created with the local worker client pool */
+  private LocalBlockLeaseManager mLocalBlockLeaseManager;
+  /** The thread which releases the expired leases, or null if there is none */
+  private Future<?> mLocalBlockLeaseHeartbeat;
 
   private boolean mLocalBlockWorkerClientPoolInitialized;
 
@@ -64,6 +77,14 @@ public enum BlockStoreContext {
       mLocalBlockWorkerClientPool = null;
     } else {
       mLocalBlockWorkerClientPool = new BlockWorkerClientPool(localWorkerAddress);
+      long leaseMs = ClientContext.getConf().getLong(Constants.USER_BLOCK_LOCAL_LOCK_LEASE_MS);
+      mLocalBlockLeaseManager = new LocalBlockLeaseManager(
+          new BlockWorkerClientPool(localWorkerAddress, Utils.getRandomNonNegativeLong()), leaseMs);
+      if (leaseMs > 0) {
+        mLocalBlockLeaseHeartbeat = ClientContext.getExecutorService().submit(
+            new HeartbeatThread(HeartbeatContext.WORKER_CLIENT_LEASES, mLocalBlockLeaseManager,
+                leaseMs));
+      }
     }
     mLocalBlockWorkerClientPoolInitialized = true;
   }
@@ -196,6 +217,19 @@ public enum BlockStoreContext {
     return mLocalBlockWorkerClientPool.acquire();
   }
 
+  /**
+   * Gets the leases of the blocks on the local worker, through which local block streams lock
+   * their blocks.
+   *
+   * @return the {@link LocalBlockLeaseManager} of the local worker, or null if there is none
+   */
+  synchronized LocalBlockLeaseManager getLocalBlockLeaseManager() {
+    if (!mLocalBlockWorkerClientPoolInitialized) {
+      initializeLocalBlockWorkerClientPool();
+    }
+    return mLocalBlockLeaseManager;
+  }
+
   /**
    * Obtains a non local worker client based on the hostname. Illegal argument exception is thrown
    * if the hostname is the local hostname. Runtime exception is thrown if the client cannot be
@@ -282,6 +316,18 @@ public enum BlockStoreContext {
     if (mLocalBlockWorkerClientPool != null) {
       mLocalBlockWorkerClientPool.close();
     }
+    if (mLocalBlockLeaseHeartbeat != null) {
+      mLocalBlockLeaseHeartbeat.cancel(true);
+      mLocalBlockLeaseHeartbeat = null;
+    }
+    if (mLocalBlockLeaseManager != null) {
+      try {
+        mLocalBlockLeaseManager.close();
+      } catch (IOException e) {
+        LOG.warn("Failed to release the leases of local blocks", e);
+      }
+      mLocalBlockLeaseManager = null;
+    }
     mBlockMasterClientPool = new BlockMasterClientPool(ClientContext.getMasterAddress());
     // mLocalBlockWorkerClientPool is initialized in a lazy manner
     mLocalBlockWorkerClientPoolInitialized = false;
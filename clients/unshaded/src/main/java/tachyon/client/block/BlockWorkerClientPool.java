@@ -32,11 +32,15 @@ import tachyon.worker.NetAddress;
  */
 final class BlockWorkerClientPool extends ResourcePool<BlockWorkerClient> {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+  /** Marks a pool whose clients each start a new session when they are released. */
+  private static final long NO_SHARED_SESSION = -1;
   /**
    * The capacity for this pool must be large, since each block written will hold a client until
    * the block is committed at the end of the file completion.
    */
   private final NetAddress mWorkerNetAddress;
+  /** The id of the session shared by all clients, or {@link #NO_SHARED_SESSION}. */
+  private final long mSharedSessionId;
 
   /**
    * Creates a new block worker client pool.
@@ -44,8 +48,21 @@ final class BlockWorkerClientPool extends ResourcePool<BlockWorkerClient> {
    * @param workerAddress the worker address
    */
   public BlockWorkerClientPool(NetAddress workerAddress) {
+    this(workerAddress, NO_SHARED_SESSION);
+  }
+
+  /**
+   * Creates a new block worker client pool whose clients all act for the given session. The
+   * session outlives the use of any single client, so the resources one client takes for the
+   * session, such as block locks, may be released through another.
+   *
+   * @param workerAddress the worker address
+   * @param sharedSessionId the id of the session, which must be non-negative
+   */
+  public BlockWorkerClientPool(NetAddress workerAddress, long sharedSessionId) {
     super(ClientContext.getConf().getInt(Constants.USER_BLOCK_WORKER_CLIENT_THREADS));
     mWorkerNetAddress = workerAddress;
+    mSharedSessionId = sharedSessionId;
   }
 
   @Override
@@ -55,6 +72,11 @@ final class BlockWorkerClientPool extends ResourcePool<BlockWorkerClient> {
 
   @Override
   public void release(BlockWorkerClient blockWorkerClient) {
+    if (mSharedSessionId != NO_SHARED_SESSION) {
+      // The session goes on, and the periodic heartbeats of the clients send the client metrics.
+      super.release(blockWorkerClient);
+      return;
+    }
     try {
       // Heartbeat to send the client metrics.
       blockWorkerClient.sessionHeartbeat();
@@ -67,7 +89,8 @@ final class BlockWorkerClientPool extends ResourcePool<BlockWorkerClient> {
 
   @Override
   protected BlockWorkerClient createNewResource() {
-    long clientId = Utils.getRandomNonNegativeLong();
+    long clientId = mSharedSessionId != NO_SHARED_SESSION ? mSharedSessionId
+        : Utils.getRandomNonNegativeLong();
     return new BlockWorkerClient(mWorkerNetAddress, ClientContext.getExecutorService(),
         ClientContext.getConf(), clientId, true, ClientContext.getClientMetrics());
   }
@@ -112,26 +112,36 @@ public abstract class BufferedBlockInStream extends BlockInStream {
     }
 
     int toRead = (int) Math.min(len, remaining());
-    if (mBufferIsValid && mBuffer.remaining() > toRead) { // data is fully contained in the buffer
+    if (mBufferIsValid && mBuffer.remaining() >= toRead) { // data is fully contained in the buffer
       mBuffer.get(b, off, toRead);
       mPos += toRead;
       mBlockIsRead = true;
       return toRead;
     }
 
-    if (toRead > mBuffer.capacity() / 2) { // directly read if request is > one-half buffer size
+    // Take what is left in the buffer first, so that sequential reads of the stream read the data
+    // source sequentially too.
+    int buffered = 0;
+    if (mBufferIsValid) {
+      buffered = mBuffer.remaining();
+      mBuffer.get(b, off, buffered);
+      mPos += buffered;
+    }
+    int toReadFromSource = toRead - buffered;
+
+    if (toReadFromSource > mBuffer.capacity() / 2) { // directly read if > one-half buffer size
       mBufferIsValid = false;
-      int bytesRead = directRead(b, off, toRead);
+      int bytesRead = directRead(b, off + buffered, toReadFromSource);
       mPos += bytesRead;
       mBlockIsRead = true;
       incrementBytesReadMetric(bytesRead);
-      return bytesRead;
+      return buffered + bytesRead;
     }
 
     // For a read <= half the buffer size, fill the buffer first, then read from the buffer.
     updateBuffer();
-    mBuffer.get(b, off, toRead);
-    mPos += toRead;
+    mBuffer.get(b, off + buffered, toReadFromSource);
+    mPos += toReadFromSource;
     mBlockIsRead = true;
     return toRead;
   }
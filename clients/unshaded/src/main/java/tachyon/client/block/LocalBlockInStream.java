@@ -15,34 +15,46 @@
 
 package tachyon.client.block;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 
 import com.google.common.io.Closer;
 
+import tachyon.Constants;
 import tachyon.client.ClientContext;
-import tachyon.client.worker.BlockWorkerClient;
 import tachyon.exception.ExceptionMessage;
-import tachyon.exception.TachyonException;
-import tachyon.thrift.LockBlockResult;
 import tachyon.util.io.BufferUtils;
 import tachyon.util.network.NetworkAddressUtils;
 import tachyon.worker.block.io.LocalFileBlockReader;
 
 /**
  * This class provides a streaming API to read a block in Tachyon. The data will be directly read
- * from the local machine's storage. The instances of this class should only be used by one thread
- * and are not thread safe.
+ * from the local machine's storage, as configured by {@link LocalBlockReadType}: either from a
+ * mapping of the block file which lives as long as the stream, or with positional reads into heap
+ * buffers. Neither maps nor unmaps memory per read, so many small reads of a block stay cheap. The
+ * block is locked through the {@link LocalBlockLeaseManager} of the client, so opening the stream
+ * calls the worker at most once and closing it does not call the worker at all. The instances of
+ * this class should only be used by one thread and are not thread safe.
  */
 public final class LocalBlockInStream extends BufferedBlockInStream {
+  /** The largest part of the block file which is mapped at once. */
+  private static final long MAX_MAP_WINDOW_BYTES = Constants.GB;
+
   /** Helper to manage closables. */
   private final Closer mCloser;
-  /** Client to communicate with the local worker. */
-  private final BlockWorkerClient mBlockWorkerClient;
-  /** The block store context which provides block worker clients. */
-  private final BlockStoreContext mContext;
+  /** The leases of the blocks on the local worker, which lock the block of this stream. */
+  private final LocalBlockLeaseManager mLeaseManager;
   /** The file reader to read a local block */
   private final LocalFileBlockReader mReader;
+  /** How the block file is read. */
+  private final LocalBlockReadType mReadType;
+  /** The size of the buffer of the stream, which bounds the buffered reads. */
+  private final int mBufferSize;
+  /** The mapped part of the block file for {@link LocalBlockReadType#MAPPED}, or null. */
+  private ByteBuffer mWindow = null;
+  /** The offset in the block file at which {@link #mWindow} starts. */
+  private long mWindowOffset = 0;
 
   /**
    * Creates a new local block input stream.
@@ -53,20 +65,25 @@ public final class LocalBlockInStream extends BufferedBlockInStream {
    */
   public LocalBlockInStream(long blockId, long blockSize) throws IOException {
     super(blockId, blockSize);
-    mContext = BlockStoreContext.INSTANCE;
+    mReadType = ClientContext.getConf().getEnum(Constants.USER_BLOCK_LOCAL_READ_TYPE,
+        LocalBlockReadType.class);
+    mBufferSize = mBuffer.capacity();
 
     mCloser = Closer.create();
-    mBlockWorkerClient =
-        mContext.acquireWorkerClient(NetworkAddressUtils.getLocalHostName(ClientContext.getConf()));
+    mLeaseManager = BlockStoreContext.INSTANCE.getLocalBlockLeaseManager();
+    if (mLeaseManager == null) {
+      throw new IOException(ExceptionMessage.NO_WORKER_AVAILABLE_ON_HOST
+          .getMessage(NetworkAddressUtils.getLocalHostName(ClientContext.getConf())));
+    }
+    String blockPath = mLeaseManager.acquire(blockId);
+    if (blockPath == null) {
+      throw new IOException(ExceptionMessage.BLOCK_NOT_LOCALLY_AVAILABLE.getMessage(mBlockId));
+    }
     try {
-      LockBlockResult result = mBlockWorkerClient.lockBlock(blockId);
-      if (result == null) {
-        throw new IOException(ExceptionMessage.BLOCK_NOT_LOCALLY_AVAILABLE.getMessage(mBlockId));
-      }
-      mReader = new LocalFileBlockReader(result.blockPath);
+      mReader = new LocalFileBlockReader(blockPath);
       mCloser.register(mReader);
     } catch (IOException e) {
-      mContext.releaseWorkerClient(mBlockWorkerClient);
+      mLeaseManager.release(blockId, false);
       throw e;
     }
   }
@@ -78,18 +95,15 @@ public final class LocalBlockInStream extends BufferedBlockInStream {
     }
     try {
       if (mBlockIsRead) {
-        mBlockWorkerClient.accessBlock(mBlockId);
         ClientContext.getClientMetrics().incBlocksReadLocal(1);
       }
-      mBlockWorkerClient.unlockBlock(mBlockId);
-    } catch (TachyonException e) {
-      throw new IOException(e);
+      // The lease reports the access and unlocks the block later, unless the lease is 0.
+      mLeaseManager.release(mBlockId, mBlockIsRead);
     } finally {
-      mContext.releaseWorkerClient(mBlockWorkerClient);
       mCloser.close();
-      if (mBuffer != null && mBuffer.isDirect()) {
-        BufferUtils.cleanDirectBuffer(mBuffer);
-      }
+      // The buffer is either a heap buffer or a view of the window, which must not be used again.
+      mBuffer = ByteBuffer.allocate(0);
+      unmapWindow();
     }
 
     mClosed = true;
@@ -97,17 +111,34 @@ public final class LocalBlockInStream extends BufferedBlockInStream {
 
   @Override
   protected void bufferedRead(int len) throws IOException {
-    if (mBuffer.isDirect()) { // Buffer may not be direct on initialization
-      BufferUtils.cleanDirectBuffer(mBuffer);
+    long pos = getPosition();
+    if (mReadType == LocalBlockReadType.PREAD) {
+      // The buffer is always the heap buffer the stream started with, so it can be refilled.
+      mBuffer.clear();
+      mBuffer.limit(len);
+      readFully(pos, mBuffer);
+      mBuffer.flip();
+      return;
     }
-    mBuffer = mReader.read(getPosition(), len);
+    // Keep the capacity of the view at the buffer size, which the stream sizes its reads by.
+    int capacity = (int) Math.min(mBufferSize, mReader.getLength() - pos);
+    mBuffer = getMappedView(pos, Math.max(capacity, len));
+    mBuffer.limit(len);
   }
 
   @Override
   public int directRead(byte[] b, int off, int len) throws IOException {
-    ByteBuffer buf = mReader.read(getPosition(), len);
-    buf.get(b, off, len);
-    BufferUtils.cleanDirectBuffer(buf);
+    long pos = getPosition();
+    if (mReadType == LocalBlockReadType.PREAD) {
+      readFully(pos, ByteBuffer.wrap(b, off, len));
+      return len;
+    }
+    int bytesRead = 0;
+    while (bytesRead < len) {
+      int toRead = (int) Math.min(len - bytesRead, MAX_MAP_WINDOW_BYTES);
+      getMappedView(pos + bytesRead, toRead).get(b, off + bytesRead, toRead);
+      bytesRead += toRead;
+    }
     return len;
   }
 
@@ -115,4 +146,59 @@ public final class LocalBlockInStream extends BufferedBlockInStream {
   protected void incrementBytesReadMetric(int bytes) {
     ClientContext.getClientMetrics().incBytesReadLocal(bytes);
   }
+
+  /**
+   * Returns a view of a range of the block file, mapping the window of the file around the range if
+   * the current window does not contain it. The windows are aligned to {@link
+   * #MAX_MAP_WINDOW_BYTES} where possible, so a stream over a block of at most that size maps it
+   * exactly once. Views of a previous window must not be used after this method is called.
+   *
+   * @param offset the offset in the block file at which the range starts
+   * @param length the length of the range, at most {@link #MAX_MAP_WINDOW_BYTES}
+   * @return a buffer whose remaining bytes are the range
+   * @throws IOException if the block file cannot be mapped
+   */
+  private ByteBuffer getMappedView(long offset, int length) throws IOException {
+    if (mWindow == null || offset < mWindowOffset
+        || offset + length > mWindowOffset + mWindow.capacity()) {
+      unmapWindow();
+      long windowOffset = offset - offset % MAX_MAP_WINDOW_BYTES;
+      if (offset + length > windowOffset + MAX_MAP_WINDOW_BYTES) {
+        // The range crosses the aligned window boundary.
+        windowOffset = offset;
+      }
+      long windowLength = Math.min(MAX_MAP_WINDOW_BYTES, mReader.getLength() - windowOffset);
+      mWindow = mReader.read(windowOffset, windowLength);
+      mWindowOffset = windowOffset;
+    }
+    ByteBuffer view = mWindow.duplicate();
+    view.position((int) (offset - mWindowOffset));
+    view.limit(view.position() + length);
+    return view.slice();
+  }
+
+  private void unmapWindow() {
+    if (mWindow != null) {
+      BufferUtils.cleanDirectBuffer(mWindow);
+      mWindow = null;
+    }
+  }
+
+  /**
+   * Fills a buffer from the block file with positional reads.
+   *
+   * @param offset the offset in the block file to read from
+   * @param buf the buffer to fill up to its limit
+   * @throws IOException if the block file cannot be read or ends before the buffer is full
+   */
+  private void readFully(long offset, ByteBuffer buf) throws IOException {
+    long pos = offset;
+    while (buf.hasRemaining()) {
+      int bytesRead = mReader.getChannel().read(buf, pos);
+      if (bytesRead < 0) {
+        throw new EOFException("Unexpected end of block " + mBlockId + " at offset " + pos);
+      }
+      pos += bytesRead;
+    }
+  }
 }
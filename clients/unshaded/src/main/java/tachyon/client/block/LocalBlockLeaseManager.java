@@ -0,0 +1,267 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.block;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Preconditions;
+
+import tachyon.Constants;
+import tachyon.client.worker.BlockWorkerClient;
+import tachyon.exception.TachyonException;
+import tachyon.heartbeat.HeartbeatExecutor;
+import tachyon.resource.ResourcePool;
+import tachyon.thrift.LockBlockResult;
+import tachyon.util.CommonUtils;
+
+/**
+ * Leases the locks of the blocks on the local worker to the {@link LocalBlockInStream}s of the
+ * client, so that a local block can be opened, read and closed with at most one call to the
+ * worker. The first stream of a block locks it, and the lock is kept for a while after the last
+ * stream of the block closes, so that the streams opened in the meantime do not call the worker at
+ * all. A block thus stays locked while it is read, as before, and for at most about twice the
+ * lease afterwards, during which the worker cannot evict it. The locks whose leases expired are
+ * released, and the accesses of the streams are reported, in batches by {@link #heartbeat()},
+ * with one call to the worker each.
+ *
+ * All locks are taken for one session, which the clients of the pool keep alive with their
+ * heartbeats. If the client goes away, the worker releases the locks once the session times out.
+ * With a lease of 0, a block is unlocked, and the accesses are reported, as soon as the last stream
+ * of the block closes. This class is thread safe.
+ */
+final class LocalBlockLeaseManager implements HeartbeatExecutor {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  /** The lease of a locked block. */
+  private static final class Lease {
+    private final String mPath;
+    /** The number of locks taken for the block, more than one if streams raced to lock it */
+    private int mLocks = 1;
+    /** The number of open streams of the block */
+    private int mReaders = 0;
+    /** The time at which the lease expires, valid once it has no readers */
+    private long mExpirationMs = 0;
+
+    private Lease(String path) {
+      mPath = path;
+    }
+  }
+
+  /** The pool of clients which take and release the locks, all for the same session. */
+  private final ResourcePool<BlockWorkerClient> mClientPool;
+  private final long mLeaseMs;
+  /** Map from block id to the lease of the block */
+  private final Map<Long, Lease> mLeases = new HashMap<Long, Lease>();
+  /** The ids of the blocks read since the accesses were last reported, once per stream */
+  private List<Long> mAccessedBlockIds = new ArrayList<Long>();
+
+  /**
+   * Creates a new instance of {@link LocalBlockLeaseManager}.
+   *
+   * @param clientPool the pool of clients to the local worker, whose clients must share a session
+   * @param leaseMs how long a block stays locked after its last stream closes
+   */
+  LocalBlockLeaseManager(ResourcePool<BlockWorkerClient> clientPool, long leaseMs) {
+    Preconditions.checkArgument(leaseMs >= 0, "The lease must not be negative: %s", leaseMs);
+    mClientPool = Preconditions.checkNotNull(clientPool);
+    mLeaseMs = leaseMs;
+  }
+
+  /**
+   * Leases a block to a stream, locking it on the worker unless it is leased already. Each call
+   * must be paired with a call to {@link #release(long, boolean)}.
+   *
+   * @param blockId the id of the block
+   * @return the path of the block file, or null if the block is not on the local worker
+   * @throws IOException if the block could not be locked
+   */
+  String acquire(long blockId) throws IOException {
+    synchronized (this) {
+      Lease lease = mLeases.get(blockId);
+      if (lease != null) {
+        lease.mReaders ++;
+        return lease.mPath;
+      }
+    }
+    LockBlockResult result;
+    BlockWorkerClient client = mClientPool.acquire();
+    try {
+      result = client.lockBlock(blockId);
+    } finally {
+      mClientPool.release(client);
+    }
+    if (result == null) {
+      return null;
+    }
+    synchronized (this) {
+      Lease lease = mLeases.get(blockId);
+      if (lease == null) {
+        lease = new Lease(result.getBlockPath());
+        mLeases.put(blockId, lease);
+      } else {
+        // Another stream locked the block meanwhile, both locks are released with the lease.
+        lease.mLocks ++;
+      }
+      lease.mReaders ++;
+      return lease.mPath;
+    }
+  }
+
+  /**
+   * Returns a block leased by {@link #acquire(long)}.
+   *
+   * @param blockId the id of the block
+   * @param accessed whether the stream read the block, which is then reported to the worker
+   * @throws IOException if the lease is 0 and the block could not be unlocked
+   */
+  void release(long blockId, boolean accessed) throws IOException {
+    Map<Long, Integer> unlocks = new HashMap<Long, Integer>();
+    synchronized (this) {
+      Lease lease = mLeases.get(blockId);
+      Preconditions.checkState(lease != null && lease.mReaders > 0, "Block %s is not leased",
+          blockId);
+      if (accessed) {
+        mAccessedBlockIds.add(blockId);
+      }
+      lease.mReaders --;
+      if (lease.mReaders == 0) {
+        lease.mExpirationMs = CommonUtils.getCurrentMs() + mLeaseMs;
+        if (mLeaseMs == 0) {
+          mLeases.remove(blockId);
+          unlocks.put(blockId, lease.mLocks);
+        }
+      }
+    }
+    if (mLeaseMs == 0) {
+      report(unlocks);
+    }
+  }
+
+  /**
+   * @param blockId the id of a block
+   * @return true if the block is leased, whether or not it has open streams
+   */
+  synchronized boolean isLeased(long blockId) {
+    return mLeases.containsKey(blockId);
+  }
+
+  @Override
+  public void heartbeat() {
+    try {
+      releaseExpired(CommonUtils.getCurrentMs());
+    } catch (IOException e) {
+      // The locks which were not released are released when the session times out.
+      LOG.warn("Failed to release the leases of local blocks", e);
+    }
+  }
+
+  /**
+   * Unlocks the blocks whose leases expired by the given time, and reports the accesses of the
+   * streams since the last report.
+   *
+   * @param nowMs the current time
+   * @throws IOException if a lock could not be released or an access could not be reported
+   */
+  void releaseExpired(long nowMs) throws IOException {
+    Map<Long, Integer> unlocks = new HashMap<Long, Integer>();
+    synchronized (this) {
+      Iterator<Map.Entry<Long, Lease>> iterator = mLeases.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<Long, Lease> entry = iterator.next();
+        Lease lease = entry.getValue();
+        if (lease.mReaders == 0 && lease.mExpirationMs <= nowMs) {
+          unlocks.put(entry.getKey(), lease.mLocks);
+          iterator.remove();
+        }
+      }
+    }
+    report(unlocks);
+  }
+
+  /**
+   * Releases the leases which have no open streams, whether or not they expired, and then closes
+   * the client pool of the manager.
+   *
+   * @throws IOException if a lock could not be released or an access could not be reported
+   */
+  void close() throws IOException {
+    try {
+      releaseExpired(Long.MAX_VALUE);
+    } finally {
+      mClientPool.close();
+    }
+  }
+
+  /**
+   * Reports the accesses of the streams since the last report, and releases the given locks.
+   *
+   * @param unlocks map from block id to the number of locks to release for the block
+   * @throws IOException if a lock could not be released or an access could not be reported
+   */
+  private void report(Map<Long, Integer> unlocks) throws IOException {
+    List<Long> accessedBlockIds;
+    synchronized (this) {
+      accessedBlockIds = mAccessedBlockIds;
+      mAccessedBlockIds = new ArrayList<Long>();
+    }
+    if (accessedBlockIds.isEmpty() && unlocks.isEmpty()) {
+      return;
+    }
+    List<Long> unlockedBlockIds = new ArrayList<Long>();
+    for (Map.Entry<Long, Integer> entry : unlocks.entrySet()) {
+      for (int i = 0; i < entry.getValue(); i ++) {
+        unlockedBlockIds.add(entry.getKey());
+      }
+    }
+    // Go on after a failure, so that the locks are released even if the accesses are not reported.
+    IOException failure = null;
+    BlockWorkerClient client = mClientPool.acquire();
+    try {
+      // The accessed blocks are still locked, so they cannot be removed before they are reported.
+      if (!accessedBlockIds.isEmpty()) {
+        try {
+          client.accessBlocks(accessedBlockIds);
+        } catch (TachyonException e) {
+          failure = new IOException(e);
+        } catch (IOException e) {
+          failure = e;
+        }
+      }
+      if (!unlockedBlockIds.isEmpty()) {
+        try {
+          client.unlockBlocks(unlockedBlockIds);
+        } catch (TachyonException e) {
+          failure = new IOException(e);
+        } catch (IOException e) {
+          failure = e;
+        }
+      }
+    } finally {
+      mClientPool.release(client);
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.block;
+
+/**
+ * How a {@link LocalBlockInStream} reads the block file of a local worker. {@link #MAPPED} is the
+ * default since reads which are served from memory already shared with the worker cost no system
+ * call at all.
+ */
+public enum LocalBlockReadType {
+  /**
+   * Maps the block file into memory once, in windows of up to 1GB, and serves every read from the
+   * mapping until the stream is closed
+   */
+  MAPPED,
+
+  /**
+   * Copies the requested bytes from the block file into heap buffers with positional reads, without
+   * mapping anything
+   */
+  PREAD
+}
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 
+import tachyon.Constants;
 import tachyon.client.ClientContext;
 import tachyon.client.RemoteBlockReader;
 import tachyon.client.worker.BlockWorkerClient;
@@ -29,6 +30,12 @@ import tachyon.exception.ExceptionMessage;
  * This class provides a streaming API to read a block in Tachyon. The data will be transferred
  * through a Tachyon worker's dataserver to the client. The instances of this class should only be
  * used by one thread and are not thread safe.
+ *
+ * While the block is read sequentially, the stream asks the data server for more than each read
+ * needs, and keeps the rest of the range streaming in while the reader consumes what it has. The
+ * range asked for ahead of the reader doubles with every sequential read, up to
+ * {@link Constants#USER_BLOCK_REMOTE_READ_AHEAD_BYTES}, and is dropped as soon as the reader seeks
+ * away from it.
  */
 public final class RemoteBlockInStream extends BufferedBlockInStream {
   /** The address of the worker to read the data from. */
@@ -40,6 +47,21 @@ public final class RemoteBlockInStream extends BufferedBlockInStream {
   private final BlockWorkerClient mBlockWorkerClient;
   /** The block store context which provides block worker clients. */
   private final BlockStoreContext mContext;
+  /** The reader which streams the data of the block, created on the first read. */
+  private RemoteBlockReader mReader;
+
+  /** The maximum number of bytes to ask for ahead of the reader, 0 to disable reading ahead. */
+  private final long mReadAheadMaxBytes;
+  /** The number of bytes asked for ahead of the reader by the next range. */
+  private long mReadAheadBytes;
+  /** The position right after the last byte read from the remote worker. */
+  private long mNextReadPos;
+  /** The range which is streaming in, or null if there is none. */
+  private RemoteBlockReader.ChunkStream mChunks;
+  /** The chunk of {@link #mChunks} which is being copied out, or null if there is none. */
+  private ByteBuffer mChunk;
+  /** The position right after the end of {@link #mChunks}. */
+  private long mChunksEnd;
 
   /**
    * Creates a new remote block input stream.
@@ -55,6 +77,8 @@ public final class RemoteBlockInStream extends BufferedBlockInStream {
     mLocation = location;
 
     mContext = BlockStoreContext.INSTANCE;
+    mReadAheadMaxBytes =
+        ClientContext.getConf().getBytes(Constants.USER_BLOCK_REMOTE_READ_AHEAD_BYTES);
     mBlockWorkerClient = mContext.acquireWorkerClient(location.getHostName());
 
     try {
@@ -77,6 +101,10 @@ public final class RemoteBlockInStream extends BufferedBlockInStream {
     // TODO(calvin): Perhaps verify that something was read from this stream
     ClientContext.getClientMetrics().incBlocksReadRemote(1);
 
+    closeChunks();
+    if (mReader != null) {
+      mReader.close();
+    }
     try {
       mBlockWorkerClient.unlockBlock(mBlockId);
     } catch (ConnectionFailedException e) {
@@ -99,6 +127,24 @@ public final class RemoteBlockInStream extends BufferedBlockInStream {
     return readFromRemote(b, off, len);
   }
 
+  /**
+   * Starts streaming in the block from the current position, before it is read, if the stream is
+   * not streaming in any data yet. This lets the data of a block be on its way while the reader is
+   * still busy with the block before it.
+   *
+   * @param length the number of bytes to ask for, capped by
+   *        {@link Constants#USER_BLOCK_REMOTE_READ_AHEAD_BYTES}
+   * @throws IOException if the range could not be requested
+   */
+  public void readAhead(long length) throws IOException {
+    if (mClosed || mChunks != null || mReadAheadMaxBytes <= 0 || remaining() == 0) {
+      return;
+    }
+    mReadAheadBytes = Math.min(mReadAheadMaxBytes, length);
+    mNextReadPos = getPosition();
+    openChunks(Math.min(remaining(), mReadAheadBytes));
+  }
+
   /**
    * Increments the number of bytes read metric.
    *
@@ -110,7 +156,10 @@ public final class RemoteBlockInStream extends BufferedBlockInStream {
   }
 
   /**
-   * Reads a portion of the block from the remote worker.
+   * Reads a portion of the block from the remote worker. The portion is streamed in chunks which
+   * are copied out as they arrive, so the client never buffers the whole portion at once. If the
+   * read continues the previous one, it is served from the range which is already streaming in,
+   * and a new range asked for is extended ahead of the reader.
    *
    * @param b the byte array to write the data to
    * @param off the offset in the array to write to
@@ -122,23 +171,67 @@ public final class RemoteBlockInStream extends BufferedBlockInStream {
     // We read at most len bytes, but if mPos + len exceeds the length of the block, we only
     // read up to the end of the block.
     int toRead = (int) Math.min(len, remaining());
-    int bytesLeft = toRead;
-    while (bytesLeft > 0) {
-      // TODO(calvin): Fix needing to recreate reader each time.
-      RemoteBlockReader reader =
-          RemoteBlockReader.Factory.create(ClientContext.getConf());
-      try {
-        ByteBuffer data = reader.readRemoteBlock(mLocation, mBlockId, getPosition(),
-            bytesLeft, mLockId, mBlockWorkerClient.getSessionId());
-        int bytesRead = data.remaining();
-        data.get(b, off, bytesRead);
-        bytesLeft -= bytesRead;
-        incrementBytesReadMetric(bytesRead);
-      } finally {
-        reader.close();
+    if (toRead == 0) {
+      return 0;
+    }
+    boolean sequential = getPosition() == mNextReadPos;
+    if (!sequential) {
+      // The data streaming in is not what the reader wants anymore.
+      closeChunks();
+      mReadAheadBytes = 0;
+      mNextReadPos = getPosition();
+    }
+    int bytesRead = 0;
+    while (bytesRead < toRead) {
+      if (mChunks == null) {
+        int needed = toRead - bytesRead;
+        if (sequential) {
+          mReadAheadBytes = Math.min(mReadAheadMaxBytes, Math.max(needed, 2 * mReadAheadBytes));
+        }
+        openChunks(Math.min(mBlockSize - mNextReadPos, Math.max(needed, mReadAheadBytes)));
+      }
+      if (mChunk == null || !mChunk.hasRemaining()) {
+        mChunk = mChunks.next();
+        if (mChunk == null) {
+          throw new IOException("Block " + mBlockId + " ended early at " + mNextReadPos);
+        }
+      }
+      int chunkLength = Math.min(mChunk.remaining(), toRead - bytesRead);
+      mChunk.get(b, off + bytesRead, chunkLength);
+      bytesRead += chunkLength;
+      mNextReadPos += chunkLength;
+      if (mNextReadPos == mChunksEnd) {
+        closeChunks();
       }
     }
-
     return toRead;
   }
+
+  /**
+   * Asks the remote worker for a range of the block starting at {@link #mNextReadPos}.
+   *
+   * @param length the length of the range, must be positive
+   * @throws IOException if the range could not be requested
+   */
+  private void openChunks(long length) throws IOException {
+    if (mReader == null) {
+      mReader = RemoteBlockReader.Factory.create(ClientContext.getConf());
+    }
+    mChunks = mReader.streamRemoteBlock(mLocation, mBlockId, mNextReadPos, length, mLockId,
+        mBlockWorkerClient.getSessionId());
+    mChunksEnd = mNextReadPos + length;
+  }
+
+  /**
+   * Closes the range which is streaming in, if any, discarding the data not read yet.
+   *
+   * @throws IOException if the range could not be closed
+   */
+  private void closeChunks() throws IOException {
+    if (mChunks != null) {
+      mChunk = null;
+      mChunks.close();
+      mChunks = null;
+    }
+  }
 }
@@ -123,7 +123,19 @@ public final class TachyonBlockStore {
     } finally {
       mContext.releaseMasterClient(masterClient);
     }
+    return getInStream(blockInfo);
+  }
 
+  /**
+   * Gets a stream to read the data of a block, at one of the given locations of the block. The
+   * stream is backed by Tachyon storage.
+   *
+   * @param blockInfo the info of the block to read from, such as one cached by the client
+   * @return a {@link BlockInStream} which can be used to read the data in a streaming fashion
+   * @throws IOException if the block has no locations
+   */
+  public BufferedBlockInStream getInStream(BlockInfo blockInfo) throws IOException {
+    long blockId = blockInfo.getBlockId();
     if (blockInfo.locations.isEmpty()) {
       throw new IOException("Block " + blockId + " is not available in Tachyon");
     }
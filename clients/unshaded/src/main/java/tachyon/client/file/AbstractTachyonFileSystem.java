@@ -72,6 +72,7 @@ public abstract class AbstractTachyonFileSystem implements TachyonFileSystemCore
       final long fileId = masterClient.create(path.getPath(), options);
       return new TachyonFile(fileId);
     } finally {
+      mContext.getMetadataCache().invalidateListings();
       mContext.releaseMasterClient(masterClient);
     }
   }
@@ -93,6 +94,7 @@ public abstract class AbstractTachyonFileSystem implements TachyonFileSystemCore
       masterClient.delete(file.getFileId(), options.isRecursive());
       LOG.info("Deleted file {} from both Tachyon Storage and under file system", file.getFileId());
     } finally {
+      mContext.getMetadataCache().invalidateAll();
       mContext.releaseMasterClient(masterClient);
     }
   }
@@ -110,6 +112,7 @@ public abstract class AbstractTachyonFileSystem implements TachyonFileSystemCore
       masterClient.free(file.getFileId(), options.isRecursive());
       LOG.info("Removed file {} from Tachyon Storage", file.getFileId());
     } finally {
+      mContext.getMetadataCache().invalidateAll();
       mContext.releaseMasterClient(masterClient);
     }
   }
@@ -118,14 +121,32 @@ public abstract class AbstractTachyonFileSystem implements TachyonFileSystemCore
    * {@inheritDoc}
    *
    * The file info is a snapshot of the file metadata, and the locations, last modified time, and
-   * path are possibly inconsistent.
+   * path are possibly inconsistent. If the metadata cache is enabled, the snapshot may be as old as
+   * the cache lease.
    */
   @Override
   public FileInfo getInfo(TachyonFile file, GetInfoOptions options)
       throws IOException, FileDoesNotExistException, TachyonException {
+    MetadataCache cache = mContext.getMetadataCache();
+    FileInfo cached = cache.getFileInfo(file.getFileId());
+    if (cached != null) {
+      return cached;
+    }
+    FileSystemMasterClient masterClient = mContext.acquireMasterClient();
+    try {
+      FileInfo fileInfo = masterClient.getFileInfo(file.getFileId());
+      cache.putFileInfo(fileInfo);
+      return fileInfo;
+    } finally {
+      mContext.releaseMasterClient(masterClient);
+    }
+  }
+
+  @Override
+  public List<FileInfo> listInMemoryFiles(long afterFileId) throws IOException, TachyonException {
     FileSystemMasterClient masterClient = mContext.acquireMasterClient();
     try {
-      return masterClient.getFileInfo(file.getFileId());
+      return masterClient.getInMemoryFileInfoList(afterFileId);
     } finally {
       mContext.releaseMasterClient(masterClient);
     }
@@ -135,14 +156,22 @@ public abstract class AbstractTachyonFileSystem implements TachyonFileSystemCore
    * {@inheritDoc}
    *
    * The file infos are snapshots of the file metadata, and the locations, last modified time, and
-   * path are possibly inconsistent.
+   * path are possibly inconsistent. If the metadata cache is enabled, the snapshots may be as old
+   * as the cache lease.
    */
   @Override
   public List<FileInfo> listStatus(TachyonFile file, ListStatusOptions options)
       throws IOException, FileDoesNotExistException, TachyonException {
+    MetadataCache cache = mContext.getMetadataCache();
+    List<FileInfo> cached = cache.getListing(file.getFileId());
+    if (cached != null) {
+      return cached;
+    }
     FileSystemMasterClient masterClient = mContext.acquireMasterClient();
     try {
-      return masterClient.getFileInfoList(file.getFileId());
+      List<FileInfo> listing = masterClient.getFileInfoList(file.getFileId());
+      cache.putListing(file.getFileId(), listing);
+      return listing;
     } finally {
       mContext.releaseMasterClient(masterClient);
     }
@@ -157,6 +186,21 @@ public abstract class AbstractTachyonFileSystem implements TachyonFileSystemCore
       LOG.info("Loaded file {}{}", path.getPath(), options.isRecursive() ? " recursively" : "");
       return new TachyonFile(fileId);
     } finally {
+      mContext.getMetadataCache().invalidateAll();
+      mContext.releaseMasterClient(masterClient);
+    }
+  }
+
+  @Override
+  public long loadMetadataTree(TachyonURI path, LoadMetadataOptions options)
+      throws IOException, FileDoesNotExistException, TachyonException {
+    FileSystemMasterClient masterClient = mContext.acquireMasterClient();
+    try {
+      long loaded = masterClient.loadMetadataTree(path.getPath(), options.isRecursive());
+      LOG.info("Loaded {} paths under {}", loaded, path.getPath());
+      return loaded;
+    } finally {
+      mContext.getMetadataCache().invalidateAll();
       mContext.releaseMasterClient(masterClient);
     }
   }
@@ -172,6 +216,7 @@ public abstract class AbstractTachyonFileSystem implements TachyonFileSystemCore
       }
       return result;
     } finally {
+      mContext.getMetadataCache().invalidateListings();
       mContext.releaseMasterClient(masterClient);
     }
   }
@@ -183,6 +228,7 @@ public abstract class AbstractTachyonFileSystem implements TachyonFileSystemCore
     try {
       return masterClient.mount(tachyonPath, ufsPath);
     } finally {
+      mContext.getMetadataCache().invalidateAll();
       mContext.releaseMasterClient(masterClient);
     }
   }
@@ -210,12 +256,18 @@ public abstract class AbstractTachyonFileSystem implements TachyonFileSystemCore
   @Override
   public TachyonFile openIfExists(TachyonURI path, OpenOptions openOptions)
       throws IOException, TachyonException {
+    MetadataCache cache = mContext.getMetadataCache();
+    Long cachedFileId = cache.getFileId(path.getPath());
+    if (cachedFileId != null) {
+      return new TachyonFile(cachedFileId);
+    }
     FileSystemMasterClient masterClient = mContext.acquireMasterClient();
     try {
       long fileId = masterClient.getFileId(path.getPath());
       if (fileId == -1) {
         return null;
       }
+      cache.putFileId(path.getPath(), fileId);
       return new TachyonFile(fileId);
     } finally {
       mContext.releaseMasterClient(masterClient);
@@ -233,6 +285,7 @@ public abstract class AbstractTachyonFileSystem implements TachyonFileSystemCore
       }
       return result;
     } finally {
+      mContext.getMetadataCache().invalidateAll();
       mContext.releaseMasterClient(masterClient);
     }
   }
@@ -244,6 +297,7 @@ public abstract class AbstractTachyonFileSystem implements TachyonFileSystemCore
     try {
       masterClient.setState(file.getFileId(), options);
     } finally {
+      mContext.getMetadataCache().invalidateAll();
       mContext.releaseMasterClient(masterClient);
     }
   }
@@ -255,6 +309,7 @@ public abstract class AbstractTachyonFileSystem implements TachyonFileSystemCore
     try {
       return masterClient.unmount(tachyonPath);
     } finally {
+      mContext.getMetadataCache().invalidateAll();
       mContext.releaseMasterClient(masterClient);
     }
   }
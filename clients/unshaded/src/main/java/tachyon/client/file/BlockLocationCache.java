@@ -0,0 +1,124 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.file;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import tachyon.Constants;
+import tachyon.conf.TachyonConf;
+import tachyon.thrift.BlockInfo;
+import tachyon.thrift.FileBlockInfo;
+
+/**
+ * Caches the locations of the blocks of the files read by the client, so that opening each block
+ * of a file does not take a call to the master. The locations of all the blocks of a file are
+ * fetched with a single call when the first block of the file is opened, and are reused until they
+ * expire, or a location fails to serve a block. This class is thread safe.
+ */
+public final class BlockLocationCache {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private final FileSystemContext mContext;
+  private final boolean mEnabled;
+  /** Map from file id to the block infos of the file, keyed by block id */
+  private final Cache<Long, Map<Long, BlockInfo>> mFileBlocks;
+
+  /**
+   * Creates a new instance of {@link BlockLocationCache}.
+   *
+   * @param context the file system context to fetch the block locations with
+   * @param conf the configuration of the client
+   */
+  BlockLocationCache(FileSystemContext context, TachyonConf conf) {
+    mContext = context;
+    long ttlMs = conf.getLong(Constants.USER_BLOCK_LOCATION_CACHE_TTL_MS);
+    mEnabled = ttlMs > 0;
+    mFileBlocks = CacheBuilder.newBuilder()
+        .maximumSize(conf.getInt(Constants.USER_BLOCK_LOCATION_CACHE_MAX_FILES))
+        .expireAfterWrite(Math.max(ttlMs, 1), TimeUnit.MILLISECONDS).build();
+  }
+
+  /**
+   * Gets the info of a block of a file, fetching the infos of all the blocks of the file from the
+   * master if they are not cached.
+   *
+   * @param fileId the id of the file
+   * @param blockId the id of the block
+   * @return the info of the block, or null if it is not known, in which case the caller should ask
+   *         the master for the block itself
+   */
+  public BlockInfo getBlockInfo(final long fileId, long blockId) {
+    if (!mEnabled) {
+      return null;
+    }
+    Map<Long, BlockInfo> blocks;
+    try {
+      blocks = mFileBlocks.get(fileId, new Callable<Map<Long, BlockInfo>>() {
+        @Override
+        public Map<Long, BlockInfo> call() throws Exception {
+          return fetchBlockInfos(fileId);
+        }
+      });
+    } catch (ExecutionException e) {
+      LOG.warn("Failed to get the block locations of file {}: {}", fileId,
+          e.getCause().getMessage());
+      return null;
+    }
+    // The master leaves out the blocks it does not know about, such as lost blocks.
+    return blocks.get(blockId);
+  }
+
+  /**
+   * Drops the cached block locations of a file, for example because one of them failed to serve a
+   * block.
+   *
+   * @param fileId the id of the file
+   */
+  public void invalidate(long fileId) {
+    mFileBlocks.invalidate(fileId);
+  }
+
+  /**
+   * Drops all the cached block locations.
+   */
+  public void invalidateAll() {
+    mFileBlocks.invalidateAll();
+  }
+
+  private Map<Long, BlockInfo> fetchBlockInfos(long fileId) throws Exception {
+    FileSystemMasterClient masterClient = mContext.acquireMasterClient();
+    try {
+      Map<Long, BlockInfo> blocks = new HashMap<Long, BlockInfo>();
+      for (FileBlockInfo fileBlockInfo : masterClient.getFileBlockInfoList(fileId)) {
+        blocks.put(fileBlockInfo.getBlockInfo().getBlockId(), fileBlockInfo.getBlockInfo());
+      }
+      return Collections.unmodifiableMap(blocks);
+    } finally {
+      mContext.releaseMasterClient(masterClient);
+    }
+  }
+}
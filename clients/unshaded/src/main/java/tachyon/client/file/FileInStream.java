@@ -26,11 +26,14 @@ import com.google.common.base.Preconditions;
 import tachyon.Constants;
 import tachyon.annotation.PublicApi;
 import tachyon.client.BoundedStream;
+import tachyon.client.ClientContext;
 import tachyon.client.Seekable;
 import tachyon.client.TachyonStorageType;
 import tachyon.client.block.BlockInStream;
 import tachyon.client.block.BufferedBlockOutStream;
 import tachyon.client.block.LocalBlockInStream;
+import tachyon.client.block.RemoteBlockInStream;
+import tachyon.client.block.TachyonBlockStore;
 import tachyon.client.block.UnderStoreBlockInStream;
 import tachyon.client.file.options.InStreamOptions;
 import tachyon.client.file.policy.FileWriteLocationPolicy;
@@ -38,6 +41,7 @@ import tachyon.exception.ExceptionMessage;
 import tachyon.exception.PreconditionMessage;
 import tachyon.exception.TachyonException;
 import tachyon.master.block.BlockId;
+import tachyon.thrift.BlockInfo;
 import tachyon.thrift.FileInfo;
 import tachyon.worker.NetAddress;
 
@@ -50,6 +54,11 @@ import tachyon.worker.NetAddress;
  * This class wraps the {@link tachyon.client.block.BlockInStream} for each of the blocks in the
  * file and abstracts the switching between streams. The backing streams can read from Tachyon space
  * in the local machine, remote machines, or the under storage system.
+ *
+ * <p>
+ * While a block is read sequentially from a remote worker, the stream of the next block is opened
+ * once {@link Constants#USER_BLOCK_REMOTE_READ_AHEAD_BYTES} or less of the current block is left,
+ * and the next block starts streaming in, so that the reader does not stall at block boundaries.
  */
 @PublicApi
 public class FileInStream extends InputStream implements BoundedStream, Seekable {
@@ -68,6 +77,8 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
   private final FileSystemContext mContext;
   /** File information */
   private final FileInfo mFileInfo;
+  /** The number of bytes to read ahead of a sequential reader of remote blocks, 0 to disable */
+  private final long mReadAheadBytes;
 
   /** If the stream is closed, this can only go from false to true */
   private boolean mClosed;
@@ -77,6 +88,16 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
   private long mPos;
   /** Current {@link BlockInStream} backing this stream */
   private BlockInStream mCurrentBlockInStream;
+  /** Whether {@link #mCurrentBlockInStream} was opened at a cached location of the block */
+  private boolean mCurrentBlockFromCache;
+  /** Whether the current block has been read sequentially from its start */
+  private boolean mSequentialRead;
+  /** The stream of the block after the current one, opened ahead of time, this may be null */
+  private BlockInStream mNextBlockInStream;
+  /** The id of the block opening ahead of time was last tried for, -1 if there is none */
+  private long mNextBlockId = -1;
+  /** Whether {@link #mNextBlockInStream} was opened at a cached location of the block */
+  private boolean mNextBlockFromCache;
   /** Current {@link BufferedBlockOutStream} writing the data into Tachyon, this may be null */
   private BufferedBlockOutStream mCurrentCacheStream;
 
@@ -95,6 +116,8 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
     mShouldCacheCurrentBlock = mTachyonStorageType.isStore();
     mClosed = false;
     mLocationPolicy = options.getLocationPolicy();
+    mReadAheadBytes =
+        ClientContext.getConf().getBytes(Constants.USER_BLOCK_REMOTE_READ_AHEAD_BYTES);
     if (mShouldCacheCurrentBlock) {
       Preconditions.checkNotNull(options.getLocationPolicy(),
           PreconditionMessage.FILE_WRITE_LOCATION_POLICY_UNSPECIFIED);
@@ -109,6 +132,7 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
     if (mCurrentBlockInStream != null) {
       mCurrentBlockInStream.close();
     }
+    closeNextBlockInStream();
     closeCacheStream();
     mClosed = true;
   }
@@ -120,7 +144,13 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
     }
 
     checkAndAdvanceBlockInStream();
-    int data = mCurrentBlockInStream.read();
+    int data;
+    try {
+      data = mCurrentBlockInStream.read();
+    } catch (IOException e) {
+      reopenCurrentBlock(e);
+      data = mCurrentBlockInStream.read();
+    }
     mPos ++;
     if (mShouldCacheCurrentBlock) {
       try {
@@ -131,6 +161,7 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
         mShouldCacheCurrentBlock = false;
       }
     }
+    readAheadNextBlock();
     return data;
   }
 
@@ -158,7 +189,13 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
 
       int bytesToRead = (int) Math.min(bytesLeftToRead, mCurrentBlockInStream.remaining());
 
-      int bytesRead = mCurrentBlockInStream.read(b, currentOffset, bytesToRead);
+      int bytesRead;
+      try {
+        bytesRead = mCurrentBlockInStream.read(b, currentOffset, bytesToRead);
+      } catch (IOException e) {
+        reopenCurrentBlock(e);
+        bytesRead = mCurrentBlockInStream.read(b, currentOffset, bytesToRead);
+      }
       if (bytesRead > 0 && mShouldCacheCurrentBlock) {
         try {
           mCurrentCacheStream.write(b, currentOffset, bytesRead);
@@ -176,6 +213,7 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
       mPos += bytesRead;
       bytesLeftToRead -= bytesRead;
       currentOffset += bytesRead;
+      readAheadNextBlock();
     }
 
     return len - bytesLeftToRead;
@@ -231,6 +269,7 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
     if (mCurrentBlockInStream == null || mCurrentBlockInStream.remaining() == 0) {
       closeCacheStream();
       updateBlockInStream(currentBlockId);
+      mSequentialRead = mPos % mBlockSize == 0;
       if (mShouldCacheCurrentBlock) {
         try {
           long blockSize = getCurrentBlockSize();
@@ -303,6 +342,7 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
     long oldBlockId = getCurrentBlockId();
     mPos = newPos;
     closeCacheStream();
+    mSequentialRead = mPos % mBlockSize == 0;
     long currentBlockId = getCurrentBlockId();
 
     if (oldBlockId != currentBlockId) {
@@ -335,7 +375,7 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
   /**
    * Helper method to {@link #checkAndAdvanceBlockInStream()} and {@link #seekBlockInStream(long)}.
    * The current {@link BlockInStream} will be closed and a new {@link BlockInStream} for the given
-   * blockId will be opened at position 0.
+   * blockId will be opened at position 0, unless it was opened ahead of time already.
    *
    * @param blockId blockId to set the {@link #mCurrentBlockInStream} to read
    * @throws IOException if the next {@link BlockInStream} cannot be obtained
@@ -344,6 +384,16 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
     if (mCurrentBlockInStream != null) {
       mCurrentBlockInStream.close();
     }
+    if (mNextBlockInStream != null && mNextBlockId == blockId) {
+      mCurrentBlockInStream = mNextBlockInStream;
+      mCurrentBlockFromCache = mNextBlockFromCache;
+      mNextBlockInStream = null;
+      mNextBlockId = -1;
+      mShouldCacheCurrentBlock =
+          !(mCurrentBlockInStream instanceof LocalBlockInStream) && mTachyonStorageType.isStore();
+      return;
+    }
+    closeNextBlockInStream();
     try {
       if (mTachyonStorageType.isPromote()) {
         try {
@@ -353,7 +403,7 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
           LOG.warn("Promotion of block {} failed.", blockId);
         }
       }
-      mCurrentBlockInStream = mContext.getTachyonBlockStore().getInStream(blockId);
+      mCurrentBlockInStream = getBlockInStream(blockId);
       mShouldCacheCurrentBlock =
           !(mCurrentBlockInStream instanceof LocalBlockInStream) && mTachyonStorageType.isStore();
     } catch (IOException ioe) {
@@ -370,4 +420,120 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
       mShouldCacheCurrentBlock = mTachyonStorageType.isStore();
     }
   }
+
+  /**
+   * Opens a stream to read a block from Tachyon storage, at the location cached for the block if
+   * there is one. If the cached location cannot serve the block, the locations of the file are
+   * dropped from the cache, and the master is asked for the block.
+   *
+   * @param blockId the id of the block
+   * @return the stream to read the block
+   * @throws IOException if the block is not available in Tachyon storage
+   */
+  private BlockInStream getBlockInStream(long blockId) throws IOException {
+    TachyonBlockStore blockStore = mContext.getTachyonBlockStore();
+    BlockInfo blockInfo =
+        mContext.getBlockLocationCache().getBlockInfo(mFileInfo.getFileId(), blockId);
+    mCurrentBlockFromCache = false;
+    // A block without locations may have been cached since, unless it can be read from the under
+    // storage anyway.
+    if (blockInfo != null && (!blockInfo.getLocations().isEmpty() || mFileInfo.isPersisted)) {
+      try {
+        BlockInStream stream = blockStore.getInStream(blockInfo);
+        mCurrentBlockFromCache = true;
+        return stream;
+      } catch (IOException e) {
+        if (blockInfo.getLocations().isEmpty()) {
+          throw e;
+        }
+        LOG.debug("Failed to read block {} at its cached locations: {}", blockId,
+            e.getMessage());
+        invalidateBlockLocations();
+      }
+    }
+    return blockStore.getInStream(blockId);
+  }
+
+  /**
+   * Opens the stream of the block after the current one ahead of time, and starts streaming the
+   * block in, if the current block is read sequentially from a remote worker and little of it is
+   * left. Failing to do so is not an error; the block is opened again when the reader gets to it.
+   *
+   * @throws IOException if a stream opened ahead of time for another block cannot be closed
+   */
+  private void readAheadNextBlock() throws IOException {
+    if (mReadAheadBytes <= 0 || !mSequentialRead || mTachyonStorageType.isPromote()
+        || !(mCurrentBlockInStream instanceof RemoteBlockInStream)) {
+      return;
+    }
+    long remaining = mCurrentBlockInStream.remaining();
+    if (remaining == 0 || remaining > mReadAheadBytes) {
+      return;
+    }
+    // The current block ends at a block boundary, unless it is the last block.
+    int index = (int) ((mPos + remaining) / mBlockSize);
+    if (index >= mFileInfo.blockIds.size() || mFileInfo.blockIds.get(index) == mNextBlockId) {
+      return;
+    }
+    closeNextBlockInStream();
+    mNextBlockId = mFileInfo.blockIds.get(index);
+    boolean currentBlockFromCache = mCurrentBlockFromCache;
+    try {
+      mNextBlockInStream = getBlockInStream(mNextBlockId);
+      mNextBlockFromCache = mCurrentBlockFromCache;
+      if (mNextBlockInStream instanceof RemoteBlockInStream) {
+        ((RemoteBlockInStream) mNextBlockInStream).readAhead(mReadAheadBytes);
+      }
+    } catch (IOException e) {
+      LOG.debug("Failed to read block {} ahead of time: {}", mNextBlockId, e.getMessage());
+    } finally {
+      mCurrentBlockFromCache = currentBlockFromCache;
+    }
+  }
+
+  /**
+   * Closes the stream of the block opened ahead of time, if any.
+   *
+   * @throws IOException if the stream cannot be closed
+   */
+  private void closeNextBlockInStream() throws IOException {
+    mNextBlockId = -1;
+    if (mNextBlockInStream != null) {
+      BlockInStream stream = mNextBlockInStream;
+      mNextBlockInStream = null;
+      stream.close();
+    }
+  }
+
+  /**
+   * Handles a failure to read from {@link #mCurrentBlockInStream}. A block opened at a cached
+   * location may have moved since, so the cached locations of the file are dropped, and the block
+   * is opened again at the current position, at its up to date location. Otherwise the failure is
+   * rethrown.
+   *
+   * @param e the failure
+   * @throws IOException the failure, if the block was not opened at a cached location, or if the
+   *         block cannot be opened again
+   */
+  private void reopenCurrentBlock(IOException e) throws IOException {
+    if (!mCurrentBlockFromCache) {
+      throw e;
+    }
+    long blockId = getCurrentBlockId();
+    LOG.debug("Failed to read block {} at its cached location, opening it again: {}", blockId,
+        e.getMessage());
+    invalidateBlockLocations();
+    // The block is cached into Tachyon from where the stream started, whatever the new location.
+    boolean shouldCacheCurrentBlock = mShouldCacheCurrentBlock;
+    updateBlockInStream(blockId);
+    mShouldCacheCurrentBlock = shouldCacheCurrentBlock;
+    mCurrentBlockInStream.seek(mPos % mBlockSize);
+  }
+
+  /**
+   * Drops the cached block locations of the file, after reading from one of them failed.
+   */
+  private void invalidateBlockLocations() {
+    mContext.getBlockLocationCache().invalidate(mFileInfo.getFileId());
+  }
 }
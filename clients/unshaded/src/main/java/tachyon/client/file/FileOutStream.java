@@ -174,6 +174,7 @@ public class FileOutStream extends OutStreamBase {
       } catch (TachyonException e) {
         throw new IOException(e);
       } finally {
+        mContext.getMetadataCache().invalidateFile(mFileId);
         mContext.releaseMasterClient(masterClient);
       }
     }
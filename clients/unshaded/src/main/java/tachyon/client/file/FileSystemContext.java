@@ -28,6 +28,8 @@ public enum FileSystemContext {
 
   private FileSystemMasterClientPool mFileSystemMasterClientPool;
   private final TachyonBlockStore mTachyonBlockStore;
+  private BlockLocationCache mBlockLocationCache;
+  private MetadataCache mMetadataCache;
 
   /**
    * Creates a new file stream context.
@@ -36,6 +38,8 @@ public enum FileSystemContext {
     mFileSystemMasterClientPool =
         new FileSystemMasterClientPool(ClientContext.getMasterAddress());
     mTachyonBlockStore = TachyonBlockStore.get();
+    mBlockLocationCache = new BlockLocationCache(this, ClientContext.getConf());
+    mMetadataCache = new MetadataCache(ClientContext.getConf());
   }
 
   /**
@@ -68,6 +72,20 @@ public enum FileSystemContext {
     return mTachyonBlockStore;
   }
 
+  /**
+   * @return the cache of the block locations of the files read by this client
+   */
+  public synchronized BlockLocationCache getBlockLocationCache() {
+    return mBlockLocationCache;
+  }
+
+  /**
+   * @return the cache of the file system metadata fetched by this client
+   */
+  public synchronized MetadataCache getMetadataCache() {
+    return mMetadataCache;
+  }
+
   /**
    * Re-initializes the Block Store context. This method should only be used in
    * {@link ClientContext}.
@@ -76,5 +94,7 @@ public enum FileSystemContext {
     mFileSystemMasterClientPool.close();
     mFileSystemMasterClientPool =
         new FileSystemMasterClientPool(ClientContext.getMasterAddress());
+    mBlockLocationCache = new BlockLocationCache(this, ClientContext.getConf());
+    mMetadataCache = new MetadataCache(ClientContext.getConf());
   }
 }
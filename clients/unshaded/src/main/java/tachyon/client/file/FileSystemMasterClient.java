@@ -124,6 +124,23 @@ public final class FileSystemMasterClient extends MasterClientBase {
     });
   }
 
+  /**
+   * @param afterFileId the id of the file to start after, -1 to start from the first file
+   * @return the file information of the next files which are fully in memory, in the order of
+   *         their ids; an empty list if there are no more
+   * @throws IOException if an I/O error occurs
+   * @throws TachyonException if a Tachyon error occurs
+   */
+  public synchronized List<FileInfo> getInMemoryFileInfoList(final long afterFileId)
+      throws IOException, TachyonException {
+    return retryRPC(new RpcCallableThrowsTachyonTException<List<FileInfo>>() {
+      @Override
+      public List<FileInfo> call() throws TachyonTException, TException {
+        return mClient.getInMemoryFileInfoList(afterFileId);
+      }
+    });
+  }
+
   /**
    * @param fileId the file id
    * @param fileBlockIndex the file block index
@@ -341,6 +358,25 @@ public final class FileSystemMasterClient extends MasterClientBase {
     });
   }
 
+  /**
+   * Loads a directory tree from the under file system.
+   *
+   * @param path the Tachyon path of the root of the tree
+   * @param recursive whether parent directories should be loaded if not present yet
+   * @return the number of paths loaded
+   * @throws TachyonException if a tachyon error occurs
+   * @throws IOException if an I/O error occurs
+   */
+  public synchronized long loadMetadataTree(final String path, final boolean recursive)
+      throws IOException, TachyonException {
+    return retryRPC(new RpcCallableThrowsTachyonTException<Long>() {
+      @Override
+      public Long call() throws TachyonTException, TException {
+        return mClient.loadMetadataTree(path, recursive);
+      }
+    });
+  }
+
   /**
    * Mounts the given UFS path under the given Tachyon path.
    *
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.file;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import tachyon.Constants;
+import tachyon.conf.TachyonConf;
+import tachyon.thrift.FileInfo;
+
+/**
+ * An optional cache of the file system metadata fetched by the client: the ids of paths, the
+ * {@link FileInfo} of files, and the listings of directories. Entries are leased for a short time,
+ * after which they are fetched from the master again, so changes made by other clients become
+ * visible within a lease. Changes made through this client invalidate the entries they affect
+ * right away.
+ *
+ * A listing also caches the info and id of each listed file, so that getting the info of every
+ * file of a directory after listing it, as "ls -l" does, takes a single call to the master. When
+ * the cache is disabled, nothing is cached and every lookup misses. This class is thread safe.
+ */
+public final class MetadataCache {
+  private final boolean mEnabled;
+  /** Map from path to file id */
+  private final Cache<String, Long> mFileIds;
+  /** Map from file id to file info */
+  private final Cache<Long, FileInfo> mFileInfos;
+  /** Map from directory id to the infos of the files in the directory */
+  private final Cache<Long, List<FileInfo>> mListings;
+
+  /**
+   * Creates a new instance of {@link MetadataCache}.
+   *
+   * @param conf the configuration of the client
+   */
+  public MetadataCache(TachyonConf conf) {
+    mEnabled = conf.getBoolean(Constants.USER_METADATA_CACHE_ENABLED);
+    long leaseMs = conf.getLong(Constants.USER_METADATA_CACHE_LEASE_MS);
+    int maxSize = conf.getInt(Constants.USER_METADATA_CACHE_MAX_SIZE);
+    mFileIds = CacheBuilder.newBuilder().maximumSize(maxSize)
+        .expireAfterWrite(leaseMs, TimeUnit.MILLISECONDS).build();
+    mFileInfos = CacheBuilder.newBuilder().maximumSize(maxSize)
+        .expireAfterWrite(leaseMs, TimeUnit.MILLISECONDS).build();
+    // A listing holds many infos, so fewer of them are kept.
+    mListings = CacheBuilder.newBuilder().maximumSize(Math.max(maxSize / 100, 1))
+        .expireAfterWrite(leaseMs, TimeUnit.MILLISECONDS).build();
+  }
+
+  /**
+   * @param path the path of a file
+   * @return the cached id of the file, or null if it is not cached
+   */
+  public Long getFileId(String path) {
+    return mFileIds.getIfPresent(path);
+  }
+
+  /**
+   * Caches the id of a file.
+   *
+   * @param path the path of the file
+   * @param fileId the id of the file
+   */
+  public void putFileId(String path, long fileId) {
+    if (mEnabled) {
+      mFileIds.put(path, fileId);
+    }
+  }
+
+  /**
+   * @param fileId the id of a file
+   * @return a copy of the cached info of the file, or null if it is not cached
+   */
+  public FileInfo getFileInfo(long fileId) {
+    FileInfo fileInfo = mFileInfos.getIfPresent(fileId);
+    return fileInfo == null ? null : new FileInfo(fileInfo);
+  }
+
+  /**
+   * Caches the info of a file, and its id.
+   *
+   * @param fileInfo the info of the file
+   */
+  public void putFileInfo(FileInfo fileInfo) {
+    if (mEnabled) {
+      mFileInfos.put(fileInfo.getFileId(), new FileInfo(fileInfo));
+      mFileIds.put(fileInfo.getPath(), fileInfo.getFileId());
+    }
+  }
+
+  /**
+   * @param fileId the id of a directory
+   * @return a copy of the cached infos of the files in the directory, or null if the listing is
+   *         not cached
+   */
+  public List<FileInfo> getListing(long fileId) {
+    List<FileInfo> listing = mListings.getIfPresent(fileId);
+    return listing == null ? null : copy(listing);
+  }
+
+  /**
+   * Caches the listing of a directory, as well as the info and id of each file in it.
+   *
+   * @param fileId the id of the directory
+   * @param listing the infos of the files in the directory
+   */
+  public void putListing(long fileId, List<FileInfo> listing) {
+    if (mEnabled) {
+      List<FileInfo> copy = copy(listing);
+      for (FileInfo fileInfo : copy) {
+        mFileInfos.put(fileInfo.getFileId(), fileInfo);
+        mFileIds.put(fileInfo.getPath(), fileInfo.getFileId());
+      }
+      mListings.put(fileId, copy);
+    }
+  }
+
+  /**
+   * Invalidates the cached info of a file whose metadata changed, along with the listings, one of
+   * which may list the file.
+   *
+   * @param fileId the id of the file
+   */
+  public void invalidateFile(long fileId) {
+    mFileInfos.invalidate(fileId);
+    mListings.invalidateAll();
+  }
+
+  /**
+   * Invalidates the cached listings, after a file was added to a directory.
+   */
+  public void invalidateListings() {
+    mListings.invalidateAll();
+  }
+
+  /**
+   * Invalidates everything, after a change which may affect the paths of many files, such as a
+   * rename or a delete.
+   */
+  public void invalidateAll() {
+    mFileIds.invalidateAll();
+    mFileInfos.invalidateAll();
+    mListings.invalidateAll();
+  }
+
+  private static List<FileInfo> copy(List<FileInfo> fileInfos) {
+    List<FileInfo> copy = new ArrayList<FileInfo>(fileInfos.size());
+    for (FileInfo fileInfo : fileInfos) {
+      copy.add(new FileInfo(fileInfo));
+    }
+    return copy;
+  }
+}
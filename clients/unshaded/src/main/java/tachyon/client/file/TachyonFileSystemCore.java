@@ -97,6 +97,18 @@ interface TachyonFileSystemCore {
   FileInfo getInfo(TachyonFile file, GetInfoOptions options) throws IOException,
       FileDoesNotExistException, TachyonException;
 
+  /**
+   * Lists the files which are fully in memory a page at a time, in the order of their file ids.
+   * The next page starts after the id of the last file of the previous page.
+   *
+   * @param afterFileId the id of the file to start after, -1 to start from the first file
+   * @return the {@link FileInfo}s of the next files which are fully in memory, an empty list if
+   *         there are no more
+   * @throws IOException if a non-Tachyon exception occurs
+   * @throws TachyonException if an unexpected tachyon exception is thrown
+   */
+  List<FileInfo> listInMemoryFiles(long afterFileId) throws IOException, TachyonException;
+
   /**
    * If the file is a directory, returns the {@link FileInfo} of all the direct entries in it.
    * Otherwise returns the {@link FileInfo} for the file.
@@ -124,6 +136,20 @@ interface TachyonFileSystemCore {
   TachyonFile loadMetadata(TachyonURI path, LoadMetadataOptions options)
       throws IOException, FileDoesNotExistException, TachyonException;
 
+  /**
+   * Loads metadata about a directory tree in UFS to Tachyon. The tree is listed by the master, and
+   * paths which already exist in Tachyon are skipped. No data will be transferred.
+   *
+   * @param path the path of the root of the tree to load metadata from UFS for
+   * @param options method options
+   * @return the number of paths loaded
+   * @throws IOException if a non-Tachyon exception occurs
+   * @throws FileDoesNotExistException if the given path does not exist in UFS
+   * @throws TachyonException if an unexpected tachyon exception is thrown
+   */
+  long loadMetadataTree(TachyonURI path, LoadMetadataOptions options)
+      throws IOException, FileDoesNotExistException, TachyonException;
+
   /**
    * Creates a directory.
    *
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.netty;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.SettableFuture;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+
+import tachyon.Constants;
+import tachyon.exception.ExceptionMessage;
+import tachyon.network.protocol.RPCErrorResponse;
+import tachyon.network.protocol.RPCMessage;
+import tachyon.network.protocol.RPCResponse;
+
+/**
+ * Handles the messages received by a client channel which is shared between many outstanding
+ * requests. Each response is handed to the listener registered for its request id; a request may
+ * be answered by a sequence of responses, such as the chunks of a streamed block read. Responses
+ * which are not tied to a request, and the channel going inactive, fail every request still waiting
+ * on the channel. Each channel needs its own instance of this handler.
+ */
+final class MultiplexedClientHandler extends SimpleChannelInboundHandler<RPCMessage> {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  /**
+   * Receives the responses to a request. The methods are called from the channel's event loop.
+   */
+  interface ResponseListener {
+    /**
+     * Handles a response to the request.
+     *
+     * @param handler the handler of the channel the response was received on
+     * @param response the response
+     * @return true if this was the last response to the request, false if more are expected
+     */
+    boolean onResponse(MultiplexedClientHandler handler, RPCResponse response);
+
+    /**
+     * Handles the failure of the request. No more responses follow.
+     *
+     * @param cause the cause of the failure
+     */
+    void onFailure(Throwable cause);
+  }
+
+  /** Map from request id to the listener waiting for the responses of that request. */
+  private final Map<Long, ResponseListener> mPendingRequests =
+      new ConcurrentHashMap<Long, ResponseListener>();
+  /** The number of requests which asked to stop reading from the channel. */
+  private int mPausedRequests = 0;
+  private volatile Channel mChannel;
+
+  /**
+   * Registers a request, answered by a single response, which is about to be sent on the channel.
+   *
+   * @param requestId the id of the request
+   * @return the future which will hold the response for the request
+   */
+  SettableFuture<RPCResponse> register(long requestId) {
+    final SettableFuture<RPCResponse> future = SettableFuture.create();
+    register(requestId, new ResponseListener() {
+      @Override
+      public boolean onResponse(MultiplexedClientHandler handler, RPCResponse response) {
+        future.set(response);
+        return true;
+      }
+
+      @Override
+      public void onFailure(Throwable cause) {
+        future.setException(cause);
+      }
+    });
+    return future;
+  }
+
+  /**
+   * Registers a request which is about to be sent on the channel.
+   *
+   * @param requestId the id of the request
+   * @param listener the listener to hand the responses to the request to
+   */
+  void register(long requestId, ResponseListener listener) {
+    Preconditions.checkArgument(requestId != RPCMessage.UNKNOWN_REQUEST_ID);
+    Preconditions.checkState(mPendingRequests.put(requestId, listener) == null,
+        "Request id %s is already in flight", requestId);
+  }
+
+  /**
+   * Fails a request, unless it has already completed.
+   *
+   * @param requestId the id of the request
+   * @param cause the cause of the failure
+   */
+  void fail(long requestId, Throwable cause) {
+    ResponseListener listener = mPendingRequests.remove(requestId);
+    if (listener != null) {
+      listener.onFailure(cause);
+    }
+  }
+
+  /**
+   * Stops reading from the channel until {@link #resumeReading()} is called as many times as this
+   * method. Used by requests which cannot take more responses for now; this holds back the
+   * responses of every request on the channel, so it is only meant for channels which are not
+   * shared, see {@link NettyChannelManager#sendExclusive}.
+   */
+  synchronized void pauseReading() {
+    mPausedRequests++;
+    if (mPausedRequests == 1) {
+      setAutoRead(false);
+    }
+  }
+
+  /**
+   * Undoes a call to {@link #pauseReading()}.
+   */
+  synchronized void resumeReading() {
+    mPausedRequests--;
+    if (mPausedRequests == 0) {
+      setAutoRead(true);
+    }
+  }
+
+  /**
+   * Stops waiting for the response of a request, for example because the caller timed out. A
+   * response which arrives later for the request is discarded.
+   *
+   * @param requestId the id of the request
+   */
+  void unregister(long requestId) {
+    mPendingRequests.remove(requestId);
+  }
+
+  @Override
+  public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+    mChannel = ctx.channel();
+    super.handlerAdded(ctx);
+  }
+
+  @Override
+  public void channelRead0(final ChannelHandlerContext ctx, final RPCMessage msg)
+      throws IOException {
+    if (!(msg instanceof RPCResponse)) {
+      // The client should only receive RPCResponse messages.
+      throw new IllegalArgumentException(ExceptionMessage.NO_RPC_HANDLER.getMessage(msg.getType()));
+    }
+    RPCResponse response = (RPCResponse) msg;
+    long requestId = response.getRequestId();
+    if (requestId == RPCMessage.UNKNOWN_REQUEST_ID) {
+      // Untagged responses, such as a decode error, are fatal for the whole channel.
+      IOException e = new IOException(response instanceof RPCErrorResponse
+          ? ((RPCErrorResponse) response).getStatus().getMessage() : response.toString());
+      failAll(e);
+      ctx.close();
+      return;
+    }
+    ResponseListener listener = mPendingRequests.get(requestId);
+    if (listener == null) {
+      LOG.warn("Discarding response for request {} which is no longer waited on: {}", requestId,
+          response);
+      if (response.getPayloadDataBuffer() != null) {
+        response.getPayloadDataBuffer().release();
+      }
+      return;
+    }
+    if (listener.onResponse(this, response)) {
+      mPendingRequests.remove(requestId);
+    }
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    failAll(new ClosedChannelException());
+    super.channelInactive(ctx);
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+    LOG.warn("Exception thrown while processing request", cause);
+    failAll(cause);
+    ctx.close();
+  }
+
+  private void failAll(Throwable cause) {
+    for (Long requestId : mPendingRequests.keySet()) {
+      fail(requestId, cause);
+    }
+  }
+
+  private void setAutoRead(boolean autoRead) {
+    Channel channel = mChannel;
+    if (channel != null) {
+      channel.config().setAutoRead(autoRead);
+    }
+  }
+}
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.netty;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeoutException;
+
+import com.google.common.base.Preconditions;
+
+import tachyon.client.RemoteBlockReader;
+import tachyon.exception.ExceptionMessage;
+import tachyon.network.protocol.RPCBlockReadRequest;
+import tachyon.network.protocol.RPCBlockReadResponse;
+import tachyon.network.protocol.RPCErrorResponse;
+import tachyon.network.protocol.RPCMessage;
+import tachyon.network.protocol.RPCResponse;
+
+/**
+ * The chunks of a streamed remote block read, received over a channel of a
+ * {@link NettyChannelManager} which no other request uses while the read is in flight. Chunks are
+ * queued as they arrive; once {@link #MAX_BUFFERED_CHUNKS} chunks are waiting to be read, the
+ * stream stops reading from the channel until the reader catches up, which in turn makes the data
+ * server hold back the rest of the range. Since the channel is not shared, a slow or abandoned
+ * stream never stalls the other requests to the same data server. This class is thread
+ * safe, but a stream is meant to be read by one thread.
+ */
+final class NettyBlockChunkStream implements RemoteBlockReader.ChunkStream,
+    MultiplexedClientHandler.ResponseListener {
+  /** The number of received chunks after which reading from the channel is paused. */
+  static final int MAX_BUFFERED_CHUNKS = 4;
+  /**
+   * The number of chunks still to come above which closing the stream cancels the request, rather
+   * than receiving and discarding the rest of the range.
+   */
+  static final int MAX_DISCARDED_CHUNKS = MAX_BUFFERED_CHUNKS;
+
+  private final NettyChannelManager mChannelManager;
+  private final InetSocketAddress mAddress;
+  private final RPCBlockReadRequest mRequest;
+  private final long mTimeoutMs;
+
+  /** The chunks which were received but not read yet. */
+  private final Queue<RPCBlockReadResponse> mChunks = new ArrayDeque<RPCBlockReadResponse>();
+  /** The chunk which was read last, released on the next read. */
+  private RPCBlockReadResponse mCurrentChunk = null;
+  /** The handler of the channel while reading from it is paused by this stream, otherwise null. */
+  private MultiplexedClientHandler mPausedHandler = null;
+  private long mReceivedBytes = 0;
+  private long mReadBytes = 0;
+  private Throwable mFailure = null;
+  private int mAttempts = 0;
+  private boolean mClosed = false;
+
+  /**
+   * Creates a new {@link NettyBlockChunkStream}. The request is not sent until {@link #start()} is
+   * called.
+   *
+   * @param channelManager the channel manager to send the request with
+   * @param address the address of the data server
+   * @param request the block read request, which must have a positive length
+   * @param timeoutMs the maximum number of milliseconds to wait for each chunk
+   */
+  NettyBlockChunkStream(NettyChannelManager channelManager, InetSocketAddress address,
+      RPCBlockReadRequest request, long timeoutMs) {
+    Preconditions.checkArgument(request.getLength() > 0,
+        "The length of a streamed read must be positive: %s", request.getLength());
+    mChannelManager = channelManager;
+    mAddress = address;
+    mRequest = request;
+    mTimeoutMs = timeoutMs;
+  }
+
+  /**
+   * Sends the request.
+   *
+   * @throws IOException if no channel to the data server could be opened
+   */
+  synchronized void start() throws IOException {
+    mFailure = null;
+    mChannelManager.sendExclusive(mAddress, mRequest, this);
+  }
+
+  @Override
+  public synchronized ByteBuffer next() throws IOException {
+    Preconditions.checkState(!mClosed, "The chunk stream is closed");
+    releaseCurrentChunk();
+    if (mReadBytes == mRequest.getLength()) {
+      return null;
+    }
+    long deadline = System.currentTimeMillis() + mTimeoutMs;
+    while (mChunks.isEmpty()) {
+      if (mFailure != null) {
+        if (mReceivedBytes == 0 && mChannelManager.isRetryable(mFailure, mAttempts)) {
+          // The server closed the channel before it sent anything, try again on another one.
+          mAttempts++;
+          start();
+          deadline = System.currentTimeMillis() + mTimeoutMs;
+          continue;
+        }
+        throw mFailure instanceof IOException ? (IOException) mFailure
+            : new IOException(mFailure);
+      }
+      long waitMs = deadline - System.currentTimeMillis();
+      if (waitMs <= 0) {
+        // Give up on the request; its channel is closed, since the rest of the range may follow.
+        mChannelManager.cancel(mAddress, mRequest.getRequestId());
+        throw new IOException(new TimeoutException("No chunk of " + mRequest + " received in "
+            + mTimeoutMs + "ms"));
+      }
+      try {
+        wait(waitMs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException(e);
+      }
+    }
+    mCurrentChunk = mChunks.poll();
+    mReadBytes += mCurrentChunk.getLength();
+    if (mChunks.size() < MAX_BUFFERED_CHUNKS) {
+      resumeReading();
+    }
+    return mCurrentChunk.getPayloadDataBuffer().getReadOnlyByteBuffer();
+  }
+
+  @Override
+  public synchronized void close() {
+    if (mClosed) {
+      return;
+    }
+    mClosed = true;
+    releaseCurrentChunk();
+    while (!mChunks.isEmpty()) {
+      release(mChunks.poll());
+    }
+    resumeReading();
+    long outstandingBytes = mRequest.getLength() - mReceivedBytes;
+    if (mFailure == null
+        && outstandingBytes > MAX_DISCARDED_CHUNKS * mRequest.getChunkLength()) {
+      // Most of the range is still to come, so reopening a channel is cheaper than receiving it.
+      mChannelManager.cancel(mAddress, mRequest.getRequestId());
+    }
+    // Otherwise the rest of the range is discarded as it arrives, which also unregisters this
+    // stream from the channel once the last chunk is in, and keeps the channel for reuse.
+  }
+
+  @Override
+  public synchronized boolean onResponse(MultiplexedClientHandler handler,
+      RPCResponse response) {
+    IOException error = checkChunk(response);
+    if (mClosed) {
+      // Keep discarding chunks until the rest of the range is in.
+      release(response);
+      if (error != null) {
+        return true;
+      }
+      mReceivedBytes += ((RPCBlockReadResponse) response).getLength();
+      return mReceivedBytes == mRequest.getLength();
+    }
+    if (error != null) {
+      release(response);
+      mFailure = error;
+      notifyAll();
+      return true;
+    }
+    RPCBlockReadResponse chunk = (RPCBlockReadResponse) response;
+    mChunks.add(chunk);
+    mReceivedBytes += chunk.getLength();
+    boolean last = mReceivedBytes == mRequest.getLength();
+    if (!last && mChunks.size() >= MAX_BUFFERED_CHUNKS && mPausedHandler == null) {
+      handler.pauseReading();
+      mPausedHandler = handler;
+    }
+    notifyAll();
+    return last;
+  }
+
+  @Override
+  public synchronized void onFailure(Throwable cause) {
+    mFailure = cause;
+    resumeReading();
+    notifyAll();
+  }
+
+  /**
+   * Checks that a response is the next chunk of the range.
+   *
+   * @param response the response
+   * @return the error to fail the stream with, or null if the response is the next chunk
+   */
+  private IOException checkChunk(RPCResponse response) {
+    switch (response.getType()) {
+      case RPC_BLOCK_READ_RESPONSE:
+        RPCBlockReadResponse chunk = (RPCBlockReadResponse) response;
+        if (chunk.getStatus() != RPCResponse.Status.SUCCESS) {
+          return new IOException(chunk.getStatus().getMessage() + " response: " + chunk);
+        }
+        long expectedOffset = mRequest.getOffset() + mReceivedBytes;
+        if (chunk.getOffset() != expectedOffset || chunk.getLength() <= 0
+            || mReceivedBytes + chunk.getLength() > mRequest.getLength()
+            || chunk.getPayloadDataBuffer() == null) {
+          return new IOException("Unexpected chunk " + chunk + " at offset " + expectedOffset
+              + " of " + mRequest);
+        }
+        return null;
+      case RPC_ERROR_RESPONSE:
+        return new IOException(((RPCErrorResponse) response).getStatus().getMessage());
+      default:
+        return new IOException(ExceptionMessage.UNEXPECTED_RPC_RESPONSE
+            .getMessage(response.getType(), RPCMessage.Type.RPC_BLOCK_READ_RESPONSE));
+    }
+  }
+
+  private void resumeReading() {
+    if (mPausedHandler != null) {
+      mPausedHandler.resumeReading();
+      mPausedHandler = null;
+    }
+  }
+
+  private void releaseCurrentChunk() {
+    if (mCurrentChunk != null) {
+      release(mCurrentChunk);
+      mCurrentChunk = null;
+    }
+  }
+
+  private void release(RPCResponse response) {
+    if (response.getPayloadDataBuffer() != null) {
+      response.getPayloadDataBuffer().release();
+    }
+  }
+}
@@ -0,0 +1,375 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.netty;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+
+import tachyon.Constants;
+import tachyon.network.protocol.RPCRequest;
+import tachyon.network.protocol.RPCResponse;
+
+/**
+ * Keeps a small number of long-lived channels open to each data server, keyed by the data server
+ * address, so that remote block requests do not pay a TCP handshake and teardown each. Every
+ * channel is shared by many callers: requests are tagged with an id from
+ * {@link #nextRequestId()}, and the responses are matched back to the waiting caller by that id.
+ * Channels which were closed, by either side, are transparently reconnected on next use. Requests
+ * which may need to stop reading from their channel, such as streamed reads, are instead sent on a
+ * channel of their own, see {@link #sendExclusive}. This class is thread safe.
+ */
+public final class NettyChannelManager {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private final int mChannelsPerAddress;
+  private final AtomicLong mNextRequestId = new AtomicLong(0);
+  private final ConcurrentMap<InetSocketAddress, ChannelSet> mChannelSets =
+      new ConcurrentHashMap<InetSocketAddress, ChannelSet>();
+
+  /**
+   * Creates a new {@link NettyChannelManager}.
+   *
+   * @param channelsPerAddress the number of channels to keep open to each data server
+   */
+  public NettyChannelManager(int channelsPerAddress) {
+    Preconditions.checkArgument(channelsPerAddress > 0,
+        "The number of channels per data server must be positive");
+    mChannelsPerAddress = channelsPerAddress;
+  }
+
+  /**
+   * @return a new request id, unique within this manager
+   */
+  public long nextRequestId() {
+    return mNextRequestId.getAndIncrement();
+  }
+
+  /**
+   * Sends a request to a data server and returns a future for its response. The request must be
+   * tagged with an id obtained from {@link #nextRequestId()}.
+   *
+   * @param address the address of the data server
+   * @param request the request to send
+   * @return the future of the response to the request
+   * @throws IOException if no channel to the data server could be opened
+   */
+  public ListenableFuture<RPCResponse> send(InetSocketAddress address, RPCRequest request)
+      throws IOException {
+    PooledChannel channel = getChannelSet(address).next();
+    SettableFuture<RPCResponse> response = channel.mHandler.register(request.getRequestId());
+    write(channel, request);
+    return response;
+  }
+
+  /**
+   * Sends a request to a data server, and hands the responses to the request to a listener. The
+   * request must be tagged with an id obtained from {@link #nextRequestId()}.
+   *
+   * @param address the address of the data server
+   * @param request the request to send
+   * @param listener the listener of the responses to the request
+   * @throws IOException if no channel to the data server could be opened
+   */
+  void send(InetSocketAddress address, RPCRequest request,
+      MultiplexedClientHandler.ResponseListener listener) throws IOException {
+    PooledChannel channel = getChannelSet(address).next();
+    channel.mHandler.register(request.getRequestId(), listener);
+    write(channel, request);
+  }
+
+  /**
+   * Sends a request to a data server on a channel which no other request uses until this request
+   * completes, and hands the responses to the request to a listener. The listener may therefore
+   * pause reading from the channel without holding back any other request. Once the last response
+   * is in, the channel is kept for the next such request; if the request fails or is cancelled,
+   * the channel is closed. The request must be tagged with an id obtained from
+   * {@link #nextRequestId()}.
+   *
+   * @param address the address of the data server
+   * @param request the request to send
+   * @param listener the listener of the responses to the request
+   * @throws IOException if no channel to the data server could be opened
+   */
+  void sendExclusive(InetSocketAddress address, final RPCRequest request,
+      final MultiplexedClientHandler.ResponseListener listener) throws IOException {
+    final ChannelSet channels = getChannelSet(address);
+    PooledChannel channel = channels.acquireExclusive(request.getRequestId());
+    channel.mHandler.register(request.getRequestId(),
+        new MultiplexedClientHandler.ResponseListener() {
+          @Override
+          public boolean onResponse(MultiplexedClientHandler handler, RPCResponse response) {
+            boolean last = listener.onResponse(handler, response);
+            if (last) {
+              channels.releaseExclusive(request.getRequestId(), true);
+            }
+            return last;
+          }
+
+          @Override
+          public void onFailure(Throwable cause) {
+            channels.releaseExclusive(request.getRequestId(), false);
+            listener.onFailure(cause);
+          }
+        });
+    write(channel, request);
+  }
+
+  /**
+   * Sends a request to a data server and waits for its response. Since data servers may close a
+   * channel at any time, for example when it has been idle, a request which fails because its
+   * channel was closed before the response arrived is resent on a fresh channel. Only idempotent
+   * requests, such as reads, should be sent this way.
+   *
+   * @param address the address of the data server
+   * @param request the request to send, tagged with an id obtained from {@link #nextRequestId()}
+   * @param timeoutMs the maximum number of milliseconds to wait for the response
+   * @return the response to the request
+   * @throws IOException if the request could not be sent, failed, or timed out
+   */
+  public RPCResponse call(InetSocketAddress address, RPCRequest request, long timeoutMs)
+      throws IOException {
+    for (int attempt = 0; ; attempt++) {
+      ListenableFuture<RPCResponse> response = send(address, request);
+      try {
+        return response.get(timeoutMs, TimeUnit.MILLISECONDS);
+      } catch (TimeoutException e) {
+        // A late response will find nobody waiting, and its payload is released by the handler.
+        cancel(address, request.getRequestId());
+        throw new IOException(e);
+      } catch (InterruptedException e) {
+        cancel(address, request.getRequestId());
+        Thread.currentThread().interrupt();
+        throw new IOException(e);
+      } catch (ExecutionException e) {
+        if (isRetryable(e.getCause(), attempt)) {
+          LOG.debug("Channel to {} was closed, resending {}", address, request);
+          continue;
+        }
+        throw new IOException(e.getCause());
+      }
+    }
+  }
+
+  /**
+   * Closes all the channels. Channels are reopened if the manager is used again.
+   */
+  public void close() {
+    for (ChannelSet channels : mChannelSets.values()) {
+      channels.close();
+    }
+    mChannelSets.clear();
+  }
+
+  /**
+   * Decides whether a request which failed should be resent. Only requests which failed because
+   * the server closed their channel are resent. Every channel of the address may have been closed
+   * by the server, so one attempt per pooled channel plus one on a channel which is guaranteed to
+   * be new are allowed.
+   *
+   * @param cause the cause of the failure
+   * @param attempt the number of times the request was resent so far
+   * @return true if the request should be resent
+   */
+  boolean isRetryable(Throwable cause, int attempt) {
+    return cause instanceof ClosedChannelException && attempt < mChannelsPerAddress;
+  }
+
+  /**
+   * Stops waiting for the responses to a request. If the request was sent with
+   * {@link #sendExclusive}, its channel is closed.
+   *
+   * @param address the address of the data server the request was sent to
+   * @param requestId the id of the request
+   */
+  void cancel(InetSocketAddress address, long requestId) {
+    ChannelSet channels = mChannelSets.get(address);
+    if (channels != null) {
+      channels.unregister(requestId);
+    }
+  }
+
+  private void write(final PooledChannel channel, final RPCRequest request) {
+    channel.mChannel.writeAndFlush(request).addListener(new ChannelFutureListener() {
+      @Override
+      public void operationComplete(ChannelFuture future) {
+        if (!future.isSuccess()) {
+          channel.mHandler.fail(request.getRequestId(), future.cause());
+        }
+      }
+    });
+  }
+
+  private ChannelSet getChannelSet(InetSocketAddress address) {
+    ChannelSet channels = mChannelSets.get(address);
+    if (channels == null) {
+      ChannelSet newChannels = new ChannelSet(address, mChannelsPerAddress);
+      channels = mChannelSets.putIfAbsent(address, newChannels);
+      if (channels == null) {
+        channels = newChannels;
+      }
+    }
+    return channels;
+  }
+
+  /**
+   * A channel to a data server along with the handler which dispatches its responses.
+   */
+  private static final class PooledChannel {
+    private final Channel mChannel;
+    private final MultiplexedClientHandler mHandler;
+
+    private PooledChannel(Channel channel, MultiplexedClientHandler handler) {
+      mChannel = channel;
+      mHandler = handler;
+    }
+  }
+
+  /**
+   * The channels to a single data server. Callers are spread over the shared channels round
+   * robin. Requests which need a channel of their own take one of the idle unshared channels, or a
+   * new one, and hand it back once they complete.
+   */
+  private static final class ChannelSet {
+    private final InetSocketAddress mAddress;
+    private final PooledChannel[] mChannels;
+    /** The unshared channels which are not used by any request, at most one per shared channel. */
+    private final Deque<PooledChannel> mIdleExclusiveChannels = new ArrayDeque<PooledChannel>();
+    /** Map from request id to the unshared channel the request is using. */
+    private final Map<Long, PooledChannel> mExclusiveChannels = new HashMap<Long, PooledChannel>();
+    private int mNextIndex = 0;
+
+    private ChannelSet(InetSocketAddress address, int size) {
+      mAddress = address;
+      mChannels = new PooledChannel[size];
+    }
+
+    private synchronized PooledChannel next() throws IOException {
+      int index = mNextIndex;
+      mNextIndex = (mNextIndex + 1) % mChannels.length;
+      PooledChannel channel = mChannels[index];
+      if (channel == null || !channel.mChannel.isActive()) {
+        channel = connect();
+        mChannels[index] = channel;
+      }
+      return channel;
+    }
+
+    private PooledChannel acquireExclusive(long requestId) throws IOException {
+      PooledChannel channel = pollIdleExclusive();
+      if (channel == null) {
+        // Connect without holding the lock, which the event loop takes to hand channels back.
+        channel = connect();
+      }
+      synchronized (this) {
+        mExclusiveChannels.put(requestId, channel);
+      }
+      return channel;
+    }
+
+    private synchronized PooledChannel pollIdleExclusive() {
+      PooledChannel channel;
+      while ((channel = mIdleExclusiveChannels.pollFirst()) != null) {
+        if (channel.mChannel.isActive()) {
+          return channel;
+        }
+        channel.mChannel.close();
+      }
+      return null;
+    }
+
+    private synchronized void releaseExclusive(long requestId, boolean reusable) {
+      PooledChannel channel = mExclusiveChannels.remove(requestId);
+      if (channel == null) {
+        return;
+      }
+      if (reusable && channel.mChannel.isActive() && channel.mChannel.config().isAutoRead()
+          && mIdleExclusiveChannels.size() < mChannels.length) {
+        mIdleExclusiveChannels.addFirst(channel);
+      } else {
+        channel.mChannel.close();
+      }
+    }
+
+    private synchronized void unregister(long requestId) {
+      for (PooledChannel channel : mChannels) {
+        if (channel != null) {
+          channel.mHandler.unregister(requestId);
+        }
+      }
+      PooledChannel exclusive = mExclusiveChannels.remove(requestId);
+      if (exclusive != null) {
+        // The rest of the responses may still be on their way, so the channel cannot be reused.
+        exclusive.mHandler.unregister(requestId);
+        exclusive.mChannel.close();
+      }
+    }
+
+    private synchronized void close() {
+      for (int i = 0; i < mChannels.length; i++) {
+        if (mChannels[i] != null) {
+          mChannels[i].mChannel.close();
+          mChannels[i] = null;
+        }
+      }
+      for (PooledChannel channel : mIdleExclusiveChannels) {
+        channel.mChannel.close();
+      }
+      mIdleExclusiveChannels.clear();
+      for (PooledChannel channel : mExclusiveChannels.values()) {
+        channel.mChannel.close();
+      }
+      mExclusiveChannels.clear();
+    }
+
+    private PooledChannel connect() throws IOException {
+      MultiplexedClientHandler handler = new MultiplexedClientHandler();
+      Bootstrap bootstrap = NettyClient.createClientBootstrap(handler);
+      try {
+        ChannelFuture future = bootstrap.connect(mAddress).sync();
+        LOG.info("Connected to remote machine {}", mAddress);
+        return new PooledChannel(future.channel(), handler);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException(e);
+      } catch (Exception e) {
+        throw new IOException(e);
+      }
+    }
+  }
+}
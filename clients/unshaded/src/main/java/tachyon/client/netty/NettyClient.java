@@ -17,6 +17,7 @@ package tachyon.client.netty;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
@@ -58,13 +59,30 @@ public final class NettyClient {
   public static final long TIMEOUT_MS =
       TACHYON_CONF.getInt(Constants.USER_NETWORK_NETTY_TIMEOUT_MS);
 
+  /** The maximum number of bytes per response of a streamed remote block read. */
+  public static final long READ_CHUNK_SIZE_BYTES =
+      TACHYON_CONF.getBytes(Constants.USER_NETWORK_NETTY_READ_CHUNK_SIZE_BYTES);
+
+  /** The long-lived channels to the data servers, shared by all the remote block readers. */
+  private static final NettyChannelManager CHANNEL_MANAGER =
+      new NettyChannelManager(TACHYON_CONF.getInt(Constants.USER_NETWORK_NETTY_CHANNEL_POOL_SIZE));
+
+  private NettyClient() {} // prevent instantiation
+
+  /**
+   * @return the {@link NettyChannelManager} shared by all the clients in this JVM
+   */
+  public static NettyChannelManager getChannelManager() {
+    return CHANNEL_MANAGER;
+  }
+
   /**
    * Creates and returns a new Netty client bootstrap for clients to connect to remote servers.
    *
    * @param handler the handler that should be added to new channel pipelines
    * @return the new client {@link Bootstrap}
    */
-  public static Bootstrap createClientBootstrap(final ClientHandler handler) {
+  public static Bootstrap createClientBootstrap(final ChannelHandler handler) {
     final Bootstrap boot = new Bootstrap();
 
     boot.group(WORKER_GROUP).channel(CLIENT_CHANNEL_CLASS);
@@ -18,15 +18,10 @@ package tachyon.client.netty;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
-import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.netty.bootstrap.Bootstrap;
-import io.netty.channel.Channel;
-import io.netty.channel.ChannelFuture;
-
 import tachyon.Constants;
 import tachyon.client.RemoteBlockReader;
 import tachyon.exception.ExceptionMessage;
@@ -37,67 +32,65 @@ import tachyon.network.protocol.RPCMessage;
 import tachyon.network.protocol.RPCResponse;
 
 /**
- * Read data from remote data server using Netty.
+ * Read data from remote data server using Netty. Requests are sent over the long-lived channels of
+ * the shared {@link NettyChannelManager}, so no connection is opened per read. Streamed reads are
+ * returned in chunks of {@link NettyClient#READ_CHUNK_SIZE_BYTES} by a
+ * {@link NettyBlockChunkStream}.
  */
 public final class NettyRemoteBlockReader implements RemoteBlockReader {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
-  private final Bootstrap mClientBootstrap;
-  private final ClientHandler mHandler;
+  private final NettyChannelManager mChannelManager;
   /** A reference to read response so we can explicitly release the resource after reading. */
   private RPCBlockReadResponse mReadResponse = null;
 
   /**
    * Creates a new {@link NettyRemoteBlockReader}.
-   *
-   * TODO(gene): Creating a new remote block reader may be expensive, so consider a connection pool.
    */
   public NettyRemoteBlockReader() {
-    mHandler = new ClientHandler();
-    mClientBootstrap = NettyClient.createClientBootstrap(mHandler);
+    mChannelManager = NettyClient.getChannelManager();
   }
 
   @Override
   public ByteBuffer readRemoteBlock(InetSocketAddress address, long blockId, long offset,
       long length, long lockId, long sessionId) throws IOException {
+    RPCBlockReadRequest request = new RPCBlockReadRequest(blockId, offset, length, lockId,
+        sessionId, mChannelManager.nextRequestId());
+    RPCResponse response = mChannelManager.call(address, request, NettyClient.TIMEOUT_MS);
 
-    try {
-      ChannelFuture f = mClientBootstrap.connect(address).sync();
-
-      LOG.info("Connected to remote machine {}", address);
-      Channel channel = f.channel();
-      SingleResponseListener listener = new SingleResponseListener();
-      mHandler.addListener(listener);
-      channel.writeAndFlush(new RPCBlockReadRequest(blockId, offset, length, lockId, sessionId));
+    switch (response.getType()) {
+      case RPC_BLOCK_READ_RESPONSE:
+        RPCBlockReadResponse blockResponse = (RPCBlockReadResponse) response;
+        LOG.debug("Data {} from remote machine {} received", blockId, address);
 
-      RPCResponse response = listener.get(NettyClient.TIMEOUT_MS, TimeUnit.MILLISECONDS);
-      channel.close().sync();
-
-      switch (response.getType()) {
-        case RPC_BLOCK_READ_RESPONSE:
-          RPCBlockReadResponse blockResponse = (RPCBlockReadResponse) response;
-          LOG.info("Data {} from remote machine {} received", blockId, address);
-
-          RPCResponse.Status status = blockResponse.getStatus();
-          if (status == RPCResponse.Status.SUCCESS) {
-            // always clear the previous response before reading another one
-            close();
-            mReadResponse = blockResponse;
-            return blockResponse.getPayloadDataBuffer().getReadOnlyByteBuffer();
-          }
-          throw new IOException(status.getMessage() + " response: " + blockResponse);
-        case RPC_ERROR_RESPONSE:
-          RPCErrorResponse error = (RPCErrorResponse) response;
-          throw new IOException(error.getStatus().getMessage());
-        default:
-          throw new IOException(ExceptionMessage.UNEXPECTED_RPC_RESPONSE
-              .getMessage(response.getType(), RPCMessage.Type.RPC_BLOCK_READ_RESPONSE));
-      }
-    } catch (Exception e) {
-      throw new IOException(e);
+        RPCResponse.Status status = blockResponse.getStatus();
+        if (status == RPCResponse.Status.SUCCESS) {
+          // always clear the previous response before reading another one
+          close();
+          mReadResponse = blockResponse;
+          return blockResponse.getPayloadDataBuffer().getReadOnlyByteBuffer();
+        }
+        throw new IOException(status.getMessage() + " response: " + blockResponse);
+      case RPC_ERROR_RESPONSE:
+        RPCErrorResponse error = (RPCErrorResponse) response;
+        throw new IOException(error.getStatus().getMessage());
+      default:
+        throw new IOException(ExceptionMessage.UNEXPECTED_RPC_RESPONSE
+            .getMessage(response.getType(), RPCMessage.Type.RPC_BLOCK_READ_RESPONSE));
     }
   }
 
+  @Override
+  public ChunkStream streamRemoteBlock(InetSocketAddress address, long blockId, long offset,
+      long length, long lockId, long sessionId) throws IOException {
+    RPCBlockReadRequest request = new RPCBlockReadRequest(blockId, offset, length, lockId,
+        sessionId, mChannelManager.nextRequestId(), NettyClient.READ_CHUNK_SIZE_BYTES);
+    NettyBlockChunkStream stream =
+        new NettyBlockChunkStream(mChannelManager, address, request, NettyClient.TIMEOUT_MS);
+    stream.start();
+    return stream;
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -106,7 +99,9 @@ public final class NettyRemoteBlockReader implements RemoteBlockReader {
   @Override
   public void close() throws IOException {
     if (mReadResponse != null) {
-      mReadResponse.getPayloadDataBuffer().release();
+      if (mReadResponse.getPayloadDataBuffer() != null) {
+        mReadResponse.getPayloadDataBuffer().release();
+      }
       mReadResponse = null;
     }
   }
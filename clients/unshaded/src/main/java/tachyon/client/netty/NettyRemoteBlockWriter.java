@@ -37,7 +37,11 @@ import tachyon.network.protocol.RPCResponse;
 import tachyon.network.protocol.databuffer.DataByteArrayChannel;
 
 /**
- * Write data to a remote data server using Netty.
+ * Write data to a remote data server using Netty. The block is written as a write session over a
+ * channel which is kept open from the first write until the writer is closed: each write is sent
+ * as a packet without waiting for an acknowledgement, and only closing the writer waits for the
+ * data server to confirm the whole block. A failed packet is reported by the data server as soon
+ * as it happens, and fails the next write.
  */
 public final class NettyRemoteBlockWriter implements RemoteBlockWriter {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
@@ -50,6 +54,13 @@ public final class NettyRemoteBlockWriter implements RemoteBlockWriter {
   private long mBlockId;
   private long mSessionId;
 
+  /** The channel of the write session, connected on the first write. */
+  private Channel mChannel;
+  /** Receives the single response of the write session: its acknowledgement, or its failure. */
+  private SingleResponseListener mListener;
+  /** Whether a write failed, after which the session is abandoned. */
+  private boolean mFailed;
+
   // Total number of bytes written to the remote block.
   private long mWrittenBytes;
 
@@ -72,55 +83,107 @@ public final class NettyRemoteBlockWriter implements RemoteBlockWriter {
     mBlockId = blockId;
     mSessionId = sessionId;
     mWrittenBytes = 0;
+    mChannel = null;
+    mListener = null;
+    mFailed = false;
     mOpen = true;
   }
 
   @Override
-  public void close() {
-    if (mOpen) {
-      mOpen = false;
+  public void close() throws IOException {
+    if (!mOpen) {
+      return;
+    }
+    mOpen = false;
+    if (mChannel == null) {
+      return;
+    }
+    try {
+      if (!mFailed) {
+        // The end of the session carries no data; its acknowledgement covers every packet.
+        send(new RPCBlockWriteRequest(mSessionId, mBlockId, mWrittenBytes, 0,
+            RPCBlockWriteRequest.Mode.STREAM_END, null));
+        checkResponse(mListener.get(NettyClient.TIMEOUT_MS, TimeUnit.MILLISECONDS));
+      }
+    } catch (IOException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IOException(e);
+    } finally {
+      mHandler.removeListener(mListener);
+      mChannel.close();
+      mChannel = null;
     }
   }
 
   @Override
   public void write(byte[] bytes, int offset, int length) throws IOException {
-    SingleResponseListener listener = new SingleResponseListener();
+    if (mFailed) {
+      throw new IOException(ExceptionMessage.BLOCK_WRITE_ERROR.getMessage(mBlockId, mSessionId,
+          mAddress, "an earlier write failed"));
+    }
     try {
-      // TODO(hy): keep connection open across multiple write calls.
-      ChannelFuture f = mClientBootstrap.connect(mAddress).sync();
-
-      LOG.info("Connected to remote machine {}", mAddress);
-      Channel channel = f.channel();
-      mHandler.addListener(listener);
-      channel.writeAndFlush(new RPCBlockWriteRequest(mSessionId, mBlockId, mWrittenBytes, length,
-          new DataByteArrayChannel(bytes, offset, length)));
-
-      RPCResponse response = listener.get(NettyClient.TIMEOUT_MS, TimeUnit.MILLISECONDS);
-      channel.close().sync();
-
-      switch (response.getType()) {
-        case RPC_BLOCK_WRITE_RESPONSE:
-          RPCBlockWriteResponse resp = (RPCBlockWriteResponse) response;
-          RPCResponse.Status status = resp.getStatus();
-          LOG.info("status: {} from remote machine {} received", status, mAddress);
-
-          if (status != RPCResponse.Status.SUCCESS) {
-            throw new IOException(ExceptionMessage.BLOCK_WRITE_ERROR.getMessage(mBlockId,
-                mSessionId, mAddress, status.getMessage()));
-          }
-          mWrittenBytes += length;
-          break;
-        case RPC_ERROR_RESPONSE:
-          RPCErrorResponse error = (RPCErrorResponse) response;
-          throw new IOException(error.getStatus().getMessage());
-        default:
-          throw new IOException(ExceptionMessage.UNEXPECTED_RPC_RESPONSE
-              .getMessage(response.getType(), RPCMessage.Type.RPC_BLOCK_WRITE_RESPONSE));
+      if (mChannel == null) {
+        connect();
+      }
+      if (mListener.isDone()) {
+        // The data server only answers a packet before the end of the session if it failed.
+        checkResponse(mListener.get());
       }
+      send(new RPCBlockWriteRequest(mSessionId, mBlockId, mWrittenBytes, length,
+          RPCBlockWriteRequest.Mode.STREAM, new DataByteArrayChannel(bytes, offset, length)));
+      mWrittenBytes += length;
+    } catch (IOException e) {
+      mFailed = true;
+      throw e;
     } catch (Exception e) {
+      mFailed = true;
       throw new IOException(e);
-    } finally {
-      mHandler.removeListener(listener);
+    }
+  }
+
+  private void connect() throws Exception {
+    ChannelFuture f = mClientBootstrap.connect(mAddress).sync();
+    LOG.info("Connected to remote machine {}", mAddress);
+    mChannel = f.channel();
+    mListener = new SingleResponseListener();
+    mHandler.addListener(mListener);
+  }
+
+  /**
+   * Sends a packet of the session and waits until it has been handed to the socket. Waiting for
+   * the socket, rather than for the data server, lets the caller reuse its buffer while keeping the
+   * packets of the session in flight.
+   */
+  private void send(RPCBlockWriteRequest request) throws IOException, InterruptedException {
+    ChannelFuture future = mChannel.writeAndFlush(request);
+    if (!future.await(NettyClient.TIMEOUT_MS)) {
+      throw new IOException(ExceptionMessage.BLOCK_WRITE_ERROR.getMessage(mBlockId, mSessionId,
+          mAddress, "timed out sending " + request));
+    }
+    if (!future.isSuccess()) {
+      throw new IOException(future.cause());
+    }
+  }
+
+  private void checkResponse(RPCResponse response) throws IOException {
+    switch (response.getType()) {
+      case RPC_BLOCK_WRITE_RESPONSE:
+        RPCBlockWriteResponse resp = (RPCBlockWriteResponse) response;
+        RPCResponse.Status status = resp.getStatus();
+        LOG.debug("status: {} from remote machine {} received", status, mAddress);
+
+        if (status != RPCResponse.Status.SUCCESS) {
+          throw new IOException(ExceptionMessage.BLOCK_WRITE_ERROR.getMessage(mBlockId,
+              mSessionId, mAddress, status.getMessage()));
+        }
+        break;
+      case RPC_ERROR_RESPONSE:
+        RPCErrorResponse error = (RPCErrorResponse) response;
+        throw new IOException(error.getStatus().getMessage());
+      default:
+        throw new IOException(ExceptionMessage.UNEXPECTED_RPC_RESPONSE
+            .getMessage(response.getType(), RPCMessage.Type.RPC_BLOCK_WRITE_RESPONSE));
     }
   }
 }
@@ -35,6 +35,13 @@ public final class SingleResponseListener implements ClientHandler.ResponseListe
     mResponse.set(response);
   }
 
+  /**
+   * @return true if the response has been received
+   */
+  public boolean isDone() {
+    return mResponse.isDone();
+  }
+
   /**
    * Waits to receive the response and returns the response message.
    *
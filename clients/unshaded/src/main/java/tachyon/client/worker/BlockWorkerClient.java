@@ -17,6 +17,8 @@ package tachyon.client.worker;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
@@ -108,6 +110,25 @@ public final class BlockWorkerClient extends ClientBase {
     });
   }
 
+  /**
+   * Updates the latest access time of a batch of blocks on the worker with a single call. Blocks
+   * which are no longer on the worker are ignored.
+   *
+   * @param blockIds the ids of the blocks
+   * @throws ConnectionFailedException if network connection failed
+   * @throws IOException if an I/O error occurs
+   */
+  public synchronized void accessBlocks(final List<Long> blockIds)
+      throws ConnectionFailedException, IOException {
+    retryRPC(new RpcCallable<Void>() {
+      @Override
+      public Void call() throws TException {
+        mClient.accessBlocks(blockIds);
+        return null;
+      }
+    });
+  }
+
   /**
    * Notifies the worker to checkpoint the file asynchronously.
    *
@@ -288,6 +309,28 @@ public final class BlockWorkerClient extends ClientBase {
     }
   }
 
+  /**
+   * Locks a batch of blocks with a single call. Each locked block has to be unlocked once, with
+   * {@link #unlockBlock(long)} or {@link #unlockBlocks(List)}.
+   *
+   * @param blockIds the ids of the blocks
+   * @return the paths of the locked block files by block id; blocks which are not on the worker
+   *         are left out
+   * @throws IOException if a non-Tachyon exception occurs
+   */
+  public synchronized Map<Long, String> lockBlocks(final List<Long> blockIds) throws IOException {
+    try {
+      return retryRPC(new RpcCallableThrowsTachyonTException<Map<Long, String>>() {
+        @Override
+        public Map<Long, String> call() throws TachyonTException, TException {
+          return mClient.lockBlocks(mSessionId, blockIds);
+        }
+      });
+    } catch (TachyonException e) {
+      throw new IOException(e);
+    }
+  }
+
   /**
    * Connects to the worker.
    *
@@ -394,6 +437,24 @@ public final class BlockWorkerClient extends ClientBase {
     });
   }
 
+  /**
+   * Unlocks a batch of blocks with a single call, once per occurrence of a block id.
+   *
+   * @param blockIds the ids of the blocks
+   * @throws ConnectionFailedException if network connection failed
+   * @throws IOException if an I/O error occurs
+   */
+  public synchronized void unlockBlocks(final List<Long> blockIds)
+      throws ConnectionFailedException, IOException {
+    retryRPC(new RpcCallable<Void>() {
+      @Override
+      public Void call() throws TException {
+        mClient.unlockBlocks(mSessionId, blockIds);
+        return null;
+      }
+    });
+  }
+
   /**
    * Sends a session heartbeat to the worker. This renews the client's lease on resources such as
    * locks and temporary files and updates the worker's metrics.
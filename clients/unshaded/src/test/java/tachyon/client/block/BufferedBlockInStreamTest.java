@@ -15,10 +15,17 @@
 
 package tachyon.client.block;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import tachyon.Constants;
+import tachyon.client.ClientContext;
+import tachyon.client.util.ClientTestUtils;
 import tachyon.util.io.BufferUtils;
 
 /**
@@ -108,4 +115,37 @@ public class BufferedBlockInStreamTest {
     Assert.assertEquals(1, mTestStream.read(readBytes, size - 1, 1));
     Assert.assertEquals(size * 2, readBytes[size - 1]);
   }
+
+  /**
+   * Tests that a read which runs past the end of the buffer takes the rest of the buffer first, so
+   * that the buffer is refilled from where the previous fill ended.
+   *
+   * @throws Exception when reading from the stream fails
+   */
+  @Test
+  public void sequentialRefillTest() throws Exception {
+    ClientTestUtils.setSmallBufferSizes();
+    try {
+      final int bufferSize = 4 * Constants.KB;
+      final List<Long> fillPositions = new ArrayList<Long>();
+      TestBufferedBlockInStream stream = new TestBufferedBlockInStream(1L, 0, 3 * bufferSize) {
+        @Override
+        protected void bufferedRead(int len) throws IOException {
+          fillPositions.add(getPosition());
+          super.bufferedRead(len);
+        }
+      };
+      int size = 1000;
+      byte[] readBytes = new byte[size];
+      for (int pos = 0; pos + size <= 3 * bufferSize; pos += size) {
+        Assert.assertEquals(size, stream.read(readBytes));
+        Assert.assertTrue(BufferUtils.equalIncreasingByteArray(pos, size, readBytes));
+      }
+      for (int i = 0; i < fillPositions.size(); i ++) {
+        Assert.assertEquals(i * bufferSize, fillPositions.get(i).longValue());
+      }
+    } finally {
+      ClientContext.reset();
+    }
+  }
 }
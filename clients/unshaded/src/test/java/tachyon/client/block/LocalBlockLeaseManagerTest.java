@@ -0,0 +1,171 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.block;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import tachyon.client.worker.BlockWorkerClient;
+import tachyon.resource.ResourcePool;
+import tachyon.thrift.LockBlockResult;
+
+/**
+ * Tests for {@link LocalBlockLeaseManager}.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(BlockWorkerClient.class)
+public final class LocalBlockLeaseManagerTest {
+  private static final long BLOCK_ID = 3L;
+  private static final long OTHER_BLOCK_ID = 4L;
+  private static final String BLOCK_PATH = "/mnt/ramdisk/3";
+  private static final long LEASE_MS = 1000L;
+
+  private BlockWorkerClient mClient;
+  private ResourcePool<BlockWorkerClient> mClientPool;
+  private boolean mClientPoolClosed;
+
+  /**
+   * Sets up a pool whose only client locks {@link #BLOCK_ID} at {@link #BLOCK_PATH}, and does not
+   * find any other block.
+   *
+   * @throws Exception if mocking the client fails
+   */
+  @Before
+  public void before() throws Exception {
+    mClient = PowerMockito.mock(BlockWorkerClient.class);
+    Mockito.when(mClient.lockBlock(BLOCK_ID)).thenReturn(new LockBlockResult(1L, BLOCK_PATH));
+    mClientPool = new ResourcePool<BlockWorkerClient>(1) {
+      @Override
+      public void close() {
+        mClientPoolClosed = true;
+      }
+
+      @Override
+      protected BlockWorkerClient createNewResource() {
+        return mClient;
+      }
+    };
+  }
+
+  /**
+   * Tests that the streams opened during a lease reuse its lock, and that the lock is released,
+   * and the accesses reported, once the lease expires.
+   *
+   * @throws Exception if leasing the block fails
+   */
+  @Test
+  public void reuseLeaseTest() throws Exception {
+    LocalBlockLeaseManager manager = new LocalBlockLeaseManager(mClientPool, LEASE_MS);
+    Assert.assertEquals(BLOCK_PATH, manager.acquire(BLOCK_ID));
+    Assert.assertEquals(BLOCK_PATH, manager.acquire(BLOCK_ID));
+    manager.release(BLOCK_ID, true);
+    manager.release(BLOCK_ID, true);
+    Assert.assertEquals(BLOCK_PATH, manager.acquire(BLOCK_ID));
+    manager.release(BLOCK_ID, false);
+    Mockito.verify(mClient).lockBlock(BLOCK_ID);
+    Mockito.verify(mClient, Mockito.never()).unlockBlocks(Mockito.anyListOf(Long.class));
+    Mockito.verify(mClient, Mockito.never()).accessBlocks(Mockito.anyListOf(Long.class));
+
+    // The lease has not expired yet.
+    manager.releaseExpired(System.currentTimeMillis());
+    Assert.assertTrue(manager.isLeased(BLOCK_ID));
+    Mockito.verify(mClient, Mockito.never()).unlockBlocks(Mockito.anyListOf(Long.class));
+
+    manager.releaseExpired(System.currentTimeMillis() + LEASE_MS);
+    Assert.assertFalse(manager.isLeased(BLOCK_ID));
+    Mockito.verify(mClient).unlockBlocks(Arrays.asList(BLOCK_ID));
+    Mockito.verify(mClient).accessBlocks(Arrays.asList(BLOCK_ID, BLOCK_ID));
+  }
+
+  /**
+   * Tests that a lease with open streams is kept, however old it is.
+   *
+   * @throws Exception if leasing the block fails
+   */
+  @Test
+  public void keepLeaseInUseTest() throws Exception {
+    LocalBlockLeaseManager manager = new LocalBlockLeaseManager(mClientPool, LEASE_MS);
+    manager.acquire(BLOCK_ID);
+    manager.releaseExpired(Long.MAX_VALUE);
+    Assert.assertTrue(manager.isLeased(BLOCK_ID));
+    Mockito.verify(mClient, Mockito.never()).unlockBlocks(Mockito.anyListOf(Long.class));
+    manager.release(BLOCK_ID, false);
+    manager.close();
+    Assert.assertFalse(manager.isLeased(BLOCK_ID));
+    Mockito.verify(mClient).unlockBlocks(Arrays.asList(BLOCK_ID));
+    Assert.assertTrue(mClientPoolClosed);
+  }
+
+  /**
+   * Tests that closing the manager closes its client pool, even if the leases cannot be released.
+   *
+   * @throws Exception if leasing the block fails
+   */
+  @Test
+  public void closeFailureTest() throws Exception {
+    Mockito.doThrow(new IOException("test")).when(mClient)
+        .unlockBlocks(Mockito.anyListOf(Long.class));
+    LocalBlockLeaseManager manager = new LocalBlockLeaseManager(mClientPool, LEASE_MS);
+    manager.acquire(BLOCK_ID);
+    manager.release(BLOCK_ID, false);
+    try {
+      manager.close();
+      Assert.fail("Closing the manager should fail when the block cannot be unlocked");
+    } catch (IOException e) {
+      // expected
+    }
+    Assert.assertTrue(mClientPoolClosed);
+  }
+
+  /**
+   * Tests that without a lease, the block is unlocked as soon as its last stream closes.
+   *
+   * @throws Exception if leasing the block fails
+   */
+  @Test
+  public void noLeaseTest() throws Exception {
+    LocalBlockLeaseManager manager = new LocalBlockLeaseManager(mClientPool, 0);
+    manager.acquire(BLOCK_ID);
+    manager.acquire(BLOCK_ID);
+    manager.release(BLOCK_ID, true);
+    Mockito.verify(mClient, Mockito.never()).unlockBlocks(Mockito.anyListOf(Long.class));
+    manager.release(BLOCK_ID, false);
+    Assert.assertFalse(manager.isLeased(BLOCK_ID));
+    Mockito.verify(mClient).unlockBlocks(Arrays.asList(BLOCK_ID));
+    Mockito.verify(mClient).accessBlocks(Arrays.asList(BLOCK_ID));
+  }
+
+  /**
+   * Tests that a block which is not on the worker is not leased.
+   *
+   * @throws Exception if locking the block fails
+   */
+  @Test
+  public void missingBlockTest() throws Exception {
+    LocalBlockLeaseManager manager = new LocalBlockLeaseManager(mClientPool, LEASE_MS);
+    Assert.assertNull(manager.acquire(OTHER_BLOCK_ID));
+    Assert.assertFalse(manager.isLeased(OTHER_BLOCK_ID));
+  }
+}
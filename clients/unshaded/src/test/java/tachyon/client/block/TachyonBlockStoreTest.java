@@ -34,6 +34,7 @@ import org.powermock.reflect.Whitebox;
 import tachyon.client.ClientContext;
 import tachyon.client.worker.BlockWorkerClient;
 import tachyon.conf.TachyonConf;
+import tachyon.resource.ResourcePool;
 import tachyon.thrift.BlockInfo;
 import tachyon.thrift.BlockLocation;
 import tachyon.thrift.LockBlockResult;
@@ -90,7 +91,8 @@ public final class TachyonBlockStoreTest {
    *    {@link #mBlockWorkerClient} when asked for master/worker clients<br>
    * 3. {@link #mTestFile} is created inside {@link #mTestFolder}<br>
    * 4. {@link #mBlockWorkerClient} is made to understand that locking {@link #BLOCK_ID} should
-   *    return the path to {@link #mTestFile}.
+   *    return the path to {@link #mTestFile}.<br>
+   * 5. {@link #mBlockStoreContext} leases local blocks through {@link #mBlockWorkerClient}.
    *
    * @throws Exception when acquiring a worker client fails
    */
@@ -112,6 +114,17 @@ public final class TachyonBlockStoreTest {
         new LockBlockResult(LOCK_ID, mTestFile.getAbsolutePath()));
     Mockito.when(mBlockStoreContext.acquireWorkerClient(Mockito.anyString()))
         .thenReturn(mBlockWorkerClient);
+    ResourcePool<BlockWorkerClient> clientPool = new ResourcePool<BlockWorkerClient>(1) {
+      @Override
+      public void close() {}
+
+      @Override
+      protected BlockWorkerClient createNewResource() {
+        return mBlockWorkerClient;
+      }
+    };
+    Mockito.when(mBlockStoreContext.getLocalBlockLeaseManager())
+        .thenReturn(new LocalBlockLeaseManager(clientPool, 0));
   }
 
   /**
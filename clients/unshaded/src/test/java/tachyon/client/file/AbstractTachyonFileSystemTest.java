@@ -30,6 +30,7 @@ import org.powermock.reflect.Whitebox;
 
 import com.google.common.collect.Lists;
 
+import tachyon.Constants;
 import tachyon.TachyonURI;
 import tachyon.client.ClientContext;
 import tachyon.client.file.options.CreateOptions;
@@ -44,6 +45,7 @@ import tachyon.client.file.options.OpenOptions;
 import tachyon.client.file.options.RenameOptions;
 import tachyon.client.file.options.SetStateOptions;
 import tachyon.client.file.options.UnmountOptions;
+import tachyon.conf.TachyonConf;
 import tachyon.exception.ExceptionMessage;
 import tachyon.exception.InvalidPathException;
 import tachyon.thrift.FileInfo;
@@ -79,6 +81,7 @@ public final class AbstractTachyonFileSystemTest {
     Whitebox.setInternalState(mFileSystem, "mContext", mFileContext);
     mFileSystemMasterClient = PowerMockito.mock(FileSystemMasterClient.class);
     Mockito.when(mFileContext.acquireMasterClient()).thenReturn(mFileSystemMasterClient);
+    Mockito.when(mFileContext.getMetadataCache()).thenReturn(new MetadataCache(new TachyonConf()));
   }
 
   /**
@@ -196,6 +199,29 @@ public final class AbstractTachyonFileSystemTest {
     Mockito.verify(mFileSystemMasterClient).getFileInfo(FILE_ID);
   }
 
+  /**
+   * Tests that the {@link AbstractTachyonFileSystem#getInfo(TachyonFile, GetInfoOptions)} method
+   * answers from the metadata cache when it is enabled.
+   *
+   * @throws Exception when the information cannot be retrieved
+   */
+  @Test
+  public void getInfoCachedTest() throws Exception {
+    TachyonConf conf = new TachyonConf();
+    conf.set(Constants.USER_METADATA_CACHE_ENABLED, "true");
+    MetadataCache cache = new MetadataCache(conf);
+    Mockito.when(mFileContext.getMetadataCache()).thenReturn(cache);
+    FileInfo info = new FileInfo();
+    info.setFileId(FILE_ID);
+    info.setPath("/file");
+    Mockito.when(mFileSystemMasterClient.getFileInfo(FILE_ID)).thenReturn(info);
+    GetInfoOptions getInfoOptions = GetInfoOptions.defaults();
+    Assert.assertEquals(info, mFileSystem.getInfo(new TachyonFile(FILE_ID), getInfoOptions));
+    Assert.assertEquals(info, mFileSystem.getInfo(new TachyonFile(FILE_ID), getInfoOptions));
+    Mockito.verify(mFileSystemMasterClient).getFileInfo(FILE_ID);
+    Assert.assertEquals(Long.valueOf(FILE_ID), cache.getFileId("/file"));
+  }
+
   /**
    * Ensures that an exception is propagated correctly when retrieving information.
    *
@@ -213,6 +239,19 @@ public final class AbstractTachyonFileSystemTest {
     }
   }
 
+  /**
+   * Tests for the {@link AbstractTachyonFileSystem#listInMemoryFiles(long)} method.
+   *
+   * @throws Exception when listing the in memory files fails
+   */
+  @Test
+  public void listInMemoryFilesTest() throws Exception {
+    List<FileInfo> infos = Lists.newArrayList(new FileInfo());
+    Mockito.when(mFileSystemMasterClient.getInMemoryFileInfoList(FILE_ID)).thenReturn(infos);
+    Assert.assertSame(infos, mFileSystem.listInMemoryFiles(FILE_ID));
+    Mockito.verify(mFileSystemMasterClient).getInMemoryFileInfoList(FILE_ID);
+  }
+
   /**
    * Tests for the {@link AbstractTachyonFileSystem#listStatus(TachyonFile, ListStatusOptions)}
    * method.
@@ -279,6 +318,20 @@ public final class AbstractTachyonFileSystemTest {
     }
   }
 
+  /**
+   * Tests for the
+   * {@link AbstractTachyonFileSystem#loadMetadataTree(TachyonURI, LoadMetadataOptions)} method.
+   *
+   * @throws Exception when loading the metadata fails
+   */
+  @Test
+  public void loadMetadataTreeTest() throws Exception {
+    Mockito.when(mFileSystemMasterClient.loadMetadataTree("/", false)).thenReturn(3L);
+    Assert.assertEquals(3,
+        mFileSystem.loadMetadataTree(new TachyonURI("/"), LoadMetadataOptions.defaults()));
+    Mockito.verify(mFileSystemMasterClient).loadMetadataTree("/", false);
+  }
+
   /**
    * Tests for the {@link AbstractTachyonFileSystem#mkdir(TachyonURI, MkdirOptions)} method.
    *
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.file;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import com.google.common.collect.Lists;
+
+import tachyon.Constants;
+import tachyon.conf.TachyonConf;
+import tachyon.thrift.BlockInfo;
+import tachyon.thrift.BlockLocation;
+import tachyon.thrift.FileBlockInfo;
+import tachyon.thrift.WorkerNetAddress;
+
+/**
+ * Tests for the {@link BlockLocationCache} class.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({FileSystemContext.class, FileSystemMasterClient.class})
+public final class BlockLocationCacheTest {
+  private static final long FILE_ID = 7L;
+
+  private FileSystemContext mContext;
+  private FileSystemMasterClient mMasterClient;
+  private List<FileBlockInfo> mFileBlockInfos;
+
+  /**
+   * Sets up a master client which knows about the two blocks of {@link #FILE_ID}.
+   *
+   * @throws Exception if mocking the master client fails
+   */
+  @Before
+  public void before() throws Exception {
+    mContext = PowerMockito.mock(FileSystemContext.class);
+    mMasterClient = PowerMockito.mock(FileSystemMasterClient.class);
+    Mockito.when(mContext.acquireMasterClient()).thenReturn(mMasterClient);
+    mFileBlockInfos = Lists.newArrayList();
+    for (long blockId = 1; blockId <= 2; blockId ++) {
+      BlockInfo blockInfo = new BlockInfo(blockId, 10L,
+          Lists.newArrayList(new BlockLocation(1L, new WorkerNetAddress(), "MEM")));
+      mFileBlockInfos.add(new FileBlockInfo(blockInfo, 0, Lists.<WorkerNetAddress>newArrayList()));
+    }
+    Mockito.when(mMasterClient.getFileBlockInfoList(FILE_ID)).thenReturn(mFileBlockInfos);
+  }
+
+  /**
+   * Tests that the locations of all the blocks of a file are fetched with a single call.
+   *
+   * @throws Exception if the master client fails
+   */
+  @Test
+  public void getBlockInfoTest() throws Exception {
+    BlockLocationCache cache = new BlockLocationCache(mContext, new TachyonConf());
+    Assert.assertEquals(mFileBlockInfos.get(0).getBlockInfo(), cache.getBlockInfo(FILE_ID, 1L));
+    Assert.assertEquals(mFileBlockInfos.get(1).getBlockInfo(), cache.getBlockInfo(FILE_ID, 2L));
+    Assert.assertNull(cache.getBlockInfo(FILE_ID, 3L));
+    Mockito.verify(mMasterClient, Mockito.times(1)).getFileBlockInfoList(FILE_ID);
+    Mockito.verify(mContext).releaseMasterClient(mMasterClient);
+  }
+
+  /**
+   * Tests that the locations of a file are fetched again after they are invalidated.
+   *
+   * @throws Exception if the master client fails
+   */
+  @Test
+  public void invalidateTest() throws Exception {
+    BlockLocationCache cache = new BlockLocationCache(mContext, new TachyonConf());
+    cache.getBlockInfo(FILE_ID, 1L);
+    cache.invalidate(FILE_ID);
+    cache.getBlockInfo(FILE_ID, 1L);
+    Mockito.verify(mMasterClient, Mockito.times(2)).getFileBlockInfoList(FILE_ID);
+  }
+
+  /**
+   * Tests that nothing is cached, or fetched, when the cache is disabled.
+   *
+   * @throws Exception if the master client fails
+   */
+  @Test
+  public void disabledTest() throws Exception {
+    TachyonConf conf = new TachyonConf();
+    conf.set(Constants.USER_BLOCK_LOCATION_CACHE_TTL_MS, "0");
+    BlockLocationCache cache = new BlockLocationCache(mContext, conf);
+    Assert.assertNull(cache.getBlockInfo(FILE_ID, 1L));
+    Mockito.verify(mMasterClient, Mockito.never()).getFileBlockInfoList(FILE_ID);
+  }
+
+  /**
+   * Tests that a failure to fetch the locations makes the caller ask for the block itself.
+   *
+   * @throws Exception if the master client fails
+   */
+  @Test
+  public void fetchFailureTest() throws Exception {
+    Mockito.when(mMasterClient.getFileBlockInfoList(FILE_ID))
+        .thenThrow(new IOException("test"));
+    BlockLocationCache cache = new BlockLocationCache(mContext, new TachyonConf());
+    Assert.assertNull(cache.getBlockInfo(FILE_ID, 1L));
+    Mockito.verify(mContext).releaseMasterClient(mMasterClient);
+  }
+}
@@ -38,6 +38,7 @@ import tachyon.client.ClientContext;
 import tachyon.client.TachyonStorageType;
 import tachyon.client.block.BlockInStream;
 import tachyon.client.block.BufferedBlockInStream;
+import tachyon.client.block.RemoteBlockInStream;
 import tachyon.client.block.TachyonBlockStore;
 import tachyon.client.block.TestBufferedBlockInStream;
 import tachyon.client.block.TestBufferedBlockOutStream;
@@ -49,7 +50,10 @@ import tachyon.client.util.ClientMockUtils;
 import tachyon.client.util.ClientTestUtils;
 import tachyon.exception.ExceptionMessage;
 import tachyon.exception.PreconditionMessage;
+import tachyon.thrift.BlockInfo;
+import tachyon.thrift.BlockLocation;
 import tachyon.thrift.FileInfo;
+import tachyon.thrift.WorkerNetAddress;
 import tachyon.underfs.UnderFileSystem;
 import tachyon.util.io.BufferUtils;
 import tachyon.worker.NetAddress;
@@ -58,7 +62,8 @@ import tachyon.worker.NetAddress;
  * Tests for the {@link FileInStream} class.
  */
 @RunWith(PowerMockRunner.class)
-@PrepareForTest({FileSystemContext.class, TachyonBlockStore.class, UnderFileSystem.class})
+@PrepareForTest({BlockLocationCache.class, FileSystemContext.class, RemoteBlockInStream.class,
+    TachyonBlockStore.class, UnderFileSystem.class})
 public class FileInStreamTest {
 
   private static final long BLOCK_LENGTH = 100L;
@@ -66,6 +71,7 @@ public class FileInStreamTest {
   private static final long NUM_STREAMS = ((FILE_LENGTH - 1) / BLOCK_LENGTH) + 1;
 
   private TachyonBlockStore mBlockStore;
+  private BlockLocationCache mBlockLocationCache;
   private FileSystemContext mContext;
   private FileInfo mInfo;
 
@@ -87,6 +93,9 @@ public class FileInStreamTest {
     mContext = PowerMockito.mock(FileSystemContext.class);
     mBlockStore = PowerMockito.mock(TachyonBlockStore.class);
     Mockito.when(mContext.getTachyonBlockStore()).thenReturn(mBlockStore);
+    // No block locations are cached unless a test says otherwise.
+    mBlockLocationCache = PowerMockito.mock(BlockLocationCache.class);
+    Mockito.when(mContext.getBlockLocationCache()).thenReturn(mBlockLocationCache);
 
     // Set up BufferedBlockInStreams and caching streams
     mCacheStreams = Lists.newArrayList();
@@ -349,6 +358,112 @@ public class FileInStreamTest {
     Mockito.verify(stream, Mockito.times(1)).skip(50);
   }
 
+  /**
+   * Tests that the cached block locations are used to open the blocks, without asking the master
+   * for each block.
+   *
+   * @throws IOException when reading from the stream fails
+   */
+  @Test
+  public void cachedBlockLocationsTest() throws IOException {
+    for (long i = 0; i < NUM_STREAMS; i ++) {
+      BlockInfo blockInfo = new BlockInfo(i, BLOCK_LENGTH,
+          Lists.newArrayList(new BlockLocation(1, new WorkerNetAddress(), "MEM")));
+      Mockito.when(mBlockLocationCache.getBlockInfo(mInfo.getFileId(), i)).thenReturn(blockInfo);
+      Mockito.when(mBlockStore.getInStream(blockInfo)).thenReturn(
+          new TestBufferedBlockInStream(i, (int) (i * BLOCK_LENGTH), BLOCK_LENGTH));
+    }
+
+    byte[] buffer = new byte[(int) FILE_LENGTH];
+    Assert.assertEquals(FILE_LENGTH, mTestStream.read(buffer));
+    Assert.assertTrue(BufferUtils.equalIncreasingByteArray((int) FILE_LENGTH, buffer));
+    Mockito.verify(mBlockStore, Mockito.never()).getInStream(Mockito.anyLong());
+  }
+
+  /**
+   * Tests that the block locations of the file are dropped from the cache when a cached location
+   * fails, and that the master is asked for the block instead.
+   *
+   * @throws IOException when reading from the stream fails
+   */
+  @Test
+  public void failCachedBlockLocationTest() throws IOException {
+    BlockInfo blockInfo = new BlockInfo(0, BLOCK_LENGTH,
+        Lists.newArrayList(new BlockLocation(1, new WorkerNetAddress(), "MEM")));
+    Mockito.when(mBlockLocationCache.getBlockInfo(mInfo.getFileId(), 0)).thenReturn(blockInfo);
+    Mockito.when(mBlockStore.getInStream(blockInfo)).thenThrow(new IOException("test"));
+
+    Assert.assertEquals(0, mTestStream.read());
+    Mockito.verify(mBlockLocationCache).invalidate(mInfo.getFileId());
+    Mockito.verify(mBlockStore).getInStream(0L);
+  }
+
+  /**
+   * Tests that a block is opened again at an up to date location when reading from its cached
+   * location fails.
+   *
+   * @throws IOException when reading from the stream fails
+   */
+  @Test
+  public void failReadAtCachedBlockLocationTest() throws IOException {
+    BlockInfo blockInfo = new BlockInfo(0, BLOCK_LENGTH,
+        Lists.newArrayList(new BlockLocation(1, new WorkerNetAddress(), "MEM")));
+    Mockito.when(mBlockLocationCache.getBlockInfo(mInfo.getFileId(), 0)).thenReturn(blockInfo);
+    BufferedBlockInStream staleStream = Mockito.mock(BufferedBlockInStream.class);
+    Mockito.when(staleStream.remaining()).thenReturn(BLOCK_LENGTH);
+    Mockito.when(staleStream.read()).thenThrow(new IOException("test"));
+    Mockito.when(mBlockStore.getInStream(blockInfo)).thenReturn(staleStream)
+        .thenReturn(new TestBufferedBlockInStream(0, 0, BLOCK_LENGTH));
+
+    Assert.assertEquals(0, mTestStream.read());
+    Assert.assertEquals(1, mTestStream.read());
+    Mockito.verify(mBlockLocationCache).invalidate(mInfo.getFileId());
+    Mockito.verify(staleStream).close();
+  }
+
+  /**
+   * Tests that the next block is opened ahead of time, and streamed in, while a remote block is
+   * read sequentially, and that the stream opened ahead of time is used once the reader gets there.
+   *
+   * @throws IOException when reading from the stream fails
+   */
+  @Test
+  public void readAheadNextRemoteBlockTest() throws IOException {
+    RemoteBlockInStream first = mockRemoteBlockInStream();
+    RemoteBlockInStream second = mockRemoteBlockInStream();
+    Mockito.when(mBlockStore.getInStream(0L)).thenReturn(first);
+    Mockito.when(mBlockStore.getInStream(1L)).thenReturn(second);
+    mTestStream = new FileInStream(mInfo, new InStreamOptions.Builder(ClientContext.getConf())
+        .setTachyonStorageType(TachyonStorageType.NO_STORE).build());
+
+    mTestStream.read(new byte[(int) BLOCK_LENGTH / 2]);
+    Mockito.verify(mBlockStore).getInStream(1L);
+    Mockito.verify(second).readAhead(Mockito.anyLong());
+
+    mTestStream.read(new byte[(int) BLOCK_LENGTH]);
+    Mockito.verify(first).close();
+    Mockito.verify(mBlockStore).getInStream(1L);
+    Mockito.verify(second, Mockito.never()).close();
+    Mockito.verify(second).read(Mockito.any(byte[].class), Mockito.anyInt(), Mockito.anyInt());
+  }
+
+  /**
+   * Tests that the next block is not opened ahead of time after seeking into the middle of a block.
+   *
+   * @throws IOException when reading from the stream fails
+   */
+  @Test
+  public void noReadAheadAfterSeekTest() throws IOException {
+    RemoteBlockInStream first = mockRemoteBlockInStream();
+    Mockito.when(mBlockStore.getInStream(0L)).thenReturn(first);
+    mTestStream = new FileInStream(mInfo, new InStreamOptions.Builder(ClientContext.getConf())
+        .setTachyonStorageType(TachyonStorageType.NO_STORE).build());
+
+    mTestStream.seek(BLOCK_LENGTH / 2);
+    mTestStream.read(new byte[(int) BLOCK_LENGTH / 4]);
+    Mockito.verify(mBlockStore, Mockito.never()).getInStream(1L);
+  }
+
   /**
    * Tests that seeking into the middle of a block will invalidate caching for that block.
    *
@@ -510,6 +625,37 @@ public class FileInStreamTest {
    *
    * @param dataRead the bytes to read
    */
+  /**
+   * @return a mock of a remote block stream, which reads a whole block
+   */
+  private RemoteBlockInStream mockRemoteBlockInStream() throws IOException {
+    RemoteBlockInStream stream = PowerMockito.mock(RemoteBlockInStream.class);
+    final long[] remaining = {BLOCK_LENGTH};
+    Mockito.when(stream.remaining()).thenAnswer(new Answer<Long>() {
+      @Override
+      public Long answer(InvocationOnMock invocation) throws Throwable {
+        return remaining[0];
+      }
+    });
+    Mockito.when(stream.read(Mockito.any(byte[].class), Mockito.anyInt(), Mockito.anyInt()))
+        .thenAnswer(new Answer<Integer>() {
+          @Override
+          public Integer answer(InvocationOnMock invocation) throws Throwable {
+            int len = (Integer) invocation.getArguments()[2];
+            remaining[0] -= len;
+            return len;
+          }
+        });
+    Mockito.doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) throws Throwable {
+        remaining[0] = BLOCK_LENGTH - (Long) invocation.getArguments()[0];
+        return null;
+      }
+    }).when(stream).seek(Mockito.anyLong());
+    return stream;
+  }
+
   private void verifyCacheStreams(long dataRead) {
     for (int streamIndex = 0; streamIndex < NUM_STREAMS; streamIndex ++) {
       TestBufferedBlockOutStream stream = mCacheStreams.get(streamIndex);
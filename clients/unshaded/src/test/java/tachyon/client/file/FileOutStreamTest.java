@@ -52,6 +52,7 @@ import tachyon.client.file.policy.RoundRobinPolicy;
 import tachyon.client.util.ClientMockUtils;
 import tachyon.client.util.ClientTestUtils;
 import tachyon.client.worker.BlockWorkerClient;
+import tachyon.conf.TachyonConf;
 import tachyon.exception.ExceptionMessage;
 import tachyon.exception.PreconditionMessage;
 import tachyon.thrift.FileInfo;
@@ -102,6 +103,8 @@ public class FileOutStreamTest {
     Mockito.when(mFileSystemContext.getTachyonBlockStore()).thenReturn(mBlockStore);
     Mockito.when(mBlockStoreContext.acquireWorkerClient()).thenReturn(mBlockWorkerClient);
     Mockito.when(mFileSystemContext.acquireMasterClient()).thenReturn(mFileSystemMasterClient);
+    Mockito.when(mFileSystemContext.getMetadataCache())
+        .thenReturn(new MetadataCache(new TachyonConf()));
     Mockito.when(mFileSystemMasterClient.getFileInfo(Mockito.anyLong())).thenReturn(new FileInfo());
 
     // Return sequentially increasing numbers for new block ids
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.file;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+import tachyon.Constants;
+import tachyon.conf.TachyonConf;
+import tachyon.thrift.FileInfo;
+
+/**
+ * Tests for the {@link MetadataCache} class.
+ */
+public final class MetadataCacheTest {
+  private static final long DIR_ID = 1L;
+  private static final long FILE_ID = 2L;
+  private static final String FILE_PATH = "/dir/file";
+
+  private MetadataCache mCache;
+  private FileInfo mFileInfo;
+
+  /**
+   * Sets up an enabled cache and the info of a file before a test runs.
+   */
+  @Before
+  public void before() {
+    TachyonConf conf = new TachyonConf();
+    conf.set(Constants.USER_METADATA_CACHE_ENABLED, "true");
+    mCache = new MetadataCache(conf);
+    mFileInfo = new FileInfo();
+    mFileInfo.setFileId(FILE_ID);
+    mFileInfo.setPath(FILE_PATH);
+  }
+
+  /**
+   * Tests that nothing is cached when the cache is disabled.
+   */
+  @Test
+  public void disabledTest() {
+    MetadataCache cache = new MetadataCache(new TachyonConf());
+    cache.putFileId(FILE_PATH, FILE_ID);
+    cache.putFileInfo(mFileInfo);
+    cache.putListing(DIR_ID, Lists.newArrayList(mFileInfo));
+    Assert.assertNull(cache.getFileId(FILE_PATH));
+    Assert.assertNull(cache.getFileInfo(FILE_ID));
+    Assert.assertNull(cache.getListing(DIR_ID));
+  }
+
+  /**
+   * Tests that caching a listing also caches the info and id of each listed file, and that the
+   * cached objects are copies.
+   */
+  @Test
+  public void putListingTest() {
+    mCache.putListing(DIR_ID, Lists.newArrayList(mFileInfo));
+    mFileInfo.setLength(10);
+
+    List<FileInfo> listing = mCache.getListing(DIR_ID);
+    Assert.assertEquals(1, listing.size());
+    Assert.assertEquals(0, listing.get(0).getLength());
+    Assert.assertEquals(Long.valueOf(FILE_ID), mCache.getFileId(FILE_PATH));
+    FileInfo fileInfo = mCache.getFileInfo(FILE_ID);
+    Assert.assertEquals(0, fileInfo.getLength());
+
+    fileInfo.setLength(20);
+    Assert.assertEquals(0, mCache.getFileInfo(FILE_ID).getLength());
+  }
+
+  /**
+   * Tests that invalidating a file drops its info and the listings, but keeps the ids.
+   */
+  @Test
+  public void invalidateFileTest() {
+    mCache.putListing(DIR_ID, Lists.newArrayList(mFileInfo));
+    mCache.invalidateFile(FILE_ID);
+    Assert.assertNull(mCache.getFileInfo(FILE_ID));
+    Assert.assertNull(mCache.getListing(DIR_ID));
+    Assert.assertEquals(Long.valueOf(FILE_ID), mCache.getFileId(FILE_PATH));
+  }
+
+  /**
+   * Tests that invalidating everything drops the ids as well.
+   */
+  @Test
+  public void invalidateAllTest() {
+    mCache.putFileInfo(mFileInfo);
+    mCache.invalidateListings();
+    Assert.assertNotNull(mCache.getFileInfo(FILE_ID));
+    mCache.invalidateAll();
+    Assert.assertNull(mCache.getFileInfo(FILE_ID));
+    Assert.assertNull(mCache.getFileId(FILE_PATH));
+  }
+}
@@ -30,7 +30,9 @@ import tachyon.TachyonURI;
 import tachyon.client.file.FileOutStream;
 import tachyon.client.file.FileSystemContext;
 import tachyon.client.file.FileSystemMasterClient;
+import tachyon.client.file.MetadataCache;
 import tachyon.client.file.options.OutStreamOptions;
+import tachyon.conf.TachyonConf;
 import tachyon.exception.LineageDoesNotExistException;
 
 /**
@@ -62,6 +64,8 @@ public final class TachyonLineageFileSystemTest {
     mFileSystemContext = PowerMockito.mock(FileSystemContext.class);
     mFileSystemMasterClient = PowerMockito.mock(FileSystemMasterClient.class);
     Mockito.when(mFileSystemContext.acquireMasterClient()).thenReturn(mFileSystemMasterClient);
+    Mockito.when(mFileSystemContext.getMetadataCache())
+        .thenReturn(new MetadataCache(new TachyonConf()));
     Whitebox.setInternalState(FileSystemContext.class, "INSTANCE", mFileSystemContext);
     Whitebox.setInternalState(mTachyonLineageFileSystem, "mContext", mFileSystemContext);
   }
@@ -76,7 +76,7 @@ public class ClientHandlerTest {
         Mockito.mock(ClientHandler.ResponseListener.class);
     final DataBuffer buffer = Mockito.mock(DataBuffer.class);
     final RPCResponse response = new RPCBlockReadResponse(0, 0, 0, buffer,
-        RPCResponse.Status.SUCCESS);
+        RPCResponse.Status.SUCCESS, 0);
 
     mHandler.addListener(listener);
     mHandler.channelRead0(mContext, response);
@@ -92,7 +92,7 @@ public class ClientHandlerTest {
    */
   @Test
   public void channelRead0ThrowsExceptionTest() throws IOException {
-    final RPCMessage message = new RPCBlockReadRequest(0, 0, 0, 0, 0);
+    final RPCMessage message = new RPCBlockReadRequest(0, 0, 0, 0, 0, 0);
     mThrown.expect(IllegalArgumentException.class);
     mThrown.expectMessage(ExceptionMessage.NO_RPC_HANDLER.getMessage(message.getType()));
 
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.netty;
+
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.google.common.util.concurrent.SettableFuture;
+
+import io.netty.channel.ChannelHandlerContext;
+
+import tachyon.network.protocol.RPCBlockReadResponse;
+import tachyon.network.protocol.RPCErrorResponse;
+import tachyon.network.protocol.RPCResponse;
+import tachyon.network.protocol.databuffer.DataBuffer;
+
+/**
+ * Tests for the {@link MultiplexedClientHandler} class.
+ */
+public class MultiplexedClientHandlerTest {
+  private MultiplexedClientHandler mHandler;
+  private ChannelHandlerContext mContext;
+
+  /**
+   * Sets up the handler before a test runs.
+   */
+  @Before
+  public void before() {
+    mHandler = new MultiplexedClientHandler();
+    mContext = Mockito.mock(ChannelHandlerContext.class);
+  }
+
+  /**
+   * Makes sure that responses are handed to the request they answer, regardless of their order.
+   *
+   * @throws Exception when receiving the responses fails
+   */
+  @Test
+  public void matchResponsesByRequestIdTest() throws Exception {
+    SettableFuture<RPCResponse> first = mHandler.register(1);
+    SettableFuture<RPCResponse> second = mHandler.register(2);
+    RPCResponse secondResponse = newResponse(2, null);
+    RPCResponse firstResponse = newResponse(1, null);
+
+    mHandler.channelRead0(mContext, secondResponse);
+    Assert.assertFalse(first.isDone());
+    Assert.assertSame(secondResponse, second.get());
+    mHandler.channelRead0(mContext, firstResponse);
+    Assert.assertSame(firstResponse, first.get());
+  }
+
+  /**
+   * Makes sure that the payload of a response nobody waits for any more is released.
+   *
+   * @throws Exception when receiving the response fails
+   */
+  @Test
+  public void releaseUnclaimedResponseTest() throws Exception {
+    DataBuffer payload = Mockito.mock(DataBuffer.class);
+    SettableFuture<RPCResponse> future = mHandler.register(1);
+    mHandler.unregister(1);
+
+    mHandler.channelRead0(mContext, newResponse(1, payload));
+
+    Assert.assertFalse(future.isDone());
+    Mockito.verify(payload).release();
+  }
+
+  /**
+   * Makes sure that a response without a request id fails every pending request.
+   *
+   * @throws Exception when receiving the response fails
+   */
+  @Test
+  public void untaggedResponseFailsAllTest() throws Exception {
+    SettableFuture<RPCResponse> first = mHandler.register(1);
+    SettableFuture<RPCResponse> second = mHandler.register(2);
+
+    mHandler.channelRead0(mContext, new RPCErrorResponse(RPCResponse.Status.DECODE_ERROR));
+
+    assertFailed(first);
+    assertFailed(second);
+    Mockito.verify(mContext).close();
+  }
+
+  /**
+   * Makes sure that pending requests fail when the channel is closed.
+   *
+   * @throws Exception when the channel becoming inactive cannot be handled
+   */
+  @Test
+  public void channelInactiveFailsAllTest() throws Exception {
+    SettableFuture<RPCResponse> future = mHandler.register(1);
+
+    mHandler.channelInactive(mContext);
+
+    assertFailed(future);
+  }
+
+  private RPCResponse newResponse(long requestId, DataBuffer payload) {
+    return new RPCBlockReadResponse(0, 0, 0, payload, RPCResponse.Status.SUCCESS, requestId);
+  }
+
+  private void assertFailed(SettableFuture<RPCResponse> future) throws InterruptedException {
+    try {
+      future.get();
+      Assert.fail("the request should have failed");
+    } catch (ExecutionException e) {
+      // expected
+    }
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.netty;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import tachyon.network.protocol.RPCBlockReadRequest;
+import tachyon.network.protocol.RPCBlockReadResponse;
+import tachyon.network.protocol.RPCResponse;
+import tachyon.network.protocol.databuffer.DataBuffer;
+import tachyon.network.protocol.databuffer.DataByteBuffer;
+
+/**
+ * Tests for the {@link NettyBlockChunkStream} class.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(NettyChannelManager.class)
+public class NettyBlockChunkStreamTest {
+  private static final long BLOCK_ID = 1;
+  private static final long OFFSET = 10;
+  private static final int CHUNK_LENGTH = 8;
+  private static final int CHUNKS = NettyBlockChunkStream.MAX_BUFFERED_CHUNKS + 2;
+  private static final long TIMEOUT_MS = 1000;
+
+  private MultiplexedClientHandler mHandler;
+  private EmbeddedChannel mChannel;
+  private NettyBlockChunkStream mStream;
+
+  /**
+   * Sets up a stream, attached to a channel, before a test runs. The request is never sent; the
+   * tests hand the responses to the stream directly.
+   */
+  @Before
+  public void before() {
+    mHandler = new MultiplexedClientHandler();
+    mChannel = new EmbeddedChannel(mHandler);
+    RPCBlockReadRequest request = new RPCBlockReadRequest(BLOCK_ID, OFFSET,
+        CHUNK_LENGTH * CHUNKS, 0, 0, 1, CHUNK_LENGTH);
+    mStream = new NettyBlockChunkStream(new NettyChannelManager(1),
+        new InetSocketAddress("localhost", 0), request, TIMEOUT_MS);
+  }
+
+  /**
+   * Makes sure that the chunks are read in order, and that the end of the range is reported.
+   *
+   * @throws Exception when reading the chunks fails
+   */
+  @Test
+  public void readChunksTest() throws Exception {
+    for (int i = 0; i < CHUNKS; i++) {
+      boolean last = mStream.onResponse(mHandler, newChunk(i, newData(i)));
+      Assert.assertEquals(i == CHUNKS - 1, last);
+    }
+    for (int i = 0; i < CHUNKS; i++) {
+      ByteBuffer chunk = mStream.next();
+      Assert.assertEquals(CHUNK_LENGTH, chunk.remaining());
+      Assert.assertEquals((byte) i, chunk.get());
+    }
+    Assert.assertNull(mStream.next());
+  }
+
+  /**
+   * Makes sure that reading from the channel is paused while too many chunks are buffered, and
+   * resumed once the stream is read.
+   *
+   * @throws Exception when reading the chunks fails
+   */
+  @Test
+  public void pauseReadingTest() throws Exception {
+    for (int i = 0; i < NettyBlockChunkStream.MAX_BUFFERED_CHUNKS; i++) {
+      Assert.assertTrue(mChannel.config().isAutoRead());
+      mStream.onResponse(mHandler, newChunk(i, newData(i)));
+    }
+    Assert.assertFalse(mChannel.config().isAutoRead());
+    mStream.next();
+    Assert.assertTrue(mChannel.config().isAutoRead());
+  }
+
+  /**
+   * Makes sure that a chunk which does not continue the range fails the stream.
+   *
+   * @throws Exception when handing the chunk to the stream fails
+   */
+  @Test
+  public void unexpectedChunkTest() throws Exception {
+    DataBuffer data = Mockito.mock(DataBuffer.class);
+    Assert.assertTrue(mStream.onResponse(mHandler, newChunk(1, data)));
+    Mockito.verify(data).release();
+    try {
+      mStream.next();
+      Assert.fail("reading an unexpected chunk should fail");
+    } catch (IOException e) {
+      // expected
+    }
+  }
+
+  /**
+   * Makes sure that an error response fails the stream.
+   *
+   * @throws Exception when handing the response to the stream fails
+   */
+  @Test
+  public void errorResponseTest() throws Exception {
+    mStream.onResponse(mHandler, new RPCBlockReadResponse(BLOCK_ID, OFFSET, 0, null,
+        RPCResponse.Status.FILE_DNE, 1));
+    try {
+      mStream.next();
+      Assert.fail("reading after an error response should fail");
+    } catch (IOException e) {
+      Assert.assertTrue(e.getMessage().startsWith(RPCResponse.Status.FILE_DNE.getMessage()));
+    }
+  }
+
+  /**
+   * Makes sure that closing the stream releases the buffered chunks, discards the ones still to
+   * come, and resumes reading from the channel.
+   *
+   * @throws Exception when handing the chunks to the stream fails
+   */
+  @Test
+  public void closeTest() throws Exception {
+    DataBuffer[] data = new DataBuffer[CHUNKS];
+    for (int i = 0; i < CHUNKS; i++) {
+      data[i] = Mockito.mock(DataBuffer.class);
+      Mockito.when(data[i].getLength()).thenReturn((long) CHUNK_LENGTH);
+    }
+    for (int i = 0; i < NettyBlockChunkStream.MAX_BUFFERED_CHUNKS; i++) {
+      mStream.onResponse(mHandler, newChunk(i, data[i]));
+    }
+    mStream.close();
+    Assert.assertTrue(mChannel.config().isAutoRead());
+    for (int i = NettyBlockChunkStream.MAX_BUFFERED_CHUNKS; i < CHUNKS; i++) {
+      boolean last = mStream.onResponse(mHandler, newChunk(i, data[i]));
+      Assert.assertEquals(i == CHUNKS - 1, last);
+    }
+    for (DataBuffer buffer : data) {
+      Mockito.verify(buffer).release();
+    }
+  }
+
+  /**
+   * Makes sure that closing the stream while most of the range is still to come cancels the
+   * request, instead of waiting for the rest of the range.
+   *
+   * @throws Exception when handing the chunk to the stream fails
+   */
+  @Test
+  public void closeCancelsTest() throws Exception {
+    NettyChannelManager channelManager = PowerMockito.mock(NettyChannelManager.class);
+    InetSocketAddress address = new InetSocketAddress("localhost", 0);
+    int chunks = NettyBlockChunkStream.MAX_DISCARDED_CHUNKS + 2;
+    RPCBlockReadRequest request = new RPCBlockReadRequest(BLOCK_ID, OFFSET,
+        CHUNK_LENGTH * chunks, 0, 0, 1, CHUNK_LENGTH);
+    NettyBlockChunkStream stream =
+        new NettyBlockChunkStream(channelManager, address, request, TIMEOUT_MS);
+    DataBuffer data = Mockito.mock(DataBuffer.class);
+    Mockito.when(data.getLength()).thenReturn((long) CHUNK_LENGTH);
+    stream.onResponse(mHandler, newChunk(0, data));
+
+    stream.close();
+    Mockito.verify(data).release();
+    Mockito.verify(channelManager).cancel(address, request.getRequestId());
+  }
+
+  private RPCBlockReadResponse newChunk(int index, DataBuffer data) {
+    return new RPCBlockReadResponse(BLOCK_ID, OFFSET + index * CHUNK_LENGTH, CHUNK_LENGTH, data,
+        RPCResponse.Status.SUCCESS, 1);
+  }
+
+  private DataBuffer newData(int index) {
+    byte[] data = new byte[CHUNK_LENGTH];
+    data[0] = (byte) index;
+    return new DataByteBuffer(ByteBuffer.wrap(data), CHUNK_LENGTH);
+  }
+}
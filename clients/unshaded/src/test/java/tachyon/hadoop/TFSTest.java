@@ -42,6 +42,7 @@ import tachyon.Constants;
 import tachyon.client.ClientContext;
 import tachyon.client.file.FileSystemContext;
 import tachyon.client.file.FileSystemMasterClient;
+import tachyon.client.file.MetadataCache;
 import tachyon.client.file.TachyonFileSystem;
 import tachyon.conf.TachyonConf;
 
@@ -166,6 +167,7 @@ public class TFSTest {
         PowerMockito.mock(FileSystemMasterClient.class);
     Whitebox.setInternalState(FileSystemContext.class, "INSTANCE", mockContext);
     Mockito.when(mockContext.acquireMasterClient()).thenReturn(mockMaster);
+    Mockito.when(mockContext.getMetadataCache()).thenReturn(new MetadataCache(new TachyonConf()));
   }
 
   private void mockUserGroupInformation() throws IOException {
@@ -207,13 +207,27 @@ public final class Constants {
   public static final String MASTER_HEARTBEAT_INTERVAL_MS = "tachyon.master.heartbeat.interval.ms";
   public static final String MASTER_TTLCHECKER_INTERVAL_MS =
       "tachyon.master.ttlchecker.interval.ms";
+  public static final String MASTER_TTLCHECKER_BATCH_SIZE =
+      "tachyon.master.ttlchecker.batch.size";
   public static final String MASTER_WORKER_THREADS_MAX = "tachyon.master.worker.threads.max";
   public static final String MASTER_WORKER_THREADS_MIN = "tachyon.master.worker.threads.min";
   public static final String MASTER_WORKER_TIMEOUT_MS = "tachyon.master.worker.timeout.ms";
+  public static final String MASTER_RPC_SERVER_TYPE = "tachyon.master.rpc.server.type";
+  public static final String MASTER_RPC_SELECTOR_THREADS = "tachyon.master.rpc.selector.threads";
   public static final String MASTER_WHITELIST = "tachyon.master.whitelist";
   public static final String MASTER_KEYTAB_KEY = "tachyon.master.keytab.file";
   public static final String MASTER_PRINCIPAL_KEY = "tachyon.master.principal";
   public static final String MASTER_RETRY_COUNT = "tachyon.master.retry";
+  public static final String MASTER_UFS_BLOCK_LOCATION_CACHE_MAX_BLOCKS =
+      "tachyon.master.ufs.block.location.cache.max.blocks";
+  public static final String MASTER_UFS_BLOCK_LOCATION_CACHE_TTL_MS =
+      "tachyon.master.ufs.block.location.cache.ttl.ms";
+  public static final String MASTER_UFS_BLOCK_LOCATION_THREADS =
+      "tachyon.master.ufs.block.location.threads";
+  public static final String MASTER_UFS_BLOCK_LOCATION_TIMEOUT_MS =
+      "tachyon.master.ufs.block.location.timeout.ms";
+  public static final String MASTER_LOAD_METADATA_THREADS =
+      "tachyon.master.load.metadata.threads";
   public static final String MASTER_LINEAGE_CHECKPOINT_CLASS =
       "tachyon.master.lineage.checkpoint.class";
   public static final String MASTER_LINEAGE_CHECKPOINT_INTERVAL_MS =
@@ -242,9 +256,13 @@ public final class Constants {
       "tachyon.worker.block.heartbeat.timeout.ms";
   public static final String WORKER_BLOCK_HEARTBEAT_INTERVAL_MS =
       "tachyon.worker.block.heartbeat.interval.ms";
+  public static final String WORKER_BLOCK_REGISTER_CHUNK_SIZE =
+      "tachyon.worker.block.register.chunk.size";
   public static final String WORKER_SESSION_TIMEOUT_MS = "tachyon.worker.session.timeout.ms";
   public static final String WORKER_WORKER_BLOCK_THREADS_MAX = "tachyon.worker.block.threads.max";
   public static final String WORKER_WORKER_BLOCK_THREADS_MIN = "tachyon.worker.block.threads.min";
+  public static final String WORKER_RPC_SERVER_TYPE = "tachyon.worker.rpc.server.type";
+  public static final String WORKER_RPC_SELECTOR_THREADS = "tachyon.worker.rpc.selector.threads";
   public static final String WORKER_NETWORK_NETTY_BOSS_THREADS =
       "tachyon.worker.network.netty.boss.threads";
   public static final String WORKER_NETWORK_NETTY_WORKER_THREADS =
@@ -265,16 +283,28 @@ public final class Constants {
       "tachyon.worker.network.netty.shutdown.quiet.period";
   public static final String WORKER_NETWORK_NETTY_SHUTDOWN_TIMEOUT =
       "tachyon.worker.network.netty.shutdown.timeout";
+  public static final String WORKER_NETWORK_NETTY_IDLE_TIMEOUT_MS =
+      "tachyon.worker.network.netty.idle.timeout.ms";
+  public static final String WORKER_NETWORK_NETTY_WRITE_RESERVATION_BYTES =
+      "tachyon.worker.network.netty.write.reservation.bytes";
   public static final String WORKER_ALLOCATOR_CLASS = "tachyon.worker.allocator.class";
   public static final String WORKER_EVICTOR_CLASS = "tachyon.worker.evictor.class";
   public static final String WORKER_EVICTOR_LRFU_STEP_FACTOR =
       "tachyon.worker.evictor.lrfu.step.factor";
   public static final String WORKER_EVICTOR_LRFU_ATTENUATION_FACTOR =
       "tachyon.worker.evictor.lrfu.attenuation.factor";
+  public static final String WORKER_EVICTOR_TINYLFU_WINDOW_RATIO =
+      "tachyon.worker.evictor.tinylfu.window.ratio";
+  public static final String WORKER_EVICTOR_TINYLFU_PROTECTED_RATIO =
+      "tachyon.worker.evictor.tinylfu.protected.ratio";
   public static final String WORKER_TIERED_STORE_LEVELS =
       "tachyon.worker.tieredstore.levels";
   public static final String WORKER_FILESYSTEM_HEARTBEAT_INTERVAL_MS =
       "tachyon.worker.filesystem.heartbeat.interval.ms";
+  public static final String WORKER_FILESYSTEM_PERSIST_BUFFER_SIZE_BYTES =
+      "tachyon.worker.filesystem.persist.buffer.size.bytes";
+  public static final String WORKER_FILESYSTEM_PERSIST_POOL_SIZE =
+      "tachyon.worker.filesystem.persist.pool.size";
 
   public static final String WORKER_TIERED_STORE_BLOCK_LOCKS =
       "tachyon.worker.tieredstore.block.locks";
@@ -302,6 +332,12 @@ public final class Constants {
    */
   public static final String WORKER_TIERED_STORE_LEVEL_RESERVED_RATIO_FORMAT =
       "tachyon.worker.tieredstore.level%d.reserved.ratio";
+  /**
+   * This format is used as a template to generate the property name for a given level. e.g.,
+   * {@code String.format(Constants.WORKER_TIERED_STORE_LEVEL_HIGH_WATERMARK_RATIO_FORMAT, level)}
+   */
+  public static final String WORKER_TIERED_STORE_LEVEL_HIGH_WATERMARK_RATIO_FORMAT =
+      "tachyon.worker.tieredstore.level%d.watermark.high.ratio";
 
   public static final String WORKER_TIERED_STORE_RESERVER_INTERVAL_MS =
       "tachyon.worker.tieredstore.reserver.interval.ms";
@@ -324,12 +360,25 @@ public final class Constants {
   public static final String USER_NETWORK_NETTY_CHANNEL = "tachyon.user.network.netty.channel";
   public static final String USER_NETWORK_NETTY_TIMEOUT_MS =
       "tachyon.user.network.netty.timeout.ms";
+  public static final String USER_NETWORK_NETTY_CHANNEL_POOL_SIZE =
+      "tachyon.user.network.netty.channel.pool.size";
+  public static final String USER_NETWORK_NETTY_READ_CHUNK_SIZE_BYTES =
+      "tachyon.user.network.netty.read.chunk.size.bytes";
   public static final String USER_BLOCK_REMOTE_READ_BUFFER_SIZE_BYTES =
       "tachyon.user.block.remote.read.buffer.size.bytes";
+  public static final String USER_BLOCK_REMOTE_READ_AHEAD_BYTES =
+      "tachyon.user.block.remote.read.ahead.bytes";
   public static final String USER_FILE_WRITE_TYPE_DEFAULT = "tachyon.user.file.writetype.default";
   public static final String USER_FILE_READ_TYPE_DEFAULT = "tachyon.user.file.readtype.default";
   public static final String USER_FILE_WRITE_LOCATION_POLICY =
       "tachyon.user.file.write.location.policy.class";
+  public static final String USER_BLOCK_LOCAL_READ_TYPE = "tachyon.user.block.local.read.type";
+  public static final String USER_BLOCK_LOCAL_LOCK_LEASE_MS =
+      "tachyon.user.block.local.lock.lease.ms";
+  public static final String USER_BLOCK_LOCATION_CACHE_MAX_FILES =
+      "tachyon.user.block.location.cache.max.files";
+  public static final String USER_BLOCK_LOCATION_CACHE_TTL_MS =
+      "tachyon.user.block.location.cache.ttl.ms";
   public static final String USER_BLOCK_REMOTE_READER =
       "tachyon.user.block.remote.reader.class";
   public static final String USER_BLOCK_REMOTE_WRITER =
@@ -343,6 +392,9 @@ public final class Constants {
   public static final String USER_LINEAGE_MASTER_CLIENT_THREADS =
       "tachyon.user.lineage.master.client.threads";
   public static final String USER_LINEAGE_ENABLED = "tachyon.user.lineage.enabled";
+  public static final String USER_METADATA_CACHE_ENABLED = "tachyon.user.metadata.cache.enabled";
+  public static final String USER_METADATA_CACHE_LEASE_MS = "tachyon.user.metadata.cache.lease.ms";
+  public static final String USER_METADATA_CACHE_MAX_SIZE = "tachyon.user.metadata.cache.max.size";
   public static final String USER_RAW_TABLE_MASTER_CLIENT_THREADS =
       "tachyon.user.raw.table.master.client.threads";
 
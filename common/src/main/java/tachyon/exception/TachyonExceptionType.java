@@ -29,6 +29,7 @@ public enum TachyonExceptionType {
   FILE_ALREADY_COMPLETED(FileAlreadyCompletedException.class),
   FILE_ALREADY_EXISTS(FileAlreadyExistsException.class),
   FILE_DOES_NOT_EXIST(FileDoesNotExistException.class),
+  INVALID_ARGUMENT(InvalidArgumentException.class),
   INVALID_FILE_SIZE(InvalidFileSizeException.class),
   INVALID_PATH(InvalidPathException.class),
   INVALID_WORKER_STATE(InvalidWorkerStateException.class),
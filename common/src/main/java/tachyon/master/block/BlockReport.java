@@ -0,0 +1,241 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.block;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+
+/**
+ * Encodes the blocks on a worker, grouped by storage tier alias, into compact block reports, and
+ * decodes them again. A report holds:
+ * <ul>
+ * <li>the storage tier aliases;</li>
+ * <li>the block ids in ascending order, each stored as the variable-length difference from the
+ * previous one, so that the mostly consecutive ids of a container take a byte each;</li>
+ * <li>a bitmap over the block ids for every tier but the last, marking the blocks on that tier.
+ * The blocks marked in none of the bitmaps are on the last tier.</li>
+ * </ul>
+ * A large set of blocks can be split into several reports, each of which is decoded on its own.
+ */
+public final class BlockReport {
+  private BlockReport() {} // prevent instantiation
+
+  /**
+   * Encodes the given blocks into a single block report.
+   *
+   * @param blocksOnTiers a mapping from storage tier alias to the ids of the blocks on that tier
+   * @return the block report
+   */
+  public static ByteBuffer encode(Map<String, List<Long>> blocksOnTiers) {
+    return encode(blocksOnTiers, Integer.MAX_VALUE).get(0);
+  }
+
+  /**
+   * Encodes the given blocks into block reports of at most the given number of blocks. Every
+   * report lists all the tiers, even the ones without blocks in it.
+   *
+   * @param blocksOnTiers a mapping from storage tier alias to the ids of the blocks on that tier
+   * @param maxBlocksPerReport the maximum number of blocks in each report
+   * @return the block reports, at least one
+   */
+  public static List<ByteBuffer> encode(Map<String, List<Long>> blocksOnTiers,
+      int maxBlocksPerReport) {
+    Preconditions.checkArgument(maxBlocksPerReport > 0,
+        "The number of blocks per report must be positive: %s", maxBlocksPerReport);
+    List<String> tiers = new ArrayList<String>(blocksOnTiers.keySet());
+    int numBlocks = 0;
+    long[][] tierBlocks = new long[tiers.size()][];
+    for (int tier = 0; tier < tiers.size(); tier ++) {
+      List<Long> blockIds = blocksOnTiers.get(tiers.get(tier));
+      tierBlocks[tier] = new long[blockIds.size()];
+      for (int i = 0; i < blockIds.size(); i ++) {
+        tierBlocks[tier][i] = blockIds.get(i);
+      }
+      Arrays.sort(tierBlocks[tier]);
+      numBlocks += blockIds.size();
+    }
+
+    // Merge the sorted blocks of the tiers, remembering which tier each block came from.
+    long[] blockIds = new long[numBlocks];
+    int[] blockTiers = new int[numBlocks];
+    int[] next = new int[tiers.size()];
+    for (int i = 0; i < numBlocks; i ++) {
+      int minTier = -1;
+      for (int tier = 0; tier < tiers.size(); tier ++) {
+        if (next[tier] < tierBlocks[tier].length && (minTier == -1
+            || tierBlocks[tier][next[tier]] < tierBlocks[minTier][next[minTier]])) {
+          minTier = tier;
+        }
+      }
+      blockIds[i] = tierBlocks[minTier][next[minTier] ++];
+      blockTiers[i] = minTier;
+    }
+
+    List<ByteBuffer> reports = new ArrayList<ByteBuffer>();
+    int start = 0;
+    do {
+      int end = (int) Math.min((long) start + maxBlocksPerReport, numBlocks);
+      reports.add(encodeRange(tiers, blockIds, blockTiers, start, end));
+      start = end;
+    } while (start < numBlocks);
+    return reports;
+  }
+
+  /**
+   * Decodes a block report.
+   *
+   * @param report the block report, which is not consumed
+   * @return a mapping from storage tier alias to the ids of the blocks on that tier, in ascending
+   *         order
+   * @throws IllegalArgumentException if the report is malformed
+   */
+  public static Map<String, List<Long>> decode(ByteBuffer report) {
+    ByteBuffer buffer = report.duplicate();
+    try {
+      int numTiers = readLength(buffer);
+      List<List<Long>> tierBlocks = new ArrayList<List<Long>>(numTiers);
+      Map<String, List<Long>> blocksOnTiers = new LinkedHashMap<String, List<Long>>();
+      for (int tier = 0; tier < numTiers; tier ++) {
+        byte[] alias = new byte[readLength(buffer)];
+        buffer.get(alias);
+        List<Long> blockIds = new ArrayList<Long>();
+        tierBlocks.add(blockIds);
+        blocksOnTiers.put(new String(alias, Charsets.UTF_8), blockIds);
+      }
+
+      int numBlocks = readLength(buffer);
+      Preconditions.checkArgument(numBlocks == 0 || numTiers > 0,
+          "Block report has %s blocks but no tiers", numBlocks);
+      long[] blockIds = new long[numBlocks];
+      long blockId = 0;
+      for (int i = 0; i < numBlocks; i ++) {
+        blockId += readVarLong(buffer);
+        blockIds[i] = blockId;
+      }
+
+      int bitmapBytes = getBitmapBytes(numBlocks);
+      int bitmapsStart = buffer.position();
+      Preconditions.checkArgument(buffer.remaining() == (numTiers - 1) * bitmapBytes,
+          "Block report has %s bytes of tier bitmaps, expected %s", buffer.remaining(),
+          (numTiers - 1) * bitmapBytes);
+      for (int i = 0; i < numBlocks; i ++) {
+        int tier = numTiers - 1;
+        for (int bitmap = 0; bitmap < numTiers - 1; bitmap ++) {
+          if ((buffer.get(bitmapsStart + bitmap * bitmapBytes + i / 8) & (1 << (i % 8))) != 0) {
+            tier = bitmap;
+            break;
+          }
+        }
+        tierBlocks.get(tier).add(blockIds[i]);
+      }
+      return blocksOnTiers;
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Block report is truncated", e);
+    }
+  }
+
+  private static ByteBuffer encodeRange(List<String> tiers, long[] blockIds, int[] blockTiers,
+      int start, int end) {
+    int numBlocks = end - start;
+    byte[][] aliases = new byte[tiers.size()][];
+    int size = varLongSize(tiers.size()) + varLongSize(numBlocks);
+    for (int tier = 0; tier < tiers.size(); tier ++) {
+      aliases[tier] = tiers.get(tier).getBytes(Charsets.UTF_8);
+      size += varLongSize(aliases[tier].length) + aliases[tier].length;
+    }
+    long previous = 0;
+    for (int i = start; i < end; i ++) {
+      size += varLongSize(blockIds[i] - previous);
+      previous = blockIds[i];
+    }
+    int bitmapBytes = getBitmapBytes(numBlocks);
+    size += Math.max(tiers.size() - 1, 0) * bitmapBytes;
+
+    ByteBuffer buffer = ByteBuffer.allocate(size);
+    writeVarLong(buffer, tiers.size());
+    for (byte[] alias : aliases) {
+      writeVarLong(buffer, alias.length);
+      buffer.put(alias);
+    }
+    writeVarLong(buffer, numBlocks);
+    previous = 0;
+    for (int i = start; i < end; i ++) {
+      // Ids are sorted as signed numbers, so the difference is never negative once taken as an
+      // unsigned number; the wrap-around on decoding undoes it.
+      writeVarLong(buffer, blockIds[i] - previous);
+      previous = blockIds[i];
+    }
+    int bitmapsStart = buffer.position();
+    for (int i = start; i < end; i ++) {
+      if (blockTiers[i] < tiers.size() - 1) {
+        int index = bitmapsStart + blockTiers[i] * bitmapBytes + (i - start) / 8;
+        buffer.put(index, (byte) (buffer.get(index) | (1 << ((i - start) % 8))));
+      }
+    }
+    buffer.position(buffer.limit());
+    buffer.flip();
+    return buffer;
+  }
+
+  private static int getBitmapBytes(int numBlocks) {
+    return (numBlocks + 7) / 8;
+  }
+
+  private static int readLength(ByteBuffer buffer) {
+    long length = readVarLong(buffer);
+    // Every counted item takes at least one byte.
+    Preconditions.checkArgument(length >= 0 && length <= buffer.remaining(),
+        "Invalid length %s in block report", length);
+    return (int) length;
+  }
+
+  private static long readVarLong(ByteBuffer buffer) {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = buffer.get();
+      value |= (long) (b & 0x7f) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed variable-length number in block report");
+  }
+
+  private static void writeVarLong(ByteBuffer buffer, long value) {
+    while ((value & ~0x7fL) != 0) {
+      buffer.put((byte) ((value & 0x7f) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  private static int varLongSize(long value) {
+    int size = 1;
+    while ((value & ~0x7fL) != 0) {
+      size ++;
+      value >>>= 7;
+    }
+    return size;
+  }
+}
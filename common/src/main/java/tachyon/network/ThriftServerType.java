@@ -0,0 +1,45 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.network;
+
+/**
+ * What type of Thrift server to serve the RPC services with.
+ */
+public enum ThriftServerType {
+  /**
+   * A blocking server which takes a thread from its worker pool for every open connection, for as
+   * long as the connection is open.
+   */
+  THREAD_POOL,
+  /**
+   * A non-blocking server where a single selector thread reads and writes the requests of all
+   * connections, and a bounded worker pool runs them. Only works with framed transport, so the
+   * authentication type must be NOSASL.
+   */
+  HSHA,
+  /**
+   * Like {@link #HSHA}, but connections are spread over several selector threads, plus one thread
+   * to accept them. Only works with framed transport, so the authentication type must be NOSASL.
+   */
+  THREADED_SELECTOR;
+
+  /**
+   * @return true if servers of this type serve their connections without blocking, false otherwise
+   */
+  public boolean isNonblocking() {
+    return this != THREAD_POOL;
+  }
+}
@@ -29,22 +29,49 @@ public final class RPCBlockReadRequest extends RPCRequest {
   private final long mLength;
   private final long mLockId;
   private final long mSessionId;
+  private final long mRequestId;
+  private final long mChunkLength;
 
   /**
-   * Constructs a new RPC request to read a block from a DataServer.
+   * Constructs a new RPC request to read a block from a DataServer. The whole range is returned in
+   * a single response.
    *
    * @param blockId the id of the block
    * @param offset the block offset to begin reading at
    * @param length the number of bytes to read
    * @param lockId the id of the block lock that is held by the client
    * @param sessionId the id of the client session
+   * @param requestId the id of the request, echoed in the response so the client can match
+   *        responses to requests sharing a channel
    */
-  public RPCBlockReadRequest(long blockId, long offset, long length, long lockId, long sessionId) {
+  public RPCBlockReadRequest(long blockId, long offset, long length, long lockId, long sessionId,
+      long requestId) {
+    this(blockId, offset, length, lockId, sessionId, requestId, 0);
+  }
+
+  /**
+   * Constructs a new RPC request to read a block from a DataServer. If {@code chunkLength} is
+   * positive, the range is streamed back as a sequence of responses, each holding at most
+   * {@code chunkLength} bytes, in order of their offsets.
+   *
+   * @param blockId the id of the block
+   * @param offset the block offset to begin reading at
+   * @param length the number of bytes to read
+   * @param lockId the id of the block lock that is held by the client
+   * @param sessionId the id of the client session
+   * @param requestId the id of the request, echoed in the response so the client can match
+   *        responses to requests sharing a channel
+   * @param chunkLength the maximum number of bytes per response, or 0 for a single response
+   */
+  public RPCBlockReadRequest(long blockId, long offset, long length, long lockId, long sessionId,
+      long requestId, long chunkLength) {
     mBlockId = blockId;
     mOffset = offset;
     mLength = length;
     mLockId = lockId;
     mSessionId = sessionId;
+    mRequestId = requestId;
+    mChunkLength = chunkLength;
   }
 
   @Override
@@ -64,13 +91,16 @@ public final class RPCBlockReadRequest extends RPCRequest {
     long length = in.readLong();
     long lockId = in.readLong();
     long sessionId = in.readLong();
-    return new RPCBlockReadRequest(blockId, offset, length, lockId, sessionId);
+    long requestId = in.readLong();
+    long chunkLength = in.readLong();
+    return new RPCBlockReadRequest(blockId, offset, length, lockId, sessionId, requestId,
+        chunkLength);
   }
 
   @Override
   public int getEncodedLength() {
-    // 5 longs (mBLockId, mOffset, mLength, mLockId, mSessionId)
-    return Longs.BYTES * 5;
+    // 7 longs (mBLockId, mOffset, mLength, mLockId, mSessionId, mRequestId, mChunkLength)
+    return Longs.BYTES * 7;
   }
 
   @Override
@@ -80,6 +110,8 @@ public final class RPCBlockReadRequest extends RPCRequest {
     out.writeLong(mLength);
     out.writeLong(mLockId);
     out.writeLong(mSessionId);
+    out.writeLong(mRequestId);
+    out.writeLong(mChunkLength);
   }
 
   @Override
@@ -87,12 +119,14 @@ public final class RPCBlockReadRequest extends RPCRequest {
     Preconditions.checkState(mOffset >= 0, "Offset cannot be negative: %s", mOffset);
     Preconditions.checkState(mLength >= 0 || mLength == -1,
         "Length cannot be negative (except for -1): %s", mLength);
+    Preconditions.checkState(mChunkLength >= 0, "Chunk length cannot be negative: %s",
+        mChunkLength);
   }
 
   @Override
   public String toString() {
-    return String.format("RPCBlockReadRequest(%s, %s, %s, %s, %s)",
-        mBlockId, mOffset, mLength, mLockId, mSessionId);
+    return String.format("RPCBlockReadRequest(%s, %s, %s, %s, %s, %s, %s)",
+        mBlockId, mOffset, mLength, mLockId, mSessionId, mRequestId, mChunkLength);
   }
 
   /**
@@ -116,6 +150,14 @@ public final class RPCBlockReadRequest extends RPCRequest {
     return mOffset;
   }
 
+  /**
+   * @return the maximum number of bytes per response, or 0 if the range is returned in a single
+   *         response
+   */
+  public long getChunkLength() {
+    return mChunkLength;
+  }
+
   /**
    * @return the id of the lock
    */
@@ -129,4 +171,9 @@ public final class RPCBlockReadRequest extends RPCRequest {
   public long getSessionId() {
     return mSessionId;
   }
+
+  @Override
+  public long getRequestId() {
+    return mRequestId;
+  }
 }
@@ -33,6 +33,7 @@ public final class RPCBlockReadResponse extends RPCResponse {
   private final long mLength;
   private final DataBuffer mData;
   private final Status mStatus;
+  private final long mRequestId;
 
   /**
    * Constructs a new RPC response of a {@link RPCBlockReadRequest}.
@@ -42,14 +43,16 @@ public final class RPCBlockReadResponse extends RPCResponse {
    * @param length the number of bytes read
    * @param data the data for the response
    * @param status the status of the response
+   * @param requestId the id of the {@link RPCBlockReadRequest} this response answers
    */
   public RPCBlockReadResponse(long blockId, long offset, long length, DataBuffer data,
-      Status status) {
+      Status status, long requestId) {
     mBlockId = blockId;
     mOffset = offset;
     mLength = length;
     mData = data;
     mStatus = status;
+    mRequestId = requestId;
   }
 
   @Override
@@ -70,7 +73,8 @@ public final class RPCBlockReadResponse extends RPCResponse {
       final Status status) {
     Preconditions.checkArgument(status != Status.SUCCESS);
     // The response has no payload, so length must be 0.
-    return new RPCBlockReadResponse(request.getBlockId(), request.getOffset(), 0, null, status);
+    return new RPCBlockReadResponse(request.getBlockId(), request.getOffset(), 0, null, status,
+        request.getRequestId());
   }
 
   /**
@@ -84,19 +88,21 @@ public final class RPCBlockReadResponse extends RPCResponse {
     long offset = in.readLong();
     long length = in.readLong();
     short status = in.readShort();
+    long requestId = in.readLong();
 
     DataBuffer data = null;
     if (length > 0) {
       // use DataNettyBuffer instead of DataByteBuffer to avoid copying
       data = new DataNettyBuffer(in, (int) length);
     }
-    return new RPCBlockReadResponse(blockId, offset, length, data, Status.fromShort(status));
+    return new RPCBlockReadResponse(blockId, offset, length, data, Status.fromShort(status),
+        requestId);
   }
 
   @Override
   public int getEncodedLength() {
-    // 3 longs (mBLockId, mOffset, mLength) + 1 short (mStatus)
-    return Longs.BYTES * 3 + Shorts.BYTES;
+    // 3 longs (mBLockId, mOffset, mLength) + 1 short (mStatus) + 1 long (mRequestId)
+    return Longs.BYTES * 4 + Shorts.BYTES;
   }
 
   @Override
@@ -105,6 +111,7 @@ public final class RPCBlockReadResponse extends RPCResponse {
     out.writeLong(mOffset);
     out.writeLong(mLength);
     out.writeShort(mStatus.getId());
+    out.writeLong(mRequestId);
     // The actual payload is not encoded here, since the RPCMessageEncoder will transfer it in a
     // more efficient way.
   }
@@ -117,7 +124,7 @@ public final class RPCBlockReadResponse extends RPCResponse {
   @Override
   public String toString() {
     return "RPCBlockReadResponse(" + mBlockId + ", " + mOffset
-        + ", " + mLength + ", " + mStatus + ")";
+        + ", " + mLength + ", " + mStatus + ", " + mRequestId + ")";
   }
 
   /**
@@ -147,4 +154,9 @@ public final class RPCBlockReadResponse extends RPCResponse {
   public Status getStatus() {
     return mStatus;
   }
+
+  @Override
+  public long getRequestId() {
+    return mRequestId;
+  }
 }
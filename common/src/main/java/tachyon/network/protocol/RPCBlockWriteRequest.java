@@ -16,8 +16,12 @@
 package tachyon.network.protocol;
 
 import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
 
+import com.google.common.base.Preconditions;
 import com.google.common.primitives.Longs;
+import com.google.common.primitives.Shorts;
 
 import io.netty.buffer.ByteBuf;
 
@@ -28,14 +32,71 @@ import tachyon.network.protocol.databuffer.DataByteBuffer;
  * This represents the request to write a block to a DataServer.
  */
 public final class RPCBlockWriteRequest extends RPCRequest {
+  /**
+   * How the data server handles a write request.
+   */
+  public enum Mode {
+    /**
+     * The request is self-contained: the data server opens the block, writes the data, closes the
+     * block, acknowledges the write and closes the channel.
+     */
+    SINGLE(0),
+    /**
+     * The request is one packet of a write session. The data server keeps the block open on the
+     * channel between packets, and only answers a packet if writing it failed.
+     */
+    STREAM(1),
+    /**
+     * The request is the last packet of a write session. The data server writes its data, closes
+     * the block and acknowledges the whole session.
+     */
+    STREAM_END(2);
+
+    /** Mapping from short id to {@link Mode}. */
+    private static final Map<Short, Mode> SHORT_TO_MODE_MAP = new HashMap<Short, Mode>();
+    static {
+      for (Mode mode : Mode.values()) {
+        SHORT_TO_MODE_MAP.put(mode.getId(), mode);
+      }
+    }
+
+    private final short mId;
+
+    Mode(int id) {
+      mId = (short) id;
+    }
+
+    /**
+     * @return the short representing the mode
+     */
+    public short getId() {
+      return mId;
+    }
+
+    /**
+     * Returns the {@link Mode} represented by the short.
+     *
+     * @param id the short representing a {@link Mode}
+     * @return the {@link Mode} representing the given short
+     */
+    public static Mode fromShort(short id) {
+      Mode mode = SHORT_TO_MODE_MAP.get(id);
+      if (mode == null) {
+        throw new IllegalArgumentException("Unknown write mode: " + id);
+      }
+      return mode;
+    }
+  }
+
   private final long mSessionId;
   private final long mBlockId;
   private final long mOffset;
   private final long mLength;
+  private final Mode mMode;
   private final DataBuffer mData;
 
   /**
-   * Constructs a new request to write a block to a DataServer.
+   * Constructs a new self-contained request to write a block to a DataServer.
    *
    * @param sessionId the id of the session
    * @param blockId the id of the block
@@ -45,10 +106,26 @@ public final class RPCBlockWriteRequest extends RPCRequest {
    */
   public RPCBlockWriteRequest(long sessionId, long blockId, long offset, long length,
       DataBuffer data) {
+    this(sessionId, blockId, offset, length, Mode.SINGLE, data);
+  }
+
+  /**
+   * Constructs a new request to write a block to a DataServer.
+   *
+   * @param sessionId the id of the session
+   * @param blockId the id of the block
+   * @param offset the block offset to begin writing at
+   * @param length the number of bytes to write
+   * @param mode how the data server handles the request
+   * @param data the data
+   */
+  public RPCBlockWriteRequest(long sessionId, long blockId, long offset, long length, Mode mode,
+      DataBuffer data) {
     mSessionId = sessionId;
     mBlockId = blockId;
     mOffset = offset;
     mLength = length;
+    mMode = Preconditions.checkNotNull(mode);
     mData = data;
   }
 
@@ -68,21 +145,25 @@ public final class RPCBlockWriteRequest extends RPCRequest {
     long blockId = in.readLong();
     long offset = in.readLong();
     long length = in.readLong();
+    Mode mode = Mode.fromShort(in.readShort());
     // TODO(gene): Look into accessing Netty ByteBuf directly, to avoid copying the data.
     // Length will always be greater than 0 if the request is not corrupted. If length is negative,
     // ByteBuffer.allocate will fail. If length is 0 this will become a no-op but still go through
     // the necessary calls to validate the sessionId/blockId. If length is positive, the request
     // will proceed as normal
     ByteBuffer buffer = ByteBuffer.allocate((int) length);
-    in.readBytes(buffer);
+    if (length > 0) {
+      // An empty frame has no readable index left, so there is nothing to read from.
+      in.readBytes(buffer);
+    }
     DataByteBuffer data = new DataByteBuffer(buffer, (int) length);
-    return new RPCBlockWriteRequest(sessionId, blockId, offset, length, data);
+    return new RPCBlockWriteRequest(sessionId, blockId, offset, length, mode, data);
   }
 
   @Override
   public int getEncodedLength() {
-    // 4 longs (mSessionId, mBlockId, mOffset, mLength)
-    return Longs.BYTES * 4;
+    // 4 longs (mSessionId, mBlockId, mOffset, mLength) + 1 short (mMode)
+    return Longs.BYTES * 4 + Shorts.BYTES;
   }
 
   @Override
@@ -91,6 +172,7 @@ public final class RPCBlockWriteRequest extends RPCRequest {
     out.writeLong(mBlockId);
     out.writeLong(mOffset);
     out.writeLong(mLength);
+    out.writeShort(mMode.getId());
     // The actual payload is not encoded here, since the RPCMessageEncoder will transfer it in a
     // more efficient way.
   }
@@ -127,4 +209,23 @@ public final class RPCBlockWriteRequest extends RPCRequest {
   public long getOffset() {
     return mOffset;
   }
+
+  /**
+   * @return how the data server handles the request
+   */
+  public Mode getMode() {
+    return mMode;
+  }
+
+  @Override
+  public void validate() {
+    Preconditions.checkState(mOffset >= 0, "Offset cannot be negative: %s", mOffset);
+    Preconditions.checkState(mLength >= 0, "Length cannot be negative: %s", mLength);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("RPCBlockWriteRequest(%s, %s, %s, %s, %s)", mSessionId, mBlockId,
+        mOffset, mLength, mMode);
+  }
 }
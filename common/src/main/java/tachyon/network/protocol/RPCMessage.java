@@ -29,6 +29,8 @@ import tachyon.network.protocol.databuffer.DataBuffer;
  * scheme is adapted from the implementation found in the streaming server in Apache Spark.
  */
 public abstract class RPCMessage implements EncodedMessage {
+  /** The request id of messages which are not tagged with one. */
+  public static final long UNKNOWN_REQUEST_ID = -1;
 
   /**
    * The possible types of RPC messages.
@@ -104,6 +106,16 @@ public abstract class RPCMessage implements EncodedMessage {
    */
   public abstract Type getType();
 
+  /**
+   * Returns the id which ties a response to its request. Clients which share one channel between
+   * many outstanding requests use this id to hand each response to the right caller.
+   *
+   * @return the request id, or {@link #UNKNOWN_REQUEST_ID} if the message is not tagged
+   */
+  public long getRequestId() {
+    return UNKNOWN_REQUEST_ID;
+  }
+
   /**
    * Validate the message. Throws an Exception if the message is invalid.
    */
@@ -24,7 +24,8 @@ import com.google.common.base.Preconditions;
 import io.netty.channel.DefaultFileRegion;
 
 /**
- * A DataBuffer with the underlying data being a {@link FileChannel}.
+ * A DataBuffer with the underlying data being a {@link FileChannel}. The channel is not closed once
+ * the data is sent, it is up to the creator of the buffer to close it.
  */
 public final class DataFileChannel implements DataBuffer {
   private final FileChannel mFileChannel;
@@ -45,7 +46,7 @@ public final class DataFileChannel implements DataBuffer {
 
   @Override
   public Object getNettyOutput() {
-    return new DefaultFileRegion(mFileChannel, mOffset, mLength);
+    return new UnownedFileRegion(mFileChannel, mOffset, mLength);
   }
 
   @Override
@@ -75,4 +76,19 @@ public final class DataFileChannel implements DataBuffer {
   public void release() {
     // Nothing we need to release explicitly, let GC take care of all objects.
   }
+
+  /**
+   * A {@link DefaultFileRegion} which leaves its channel open when it is released, so that several
+   * regions of one channel can be sent, such as the chunks of a streamed block read.
+   */
+  private static final class UnownedFileRegion extends DefaultFileRegion {
+    private UnownedFileRegion(FileChannel fileChannel, long position, long count) {
+      super(fileChannel, position, count);
+    }
+
+    @Override
+    protected void deallocate() {
+      // The channel is closed by the creator of the DataFileChannel.
+    }
+  }
 }
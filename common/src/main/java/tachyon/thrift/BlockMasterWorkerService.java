@@ -92,6 +92,16 @@ public class BlockMasterWorkerService {
      */
     public void registerWorker(long workerId, List<String> storageTiers, Map<String,Long> totalBytesOnTiers, Map<String,Long> usedBytesOnTiers, Map<String,List<Long>> currentBlocksOnTiers) throws tachyon.thrift.TachyonTException, org.apache.thrift.TException;
 
+    /**
+     * Sends a chunk of the blocks on a worker which is about to register, as an encoded block
+     * report. The blocks sent this way need not be sent again with the registration.
+     * 
+     * @param workerId the id of the worker
+     * 
+     * @param blockReport the encoded block report of the chunk
+     */
+    public void registerWorkerBlocks(long workerId, ByteBuffer blockReport) throws tachyon.thrift.TachyonTException, org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface extends tachyon.thrift.TachyonService .AsyncIface {
@@ -104,6 +114,8 @@ public class BlockMasterWorkerService {
 
     public void registerWorker(long workerId, List<String> storageTiers, Map<String,Long> totalBytesOnTiers, Map<String,Long> usedBytesOnTiers, Map<String,List<Long>> currentBlocksOnTiers, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void registerWorkerBlocks(long workerId, ByteBuffer blockReport, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends tachyon.thrift.TachyonService.Client implements Iface {
@@ -226,6 +238,30 @@ public class BlockMasterWorkerService {
       return;
     }
 
+    public void registerWorkerBlocks(long workerId, ByteBuffer blockReport) throws tachyon.thrift.TachyonTException, org.apache.thrift.TException
+    {
+      send_registerWorkerBlocks(workerId, blockReport);
+      recv_registerWorkerBlocks();
+    }
+
+    public void send_registerWorkerBlocks(long workerId, ByteBuffer blockReport) throws org.apache.thrift.TException
+    {
+      registerWorkerBlocks_args args = new registerWorkerBlocks_args();
+      args.setWorkerId(workerId);
+      args.setBlockReport(blockReport);
+      sendBase("registerWorkerBlocks", args);
+    }
+
+    public void recv_registerWorkerBlocks() throws tachyon.thrift.TachyonTException, org.apache.thrift.TException
+    {
+      registerWorkerBlocks_result result = new registerWorkerBlocks_result();
+      receiveBase(result, "registerWorkerBlocks");
+      if (result.e != null) {
+        throw result.e;
+      }
+      return;
+    }
+
   }
   public static class AsyncClient extends tachyon.thrift.TachyonService.AsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -405,6 +441,41 @@ public class BlockMasterWorkerService {
       }
     }
 
+    public void registerWorkerBlocks(long workerId, ByteBuffer blockReport, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      registerWorkerBlocks_call method_call = new registerWorkerBlocks_call(workerId, blockReport, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class registerWorkerBlocks_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long workerId;
+      private ByteBuffer blockReport;
+      public registerWorkerBlocks_call(long workerId, ByteBuffer blockReport, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.workerId = workerId;
+        this.blockReport = blockReport;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("registerWorkerBlocks", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        registerWorkerBlocks_args args = new registerWorkerBlocks_args();
+        args.setWorkerId(workerId);
+        args.setBlockReport(blockReport);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws tachyon.thrift.TachyonTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_registerWorkerBlocks();
+      }
+    }
+
   }
 
   public static class Processor<I extends Iface> extends tachyon.thrift.TachyonService.Processor<I> implements org.apache.thrift.TProcessor {
@@ -422,6 +493,7 @@ public class BlockMasterWorkerService {
       processMap.put("getWorkerId", new getWorkerId());
       processMap.put("heartbeat", new heartbeat());
       processMap.put("registerWorker", new registerWorker());
+      processMap.put("registerWorkerBlocks", new registerWorkerBlocks());
       return processMap;
     }
 
@@ -510,6 +582,30 @@ public class BlockMasterWorkerService {
       }
     }
 
+    public static class registerWorkerBlocks<I extends Iface> extends org.apache.thrift.ProcessFunction<I, registerWorkerBlocks_args> {
+      public registerWorkerBlocks() {
+        super("registerWorkerBlocks");
+      }
+
+      public registerWorkerBlocks_args getEmptyArgsInstance() {
+        return new registerWorkerBlocks_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public registerWorkerBlocks_result getResult(I iface, registerWorkerBlocks_args args) throws org.apache.thrift.TException {
+        registerWorkerBlocks_result result = new registerWorkerBlocks_result();
+        try {
+          iface.registerWorkerBlocks(args.workerId, args.blockReport);
+        } catch (tachyon.thrift.TachyonTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
   }
 
   public static class AsyncProcessor<I extends AsyncIface> extends tachyon.thrift.TachyonService.AsyncProcessor<I> {
@@ -527,6 +623,7 @@ public class BlockMasterWorkerService {
       processMap.put("getWorkerId", new getWorkerId());
       processMap.put("heartbeat", new heartbeat());
       processMap.put("registerWorker", new registerWorker());
+      processMap.put("registerWorkerBlocks", new registerWorkerBlocks());
       return processMap;
     }
 
@@ -739,6 +836,62 @@ public class BlockMasterWorkerService {
       }
     }
 
+    public static class registerWorkerBlocks<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, registerWorkerBlocks_args, Void> {
+      public registerWorkerBlocks() {
+        super("registerWorkerBlocks");
+      }
+
+      public registerWorkerBlocks_args getEmptyArgsInstance() {
+        return new registerWorkerBlocks_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            registerWorkerBlocks_result result = new registerWorkerBlocks_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            registerWorkerBlocks_result result = new registerWorkerBlocks_result();
+            if (e instanceof tachyon.thrift.TachyonTException) {
+                        result.e = (tachyon.thrift.TachyonTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, registerWorkerBlocks_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.registerWorkerBlocks(args.workerId, args.blockReport,resultHandler);
+      }
+    }
+
   }
 
   public static class commitBlock_args implements org.apache.thrift.TBase<commitBlock_args, commitBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<commitBlock_args>   {
@@ -5285,4 +5438,865 @@ public class BlockMasterWorkerService {
 
   }
 
+  public static class registerWorkerBlocks_args implements org.apache.thrift.TBase<registerWorkerBlocks_args, registerWorkerBlocks_args._Fields>, java.io.Serializable, Cloneable, Comparable<registerWorkerBlocks_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("registerWorkerBlocks_args");
+
+    private static final org.apache.thrift.protocol.TField WORKER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("workerId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField BLOCK_REPORT_FIELD_DESC = new org.apache.thrift.protocol.TField("blockReport", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new registerWorkerBlocks_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new registerWorkerBlocks_argsTupleSchemeFactory());
+    }
+
+    /**
+     * the id of the worker
+     */
+    public long workerId; // required
+    /**
+     * the encoded block report of the chunk
+     */
+    public ByteBuffer blockReport; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the id of the worker
+       */
+      WORKER_ID((short)1, "workerId"),
+      /**
+       * the encoded block report of the chunk
+       */
+      BLOCK_REPORT((short)2, "blockReport");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // WORKER_ID
+            return WORKER_ID;
+          case 2: // BLOCK_REPORT
+            return BLOCK_REPORT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __WORKERID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.WORKER_ID, new org.apache.thrift.meta_data.FieldMetaData("workerId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.BLOCK_REPORT, new org.apache.thrift.meta_data.FieldMetaData("blockReport", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(registerWorkerBlocks_args.class, metaDataMap);
+    }
+
+    public registerWorkerBlocks_args() {
+    }
+
+    public registerWorkerBlocks_args(
+      long workerId,
+      ByteBuffer blockReport)
+    {
+      this();
+      this.workerId = workerId;
+      setWorkerIdIsSet(true);
+      this.blockReport = org.apache.thrift.TBaseHelper.copyBinary(blockReport);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public registerWorkerBlocks_args(registerWorkerBlocks_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.workerId = other.workerId;
+      if (other.isSetBlockReport()) {
+        this.blockReport = org.apache.thrift.TBaseHelper.copyBinary(other.blockReport);
+      }
+    }
+
+    public registerWorkerBlocks_args deepCopy() {
+      return new registerWorkerBlocks_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setWorkerIdIsSet(false);
+      this.workerId = 0;
+      this.blockReport = null;
+    }
+
+    /**
+     * the id of the worker
+     */
+    public long getWorkerId() {
+      return this.workerId;
+    }
+
+    /**
+     * the id of the worker
+     */
+    public registerWorkerBlocks_args setWorkerId(long workerId) {
+      this.workerId = workerId;
+      setWorkerIdIsSet(true);
+      return this;
+    }
+
+    public void unsetWorkerId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __WORKERID_ISSET_ID);
+    }
+
+    /** Returns true if field workerId is set (has been assigned a value) and false otherwise */
+    public boolean isSetWorkerId() {
+      return EncodingUtils.testBit(__isset_bitfield, __WORKERID_ISSET_ID);
+    }
+
+    public void setWorkerIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WORKERID_ISSET_ID, value);
+    }
+
+    /**
+     * the encoded block report of the chunk
+     */
+    public byte[] getBlockReport() {
+      setBlockReport(org.apache.thrift.TBaseHelper.rightSize(blockReport));
+      return blockReport == null ? null : blockReport.array();
+    }
+
+    public ByteBuffer bufferForBlockReport() {
+      return org.apache.thrift.TBaseHelper.copyBinary(blockReport);
+    }
+
+    /**
+     * the encoded block report of the chunk
+     */
+    public registerWorkerBlocks_args setBlockReport(byte[] blockReport) {
+      this.blockReport = blockReport == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(blockReport, blockReport.length));
+      return this;
+    }
+
+    public registerWorkerBlocks_args setBlockReport(ByteBuffer blockReport) {
+      this.blockReport = org.apache.thrift.TBaseHelper.copyBinary(blockReport);
+      return this;
+    }
+
+    public void unsetBlockReport() {
+      this.blockReport = null;
+    }
+
+    /** Returns true if field blockReport is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockReport() {
+      return this.blockReport != null;
+    }
+
+    public void setBlockReportIsSet(boolean value) {
+      if (!value) {
+        this.blockReport = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case WORKER_ID:
+        if (value == null) {
+          unsetWorkerId();
+        } else {
+          setWorkerId((Long)value);
+        }
+        break;
+
+      case BLOCK_REPORT:
+        if (value == null) {
+          unsetBlockReport();
+        } else {
+          setBlockReport((ByteBuffer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case WORKER_ID:
+        return Long.valueOf(getWorkerId());
+
+      case BLOCK_REPORT:
+        return getBlockReport();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case WORKER_ID:
+        return isSetWorkerId();
+      case BLOCK_REPORT:
+        return isSetBlockReport();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof registerWorkerBlocks_args)
+        return this.equals((registerWorkerBlocks_args)that);
+      return false;
+    }
+
+    public boolean equals(registerWorkerBlocks_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_workerId = true;
+      boolean that_present_workerId = true;
+      if (this_present_workerId || that_present_workerId) {
+        if (!(this_present_workerId && that_present_workerId))
+          return false;
+        if (this.workerId != that.workerId)
+          return false;
+      }
+
+      boolean this_present_blockReport = true && this.isSetBlockReport();
+      boolean that_present_blockReport = true && that.isSetBlockReport();
+      if (this_present_blockReport || that_present_blockReport) {
+        if (!(this_present_blockReport && that_present_blockReport))
+          return false;
+        if (!this.blockReport.equals(that.blockReport))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_workerId = true;
+      list.add(present_workerId);
+      if (present_workerId)
+        list.add(workerId);
+
+      boolean present_blockReport = true && (isSetBlockReport());
+      list.add(present_blockReport);
+      if (present_blockReport)
+        list.add(blockReport);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(registerWorkerBlocks_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetWorkerId()).compareTo(other.isSetWorkerId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetWorkerId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.workerId, other.workerId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBlockReport()).compareTo(other.isSetBlockReport());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBlockReport()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockReport, other.blockReport);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("registerWorkerBlocks_args(");
+      boolean first = true;
+
+      sb.append("workerId:");
+      sb.append(this.workerId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("blockReport:");
+      if (this.blockReport == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.blockReport, sb);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class registerWorkerBlocks_argsStandardSchemeFactory implements SchemeFactory {
+      public registerWorkerBlocks_argsStandardScheme getScheme() {
+        return new registerWorkerBlocks_argsStandardScheme();
+      }
+    }
+
+    private static class registerWorkerBlocks_argsStandardScheme extends StandardScheme<registerWorkerBlocks_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, registerWorkerBlocks_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // WORKER_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.workerId = iprot.readI64();
+                struct.setWorkerIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // BLOCK_REPORT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.blockReport = iprot.readBinary();
+                struct.setBlockReportIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, registerWorkerBlocks_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(WORKER_ID_FIELD_DESC);
+        oprot.writeI64(struct.workerId);
+        oprot.writeFieldEnd();
+        if (struct.blockReport != null) {
+          oprot.writeFieldBegin(BLOCK_REPORT_FIELD_DESC);
+          oprot.writeBinary(struct.blockReport);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class registerWorkerBlocks_argsTupleSchemeFactory implements SchemeFactory {
+      public registerWorkerBlocks_argsTupleScheme getScheme() {
+        return new registerWorkerBlocks_argsTupleScheme();
+      }
+    }
+
+    private static class registerWorkerBlocks_argsTupleScheme extends TupleScheme<registerWorkerBlocks_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, registerWorkerBlocks_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetWorkerId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBlockReport()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetWorkerId()) {
+          oprot.writeI64(struct.workerId);
+        }
+        if (struct.isSetBlockReport()) {
+          oprot.writeBinary(struct.blockReport);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, registerWorkerBlocks_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.workerId = iprot.readI64();
+          struct.setWorkerIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.blockReport = iprot.readBinary();
+          struct.setBlockReportIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class registerWorkerBlocks_result implements org.apache.thrift.TBase<registerWorkerBlocks_result, registerWorkerBlocks_result._Fields>, java.io.Serializable, Cloneable, Comparable<registerWorkerBlocks_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("registerWorkerBlocks_result");
+
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new registerWorkerBlocks_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new registerWorkerBlocks_resultTupleSchemeFactory());
+    }
+
+    public tachyon.thrift.TachyonTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(registerWorkerBlocks_result.class, metaDataMap);
+    }
+
+    public registerWorkerBlocks_result() {
+    }
+
+    public registerWorkerBlocks_result(
+      tachyon.thrift.TachyonTException e)
+    {
+      this();
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public registerWorkerBlocks_result(registerWorkerBlocks_result other) {
+      if (other.isSetE()) {
+        this.e = new tachyon.thrift.TachyonTException(other.e);
+      }
+    }
+
+    public registerWorkerBlocks_result deepCopy() {
+      return new registerWorkerBlocks_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.e = null;
+    }
+
+    public tachyon.thrift.TachyonTException getE() {
+      return this.e;
+    }
+
+    public registerWorkerBlocks_result setE(tachyon.thrift.TachyonTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((tachyon.thrift.TachyonTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof registerWorkerBlocks_result)
+        return this.equals((registerWorkerBlocks_result)that);
+      return false;
+    }
+
+    public boolean equals(registerWorkerBlocks_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(registerWorkerBlocks_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("registerWorkerBlocks_result(");
+      boolean first = true;
+
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class registerWorkerBlocks_resultStandardSchemeFactory implements SchemeFactory {
+      public registerWorkerBlocks_resultStandardScheme getScheme() {
+        return new registerWorkerBlocks_resultStandardScheme();
+      }
+    }
+
+    private static class registerWorkerBlocks_resultStandardScheme extends StandardScheme<registerWorkerBlocks_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, registerWorkerBlocks_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new tachyon.thrift.TachyonTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, registerWorkerBlocks_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class registerWorkerBlocks_resultTupleSchemeFactory implements SchemeFactory {
+      public registerWorkerBlocks_resultTupleScheme getScheme() {
+        return new registerWorkerBlocks_resultTupleScheme();
+      }
+    }
+
+    private static class registerWorkerBlocks_resultTupleScheme extends TupleScheme<registerWorkerBlocks_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, registerWorkerBlocks_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetE()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, registerWorkerBlocks_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.e = new tachyon.thrift.TachyonTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
 }
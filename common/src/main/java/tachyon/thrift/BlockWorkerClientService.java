@@ -46,6 +46,14 @@ public class BlockWorkerClientService {
      */
     public void accessBlock(long blockId) throws org.apache.thrift.TException;
 
+    /**
+     * Accesses a batch of blocks given the block ids. Blocks which are not in Tachyon space are
+     * ignored.
+     * 
+     * @param blockIds the ids of the blocks being accessed
+     */
+    public void accessBlocks(List<Long> blockIds) throws org.apache.thrift.TException;
+
     /**
      * Asynchronously checkpoints a file: returns whether the checkpoint operation succeeded.
      * 
@@ -85,6 +93,17 @@ public class BlockWorkerClientService {
      */
     public LockBlockResult lockBlock(long blockId, long sessionId) throws tachyon.thrift.TachyonTException, org.apache.thrift.TException;
 
+    /**
+     * Locks a batch of blocks in Tachyon's space while the session is reading them, and returns the
+     * paths of the block files by block id. Blocks which are not in Tachyon's space are left out of
+     * the returned map. Each returned block must be unlocked by the session once.
+     * 
+     * @param sessionId the id of the current session
+     * 
+     * @param blockIds the ids of the blocks being locked
+     */
+    public Map<Long,String> lockBlocks(long sessionId, List<Long> blockIds) throws tachyon.thrift.TachyonTException, org.apache.thrift.TException;
+
     /**
      * Used to promote block on under storage layer to top storage layer when there are more than one
      * storage layers in Tachyon's space. return true if the block is successfully promoted, false
@@ -143,12 +162,24 @@ public class BlockWorkerClientService {
      */
     public boolean unlockBlock(long blockId, long sessionId) throws org.apache.thrift.TException;
 
+    /**
+     * Used to unlock a batch of blocks after they are accessed, once per block id. Every block is
+     * unlocked even if unlocking an earlier one fails; failures are logged by the worker.
+     * 
+     * @param sessionId the id of the current session
+     * 
+     * @param blockIds the ids of the blocks being unlocked
+     */
+    public void unlockBlocks(long sessionId, List<Long> blockIds) throws org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface extends tachyon.thrift.TachyonService .AsyncIface {
 
     public void accessBlock(long blockId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void accessBlocks(List<Long> blockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void asyncCheckpoint(long fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void cacheBlock(long sessionId, long blockId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -157,6 +188,8 @@ public class BlockWorkerClientService {
 
     public void lockBlock(long blockId, long sessionId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void lockBlocks(long sessionId, List<Long> blockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void promoteBlock(long blockId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void requestBlockLocation(long sessionId, long blockId, long initialBytes, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -167,6 +200,8 @@ public class BlockWorkerClientService {
 
     public void unlockBlock(long blockId, long sessionId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void unlockBlocks(long sessionId, List<Long> blockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends tachyon.thrift.TachyonService.Client implements Iface {
@@ -209,6 +244,26 @@ public class BlockWorkerClientService {
       return;
     }
 
+    public void accessBlocks(List<Long> blockIds) throws org.apache.thrift.TException
+    {
+      send_accessBlocks(blockIds);
+      recv_accessBlocks();
+    }
+
+    public void send_accessBlocks(List<Long> blockIds) throws org.apache.thrift.TException
+    {
+      accessBlocks_args args = new accessBlocks_args();
+      args.setBlockIds(blockIds);
+      sendBase("accessBlocks", args);
+    }
+
+    public void recv_accessBlocks() throws org.apache.thrift.TException
+    {
+      accessBlocks_result result = new accessBlocks_result();
+      receiveBase(result, "accessBlocks");
+      return;
+    }
+
     public boolean asyncCheckpoint(long fileId) throws tachyon.thrift.TachyonTException, org.apache.thrift.TException
     {
       send_asyncCheckpoint(fileId);
@@ -316,6 +371,33 @@ public class BlockWorkerClientService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "lockBlock failed: unknown result");
     }
 
+    public Map<Long,String> lockBlocks(long sessionId, List<Long> blockIds) throws tachyon.thrift.TachyonTException, org.apache.thrift.TException
+    {
+      send_lockBlocks(sessionId, blockIds);
+      return recv_lockBlocks();
+    }
+
+    public void send_lockBlocks(long sessionId, List<Long> blockIds) throws org.apache.thrift.TException
+    {
+      lockBlocks_args args = new lockBlocks_args();
+      args.setSessionId(sessionId);
+      args.setBlockIds(blockIds);
+      sendBase("lockBlocks", args);
+    }
+
+    public Map<Long,String> recv_lockBlocks() throws tachyon.thrift.TachyonTException, org.apache.thrift.TException
+    {
+      lockBlocks_result result = new lockBlocks_result();
+      receiveBase(result, "lockBlocks");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "lockBlocks failed: unknown result");
+    }
+
     public boolean promoteBlock(long blockId) throws tachyon.thrift.TachyonTException, tachyon.thrift.ThriftIOException, org.apache.thrift.TException
     {
       send_promoteBlock(blockId);
@@ -449,6 +531,27 @@ public class BlockWorkerClientService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "unlockBlock failed: unknown result");
     }
 
+    public void unlockBlocks(long sessionId, List<Long> blockIds) throws org.apache.thrift.TException
+    {
+      send_unlockBlocks(sessionId, blockIds);
+      recv_unlockBlocks();
+    }
+
+    public void send_unlockBlocks(long sessionId, List<Long> blockIds) throws org.apache.thrift.TException
+    {
+      unlockBlocks_args args = new unlockBlocks_args();
+      args.setSessionId(sessionId);
+      args.setBlockIds(blockIds);
+      sendBase("unlockBlocks", args);
+    }
+
+    public void recv_unlockBlocks() throws org.apache.thrift.TException
+    {
+      unlockBlocks_result result = new unlockBlocks_result();
+      receiveBase(result, "unlockBlocks");
+      return;
+    }
+
   }
   public static class AsyncClient extends tachyon.thrift.TachyonService.AsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -499,6 +602,38 @@ public class BlockWorkerClientService {
       }
     }
 
+    public void accessBlocks(List<Long> blockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      accessBlocks_call method_call = new accessBlocks_call(blockIds, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class accessBlocks_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<Long> blockIds;
+      public accessBlocks_call(List<Long> blockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.blockIds = blockIds;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("accessBlocks", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        accessBlocks_args args = new accessBlocks_args();
+        args.setBlockIds(blockIds);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_accessBlocks();
+      }
+    }
+
     public void asyncCheckpoint(long fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       asyncCheckpoint_call method_call = new asyncCheckpoint_call(fileId, resultHandler, this, ___protocolFactory, ___transport);
@@ -636,6 +771,41 @@ public class BlockWorkerClientService {
       }
     }
 
+    public void lockBlocks(long sessionId, List<Long> blockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      lockBlocks_call method_call = new lockBlocks_call(sessionId, blockIds, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class lockBlocks_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long sessionId;
+      private List<Long> blockIds;
+      public lockBlocks_call(long sessionId, List<Long> blockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.sessionId = sessionId;
+        this.blockIds = blockIds;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("lockBlocks", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        lockBlocks_args args = new lockBlocks_args();
+        args.setSessionId(sessionId);
+        args.setBlockIds(blockIds);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Map<Long,String> getResult() throws tachyon.thrift.TachyonTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_lockBlocks();
+      }
+    }
+
     public void promoteBlock(long blockId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       promoteBlock_call method_call = new promoteBlock_call(blockId, resultHandler, this, ___protocolFactory, ___transport);
@@ -814,6 +984,41 @@ public class BlockWorkerClientService {
       }
     }
 
+    public void unlockBlocks(long sessionId, List<Long> blockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      unlockBlocks_call method_call = new unlockBlocks_call(sessionId, blockIds, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class unlockBlocks_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long sessionId;
+      private List<Long> blockIds;
+      public unlockBlocks_call(long sessionId, List<Long> blockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.sessionId = sessionId;
+        this.blockIds = blockIds;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("unlockBlocks", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        unlockBlocks_args args = new unlockBlocks_args();
+        args.setSessionId(sessionId);
+        args.setBlockIds(blockIds);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_unlockBlocks();
+      }
+    }
+
   }
 
   public static class Processor<I extends Iface> extends tachyon.thrift.TachyonService.Processor<I> implements org.apache.thrift.TProcessor {
@@ -828,15 +1033,18 @@ public class BlockWorkerClientService {
 
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("accessBlock", new accessBlock());
+      processMap.put("accessBlocks", new accessBlocks());
       processMap.put("asyncCheckpoint", new asyncCheckpoint());
       processMap.put("cacheBlock", new cacheBlock());
       processMap.put("cancelBlock", new cancelBlock());
       processMap.put("lockBlock", new lockBlock());
+      processMap.put("lockBlocks", new lockBlocks());
       processMap.put("promoteBlock", new promoteBlock());
       processMap.put("requestBlockLocation", new requestBlockLocation());
       processMap.put("requestSpace", new requestSpace());
       processMap.put("sessionHeartbeat", new sessionHeartbeat());
       processMap.put("unlockBlock", new unlockBlock());
+      processMap.put("unlockBlocks", new unlockBlocks());
       return processMap;
     }
 
@@ -860,6 +1068,26 @@ public class BlockWorkerClientService {
       }
     }
 
+    public static class accessBlocks<I extends Iface> extends org.apache.thrift.ProcessFunction<I, accessBlocks_args> {
+      public accessBlocks() {
+        super("accessBlocks");
+      }
+
+      public accessBlocks_args getEmptyArgsInstance() {
+        return new accessBlocks_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public accessBlocks_result getResult(I iface, accessBlocks_args args) throws org.apache.thrift.TException {
+        accessBlocks_result result = new accessBlocks_result();
+        iface.accessBlocks(args.blockIds);
+        return result;
+      }
+    }
+
     public static class asyncCheckpoint<I extends Iface> extends org.apache.thrift.ProcessFunction<I, asyncCheckpoint_args> {
       public asyncCheckpoint() {
         super("asyncCheckpoint");
@@ -961,6 +1189,30 @@ public class BlockWorkerClientService {
       }
     }
 
+    public static class lockBlocks<I extends Iface> extends org.apache.thrift.ProcessFunction<I, lockBlocks_args> {
+      public lockBlocks() {
+        super("lockBlocks");
+      }
+
+      public lockBlocks_args getEmptyArgsInstance() {
+        return new lockBlocks_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public lockBlocks_result getResult(I iface, lockBlocks_args args) throws org.apache.thrift.TException {
+        lockBlocks_result result = new lockBlocks_result();
+        try {
+          result.success = iface.lockBlocks(args.sessionId, args.blockIds);
+        } catch (tachyon.thrift.TachyonTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class promoteBlock<I extends Iface> extends org.apache.thrift.ProcessFunction<I, promoteBlock_args> {
       public promoteBlock() {
         super("promoteBlock");
@@ -1080,6 +1332,26 @@ public class BlockWorkerClientService {
       }
     }
 
+    public static class unlockBlocks<I extends Iface> extends org.apache.thrift.ProcessFunction<I, unlockBlocks_args> {
+      public unlockBlocks() {
+        super("unlockBlocks");
+      }
+
+      public unlockBlocks_args getEmptyArgsInstance() {
+        return new unlockBlocks_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public unlockBlocks_result getResult(I iface, unlockBlocks_args args) throws org.apache.thrift.TException {
+        unlockBlocks_result result = new unlockBlocks_result();
+        iface.unlockBlocks(args.sessionId, args.blockIds);
+        return result;
+      }
+    }
+
   }
 
   public static class AsyncProcessor<I extends AsyncIface> extends tachyon.thrift.TachyonService.AsyncProcessor<I> {
@@ -1094,15 +1366,18 @@ public class BlockWorkerClientService {
 
     private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
       processMap.put("accessBlock", new accessBlock());
+      processMap.put("accessBlocks", new accessBlocks());
       processMap.put("asyncCheckpoint", new asyncCheckpoint());
       processMap.put("cacheBlock", new cacheBlock());
       processMap.put("cancelBlock", new cancelBlock());
       processMap.put("lockBlock", new lockBlock());
+      processMap.put("lockBlocks", new lockBlocks());
       processMap.put("promoteBlock", new promoteBlock());
       processMap.put("requestBlockLocation", new requestBlockLocation());
       processMap.put("requestSpace", new requestSpace());
       processMap.put("sessionHeartbeat", new sessionHeartbeat());
       processMap.put("unlockBlock", new unlockBlock());
+      processMap.put("unlockBlocks", new unlockBlocks());
       return processMap;
     }
 
@@ -1156,6 +1431,56 @@ public class BlockWorkerClientService {
       }
     }
 
+    public static class accessBlocks<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, accessBlocks_args, Void> {
+      public accessBlocks() {
+        super("accessBlocks");
+      }
+
+      public accessBlocks_args getEmptyArgsInstance() {
+        return new accessBlocks_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            accessBlocks_result result = new accessBlocks_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            accessBlocks_result result = new accessBlocks_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, accessBlocks_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.accessBlocks(args.blockIds,resultHandler);
+      }
+    }
+
     public static class asyncCheckpoint<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, asyncCheckpoint_args, Boolean> {
       public asyncCheckpoint() {
         super("asyncCheckpoint");
@@ -1393,6 +1718,63 @@ public class BlockWorkerClientService {
       }
     }
 
+    public static class lockBlocks<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, lockBlocks_args, Map<Long,String>> {
+      public lockBlocks() {
+        super("lockBlocks");
+      }
+
+      public lockBlocks_args getEmptyArgsInstance() {
+        return new lockBlocks_args();
+      }
+
+      public AsyncMethodCallback<Map<Long,String>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Map<Long,String>>() { 
+          public void onComplete(Map<Long,String> o) {
+            lockBlocks_result result = new lockBlocks_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            lockBlocks_result result = new lockBlocks_result();
+            if (e instanceof tachyon.thrift.TachyonTException) {
+                        result.e = (tachyon.thrift.TachyonTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, lockBlocks_args args, org.apache.thrift.async.AsyncMethodCallback<Map<Long,String>> resultHandler) throws TException {
+        iface.lockBlocks(args.sessionId, args.blockIds,resultHandler);
+      }
+    }
+
     public static class promoteBlock<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, promoteBlock_args, Boolean> {
       public promoteBlock() {
         super("promoteBlock");
@@ -1678,9 +2060,59 @@ public class BlockWorkerClientService {
       }
     }
 
-  }
+    public static class unlockBlocks<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, unlockBlocks_args, Void> {
+      public unlockBlocks() {
+        super("unlockBlocks");
+      }
 
-  public static class accessBlock_args implements org.apache.thrift.TBase<accessBlock_args, accessBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<accessBlock_args>   {
+      public unlockBlocks_args getEmptyArgsInstance() {
+        return new unlockBlocks_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            unlockBlocks_result result = new unlockBlocks_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            unlockBlocks_result result = new unlockBlocks_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, unlockBlocks_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.unlockBlocks(args.sessionId, args.blockIds,resultHandler);
+      }
+    }
+
+  }
+
+  public static class accessBlock_args implements org.apache.thrift.TBase<accessBlock_args, accessBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<accessBlock_args>   {
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("accessBlock_args");
 
     private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
@@ -2299,28 +2731,28 @@ public class BlockWorkerClientService {
 
   }
 
-  public static class asyncCheckpoint_args implements org.apache.thrift.TBase<asyncCheckpoint_args, asyncCheckpoint_args._Fields>, java.io.Serializable, Cloneable, Comparable<asyncCheckpoint_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("asyncCheckpoint_args");
+  public static class accessBlocks_args implements org.apache.thrift.TBase<accessBlocks_args, accessBlocks_args._Fields>, java.io.Serializable, Cloneable, Comparable<accessBlocks_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("accessBlocks_args");
 
-    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField BLOCK_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("blockIds", org.apache.thrift.protocol.TType.LIST, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new asyncCheckpoint_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new asyncCheckpoint_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new accessBlocks_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new accessBlocks_argsTupleSchemeFactory());
     }
 
     /**
-     * the id of the file being accessed
+     * the ids of the blocks being accessed
      */
-    public long fileId; // required
+    public List<Long> blockIds; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the id of the file being accessed
+       * the ids of the blocks being accessed
        */
-      FILE_ID((short)1, "fileId");
+      BLOCK_IDS((short)1, "blockIds");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -2335,8 +2767,8 @@ public class BlockWorkerClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILE_ID
-            return FILE_ID;
+          case 1: // BLOCK_IDS
+            return BLOCK_IDS;
           default:
             return null;
         }
@@ -2377,82 +2809,97 @@ public class BlockWorkerClientService {
     }
 
     // isset id assignments
-    private static final int __FILEID_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.BLOCK_IDS, new org.apache.thrift.meta_data.FieldMetaData("blockIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(asyncCheckpoint_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(accessBlocks_args.class, metaDataMap);
     }
 
-    public asyncCheckpoint_args() {
+    public accessBlocks_args() {
     }
 
-    public asyncCheckpoint_args(
-      long fileId)
+    public accessBlocks_args(
+      List<Long> blockIds)
     {
       this();
-      this.fileId = fileId;
-      setFileIdIsSet(true);
+      this.blockIds = blockIds;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public asyncCheckpoint_args(asyncCheckpoint_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.fileId = other.fileId;
+    public accessBlocks_args(accessBlocks_args other) {
+      if (other.isSetBlockIds()) {
+        List<Long> __this__blockIds = new ArrayList<Long>(other.blockIds);
+        this.blockIds = __this__blockIds;
+      }
     }
 
-    public asyncCheckpoint_args deepCopy() {
-      return new asyncCheckpoint_args(this);
+    public accessBlocks_args deepCopy() {
+      return new accessBlocks_args(this);
     }
 
     @Override
     public void clear() {
-      setFileIdIsSet(false);
-      this.fileId = 0;
+      this.blockIds = null;
+    }
+
+    public int getBlockIdsSize() {
+      return (this.blockIds == null) ? 0 : this.blockIds.size();
+    }
+
+    public java.util.Iterator<Long> getBlockIdsIterator() {
+      return (this.blockIds == null) ? null : this.blockIds.iterator();
+    }
+
+    public void addToBlockIds(long elem) {
+      if (this.blockIds == null) {
+        this.blockIds = new ArrayList<Long>();
+      }
+      this.blockIds.add(elem);
     }
 
     /**
-     * the id of the file being accessed
+     * the ids of the blocks being accessed
      */
-    public long getFileId() {
-      return this.fileId;
+    public List<Long> getBlockIds() {
+      return this.blockIds;
     }
 
     /**
-     * the id of the file being accessed
+     * the ids of the blocks being accessed
      */
-    public asyncCheckpoint_args setFileId(long fileId) {
-      this.fileId = fileId;
-      setFileIdIsSet(true);
+    public accessBlocks_args setBlockIds(List<Long> blockIds) {
+      this.blockIds = blockIds;
       return this;
     }
 
-    public void unsetFileId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public void unsetBlockIds() {
+      this.blockIds = null;
     }
 
-    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileId() {
-      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    /** Returns true if field blockIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockIds() {
+      return this.blockIds != null;
     }
 
-    public void setFileIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    public void setBlockIdsIsSet(boolean value) {
+      if (!value) {
+        this.blockIds = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILE_ID:
+      case BLOCK_IDS:
         if (value == null) {
-          unsetFileId();
+          unsetBlockIds();
         } else {
-          setFileId((Long)value);
+          setBlockIds((List<Long>)value);
         }
         break;
 
@@ -2461,8 +2908,8 @@ public class BlockWorkerClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILE_ID:
-        return Long.valueOf(getFileId());
+      case BLOCK_IDS:
+        return getBlockIds();
 
       }
       throw new IllegalStateException();
@@ -2475,8 +2922,8 @@ public class BlockWorkerClientService {
       }
 
       switch (field) {
-      case FILE_ID:
-        return isSetFileId();
+      case BLOCK_IDS:
+        return isSetBlockIds();
       }
       throw new IllegalStateException();
     }
@@ -2485,21 +2932,21 @@ public class BlockWorkerClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof asyncCheckpoint_args)
-        return this.equals((asyncCheckpoint_args)that);
+      if (that instanceof accessBlocks_args)
+        return this.equals((accessBlocks_args)that);
       return false;
     }
 
-    public boolean equals(asyncCheckpoint_args that) {
+    public boolean equals(accessBlocks_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_fileId = true;
-      boolean that_present_fileId = true;
-      if (this_present_fileId || that_present_fileId) {
-        if (!(this_present_fileId && that_present_fileId))
+      boolean this_present_blockIds = true && this.isSetBlockIds();
+      boolean that_present_blockIds = true && that.isSetBlockIds();
+      if (this_present_blockIds || that_present_blockIds) {
+        if (!(this_present_blockIds && that_present_blockIds))
           return false;
-        if (this.fileId != that.fileId)
+        if (!this.blockIds.equals(that.blockIds))
           return false;
       }
 
@@ -2510,28 +2957,28 @@ public class BlockWorkerClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_fileId = true;
-      list.add(present_fileId);
-      if (present_fileId)
-        list.add(fileId);
+      boolean present_blockIds = true && (isSetBlockIds());
+      list.add(present_blockIds);
+      if (present_blockIds)
+        list.add(blockIds);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(asyncCheckpoint_args other) {
+    public int compareTo(accessBlocks_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      lastComparison = Boolean.valueOf(isSetBlockIds()).compareTo(other.isSetBlockIds());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFileId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+      if (isSetBlockIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockIds, other.blockIds);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -2553,11 +3000,15 @@ public class BlockWorkerClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("asyncCheckpoint_args(");
+      StringBuilder sb = new StringBuilder("accessBlocks_args(");
       boolean first = true;
 
-      sb.append("fileId:");
-      sb.append(this.fileId);
+      sb.append("blockIds:");
+      if (this.blockIds == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.blockIds);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -2578,23 +3029,21 @@ public class BlockWorkerClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class asyncCheckpoint_argsStandardSchemeFactory implements SchemeFactory {
-      public asyncCheckpoint_argsStandardScheme getScheme() {
-        return new asyncCheckpoint_argsStandardScheme();
+    private static class accessBlocks_argsStandardSchemeFactory implements SchemeFactory {
+      public accessBlocks_argsStandardScheme getScheme() {
+        return new accessBlocks_argsStandardScheme();
       }
     }
 
-    private static class asyncCheckpoint_argsStandardScheme extends StandardScheme<asyncCheckpoint_args> {
+    private static class accessBlocks_argsStandardScheme extends StandardScheme<accessBlocks_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, asyncCheckpoint_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, accessBlocks_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2604,10 +3053,20 @@ public class BlockWorkerClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.fileId = iprot.readI64();
-                struct.setFileIdIsSet(true);
+            case 1: // BLOCK_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
+                  struct.blockIds = new ArrayList<Long>(_list24.size);
+                  long _elem25;
+                  for (int _i26 = 0; _i26 < _list24.size; ++_i26)
+                  {
+                    _elem25 = iprot.readI64();
+                    struct.blockIds.add(_elem25);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setBlockIdsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -2623,72 +3082,91 @@ public class BlockWorkerClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, asyncCheckpoint_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, accessBlocks_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
-        oprot.writeI64(struct.fileId);
-        oprot.writeFieldEnd();
+        if (struct.blockIds != null) {
+          oprot.writeFieldBegin(BLOCK_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.blockIds.size()));
+            for (long _iter27 : struct.blockIds)
+            {
+              oprot.writeI64(_iter27);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class asyncCheckpoint_argsTupleSchemeFactory implements SchemeFactory {
-      public asyncCheckpoint_argsTupleScheme getScheme() {
-        return new asyncCheckpoint_argsTupleScheme();
+    private static class accessBlocks_argsTupleSchemeFactory implements SchemeFactory {
+      public accessBlocks_argsTupleScheme getScheme() {
+        return new accessBlocks_argsTupleScheme();
       }
     }
 
-    private static class asyncCheckpoint_argsTupleScheme extends TupleScheme<asyncCheckpoint_args> {
+    private static class accessBlocks_argsTupleScheme extends TupleScheme<accessBlocks_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, asyncCheckpoint_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, accessBlocks_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFileId()) {
+        if (struct.isSetBlockIds()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetFileId()) {
-          oprot.writeI64(struct.fileId);
+        if (struct.isSetBlockIds()) {
+          {
+            oprot.writeI32(struct.blockIds.size());
+            for (long _iter28 : struct.blockIds)
+            {
+              oprot.writeI64(_iter28);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, asyncCheckpoint_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, accessBlocks_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.fileId = iprot.readI64();
-          struct.setFileIdIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.blockIds = new ArrayList<Long>(_list29.size);
+            long _elem30;
+            for (int _i31 = 0; _i31 < _list29.size; ++_i31)
+            {
+              _elem30 = iprot.readI64();
+              struct.blockIds.add(_elem30);
+            }
+          }
+          struct.setBlockIdsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class asyncCheckpoint_result implements org.apache.thrift.TBase<asyncCheckpoint_result, asyncCheckpoint_result._Fields>, java.io.Serializable, Cloneable, Comparable<asyncCheckpoint_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("asyncCheckpoint_result");
+  public static class accessBlocks_result implements org.apache.thrift.TBase<accessBlocks_result, accessBlocks_result._Fields>, java.io.Serializable, Cloneable, Comparable<accessBlocks_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("accessBlocks_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
-    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new asyncCheckpoint_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new asyncCheckpoint_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new accessBlocks_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new accessBlocks_resultTupleSchemeFactory());
     }
 
-    public boolean success; // required
-    public tachyon.thrift.TachyonTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
-      E((short)1, "e");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -2703,10 +3181,6 @@ public class BlockWorkerClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
-          case 1: // E
-            return E;
           default:
             return null;
         }
@@ -2745,84 +3219,2588 @@ public class BlockWorkerClientService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
-      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(asyncCheckpoint_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(accessBlocks_result.class, metaDataMap);
     }
 
-    public asyncCheckpoint_result() {
-    }
-
-    public asyncCheckpoint_result(
-      boolean success,
-      tachyon.thrift.TachyonTException e)
-    {
-      this();
-      this.success = success;
-      setSuccessIsSet(true);
-      this.e = e;
+    public accessBlocks_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public asyncCheckpoint_result(asyncCheckpoint_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
-      if (other.isSetE()) {
-        this.e = new tachyon.thrift.TachyonTException(other.e);
-      }
+    public accessBlocks_result(accessBlocks_result other) {
     }
 
-    public asyncCheckpoint_result deepCopy() {
-      return new asyncCheckpoint_result(this);
+    public accessBlocks_result deepCopy() {
+      return new accessBlocks_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
-      this.e = null;
     }
 
-    public boolean isSuccess() {
-      return this.success;
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
     }
 
-    public asyncCheckpoint_result setSuccess(boolean success) {
-      this.success = success;
-      setSuccessIsSet(true);
-      return this;
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
     }
 
-    public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
     }
 
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof accessBlocks_result)
+        return this.equals((accessBlocks_result)that);
+      return false;
     }
 
-    public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    public boolean equals(accessBlocks_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(accessBlocks_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("accessBlocks_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class accessBlocks_resultStandardSchemeFactory implements SchemeFactory {
+      public accessBlocks_resultStandardScheme getScheme() {
+        return new accessBlocks_resultStandardScheme();
+      }
+    }
+
+    private static class accessBlocks_resultStandardScheme extends StandardScheme<accessBlocks_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, accessBlocks_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, accessBlocks_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class accessBlocks_resultTupleSchemeFactory implements SchemeFactory {
+      public accessBlocks_resultTupleScheme getScheme() {
+        return new accessBlocks_resultTupleScheme();
+      }
+    }
+
+    private static class accessBlocks_resultTupleScheme extends TupleScheme<accessBlocks_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, accessBlocks_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, accessBlocks_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class asyncCheckpoint_args implements org.apache.thrift.TBase<asyncCheckpoint_args, asyncCheckpoint_args._Fields>, java.io.Serializable, Cloneable, Comparable<asyncCheckpoint_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("asyncCheckpoint_args");
+
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I64, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new asyncCheckpoint_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new asyncCheckpoint_argsTupleSchemeFactory());
+    }
+
+    /**
+     * the id of the file being accessed
+     */
+    public long fileId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the id of the file being accessed
+       */
+      FILE_ID((short)1, "fileId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILE_ID
+            return FILE_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __FILEID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(asyncCheckpoint_args.class, metaDataMap);
+    }
+
+    public asyncCheckpoint_args() {
+    }
+
+    public asyncCheckpoint_args(
+      long fileId)
+    {
+      this();
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public asyncCheckpoint_args(asyncCheckpoint_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.fileId = other.fileId;
+    }
+
+    public asyncCheckpoint_args deepCopy() {
+      return new asyncCheckpoint_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setFileIdIsSet(false);
+      this.fileId = 0;
+    }
+
+    /**
+     * the id of the file being accessed
+     */
+    public long getFileId() {
+      return this.fileId;
+    }
+
+    /**
+     * the id of the file being accessed
+     */
+    public asyncCheckpoint_args setFileId(long fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      return this;
+    }
+
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILE_ID:
+        if (value == null) {
+          unsetFileId();
+        } else {
+          setFileId((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILE_ID:
+        return Long.valueOf(getFileId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILE_ID:
+        return isSetFileId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof asyncCheckpoint_args)
+        return this.equals((asyncCheckpoint_args)that);
+      return false;
+    }
+
+    public boolean equals(asyncCheckpoint_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_fileId = true;
+      boolean that_present_fileId = true;
+      if (this_present_fileId || that_present_fileId) {
+        if (!(this_present_fileId && that_present_fileId))
+          return false;
+        if (this.fileId != that.fileId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_fileId = true;
+      list.add(present_fileId);
+      if (present_fileId)
+        list.add(fileId);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(asyncCheckpoint_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFileId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("asyncCheckpoint_args(");
+      boolean first = true;
+
+      sb.append("fileId:");
+      sb.append(this.fileId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class asyncCheckpoint_argsStandardSchemeFactory implements SchemeFactory {
+      public asyncCheckpoint_argsStandardScheme getScheme() {
+        return new asyncCheckpoint_argsStandardScheme();
+      }
+    }
+
+    private static class asyncCheckpoint_argsStandardScheme extends StandardScheme<asyncCheckpoint_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, asyncCheckpoint_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.fileId = iprot.readI64();
+                struct.setFileIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, asyncCheckpoint_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
+        oprot.writeI64(struct.fileId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class asyncCheckpoint_argsTupleSchemeFactory implements SchemeFactory {
+      public asyncCheckpoint_argsTupleScheme getScheme() {
+        return new asyncCheckpoint_argsTupleScheme();
+      }
+    }
+
+    private static class asyncCheckpoint_argsTupleScheme extends TupleScheme<asyncCheckpoint_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, asyncCheckpoint_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFileId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFileId()) {
+          oprot.writeI64(struct.fileId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, asyncCheckpoint_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.fileId = iprot.readI64();
+          struct.setFileIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class asyncCheckpoint_result implements org.apache.thrift.TBase<asyncCheckpoint_result, asyncCheckpoint_result._Fields>, java.io.Serializable, Cloneable, Comparable<asyncCheckpoint_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("asyncCheckpoint_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new asyncCheckpoint_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new asyncCheckpoint_resultTupleSchemeFactory());
+    }
+
+    public boolean success; // required
+    public tachyon.thrift.TachyonTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(asyncCheckpoint_result.class, metaDataMap);
+    }
+
+    public asyncCheckpoint_result() {
+    }
+
+    public asyncCheckpoint_result(
+      boolean success,
+      tachyon.thrift.TachyonTException e)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public asyncCheckpoint_result(asyncCheckpoint_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+      if (other.isSetE()) {
+        this.e = new tachyon.thrift.TachyonTException(other.e);
+      }
+    }
+
+    public asyncCheckpoint_result deepCopy() {
+      return new asyncCheckpoint_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = false;
+      this.e = null;
+    }
+
+    public boolean isSuccess() {
+      return this.success;
+    }
+
+    public asyncCheckpoint_result setSuccess(boolean success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public tachyon.thrift.TachyonTException getE() {
+      return this.e;
+    }
+
+    public asyncCheckpoint_result setE(tachyon.thrift.TachyonTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Boolean)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((tachyon.thrift.TachyonTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return Boolean.valueOf(isSuccess());
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof asyncCheckpoint_result)
+        return this.equals((asyncCheckpoint_result)that);
+      return false;
+    }
+
+    public boolean equals(asyncCheckpoint_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true;
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(asyncCheckpoint_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("asyncCheckpoint_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class asyncCheckpoint_resultStandardSchemeFactory implements SchemeFactory {
+      public asyncCheckpoint_resultStandardScheme getScheme() {
+        return new asyncCheckpoint_resultStandardScheme();
+      }
+    }
+
+    private static class asyncCheckpoint_resultStandardScheme extends StandardScheme<asyncCheckpoint_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, asyncCheckpoint_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new tachyon.thrift.TachyonTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, asyncCheckpoint_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBool(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class asyncCheckpoint_resultTupleSchemeFactory implements SchemeFactory {
+      public asyncCheckpoint_resultTupleScheme getScheme() {
+        return new asyncCheckpoint_resultTupleScheme();
+      }
+    }
+
+    private static class asyncCheckpoint_resultTupleScheme extends TupleScheme<asyncCheckpoint_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, asyncCheckpoint_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeBool(struct.success);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, asyncCheckpoint_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBool();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new tachyon.thrift.TachyonTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class cacheBlock_args implements org.apache.thrift.TBase<cacheBlock_args, cacheBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<cacheBlock_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cacheBlock_args");
+
+    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new cacheBlock_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cacheBlock_argsTupleSchemeFactory());
+    }
+
+    /**
+     * the id of the current session
+     */
+    public long sessionId; // required
+    /**
+     * the id of the block being accessed
+     */
+    public long blockId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the id of the current session
+       */
+      SESSION_ID((short)1, "sessionId"),
+      /**
+       * the id of the block being accessed
+       */
+      BLOCK_ID((short)2, "blockId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // SESSION_ID
+            return SESSION_ID;
+          case 2: // BLOCK_ID
+            return BLOCK_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SESSIONID_ISSET_ID = 0;
+    private static final int __BLOCKID_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cacheBlock_args.class, metaDataMap);
+    }
+
+    public cacheBlock_args() {
+    }
+
+    public cacheBlock_args(
+      long sessionId,
+      long blockId)
+    {
+      this();
+      this.sessionId = sessionId;
+      setSessionIdIsSet(true);
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public cacheBlock_args(cacheBlock_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.sessionId = other.sessionId;
+      this.blockId = other.blockId;
+    }
+
+    public cacheBlock_args deepCopy() {
+      return new cacheBlock_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setSessionIdIsSet(false);
+      this.sessionId = 0;
+      setBlockIdIsSet(false);
+      this.blockId = 0;
+    }
+
+    /**
+     * the id of the current session
+     */
+    public long getSessionId() {
+      return this.sessionId;
+    }
+
+    /**
+     * the id of the current session
+     */
+    public cacheBlock_args setSessionId(long sessionId) {
+      this.sessionId = sessionId;
+      setSessionIdIsSet(true);
+      return this;
+    }
+
+    public void unsetSessionId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SESSIONID_ISSET_ID);
+    }
+
+    /** Returns true if field sessionId is set (has been assigned a value) and false otherwise */
+    public boolean isSetSessionId() {
+      return EncodingUtils.testBit(__isset_bitfield, __SESSIONID_ISSET_ID);
+    }
+
+    public void setSessionIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SESSIONID_ISSET_ID, value);
+    }
+
+    /**
+     * the id of the block being accessed
+     */
+    public long getBlockId() {
+      return this.blockId;
+    }
+
+    /**
+     * the id of the block being accessed
+     */
+    public cacheBlock_args setBlockId(long blockId) {
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
+      return this;
+    }
+
+    public void unsetBlockId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    }
+
+    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockId() {
+      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    }
+
+    public void setBlockIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SESSION_ID:
+        if (value == null) {
+          unsetSessionId();
+        } else {
+          setSessionId((Long)value);
+        }
+        break;
+
+      case BLOCK_ID:
+        if (value == null) {
+          unsetBlockId();
+        } else {
+          setBlockId((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SESSION_ID:
+        return Long.valueOf(getSessionId());
+
+      case BLOCK_ID:
+        return Long.valueOf(getBlockId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SESSION_ID:
+        return isSetSessionId();
+      case BLOCK_ID:
+        return isSetBlockId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof cacheBlock_args)
+        return this.equals((cacheBlock_args)that);
+      return false;
+    }
+
+    public boolean equals(cacheBlock_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_sessionId = true;
+      boolean that_present_sessionId = true;
+      if (this_present_sessionId || that_present_sessionId) {
+        if (!(this_present_sessionId && that_present_sessionId))
+          return false;
+        if (this.sessionId != that.sessionId)
+          return false;
+      }
+
+      boolean this_present_blockId = true;
+      boolean that_present_blockId = true;
+      if (this_present_blockId || that_present_blockId) {
+        if (!(this_present_blockId && that_present_blockId))
+          return false;
+        if (this.blockId != that.blockId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_sessionId = true;
+      list.add(present_sessionId);
+      if (present_sessionId)
+        list.add(sessionId);
+
+      boolean present_blockId = true;
+      list.add(present_blockId);
+      if (present_blockId)
+        list.add(blockId);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(cacheBlock_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSessionId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBlockId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("cacheBlock_args(");
+      boolean first = true;
+
+      sb.append("sessionId:");
+      sb.append(this.sessionId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("blockId:");
+      sb.append(this.blockId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class cacheBlock_argsStandardSchemeFactory implements SchemeFactory {
+      public cacheBlock_argsStandardScheme getScheme() {
+        return new cacheBlock_argsStandardScheme();
+      }
+    }
+
+    private static class cacheBlock_argsStandardScheme extends StandardScheme<cacheBlock_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cacheBlock_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // SESSION_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.sessionId = iprot.readI64();
+                struct.setSessionIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // BLOCK_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.blockId = iprot.readI64();
+                struct.setBlockIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cacheBlock_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
+        oprot.writeI64(struct.sessionId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
+        oprot.writeI64(struct.blockId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class cacheBlock_argsTupleSchemeFactory implements SchemeFactory {
+      public cacheBlock_argsTupleScheme getScheme() {
+        return new cacheBlock_argsTupleScheme();
+      }
+    }
+
+    private static class cacheBlock_argsTupleScheme extends TupleScheme<cacheBlock_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, cacheBlock_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSessionId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBlockId()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSessionId()) {
+          oprot.writeI64(struct.sessionId);
+        }
+        if (struct.isSetBlockId()) {
+          oprot.writeI64(struct.blockId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, cacheBlock_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.sessionId = iprot.readI64();
+          struct.setSessionIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.blockId = iprot.readI64();
+          struct.setBlockIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class cacheBlock_result implements org.apache.thrift.TBase<cacheBlock_result, cacheBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<cacheBlock_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cacheBlock_result");
+
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new cacheBlock_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cacheBlock_resultTupleSchemeFactory());
+    }
+
+    public tachyon.thrift.TachyonTException e; // required
+    public tachyon.thrift.ThriftIOException ioe; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E((short)1, "e"),
+      IOE((short)2, "ioe");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E
+            return E;
+          case 2: // IOE
+            return IOE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cacheBlock_result.class, metaDataMap);
+    }
+
+    public cacheBlock_result() {
+    }
+
+    public cacheBlock_result(
+      tachyon.thrift.TachyonTException e,
+      tachyon.thrift.ThriftIOException ioe)
+    {
+      this();
+      this.e = e;
+      this.ioe = ioe;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public cacheBlock_result(cacheBlock_result other) {
+      if (other.isSetE()) {
+        this.e = new tachyon.thrift.TachyonTException(other.e);
+      }
+      if (other.isSetIoe()) {
+        this.ioe = new tachyon.thrift.ThriftIOException(other.ioe);
+      }
+    }
+
+    public cacheBlock_result deepCopy() {
+      return new cacheBlock_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.e = null;
+      this.ioe = null;
+    }
+
+    public tachyon.thrift.TachyonTException getE() {
+      return this.e;
+    }
+
+    public cacheBlock_result setE(tachyon.thrift.TachyonTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public tachyon.thrift.ThriftIOException getIoe() {
+      return this.ioe;
+    }
+
+    public cacheBlock_result setIoe(tachyon.thrift.ThriftIOException ioe) {
+      this.ioe = ioe;
+      return this;
+    }
+
+    public void unsetIoe() {
+      this.ioe = null;
+    }
+
+    /** Returns true if field ioe is set (has been assigned a value) and false otherwise */
+    public boolean isSetIoe() {
+      return this.ioe != null;
+    }
+
+    public void setIoeIsSet(boolean value) {
+      if (!value) {
+        this.ioe = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((tachyon.thrift.TachyonTException)value);
+        }
+        break;
+
+      case IOE:
+        if (value == null) {
+          unsetIoe();
+        } else {
+          setIoe((tachyon.thrift.ThriftIOException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case E:
+        return getE();
+
+      case IOE:
+        return getIoe();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case E:
+        return isSetE();
+      case IOE:
+        return isSetIoe();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof cacheBlock_result)
+        return this.equals((cacheBlock_result)that);
+      return false;
+    }
+
+    public boolean equals(cacheBlock_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      boolean this_present_ioe = true && this.isSetIoe();
+      boolean that_present_ioe = true && that.isSetIoe();
+      if (this_present_ioe || that_present_ioe) {
+        if (!(this_present_ioe && that_present_ioe))
+          return false;
+        if (!this.ioe.equals(that.ioe))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      boolean present_ioe = true && (isSetIoe());
+      list.add(present_ioe);
+      if (present_ioe)
+        list.add(ioe);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(cacheBlock_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetIoe()).compareTo(other.isSetIoe());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIoe()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ioe, other.ioe);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("cacheBlock_result(");
+      boolean first = true;
+
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ioe:");
+      if (this.ioe == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ioe);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class cacheBlock_resultStandardSchemeFactory implements SchemeFactory {
+      public cacheBlock_resultStandardScheme getScheme() {
+        return new cacheBlock_resultStandardScheme();
+      }
+    }
+
+    private static class cacheBlock_resultStandardScheme extends StandardScheme<cacheBlock_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cacheBlock_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new tachyon.thrift.TachyonTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // IOE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ioe = new tachyon.thrift.ThriftIOException();
+                struct.ioe.read(iprot);
+                struct.setIoeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cacheBlock_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ioe != null) {
+          oprot.writeFieldBegin(IOE_FIELD_DESC);
+          struct.ioe.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class cacheBlock_resultTupleSchemeFactory implements SchemeFactory {
+      public cacheBlock_resultTupleScheme getScheme() {
+        return new cacheBlock_resultTupleScheme();
+      }
+    }
+
+    private static class cacheBlock_resultTupleScheme extends TupleScheme<cacheBlock_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, cacheBlock_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetE()) {
+          optionals.set(0);
+        }
+        if (struct.isSetIoe()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+        if (struct.isSetIoe()) {
+          struct.ioe.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, cacheBlock_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.e = new tachyon.thrift.TachyonTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ioe = new tachyon.thrift.ThriftIOException();
+          struct.ioe.read(iprot);
+          struct.setIoeIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class cancelBlock_args implements org.apache.thrift.TBase<cancelBlock_args, cancelBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<cancelBlock_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancelBlock_args");
+
+    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new cancelBlock_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cancelBlock_argsTupleSchemeFactory());
+    }
+
+    /**
+     * the id of the current session
+     */
+    public long sessionId; // required
+    /**
+     * the id of the block being accessed
+     */
+    public long blockId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the id of the current session
+       */
+      SESSION_ID((short)1, "sessionId"),
+      /**
+       * the id of the block being accessed
+       */
+      BLOCK_ID((short)2, "blockId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // SESSION_ID
+            return SESSION_ID;
+          case 2: // BLOCK_ID
+            return BLOCK_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SESSIONID_ISSET_ID = 0;
+    private static final int __BLOCKID_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancelBlock_args.class, metaDataMap);
+    }
+
+    public cancelBlock_args() {
+    }
+
+    public cancelBlock_args(
+      long sessionId,
+      long blockId)
+    {
+      this();
+      this.sessionId = sessionId;
+      setSessionIdIsSet(true);
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public cancelBlock_args(cancelBlock_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.sessionId = other.sessionId;
+      this.blockId = other.blockId;
+    }
+
+    public cancelBlock_args deepCopy() {
+      return new cancelBlock_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setSessionIdIsSet(false);
+      this.sessionId = 0;
+      setBlockIdIsSet(false);
+      this.blockId = 0;
+    }
+
+    /**
+     * the id of the current session
+     */
+    public long getSessionId() {
+      return this.sessionId;
+    }
+
+    /**
+     * the id of the current session
+     */
+    public cancelBlock_args setSessionId(long sessionId) {
+      this.sessionId = sessionId;
+      setSessionIdIsSet(true);
+      return this;
+    }
+
+    public void unsetSessionId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SESSIONID_ISSET_ID);
+    }
+
+    /** Returns true if field sessionId is set (has been assigned a value) and false otherwise */
+    public boolean isSetSessionId() {
+      return EncodingUtils.testBit(__isset_bitfield, __SESSIONID_ISSET_ID);
+    }
+
+    public void setSessionIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SESSIONID_ISSET_ID, value);
+    }
+
+    /**
+     * the id of the block being accessed
+     */
+    public long getBlockId() {
+      return this.blockId;
+    }
+
+    /**
+     * the id of the block being accessed
+     */
+    public cancelBlock_args setBlockId(long blockId) {
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
+      return this;
+    }
+
+    public void unsetBlockId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    }
+
+    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockId() {
+      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    }
+
+    public void setBlockIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SESSION_ID:
+        if (value == null) {
+          unsetSessionId();
+        } else {
+          setSessionId((Long)value);
+        }
+        break;
+
+      case BLOCK_ID:
+        if (value == null) {
+          unsetBlockId();
+        } else {
+          setBlockId((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SESSION_ID:
+        return Long.valueOf(getSessionId());
+
+      case BLOCK_ID:
+        return Long.valueOf(getBlockId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SESSION_ID:
+        return isSetSessionId();
+      case BLOCK_ID:
+        return isSetBlockId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof cancelBlock_args)
+        return this.equals((cancelBlock_args)that);
+      return false;
+    }
+
+    public boolean equals(cancelBlock_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_sessionId = true;
+      boolean that_present_sessionId = true;
+      if (this_present_sessionId || that_present_sessionId) {
+        if (!(this_present_sessionId && that_present_sessionId))
+          return false;
+        if (this.sessionId != that.sessionId)
+          return false;
+      }
+
+      boolean this_present_blockId = true;
+      boolean that_present_blockId = true;
+      if (this_present_blockId || that_present_blockId) {
+        if (!(this_present_blockId && that_present_blockId))
+          return false;
+        if (this.blockId != that.blockId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_sessionId = true;
+      list.add(present_sessionId);
+      if (present_sessionId)
+        list.add(sessionId);
+
+      boolean present_blockId = true;
+      list.add(present_blockId);
+      if (present_blockId)
+        list.add(blockId);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(cancelBlock_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSessionId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBlockId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("cancelBlock_args(");
+      boolean first = true;
+
+      sb.append("sessionId:");
+      sb.append(this.sessionId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("blockId:");
+      sb.append(this.blockId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class cancelBlock_argsStandardSchemeFactory implements SchemeFactory {
+      public cancelBlock_argsStandardScheme getScheme() {
+        return new cancelBlock_argsStandardScheme();
+      }
+    }
+
+    private static class cancelBlock_argsStandardScheme extends StandardScheme<cancelBlock_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cancelBlock_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // SESSION_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.sessionId = iprot.readI64();
+                struct.setSessionIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // BLOCK_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.blockId = iprot.readI64();
+                struct.setBlockIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cancelBlock_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
+        oprot.writeI64(struct.sessionId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
+        oprot.writeI64(struct.blockId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class cancelBlock_argsTupleSchemeFactory implements SchemeFactory {
+      public cancelBlock_argsTupleScheme getScheme() {
+        return new cancelBlock_argsTupleScheme();
+      }
+    }
+
+    private static class cancelBlock_argsTupleScheme extends TupleScheme<cancelBlock_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, cancelBlock_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSessionId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBlockId()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSessionId()) {
+          oprot.writeI64(struct.sessionId);
+        }
+        if (struct.isSetBlockId()) {
+          oprot.writeI64(struct.blockId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, cancelBlock_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.sessionId = iprot.readI64();
+          struct.setSessionIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.blockId = iprot.readI64();
+          struct.setBlockIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class cancelBlock_result implements org.apache.thrift.TBase<cancelBlock_result, cancelBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<cancelBlock_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancelBlock_result");
+
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new cancelBlock_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cancelBlock_resultTupleSchemeFactory());
+    }
+
+    public tachyon.thrift.TachyonTException e; // required
+    public tachyon.thrift.ThriftIOException ioe; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E((short)1, "e"),
+      IOE((short)2, "ioe");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E
+            return E;
+          case 2: // IOE
+            return IOE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancelBlock_result.class, metaDataMap);
+    }
+
+    public cancelBlock_result() {
+    }
+
+    public cancelBlock_result(
+      tachyon.thrift.TachyonTException e,
+      tachyon.thrift.ThriftIOException ioe)
+    {
+      this();
+      this.e = e;
+      this.ioe = ioe;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public cancelBlock_result(cancelBlock_result other) {
+      if (other.isSetE()) {
+        this.e = new tachyon.thrift.TachyonTException(other.e);
+      }
+      if (other.isSetIoe()) {
+        this.ioe = new tachyon.thrift.ThriftIOException(other.ioe);
+      }
+    }
+
+    public cancelBlock_result deepCopy() {
+      return new cancelBlock_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.e = null;
+      this.ioe = null;
     }
 
     public tachyon.thrift.TachyonTException getE() {
       return this.e;
     }
 
-    public asyncCheckpoint_result setE(tachyon.thrift.TachyonTException e) {
+    public cancelBlock_result setE(tachyon.thrift.TachyonTException e) {
       this.e = e;
       return this;
     }
@@ -2842,21 +5820,45 @@ public class BlockWorkerClientService {
       }
     }
 
+    public tachyon.thrift.ThriftIOException getIoe() {
+      return this.ioe;
+    }
+
+    public cancelBlock_result setIoe(tachyon.thrift.ThriftIOException ioe) {
+      this.ioe = ioe;
+      return this;
+    }
+
+    public void unsetIoe() {
+      this.ioe = null;
+    }
+
+    /** Returns true if field ioe is set (has been assigned a value) and false otherwise */
+    public boolean isSetIoe() {
+      return this.ioe != null;
+    }
+
+    public void setIoeIsSet(boolean value) {
+      if (!value) {
+        this.ioe = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
+      case E:
         if (value == null) {
-          unsetSuccess();
+          unsetE();
         } else {
-          setSuccess((Boolean)value);
+          setE((tachyon.thrift.TachyonTException)value);
         }
         break;
 
-      case E:
+      case IOE:
         if (value == null) {
-          unsetE();
+          unsetIoe();
         } else {
-          setE((tachyon.thrift.TachyonTException)value);
+          setIoe((tachyon.thrift.ThriftIOException)value);
         }
         break;
 
@@ -2865,12 +5867,12 @@ public class BlockWorkerClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return Boolean.valueOf(isSuccess());
-
       case E:
         return getE();
 
+      case IOE:
+        return getIoe();
+
       }
       throw new IllegalStateException();
     }
@@ -2882,10 +5884,10 @@ public class BlockWorkerClientService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       case E:
         return isSetE();
+      case IOE:
+        return isSetIoe();
       }
       throw new IllegalStateException();
     }
@@ -2894,24 +5896,15 @@ public class BlockWorkerClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof asyncCheckpoint_result)
-        return this.equals((asyncCheckpoint_result)that);
+      if (that instanceof cancelBlock_result)
+        return this.equals((cancelBlock_result)that);
       return false;
     }
 
-    public boolean equals(asyncCheckpoint_result that) {
+    public boolean equals(cancelBlock_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (this.success != that.success)
-          return false;
-      }
-
       boolean this_present_e = true && this.isSetE();
       boolean that_present_e = true && that.isSetE();
       if (this_present_e || that_present_e) {
@@ -2921,6 +5914,15 @@ public class BlockWorkerClientService {
           return false;
       }
 
+      boolean this_present_ioe = true && this.isSetIoe();
+      boolean that_present_ioe = true && that.isSetIoe();
+      if (this_present_ioe || that_present_ioe) {
+        if (!(this_present_ioe && that_present_ioe))
+          return false;
+        if (!this.ioe.equals(that.ioe))
+          return false;
+      }
+
       return true;
     }
 
@@ -2928,43 +5930,43 @@ public class BlockWorkerClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true;
-      list.add(present_success);
-      if (present_success)
-        list.add(success);
-
       boolean present_e = true && (isSetE());
       list.add(present_e);
       if (present_e)
         list.add(e);
 
+      boolean present_ioe = true && (isSetIoe());
+      list.add(present_ioe);
+      if (present_ioe)
+        list.add(ioe);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(asyncCheckpoint_result other) {
+    public int compareTo(cancelBlock_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      lastComparison = Boolean.valueOf(isSetIoe()).compareTo(other.isSetIoe());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+      if (isSetIoe()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ioe, other.ioe);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -2986,13 +5988,9 @@ public class BlockWorkerClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("asyncCheckpoint_result(");
+      StringBuilder sb = new StringBuilder("cancelBlock_result(");
       boolean first = true;
 
-      sb.append("success:");
-      sb.append(this.success);
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("e:");
       if (this.e == null) {
         sb.append("null");
@@ -3000,6 +5998,14 @@ public class BlockWorkerClientService {
         sb.append(this.e);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("ioe:");
+      if (this.ioe == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ioe);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -3019,23 +6025,21 @@ public class BlockWorkerClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class asyncCheckpoint_resultStandardSchemeFactory implements SchemeFactory {
-      public asyncCheckpoint_resultStandardScheme getScheme() {
-        return new asyncCheckpoint_resultStandardScheme();
+    private static class cancelBlock_resultStandardSchemeFactory implements SchemeFactory {
+      public cancelBlock_resultStandardScheme getScheme() {
+        return new cancelBlock_resultStandardScheme();
       }
     }
 
-    private static class asyncCheckpoint_resultStandardScheme extends StandardScheme<asyncCheckpoint_result> {
+    private static class cancelBlock_resultStandardScheme extends StandardScheme<cancelBlock_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, asyncCheckpoint_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cancelBlock_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3045,14 +6049,6 @@ public class BlockWorkerClientService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.e = new tachyon.thrift.TachyonTException();
@@ -3062,6 +6058,15 @@ public class BlockWorkerClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // IOE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ioe = new tachyon.thrift.ThriftIOException();
+                struct.ioe.read(iprot);
+                struct.setIoeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -3073,102 +6078,103 @@ public class BlockWorkerClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, asyncCheckpoint_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cancelBlock_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBool(struct.success);
-          oprot.writeFieldEnd();
-        }
         if (struct.e != null) {
           oprot.writeFieldBegin(E_FIELD_DESC);
           struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
+        if (struct.ioe != null) {
+          oprot.writeFieldBegin(IOE_FIELD_DESC);
+          struct.ioe.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class asyncCheckpoint_resultTupleSchemeFactory implements SchemeFactory {
-      public asyncCheckpoint_resultTupleScheme getScheme() {
-        return new asyncCheckpoint_resultTupleScheme();
+    private static class cancelBlock_resultTupleSchemeFactory implements SchemeFactory {
+      public cancelBlock_resultTupleScheme getScheme() {
+        return new cancelBlock_resultTupleScheme();
       }
     }
 
-    private static class asyncCheckpoint_resultTupleScheme extends TupleScheme<asyncCheckpoint_result> {
+    private static class cancelBlock_resultTupleScheme extends TupleScheme<cancelBlock_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, asyncCheckpoint_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, cancelBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
+        if (struct.isSetE()) {
           optionals.set(0);
         }
-        if (struct.isSetE()) {
+        if (struct.isSetIoe()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
-        }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
+        if (struct.isSetIoe()) {
+          struct.ioe.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, asyncCheckpoint_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, cancelBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readBool();
-          struct.setSuccessIsSet(true);
-        }
-        if (incoming.get(1)) {
           struct.e = new tachyon.thrift.TachyonTException();
           struct.e.read(iprot);
           struct.setEIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.ioe = new tachyon.thrift.ThriftIOException();
+          struct.ioe.read(iprot);
+          struct.setIoeIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class cacheBlock_args implements org.apache.thrift.TBase<cacheBlock_args, cacheBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<cacheBlock_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cacheBlock_args");
-
-    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.I64, (short)1);
-    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)2);
+  public static class lockBlock_args implements org.apache.thrift.TBase<lockBlock_args, lockBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<lockBlock_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("lockBlock_args");
+
+    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.I64, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new cacheBlock_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new cacheBlock_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new lockBlock_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new lockBlock_argsTupleSchemeFactory());
     }
 
-    /**
-     * the id of the current session
-     */
-    public long sessionId; // required
     /**
      * the id of the block being accessed
      */
     public long blockId; // required
+    /**
+     * the id of the current session
+     */
+    public long sessionId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the id of the current session
+       * the id of the block being accessed
        */
-      SESSION_ID((short)1, "sessionId"),
+      BLOCK_ID((short)1, "blockId"),
       /**
-       * the id of the block being accessed
+       * the id of the current session
        */
-      BLOCK_ID((short)2, "blockId");
+      SESSION_ID((short)2, "sessionId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -3183,10 +6189,10 @@ public class BlockWorkerClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // SESSION_ID
-            return SESSION_ID;
-          case 2: // BLOCK_ID
+          case 1: // BLOCK_ID
             return BLOCK_ID;
+          case 2: // SESSION_ID
+            return SESSION_ID;
           default:
             return null;
         }
@@ -3227,128 +6233,128 @@ public class BlockWorkerClientService {
     }
 
     // isset id assignments
-    private static final int __SESSIONID_ISSET_ID = 0;
-    private static final int __BLOCKID_ISSET_ID = 1;
+    private static final int __BLOCKID_ISSET_ID = 0;
+    private static final int __SESSIONID_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cacheBlock_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(lockBlock_args.class, metaDataMap);
     }
 
-    public cacheBlock_args() {
+    public lockBlock_args() {
     }
 
-    public cacheBlock_args(
-      long sessionId,
-      long blockId)
+    public lockBlock_args(
+      long blockId,
+      long sessionId)
     {
       this();
-      this.sessionId = sessionId;
-      setSessionIdIsSet(true);
       this.blockId = blockId;
       setBlockIdIsSet(true);
+      this.sessionId = sessionId;
+      setSessionIdIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public cacheBlock_args(cacheBlock_args other) {
+    public lockBlock_args(lockBlock_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.sessionId = other.sessionId;
       this.blockId = other.blockId;
+      this.sessionId = other.sessionId;
     }
 
-    public cacheBlock_args deepCopy() {
-      return new cacheBlock_args(this);
+    public lockBlock_args deepCopy() {
+      return new lockBlock_args(this);
     }
 
     @Override
     public void clear() {
-      setSessionIdIsSet(false);
-      this.sessionId = 0;
       setBlockIdIsSet(false);
       this.blockId = 0;
+      setSessionIdIsSet(false);
+      this.sessionId = 0;
     }
 
     /**
-     * the id of the current session
+     * the id of the block being accessed
      */
-    public long getSessionId() {
-      return this.sessionId;
+    public long getBlockId() {
+      return this.blockId;
     }
 
     /**
-     * the id of the current session
+     * the id of the block being accessed
      */
-    public cacheBlock_args setSessionId(long sessionId) {
-      this.sessionId = sessionId;
-      setSessionIdIsSet(true);
+    public lockBlock_args setBlockId(long blockId) {
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
       return this;
     }
 
-    public void unsetSessionId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SESSIONID_ISSET_ID);
+    public void unsetBlockId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
     }
 
-    /** Returns true if field sessionId is set (has been assigned a value) and false otherwise */
-    public boolean isSetSessionId() {
-      return EncodingUtils.testBit(__isset_bitfield, __SESSIONID_ISSET_ID);
+    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockId() {
+      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
     }
 
-    public void setSessionIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SESSIONID_ISSET_ID, value);
+    public void setBlockIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
     }
 
     /**
-     * the id of the block being accessed
+     * the id of the current session
      */
-    public long getBlockId() {
-      return this.blockId;
+    public long getSessionId() {
+      return this.sessionId;
     }
 
     /**
-     * the id of the block being accessed
+     * the id of the current session
      */
-    public cacheBlock_args setBlockId(long blockId) {
-      this.blockId = blockId;
-      setBlockIdIsSet(true);
+    public lockBlock_args setSessionId(long sessionId) {
+      this.sessionId = sessionId;
+      setSessionIdIsSet(true);
       return this;
     }
 
-    public void unsetBlockId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    public void unsetSessionId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SESSIONID_ISSET_ID);
     }
 
-    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
-    public boolean isSetBlockId() {
-      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    /** Returns true if field sessionId is set (has been assigned a value) and false otherwise */
+    public boolean isSetSessionId() {
+      return EncodingUtils.testBit(__isset_bitfield, __SESSIONID_ISSET_ID);
     }
 
-    public void setBlockIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
+    public void setSessionIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SESSIONID_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SESSION_ID:
+      case BLOCK_ID:
         if (value == null) {
-          unsetSessionId();
+          unsetBlockId();
         } else {
-          setSessionId((Long)value);
+          setBlockId((Long)value);
         }
         break;
 
-      case BLOCK_ID:
+      case SESSION_ID:
         if (value == null) {
-          unsetBlockId();
+          unsetSessionId();
         } else {
-          setBlockId((Long)value);
+          setSessionId((Long)value);
         }
         break;
 
@@ -3357,12 +6363,12 @@ public class BlockWorkerClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SESSION_ID:
-        return Long.valueOf(getSessionId());
-
       case BLOCK_ID:
         return Long.valueOf(getBlockId());
 
+      case SESSION_ID:
+        return Long.valueOf(getSessionId());
+
       }
       throw new IllegalStateException();
     }
@@ -3374,10 +6380,10 @@ public class BlockWorkerClientService {
       }
 
       switch (field) {
-      case SESSION_ID:
-        return isSetSessionId();
       case BLOCK_ID:
         return isSetBlockId();
+      case SESSION_ID:
+        return isSetSessionId();
       }
       throw new IllegalStateException();
     }
@@ -3386,24 +6392,15 @@ public class BlockWorkerClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof cacheBlock_args)
-        return this.equals((cacheBlock_args)that);
+      if (that instanceof lockBlock_args)
+        return this.equals((lockBlock_args)that);
       return false;
     }
 
-    public boolean equals(cacheBlock_args that) {
+    public boolean equals(lockBlock_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_sessionId = true;
-      boolean that_present_sessionId = true;
-      if (this_present_sessionId || that_present_sessionId) {
-        if (!(this_present_sessionId && that_present_sessionId))
-          return false;
-        if (this.sessionId != that.sessionId)
-          return false;
-      }
-
       boolean this_present_blockId = true;
       boolean that_present_blockId = true;
       if (this_present_blockId || that_present_blockId) {
@@ -3413,6 +6410,15 @@ public class BlockWorkerClientService {
           return false;
       }
 
+      boolean this_present_sessionId = true;
+      boolean that_present_sessionId = true;
+      if (this_present_sessionId || that_present_sessionId) {
+        if (!(this_present_sessionId && that_present_sessionId))
+          return false;
+        if (this.sessionId != that.sessionId)
+          return false;
+      }
+
       return true;
     }
 
@@ -3420,43 +6426,43 @@ public class BlockWorkerClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_sessionId = true;
-      list.add(present_sessionId);
-      if (present_sessionId)
-        list.add(sessionId);
-
       boolean present_blockId = true;
       list.add(present_blockId);
       if (present_blockId)
         list.add(blockId);
 
+      boolean present_sessionId = true;
+      list.add(present_sessionId);
+      if (present_sessionId)
+        list.add(sessionId);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(cacheBlock_args other) {
+    public int compareTo(lockBlock_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
+      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSessionId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
+      if (isSetBlockId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
+      lastComparison = Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetBlockId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
+      if (isSetSessionId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3478,16 +6484,16 @@ public class BlockWorkerClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("cacheBlock_args(");
+      StringBuilder sb = new StringBuilder("lockBlock_args(");
       boolean first = true;
 
-      sb.append("sessionId:");
-      sb.append(this.sessionId);
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("blockId:");
       sb.append(this.blockId);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("sessionId:");
+      sb.append(this.sessionId);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -3515,15 +6521,15 @@ public class BlockWorkerClientService {
       }
     }
 
-    private static class cacheBlock_argsStandardSchemeFactory implements SchemeFactory {
-      public cacheBlock_argsStandardScheme getScheme() {
-        return new cacheBlock_argsStandardScheme();
+    private static class lockBlock_argsStandardSchemeFactory implements SchemeFactory {
+      public lockBlock_argsStandardScheme getScheme() {
+        return new lockBlock_argsStandardScheme();
       }
     }
 
-    private static class cacheBlock_argsStandardScheme extends StandardScheme<cacheBlock_args> {
+    private static class lockBlock_argsStandardScheme extends StandardScheme<lockBlock_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, cacheBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, lockBlock_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3533,18 +6539,18 @@ public class BlockWorkerClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // SESSION_ID
+            case 1: // BLOCK_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.sessionId = iprot.readI64();
-                struct.setSessionIdIsSet(true);
+                struct.blockId = iprot.readI64();
+                struct.setBlockIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // BLOCK_ID
+            case 2: // SESSION_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.blockId = iprot.readI64();
-                struct.setBlockIdIsSet(true);
+                struct.sessionId = iprot.readI64();
+                struct.setSessionIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -3560,85 +6566,85 @@ public class BlockWorkerClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, cacheBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, lockBlock_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
-        oprot.writeI64(struct.sessionId);
-        oprot.writeFieldEnd();
         oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
         oprot.writeI64(struct.blockId);
         oprot.writeFieldEnd();
+        oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
+        oprot.writeI64(struct.sessionId);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class cacheBlock_argsTupleSchemeFactory implements SchemeFactory {
-      public cacheBlock_argsTupleScheme getScheme() {
-        return new cacheBlock_argsTupleScheme();
+    private static class lockBlock_argsTupleSchemeFactory implements SchemeFactory {
+      public lockBlock_argsTupleScheme getScheme() {
+        return new lockBlock_argsTupleScheme();
       }
     }
 
-    private static class cacheBlock_argsTupleScheme extends TupleScheme<cacheBlock_args> {
+    private static class lockBlock_argsTupleScheme extends TupleScheme<lockBlock_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, cacheBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, lockBlock_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetSessionId()) {
+        if (struct.isSetBlockId()) {
           optionals.set(0);
         }
-        if (struct.isSetBlockId()) {
+        if (struct.isSetSessionId()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetSessionId()) {
-          oprot.writeI64(struct.sessionId);
-        }
         if (struct.isSetBlockId()) {
           oprot.writeI64(struct.blockId);
         }
+        if (struct.isSetSessionId()) {
+          oprot.writeI64(struct.sessionId);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, cacheBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, lockBlock_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
-        if (incoming.get(0)) {
-          struct.sessionId = iprot.readI64();
-          struct.setSessionIdIsSet(true);
-        }
-        if (incoming.get(1)) {
+        if (incoming.get(0)) {
           struct.blockId = iprot.readI64();
           struct.setBlockIdIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.sessionId = iprot.readI64();
+          struct.setSessionIdIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class cacheBlock_result implements org.apache.thrift.TBase<cacheBlock_result, cacheBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<cacheBlock_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cacheBlock_result");
+  public static class lockBlock_result implements org.apache.thrift.TBase<lockBlock_result, lockBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<lockBlock_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("lockBlock_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new cacheBlock_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new cacheBlock_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new lockBlock_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new lockBlock_resultTupleSchemeFactory());
     }
 
+    public LockBlockResult success; // required
     public tachyon.thrift.TachyonTException e; // required
-    public tachyon.thrift.ThriftIOException ioe; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      E((short)1, "e"),
-      IOE((short)2, "ioe");
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -3653,10 +6659,10 @@ public class BlockWorkerClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           case 1: // E
             return E;
-          case 2: // IOE
-            return IOE;
           default:
             return null;
         }
@@ -3700,111 +6706,111 @@ public class BlockWorkerClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LockBlockResult.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cacheBlock_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(lockBlock_result.class, metaDataMap);
     }
 
-    public cacheBlock_result() {
+    public lockBlock_result() {
     }
 
-    public cacheBlock_result(
-      tachyon.thrift.TachyonTException e,
-      tachyon.thrift.ThriftIOException ioe)
+    public lockBlock_result(
+      LockBlockResult success,
+      tachyon.thrift.TachyonTException e)
     {
       this();
+      this.success = success;
       this.e = e;
-      this.ioe = ioe;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public cacheBlock_result(cacheBlock_result other) {
+    public lockBlock_result(lockBlock_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new LockBlockResult(other.success);
+      }
       if (other.isSetE()) {
         this.e = new tachyon.thrift.TachyonTException(other.e);
       }
-      if (other.isSetIoe()) {
-        this.ioe = new tachyon.thrift.ThriftIOException(other.ioe);
-      }
     }
 
-    public cacheBlock_result deepCopy() {
-      return new cacheBlock_result(this);
+    public lockBlock_result deepCopy() {
+      return new lockBlock_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
       this.e = null;
-      this.ioe = null;
     }
 
-    public tachyon.thrift.TachyonTException getE() {
-      return this.e;
+    public LockBlockResult getSuccess() {
+      return this.success;
     }
 
-    public cacheBlock_result setE(tachyon.thrift.TachyonTException e) {
-      this.e = e;
+    public lockBlock_result setSuccess(LockBlockResult success) {
+      this.success = success;
       return this;
     }
 
-    public void unsetE() {
-      this.e = null;
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    public void setEIsSet(boolean value) {
+    public void setSuccessIsSet(boolean value) {
       if (!value) {
-        this.e = null;
+        this.success = null;
       }
     }
 
-    public tachyon.thrift.ThriftIOException getIoe() {
-      return this.ioe;
+    public tachyon.thrift.TachyonTException getE() {
+      return this.e;
     }
 
-    public cacheBlock_result setIoe(tachyon.thrift.ThriftIOException ioe) {
-      this.ioe = ioe;
+    public lockBlock_result setE(tachyon.thrift.TachyonTException e) {
+      this.e = e;
       return this;
     }
 
-    public void unsetIoe() {
-      this.ioe = null;
+    public void unsetE() {
+      this.e = null;
     }
 
-    /** Returns true if field ioe is set (has been assigned a value) and false otherwise */
-    public boolean isSetIoe() {
-      return this.ioe != null;
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
     }
 
-    public void setIoeIsSet(boolean value) {
+    public void setEIsSet(boolean value) {
       if (!value) {
-        this.ioe = null;
+        this.e = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case E:
+      case SUCCESS:
         if (value == null) {
-          unsetE();
+          unsetSuccess();
         } else {
-          setE((tachyon.thrift.TachyonTException)value);
+          setSuccess((LockBlockResult)value);
         }
         break;
 
-      case IOE:
+      case E:
         if (value == null) {
-          unsetIoe();
+          unsetE();
         } else {
-          setIoe((tachyon.thrift.ThriftIOException)value);
+          setE((tachyon.thrift.TachyonTException)value);
         }
         break;
 
@@ -3813,12 +6819,12 @@ public class BlockWorkerClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       case E:
         return getE();
 
-      case IOE:
-        return getIoe();
-
       }
       throw new IllegalStateException();
     }
@@ -3830,10 +6836,10 @@ public class BlockWorkerClientService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       case E:
         return isSetE();
-      case IOE:
-        return isSetIoe();
       }
       throw new IllegalStateException();
     }
@@ -3842,15 +6848,24 @@ public class BlockWorkerClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof cacheBlock_result)
-        return this.equals((cacheBlock_result)that);
+      if (that instanceof lockBlock_result)
+        return this.equals((lockBlock_result)that);
       return false;
     }
 
-    public boolean equals(cacheBlock_result that) {
+    public boolean equals(lockBlock_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       boolean this_present_e = true && this.isSetE();
       boolean that_present_e = true && that.isSetE();
       if (this_present_e || that_present_e) {
@@ -3860,15 +6875,6 @@ public class BlockWorkerClientService {
           return false;
       }
 
-      boolean this_present_ioe = true && this.isSetIoe();
-      boolean that_present_ioe = true && that.isSetIoe();
-      if (this_present_ioe || that_present_ioe) {
-        if (!(this_present_ioe && that_present_ioe))
-          return false;
-        if (!this.ioe.equals(that.ioe))
-          return false;
-      }
-
       return true;
     }
 
@@ -3876,43 +6882,43 @@ public class BlockWorkerClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       boolean present_e = true && (isSetE());
       list.add(present_e);
       if (present_e)
         list.add(e);
 
-      boolean present_ioe = true && (isSetIoe());
-      list.add(present_ioe);
-      if (present_ioe)
-        list.add(ioe);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(cacheBlock_result other) {
+    public int compareTo(lockBlock_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetIoe()).compareTo(other.isSetIoe());
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetIoe()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ioe, other.ioe);
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3934,22 +6940,22 @@ public class BlockWorkerClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("cacheBlock_result(");
+      StringBuilder sb = new StringBuilder("lockBlock_result(");
       boolean first = true;
 
-      sb.append("e:");
-      if (this.e == null) {
+      sb.append("success:");
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.e);
+        sb.append(this.success);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("ioe:");
-      if (this.ioe == null) {
+      sb.append("e:");
+      if (this.e == null) {
         sb.append("null");
       } else {
-        sb.append(this.ioe);
+        sb.append(this.e);
       }
       first = false;
       sb.append(")");
@@ -3959,6 +6965,9 @@ public class BlockWorkerClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -3977,15 +6986,15 @@ public class BlockWorkerClientService {
       }
     }
 
-    private static class cacheBlock_resultStandardSchemeFactory implements SchemeFactory {
-      public cacheBlock_resultStandardScheme getScheme() {
-        return new cacheBlock_resultStandardScheme();
+    private static class lockBlock_resultStandardSchemeFactory implements SchemeFactory {
+      public lockBlock_resultStandardScheme getScheme() {
+        return new lockBlock_resultStandardScheme();
       }
     }
 
-    private static class cacheBlock_resultStandardScheme extends StandardScheme<cacheBlock_result> {
+    private static class lockBlock_resultStandardScheme extends StandardScheme<lockBlock_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, cacheBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, lockBlock_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3995,20 +7004,20 @@ public class BlockWorkerClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // E
+            case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new tachyon.thrift.TachyonTException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
+                struct.success = new LockBlockResult();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // IOE
+            case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.ioe = new tachyon.thrift.ThriftIOException();
-                struct.ioe.read(iprot);
-                struct.setIoeIsSet(true);
+                struct.e = new tachyon.thrift.TachyonTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -4024,82 +7033,82 @@ public class BlockWorkerClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, cacheBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, lockBlock_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
         if (struct.e != null) {
           oprot.writeFieldBegin(E_FIELD_DESC);
           struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.ioe != null) {
-          oprot.writeFieldBegin(IOE_FIELD_DESC);
-          struct.ioe.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class cacheBlock_resultTupleSchemeFactory implements SchemeFactory {
-      public cacheBlock_resultTupleScheme getScheme() {
-        return new cacheBlock_resultTupleScheme();
+    private static class lockBlock_resultTupleSchemeFactory implements SchemeFactory {
+      public lockBlock_resultTupleScheme getScheme() {
+        return new lockBlock_resultTupleScheme();
       }
     }
 
-    private static class cacheBlock_resultTupleScheme extends TupleScheme<cacheBlock_result> {
+    private static class lockBlock_resultTupleScheme extends TupleScheme<lockBlock_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, cacheBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, lockBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetE()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetIoe()) {
+        if (struct.isSetE()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
-        if (struct.isSetIoe()) {
-          struct.ioe.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, cacheBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, lockBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
+          struct.success = new LockBlockResult();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
           struct.e = new tachyon.thrift.TachyonTException();
           struct.e.read(iprot);
           struct.setEIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.ioe = new tachyon.thrift.ThriftIOException();
-          struct.ioe.read(iprot);
-          struct.setIoeIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class cancelBlock_args implements org.apache.thrift.TBase<cancelBlock_args, cancelBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<cancelBlock_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancelBlock_args");
+  public static class lockBlocks_args implements org.apache.thrift.TBase<lockBlocks_args, lockBlocks_args._Fields>, java.io.Serializable, Cloneable, Comparable<lockBlocks_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("lockBlocks_args");
 
     private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.I64, (short)1);
-    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField BLOCK_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("blockIds", org.apache.thrift.protocol.TType.LIST, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new cancelBlock_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new cancelBlock_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new lockBlocks_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new lockBlocks_argsTupleSchemeFactory());
     }
 
     /**
@@ -4107,9 +7116,9 @@ public class BlockWorkerClientService {
      */
     public long sessionId; // required
     /**
-     * the id of the block being accessed
+     * the ids of the blocks being locked
      */
-    public long blockId; // required
+    public List<Long> blockIds; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -4118,9 +7127,9 @@ public class BlockWorkerClientService {
        */
       SESSION_ID((short)1, "sessionId"),
       /**
-       * the id of the block being accessed
+       * the ids of the blocks being locked
        */
-      BLOCK_ID((short)2, "blockId");
+      BLOCK_IDS((short)2, "blockIds");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -4137,8 +7146,8 @@ public class BlockWorkerClientService {
         switch(fieldId) {
           case 1: // SESSION_ID
             return SESSION_ID;
-          case 2: // BLOCK_ID
-            return BLOCK_ID;
+          case 2: // BLOCK_IDS
+            return BLOCK_IDS;
           default:
             return null;
         }
@@ -4180,52 +7189,53 @@ public class BlockWorkerClientService {
 
     // isset id assignments
     private static final int __SESSIONID_ISSET_ID = 0;
-    private static final int __BLOCKID_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.BLOCK_IDS, new org.apache.thrift.meta_data.FieldMetaData("blockIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancelBlock_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(lockBlocks_args.class, metaDataMap);
     }
 
-    public cancelBlock_args() {
+    public lockBlocks_args() {
     }
 
-    public cancelBlock_args(
+    public lockBlocks_args(
       long sessionId,
-      long blockId)
+      List<Long> blockIds)
     {
       this();
       this.sessionId = sessionId;
       setSessionIdIsSet(true);
-      this.blockId = blockId;
-      setBlockIdIsSet(true);
+      this.blockIds = blockIds;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public cancelBlock_args(cancelBlock_args other) {
+    public lockBlocks_args(lockBlocks_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.sessionId = other.sessionId;
-      this.blockId = other.blockId;
+      if (other.isSetBlockIds()) {
+        List<Long> __this__blockIds = new ArrayList<Long>(other.blockIds);
+        this.blockIds = __this__blockIds;
+      }
     }
 
-    public cancelBlock_args deepCopy() {
-      return new cancelBlock_args(this);
+    public lockBlocks_args deepCopy() {
+      return new lockBlocks_args(this);
     }
 
     @Override
     public void clear() {
       setSessionIdIsSet(false);
       this.sessionId = 0;
-      setBlockIdIsSet(false);
-      this.blockId = 0;
+      this.blockIds = null;
     }
 
     /**
@@ -4238,7 +7248,7 @@ public class BlockWorkerClientService {
     /**
      * the id of the current session
      */
-    public cancelBlock_args setSessionId(long sessionId) {
+    public lockBlocks_args setSessionId(long sessionId) {
       this.sessionId = sessionId;
       setSessionIdIsSet(true);
       return this;
@@ -4257,33 +7267,49 @@ public class BlockWorkerClientService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SESSIONID_ISSET_ID, value);
     }
 
+    public int getBlockIdsSize() {
+      return (this.blockIds == null) ? 0 : this.blockIds.size();
+    }
+
+    public java.util.Iterator<Long> getBlockIdsIterator() {
+      return (this.blockIds == null) ? null : this.blockIds.iterator();
+    }
+
+    public void addToBlockIds(long elem) {
+      if (this.blockIds == null) {
+        this.blockIds = new ArrayList<Long>();
+      }
+      this.blockIds.add(elem);
+    }
+
     /**
-     * the id of the block being accessed
+     * the ids of the blocks being locked
      */
-    public long getBlockId() {
-      return this.blockId;
+    public List<Long> getBlockIds() {
+      return this.blockIds;
     }
 
     /**
-     * the id of the block being accessed
+     * the ids of the blocks being locked
      */
-    public cancelBlock_args setBlockId(long blockId) {
-      this.blockId = blockId;
-      setBlockIdIsSet(true);
+    public lockBlocks_args setBlockIds(List<Long> blockIds) {
+      this.blockIds = blockIds;
       return this;
     }
 
-    public void unsetBlockId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    public void unsetBlockIds() {
+      this.blockIds = null;
     }
 
-    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
-    public boolean isSetBlockId() {
-      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    /** Returns true if field blockIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockIds() {
+      return this.blockIds != null;
     }
 
-    public void setBlockIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
+    public void setBlockIdsIsSet(boolean value) {
+      if (!value) {
+        this.blockIds = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -4296,11 +7322,11 @@ public class BlockWorkerClientService {
         }
         break;
 
-      case BLOCK_ID:
+      case BLOCK_IDS:
         if (value == null) {
-          unsetBlockId();
+          unsetBlockIds();
         } else {
-          setBlockId((Long)value);
+          setBlockIds((List<Long>)value);
         }
         break;
 
@@ -4312,8 +7338,8 @@ public class BlockWorkerClientService {
       case SESSION_ID:
         return Long.valueOf(getSessionId());
 
-      case BLOCK_ID:
-        return Long.valueOf(getBlockId());
+      case BLOCK_IDS:
+        return getBlockIds();
 
       }
       throw new IllegalStateException();
@@ -4328,8 +7354,8 @@ public class BlockWorkerClientService {
       switch (field) {
       case SESSION_ID:
         return isSetSessionId();
-      case BLOCK_ID:
-        return isSetBlockId();
+      case BLOCK_IDS:
+        return isSetBlockIds();
       }
       throw new IllegalStateException();
     }
@@ -4338,12 +7364,12 @@ public class BlockWorkerClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof cancelBlock_args)
-        return this.equals((cancelBlock_args)that);
+      if (that instanceof lockBlocks_args)
+        return this.equals((lockBlocks_args)that);
       return false;
     }
 
-    public boolean equals(cancelBlock_args that) {
+    public boolean equals(lockBlocks_args that) {
       if (that == null)
         return false;
 
@@ -4356,12 +7382,12 @@ public class BlockWorkerClientService {
           return false;
       }
 
-      boolean this_present_blockId = true;
-      boolean that_present_blockId = true;
-      if (this_present_blockId || that_present_blockId) {
-        if (!(this_present_blockId && that_present_blockId))
+      boolean this_present_blockIds = true && this.isSetBlockIds();
+      boolean that_present_blockIds = true && that.isSetBlockIds();
+      if (this_present_blockIds || that_present_blockIds) {
+        if (!(this_present_blockIds && that_present_blockIds))
           return false;
-        if (this.blockId != that.blockId)
+        if (!this.blockIds.equals(that.blockIds))
           return false;
       }
 
@@ -4377,16 +7403,16 @@ public class BlockWorkerClientService {
       if (present_sessionId)
         list.add(sessionId);
 
-      boolean present_blockId = true;
-      list.add(present_blockId);
-      if (present_blockId)
-        list.add(blockId);
+      boolean present_blockIds = true && (isSetBlockIds());
+      list.add(present_blockIds);
+      if (present_blockIds)
+        list.add(blockIds);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(cancelBlock_args other) {
+    public int compareTo(lockBlocks_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -4403,12 +7429,12 @@ public class BlockWorkerClientService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
+      lastComparison = Boolean.valueOf(isSetBlockIds()).compareTo(other.isSetBlockIds());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetBlockId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
+      if (isSetBlockIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockIds, other.blockIds);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -4430,15 +7456,19 @@ public class BlockWorkerClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("cancelBlock_args(");
+      StringBuilder sb = new StringBuilder("lockBlocks_args(");
       boolean first = true;
 
       sb.append("sessionId:");
       sb.append(this.sessionId);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("blockId:");
-      sb.append(this.blockId);
+      sb.append("blockIds:");
+      if (this.blockIds == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.blockIds);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -4467,15 +7497,15 @@ public class BlockWorkerClientService {
       }
     }
 
-    private static class cancelBlock_argsStandardSchemeFactory implements SchemeFactory {
-      public cancelBlock_argsStandardScheme getScheme() {
-        return new cancelBlock_argsStandardScheme();
+    private static class lockBlocks_argsStandardSchemeFactory implements SchemeFactory {
+      public lockBlocks_argsStandardScheme getScheme() {
+        return new lockBlocks_argsStandardScheme();
       }
     }
 
-    private static class cancelBlock_argsStandardScheme extends StandardScheme<cancelBlock_args> {
+    private static class lockBlocks_argsStandardScheme extends StandardScheme<lockBlocks_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, cancelBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, lockBlocks_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4493,10 +7523,20 @@ public class BlockWorkerClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // BLOCK_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.blockId = iprot.readI64();
-                struct.setBlockIdIsSet(true);
+            case 2: // BLOCK_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list16 = iprot.readListBegin();
+                  struct.blockIds = new ArrayList<Long>(_list16.size);
+                  long _elem17;
+                  for (int _i18 = 0; _i18 < _list16.size; ++_i18)
+                  {
+                    _elem17 = iprot.readI64();
+                    struct.blockIds.add(_elem17);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setBlockIdsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -4512,51 +7552,66 @@ public class BlockWorkerClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, cancelBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, lockBlocks_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
         oprot.writeI64(struct.sessionId);
         oprot.writeFieldEnd();
-        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
-        oprot.writeI64(struct.blockId);
-        oprot.writeFieldEnd();
+        if (struct.blockIds != null) {
+          oprot.writeFieldBegin(BLOCK_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.blockIds.size()));
+            for (long _iter19 : struct.blockIds)
+            {
+              oprot.writeI64(_iter19);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class cancelBlock_argsTupleSchemeFactory implements SchemeFactory {
-      public cancelBlock_argsTupleScheme getScheme() {
-        return new cancelBlock_argsTupleScheme();
+    private static class lockBlocks_argsTupleSchemeFactory implements SchemeFactory {
+      public lockBlocks_argsTupleScheme getScheme() {
+        return new lockBlocks_argsTupleScheme();
       }
     }
 
-    private static class cancelBlock_argsTupleScheme extends TupleScheme<cancelBlock_args> {
+    private static class lockBlocks_argsTupleScheme extends TupleScheme<lockBlocks_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, cancelBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, lockBlocks_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSessionId()) {
           optionals.set(0);
         }
-        if (struct.isSetBlockId()) {
+        if (struct.isSetBlockIds()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSessionId()) {
           oprot.writeI64(struct.sessionId);
         }
-        if (struct.isSetBlockId()) {
-          oprot.writeI64(struct.blockId);
+        if (struct.isSetBlockIds()) {
+          {
+            oprot.writeI32(struct.blockIds.size());
+            for (long _iter20 : struct.blockIds)
+            {
+              oprot.writeI64(_iter20);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, cancelBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, lockBlocks_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -4564,33 +7619,42 @@ public class BlockWorkerClientService {
           struct.setSessionIdIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.blockId = iprot.readI64();
-          struct.setBlockIdIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list21 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.blockIds = new ArrayList<Long>(_list21.size);
+            long _elem22;
+            for (int _i23 = 0; _i23 < _list21.size; ++_i23)
+            {
+              _elem22 = iprot.readI64();
+              struct.blockIds.add(_elem22);
+            }
+          }
+          struct.setBlockIdsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class cancelBlock_result implements org.apache.thrift.TBase<cancelBlock_result, cancelBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<cancelBlock_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancelBlock_result");
+  public static class lockBlocks_result implements org.apache.thrift.TBase<lockBlocks_result, lockBlocks_result._Fields>, java.io.Serializable, Cloneable, Comparable<lockBlocks_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("lockBlocks_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.MAP, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new cancelBlock_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new cancelBlock_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new lockBlocks_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new lockBlocks_resultTupleSchemeFactory());
     }
 
+    public Map<Long,String> success; // required
     public tachyon.thrift.TachyonTException e; // required
-    public tachyon.thrift.ThriftIOException ioe; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      E((short)1, "e"),
-      IOE((short)2, "ioe");
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -4605,10 +7669,10 @@ public class BlockWorkerClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           case 1: // E
             return E;
-          case 2: // IOE
-            return IOE;
           default:
             return null;
         }
@@ -4652,111 +7716,125 @@ public class BlockWorkerClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64), 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancelBlock_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(lockBlocks_result.class, metaDataMap);
     }
 
-    public cancelBlock_result() {
+    public lockBlocks_result() {
     }
 
-    public cancelBlock_result(
-      tachyon.thrift.TachyonTException e,
-      tachyon.thrift.ThriftIOException ioe)
+    public lockBlocks_result(
+      Map<Long,String> success,
+      tachyon.thrift.TachyonTException e)
     {
       this();
+      this.success = success;
       this.e = e;
-      this.ioe = ioe;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public cancelBlock_result(cancelBlock_result other) {
+    public lockBlocks_result(lockBlocks_result other) {
+      if (other.isSetSuccess()) {
+        Map<Long,String> __this__success = new HashMap<Long,String>(other.success);
+        this.success = __this__success;
+      }
       if (other.isSetE()) {
         this.e = new tachyon.thrift.TachyonTException(other.e);
       }
-      if (other.isSetIoe()) {
-        this.ioe = new tachyon.thrift.ThriftIOException(other.ioe);
-      }
     }
 
-    public cancelBlock_result deepCopy() {
-      return new cancelBlock_result(this);
+    public lockBlocks_result deepCopy() {
+      return new lockBlocks_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
       this.e = null;
-      this.ioe = null;
     }
 
-    public tachyon.thrift.TachyonTException getE() {
-      return this.e;
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
     }
 
-    public cancelBlock_result setE(tachyon.thrift.TachyonTException e) {
-      this.e = e;
+    public void putToSuccess(long key, String val) {
+      if (this.success == null) {
+        this.success = new HashMap<Long,String>();
+      }
+      this.success.put(key, val);
+    }
+
+    public Map<Long,String> getSuccess() {
+      return this.success;
+    }
+
+    public lockBlocks_result setSuccess(Map<Long,String> success) {
+      this.success = success;
       return this;
     }
 
-    public void unsetE() {
-      this.e = null;
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    public void setEIsSet(boolean value) {
+    public void setSuccessIsSet(boolean value) {
       if (!value) {
-        this.e = null;
+        this.success = null;
       }
     }
 
-    public tachyon.thrift.ThriftIOException getIoe() {
-      return this.ioe;
+    public tachyon.thrift.TachyonTException getE() {
+      return this.e;
     }
 
-    public cancelBlock_result setIoe(tachyon.thrift.ThriftIOException ioe) {
-      this.ioe = ioe;
+    public lockBlocks_result setE(tachyon.thrift.TachyonTException e) {
+      this.e = e;
       return this;
     }
 
-    public void unsetIoe() {
-      this.ioe = null;
+    public void unsetE() {
+      this.e = null;
     }
 
-    /** Returns true if field ioe is set (has been assigned a value) and false otherwise */
-    public boolean isSetIoe() {
-      return this.ioe != null;
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
     }
 
-    public void setIoeIsSet(boolean value) {
+    public void setEIsSet(boolean value) {
       if (!value) {
-        this.ioe = null;
+        this.e = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case E:
+      case SUCCESS:
         if (value == null) {
-          unsetE();
+          unsetSuccess();
         } else {
-          setE((tachyon.thrift.TachyonTException)value);
+          setSuccess((Map<Long,String>)value);
         }
         break;
 
-      case IOE:
+      case E:
         if (value == null) {
-          unsetIoe();
+          unsetE();
         } else {
-          setIoe((tachyon.thrift.ThriftIOException)value);
+          setE((tachyon.thrift.TachyonTException)value);
         }
         break;
 
@@ -4765,12 +7843,12 @@ public class BlockWorkerClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       case E:
         return getE();
 
-      case IOE:
-        return getIoe();
-
       }
       throw new IllegalStateException();
     }
@@ -4782,10 +7860,10 @@ public class BlockWorkerClientService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       case E:
         return isSetE();
-      case IOE:
-        return isSetIoe();
       }
       throw new IllegalStateException();
     }
@@ -4794,15 +7872,24 @@ public class BlockWorkerClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof cancelBlock_result)
-        return this.equals((cancelBlock_result)that);
+      if (that instanceof lockBlocks_result)
+        return this.equals((lockBlocks_result)that);
       return false;
     }
 
-    public boolean equals(cancelBlock_result that) {
+    public boolean equals(lockBlocks_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       boolean this_present_e = true && this.isSetE();
       boolean that_present_e = true && that.isSetE();
       if (this_present_e || that_present_e) {
@@ -4812,15 +7899,6 @@ public class BlockWorkerClientService {
           return false;
       }
 
-      boolean this_present_ioe = true && this.isSetIoe();
-      boolean that_present_ioe = true && that.isSetIoe();
-      if (this_present_ioe || that_present_ioe) {
-        if (!(this_present_ioe && that_present_ioe))
-          return false;
-        if (!this.ioe.equals(that.ioe))
-          return false;
-      }
-
       return true;
     }
 
@@ -4828,43 +7906,43 @@ public class BlockWorkerClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       boolean present_e = true && (isSetE());
       list.add(present_e);
       if (present_e)
         list.add(e);
 
-      boolean present_ioe = true && (isSetIoe());
-      list.add(present_ioe);
-      if (present_ioe)
-        list.add(ioe);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(cancelBlock_result other) {
+    public int compareTo(lockBlocks_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetIoe()).compareTo(other.isSetIoe());
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetIoe()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ioe, other.ioe);
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -4886,22 +7964,22 @@ public class BlockWorkerClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("cancelBlock_result(");
+      StringBuilder sb = new StringBuilder("lockBlocks_result(");
       boolean first = true;
 
-      sb.append("e:");
-      if (this.e == null) {
+      sb.append("success:");
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.e);
+        sb.append(this.success);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("ioe:");
-      if (this.ioe == null) {
+      sb.append("e:");
+      if (this.e == null) {
         sb.append("null");
       } else {
-        sb.append(this.ioe);
+        sb.append(this.e);
       }
       first = false;
       sb.append(")");
@@ -4929,15 +8007,15 @@ public class BlockWorkerClientService {
       }
     }
 
-    private static class cancelBlock_resultStandardSchemeFactory implements SchemeFactory {
-      public cancelBlock_resultStandardScheme getScheme() {
-        return new cancelBlock_resultStandardScheme();
+    private static class lockBlocks_resultStandardSchemeFactory implements SchemeFactory {
+      public lockBlocks_resultStandardScheme getScheme() {
+        return new lockBlocks_resultStandardScheme();
       }
     }
 
-    private static class cancelBlock_resultStandardScheme extends StandardScheme<cancelBlock_result> {
+    private static class lockBlocks_resultStandardScheme extends StandardScheme<lockBlocks_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, cancelBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, lockBlocks_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4947,20 +8025,31 @@ public class BlockWorkerClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // E
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new tachyon.thrift.TachyonTException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
+                {
+                  org.apache.thrift.protocol.TMap _map32 = iprot.readMapBegin();
+                  struct.success = new HashMap<Long,String>(2*_map32.size);
+                  long _key33;
+                  String _val34;
+                  for (int _i35 = 0; _i35 < _map32.size; ++_i35)
+                  {
+                    _key33 = iprot.readI64();
+                    _val34 = iprot.readString();
+                    struct.success.put(_key33, _val34);
+                  }
+                  iprot.readMapEnd();
+                }
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // IOE
+            case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.ioe = new tachyon.thrift.ThriftIOException();
-                struct.ioe.read(iprot);
-                struct.setIoeIsSet(true);
+                struct.e = new tachyon.thrift.TachyonTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -4976,103 +8065,119 @@ public class BlockWorkerClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, cancelBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, lockBlocks_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I64, org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (Map.Entry<Long, String> _iter36 : struct.success.entrySet())
+            {
+              oprot.writeI64(_iter36.getKey());
+              oprot.writeString(_iter36.getValue());
+            }
+            oprot.writeMapEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         if (struct.e != null) {
           oprot.writeFieldBegin(E_FIELD_DESC);
           struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.ioe != null) {
-          oprot.writeFieldBegin(IOE_FIELD_DESC);
-          struct.ioe.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class cancelBlock_resultTupleSchemeFactory implements SchemeFactory {
-      public cancelBlock_resultTupleScheme getScheme() {
-        return new cancelBlock_resultTupleScheme();
+    private static class lockBlocks_resultTupleSchemeFactory implements SchemeFactory {
+      public lockBlocks_resultTupleScheme getScheme() {
+        return new lockBlocks_resultTupleScheme();
       }
     }
 
-    private static class cancelBlock_resultTupleScheme extends TupleScheme<cancelBlock_result> {
+    private static class lockBlocks_resultTupleScheme extends TupleScheme<lockBlocks_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, cancelBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, lockBlocks_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetE()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetIoe()) {
+        if (struct.isSetE()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (Map.Entry<Long, String> _iter37 : struct.success.entrySet())
+            {
+              oprot.writeI64(_iter37.getKey());
+              oprot.writeString(_iter37.getValue());
+            }
+          }
+        }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
-        if (struct.isSetIoe()) {
-          struct.ioe.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, cancelBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, lockBlocks_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TMap _map38 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I64, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new HashMap<Long,String>(2*_map38.size);
+            long _key39;
+            String _val40;
+            for (int _i41 = 0; _i41 < _map38.size; ++_i41)
+            {
+              _key39 = iprot.readI64();
+              _val40 = iprot.readString();
+              struct.success.put(_key39, _val40);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
           struct.e = new tachyon.thrift.TachyonTException();
           struct.e.read(iprot);
           struct.setEIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.ioe = new tachyon.thrift.ThriftIOException();
-          struct.ioe.read(iprot);
-          struct.setIoeIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class lockBlock_args implements org.apache.thrift.TBase<lockBlock_args, lockBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<lockBlock_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("lockBlock_args");
+  public static class promoteBlock_args implements org.apache.thrift.TBase<promoteBlock_args, promoteBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<promoteBlock_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("promoteBlock_args");
 
     private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
-    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.I64, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new lockBlock_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new lockBlock_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new promoteBlock_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new promoteBlock_argsTupleSchemeFactory());
     }
 
     /**
      * the id of the block being accessed
      */
     public long blockId; // required
-    /**
-     * the id of the current session
-     */
-    public long sessionId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
        * the id of the block being accessed
        */
-      BLOCK_ID((short)1, "blockId"),
-      /**
-       * the id of the current session
-       */
-      SESSION_ID((short)2, "sessionId");
+      BLOCK_ID((short)1, "blockId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -5089,8 +8194,6 @@ public class BlockWorkerClientService {
         switch(fieldId) {
           case 1: // BLOCK_ID
             return BLOCK_ID;
-          case 2: // SESSION_ID
-            return SESSION_ID;
           default:
             return null;
         }
@@ -5132,52 +8235,43 @@ public class BlockWorkerClientService {
 
     // isset id assignments
     private static final int __BLOCKID_ISSET_ID = 0;
-    private static final int __SESSIONID_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(lockBlock_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(promoteBlock_args.class, metaDataMap);
     }
 
-    public lockBlock_args() {
+    public promoteBlock_args() {
     }
 
-    public lockBlock_args(
-      long blockId,
-      long sessionId)
+    public promoteBlock_args(
+      long blockId)
     {
       this();
       this.blockId = blockId;
       setBlockIdIsSet(true);
-      this.sessionId = sessionId;
-      setSessionIdIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public lockBlock_args(lockBlock_args other) {
+    public promoteBlock_args(promoteBlock_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.blockId = other.blockId;
-      this.sessionId = other.sessionId;
     }
 
-    public lockBlock_args deepCopy() {
-      return new lockBlock_args(this);
+    public promoteBlock_args deepCopy() {
+      return new promoteBlock_args(this);
     }
 
     @Override
     public void clear() {
       setBlockIdIsSet(false);
       this.blockId = 0;
-      setSessionIdIsSet(false);
-      this.sessionId = 0;
     }
 
     /**
@@ -5190,7 +8284,7 @@ public class BlockWorkerClientService {
     /**
      * the id of the block being accessed
      */
-    public lockBlock_args setBlockId(long blockId) {
+    public promoteBlock_args setBlockId(long blockId) {
       this.blockId = blockId;
       setBlockIdIsSet(true);
       return this;
@@ -5209,35 +8303,6 @@ public class BlockWorkerClientService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
     }
 
-    /**
-     * the id of the current session
-     */
-    public long getSessionId() {
-      return this.sessionId;
-    }
-
-    /**
-     * the id of the current session
-     */
-    public lockBlock_args setSessionId(long sessionId) {
-      this.sessionId = sessionId;
-      setSessionIdIsSet(true);
-      return this;
-    }
-
-    public void unsetSessionId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SESSIONID_ISSET_ID);
-    }
-
-    /** Returns true if field sessionId is set (has been assigned a value) and false otherwise */
-    public boolean isSetSessionId() {
-      return EncodingUtils.testBit(__isset_bitfield, __SESSIONID_ISSET_ID);
-    }
-
-    public void setSessionIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SESSIONID_ISSET_ID, value);
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case BLOCK_ID:
@@ -5248,14 +8313,6 @@ public class BlockWorkerClientService {
         }
         break;
 
-      case SESSION_ID:
-        if (value == null) {
-          unsetSessionId();
-        } else {
-          setSessionId((Long)value);
-        }
-        break;
-
       }
     }
 
@@ -5264,9 +8321,6 @@ public class BlockWorkerClientService {
       case BLOCK_ID:
         return Long.valueOf(getBlockId());
 
-      case SESSION_ID:
-        return Long.valueOf(getSessionId());
-
       }
       throw new IllegalStateException();
     }
@@ -5280,8 +8334,6 @@ public class BlockWorkerClientService {
       switch (field) {
       case BLOCK_ID:
         return isSetBlockId();
-      case SESSION_ID:
-        return isSetSessionId();
       }
       throw new IllegalStateException();
     }
@@ -5290,12 +8342,12 @@ public class BlockWorkerClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof lockBlock_args)
-        return this.equals((lockBlock_args)that);
+      if (that instanceof promoteBlock_args)
+        return this.equals((promoteBlock_args)that);
       return false;
     }
 
-    public boolean equals(lockBlock_args that) {
+    public boolean equals(promoteBlock_args that) {
       if (that == null)
         return false;
 
@@ -5308,15 +8360,6 @@ public class BlockWorkerClientService {
           return false;
       }
 
-      boolean this_present_sessionId = true;
-      boolean that_present_sessionId = true;
-      if (this_present_sessionId || that_present_sessionId) {
-        if (!(this_present_sessionId && that_present_sessionId))
-          return false;
-        if (this.sessionId != that.sessionId)
-          return false;
-      }
-
       return true;
     }
 
@@ -5329,16 +8372,11 @@ public class BlockWorkerClientService {
       if (present_blockId)
         list.add(blockId);
 
-      boolean present_sessionId = true;
-      list.add(present_sessionId);
-      if (present_sessionId)
-        list.add(sessionId);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(lockBlock_args other) {
+    public int compareTo(promoteBlock_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -5355,16 +8393,6 @@ public class BlockWorkerClientService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSessionId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -5382,16 +8410,12 @@ public class BlockWorkerClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("lockBlock_args(");
+      StringBuilder sb = new StringBuilder("promoteBlock_args(");
       boolean first = true;
 
       sb.append("blockId:");
       sb.append(this.blockId);
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("sessionId:");
-      sb.append(this.sessionId);
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -5419,15 +8443,15 @@ public class BlockWorkerClientService {
       }
     }
 
-    private static class lockBlock_argsStandardSchemeFactory implements SchemeFactory {
-      public lockBlock_argsStandardScheme getScheme() {
-        return new lockBlock_argsStandardScheme();
+    private static class promoteBlock_argsStandardSchemeFactory implements SchemeFactory {
+      public promoteBlock_argsStandardScheme getScheme() {
+        return new promoteBlock_argsStandardScheme();
       }
     }
 
-    private static class lockBlock_argsStandardScheme extends StandardScheme<lockBlock_args> {
+    private static class promoteBlock_argsStandardScheme extends StandardScheme<promoteBlock_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, lockBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, promoteBlock_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5445,14 +8469,6 @@ public class BlockWorkerClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // SESSION_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.sessionId = iprot.readI64();
-                struct.setSessionIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -5464,85 +8480,75 @@ public class BlockWorkerClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, lockBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, promoteBlock_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
         oprot.writeI64(struct.blockId);
         oprot.writeFieldEnd();
-        oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
-        oprot.writeI64(struct.sessionId);
-        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class lockBlock_argsTupleSchemeFactory implements SchemeFactory {
-      public lockBlock_argsTupleScheme getScheme() {
-        return new lockBlock_argsTupleScheme();
+    private static class promoteBlock_argsTupleSchemeFactory implements SchemeFactory {
+      public promoteBlock_argsTupleScheme getScheme() {
+        return new promoteBlock_argsTupleScheme();
       }
     }
 
-    private static class lockBlock_argsTupleScheme extends TupleScheme<lockBlock_args> {
+    private static class promoteBlock_argsTupleScheme extends TupleScheme<promoteBlock_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, lockBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, promoteBlock_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetBlockId()) {
           optionals.set(0);
         }
-        if (struct.isSetSessionId()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetBlockId()) {
           oprot.writeI64(struct.blockId);
         }
-        if (struct.isSetSessionId()) {
-          oprot.writeI64(struct.sessionId);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, lockBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, promoteBlock_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           struct.blockId = iprot.readI64();
           struct.setBlockIdIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.sessionId = iprot.readI64();
-          struct.setSessionIdIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class lockBlock_result implements org.apache.thrift.TBase<lockBlock_result, lockBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<lockBlock_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("lockBlock_result");
+  public static class promoteBlock_result implements org.apache.thrift.TBase<promoteBlock_result, promoteBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<promoteBlock_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("promoteBlock_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new lockBlock_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new lockBlock_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new promoteBlock_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new promoteBlock_resultTupleSchemeFactory());
     }
 
-    public LockBlockResult success; // required
+    public boolean success; // required
     public tachyon.thrift.TachyonTException e; // required
+    public tachyon.thrift.ThriftIOException ioe; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      E((short)1, "e");
+      E((short)1, "e"),
+      IOE((short)2, "ioe");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -5561,6 +8567,8 @@ public class BlockWorkerClientService {
             return SUCCESS;
           case 1: // E
             return E;
+          case 2: // IOE
+            return IOE;
           default:
             return null;
         }
@@ -5601,80 +8609,90 @@ public class BlockWorkerClientService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LockBlockResult.class)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(lockBlock_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(promoteBlock_result.class, metaDataMap);
     }
 
-    public lockBlock_result() {
+    public promoteBlock_result() {
     }
 
-    public lockBlock_result(
-      LockBlockResult success,
-      tachyon.thrift.TachyonTException e)
+    public promoteBlock_result(
+      boolean success,
+      tachyon.thrift.TachyonTException e,
+      tachyon.thrift.ThriftIOException ioe)
     {
       this();
       this.success = success;
+      setSuccessIsSet(true);
       this.e = e;
+      this.ioe = ioe;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public lockBlock_result(lockBlock_result other) {
-      if (other.isSetSuccess()) {
-        this.success = new LockBlockResult(other.success);
-      }
+    public promoteBlock_result(promoteBlock_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
       if (other.isSetE()) {
         this.e = new tachyon.thrift.TachyonTException(other.e);
       }
+      if (other.isSetIoe()) {
+        this.ioe = new tachyon.thrift.ThriftIOException(other.ioe);
+      }
     }
 
-    public lockBlock_result deepCopy() {
-      return new lockBlock_result(this);
+    public promoteBlock_result deepCopy() {
+      return new promoteBlock_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      setSuccessIsSet(false);
+      this.success = false;
       this.e = null;
+      this.ioe = null;
     }
 
-    public LockBlockResult getSuccess() {
+    public boolean isSuccess() {
       return this.success;
     }
 
-    public lockBlock_result setSuccess(LockBlockResult success) {
+    public promoteBlock_result setSuccess(boolean success) {
       this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      this.success = null;
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return this.success != null;
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public tachyon.thrift.TachyonTException getE() {
       return this.e;
     }
 
-    public lockBlock_result setE(tachyon.thrift.TachyonTException e) {
+    public promoteBlock_result setE(tachyon.thrift.TachyonTException e) {
       this.e = e;
       return this;
     }
@@ -5694,13 +8712,37 @@ public class BlockWorkerClientService {
       }
     }
 
+    public tachyon.thrift.ThriftIOException getIoe() {
+      return this.ioe;
+    }
+
+    public promoteBlock_result setIoe(tachyon.thrift.ThriftIOException ioe) {
+      this.ioe = ioe;
+      return this;
+    }
+
+    public void unsetIoe() {
+      this.ioe = null;
+    }
+
+    /** Returns true if field ioe is set (has been assigned a value) and false otherwise */
+    public boolean isSetIoe() {
+      return this.ioe != null;
+    }
+
+    public void setIoeIsSet(boolean value) {
+      if (!value) {
+        this.ioe = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SUCCESS:
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((LockBlockResult)value);
+          setSuccess((Boolean)value);
         }
         break;
 
@@ -5712,17 +8754,28 @@ public class BlockWorkerClientService {
         }
         break;
 
+      case IOE:
+        if (value == null) {
+          unsetIoe();
+        } else {
+          setIoe((tachyon.thrift.ThriftIOException)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return getSuccess();
+        return Boolean.valueOf(isSuccess());
 
       case E:
         return getE();
 
+      case IOE:
+        return getIoe();
+
       }
       throw new IllegalStateException();
     }
@@ -5738,6 +8791,8 @@ public class BlockWorkerClientService {
         return isSetSuccess();
       case E:
         return isSetE();
+      case IOE:
+        return isSetIoe();
       }
       throw new IllegalStateException();
     }
@@ -5746,21 +8801,21 @@ public class BlockWorkerClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof lockBlock_result)
-        return this.equals((lockBlock_result)that);
+      if (that instanceof promoteBlock_result)
+        return this.equals((promoteBlock_result)that);
       return false;
     }
 
-    public boolean equals(lockBlock_result that) {
+    public boolean equals(promoteBlock_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.success != that.success)
           return false;
       }
 
@@ -5773,6 +8828,15 @@ public class BlockWorkerClientService {
           return false;
       }
 
+      boolean this_present_ioe = true && this.isSetIoe();
+      boolean that_present_ioe = true && that.isSetIoe();
+      if (this_present_ioe || that_present_ioe) {
+        if (!(this_present_ioe && that_present_ioe))
+          return false;
+        if (!this.ioe.equals(that.ioe))
+          return false;
+      }
+
       return true;
     }
 
@@ -5780,7 +8844,7 @@ public class BlockWorkerClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true && (isSetSuccess());
+      boolean present_success = true;
       list.add(present_success);
       if (present_success)
         list.add(success);
@@ -5790,11 +8854,16 @@ public class BlockWorkerClientService {
       if (present_e)
         list.add(e);
 
+      boolean present_ioe = true && (isSetIoe());
+      list.add(present_ioe);
+      if (present_ioe)
+        list.add(ioe);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(lockBlock_result other) {
+    public int compareTo(promoteBlock_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -5821,6 +8890,16 @@ public class BlockWorkerClientService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetIoe()).compareTo(other.isSetIoe());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIoe()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ioe, other.ioe);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -5838,15 +8917,11 @@ public class BlockWorkerClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("lockBlock_result(");
+      StringBuilder sb = new StringBuilder("promoteBlock_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
+      sb.append(this.success);
       first = false;
       if (!first) sb.append(", ");
       sb.append("e:");
@@ -5856,6 +8931,14 @@ public class BlockWorkerClientService {
         sb.append(this.e);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("ioe:");
+      if (this.ioe == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ioe);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -5863,9 +8946,6 @@ public class BlockWorkerClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -5878,21 +8958,23 @@ public class BlockWorkerClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class lockBlock_resultStandardSchemeFactory implements SchemeFactory {
-      public lockBlock_resultStandardScheme getScheme() {
-        return new lockBlock_resultStandardScheme();
+    private static class promoteBlock_resultStandardSchemeFactory implements SchemeFactory {
+      public promoteBlock_resultStandardScheme getScheme() {
+        return new promoteBlock_resultStandardScheme();
       }
     }
 
-    private static class lockBlock_resultStandardScheme extends StandardScheme<lockBlock_result> {
+    private static class promoteBlock_resultStandardScheme extends StandardScheme<promoteBlock_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, lockBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, promoteBlock_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5903,9 +8985,8 @@ public class BlockWorkerClientService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new LockBlockResult();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -5920,6 +9001,15 @@ public class BlockWorkerClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // IOE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ioe = new tachyon.thrift.ThriftIOException();
+                struct.ioe.read(iprot);
+                struct.setIoeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -5931,13 +9021,13 @@ public class BlockWorkerClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, lockBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, promoteBlock_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          oprot.writeBool(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.e != null) {
@@ -5945,22 +9035,27 @@ public class BlockWorkerClientService {
           struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
+        if (struct.ioe != null) {
+          oprot.writeFieldBegin(IOE_FIELD_DESC);
+          struct.ioe.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class lockBlock_resultTupleSchemeFactory implements SchemeFactory {
-      public lockBlock_resultTupleScheme getScheme() {
-        return new lockBlock_resultTupleScheme();
+    private static class promoteBlock_resultTupleSchemeFactory implements SchemeFactory {
+      public promoteBlock_resultTupleScheme getScheme() {
+        return new promoteBlock_resultTupleScheme();
       }
     }
 
-    private static class lockBlock_resultTupleScheme extends TupleScheme<lockBlock_result> {
+    private static class promoteBlock_resultTupleScheme extends TupleScheme<promoteBlock_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, lockBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, promoteBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -5969,22 +9064,27 @@ public class BlockWorkerClientService {
         if (struct.isSetE()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIoe()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          oprot.writeBool(struct.success);
         }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
+        if (struct.isSetIoe()) {
+          struct.ioe.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, lockBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, promoteBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.success = new LockBlockResult();
-          struct.success.read(iprot);
+          struct.success = iprot.readBool();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -5992,33 +9092,56 @@ public class BlockWorkerClientService {
           struct.e.read(iprot);
           struct.setEIsSet(true);
         }
+        if (incoming.get(2)) {
+          struct.ioe = new tachyon.thrift.ThriftIOException();
+          struct.ioe.read(iprot);
+          struct.setIoeIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class promoteBlock_args implements org.apache.thrift.TBase<promoteBlock_args, promoteBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<promoteBlock_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("promoteBlock_args");
+  public static class requestBlockLocation_args implements org.apache.thrift.TBase<requestBlockLocation_args, requestBlockLocation_args._Fields>, java.io.Serializable, Cloneable, Comparable<requestBlockLocation_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestBlockLocation_args");
 
-    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField INITIAL_BYTES_FIELD_DESC = new org.apache.thrift.protocol.TField("initialBytes", org.apache.thrift.protocol.TType.I64, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new promoteBlock_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new promoteBlock_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new requestBlockLocation_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new requestBlockLocation_argsTupleSchemeFactory());
     }
 
+    /**
+     * the id of the current session
+     */
+    public long sessionId; // required
     /**
      * the id of the block being accessed
      */
     public long blockId; // required
+    /**
+     * initial number of bytes requested
+     */
+    public long initialBytes; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the id of the current session
+       */
+      SESSION_ID((short)1, "sessionId"),
       /**
        * the id of the block being accessed
        */
-      BLOCK_ID((short)1, "blockId");
+      BLOCK_ID((short)2, "blockId"),
+      /**
+       * initial number of bytes requested
+       */
+      INITIAL_BYTES((short)3, "initialBytes");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -6033,8 +9156,12 @@ public class BlockWorkerClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // BLOCK_ID
+          case 1: // SESSION_ID
+            return SESSION_ID;
+          case 2: // BLOCK_ID
             return BLOCK_ID;
+          case 3: // INITIAL_BYTES
+            return INITIAL_BYTES;
           default:
             return null;
         }
@@ -6075,44 +9202,91 @@ public class BlockWorkerClientService {
     }
 
     // isset id assignments
-    private static final int __BLOCKID_ISSET_ID = 0;
+    private static final int __SESSIONID_ISSET_ID = 0;
+    private static final int __BLOCKID_ISSET_ID = 1;
+    private static final int __INITIALBYTES_ISSET_ID = 2;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.INITIAL_BYTES, new org.apache.thrift.meta_data.FieldMetaData("initialBytes", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(promoteBlock_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestBlockLocation_args.class, metaDataMap);
     }
 
-    public promoteBlock_args() {
+    public requestBlockLocation_args() {
     }
 
-    public promoteBlock_args(
-      long blockId)
+    public requestBlockLocation_args(
+      long sessionId,
+      long blockId,
+      long initialBytes)
     {
       this();
+      this.sessionId = sessionId;
+      setSessionIdIsSet(true);
       this.blockId = blockId;
       setBlockIdIsSet(true);
+      this.initialBytes = initialBytes;
+      setInitialBytesIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public promoteBlock_args(promoteBlock_args other) {
+    public requestBlockLocation_args(requestBlockLocation_args other) {
       __isset_bitfield = other.__isset_bitfield;
+      this.sessionId = other.sessionId;
       this.blockId = other.blockId;
+      this.initialBytes = other.initialBytes;
     }
 
-    public promoteBlock_args deepCopy() {
-      return new promoteBlock_args(this);
+    public requestBlockLocation_args deepCopy() {
+      return new requestBlockLocation_args(this);
     }
 
     @Override
     public void clear() {
+      setSessionIdIsSet(false);
+      this.sessionId = 0;
       setBlockIdIsSet(false);
       this.blockId = 0;
+      setInitialBytesIsSet(false);
+      this.initialBytes = 0;
+    }
+
+    /**
+     * the id of the current session
+     */
+    public long getSessionId() {
+      return this.sessionId;
+    }
+
+    /**
+     * the id of the current session
+     */
+    public requestBlockLocation_args setSessionId(long sessionId) {
+      this.sessionId = sessionId;
+      setSessionIdIsSet(true);
+      return this;
+    }
+
+    public void unsetSessionId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SESSIONID_ISSET_ID);
+    }
+
+    /** Returns true if field sessionId is set (has been assigned a value) and false otherwise */
+    public boolean isSetSessionId() {
+      return EncodingUtils.testBit(__isset_bitfield, __SESSIONID_ISSET_ID);
+    }
+
+    public void setSessionIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SESSIONID_ISSET_ID, value);
     }
 
     /**
@@ -6125,7 +9299,7 @@ public class BlockWorkerClientService {
     /**
      * the id of the block being accessed
      */
-    public promoteBlock_args setBlockId(long blockId) {
+    public requestBlockLocation_args setBlockId(long blockId) {
       this.blockId = blockId;
       setBlockIdIsSet(true);
       return this;
@@ -6144,8 +9318,45 @@ public class BlockWorkerClientService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
     }
 
+    /**
+     * initial number of bytes requested
+     */
+    public long getInitialBytes() {
+      return this.initialBytes;
+    }
+
+    /**
+     * initial number of bytes requested
+     */
+    public requestBlockLocation_args setInitialBytes(long initialBytes) {
+      this.initialBytes = initialBytes;
+      setInitialBytesIsSet(true);
+      return this;
+    }
+
+    public void unsetInitialBytes() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INITIALBYTES_ISSET_ID);
+    }
+
+    /** Returns true if field initialBytes is set (has been assigned a value) and false otherwise */
+    public boolean isSetInitialBytes() {
+      return EncodingUtils.testBit(__isset_bitfield, __INITIALBYTES_ISSET_ID);
+    }
+
+    public void setInitialBytesIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INITIALBYTES_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SESSION_ID:
+        if (value == null) {
+          unsetSessionId();
+        } else {
+          setSessionId((Long)value);
+        }
+        break;
+
       case BLOCK_ID:
         if (value == null) {
           unsetBlockId();
@@ -6154,14 +9365,28 @@ public class BlockWorkerClientService {
         }
         break;
 
+      case INITIAL_BYTES:
+        if (value == null) {
+          unsetInitialBytes();
+        } else {
+          setInitialBytes((Long)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SESSION_ID:
+        return Long.valueOf(getSessionId());
+
       case BLOCK_ID:
         return Long.valueOf(getBlockId());
 
+      case INITIAL_BYTES:
+        return Long.valueOf(getInitialBytes());
+
       }
       throw new IllegalStateException();
     }
@@ -6173,8 +9398,12 @@ public class BlockWorkerClientService {
       }
 
       switch (field) {
+      case SESSION_ID:
+        return isSetSessionId();
       case BLOCK_ID:
         return isSetBlockId();
+      case INITIAL_BYTES:
+        return isSetInitialBytes();
       }
       throw new IllegalStateException();
     }
@@ -6183,15 +9412,24 @@ public class BlockWorkerClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof promoteBlock_args)
-        return this.equals((promoteBlock_args)that);
+      if (that instanceof requestBlockLocation_args)
+        return this.equals((requestBlockLocation_args)that);
       return false;
     }
 
-    public boolean equals(promoteBlock_args that) {
+    public boolean equals(requestBlockLocation_args that) {
       if (that == null)
         return false;
 
+      boolean this_present_sessionId = true;
+      boolean that_present_sessionId = true;
+      if (this_present_sessionId || that_present_sessionId) {
+        if (!(this_present_sessionId && that_present_sessionId))
+          return false;
+        if (this.sessionId != that.sessionId)
+          return false;
+      }
+
       boolean this_present_blockId = true;
       boolean that_present_blockId = true;
       if (this_present_blockId || that_present_blockId) {
@@ -6201,6 +9439,15 @@ public class BlockWorkerClientService {
           return false;
       }
 
+      boolean this_present_initialBytes = true;
+      boolean that_present_initialBytes = true;
+      if (this_present_initialBytes || that_present_initialBytes) {
+        if (!(this_present_initialBytes && that_present_initialBytes))
+          return false;
+        if (this.initialBytes != that.initialBytes)
+          return false;
+      }
+
       return true;
     }
 
@@ -6208,22 +9455,42 @@ public class BlockWorkerClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_sessionId = true;
+      list.add(present_sessionId);
+      if (present_sessionId)
+        list.add(sessionId);
+
       boolean present_blockId = true;
       list.add(present_blockId);
       if (present_blockId)
         list.add(blockId);
 
+      boolean present_initialBytes = true;
+      list.add(present_initialBytes);
+      if (present_initialBytes)
+        list.add(initialBytes);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(promoteBlock_args other) {
+    public int compareTo(requestBlockLocation_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSessionId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
       if (lastComparison != 0) {
         return lastComparison;
@@ -6234,6 +9501,16 @@ public class BlockWorkerClientService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetInitialBytes()).compareTo(other.isSetInitialBytes());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetInitialBytes()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.initialBytes, other.initialBytes);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -6251,12 +9528,20 @@ public class BlockWorkerClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("promoteBlock_args(");
+      StringBuilder sb = new StringBuilder("requestBlockLocation_args(");
       boolean first = true;
 
+      sb.append("sessionId:");
+      sb.append(this.sessionId);
+      first = false;
+      if (!first) sb.append(", ");
       sb.append("blockId:");
       sb.append(this.blockId);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("initialBytes:");
+      sb.append(this.initialBytes);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -6284,15 +9569,15 @@ public class BlockWorkerClientService {
       }
     }
 
-    private static class promoteBlock_argsStandardSchemeFactory implements SchemeFactory {
-      public promoteBlock_argsStandardScheme getScheme() {
-        return new promoteBlock_argsStandardScheme();
+    private static class requestBlockLocation_argsStandardSchemeFactory implements SchemeFactory {
+      public requestBlockLocation_argsStandardScheme getScheme() {
+        return new requestBlockLocation_argsStandardScheme();
       }
     }
 
-    private static class promoteBlock_argsStandardScheme extends StandardScheme<promoteBlock_args> {
+    private static class requestBlockLocation_argsStandardScheme extends StandardScheme<requestBlockLocation_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, promoteBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6302,7 +9587,15 @@ public class BlockWorkerClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // BLOCK_ID
+            case 1: // SESSION_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.sessionId = iprot.readI64();
+                struct.setSessionIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // BLOCK_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
                 struct.blockId = iprot.readI64();
                 struct.setBlockIdIsSet(true);
@@ -6310,6 +9603,14 @@ public class BlockWorkerClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 3: // INITIAL_BYTES
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.initialBytes = iprot.readI64();
+                struct.setInitialBytesIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -6321,67 +9622,93 @@ public class BlockWorkerClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, promoteBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
+        oprot.writeI64(struct.sessionId);
+        oprot.writeFieldEnd();
         oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
         oprot.writeI64(struct.blockId);
         oprot.writeFieldEnd();
+        oprot.writeFieldBegin(INITIAL_BYTES_FIELD_DESC);
+        oprot.writeI64(struct.initialBytes);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class promoteBlock_argsTupleSchemeFactory implements SchemeFactory {
-      public promoteBlock_argsTupleScheme getScheme() {
-        return new promoteBlock_argsTupleScheme();
+    private static class requestBlockLocation_argsTupleSchemeFactory implements SchemeFactory {
+      public requestBlockLocation_argsTupleScheme getScheme() {
+        return new requestBlockLocation_argsTupleScheme();
       }
     }
 
-    private static class promoteBlock_argsTupleScheme extends TupleScheme<promoteBlock_args> {
+    private static class requestBlockLocation_argsTupleScheme extends TupleScheme<requestBlockLocation_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, promoteBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetBlockId()) {
+        if (struct.isSetSessionId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetBlockId()) {
+          optionals.set(1);
+        }
+        if (struct.isSetInitialBytes()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetSessionId()) {
+          oprot.writeI64(struct.sessionId);
+        }
         if (struct.isSetBlockId()) {
           oprot.writeI64(struct.blockId);
         }
+        if (struct.isSetInitialBytes()) {
+          oprot.writeI64(struct.initialBytes);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, promoteBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
+          struct.sessionId = iprot.readI64();
+          struct.setSessionIdIsSet(true);
+        }
+        if (incoming.get(1)) {
           struct.blockId = iprot.readI64();
           struct.setBlockIdIsSet(true);
         }
+        if (incoming.get(2)) {
+          struct.initialBytes = iprot.readI64();
+          struct.setInitialBytesIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class promoteBlock_result implements org.apache.thrift.TBase<promoteBlock_result, promoteBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<promoteBlock_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("promoteBlock_result");
+  public static class requestBlockLocation_result implements org.apache.thrift.TBase<requestBlockLocation_result, requestBlockLocation_result._Fields>, java.io.Serializable, Cloneable, Comparable<requestBlockLocation_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestBlockLocation_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
     private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new promoteBlock_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new promoteBlock_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new requestBlockLocation_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new requestBlockLocation_resultTupleSchemeFactory());
     }
 
-    public boolean success; // required
+    public String success; // required
     public tachyon.thrift.TachyonTException e; // required
     public tachyon.thrift.ThriftIOException ioe; // required
 
@@ -6450,32 +9777,29 @@ public class BlockWorkerClientService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(promoteBlock_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestBlockLocation_result.class, metaDataMap);
     }
 
-    public promoteBlock_result() {
+    public requestBlockLocation_result() {
     }
 
-    public promoteBlock_result(
-      boolean success,
+    public requestBlockLocation_result(
+      String success,
       tachyon.thrift.TachyonTException e,
       tachyon.thrift.ThriftIOException ioe)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
       this.e = e;
       this.ioe = ioe;
     }
@@ -6483,9 +9807,10 @@ public class BlockWorkerClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public promoteBlock_result(promoteBlock_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public requestBlockLocation_result(requestBlockLocation_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
       if (other.isSetE()) {
         this.e = new tachyon.thrift.TachyonTException(other.e);
       }
@@ -6494,46 +9819,46 @@ public class BlockWorkerClientService {
       }
     }
 
-    public promoteBlock_result deepCopy() {
-      return new promoteBlock_result(this);
+    public requestBlockLocation_result deepCopy() {
+      return new requestBlockLocation_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
+      this.success = null;
       this.e = null;
       this.ioe = null;
     }
 
-    public boolean isSuccess() {
+    public String getSuccess() {
       return this.success;
     }
 
-    public promoteBlock_result setSuccess(boolean success) {
+    public requestBlockLocation_result setSuccess(String success) {
       this.success = success;
-      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public tachyon.thrift.TachyonTException getE() {
       return this.e;
     }
 
-    public promoteBlock_result setE(tachyon.thrift.TachyonTException e) {
+    public requestBlockLocation_result setE(tachyon.thrift.TachyonTException e) {
       this.e = e;
       return this;
     }
@@ -6557,7 +9882,7 @@ public class BlockWorkerClientService {
       return this.ioe;
     }
 
-    public promoteBlock_result setIoe(tachyon.thrift.ThriftIOException ioe) {
+    public requestBlockLocation_result setIoe(tachyon.thrift.ThriftIOException ioe) {
       this.ioe = ioe;
       return this;
     }
@@ -6583,7 +9908,7 @@ public class BlockWorkerClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Boolean)value);
+          setSuccess((String)value);
         }
         break;
 
@@ -6609,7 +9934,7 @@ public class BlockWorkerClientService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Boolean.valueOf(isSuccess());
+        return getSuccess();
 
       case E:
         return getE();
@@ -6642,21 +9967,21 @@ public class BlockWorkerClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof promoteBlock_result)
-        return this.equals((promoteBlock_result)that);
+      if (that instanceof requestBlockLocation_result)
+        return this.equals((requestBlockLocation_result)that);
       return false;
     }
 
-    public boolean equals(promoteBlock_result that) {
+    public boolean equals(requestBlockLocation_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -6685,7 +10010,7 @@ public class BlockWorkerClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true;
+      boolean present_success = true && (isSetSuccess());
       list.add(present_success);
       if (present_success)
         list.add(success);
@@ -6704,7 +10029,7 @@ public class BlockWorkerClientService {
     }
 
     @Override
-    public int compareTo(promoteBlock_result other) {
+    public int compareTo(requestBlockLocation_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6758,11 +10083,15 @@ public class BlockWorkerClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("promoteBlock_result(");
+      StringBuilder sb = new StringBuilder("requestBlockLocation_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
       first = false;
       if (!first) sb.append(", ");
       sb.append("e:");
@@ -6799,23 +10128,21 @@ public class BlockWorkerClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class promoteBlock_resultStandardSchemeFactory implements SchemeFactory {
-      public promoteBlock_resultStandardScheme getScheme() {
-        return new promoteBlock_resultStandardScheme();
+    private static class requestBlockLocation_resultStandardSchemeFactory implements SchemeFactory {
+      public requestBlockLocation_resultStandardScheme getScheme() {
+        return new requestBlockLocation_resultStandardScheme();
       }
     }
 
-    private static class promoteBlock_resultStandardScheme extends StandardScheme<promoteBlock_result> {
+    private static class requestBlockLocation_resultStandardScheme extends StandardScheme<requestBlockLocation_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, promoteBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6826,8 +10153,8 @@ public class BlockWorkerClientService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -6862,13 +10189,13 @@ public class BlockWorkerClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, promoteBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBool(struct.success);
+          oprot.writeString(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.e != null) {
@@ -6887,16 +10214,16 @@ public class BlockWorkerClientService {
 
     }
 
-    private static class promoteBlock_resultTupleSchemeFactory implements SchemeFactory {
-      public promoteBlock_resultTupleScheme getScheme() {
-        return new promoteBlock_resultTupleScheme();
+    private static class requestBlockLocation_resultTupleSchemeFactory implements SchemeFactory {
+      public requestBlockLocation_resultTupleScheme getScheme() {
+        return new requestBlockLocation_resultTupleScheme();
       }
     }
 
-    private static class promoteBlock_resultTupleScheme extends TupleScheme<promoteBlock_result> {
+    private static class requestBlockLocation_resultTupleScheme extends TupleScheme<requestBlockLocation_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, promoteBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -6910,7 +10237,7 @@ public class BlockWorkerClientService {
         }
         oprot.writeBitSet(optionals, 3);
         if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
+          oprot.writeString(struct.success);
         }
         if (struct.isSetE()) {
           struct.e.write(oprot);
@@ -6921,11 +10248,11 @@ public class BlockWorkerClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, promoteBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.success = iprot.readBool();
+          struct.success = iprot.readString();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -6943,17 +10270,17 @@ public class BlockWorkerClientService {
 
   }
 
-  public static class requestBlockLocation_args implements org.apache.thrift.TBase<requestBlockLocation_args, requestBlockLocation_args._Fields>, java.io.Serializable, Cloneable, Comparable<requestBlockLocation_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestBlockLocation_args");
+  public static class requestSpace_args implements org.apache.thrift.TBase<requestSpace_args, requestSpace_args._Fields>, java.io.Serializable, Cloneable, Comparable<requestSpace_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestSpace_args");
 
     private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.I64, (short)1);
     private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)2);
-    private static final org.apache.thrift.protocol.TField INITIAL_BYTES_FIELD_DESC = new org.apache.thrift.protocol.TField("initialBytes", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField REQUEST_BYTES_FIELD_DESC = new org.apache.thrift.protocol.TField("requestBytes", org.apache.thrift.protocol.TType.I64, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new requestBlockLocation_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new requestBlockLocation_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new requestSpace_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new requestSpace_argsTupleSchemeFactory());
     }
 
     /**
@@ -6965,9 +10292,9 @@ public class BlockWorkerClientService {
      */
     public long blockId; // required
     /**
-     * initial number of bytes requested
+     * the number of bytes requested
      */
-    public long initialBytes; // required
+    public long requestBytes; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -6980,9 +10307,9 @@ public class BlockWorkerClientService {
        */
       BLOCK_ID((short)2, "blockId"),
       /**
-       * initial number of bytes requested
+       * the number of bytes requested
        */
-      INITIAL_BYTES((short)3, "initialBytes");
+      REQUEST_BYTES((short)3, "requestBytes");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -7001,8 +10328,8 @@ public class BlockWorkerClientService {
             return SESSION_ID;
           case 2: // BLOCK_ID
             return BLOCK_ID;
-          case 3: // INITIAL_BYTES
-            return INITIAL_BYTES;
+          case 3: // REQUEST_BYTES
+            return REQUEST_BYTES;
           default:
             return null;
         }
@@ -7045,7 +10372,7 @@ public class BlockWorkerClientService {
     // isset id assignments
     private static final int __SESSIONID_ISSET_ID = 0;
     private static final int __BLOCKID_ISSET_ID = 1;
-    private static final int __INITIALBYTES_ISSET_ID = 2;
+    private static final int __REQUESTBYTES_ISSET_ID = 2;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
@@ -7054,41 +10381,41 @@ public class BlockWorkerClientService {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.INITIAL_BYTES, new org.apache.thrift.meta_data.FieldMetaData("initialBytes", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.REQUEST_BYTES, new org.apache.thrift.meta_data.FieldMetaData("requestBytes", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestBlockLocation_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestSpace_args.class, metaDataMap);
     }
 
-    public requestBlockLocation_args() {
+    public requestSpace_args() {
     }
 
-    public requestBlockLocation_args(
+    public requestSpace_args(
       long sessionId,
       long blockId,
-      long initialBytes)
+      long requestBytes)
     {
       this();
       this.sessionId = sessionId;
       setSessionIdIsSet(true);
       this.blockId = blockId;
       setBlockIdIsSet(true);
-      this.initialBytes = initialBytes;
-      setInitialBytesIsSet(true);
+      this.requestBytes = requestBytes;
+      setRequestBytesIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public requestBlockLocation_args(requestBlockLocation_args other) {
+    public requestSpace_args(requestSpace_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.sessionId = other.sessionId;
       this.blockId = other.blockId;
-      this.initialBytes = other.initialBytes;
+      this.requestBytes = other.requestBytes;
     }
 
-    public requestBlockLocation_args deepCopy() {
-      return new requestBlockLocation_args(this);
+    public requestSpace_args deepCopy() {
+      return new requestSpace_args(this);
     }
 
     @Override
@@ -7097,8 +10424,8 @@ public class BlockWorkerClientService {
       this.sessionId = 0;
       setBlockIdIsSet(false);
       this.blockId = 0;
-      setInitialBytesIsSet(false);
-      this.initialBytes = 0;
+      setRequestBytesIsSet(false);
+      this.requestBytes = 0;
     }
 
     /**
@@ -7111,7 +10438,7 @@ public class BlockWorkerClientService {
     /**
      * the id of the current session
      */
-    public requestBlockLocation_args setSessionId(long sessionId) {
+    public requestSpace_args setSessionId(long sessionId) {
       this.sessionId = sessionId;
       setSessionIdIsSet(true);
       return this;
@@ -7140,7 +10467,7 @@ public class BlockWorkerClientService {
     /**
      * the id of the block being accessed
      */
-    public requestBlockLocation_args setBlockId(long blockId) {
+    public requestSpace_args setBlockId(long blockId) {
       this.blockId = blockId;
       setBlockIdIsSet(true);
       return this;
@@ -7160,32 +10487,32 @@ public class BlockWorkerClientService {
     }
 
     /**
-     * initial number of bytes requested
+     * the number of bytes requested
      */
-    public long getInitialBytes() {
-      return this.initialBytes;
+    public long getRequestBytes() {
+      return this.requestBytes;
     }
 
     /**
-     * initial number of bytes requested
+     * the number of bytes requested
      */
-    public requestBlockLocation_args setInitialBytes(long initialBytes) {
-      this.initialBytes = initialBytes;
-      setInitialBytesIsSet(true);
+    public requestSpace_args setRequestBytes(long requestBytes) {
+      this.requestBytes = requestBytes;
+      setRequestBytesIsSet(true);
       return this;
     }
 
-    public void unsetInitialBytes() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INITIALBYTES_ISSET_ID);
+    public void unsetRequestBytes() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REQUESTBYTES_ISSET_ID);
     }
 
-    /** Returns true if field initialBytes is set (has been assigned a value) and false otherwise */
-    public boolean isSetInitialBytes() {
-      return EncodingUtils.testBit(__isset_bitfield, __INITIALBYTES_ISSET_ID);
+    /** Returns true if field requestBytes is set (has been assigned a value) and false otherwise */
+    public boolean isSetRequestBytes() {
+      return EncodingUtils.testBit(__isset_bitfield, __REQUESTBYTES_ISSET_ID);
     }
 
-    public void setInitialBytesIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INITIALBYTES_ISSET_ID, value);
+    public void setRequestBytesIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REQUESTBYTES_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -7206,11 +10533,11 @@ public class BlockWorkerClientService {
         }
         break;
 
-      case INITIAL_BYTES:
+      case REQUEST_BYTES:
         if (value == null) {
-          unsetInitialBytes();
+          unsetRequestBytes();
         } else {
-          setInitialBytes((Long)value);
+          setRequestBytes((Long)value);
         }
         break;
 
@@ -7225,8 +10552,8 @@ public class BlockWorkerClientService {
       case BLOCK_ID:
         return Long.valueOf(getBlockId());
 
-      case INITIAL_BYTES:
-        return Long.valueOf(getInitialBytes());
+      case REQUEST_BYTES:
+        return Long.valueOf(getRequestBytes());
 
       }
       throw new IllegalStateException();
@@ -7243,8 +10570,8 @@ public class BlockWorkerClientService {
         return isSetSessionId();
       case BLOCK_ID:
         return isSetBlockId();
-      case INITIAL_BYTES:
-        return isSetInitialBytes();
+      case REQUEST_BYTES:
+        return isSetRequestBytes();
       }
       throw new IllegalStateException();
     }
@@ -7253,12 +10580,12 @@ public class BlockWorkerClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof requestBlockLocation_args)
-        return this.equals((requestBlockLocation_args)that);
+      if (that instanceof requestSpace_args)
+        return this.equals((requestSpace_args)that);
       return false;
     }
 
-    public boolean equals(requestBlockLocation_args that) {
+    public boolean equals(requestSpace_args that) {
       if (that == null)
         return false;
 
@@ -7280,12 +10607,12 @@ public class BlockWorkerClientService {
           return false;
       }
 
-      boolean this_present_initialBytes = true;
-      boolean that_present_initialBytes = true;
-      if (this_present_initialBytes || that_present_initialBytes) {
-        if (!(this_present_initialBytes && that_present_initialBytes))
+      boolean this_present_requestBytes = true;
+      boolean that_present_requestBytes = true;
+      if (this_present_requestBytes || that_present_requestBytes) {
+        if (!(this_present_requestBytes && that_present_requestBytes))
           return false;
-        if (this.initialBytes != that.initialBytes)
+        if (this.requestBytes != that.requestBytes)
           return false;
       }
 
@@ -7306,16 +10633,16 @@ public class BlockWorkerClientService {
       if (present_blockId)
         list.add(blockId);
 
-      boolean present_initialBytes = true;
-      list.add(present_initialBytes);
-      if (present_initialBytes)
-        list.add(initialBytes);
+      boolean present_requestBytes = true;
+      list.add(present_requestBytes);
+      if (present_requestBytes)
+        list.add(requestBytes);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(requestBlockLocation_args other) {
+    public int compareTo(requestSpace_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7342,12 +10669,12 @@ public class BlockWorkerClientService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetInitialBytes()).compareTo(other.isSetInitialBytes());
+      lastComparison = Boolean.valueOf(isSetRequestBytes()).compareTo(other.isSetRequestBytes());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetInitialBytes()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.initialBytes, other.initialBytes);
+      if (isSetRequestBytes()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.requestBytes, other.requestBytes);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -7369,7 +10696,7 @@ public class BlockWorkerClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("requestBlockLocation_args(");
+      StringBuilder sb = new StringBuilder("requestSpace_args(");
       boolean first = true;
 
       sb.append("sessionId:");
@@ -7380,8 +10707,8 @@ public class BlockWorkerClientService {
       sb.append(this.blockId);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("initialBytes:");
-      sb.append(this.initialBytes);
+      sb.append("requestBytes:");
+      sb.append(this.requestBytes);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -7410,15 +10737,15 @@ public class BlockWorkerClientService {
       }
     }
 
-    private static class requestBlockLocation_argsStandardSchemeFactory implements SchemeFactory {
-      public requestBlockLocation_argsStandardScheme getScheme() {
-        return new requestBlockLocation_argsStandardScheme();
+    private static class requestSpace_argsStandardSchemeFactory implements SchemeFactory {
+      public requestSpace_argsStandardScheme getScheme() {
+        return new requestSpace_argsStandardScheme();
       }
     }
 
-    private static class requestBlockLocation_argsStandardScheme extends StandardScheme<requestBlockLocation_args> {
+    private static class requestSpace_argsStandardScheme extends StandardScheme<requestSpace_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, requestSpace_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7444,10 +10771,10 @@ public class BlockWorkerClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // INITIAL_BYTES
+            case 3: // REQUEST_BYTES
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.initialBytes = iprot.readI64();
-                struct.setInitialBytesIsSet(true);
+                struct.requestBytes = iprot.readI64();
+                struct.setRequestBytesIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -7463,7 +10790,7 @@ public class BlockWorkerClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, requestSpace_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -7473,8 +10800,8 @@ public class BlockWorkerClientService {
         oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
         oprot.writeI64(struct.blockId);
         oprot.writeFieldEnd();
-        oprot.writeFieldBegin(INITIAL_BYTES_FIELD_DESC);
-        oprot.writeI64(struct.initialBytes);
+        oprot.writeFieldBegin(REQUEST_BYTES_FIELD_DESC);
+        oprot.writeI64(struct.requestBytes);
         oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
@@ -7482,16 +10809,16 @@ public class BlockWorkerClientService {
 
     }
 
-    private static class requestBlockLocation_argsTupleSchemeFactory implements SchemeFactory {
-      public requestBlockLocation_argsTupleScheme getScheme() {
-        return new requestBlockLocation_argsTupleScheme();
+    private static class requestSpace_argsTupleSchemeFactory implements SchemeFactory {
+      public requestSpace_argsTupleScheme getScheme() {
+        return new requestSpace_argsTupleScheme();
       }
     }
 
-    private static class requestBlockLocation_argsTupleScheme extends TupleScheme<requestBlockLocation_args> {
+    private static class requestSpace_argsTupleScheme extends TupleScheme<requestSpace_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, requestSpace_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSessionId()) {
@@ -7500,7 +10827,7 @@ public class BlockWorkerClientService {
         if (struct.isSetBlockId()) {
           optionals.set(1);
         }
-        if (struct.isSetInitialBytes()) {
+        if (struct.isSetRequestBytes()) {
           optionals.set(2);
         }
         oprot.writeBitSet(optionals, 3);
@@ -7510,13 +10837,13 @@ public class BlockWorkerClientService {
         if (struct.isSetBlockId()) {
           oprot.writeI64(struct.blockId);
         }
-        if (struct.isSetInitialBytes()) {
-          oprot.writeI64(struct.initialBytes);
+        if (struct.isSetRequestBytes()) {
+          oprot.writeI64(struct.requestBytes);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, requestSpace_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
@@ -7528,36 +10855,33 @@ public class BlockWorkerClientService {
           struct.setBlockIdIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.initialBytes = iprot.readI64();
-          struct.setInitialBytesIsSet(true);
+          struct.requestBytes = iprot.readI64();
+          struct.setRequestBytesIsSet(true);
         }
       }
     }
 
   }
 
-  public static class requestBlockLocation_result implements org.apache.thrift.TBase<requestBlockLocation_result, requestBlockLocation_result._Fields>, java.io.Serializable, Cloneable, Comparable<requestBlockLocation_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestBlockLocation_result");
+  public static class requestSpace_result implements org.apache.thrift.TBase<requestSpace_result, requestSpace_result._Fields>, java.io.Serializable, Cloneable, Comparable<requestSpace_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestSpace_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new requestBlockLocation_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new requestBlockLocation_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new requestSpace_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new requestSpace_resultTupleSchemeFactory());
     }
 
-    public String success; // required
+    public boolean success; // required
     public tachyon.thrift.TachyonTException e; // required
-    public tachyon.thrift.ThriftIOException ioe; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      E((short)1, "e"),
-      IOE((short)2, "ioe");
+      E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -7576,8 +10900,6 @@ public class BlockWorkerClientService {
             return SUCCESS;
           case 1: // E
             return E;
-          case 2: // IOE
-            return IOE;
           default:
             return null;
         }
@@ -7618,88 +10940,82 @@ public class BlockWorkerClientService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestBlockLocation_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestSpace_result.class, metaDataMap);
     }
 
-    public requestBlockLocation_result() {
+    public requestSpace_result() {
     }
 
-    public requestBlockLocation_result(
-      String success,
-      tachyon.thrift.TachyonTException e,
-      tachyon.thrift.ThriftIOException ioe)
+    public requestSpace_result(
+      boolean success,
+      tachyon.thrift.TachyonTException e)
     {
       this();
       this.success = success;
+      setSuccessIsSet(true);
       this.e = e;
-      this.ioe = ioe;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public requestBlockLocation_result(requestBlockLocation_result other) {
-      if (other.isSetSuccess()) {
-        this.success = other.success;
-      }
+    public requestSpace_result(requestSpace_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
       if (other.isSetE()) {
         this.e = new tachyon.thrift.TachyonTException(other.e);
       }
-      if (other.isSetIoe()) {
-        this.ioe = new tachyon.thrift.ThriftIOException(other.ioe);
-      }
     }
 
-    public requestBlockLocation_result deepCopy() {
-      return new requestBlockLocation_result(this);
+    public requestSpace_result deepCopy() {
+      return new requestSpace_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      setSuccessIsSet(false);
+      this.success = false;
       this.e = null;
-      this.ioe = null;
     }
 
-    public String getSuccess() {
+    public boolean isSuccess() {
       return this.success;
     }
 
-    public requestBlockLocation_result setSuccess(String success) {
+    public requestSpace_result setSuccess(boolean success) {
       this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      this.success = null;
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return this.success != null;
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public tachyon.thrift.TachyonTException getE() {
       return this.e;
     }
 
-    public requestBlockLocation_result setE(tachyon.thrift.TachyonTException e) {
+    public requestSpace_result setE(tachyon.thrift.TachyonTException e) {
       this.e = e;
       return this;
     }
@@ -7719,37 +11035,13 @@ public class BlockWorkerClientService {
       }
     }
 
-    public tachyon.thrift.ThriftIOException getIoe() {
-      return this.ioe;
-    }
-
-    public requestBlockLocation_result setIoe(tachyon.thrift.ThriftIOException ioe) {
-      this.ioe = ioe;
-      return this;
-    }
-
-    public void unsetIoe() {
-      this.ioe = null;
-    }
-
-    /** Returns true if field ioe is set (has been assigned a value) and false otherwise */
-    public boolean isSetIoe() {
-      return this.ioe != null;
-    }
-
-    public void setIoeIsSet(boolean value) {
-      if (!value) {
-        this.ioe = null;
-      }
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SUCCESS:
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((String)value);
+          setSuccess((Boolean)value);
         }
         break;
 
@@ -7761,28 +11053,17 @@ public class BlockWorkerClientService {
         }
         break;
 
-      case IOE:
-        if (value == null) {
-          unsetIoe();
-        } else {
-          setIoe((tachyon.thrift.ThriftIOException)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return getSuccess();
+        return Boolean.valueOf(isSuccess());
 
       case E:
         return getE();
 
-      case IOE:
-        return getIoe();
-
       }
       throw new IllegalStateException();
     }
@@ -7798,8 +11079,6 @@ public class BlockWorkerClientService {
         return isSetSuccess();
       case E:
         return isSetE();
-      case IOE:
-        return isSetIoe();
       }
       throw new IllegalStateException();
     }
@@ -7808,21 +11087,21 @@ public class BlockWorkerClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof requestBlockLocation_result)
-        return this.equals((requestBlockLocation_result)that);
+      if (that instanceof requestSpace_result)
+        return this.equals((requestSpace_result)that);
       return false;
     }
 
-    public boolean equals(requestBlockLocation_result that) {
+    public boolean equals(requestSpace_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.success != that.success)
           return false;
       }
 
@@ -7835,15 +11114,6 @@ public class BlockWorkerClientService {
           return false;
       }
 
-      boolean this_present_ioe = true && this.isSetIoe();
-      boolean that_present_ioe = true && that.isSetIoe();
-      if (this_present_ioe || that_present_ioe) {
-        if (!(this_present_ioe && that_present_ioe))
-          return false;
-        if (!this.ioe.equals(that.ioe))
-          return false;
-      }
-
       return true;
     }
 
@@ -7851,7 +11121,7 @@ public class BlockWorkerClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true && (isSetSuccess());
+      boolean present_success = true;
       list.add(present_success);
       if (present_success)
         list.add(success);
@@ -7861,16 +11131,11 @@ public class BlockWorkerClientService {
       if (present_e)
         list.add(e);
 
-      boolean present_ioe = true && (isSetIoe());
-      list.add(present_ioe);
-      if (present_ioe)
-        list.add(ioe);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(requestBlockLocation_result other) {
+    public int compareTo(requestSpace_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7897,16 +11162,6 @@ public class BlockWorkerClientService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetIoe()).compareTo(other.isSetIoe());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetIoe()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ioe, other.ioe);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -7924,30 +11179,18 @@ public class BlockWorkerClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("requestBlockLocation_result(");
+      StringBuilder sb = new StringBuilder("requestSpace_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
+      sb.append(this.success);
       first = false;
       if (!first) sb.append(", ");
       sb.append("e:");
-      if (this.e == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.e);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("ioe:");
-      if (this.ioe == null) {
+      if (this.e == null) {
         sb.append("null");
       } else {
-        sb.append(this.ioe);
+        sb.append(this.e);
       }
       first = false;
       sb.append(")");
@@ -7969,21 +11212,23 @@ public class BlockWorkerClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class requestBlockLocation_resultStandardSchemeFactory implements SchemeFactory {
-      public requestBlockLocation_resultStandardScheme getScheme() {
-        return new requestBlockLocation_resultStandardScheme();
+    private static class requestSpace_resultStandardSchemeFactory implements SchemeFactory {
+      public requestSpace_resultStandardScheme getScheme() {
+        return new requestSpace_resultStandardScheme();
       }
     }
 
-    private static class requestBlockLocation_resultStandardScheme extends StandardScheme<requestBlockLocation_result> {
+    private static class requestSpace_resultStandardScheme extends StandardScheme<requestSpace_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, requestSpace_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7994,8 +11239,8 @@ public class BlockWorkerClientService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readString();
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -8010,15 +11255,6 @@ public class BlockWorkerClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // IOE
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.ioe = new tachyon.thrift.ThriftIOException();
-                struct.ioe.read(iprot);
-                struct.setIoeIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -8030,13 +11266,13 @@ public class BlockWorkerClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, requestSpace_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeString(struct.success);
+          oprot.writeBool(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.e != null) {
@@ -8044,27 +11280,22 @@ public class BlockWorkerClientService {
           struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.ioe != null) {
-          oprot.writeFieldBegin(IOE_FIELD_DESC);
-          struct.ioe.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class requestBlockLocation_resultTupleSchemeFactory implements SchemeFactory {
-      public requestBlockLocation_resultTupleScheme getScheme() {
-        return new requestBlockLocation_resultTupleScheme();
+    private static class requestSpace_resultTupleSchemeFactory implements SchemeFactory {
+      public requestSpace_resultTupleScheme getScheme() {
+        return new requestSpace_resultTupleScheme();
       }
     }
 
-    private static class requestBlockLocation_resultTupleScheme extends TupleScheme<requestBlockLocation_result> {
+    private static class requestSpace_resultTupleScheme extends TupleScheme<requestSpace_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, requestSpace_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -8073,27 +11304,21 @@ public class BlockWorkerClientService {
         if (struct.isSetE()) {
           optionals.set(1);
         }
-        if (struct.isSetIoe()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeString(struct.success);
+          oprot.writeBool(struct.success);
         }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
-        if (struct.isSetIoe()) {
-          struct.ioe.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, requestSpace_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readString();
+          struct.success = iprot.readBool();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -8101,27 +11326,21 @@ public class BlockWorkerClientService {
           struct.e.read(iprot);
           struct.setEIsSet(true);
         }
-        if (incoming.get(2)) {
-          struct.ioe = new tachyon.thrift.ThriftIOException();
-          struct.ioe.read(iprot);
-          struct.setIoeIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class requestSpace_args implements org.apache.thrift.TBase<requestSpace_args, requestSpace_args._Fields>, java.io.Serializable, Cloneable, Comparable<requestSpace_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestSpace_args");
+  public static class sessionHeartbeat_args implements org.apache.thrift.TBase<sessionHeartbeat_args, sessionHeartbeat_args._Fields>, java.io.Serializable, Cloneable, Comparable<sessionHeartbeat_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sessionHeartbeat_args");
 
     private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.I64, (short)1);
-    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)2);
-    private static final org.apache.thrift.protocol.TField REQUEST_BYTES_FIELD_DESC = new org.apache.thrift.protocol.TField("requestBytes", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField METRICS_FIELD_DESC = new org.apache.thrift.protocol.TField("metrics", org.apache.thrift.protocol.TType.LIST, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new requestSpace_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new requestSpace_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new sessionHeartbeat_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new sessionHeartbeat_argsTupleSchemeFactory());
     }
 
     /**
@@ -8129,13 +11348,9 @@ public class BlockWorkerClientService {
      */
     public long sessionId; // required
     /**
-     * the id of the block being accessed
-     */
-    public long blockId; // required
-    /**
-     * the number of bytes requested
+     * the client metrics
      */
-    public long requestBytes; // required
+    public List<Long> metrics; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -8144,13 +11359,9 @@ public class BlockWorkerClientService {
        */
       SESSION_ID((short)1, "sessionId"),
       /**
-       * the id of the block being accessed
-       */
-      BLOCK_ID((short)2, "blockId"),
-      /**
-       * the number of bytes requested
+       * the client metrics
        */
-      REQUEST_BYTES((short)3, "requestBytes");
+      METRICS((short)2, "metrics");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -8167,10 +11378,8 @@ public class BlockWorkerClientService {
         switch(fieldId) {
           case 1: // SESSION_ID
             return SESSION_ID;
-          case 2: // BLOCK_ID
-            return BLOCK_ID;
-          case 3: // REQUEST_BYTES
-            return REQUEST_BYTES;
+          case 2: // METRICS
+            return METRICS;
           default:
             return null;
         }
@@ -8212,61 +11421,53 @@ public class BlockWorkerClientService {
 
     // isset id assignments
     private static final int __SESSIONID_ISSET_ID = 0;
-    private static final int __BLOCKID_ISSET_ID = 1;
-    private static final int __REQUESTBYTES_ISSET_ID = 2;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.REQUEST_BYTES, new org.apache.thrift.meta_data.FieldMetaData("requestBytes", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.METRICS, new org.apache.thrift.meta_data.FieldMetaData("metrics", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestSpace_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sessionHeartbeat_args.class, metaDataMap);
     }
 
-    public requestSpace_args() {
+    public sessionHeartbeat_args() {
     }
 
-    public requestSpace_args(
+    public sessionHeartbeat_args(
       long sessionId,
-      long blockId,
-      long requestBytes)
+      List<Long> metrics)
     {
       this();
       this.sessionId = sessionId;
       setSessionIdIsSet(true);
-      this.blockId = blockId;
-      setBlockIdIsSet(true);
-      this.requestBytes = requestBytes;
-      setRequestBytesIsSet(true);
+      this.metrics = metrics;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public requestSpace_args(requestSpace_args other) {
+    public sessionHeartbeat_args(sessionHeartbeat_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.sessionId = other.sessionId;
-      this.blockId = other.blockId;
-      this.requestBytes = other.requestBytes;
+      if (other.isSetMetrics()) {
+        List<Long> __this__metrics = new ArrayList<Long>(other.metrics);
+        this.metrics = __this__metrics;
+      }
     }
 
-    public requestSpace_args deepCopy() {
-      return new requestSpace_args(this);
+    public sessionHeartbeat_args deepCopy() {
+      return new sessionHeartbeat_args(this);
     }
 
     @Override
     public void clear() {
       setSessionIdIsSet(false);
       this.sessionId = 0;
-      setBlockIdIsSet(false);
-      this.blockId = 0;
-      setRequestBytesIsSet(false);
-      this.requestBytes = 0;
+      this.metrics = null;
     }
 
     /**
@@ -8279,7 +11480,7 @@ public class BlockWorkerClientService {
     /**
      * the id of the current session
      */
-    public requestSpace_args setSessionId(long sessionId) {
+    public sessionHeartbeat_args setSessionId(long sessionId) {
       this.sessionId = sessionId;
       setSessionIdIsSet(true);
       return this;
@@ -8298,62 +11499,49 @@ public class BlockWorkerClientService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SESSIONID_ISSET_ID, value);
     }
 
-    /**
-     * the id of the block being accessed
-     */
-    public long getBlockId() {
-      return this.blockId;
-    }
-
-    /**
-     * the id of the block being accessed
-     */
-    public requestSpace_args setBlockId(long blockId) {
-      this.blockId = blockId;
-      setBlockIdIsSet(true);
-      return this;
-    }
-
-    public void unsetBlockId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    public int getMetricsSize() {
+      return (this.metrics == null) ? 0 : this.metrics.size();
     }
 
-    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
-    public boolean isSetBlockId() {
-      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    public java.util.Iterator<Long> getMetricsIterator() {
+      return (this.metrics == null) ? null : this.metrics.iterator();
     }
 
-    public void setBlockIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
+    public void addToMetrics(long elem) {
+      if (this.metrics == null) {
+        this.metrics = new ArrayList<Long>();
+      }
+      this.metrics.add(elem);
     }
 
     /**
-     * the number of bytes requested
+     * the client metrics
      */
-    public long getRequestBytes() {
-      return this.requestBytes;
+    public List<Long> getMetrics() {
+      return this.metrics;
     }
 
     /**
-     * the number of bytes requested
+     * the client metrics
      */
-    public requestSpace_args setRequestBytes(long requestBytes) {
-      this.requestBytes = requestBytes;
-      setRequestBytesIsSet(true);
+    public sessionHeartbeat_args setMetrics(List<Long> metrics) {
+      this.metrics = metrics;
       return this;
     }
 
-    public void unsetRequestBytes() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REQUESTBYTES_ISSET_ID);
+    public void unsetMetrics() {
+      this.metrics = null;
     }
 
-    /** Returns true if field requestBytes is set (has been assigned a value) and false otherwise */
-    public boolean isSetRequestBytes() {
-      return EncodingUtils.testBit(__isset_bitfield, __REQUESTBYTES_ISSET_ID);
+    /** Returns true if field metrics is set (has been assigned a value) and false otherwise */
+    public boolean isSetMetrics() {
+      return this.metrics != null;
     }
 
-    public void setRequestBytesIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REQUESTBYTES_ISSET_ID, value);
+    public void setMetricsIsSet(boolean value) {
+      if (!value) {
+        this.metrics = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -8366,19 +11554,11 @@ public class BlockWorkerClientService {
         }
         break;
 
-      case BLOCK_ID:
-        if (value == null) {
-          unsetBlockId();
-        } else {
-          setBlockId((Long)value);
-        }
-        break;
-
-      case REQUEST_BYTES:
+      case METRICS:
         if (value == null) {
-          unsetRequestBytes();
+          unsetMetrics();
         } else {
-          setRequestBytes((Long)value);
+          setMetrics((List<Long>)value);
         }
         break;
 
@@ -8390,11 +11570,8 @@ public class BlockWorkerClientService {
       case SESSION_ID:
         return Long.valueOf(getSessionId());
 
-      case BLOCK_ID:
-        return Long.valueOf(getBlockId());
-
-      case REQUEST_BYTES:
-        return Long.valueOf(getRequestBytes());
+      case METRICS:
+        return getMetrics();
 
       }
       throw new IllegalStateException();
@@ -8409,10 +11586,8 @@ public class BlockWorkerClientService {
       switch (field) {
       case SESSION_ID:
         return isSetSessionId();
-      case BLOCK_ID:
-        return isSetBlockId();
-      case REQUEST_BYTES:
-        return isSetRequestBytes();
+      case METRICS:
+        return isSetMetrics();
       }
       throw new IllegalStateException();
     }
@@ -8421,12 +11596,12 @@ public class BlockWorkerClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof requestSpace_args)
-        return this.equals((requestSpace_args)that);
+      if (that instanceof sessionHeartbeat_args)
+        return this.equals((sessionHeartbeat_args)that);
       return false;
     }
 
-    public boolean equals(requestSpace_args that) {
+    public boolean equals(sessionHeartbeat_args that) {
       if (that == null)
         return false;
 
@@ -8439,21 +11614,12 @@ public class BlockWorkerClientService {
           return false;
       }
 
-      boolean this_present_blockId = true;
-      boolean that_present_blockId = true;
-      if (this_present_blockId || that_present_blockId) {
-        if (!(this_present_blockId && that_present_blockId))
-          return false;
-        if (this.blockId != that.blockId)
-          return false;
-      }
-
-      boolean this_present_requestBytes = true;
-      boolean that_present_requestBytes = true;
-      if (this_present_requestBytes || that_present_requestBytes) {
-        if (!(this_present_requestBytes && that_present_requestBytes))
+      boolean this_present_metrics = true && this.isSetMetrics();
+      boolean that_present_metrics = true && that.isSetMetrics();
+      if (this_present_metrics || that_present_metrics) {
+        if (!(this_present_metrics && that_present_metrics))
           return false;
-        if (this.requestBytes != that.requestBytes)
+        if (!this.metrics.equals(that.metrics))
           return false;
       }
 
@@ -8469,21 +11635,16 @@ public class BlockWorkerClientService {
       if (present_sessionId)
         list.add(sessionId);
 
-      boolean present_blockId = true;
-      list.add(present_blockId);
-      if (present_blockId)
-        list.add(blockId);
-
-      boolean present_requestBytes = true;
-      list.add(present_requestBytes);
-      if (present_requestBytes)
-        list.add(requestBytes);
+      boolean present_metrics = true && (isSetMetrics());
+      list.add(present_metrics);
+      if (present_metrics)
+        list.add(metrics);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(requestSpace_args other) {
+    public int compareTo(sessionHeartbeat_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8500,22 +11661,12 @@ public class BlockWorkerClientService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetBlockId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetRequestBytes()).compareTo(other.isSetRequestBytes());
+      lastComparison = Boolean.valueOf(isSetMetrics()).compareTo(other.isSetMetrics());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetRequestBytes()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.requestBytes, other.requestBytes);
+      if (isSetMetrics()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.metrics, other.metrics);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -8537,19 +11688,19 @@ public class BlockWorkerClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("requestSpace_args(");
+      StringBuilder sb = new StringBuilder("sessionHeartbeat_args(");
       boolean first = true;
 
       sb.append("sessionId:");
       sb.append(this.sessionId);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("blockId:");
-      sb.append(this.blockId);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("requestBytes:");
-      sb.append(this.requestBytes);
+      sb.append("metrics:");
+      if (this.metrics == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.metrics);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -8578,15 +11729,15 @@ public class BlockWorkerClientService {
       }
     }
 
-    private static class requestSpace_argsStandardSchemeFactory implements SchemeFactory {
-      public requestSpace_argsStandardScheme getScheme() {
-        return new requestSpace_argsStandardScheme();
+    private static class sessionHeartbeat_argsStandardSchemeFactory implements SchemeFactory {
+      public sessionHeartbeat_argsStandardScheme getScheme() {
+        return new sessionHeartbeat_argsStandardScheme();
       }
     }
 
-    private static class requestSpace_argsStandardScheme extends StandardScheme<requestSpace_args> {
+    private static class sessionHeartbeat_argsStandardScheme extends StandardScheme<sessionHeartbeat_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, requestSpace_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, sessionHeartbeat_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8604,18 +11755,20 @@ public class BlockWorkerClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // BLOCK_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.blockId = iprot.readI64();
-                struct.setBlockIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // REQUEST_BYTES
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.requestBytes = iprot.readI64();
-                struct.setRequestBytesIsSet(true);
+            case 2: // METRICS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
+                  struct.metrics = new ArrayList<Long>(_list0.size);
+                  long _elem1;
+                  for (int _i2 = 0; _i2 < _list0.size; ++_i2)
+                  {
+                    _elem1 = iprot.readI64();
+                    struct.metrics.add(_elem1);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setMetricsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -8631,98 +11784,104 @@ public class BlockWorkerClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, requestSpace_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, sessionHeartbeat_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
         oprot.writeI64(struct.sessionId);
         oprot.writeFieldEnd();
-        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
-        oprot.writeI64(struct.blockId);
-        oprot.writeFieldEnd();
-        oprot.writeFieldBegin(REQUEST_BYTES_FIELD_DESC);
-        oprot.writeI64(struct.requestBytes);
-        oprot.writeFieldEnd();
+        if (struct.metrics != null) {
+          oprot.writeFieldBegin(METRICS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.metrics.size()));
+            for (long _iter3 : struct.metrics)
+            {
+              oprot.writeI64(_iter3);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class requestSpace_argsTupleSchemeFactory implements SchemeFactory {
-      public requestSpace_argsTupleScheme getScheme() {
-        return new requestSpace_argsTupleScheme();
+    private static class sessionHeartbeat_argsTupleSchemeFactory implements SchemeFactory {
+      public sessionHeartbeat_argsTupleScheme getScheme() {
+        return new sessionHeartbeat_argsTupleScheme();
       }
     }
 
-    private static class requestSpace_argsTupleScheme extends TupleScheme<requestSpace_args> {
+    private static class sessionHeartbeat_argsTupleScheme extends TupleScheme<sessionHeartbeat_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, requestSpace_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, sessionHeartbeat_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSessionId()) {
           optionals.set(0);
         }
-        if (struct.isSetBlockId()) {
+        if (struct.isSetMetrics()) {
           optionals.set(1);
         }
-        if (struct.isSetRequestBytes()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSessionId()) {
           oprot.writeI64(struct.sessionId);
         }
-        if (struct.isSetBlockId()) {
-          oprot.writeI64(struct.blockId);
-        }
-        if (struct.isSetRequestBytes()) {
-          oprot.writeI64(struct.requestBytes);
+        if (struct.isSetMetrics()) {
+          {
+            oprot.writeI32(struct.metrics.size());
+            for (long _iter4 : struct.metrics)
+            {
+              oprot.writeI64(_iter4);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, requestSpace_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, sessionHeartbeat_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.sessionId = iprot.readI64();
           struct.setSessionIdIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.blockId = iprot.readI64();
-          struct.setBlockIdIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.requestBytes = iprot.readI64();
-          struct.setRequestBytesIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list5 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.metrics = new ArrayList<Long>(_list5.size);
+            long _elem6;
+            for (int _i7 = 0; _i7 < _list5.size; ++_i7)
+            {
+              _elem6 = iprot.readI64();
+              struct.metrics.add(_elem6);
+            }
+          }
+          struct.setMetricsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class requestSpace_result implements org.apache.thrift.TBase<requestSpace_result, requestSpace_result._Fields>, java.io.Serializable, Cloneable, Comparable<requestSpace_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestSpace_result");
+  public static class sessionHeartbeat_result implements org.apache.thrift.TBase<sessionHeartbeat_result, sessionHeartbeat_result._Fields>, java.io.Serializable, Cloneable, Comparable<sessionHeartbeat_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sessionHeartbeat_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
-    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new requestSpace_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new requestSpace_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new sessionHeartbeat_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new sessionHeartbeat_resultTupleSchemeFactory());
     }
 
-    public boolean success; // required
-    public tachyon.thrift.TachyonTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
-      E((short)1, "e");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -8737,10 +11896,6 @@ public class BlockWorkerClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
-          case 1: // E
-            return E;
           default:
             return null;
         }
@@ -8779,132 +11934,37 @@ public class BlockWorkerClientService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
-      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestSpace_result.class, metaDataMap);
-    }
-
-    public requestSpace_result() {
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sessionHeartbeat_result.class, metaDataMap);
     }
 
-    public requestSpace_result(
-      boolean success,
-      tachyon.thrift.TachyonTException e)
-    {
-      this();
-      this.success = success;
-      setSuccessIsSet(true);
-      this.e = e;
+    public sessionHeartbeat_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public requestSpace_result(requestSpace_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
-      if (other.isSetE()) {
-        this.e = new tachyon.thrift.TachyonTException(other.e);
-      }
+    public sessionHeartbeat_result(sessionHeartbeat_result other) {
     }
 
-    public requestSpace_result deepCopy() {
-      return new requestSpace_result(this);
+    public sessionHeartbeat_result deepCopy() {
+      return new sessionHeartbeat_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
-      this.e = null;
-    }
-
-    public boolean isSuccess() {
-      return this.success;
-    }
-
-    public requestSpace_result setSuccess(boolean success) {
-      this.success = success;
-      setSuccessIsSet(true);
-      return this;
-    }
-
-    public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
-    }
-
-    public tachyon.thrift.TachyonTException getE() {
-      return this.e;
-    }
-
-    public requestSpace_result setE(tachyon.thrift.TachyonTException e) {
-      this.e = e;
-      return this;
-    }
-
-    public void unsetE() {
-      this.e = null;
-    }
-
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
-    }
-
-    public void setEIsSet(boolean value) {
-      if (!value) {
-        this.e = null;
-      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((Boolean)value);
-        }
-        break;
-
-      case E:
-        if (value == null) {
-          unsetE();
-        } else {
-          setE((tachyon.thrift.TachyonTException)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return Boolean.valueOf(isSuccess());
-
-      case E:
-        return getE();
-
       }
       throw new IllegalStateException();
     }
@@ -8916,10 +11976,6 @@ public class BlockWorkerClientService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
-      case E:
-        return isSetE();
       }
       throw new IllegalStateException();
     }
@@ -8928,33 +11984,15 @@ public class BlockWorkerClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof requestSpace_result)
-        return this.equals((requestSpace_result)that);
+      if (that instanceof sessionHeartbeat_result)
+        return this.equals((sessionHeartbeat_result)that);
       return false;
     }
 
-    public boolean equals(requestSpace_result that) {
+    public boolean equals(sessionHeartbeat_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (this.success != that.success)
-          return false;
-      }
-
-      boolean this_present_e = true && this.isSetE();
-      boolean that_present_e = true && that.isSetE();
-      if (this_present_e || that_present_e) {
-        if (!(this_present_e && that_present_e))
-          return false;
-        if (!this.e.equals(that.e))
-          return false;
-      }
-
       return true;
     }
 
@@ -8962,47 +12000,17 @@ public class BlockWorkerClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true;
-      list.add(present_success);
-      if (present_success)
-        list.add(success);
-
-      boolean present_e = true && (isSetE());
-      list.add(present_e);
-      if (present_e)
-        list.add(e);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(requestSpace_result other) {
+    public int compareTo(sessionHeartbeat_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -9020,20 +12028,9 @@ public class BlockWorkerClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("requestSpace_result(");
+      StringBuilder sb = new StringBuilder("sessionHeartbeat_result(");
       boolean first = true;
 
-      sb.append("success:");
-      sb.append(this.success);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("e:");
-      if (this.e == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.e);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -9053,23 +12050,21 @@ public class BlockWorkerClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class requestSpace_resultStandardSchemeFactory implements SchemeFactory {
-      public requestSpace_resultStandardScheme getScheme() {
-        return new requestSpace_resultStandardScheme();
+    private static class sessionHeartbeat_resultStandardSchemeFactory implements SchemeFactory {
+      public sessionHeartbeat_resultStandardScheme getScheme() {
+        return new sessionHeartbeat_resultStandardScheme();
       }
     }
 
-    private static class requestSpace_resultStandardScheme extends StandardScheme<requestSpace_result> {
+    private static class sessionHeartbeat_resultStandardScheme extends StandardScheme<sessionHeartbeat_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, requestSpace_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, sessionHeartbeat_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9079,23 +12074,6 @@ public class BlockWorkerClientService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 1: // E
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new tachyon.thrift.TachyonTException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -9107,102 +12085,68 @@ public class BlockWorkerClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, requestSpace_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, sessionHeartbeat_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBool(struct.success);
-          oprot.writeFieldEnd();
-        }
-        if (struct.e != null) {
-          oprot.writeFieldBegin(E_FIELD_DESC);
-          struct.e.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class requestSpace_resultTupleSchemeFactory implements SchemeFactory {
-      public requestSpace_resultTupleScheme getScheme() {
-        return new requestSpace_resultTupleScheme();
+    private static class sessionHeartbeat_resultTupleSchemeFactory implements SchemeFactory {
+      public sessionHeartbeat_resultTupleScheme getScheme() {
+        return new sessionHeartbeat_resultTupleScheme();
       }
     }
 
-    private static class requestSpace_resultTupleScheme extends TupleScheme<requestSpace_result> {
+    private static class sessionHeartbeat_resultTupleScheme extends TupleScheme<sessionHeartbeat_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, requestSpace_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, sessionHeartbeat_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
-        BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
-        if (struct.isSetE()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
-        }
-        if (struct.isSetE()) {
-          struct.e.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, requestSpace_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, sessionHeartbeat_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
-        if (incoming.get(0)) {
-          struct.success = iprot.readBool();
-          struct.setSuccessIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.e = new tachyon.thrift.TachyonTException();
-          struct.e.read(iprot);
-          struct.setEIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class sessionHeartbeat_args implements org.apache.thrift.TBase<sessionHeartbeat_args, sessionHeartbeat_args._Fields>, java.io.Serializable, Cloneable, Comparable<sessionHeartbeat_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sessionHeartbeat_args");
+  public static class unlockBlock_args implements org.apache.thrift.TBase<unlockBlock_args, unlockBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<unlockBlock_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("unlockBlock_args");
 
-    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.I64, (short)1);
-    private static final org.apache.thrift.protocol.TField METRICS_FIELD_DESC = new org.apache.thrift.protocol.TField("metrics", org.apache.thrift.protocol.TType.LIST, (short)2);
+    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.I64, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new sessionHeartbeat_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new sessionHeartbeat_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new unlockBlock_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new unlockBlock_argsTupleSchemeFactory());
     }
 
     /**
-     * the id of the current session
+     * the id of the block being accessed
      */
-    public long sessionId; // required
+    public long blockId; // required
     /**
-     * the client metrics
+     * the id of the current session
      */
-    public List<Long> metrics; // required
+    public long sessionId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the id of the current session
+       * the id of the block being accessed
        */
-      SESSION_ID((short)1, "sessionId"),
+      BLOCK_ID((short)1, "blockId"),
       /**
-       * the client metrics
+       * the id of the current session
        */
-      METRICS((short)2, "metrics");
+      SESSION_ID((short)2, "sessionId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -9217,10 +12161,10 @@ public class BlockWorkerClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // SESSION_ID
+          case 1: // BLOCK_ID
+            return BLOCK_ID;
+          case 2: // SESSION_ID
             return SESSION_ID;
-          case 2: // METRICS
-            return METRICS;
           default:
             return null;
         }
@@ -9261,54 +12205,82 @@ public class BlockWorkerClientService {
     }
 
     // isset id assignments
-    private static final int __SESSIONID_ISSET_ID = 0;
+    private static final int __BLOCKID_ISSET_ID = 0;
+    private static final int __SESSIONID_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.METRICS, new org.apache.thrift.meta_data.FieldMetaData("metrics", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sessionHeartbeat_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(unlockBlock_args.class, metaDataMap);
     }
 
-    public sessionHeartbeat_args() {
+    public unlockBlock_args() {
     }
 
-    public sessionHeartbeat_args(
-      long sessionId,
-      List<Long> metrics)
+    public unlockBlock_args(
+      long blockId,
+      long sessionId)
     {
       this();
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
       this.sessionId = sessionId;
       setSessionIdIsSet(true);
-      this.metrics = metrics;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public sessionHeartbeat_args(sessionHeartbeat_args other) {
+    public unlockBlock_args(unlockBlock_args other) {
       __isset_bitfield = other.__isset_bitfield;
+      this.blockId = other.blockId;
       this.sessionId = other.sessionId;
-      if (other.isSetMetrics()) {
-        List<Long> __this__metrics = new ArrayList<Long>(other.metrics);
-        this.metrics = __this__metrics;
-      }
     }
 
-    public sessionHeartbeat_args deepCopy() {
-      return new sessionHeartbeat_args(this);
+    public unlockBlock_args deepCopy() {
+      return new unlockBlock_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setBlockIdIsSet(false);
+      this.blockId = 0;
+      setSessionIdIsSet(false);
+      this.sessionId = 0;
+    }
+
+    /**
+     * the id of the block being accessed
+     */
+    public long getBlockId() {
+      return this.blockId;
+    }
+
+    /**
+     * the id of the block being accessed
+     */
+    public unlockBlock_args setBlockId(long blockId) {
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
+      return this;
+    }
+
+    public void unsetBlockId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
     }
 
-    @Override
-    public void clear() {
-      setSessionIdIsSet(false);
-      this.sessionId = 0;
-      this.metrics = null;
+    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockId() {
+      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    }
+
+    public void setBlockIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
     }
 
     /**
@@ -9321,7 +12293,7 @@ public class BlockWorkerClientService {
     /**
      * the id of the current session
      */
-    public sessionHeartbeat_args setSessionId(long sessionId) {
+    public unlockBlock_args setSessionId(long sessionId) {
       this.sessionId = sessionId;
       setSessionIdIsSet(true);
       return this;
@@ -9340,66 +12312,21 @@ public class BlockWorkerClientService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SESSIONID_ISSET_ID, value);
     }
 
-    public int getMetricsSize() {
-      return (this.metrics == null) ? 0 : this.metrics.size();
-    }
-
-    public java.util.Iterator<Long> getMetricsIterator() {
-      return (this.metrics == null) ? null : this.metrics.iterator();
-    }
-
-    public void addToMetrics(long elem) {
-      if (this.metrics == null) {
-        this.metrics = new ArrayList<Long>();
-      }
-      this.metrics.add(elem);
-    }
-
-    /**
-     * the client metrics
-     */
-    public List<Long> getMetrics() {
-      return this.metrics;
-    }
-
-    /**
-     * the client metrics
-     */
-    public sessionHeartbeat_args setMetrics(List<Long> metrics) {
-      this.metrics = metrics;
-      return this;
-    }
-
-    public void unsetMetrics() {
-      this.metrics = null;
-    }
-
-    /** Returns true if field metrics is set (has been assigned a value) and false otherwise */
-    public boolean isSetMetrics() {
-      return this.metrics != null;
-    }
-
-    public void setMetricsIsSet(boolean value) {
-      if (!value) {
-        this.metrics = null;
-      }
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SESSION_ID:
+      case BLOCK_ID:
         if (value == null) {
-          unsetSessionId();
+          unsetBlockId();
         } else {
-          setSessionId((Long)value);
+          setBlockId((Long)value);
         }
         break;
 
-      case METRICS:
+      case SESSION_ID:
         if (value == null) {
-          unsetMetrics();
+          unsetSessionId();
         } else {
-          setMetrics((List<Long>)value);
+          setSessionId((Long)value);
         }
         break;
 
@@ -9408,12 +12335,12 @@ public class BlockWorkerClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case BLOCK_ID:
+        return Long.valueOf(getBlockId());
+
       case SESSION_ID:
         return Long.valueOf(getSessionId());
 
-      case METRICS:
-        return getMetrics();
-
       }
       throw new IllegalStateException();
     }
@@ -9425,10 +12352,10 @@ public class BlockWorkerClientService {
       }
 
       switch (field) {
+      case BLOCK_ID:
+        return isSetBlockId();
       case SESSION_ID:
         return isSetSessionId();
-      case METRICS:
-        return isSetMetrics();
       }
       throw new IllegalStateException();
     }
@@ -9437,15 +12364,24 @@ public class BlockWorkerClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof sessionHeartbeat_args)
-        return this.equals((sessionHeartbeat_args)that);
+      if (that instanceof unlockBlock_args)
+        return this.equals((unlockBlock_args)that);
       return false;
     }
 
-    public boolean equals(sessionHeartbeat_args that) {
+    public boolean equals(unlockBlock_args that) {
       if (that == null)
         return false;
 
+      boolean this_present_blockId = true;
+      boolean that_present_blockId = true;
+      if (this_present_blockId || that_present_blockId) {
+        if (!(this_present_blockId && that_present_blockId))
+          return false;
+        if (this.blockId != that.blockId)
+          return false;
+      }
+
       boolean this_present_sessionId = true;
       boolean that_present_sessionId = true;
       if (this_present_sessionId || that_present_sessionId) {
@@ -9455,15 +12391,6 @@ public class BlockWorkerClientService {
           return false;
       }
 
-      boolean this_present_metrics = true && this.isSetMetrics();
-      boolean that_present_metrics = true && that.isSetMetrics();
-      if (this_present_metrics || that_present_metrics) {
-        if (!(this_present_metrics && that_present_metrics))
-          return false;
-        if (!this.metrics.equals(that.metrics))
-          return false;
-      }
-
       return true;
     }
 
@@ -9471,43 +12398,43 @@ public class BlockWorkerClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_blockId = true;
+      list.add(present_blockId);
+      if (present_blockId)
+        list.add(blockId);
+
       boolean present_sessionId = true;
       list.add(present_sessionId);
       if (present_sessionId)
         list.add(sessionId);
 
-      boolean present_metrics = true && (isSetMetrics());
-      list.add(present_metrics);
-      if (present_metrics)
-        list.add(metrics);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(sessionHeartbeat_args other) {
+    public int compareTo(unlockBlock_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
+      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSessionId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
+      if (isSetBlockId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetMetrics()).compareTo(other.isSetMetrics());
+      lastComparison = Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetMetrics()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.metrics, other.metrics);
+      if (isSetSessionId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -9529,19 +12456,15 @@ public class BlockWorkerClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("sessionHeartbeat_args(");
+      StringBuilder sb = new StringBuilder("unlockBlock_args(");
       boolean first = true;
 
-      sb.append("sessionId:");
-      sb.append(this.sessionId);
+      sb.append("blockId:");
+      sb.append(this.blockId);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("metrics:");
-      if (this.metrics == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.metrics);
-      }
+      sb.append("sessionId:");
+      sb.append(this.sessionId);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -9570,15 +12493,15 @@ public class BlockWorkerClientService {
       }
     }
 
-    private static class sessionHeartbeat_argsStandardSchemeFactory implements SchemeFactory {
-      public sessionHeartbeat_argsStandardScheme getScheme() {
-        return new sessionHeartbeat_argsStandardScheme();
+    private static class unlockBlock_argsStandardSchemeFactory implements SchemeFactory {
+      public unlockBlock_argsStandardScheme getScheme() {
+        return new unlockBlock_argsStandardScheme();
       }
     }
 
-    private static class sessionHeartbeat_argsStandardScheme extends StandardScheme<sessionHeartbeat_args> {
+    private static class unlockBlock_argsStandardScheme extends StandardScheme<unlockBlock_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, sessionHeartbeat_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, unlockBlock_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9588,28 +12511,18 @@ public class BlockWorkerClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // SESSION_ID
+            case 1: // BLOCK_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.sessionId = iprot.readI64();
-                struct.setSessionIdIsSet(true);
+                struct.blockId = iprot.readI64();
+                struct.setBlockIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // METRICS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
-                  struct.metrics = new ArrayList<Long>(_list0.size);
-                  long _elem1;
-                  for (int _i2 = 0; _i2 < _list0.size; ++_i2)
-                  {
-                    _elem1 = iprot.readI64();
-                    struct.metrics.add(_elem1);
-                  }
-                  iprot.readListEnd();
-                }
-                struct.setMetricsIsSet(true);
+            case 2: // SESSION_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.sessionId = iprot.readI64();
+                struct.setSessionIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -9625,104 +12538,82 @@ public class BlockWorkerClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, sessionHeartbeat_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, unlockBlock_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
+        oprot.writeI64(struct.blockId);
+        oprot.writeFieldEnd();
         oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
         oprot.writeI64(struct.sessionId);
         oprot.writeFieldEnd();
-        if (struct.metrics != null) {
-          oprot.writeFieldBegin(METRICS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.metrics.size()));
-            for (long _iter3 : struct.metrics)
-            {
-              oprot.writeI64(_iter3);
-            }
-            oprot.writeListEnd();
-          }
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class sessionHeartbeat_argsTupleSchemeFactory implements SchemeFactory {
-      public sessionHeartbeat_argsTupleScheme getScheme() {
-        return new sessionHeartbeat_argsTupleScheme();
+    private static class unlockBlock_argsTupleSchemeFactory implements SchemeFactory {
+      public unlockBlock_argsTupleScheme getScheme() {
+        return new unlockBlock_argsTupleScheme();
       }
     }
 
-    private static class sessionHeartbeat_argsTupleScheme extends TupleScheme<sessionHeartbeat_args> {
+    private static class unlockBlock_argsTupleScheme extends TupleScheme<unlockBlock_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, sessionHeartbeat_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, unlockBlock_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetSessionId()) {
+        if (struct.isSetBlockId()) {
           optionals.set(0);
         }
-        if (struct.isSetMetrics()) {
+        if (struct.isSetSessionId()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
+        if (struct.isSetBlockId()) {
+          oprot.writeI64(struct.blockId);
+        }
         if (struct.isSetSessionId()) {
           oprot.writeI64(struct.sessionId);
         }
-        if (struct.isSetMetrics()) {
-          {
-            oprot.writeI32(struct.metrics.size());
-            for (long _iter4 : struct.metrics)
-            {
-              oprot.writeI64(_iter4);
-            }
-          }
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, sessionHeartbeat_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, unlockBlock_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.sessionId = iprot.readI64();
-          struct.setSessionIdIsSet(true);
+          struct.blockId = iprot.readI64();
+          struct.setBlockIdIsSet(true);
         }
         if (incoming.get(1)) {
-          {
-            org.apache.thrift.protocol.TList _list5 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
-            struct.metrics = new ArrayList<Long>(_list5.size);
-            long _elem6;
-            for (int _i7 = 0; _i7 < _list5.size; ++_i7)
-            {
-              _elem6 = iprot.readI64();
-              struct.metrics.add(_elem6);
-            }
-          }
-          struct.setMetricsIsSet(true);
+          struct.sessionId = iprot.readI64();
+          struct.setSessionIdIsSet(true);
         }
       }
     }
 
   }
 
-  public static class sessionHeartbeat_result implements org.apache.thrift.TBase<sessionHeartbeat_result, sessionHeartbeat_result._Fields>, java.io.Serializable, Cloneable, Comparable<sessionHeartbeat_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sessionHeartbeat_result");
+  public static class unlockBlock_result implements org.apache.thrift.TBase<unlockBlock_result, unlockBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<unlockBlock_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("unlockBlock_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new sessionHeartbeat_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new sessionHeartbeat_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new unlockBlock_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new unlockBlock_resultTupleSchemeFactory());
     }
 
+    public boolean success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -9737,6 +12628,8 @@ public class BlockWorkerClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -9775,37 +12668,89 @@ public class BlockWorkerClientService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sessionHeartbeat_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(unlockBlock_result.class, metaDataMap);
     }
 
-    public sessionHeartbeat_result() {
+    public unlockBlock_result() {
+    }
+
+    public unlockBlock_result(
+      boolean success)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public sessionHeartbeat_result(sessionHeartbeat_result other) {
+    public unlockBlock_result(unlockBlock_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
     }
 
-    public sessionHeartbeat_result deepCopy() {
-      return new sessionHeartbeat_result(this);
+    public unlockBlock_result deepCopy() {
+      return new unlockBlock_result(this);
     }
 
     @Override
     public void clear() {
+      setSuccessIsSet(false);
+      this.success = false;
+    }
+
+    public boolean isSuccess() {
+      return this.success;
+    }
+
+    public unlockBlock_result setSuccess(boolean success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Boolean)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return Boolean.valueOf(isSuccess());
+
       }
       throw new IllegalStateException();
     }
@@ -9817,6 +12762,8 @@ public class BlockWorkerClientService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -9825,15 +12772,24 @@ public class BlockWorkerClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof sessionHeartbeat_result)
-        return this.equals((sessionHeartbeat_result)that);
+      if (that instanceof unlockBlock_result)
+        return this.equals((unlockBlock_result)that);
       return false;
     }
 
-    public boolean equals(sessionHeartbeat_result that) {
+    public boolean equals(unlockBlock_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
       return true;
     }
 
@@ -9841,17 +12797,32 @@ public class BlockWorkerClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true;
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(sessionHeartbeat_result other) {
+    public int compareTo(unlockBlock_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -9869,9 +12840,12 @@ public class BlockWorkerClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("sessionHeartbeat_result(");
+      StringBuilder sb = new StringBuilder("unlockBlock_result(");
       boolean first = true;
 
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -9891,21 +12865,23 @@ public class BlockWorkerClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class sessionHeartbeat_resultStandardSchemeFactory implements SchemeFactory {
-      public sessionHeartbeat_resultStandardScheme getScheme() {
-        return new sessionHeartbeat_resultStandardScheme();
+    private static class unlockBlock_resultStandardSchemeFactory implements SchemeFactory {
+      public unlockBlock_resultStandardScheme getScheme() {
+        return new unlockBlock_resultStandardScheme();
       }
     }
 
-    private static class sessionHeartbeat_resultStandardScheme extends StandardScheme<sessionHeartbeat_result> {
+    private static class unlockBlock_resultStandardScheme extends StandardScheme<unlockBlock_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, sessionHeartbeat_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, unlockBlock_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9915,6 +12891,14 @@ public class BlockWorkerClientService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -9926,68 +12910,86 @@ public class BlockWorkerClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, sessionHeartbeat_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, unlockBlock_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBool(struct.success);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class sessionHeartbeat_resultTupleSchemeFactory implements SchemeFactory {
-      public sessionHeartbeat_resultTupleScheme getScheme() {
-        return new sessionHeartbeat_resultTupleScheme();
+    private static class unlockBlock_resultTupleSchemeFactory implements SchemeFactory {
+      public unlockBlock_resultTupleScheme getScheme() {
+        return new unlockBlock_resultTupleScheme();
       }
     }
 
-    private static class sessionHeartbeat_resultTupleScheme extends TupleScheme<sessionHeartbeat_result> {
+    private static class unlockBlock_resultTupleScheme extends TupleScheme<unlockBlock_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, sessionHeartbeat_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, unlockBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeBool(struct.success);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, sessionHeartbeat_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, unlockBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBool();
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class unlockBlock_args implements org.apache.thrift.TBase<unlockBlock_args, unlockBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<unlockBlock_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("unlockBlock_args");
+  public static class unlockBlocks_args implements org.apache.thrift.TBase<unlockBlocks_args, unlockBlocks_args._Fields>, java.io.Serializable, Cloneable, Comparable<unlockBlocks_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("unlockBlocks_args");
 
-    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
-    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField BLOCK_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("blockIds", org.apache.thrift.protocol.TType.LIST, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new unlockBlock_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new unlockBlock_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new unlockBlocks_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new unlockBlocks_argsTupleSchemeFactory());
     }
 
-    /**
-     * the id of the block being accessed
-     */
-    public long blockId; // required
     /**
      * the id of the current session
      */
     public long sessionId; // required
+    /**
+     * the ids of the blocks being unlocked
+     */
+    public List<Long> blockIds; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the id of the block being accessed
+       * the id of the current session
        */
-      BLOCK_ID((short)1, "blockId"),
+      SESSION_ID((short)1, "sessionId"),
       /**
-       * the id of the current session
+       * the ids of the blocks being unlocked
        */
-      SESSION_ID((short)2, "sessionId");
+      BLOCK_IDS((short)2, "blockIds");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -10002,10 +13004,10 @@ public class BlockWorkerClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // BLOCK_ID
-            return BLOCK_ID;
-          case 2: // SESSION_ID
+          case 1: // SESSION_ID
             return SESSION_ID;
+          case 2: // BLOCK_IDS
+            return BLOCK_IDS;
           default:
             return null;
         }
@@ -10046,128 +13048,145 @@ public class BlockWorkerClientService {
     }
 
     // isset id assignments
-    private static final int __BLOCKID_ISSET_ID = 0;
-    private static final int __SESSIONID_ISSET_ID = 1;
+    private static final int __SESSIONID_ISSET_ID = 0;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.BLOCK_IDS, new org.apache.thrift.meta_data.FieldMetaData("blockIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(unlockBlock_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(unlockBlocks_args.class, metaDataMap);
     }
 
-    public unlockBlock_args() {
+    public unlockBlocks_args() {
     }
 
-    public unlockBlock_args(
-      long blockId,
-      long sessionId)
+    public unlockBlocks_args(
+      long sessionId,
+      List<Long> blockIds)
     {
       this();
-      this.blockId = blockId;
-      setBlockIdIsSet(true);
       this.sessionId = sessionId;
       setSessionIdIsSet(true);
+      this.blockIds = blockIds;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public unlockBlock_args(unlockBlock_args other) {
+    public unlockBlocks_args(unlockBlocks_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.blockId = other.blockId;
       this.sessionId = other.sessionId;
+      if (other.isSetBlockIds()) {
+        List<Long> __this__blockIds = new ArrayList<Long>(other.blockIds);
+        this.blockIds = __this__blockIds;
+      }
     }
 
-    public unlockBlock_args deepCopy() {
-      return new unlockBlock_args(this);
+    public unlockBlocks_args deepCopy() {
+      return new unlockBlocks_args(this);
     }
 
     @Override
     public void clear() {
-      setBlockIdIsSet(false);
-      this.blockId = 0;
       setSessionIdIsSet(false);
       this.sessionId = 0;
+      this.blockIds = null;
     }
 
     /**
-     * the id of the block being accessed
+     * the id of the current session
      */
-    public long getBlockId() {
-      return this.blockId;
+    public long getSessionId() {
+      return this.sessionId;
     }
 
     /**
-     * the id of the block being accessed
+     * the id of the current session
      */
-    public unlockBlock_args setBlockId(long blockId) {
-      this.blockId = blockId;
-      setBlockIdIsSet(true);
+    public unlockBlocks_args setSessionId(long sessionId) {
+      this.sessionId = sessionId;
+      setSessionIdIsSet(true);
       return this;
     }
 
-    public void unsetBlockId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    public void unsetSessionId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SESSIONID_ISSET_ID);
     }
 
-    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
-    public boolean isSetBlockId() {
-      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    /** Returns true if field sessionId is set (has been assigned a value) and false otherwise */
+    public boolean isSetSessionId() {
+      return EncodingUtils.testBit(__isset_bitfield, __SESSIONID_ISSET_ID);
     }
 
-    public void setBlockIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
+    public void setSessionIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SESSIONID_ISSET_ID, value);
+    }
+
+    public int getBlockIdsSize() {
+      return (this.blockIds == null) ? 0 : this.blockIds.size();
+    }
+
+    public java.util.Iterator<Long> getBlockIdsIterator() {
+      return (this.blockIds == null) ? null : this.blockIds.iterator();
+    }
+
+    public void addToBlockIds(long elem) {
+      if (this.blockIds == null) {
+        this.blockIds = new ArrayList<Long>();
+      }
+      this.blockIds.add(elem);
     }
 
     /**
-     * the id of the current session
+     * the ids of the blocks being unlocked
      */
-    public long getSessionId() {
-      return this.sessionId;
+    public List<Long> getBlockIds() {
+      return this.blockIds;
     }
 
     /**
-     * the id of the current session
+     * the ids of the blocks being unlocked
      */
-    public unlockBlock_args setSessionId(long sessionId) {
-      this.sessionId = sessionId;
-      setSessionIdIsSet(true);
+    public unlockBlocks_args setBlockIds(List<Long> blockIds) {
+      this.blockIds = blockIds;
       return this;
     }
 
-    public void unsetSessionId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SESSIONID_ISSET_ID);
+    public void unsetBlockIds() {
+      this.blockIds = null;
     }
 
-    /** Returns true if field sessionId is set (has been assigned a value) and false otherwise */
-    public boolean isSetSessionId() {
-      return EncodingUtils.testBit(__isset_bitfield, __SESSIONID_ISSET_ID);
+    /** Returns true if field blockIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockIds() {
+      return this.blockIds != null;
     }
 
-    public void setSessionIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SESSIONID_ISSET_ID, value);
+    public void setBlockIdsIsSet(boolean value) {
+      if (!value) {
+        this.blockIds = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case BLOCK_ID:
+      case SESSION_ID:
         if (value == null) {
-          unsetBlockId();
+          unsetSessionId();
         } else {
-          setBlockId((Long)value);
+          setSessionId((Long)value);
         }
         break;
 
-      case SESSION_ID:
+      case BLOCK_IDS:
         if (value == null) {
-          unsetSessionId();
+          unsetBlockIds();
         } else {
-          setSessionId((Long)value);
+          setBlockIds((List<Long>)value);
         }
         break;
 
@@ -10176,12 +13195,12 @@ public class BlockWorkerClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case BLOCK_ID:
-        return Long.valueOf(getBlockId());
-
       case SESSION_ID:
         return Long.valueOf(getSessionId());
 
+      case BLOCK_IDS:
+        return getBlockIds();
+
       }
       throw new IllegalStateException();
     }
@@ -10193,10 +13212,10 @@ public class BlockWorkerClientService {
       }
 
       switch (field) {
-      case BLOCK_ID:
-        return isSetBlockId();
       case SESSION_ID:
         return isSetSessionId();
+      case BLOCK_IDS:
+        return isSetBlockIds();
       }
       throw new IllegalStateException();
     }
@@ -10205,24 +13224,15 @@ public class BlockWorkerClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof unlockBlock_args)
-        return this.equals((unlockBlock_args)that);
+      if (that instanceof unlockBlocks_args)
+        return this.equals((unlockBlocks_args)that);
       return false;
     }
 
-    public boolean equals(unlockBlock_args that) {
+    public boolean equals(unlockBlocks_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_blockId = true;
-      boolean that_present_blockId = true;
-      if (this_present_blockId || that_present_blockId) {
-        if (!(this_present_blockId && that_present_blockId))
-          return false;
-        if (this.blockId != that.blockId)
-          return false;
-      }
-
       boolean this_present_sessionId = true;
       boolean that_present_sessionId = true;
       if (this_present_sessionId || that_present_sessionId) {
@@ -10232,6 +13242,15 @@ public class BlockWorkerClientService {
           return false;
       }
 
+      boolean this_present_blockIds = true && this.isSetBlockIds();
+      boolean that_present_blockIds = true && that.isSetBlockIds();
+      if (this_present_blockIds || that_present_blockIds) {
+        if (!(this_present_blockIds && that_present_blockIds))
+          return false;
+        if (!this.blockIds.equals(that.blockIds))
+          return false;
+      }
+
       return true;
     }
 
@@ -10239,43 +13258,43 @@ public class BlockWorkerClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_blockId = true;
-      list.add(present_blockId);
-      if (present_blockId)
-        list.add(blockId);
-
       boolean present_sessionId = true;
       list.add(present_sessionId);
       if (present_sessionId)
         list.add(sessionId);
 
+      boolean present_blockIds = true && (isSetBlockIds());
+      list.add(present_blockIds);
+      if (present_blockIds)
+        list.add(blockIds);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(unlockBlock_args other) {
+    public int compareTo(unlockBlocks_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
+      lastComparison = Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetBlockId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
+      if (isSetSessionId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
+      lastComparison = Boolean.valueOf(isSetBlockIds()).compareTo(other.isSetBlockIds());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSessionId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
+      if (isSetBlockIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockIds, other.blockIds);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -10297,16 +13316,20 @@ public class BlockWorkerClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("unlockBlock_args(");
+      StringBuilder sb = new StringBuilder("unlockBlocks_args(");
       boolean first = true;
 
-      sb.append("blockId:");
-      sb.append(this.blockId);
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("sessionId:");
       sb.append(this.sessionId);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("blockIds:");
+      if (this.blockIds == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.blockIds);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -10334,15 +13357,15 @@ public class BlockWorkerClientService {
       }
     }
 
-    private static class unlockBlock_argsStandardSchemeFactory implements SchemeFactory {
-      public unlockBlock_argsStandardScheme getScheme() {
-        return new unlockBlock_argsStandardScheme();
+    private static class unlockBlocks_argsStandardSchemeFactory implements SchemeFactory {
+      public unlockBlocks_argsStandardScheme getScheme() {
+        return new unlockBlocks_argsStandardScheme();
       }
     }
 
-    private static class unlockBlock_argsStandardScheme extends StandardScheme<unlockBlock_args> {
+    private static class unlockBlocks_argsStandardScheme extends StandardScheme<unlockBlocks_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, unlockBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, unlockBlocks_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10352,18 +13375,28 @@ public class BlockWorkerClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // BLOCK_ID
+            case 1: // SESSION_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.blockId = iprot.readI64();
-                struct.setBlockIdIsSet(true);
+                struct.sessionId = iprot.readI64();
+                struct.setSessionIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // SESSION_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.sessionId = iprot.readI64();
-                struct.setSessionIdIsSet(true);
+            case 2: // BLOCK_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
+                  struct.blockIds = new ArrayList<Long>(_list8.size);
+                  long _elem9;
+                  for (int _i10 = 0; _i10 < _list8.size; ++_i10)
+                  {
+                    _elem9 = iprot.readI64();
+                    struct.blockIds.add(_elem9);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setBlockIdsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -10379,82 +13412,104 @@ public class BlockWorkerClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, unlockBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, unlockBlocks_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
-        oprot.writeI64(struct.blockId);
-        oprot.writeFieldEnd();
         oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
         oprot.writeI64(struct.sessionId);
         oprot.writeFieldEnd();
+        if (struct.blockIds != null) {
+          oprot.writeFieldBegin(BLOCK_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.blockIds.size()));
+            for (long _iter11 : struct.blockIds)
+            {
+              oprot.writeI64(_iter11);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class unlockBlock_argsTupleSchemeFactory implements SchemeFactory {
-      public unlockBlock_argsTupleScheme getScheme() {
-        return new unlockBlock_argsTupleScheme();
+    private static class unlockBlocks_argsTupleSchemeFactory implements SchemeFactory {
+      public unlockBlocks_argsTupleScheme getScheme() {
+        return new unlockBlocks_argsTupleScheme();
       }
     }
 
-    private static class unlockBlock_argsTupleScheme extends TupleScheme<unlockBlock_args> {
+    private static class unlockBlocks_argsTupleScheme extends TupleScheme<unlockBlocks_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, unlockBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, unlockBlocks_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetBlockId()) {
+        if (struct.isSetSessionId()) {
           optionals.set(0);
         }
-        if (struct.isSetSessionId()) {
+        if (struct.isSetBlockIds()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetBlockId()) {
-          oprot.writeI64(struct.blockId);
-        }
         if (struct.isSetSessionId()) {
           oprot.writeI64(struct.sessionId);
         }
+        if (struct.isSetBlockIds()) {
+          {
+            oprot.writeI32(struct.blockIds.size());
+            for (long _iter12 : struct.blockIds)
+            {
+              oprot.writeI64(_iter12);
+            }
+          }
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, unlockBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, unlockBlocks_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.blockId = iprot.readI64();
-          struct.setBlockIdIsSet(true);
-        }
-        if (incoming.get(1)) {
           struct.sessionId = iprot.readI64();
           struct.setSessionIdIsSet(true);
         }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.blockIds = new ArrayList<Long>(_list13.size);
+            long _elem14;
+            for (int _i15 = 0; _i15 < _list13.size; ++_i15)
+            {
+              _elem14 = iprot.readI64();
+              struct.blockIds.add(_elem14);
+            }
+          }
+          struct.setBlockIdsIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class unlockBlock_result implements org.apache.thrift.TBase<unlockBlock_result, unlockBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<unlockBlock_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("unlockBlock_result");
+  public static class unlockBlocks_result implements org.apache.thrift.TBase<unlockBlocks_result, unlockBlocks_result._Fields>, java.io.Serializable, Cloneable, Comparable<unlockBlocks_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("unlockBlocks_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new unlockBlock_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new unlockBlock_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new unlockBlocks_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new unlockBlocks_resultTupleSchemeFactory());
     }
 
-    public boolean success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -10469,8 +13524,6 @@ public class BlockWorkerClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           default:
             return null;
         }
@@ -10509,89 +13562,37 @@ public class BlockWorkerClientService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(unlockBlock_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(unlockBlocks_result.class, metaDataMap);
     }
 
-    public unlockBlock_result() {
-    }
-
-    public unlockBlock_result(
-      boolean success)
-    {
-      this();
-      this.success = success;
-      setSuccessIsSet(true);
+    public unlockBlocks_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public unlockBlock_result(unlockBlock_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public unlockBlocks_result(unlockBlocks_result other) {
     }
 
-    public unlockBlock_result deepCopy() {
-      return new unlockBlock_result(this);
+    public unlockBlocks_result deepCopy() {
+      return new unlockBlocks_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
-    }
-
-    public boolean isSuccess() {
-      return this.success;
-    }
-
-    public unlockBlock_result setSuccess(boolean success) {
-      this.success = success;
-      setSuccessIsSet(true);
-      return this;
-    }
-
-    public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((Boolean)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return Boolean.valueOf(isSuccess());
-
       }
       throw new IllegalStateException();
     }
@@ -10603,8 +13604,6 @@ public class BlockWorkerClientService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -10613,24 +13612,15 @@ public class BlockWorkerClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof unlockBlock_result)
-        return this.equals((unlockBlock_result)that);
+      if (that instanceof unlockBlocks_result)
+        return this.equals((unlockBlocks_result)that);
       return false;
     }
 
-    public boolean equals(unlockBlock_result that) {
+    public boolean equals(unlockBlocks_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (this.success != that.success)
-          return false;
-      }
-
       return true;
     }
 
@@ -10638,32 +13628,17 @@ public class BlockWorkerClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true;
-      list.add(present_success);
-      if (present_success)
-        list.add(success);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(unlockBlock_result other) {
+    public int compareTo(unlockBlocks_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -10681,12 +13656,9 @@ public class BlockWorkerClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("unlockBlock_result(");
+      StringBuilder sb = new StringBuilder("unlockBlocks_result(");
       boolean first = true;
 
-      sb.append("success:");
-      sb.append(this.success);
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -10706,23 +13678,21 @@ public class BlockWorkerClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class unlockBlock_resultStandardSchemeFactory implements SchemeFactory {
-      public unlockBlock_resultStandardScheme getScheme() {
-        return new unlockBlock_resultStandardScheme();
+    private static class unlockBlocks_resultStandardSchemeFactory implements SchemeFactory {
+      public unlockBlocks_resultStandardScheme getScheme() {
+        return new unlockBlocks_resultStandardScheme();
       }
     }
 
-    private static class unlockBlock_resultStandardScheme extends StandardScheme<unlockBlock_result> {
+    private static class unlockBlocks_resultStandardScheme extends StandardScheme<unlockBlocks_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, unlockBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, unlockBlocks_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10732,14 +13702,6 @@ public class BlockWorkerClientService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -10751,50 +13713,32 @@ public class BlockWorkerClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, unlockBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, unlockBlocks_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBool(struct.success);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class unlockBlock_resultTupleSchemeFactory implements SchemeFactory {
-      public unlockBlock_resultTupleScheme getScheme() {
-        return new unlockBlock_resultTupleScheme();
+    private static class unlockBlocks_resultTupleSchemeFactory implements SchemeFactory {
+      public unlockBlocks_resultTupleScheme getScheme() {
+        return new unlockBlocks_resultTupleScheme();
       }
     }
 
-    private static class unlockBlock_resultTupleScheme extends TupleScheme<unlockBlock_result> {
+    private static class unlockBlocks_resultTupleScheme extends TupleScheme<unlockBlocks_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, unlockBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, unlockBlocks_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
-        BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, unlockBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, unlockBlocks_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
-        if (incoming.get(0)) {
-          struct.success = iprot.readBool();
-          struct.setSuccessIsSet(true);
-        }
       }
     }
 
@@ -28,7 +28,9 @@ import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 
+import org.apache.thrift.transport.TNonblockingServerSocket;
 import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TServerTransport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -505,14 +507,14 @@ public final class NetworkAddressUtils {
 
   /**
    * Gets the port for the underline socket. This function calls
-   * {@link #getThriftSocket(org.apache.thrift.transport.TServerSocket)}, so reflection will be used
-   * to get the port.
+   * {@link #getThriftSocket(TServerTransport)}, so reflection will be used to get the port.
    *
-   * @param thriftSocket the underline socket
+   * @param thriftSocket the underline socket, a {@link TServerSocket} or a
+   *        {@link TNonblockingServerSocket}
    * @return the thrift port for the underline socket
-   * @see #getThriftSocket(org.apache.thrift.transport.TServerSocket)
+   * @see #getThriftSocket(TServerTransport)
    */
-  public static int getThriftPort(TServerSocket thriftSocket) {
+  public static int getThriftPort(TServerTransport thriftSocket) {
     return getThriftSocket(thriftSocket).getLocalPort();
   }
 
@@ -520,12 +522,21 @@ public final class NetworkAddressUtils {
    * Extracts the port from the thrift socket. As of thrift 0.9, the internal socket used is not
    * exposed in the API, so this function will use reflection to get access to it.
    *
-   * @param thriftSocket the underline thrift socket
+   * @param thriftSocket the underline thrift socket, a {@link TServerSocket} or a
+   *        {@link TNonblockingServerSocket}
    * @return the server socket
    */
-  public static ServerSocket getThriftSocket(final TServerSocket thriftSocket) {
+  public static ServerSocket getThriftSocket(final TServerTransport thriftSocket) {
+    Class<? extends TServerTransport> socketClass;
+    if (thriftSocket instanceof TServerSocket) {
+      socketClass = TServerSocket.class;
+    } else if (thriftSocket instanceof TNonblockingServerSocket) {
+      socketClass = TNonblockingServerSocket.class;
+    } else {
+      throw new IllegalArgumentException("Unsupported thrift socket: " + thriftSocket);
+    }
     try {
-      Field field = TServerSocket.class.getDeclaredField("serverSocket_");
+      Field field = socketClass.getDeclaredField("serverSocket_");
       field.setAccessible(true);
       return (ServerSocket) field.get(thriftSocket);
     } catch (NoSuchFieldException e) {
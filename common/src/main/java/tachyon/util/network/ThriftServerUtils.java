@@ -0,0 +1,167 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.util.network;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.server.THsHaServer;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TNonblockingServerSocket;
+import org.apache.thrift.transport.TNonblockingServerTransport;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TServerTransport;
+import org.apache.thrift.transport.TTransportException;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+
+import tachyon.Constants;
+import tachyon.conf.TachyonConf;
+import tachyon.network.ThriftServerType;
+import tachyon.security.authentication.AuthType;
+import tachyon.security.authentication.AuthenticationUtils;
+import tachyon.util.ThreadFactoryUtils;
+
+/**
+ * Utility methods to create the Thrift servers of the master and the worker, of any of the
+ * {@link ThriftServerType}s.
+ */
+public final class ThriftServerUtils {
+  /** The number of seconds an idle thread of a non-blocking server's worker pool is kept. */
+  private static final long WORKER_KEEP_ALIVE_SECONDS = 60;
+
+  private ThriftServerUtils() {} // prevent instantiation
+
+  /**
+   * Creates the server socket for a Thrift server of the given type, bound to the given address.
+   *
+   * @param type the type of the Thrift server which will use the socket
+   * @param address the address to bind the socket to
+   * @param conf the Tachyon configuration
+   * @return a {@link TServerSocket} for blocking servers, a {@link TNonblockingServerSocket}
+   *         otherwise
+   * @throws TTransportException if the socket cannot be bound
+   */
+  public static TServerTransport createServerSocket(ThriftServerType type,
+      InetSocketAddress address, TachyonConf conf) throws TTransportException {
+    checkAuthType(type, conf);
+    if (type.isNonblocking()) {
+      return new TNonblockingServerSocket(address);
+    }
+    return new TServerSocket(address);
+  }
+
+  /**
+   * Creates a Thrift server of the given type.
+   * <p>
+   * A {@link ThriftServerType#THREAD_POOL} server keeps between {@code minWorkerThreads} and
+   * {@code maxWorkerThreads} threads, one for each open connection. The non-blocking servers serve
+   * all connections from their selector threads, and run the requests on a pool of at most
+   * {@code maxWorkerThreads} threads; requests which arrive while all of them are busy wait in a
+   * queue, and idle threads exit after a while.
+   * </p>
+   *
+   * @param type the type of the server
+   * @param serverSocket the server socket, created by
+   *        {@link #createServerSocket(ThriftServerType, InetSocketAddress, TachyonConf)}
+   * @param processor the processor of the services to serve
+   * @param minWorkerThreads the minimum number of worker threads of a blocking server
+   * @param maxWorkerThreads the maximum number of worker threads
+   * @param selectorThreads the number of selector threads of a
+   *        {@link ThriftServerType#THREADED_SELECTOR} server
+   * @param name the name of the server, used to name its worker threads
+   * @param conf the Tachyon configuration
+   * @return the server, which is not serving yet
+   */
+  public static TServer createServer(ThriftServerType type, TServerTransport serverSocket,
+      TProcessor processor, int minWorkerThreads, int maxWorkerThreads, int selectorThreads,
+      String name, TachyonConf conf) {
+    checkAuthType(type, conf);
+    Preconditions.checkArgument(maxWorkerThreads > 0, "The worker pool of %s must not be empty",
+        name);
+    int stopTimeoutSeconds =
+        conf.getBoolean(Constants.IN_TEST_MODE) ? 0 : Constants.THRIFT_STOP_TIMEOUT_SECONDS;
+    TProtocolFactory protocolFactory = new TBinaryProtocol.Factory(true, true);
+    switch (type) {
+      case THREAD_POOL:
+        TThreadPoolServer.Args args;
+        try {
+          args = new TThreadPoolServer.Args(serverSocket).minWorkerThreads(minWorkerThreads)
+              .maxWorkerThreads(maxWorkerThreads).processor(processor)
+              .transportFactory(AuthenticationUtils.getServerTransportFactory(conf))
+              .protocolFactory(protocolFactory);
+        } catch (IOException ioe) {
+          throw Throwables.propagate(ioe);
+        }
+        args.stopTimeoutVal = stopTimeoutSeconds;
+        return new TThreadPoolServer(args);
+      case HSHA:
+        // The non-blocking servers read whole frames off the connections themselves, so they must
+        // not be given the framed transport factory.
+        return new THsHaServer(new THsHaServer.Args(toNonblocking(serverSocket))
+            .executorService(createWorkerPool(maxWorkerThreads, name))
+            .stopTimeoutVal(stopTimeoutSeconds).processor(processor)
+            .protocolFactory(protocolFactory));
+      case THREADED_SELECTOR:
+        return new TThreadedSelectorServer(
+            new TThreadedSelectorServer.Args(toNonblocking(serverSocket))
+                .selectorThreads(selectorThreads)
+                .executorService(createWorkerPool(maxWorkerThreads, name))
+                .stopTimeoutVal(stopTimeoutSeconds).processor(processor)
+                .protocolFactory(protocolFactory));
+      default:
+        throw new IllegalArgumentException("Unknown thrift server type: " + type);
+    }
+  }
+
+  /**
+   * Checks that the authentication type works with the given server type. The non-blocking
+   * servers only speak framed transport, which is what {@link AuthType#NOSASL} uses.
+   *
+   * @param type the type of the server
+   * @param conf the Tachyon configuration
+   */
+  private static void checkAuthType(ThriftServerType type, TachyonConf conf) {
+    AuthType authType = conf.getEnum(Constants.SECURITY_AUTHENTICATION_TYPE, AuthType.class);
+    Preconditions.checkArgument(!type.isNonblocking() || authType == AuthType.NOSASL,
+        "Thrift server type %s requires %s to be %s, but it is %s", type,
+        Constants.SECURITY_AUTHENTICATION_TYPE, AuthType.NOSASL, authType);
+  }
+
+  private static TNonblockingServerTransport toNonblocking(TServerTransport serverSocket) {
+    Preconditions.checkArgument(serverSocket instanceof TNonblockingServerTransport,
+        "A non-blocking thrift server needs a non-blocking server socket, not %s", serverSocket);
+    return (TNonblockingServerTransport) serverSocket;
+  }
+
+  private static ExecutorService createWorkerPool(int maxWorkerThreads, String name) {
+    ThreadPoolExecutor pool = new ThreadPoolExecutor(maxWorkerThreads, maxWorkerThreads,
+        WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+        ThreadFactoryUtils.build(name + "-%d", true));
+    pool.allowCoreThreadTimeOut(true);
+    return pool;
+  }
+}
@@ -37,11 +37,11 @@ public final class DataServerMessage {
   // The size of the prefix of the header: frame length (long), messageType (int)
   private static final int HEADER_PREFIX_LENGTH = 12;
   // The request header is: HEADER_PREFIX, blockId (long), offset (long), length (long),
-  // lockId (long), sessionId (long)
-  private static final int REQUEST_HEADER_LENGTH = HEADER_PREFIX_LENGTH + 40;
+  // lockId (long), sessionId (long), requestId (long), chunkLength (long)
+  private static final int REQUEST_HEADER_LENGTH = HEADER_PREFIX_LENGTH + 56;
   // The response header is: HEADER_PREFIX, blockId (long), offset (long), length (long),
-  // status (short)
-  private static final int RESPONSE_HEADER_LENGTH = HEADER_PREFIX_LENGTH + 26;
+  // status (short), requestId (long)
+  private static final int RESPONSE_HEADER_LENGTH = HEADER_PREFIX_LENGTH + 34;
   // The error response header is: HEADER_PREFIX, status (short)
   private static final int ERROR_RESPONSE_HEADER_LENGTH = HEADER_PREFIX_LENGTH + 2;
 
@@ -165,6 +165,8 @@ public final class DataServerMessage {
 
   private long mSessionId;
 
+  private long mRequestId = RPCMessage.UNKNOWN_REQUEST_ID;
+
   private ByteBuffer mData = null;
 
   /**
@@ -228,6 +230,11 @@ public final class DataServerMessage {
       // The response message has a status.
       mHeader.putShort(mStatus.getId());
     }
+    mHeader.putLong(mRequestId);
+    if (mMessageType == RPCMessage.Type.RPC_BLOCK_READ_REQUEST) {
+      // This client reads each response in one piece, so never ask for a chunked response.
+      mHeader.putLong(0);
+    }
     mHeader.flip();
   }
 
@@ -283,6 +290,15 @@ public final class DataServerMessage {
     return mSessionId;
   }
 
+  /**
+   * Gets the id of the request, which a response echoes back to the requester.
+   *
+   * @return The id of the request
+   */
+  public long getRequestId() {
+    return mRequestId;
+  }
+
   /**
    * Gets the status of the response. Make sure the message is ready before calling this method.
    *
@@ -369,6 +385,9 @@ public final class DataServerMessage {
           // Additional fields for block read request
           mLockId = mHeader.getLong();
           mSessionId = mHeader.getLong();
+          mRequestId = mHeader.getLong();
+          // chunk length, responses of the NIO data server are never chunked
+          mHeader.getLong();
         }
         // TODO(hy): Make this better to truncate the file.
         Preconditions.checkState(mLength < Integer.MAX_VALUE,
@@ -376,6 +395,7 @@ public final class DataServerMessage {
         if (mMessageType == RPCMessage.Type.RPC_BLOCK_READ_RESPONSE) {
           // The response message has a status.
           mStatus = RPCResponse.Status.fromShort(mHeader.getShort());
+          mRequestId = mHeader.getLong();
           if (mStatus == RPCResponse.Status.SUCCESS) {
             mData = ByteBuffer.allocate((int) mLength);
           } else {
@@ -426,4 +446,17 @@ public final class DataServerMessage {
   public void setLockId(long lockId) {
     mLockId = lockId;
   }
+
+  /**
+   * Sets the id of the request, which a response echoes back to the requester. For a send
+   * message, this must be called before the message starts sending.
+   *
+   * @param requestId The id of the request
+   */
+  public void setRequestId(long requestId) {
+    mRequestId = requestId;
+    if (mToSendData && mHeader != null) {
+      generateHeader();
+    }
+  }
 }
@@ -19,7 +19,6 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
-import java.nio.channels.ReadableByteChannel;
 
 import com.google.common.base.Preconditions;
 import com.google.common.io.Closer;
@@ -50,7 +49,7 @@ public final class LocalFileBlockReader implements BlockReader {
   }
 
   @Override
-  public ReadableByteChannel getChannel() {
+  public FileChannel getChannel() {
     return mLocalFileChannel;
   }
 
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.block;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Tests for the {@link BlockReport} class.
+ */
+public final class BlockReportTest {
+
+  /**
+   * Tests that blocks on several tiers are decoded back onto their tiers, in ascending order.
+   */
+  @Test
+  public void encodeDecodeTest() {
+    Map<String, List<Long>> blocksOnTiers = new HashMap<String, List<Long>>();
+    blocksOnTiers.put("MEM", Lists.newArrayList(BlockId.createBlockId(3, 1),
+        BlockId.createBlockId(1, 0), BlockId.createBlockId(1, 2)));
+    blocksOnTiers.put("SSD", Lists.newArrayList(BlockId.createBlockId(1, 1)));
+    blocksOnTiers.put("HDD", Lists.newArrayList(BlockId.createBlockId(2, 0),
+        BlockId.createBlockId(1, 3), Long.MAX_VALUE, Long.MIN_VALUE));
+
+    Map<String, List<Long>> decoded = BlockReport.decode(BlockReport.encode(blocksOnTiers));
+    Assert.assertEquals(sorted(blocksOnTiers), decoded);
+  }
+
+  /**
+   * Tests that consecutive block ids take about a byte each.
+   */
+  @Test
+  public void compactTest() {
+    List<Long> blockIds = new ArrayList<Long>();
+    for (int i = 0; i < 1000; i ++) {
+      blockIds.add(BlockId.createBlockId(123456, i));
+    }
+    ByteBuffer report = BlockReport.encode(Collections.singletonMap("MEM", blockIds));
+    Assert.assertTrue(report.remaining() < 1100);
+    Assert.assertEquals(blockIds, BlockReport.decode(report).get("MEM"));
+  }
+
+  /**
+   * Tests that the blocks are split into reports of at most the given size, which together hold
+   * all the blocks, and that every report lists every tier.
+   */
+  @Test
+  public void chunkTest() {
+    Map<String, List<Long>> blocksOnTiers = new HashMap<String, List<Long>>();
+    blocksOnTiers.put("MEM", new ArrayList<Long>());
+    blocksOnTiers.put("HDD", new ArrayList<Long>());
+    blocksOnTiers.put("SSD", new ArrayList<Long>());
+    for (long i = 0; i < 25; i ++) {
+      blocksOnTiers.get(i % 2 == 0 ? "MEM" : "HDD").add(i);
+    }
+
+    List<ByteBuffer> reports = BlockReport.encode(blocksOnTiers, 10);
+    Assert.assertEquals(3, reports.size());
+    Map<String, List<Long>> merged = new HashMap<String, List<Long>>();
+    for (ByteBuffer report : reports) {
+      Map<String, List<Long>> decoded = BlockReport.decode(report);
+      Assert.assertEquals(blocksOnTiers.keySet(), decoded.keySet());
+      int numBlocks = 0;
+      for (Map.Entry<String, List<Long>> entry : decoded.entrySet()) {
+        numBlocks += entry.getValue().size();
+        if (!merged.containsKey(entry.getKey())) {
+          merged.put(entry.getKey(), new ArrayList<Long>());
+        }
+        merged.get(entry.getKey()).addAll(entry.getValue());
+      }
+      Assert.assertTrue(numBlocks <= 10);
+    }
+    Assert.assertEquals(sorted(blocksOnTiers), merged);
+  }
+
+  /**
+   * Tests that an empty report decodes to the tiers without blocks.
+   */
+  @Test
+  public void emptyTest() {
+    Map<String, List<Long>> blocksOnTiers =
+        Collections.singletonMap("MEM", (List<Long>) new ArrayList<Long>());
+    Assert.assertEquals(1, BlockReport.encode(blocksOnTiers, 10).size());
+    Assert.assertEquals(blocksOnTiers, BlockReport.decode(BlockReport.encode(blocksOnTiers)));
+  }
+
+  /**
+   * Tests that a truncated report is rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void truncatedTest() {
+    ByteBuffer report = BlockReport.encode(Collections.singletonMap("MEM", Arrays.asList(1L, 2L)));
+    report.limit(report.limit() - 1);
+    BlockReport.decode(report);
+  }
+
+  private Map<String, List<Long>> sorted(Map<String, List<Long>> blocksOnTiers) {
+    Map<String, List<Long>> sorted = new HashMap<String, List<Long>>();
+    for (Map.Entry<String, List<Long>> entry : blocksOnTiers.entrySet()) {
+      List<Long> blockIds = new ArrayList<Long>(entry.getValue());
+      Collections.sort(blockIds);
+      sorted.put(entry.getKey(), blockIds);
+    }
+    return sorted;
+  }
+}
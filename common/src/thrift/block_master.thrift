@@ -76,4 +76,12 @@ service BlockMasterWorkerService extends common.TachyonService {
       /** the map of used bytes on each tier */  4: map<string, i64> usedBytesOnTiers,
       /** the map of list of blocks on each tier */  5: map<string, list<i64>> currentBlocksOnTiers)
     throws (1: exception.TachyonTException e)
+
+  /**
+   * Sends a chunk of the blocks on a worker which is about to register, as an encoded block
+   * report. The blocks sent this way need not be sent again with the registration.
+   */
+  void registerWorkerBlocks( /** the id of the worker */  1: i64 workerId,
+      /** the encoded block report of the chunk */  2: binary blockReport)
+    throws (1: exception.TachyonTException e)
 }
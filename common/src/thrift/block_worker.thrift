@@ -15,6 +15,12 @@ service BlockWorkerClientService extends common.TachyonService {
    */
   void accessBlock( /** the id of the block being accessed */ 1: i64 blockId)
 
+  /**
+   * Accesses a batch of blocks given the block ids. Blocks which are not in Tachyon space are
+   * ignored.
+   */
+  void accessBlocks( /** the ids of the blocks being accessed */ 1: list<i64> blockIds)
+
   /**
    * Asynchronously checkpoints a file: returns whether the checkpoint operation succeeded.
    */
@@ -47,6 +53,15 @@ service BlockWorkerClientService extends common.TachyonService {
       /** the id of the current session */ 2: i64 sessionId)
     throws (1: exception.TachyonTException e)
 
+  /**
+   * Locks a batch of blocks in Tachyon's space while the session is reading them, and returns the
+   * paths of the block files by block id. Blocks which are not in Tachyon's space are left out of
+   * the returned map. Each returned block must be unlocked by the session once.
+   */
+  map<i64, string> lockBlocks( /** the id of the current session */ 1: i64 sessionId,
+      /** the ids of the blocks being locked */ 2: list<i64> blockIds)
+    throws (1: exception.TachyonTException e)
+
   /**
    * Used to promote block on under storage layer to top storage layer when there are more than one
    * storage layers in Tachyon's space. return true if the block is successfully promoted, false
@@ -91,4 +106,11 @@ service BlockWorkerClientService extends common.TachyonService {
    */
   bool unlockBlock( /** the id of the block being accessed */ 1: i64 blockId,
       /** the id of the current session */ 2: i64 sessionId)
+
+  /**
+   * Used to unlock a batch of blocks after they are accessed, once per block id. Every block is
+   * unlocked even if unlocking an earlier one fails; failures are logged by the worker.
+   */
+  void unlockBlocks( /** the id of the current session */ 1: i64 sessionId,
+      /** the ids of the blocks being unlocked */ 2: list<i64> blockIds)
 }
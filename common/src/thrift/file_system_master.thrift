@@ -56,6 +56,13 @@ struct PersistFile {
   2: list<i64> blockIds
 }
 
+struct PinListDelta {
+  1: i64 version
+  2: bool full
+  3: list<i64> addedIds
+  4: list<i64> removedIds
+}
+
 struct SetStateTOptions {
   1: optional bool pinned
   2: optional i64 ttl
@@ -124,6 +131,14 @@ service FileSystemMasterClientService extends common.TachyonService {
   list<FileInfo> getFileInfoList( /** the id of the file */ 1: i64 fileId)
     throws (1: exception.TachyonTException e)
 
+  /**
+   * Returns the file information of the next files which are fully in memory, in the order of
+   * their ids, starting after the given file id.
+   */
+  list<FileInfo> getInMemoryFileInfoList(
+      /** the id of the file to start after, -1 to start from the first file */ 1: i64 afterFileId)
+    throws (1: exception.TachyonTException e)
+
   /**
    * Generates a new block id for the given file.
    */
@@ -144,6 +159,14 @@ service FileSystemMasterClientService extends common.TachyonService {
       /** whether to load meta data recursively */ 2: bool recursive)
     throws (1: exception.TachyonTException e, 2: exception.ThriftIOException ioe)
 
+  /**
+   * Loads metadata for the UFS tree under the given Tachyon path into Tachyon, listing the UFS in
+   * parallel, and returns the number of paths loaded.
+   */
+  i64 loadMetadataTree( /** the path of the under file system */ 1: string ufsPath,
+      /** whether to load the metadata of the parent directories as well */ 2: bool recursive)
+    throws (1: exception.TachyonTException e, 2: exception.ThriftIOException ioe)
+
   /**
    * Creates a directory and returns whether the directory is created successfully.
    */
@@ -206,6 +229,14 @@ service FileSystemMasterWorkerService extends common.TachyonService {
   FileInfo getFileInfo( /** the id of the file */ 1: i64 fileId)
     throws (1: exception.TachyonTException e)
 
+  /**
+   * Returns the changes to the set of pinned files since the given version of it. If the changes
+   * are not known, the whole set is returned as added files, and the delta is marked as full.
+   */
+  PinListDelta getPinListDelta(
+      /** the version of the pin list last seen by the worker */ 1: i64 version)
+    throws (1: exception.TachyonTException e)
+
   /**
    * Returns the set of pinned files.
    */
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.examples;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import tachyon.Version;
+import tachyon.worker.block.BlockLockManager;
+import tachyon.worker.block.BlockLockType;
+
+/**
+ * Measures the throughput of {@link BlockLockManager} lock/unlock pairs, as taken by local block
+ * reads, for an increasing number of threads. Each thread acts as its own session and read-locks
+ * blocks of its own, so the threads only contend on the bookkeeping of the lock manager. Every
+ * measurement is preceded by a warm-up run of the same length.
+ */
+public final class BlockLockManagerBenchmark {
+  private static final int BLOCKS_PER_THREAD = 1024;
+
+  private BlockLockManagerBenchmark() {} // prevent instantiation
+
+  /**
+   * Runs lock/unlock pairs from a number of threads for a while.
+   *
+   * @param lockManager the lock manager to benchmark
+   * @param threads the number of threads
+   * @param durationMs how long to run for
+   * @return the number of lock/unlock pairs per second
+   * @throws Exception if a thread fails
+   */
+  private static double run(final BlockLockManager lockManager, int threads, long durationMs)
+      throws Exception {
+    final CountDownLatch start = new CountDownLatch(1);
+    final AtomicBoolean stop = new AtomicBoolean(false);
+    final AtomicLong ops = new AtomicLong(0);
+    Thread[] workers = new Thread[threads];
+    for (int i = 0; i < threads; i ++) {
+      final long sessionId = i;
+      workers[i] = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          long count = 0;
+          try {
+            start.await();
+            while (!stop.get()) {
+              long blockId = sessionId * BLOCKS_PER_THREAD + count % BLOCKS_PER_THREAD;
+              lockManager.unlockBlock(
+                  lockManager.lockBlock(sessionId, blockId, BlockLockType.READ));
+              count ++;
+            }
+          } catch (Exception e) {
+            throw new RuntimeException(e);
+          } finally {
+            ops.addAndGet(count);
+          }
+        }
+      });
+      workers[i].start();
+    }
+    long startMs = System.currentTimeMillis();
+    start.countDown();
+    Thread.sleep(durationMs);
+    stop.set(true);
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    return ops.get() * 1000.0 / (System.currentTimeMillis() - startMs);
+  }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args the maximum number of threads, and the duration of each measurement in ms
+   * @throws Exception if the benchmark fails
+   */
+  public static void main(String[] args) throws Exception {
+    if (args.length != 2) {
+      System.out.println("java -cp " + Version.TACHYON_JAR
+          + " tachyon.examples.BlockLockManagerBenchmark <MaxThreads> <DurationMs>");
+      System.exit(-1);
+    }
+    int maxThreads = Integer.parseInt(args[0]);
+    long durationMs = Long.parseLong(args[1]);
+
+    BlockLockManager lockManager = new BlockLockManager();
+    for (int threads = 1; threads <= maxThreads; threads *= 2) {
+      run(lockManager, threads, durationMs);
+      double opsPerSec = run(lockManager, threads, durationMs);
+      System.out.println(String.format("Threads %d: %.0f lock/unlock pairs/sec", threads,
+          opsPerSec));
+    }
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.examples;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Random;
+
+import org.apache.commons.io.FileUtils;
+
+import com.google.common.io.Files;
+
+import tachyon.Constants;
+import tachyon.Version;
+import tachyon.conf.TachyonConf;
+import tachyon.worker.WorkerContext;
+import tachyon.worker.block.BlockMetadataManager;
+import tachyon.worker.block.BlockMetadataManagerView;
+import tachyon.worker.block.BlockStoreEventListener;
+import tachyon.worker.block.BlockStoreLocation;
+import tachyon.worker.block.allocator.Allocator;
+import tachyon.worker.block.allocator.MaxFreeAllocator;
+import tachyon.worker.block.evictor.Evictor;
+import tachyon.worker.block.evictor.IncrementalLRFUEvictor;
+import tachyon.worker.block.evictor.LRFUEvictor;
+import tachyon.worker.block.evictor.LRUEvictor;
+import tachyon.worker.block.meta.BlockMeta;
+import tachyon.worker.block.meta.StorageDir;
+
+/**
+ * Measures the latency of accesses and of eviction plans for {@link LRUEvictor},
+ * {@link LRFUEvictor} and {@link IncrementalLRFUEvictor}. A single tier is filled with one-byte
+ * blocks, which are only tracked in the block metadata, the blocks are accessed in a random order,
+ * and then each evictor is asked to free space for a number of blocks, a number of times. Every
+ * measurement is preceded by a warm-up run of the same length.
+ */
+public final class EvictorBenchmark {
+  private static final String TIER_ALIAS = "MEM";
+  private static final long SESSION_ID = 1;
+  private static final long SEED = 0;
+
+  private static final Class<?>[] EVICTORS =
+      {LRUEvictor.class, LRFUEvictor.class, IncrementalLRFUEvictor.class};
+
+  private EvictorBenchmark() {} // prevent instantiation
+
+  /**
+   * Accesses the blocks in a random order.
+   *
+   * @param evictor the evictor to inform of the accesses
+   * @param blocks the number of blocks
+   * @param accesses the number of accesses
+   * @return the average latency of an access in microseconds
+   */
+  private static double access(BlockStoreEventListener evictor, int blocks, int accesses) {
+    Random random = new Random(SEED);
+    long startNs = System.nanoTime();
+    for (int i = 0; i < accesses; i ++) {
+      evictor.onAccessBlock(SESSION_ID, random.nextInt(blocks));
+    }
+    return (System.nanoTime() - startNs) / 1000.0 / accesses;
+  }
+
+  /**
+   * Asks for eviction plans, without carrying them out.
+   *
+   * @param evictor the evictor to ask
+   * @param view the view of the block metadata
+   * @param bytes the number of bytes to free
+   * @param rounds the number of plans to ask for
+   * @return the average latency of a plan in milliseconds
+   */
+  private static double plan(Evictor evictor, BlockMetadataManagerView view, long bytes,
+      int rounds) {
+    long startNs = System.nanoTime();
+    for (int i = 0; i < rounds; i ++) {
+      if (evictor.freeSpaceWithView(bytes, BlockStoreLocation.anyTier(), view) == null) {
+        throw new IllegalStateException("No eviction plan for " + bytes + " bytes");
+      }
+    }
+    return (System.nanoTime() - startNs) / 1000000.0 / rounds;
+  }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args the number of blocks, the number of blocks to evict, and the number of eviction
+   *        plans to ask for
+   * @throws Exception if the benchmark fails
+   */
+  public static void main(String[] args) throws Exception {
+    if (args.length != 3) {
+      System.out.println("java -cp " + Version.TACHYON_JAR
+          + " tachyon.examples.EvictorBenchmark <NumBlocks> <BlocksToEvict> <Rounds>");
+      System.exit(-1);
+    }
+    int blocks = Integer.parseInt(args[0]);
+    int blocksToEvict = Integer.parseInt(args[1]);
+    int rounds = Integer.parseInt(args[2]);
+
+    File tierDir = Files.createTempDir();
+    TachyonConf conf = WorkerContext.getConf();
+    conf.set(Constants.WORKER_TIERED_STORE_LEVELS, "1");
+    conf.set(String.format(Constants.WORKER_TIERED_STORE_LEVEL_ALIAS_FORMAT, 0), TIER_ALIAS);
+    conf.set(String.format(Constants.WORKER_TIERED_STORE_LEVEL_DIRS_PATH_FORMAT, 0),
+        tierDir.getAbsolutePath());
+    conf.set(String.format(Constants.WORKER_TIERED_STORE_LEVEL_DIRS_QUOTA_FORMAT, 0),
+        String.valueOf(blocks));
+    conf.set(Constants.WORKER_ALLOCATOR_CLASS, MaxFreeAllocator.class.getName());
+
+    BlockMetadataManager manager = BlockMetadataManager.newBlockMetadataManager();
+    StorageDir dir = manager.getTiers().get(0).getDir(0);
+    for (int blockId = 0; blockId < blocks; blockId ++) {
+      dir.addBlockMeta(new BlockMeta(blockId, 1, dir));
+    }
+    BlockMetadataManagerView view = new BlockMetadataManagerView(manager,
+        Collections.<Long>emptySet(), Collections.<Long>emptySet());
+
+    for (Class<?> evictorClass : EVICTORS) {
+      conf.set(Constants.WORKER_EVICTOR_CLASS, evictorClass.getName());
+      Allocator allocator = Allocator.Factory.create(conf, view);
+      Evictor evictor = Evictor.Factory.create(conf, view, allocator);
+      BlockStoreEventListener listener = (BlockStoreEventListener) evictor;
+      access(listener, blocks, blocks);
+      double accessUs = access(listener, blocks, blocks);
+      plan(evictor, view, blocksToEvict, rounds);
+      double planMs = plan(evictor, view, blocksToEvict, rounds);
+      System.out.println(String.format("%s: %.3f us/access, %.3f ms/eviction plan",
+          evictorClass.getSimpleName(), accessUs, planMs));
+    }
+    FileUtils.deleteDirectory(tierDir);
+  }
+}
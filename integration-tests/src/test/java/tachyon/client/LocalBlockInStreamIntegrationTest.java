@@ -28,6 +28,7 @@ import org.junit.rules.ExpectedException;
 
 import tachyon.Constants;
 import tachyon.LocalTachyonClusterResource;
+import tachyon.client.block.LocalBlockReadType;
 import tachyon.client.file.FileInStream;
 import tachyon.client.file.TachyonFile;
 import tachyon.client.file.TachyonFileSystem;
@@ -289,6 +290,44 @@ public class LocalBlockInStreamIntegrationTest {
     }
   }
 
+  /**
+   * Test {@link tachyon.client.block.LocalBlockInStream} with
+   * {@link tachyon.client.block.LocalBlockReadType#PREAD}.
+   *
+   * @throws IOException
+   * @throws TachyonException
+   */
+  @Test
+  public void preadTest() throws IOException, TachyonException {
+    TachyonConf conf = ClientContext.getConf();
+    String readType = conf.get(Constants.USER_BLOCK_LOCAL_READ_TYPE);
+    conf.set(Constants.USER_BLOCK_LOCAL_READ_TYPE, LocalBlockReadType.PREAD.toString());
+    try {
+      String uniqPath = PathUtils.uniqPath();
+      for (int k = MIN_LEN + DELTA; k <= MAX_LEN; k += DELTA) {
+        for (OutStreamOptions op : getOptionSet()) {
+          TachyonFile f =
+              TachyonFSTestUtils.createByteFile(sTfs, uniqPath + "/file_" + k + "_"
+              + op.hashCode(), k, op);
+
+          FileInStream is = sTfs.getInStream(f, sReadNoCache);
+          byte[] ret = new byte[k];
+          Assert.assertEquals(k, is.read(ret));
+          Assert.assertTrue(BufferUtils.equalIncreasingByteArray(k, ret));
+          is.seek(k / 3);
+          Assert.assertEquals(k / 3, is.read());
+          is.seek(k / 4);
+          ret = new byte[k / 2];
+          Assert.assertEquals(k / 2, is.read(ret));
+          Assert.assertTrue(BufferUtils.equalIncreasingByteArray(k / 4, k / 2, ret));
+          is.close();
+        }
+      }
+    } finally {
+      conf.set(Constants.USER_BLOCK_LOCAL_READ_TYPE, readType);
+    }
+  }
+
   private List<OutStreamOptions> getOptionSet() {
     List<OutStreamOptions> ret = new ArrayList<OutStreamOptions>(3);
     ret.add(sWriteBoth);
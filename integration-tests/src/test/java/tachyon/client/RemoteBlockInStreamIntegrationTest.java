@@ -589,6 +589,45 @@ public class RemoteBlockInStreamIntegrationTest {
     }
   }
 
+  /**
+   * Tests that a block is read correctly from a remote worker while its data is asked for ahead of
+   * the reader, also after seeking around in the block.
+   */
+  @Test
+  public void readAheadTest() throws Exception {
+    String uniqPath = PathUtils.uniqPath();
+    int length = 1000;
+    int size = 30;
+    TachyonFile f = TachyonFSTestUtils.createByteFile(mTfs, uniqPath, length, mWriteTachyon);
+    long blockId = mTfs.getInfo(f).getBlockIds().get(0);
+    BlockInfo info = TachyonBlockStore.get().getInfo(blockId);
+    WorkerNetAddress workerAddr = info.getLocations().get(0).getWorkerAddress();
+    InetSocketAddress workerInetAddr =
+        new InetSocketAddress(workerAddr.getHost(), workerAddr.getDataPort());
+
+    RemoteBlockInStream is = new RemoteBlockInStream(blockId, length, workerInetAddr);
+    byte[] ret = new byte[size];
+    for (int pos = 0; pos + size <= length / 2; pos += size) {
+      Assert.assertEquals(size, is.read(ret));
+      Assert.assertTrue(BufferUtils.equalIncreasingByteArray(pos, size, ret));
+    }
+    is.seek(length / 4);
+    Assert.assertEquals(size, is.read(ret));
+    Assert.assertTrue(BufferUtils.equalIncreasingByteArray(length / 4, size, ret));
+    is.seek(length / 2);
+    ret = new byte[length / 2];
+    Assert.assertEquals(length / 2, is.read(ret));
+    Assert.assertTrue(BufferUtils.equalIncreasingByteArray(length / 2, length / 2, ret));
+    is.close();
+
+    is = new RemoteBlockInStream(blockId, length, workerInetAddr);
+    is.readAhead(length);
+    ret = new byte[length];
+    Assert.assertEquals(length, is.read(ret));
+    Assert.assertTrue(BufferUtils.equalIncreasingByteArray(length, ret));
+    is.close();
+  }
+
   private void checkFileDeleted(TachyonFile f) throws IOException {
     try {
       mTfs.getInfo(f);
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.network;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+
+import tachyon.Constants;
+import tachyon.LocalTachyonClusterResource;
+import tachyon.TachyonURI;
+import tachyon.client.StreamOptionUtils;
+import tachyon.client.TachyonFSTestUtils;
+import tachyon.client.file.FileInStream;
+import tachyon.client.file.TachyonFile;
+import tachyon.client.file.TachyonFileSystem;
+import tachyon.conf.TachyonConf;
+import tachyon.exception.TachyonException;
+import tachyon.util.io.BufferUtils;
+import tachyon.util.io.PathUtils;
+
+/**
+ * Integration tests for serving the master and worker RPCs with each {@link ThriftServerType}.
+ */
+public class ThriftServerTypeIntegrationTest {
+  private static final int FILE_LEN = 100;
+
+  @Rule
+  public LocalTachyonClusterResource mLocalTachyonClusterResource =
+      new LocalTachyonClusterResource(Constants.MB, Constants.KB, Constants.MB);
+
+  @Test
+  public void threadPoolTest() throws Exception {
+    writeAndReadFile();
+  }
+
+  @Test
+  @LocalTachyonClusterResource.Config(tachyonConfParams = {
+      Constants.MASTER_RPC_SERVER_TYPE, "HSHA", Constants.WORKER_RPC_SERVER_TYPE, "HSHA"})
+  public void hshaTest() throws Exception {
+    writeAndReadFile();
+  }
+
+  @Test
+  @LocalTachyonClusterResource.Config(tachyonConfParams = {
+      Constants.MASTER_RPC_SERVER_TYPE, "THREADED_SELECTOR",
+      Constants.WORKER_RPC_SERVER_TYPE, "THREADED_SELECTOR"})
+  public void threadedSelectorTest() throws Exception {
+    writeAndReadFile();
+  }
+
+  /**
+   * Writes a file through the worker and reads it back, which needs both the master and the worker
+   * RPC servers.
+   */
+  private void writeAndReadFile() throws IOException, TachyonException {
+    TachyonFileSystem tfs = mLocalTachyonClusterResource.get().getClient();
+    TachyonConf conf = mLocalTachyonClusterResource.get().getMasterTachyonConf();
+    TachyonURI uri = new TachyonURI(PathUtils.uniqPath());
+    TachyonFile file = TachyonFSTestUtils.createByteFile(tfs, uri.getPath(), FILE_LEN,
+        StreamOptionUtils.getOutStreamOptionsWriteTachyon(conf));
+    Assert.assertEquals(FILE_LEN, tfs.getInfo(file).getLength());
+
+    byte[] ret = new byte[FILE_LEN];
+    FileInStream is =
+        tfs.getInStream(tfs.open(uri), StreamOptionUtils.getInStreamOptionsReadNoCache(conf));
+    try {
+      Assert.assertEquals(FILE_LEN, is.read(ret));
+    } finally {
+      is.close();
+    }
+    Assert.assertTrue(BufferUtils.equalIncreasingByteArray(FILE_LEN, ret));
+  }
+}
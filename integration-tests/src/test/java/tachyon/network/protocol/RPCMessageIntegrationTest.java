@@ -63,6 +63,7 @@ public class RPCMessageIntegrationTest {
   private static final long OFFSET = 22;
   private static final long LENGTH = 33;
   private static final long LOCK_ID = 44;
+  private static final long REQUEST_ID = 55;
 
   // This channel initializer sets up a simple pipeline with the encoder and decoder.
   private static class PipelineInitializer extends ChannelInitializer<SocketChannel> {
@@ -150,6 +151,7 @@ public class RPCMessageIntegrationTest {
     Assert.assertEquals(expected.getLength(), actual.getLength());
     Assert.assertEquals(expected.getLockId(), actual.getLockId());
     Assert.assertEquals(expected.getSessionId(), actual.getSessionId());
+    Assert.assertEquals(expected.getRequestId(), actual.getRequestId());
   }
 
   private void assertValid(RPCBlockReadResponse expected, RPCBlockReadResponse actual) {
@@ -159,6 +161,7 @@ public class RPCMessageIntegrationTest {
     Assert.assertEquals(expected.getOffset(), actual.getOffset());
     Assert.assertEquals(expected.getLength(), actual.getLength());
     Assert.assertEquals(expected.getStatus(), actual.getStatus());
+    Assert.assertEquals(expected.getRequestId(), actual.getRequestId());
     if (expected.getLength() == 0) {
       // Length is 0, so payloads should be null.
       Assert.assertNull(expected.getPayloadDataBuffer());
@@ -176,6 +179,7 @@ public class RPCMessageIntegrationTest {
     Assert.assertEquals(expected.getOffset(), actual.getOffset());
     Assert.assertEquals(expected.getLength(), actual.getLength());
     Assert.assertEquals(expected.getSessionId(), actual.getSessionId());
+    Assert.assertEquals(expected.getMode(), actual.getMode());
     if (expected.getLength() > 0) {
       Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer((int) OFFSET, (int) LENGTH, actual
           .getPayloadDataBuffer().getReadOnlyByteBuffer()));
@@ -223,7 +227,7 @@ public class RPCMessageIntegrationTest {
   @Test
   public void RPCBlockReadRequestTest() {
     RPCBlockReadRequest msg = new RPCBlockReadRequest(BLOCK_ID, OFFSET, LENGTH, LOCK_ID,
-        SESSION_ID);
+        SESSION_ID, REQUEST_ID);
     RPCBlockReadRequest decoded = (RPCBlockReadRequest) encodeThenDecode(msg);
     assertValid(msg, decoded);
   }
@@ -233,7 +237,7 @@ public class RPCMessageIntegrationTest {
     ByteBuffer payload = BufferUtils.getIncreasingByteBuffer((int) OFFSET, (int) LENGTH);
     RPCBlockReadResponse msg =
         new RPCBlockReadResponse(BLOCK_ID, OFFSET, LENGTH, new DataByteBuffer(payload, LENGTH),
-            RPCResponse.Status.SUCCESS);
+            RPCResponse.Status.SUCCESS, REQUEST_ID);
     RPCBlockReadResponse decoded = (RPCBlockReadResponse) encodeThenDecode(msg);
     assertValid(msg, decoded);
   }
@@ -241,7 +245,8 @@ public class RPCMessageIntegrationTest {
   @Test
   public void RPCBlockReadResponseEmptyPayloadTest() {
     RPCBlockReadResponse msg =
-        new RPCBlockReadResponse(BLOCK_ID, OFFSET, 0, null, RPCResponse.Status.SUCCESS);
+        new RPCBlockReadResponse(BLOCK_ID, OFFSET, 0, null, RPCResponse.Status.SUCCESS,
+            REQUEST_ID);
     RPCBlockReadResponse decoded = (RPCBlockReadResponse) encodeThenDecode(msg);
     assertValid(msg, decoded);
   }
@@ -250,7 +255,7 @@ public class RPCMessageIntegrationTest {
   public void RPCBlockReadResponseErrorTest() {
     RPCBlockReadResponse msg =
         RPCBlockReadResponse.createErrorResponse(
-            new RPCBlockReadRequest(BLOCK_ID, OFFSET, LENGTH, LOCK_ID, SESSION_ID),
+            new RPCBlockReadRequest(BLOCK_ID, OFFSET, LENGTH, LOCK_ID, SESSION_ID, REQUEST_ID),
             RPCResponse.Status.FILE_DNE);
     RPCBlockReadResponse decoded = (RPCBlockReadResponse) encodeThenDecode(msg);
     assertValid(msg, decoded);
@@ -263,7 +268,7 @@ public class RPCMessageIntegrationTest {
       FileChannel payload = inputStream.getChannel();
       RPCBlockReadResponse msg =
           new RPCBlockReadResponse(BLOCK_ID, OFFSET, LENGTH, new DataFileChannel(payload, OFFSET,
-              LENGTH), RPCResponse.Status.SUCCESS);
+              LENGTH), RPCResponse.Status.SUCCESS, REQUEST_ID);
       RPCBlockReadResponse decoded = (RPCBlockReadResponse) encodeThenDecode(msg);
       assertValid(msg, decoded);
     } finally {
@@ -281,6 +286,15 @@ public class RPCMessageIntegrationTest {
     assertValid(msg, decoded);
   }
 
+  @Test
+  public void RPCBlockWriteRequestStreamTest() {
+    ByteBuffer payload = BufferUtils.getIncreasingByteBuffer((int) OFFSET, (int) LENGTH);
+    RPCBlockWriteRequest msg = new RPCBlockWriteRequest(SESSION_ID, BLOCK_ID, OFFSET, LENGTH,
+        RPCBlockWriteRequest.Mode.STREAM, new DataByteBuffer(payload, LENGTH));
+    RPCBlockWriteRequest decoded = (RPCBlockWriteRequest) encodeThenDecode(msg);
+    assertValid(msg, decoded);
+  }
+
   @Test
   public void RPCBlockWriteResponseTest() {
     RPCBlockWriteResponse msg =
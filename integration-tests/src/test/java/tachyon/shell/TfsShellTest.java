@@ -198,6 +198,27 @@ public class TfsShellTest {
         mOutput.toString());
   }
 
+  @Test
+  public void loadMetadataTreeTest() throws IOException, TachyonException {
+    TachyonConf conf = mLocalTachyonCluster.getMasterTachyonConf();
+    String ufsRoot = conf.get(Constants.UNDERFS_ADDRESS);
+    UnderFileSystemUtils.mkdirIfNotExists(PathUtils.concatPath(ufsRoot, "tree", "dir"), conf);
+    UnderFileSystemUtils.touch(PathUtils.concatPath(ufsRoot, "tree", "fileA"), conf);
+    UnderFileSystemUtils.touch(PathUtils.concatPath(ufsRoot, "tree", "dir", "fileB"), conf);
+
+    mFsShell.run("loadMetadataTree", "/tree");
+    Assert.assertEquals("Loaded 4 paths under /tree\n", mOutput.toString());
+    Assert.assertTrue(mTfs.getInfo(mTfs.open(new TachyonURI("/tree/dir"))).isIsPersisted());
+    FileInfo fileInfo = mTfs.getInfo(mTfs.open(new TachyonURI("/tree/dir/fileB")));
+    Assert.assertTrue(fileInfo.isIsPersisted());
+    Assert.assertTrue(fileInfo.isIsCompleted());
+
+    // The paths which are already loaded are skipped.
+    mOutput.reset();
+    mFsShell.run("loadMetadataTree", "/tree");
+    Assert.assertEquals("Loaded 0 paths under /tree\n", mOutput.toString());
+  }
+
   @Test
   public void createCacheInsertInUfsThenloadMetadataTest() throws IOException, TachyonException {
     // Construct a situation where the directory exists in the inode tree and the UFS, but is not
@@ -544,6 +565,18 @@ public class TfsShellTest {
     System.clearProperty(Constants.SECURITY_LOGIN_USERNAME);
   }
 
+  @Test
+  public void lsInMemoryTest() throws IOException, TachyonException {
+    TachyonFile fileA = TachyonFSTestUtils.createByteFile(mTfs, "/testRoot/testFileA",
+        TachyonStorageType.STORE, UnderStorageType.NO_PERSIST, 10);
+    TachyonFSTestUtils.createByteFile(mTfs, "/testRoot/testFileB", TachyonStorageType.NO_STORE,
+        UnderStorageType.SYNC_PERSIST, 20);
+    FileInfo fileInfo = mTfs.getInfo(fileA);
+    mFsShell.run("lsInMemory");
+    Assert.assertEquals(getLsResultStr("/testRoot/testFileA", fileInfo.getCreationTimeMs(), 10,
+        "In Memory", fileInfo.getUserName(), fileInfo.getGroupName()), mOutput.toString());
+  }
+
   @Test
   public void lsTest() throws IOException, TachyonException {
     // clear the loginUser
@@ -19,6 +19,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.thrift.TException;
@@ -203,6 +205,41 @@ public class BlockServiceHandlerIntegrationTest {
     Assert.assertNotNull(exception);
   }
 
+  // Tests that a batch of blocks is locked and unlocked with one call each
+  @Test
+  public void lockBlocksTest() throws Exception {
+    final int blockSize = (int) WORKER_CAPACITY_BYTES / 4;
+
+    OutStreamOptions options =
+        new OutStreamOptions.Builder(new TachyonConf()).setBlockSizeBytes(blockSize)
+            .setTachyonStorageType(TachyonStorageType.STORE).build();
+    FileOutStream out = mTfs.getOutStream(new TachyonURI("/testFile"), options);
+    TachyonFile file = mTfs.open(new TachyonURI("/testFile"));
+    out.write(BufferUtils.getIncreasingByteArray(blockSize * 2));
+    out.close();
+
+    final long containerId = BlockId.getContainerId(file.getFileId());
+    final long blockId0 = BlockId.createBlockId(containerId, 0);
+    final long blockId1 = BlockId.createBlockId(containerId, 1);
+    final long missingBlockId = BlockId.createBlockId(containerId, 2);
+
+    // The missing block is left out, and the repeated block is locked once
+    Map<Long, String> blockPaths = mBlockWorkerServiceHandler.lockBlocks(SESSION_ID,
+        Arrays.asList(blockId0, blockId1, missingBlockId, blockId0));
+    Assert.assertEquals(2, blockPaths.size());
+    Assert.assertTrue(new File(blockPaths.get(blockId0)).exists());
+    Assert.assertTrue(new File(blockPaths.get(blockId1)).exists());
+    mBlockWorkerServiceHandler.accessBlocks(Arrays.asList(blockId0, blockId1, missingBlockId));
+
+    mBlockWorkerServiceHandler.unlockBlocks(SESSION_ID, Arrays.asList(blockId0, blockId1));
+    try {
+      mBlockWorkerServiceHandler.unlockBlocks(SESSION_ID, Arrays.asList(blockId0));
+      Assert.fail("unlocking a block which is not locked should fail");
+    } catch (TachyonTException e) {
+      // expected
+    }
+  }
+
   // Tests that files are evicted when there is not enough space in the worker.
   @Test
   public void evictionTest() throws Exception {
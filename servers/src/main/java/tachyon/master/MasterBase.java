@@ -26,6 +26,7 @@ import org.slf4j.LoggerFactory;
 import com.google.common.base.Preconditions;
 
 import tachyon.Constants;
+import tachyon.master.journal.AsyncJournalWriter;
 import tachyon.master.journal.Journal;
 import tachyon.master.journal.JournalInputStream;
 import tachyon.master.journal.JournalOutputStream;
@@ -62,6 +63,8 @@ public abstract class MasterBase implements Master {
   private JournalTailerThread mStandbyJournalTailer = null;
   /** The journal writer for when the master is the leader. */
   private JournalWriter mJournalWriter = null;
+  /** Writes the journal entries of the leader in groups, on top of {@link #mJournalWriter}. */
+  private AsyncJournalWriter mAsyncJournalWriter = null;
 
   /**
    * @param journal the journal to use for tracking master operations
@@ -150,6 +153,7 @@ public abstract class MasterBase implements Master {
           mJournalWriter.getCheckpointOutputStream(latestSequenceNumber);
       streamToJournalCheckpoint(checkpointStream);
       checkpointStream.close();
+      mAsyncJournalWriter = new AsyncJournalWriter(mJournalWriter, getName());
     } else {
       // This master is in standby mode. Start the journal tailer thread. Since the master is in
       // standby mode, its RPC server is NOT serving. Therefore, the only thread modifying the
@@ -164,6 +168,11 @@ public abstract class MasterBase implements Master {
     LOG.info("{}: Stopping {} master.", getName(), mIsLeader ? "leader" : "standby");
     if (mIsLeader) {
       // Stop this leader master.
+      if (mAsyncJournalWriter != null) {
+        // Flush the entries still queued before closing the journal.
+        mAsyncJournalWriter.close();
+        mAsyncJournalWriter = null;
+      }
       if (mJournalWriter != null) {
         mJournalWriter.close();
         mJournalWriter = null;
@@ -201,26 +210,53 @@ public abstract class MasterBase implements Master {
    * @param entry the {@link JournalEntry} to write to the journal
    */
   protected void writeJournalEntry(JournalEntry entry) {
-    Preconditions.checkNotNull(mJournalWriter, "Cannot write entry: journal writer is null.");
+    appendJournalEntry(entry);
+  }
+
+  /**
+   * Appends a {@link JournalEntry} to the journal. The entry is written out by the journal flusher
+   * thread, along with the entries appended concurrently; wait for the returned counter with
+   * {@link #waitForJournalFlush(long)} to make sure the entry is durable.
+   *
+   * @param entry the {@link JournalEntry} to append to the journal
+   * @return the flush counter of the entry
+   */
+  protected long appendJournalEntry(JournalEntry entry) {
+    Preconditions.checkNotNull(mAsyncJournalWriter, "Cannot write entry: journal writer is null.");
     try {
-      mJournalWriter.getEntryOutputStream().writeEntry(entry);
+      return mAsyncJournalWriter.appendEntry(entry);
     } catch (IOException ioe) {
       throw new RuntimeException(ioe);
     }
   }
 
   /**
-   * Flushes the journal.
+   * Waits until the journal entry with the given flush counter, and all the entries appended
+   * before it, are flushed. This should be called after releasing any lock which other writers of
+   * the journal need, so that their entries are flushed together.
+   *
+   * @param counter the flush counter returned by {@link #appendJournalEntry(JournalEntry)}, or
+   *        {@link AsyncJournalWriter#INVALID_FLUSH_COUNTER} to not wait at all
    */
-  protected void flushJournal() {
-    Preconditions.checkNotNull(mJournalWriter, "Cannot flush journal: journal writer is null.");
+  protected void waitForJournalFlush(long counter) {
+    Preconditions.checkNotNull(mAsyncJournalWriter,
+        "Cannot flush journal: journal writer is null.");
     try {
-      mJournalWriter.getEntryOutputStream().flush();
+      mAsyncJournalWriter.flush(counter);
     } catch (IOException ioe) {
       throw new RuntimeException(ioe);
     }
   }
 
+  /**
+   * Flushes the journal, waiting for all the entries appended so far.
+   */
+  protected void flushJournal() {
+    Preconditions.checkNotNull(mAsyncJournalWriter,
+        "Cannot flush journal: journal writer is null.");
+    waitForJournalFlush(mAsyncJournalWriter.getAppendCounter());
+  }
+
   /**
    * @return the {@link ExecutorService} for this master
    */
@@ -21,12 +21,8 @@ import java.util.Map;
 
 import org.apache.thrift.TMultiplexedProcessor;
 import org.apache.thrift.TProcessor;
-import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.server.TServer;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.server.TThreadPoolServer.Args;
-import org.apache.thrift.transport.TServerSocket;
-import org.apache.thrift.transport.TTransportFactory;
+import org.apache.thrift.transport.TServerTransport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,11 +39,12 @@ import tachyon.master.journal.ReadWriteJournal;
 import tachyon.master.lineage.LineageMaster;
 import tachyon.master.rawtable.RawTableMaster;
 import tachyon.metrics.MetricsSystem;
-import tachyon.security.authentication.AuthenticationUtils;
+import tachyon.network.ThriftServerType;
 import tachyon.underfs.UnderFileSystem;
 import tachyon.util.LineageUtils;
 import tachyon.util.network.NetworkAddressUtils;
 import tachyon.util.network.NetworkAddressUtils.ServiceType;
+import tachyon.util.network.ThriftServerUtils;
 import tachyon.web.MasterUIWebServer;
 import tachyon.web.UIWebServer;
 
@@ -80,10 +77,14 @@ public class TachyonMaster {
   private final int mMaxWorkerThreads;
   /** Minimum number of threads to serve the rpc server */
   private final int mMinWorkerThreads;
+  /** The type of the rpc server */
+  private final ThriftServerType mServerType;
+  /** Number of selector threads of the rpc server, if it is a threaded selector server */
+  private final int mSelectorThreads;
   /** The port for the RPC server */
   private final int mPort;
   /** The socket for thrift rpc server */
-  private final TServerSocket mTServerSocket;
+  private final TServerTransport mTServerSocket;
   /** The address for the rpc server */
   private final InetSocketAddress mMasterAddress;
   /** The master metrics system */
@@ -147,6 +148,8 @@ public class TachyonMaster {
     Preconditions.checkArgument(mMaxWorkerThreads >= mMinWorkerThreads,
         Constants.MASTER_WORKER_THREADS_MAX + " can not be less than "
             + Constants.MASTER_WORKER_THREADS_MIN);
+    mServerType = conf.getEnum(Constants.MASTER_RPC_SERVER_TYPE, ThriftServerType.class);
+    mSelectorThreads = conf.getInt(Constants.MASTER_RPC_SELECTOR_THREADS);
 
     try {
       // Extract the port from the generated socket.
@@ -160,8 +163,8 @@ public class TachyonMaster {
         Preconditions.checkState(conf.getInt(Constants.MASTER_WEB_PORT) > 0,
             "Master web port is only allowed to be zero in test mode.");
       }
-      mTServerSocket =
-          new TServerSocket(NetworkAddressUtils.getBindAddress(ServiceType.MASTER_RPC, conf));
+      mTServerSocket = ThriftServerUtils.createServerSocket(mServerType,
+          NetworkAddressUtils.getBindAddress(ServiceType.MASTER_RPC, conf), conf);
       mPort = NetworkAddressUtils.getThriftPort(mTServerSocket);
       // reset master port
       conf.set(Constants.MASTER_RPC_PORT, Integer.toString(mPort));
@@ -376,24 +379,10 @@ public class TachyonMaster {
     }
     registerServices(processor, mRawTableMaster.getServices());
 
-    // Return a TTransportFactory based on the authentication type
-    TTransportFactory transportFactory;
-    try {
-      transportFactory = AuthenticationUtils.getServerTransportFactory(MasterContext.getConf());
-    } catch (IOException ioe) {
-      throw Throwables.propagate(ioe);
-    }
-
     // create master thrift service with the multiplexed processor.
-    Args args = new TThreadPoolServer.Args(mTServerSocket).maxWorkerThreads(mMaxWorkerThreads)
-        .minWorkerThreads(mMinWorkerThreads).processor(processor).transportFactory(transportFactory)
-        .protocolFactory(new TBinaryProtocol.Factory(true, true));
-    if (MasterContext.getConf().getBoolean(Constants.IN_TEST_MODE)) {
-      args.stopTimeoutVal = 0;
-    } else {
-      args.stopTimeoutVal = Constants.THRIFT_STOP_TIMEOUT_SECONDS;
-    }
-    mMasterServiceServer = new TThreadPoolServer(args);
+    mMasterServiceServer = ThriftServerUtils.createServer(mServerType, mTServerSocket, processor,
+        mMinWorkerThreads, mMaxWorkerThreads, mSelectorThreads, "master-rpc",
+        MasterContext.getConf());
 
     // start thrift rpc server
     mIsServing = true;
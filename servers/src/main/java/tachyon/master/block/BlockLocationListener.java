@@ -0,0 +1,31 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.block;
+
+/**
+ * Listens to changes of the worker locations of blocks in the {@link BlockMaster}.
+ */
+public interface BlockLocationListener {
+  /**
+   * Called when a block is added to or removed from a worker, or moved between the tiers of a
+   * worker. It is called while the {@link BlockMaster} holds its locks, so an implementation must
+   * be quick, and must not call back into the {@link BlockMaster} or take any lock which is held
+   * while calling it.
+   *
+   * @param blockId the id of the block whose locations changed
+   */
+  void onBlockLocationChanged(long blockId);
+}
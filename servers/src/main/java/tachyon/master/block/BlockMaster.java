@@ -26,6 +26,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -141,6 +142,9 @@ public final class BlockMaster extends MasterBase implements ContainerIdGenerabl
   private Future<?> mLostWorkerDetectionService;
   /** The next worker id to use. This state must be journaled. */
   private final AtomicLong mNextWorkerId = new AtomicLong(1);
+  /** The listeners to notify when the locations of a block change. */
+  private final List<BlockLocationListener> mBlockLocationListeners =
+      new CopyOnWriteArrayList<BlockLocationListener>();
 
   /**
    * @param baseDirectory the base journal directory
@@ -318,6 +322,7 @@ public final class BlockMaster extends MasterBase implements ContainerIdGenerabl
             }
           }
           mLostBlocks.remove(blockId);
+          notifyBlockLocationChanged(blockId);
         }
       }
     }
@@ -369,6 +374,7 @@ public final class BlockMaster extends MasterBase implements ContainerIdGenerabl
         }
         masterBlockInfo.addWorker(workerId, tierAlias);
         mLostBlocks.remove(blockId);
+        notifyBlockLocationChanged(blockId);
       }
     }
   }
@@ -484,8 +490,11 @@ public final class BlockMaster extends MasterBase implements ContainerIdGenerabl
     synchronized (mWorkers) {
       if (mWorkers.contains(mAddressIndex, workerNetAddress)) {
         // This worker address is already mapped to a worker id.
-        long oldWorkerId = mWorkers.getFirstByField(mAddressIndex, workerNetAddress).getId();
+        MasterWorkerInfo oldWorkerInfo = mWorkers.getFirstByField(mAddressIndex, workerNetAddress);
+        long oldWorkerId = oldWorkerInfo.getId();
         LOG.warn("The worker {} already exists as id {}.", workerNetAddress, oldWorkerId);
+        // The worker restarted, so the chunks of any registration it did not finish are stale.
+        oldWorkerInfo.clearReportedBlocks();
         return oldWorkerId;
       }
 
@@ -551,6 +560,35 @@ public final class BlockMaster extends MasterBase implements ContainerIdGenerabl
     }
   }
 
+  /**
+   * Adds a chunk of the blocks of a worker which is about to register. A worker with many blocks
+   * sends them in chunks before calling {@link #workerRegister}, so that the master locks are
+   * only held for one chunk at a time. The blocks are added to the worker right away; the blocks
+   * the worker used to have which are in none of the chunks, nor in the final registration, are
+   * removed from it when it registers. Called by workers via RPC.
+   *
+   * @param workerId the worker id of the worker registering
+   * @param blocksOnTiers a mapping from storage tier alias to a list of blocks
+   * @throws NoWorkerException if workerId cannot be found
+   */
+  public void workerRegisterBlocks(long workerId, Map<String, List<Long>> blocksOnTiers)
+      throws NoWorkerException {
+    synchronized (mBlocks) {
+      synchronized (mWorkers) {
+        if (!mWorkers.contains(mIdIndex, workerId)) {
+          throw new NoWorkerException("Could not find worker id: " + workerId + " to register.");
+        }
+        MasterWorkerInfo workerInfo = mWorkers.getFirstByField(mIdIndex, workerId);
+        workerInfo.updateLastUpdatedTimeMs();
+
+        for (List<Long> blockIds : blocksOnTiers.values()) {
+          workerInfo.addReportedBlocks(blockIds);
+        }
+        processWorkerAddedBlocks(workerInfo, blocksOnTiers);
+      }
+    }
+  }
+
   /**
    * Updates metadata when a worker periodically heartbeats with the master. Called by the worker
    * periodically, via RPC.
@@ -610,6 +648,7 @@ public final class BlockMaster extends MasterBase implements ContainerIdGenerabl
       if (masterBlockInfo.getNumLocations() == 0) {
         mLostBlocks.add(removedBlockId);
       }
+      notifyBlockLocationChanged(removedBlockId);
     }
   }
 
@@ -622,6 +661,7 @@ public final class BlockMaster extends MasterBase implements ContainerIdGenerabl
   private void processLostWorker(MasterWorkerInfo latest) {
     final Set<Long> lostBlocks = latest.getBlocks();
     processWorkerRemovedBlocks(latest, lostBlocks);
+    latest.clearReportedBlocks();
   }
 
   /**
@@ -641,6 +681,7 @@ public final class BlockMaster extends MasterBase implements ContainerIdGenerabl
           workerInfo.addBlock(blockId);
           masterBlockInfo.addWorker(workerInfo.getId(), entry.getKey());
           mLostBlocks.remove(blockId);
+          notifyBlockLocationChanged(blockId);
         } else {
           LOG.warn("Failed to register workerId: {} to blockId: {}", workerInfo.getId(), blockId);
         }
@@ -648,6 +689,21 @@ public final class BlockMaster extends MasterBase implements ContainerIdGenerabl
     }
   }
 
+  /**
+   * Registers a listener to notify whenever the worker locations of a block change.
+   *
+   * @param listener the listener
+   */
+  public void registerBlockLocationListener(BlockLocationListener listener) {
+    mBlockLocationListeners.add(listener);
+  }
+
+  private void notifyBlockLocationChanged(long blockId) {
+    for (BlockLocationListener listener : mBlockLocationListeners) {
+      listener.onBlockLocationChanged(blockId);
+    }
+  }
+
   /**
    * @return the lost blocks in Tachyon Storage
    */
@@ -15,12 +15,14 @@
 
 package tachyon.master.block;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 
 import com.google.common.base.Preconditions;
 
 import tachyon.Constants;
+import tachyon.exception.InvalidArgumentException;
 import tachyon.exception.TachyonException;
 import tachyon.thrift.BlockMasterWorkerService;
 import tachyon.thrift.Command;
@@ -66,6 +68,24 @@ public class BlockMasterWorkerServiceHandler implements BlockMasterWorkerService
     }
   }
 
+  @Override
+  public void registerWorkerBlocks(long workerId, ByteBuffer blockReport)
+      throws TachyonTException {
+    // Decode before taking the master locks.
+    Map<String, List<Long>> blocksOnTiers;
+    try {
+      blocksOnTiers = BlockReport.decode(blockReport);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidArgumentException("Invalid block report from worker " + workerId + ": "
+          + e.getMessage(), e).toTachyonTException();
+    }
+    try {
+      mBlockMaster.workerRegisterBlocks(workerId, blocksOnTiers);
+    } catch (TachyonException e) {
+      throw e.toTachyonTException();
+    }
+  }
+
   @Override
   public Command heartbeat(long workerId, Map<String, Long> usedBytesOnTiers,
       List<Long> removedBlockIds, Map<String, List<Long>> addedBlocksOnTiers) {
@@ -16,6 +16,7 @@
 package tachyon.master.block.meta;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -66,6 +67,11 @@ public final class MasterWorkerInfo {
   private Set<Long> mBlocks;
   /** ids of blocks the worker should remove */
   private Set<Long> mToRemoveBlocks;
+  /**
+   * ids of blocks the worker reported in the chunks of a registration which is still in progress,
+   * or null if the worker is not sending its blocks in chunks
+   */
+  private Set<Long> mReportedBlocks;
 
   /**
    * Creates a new instance of {@link MasterWorkerInfo}.
@@ -84,6 +90,7 @@ public final class MasterWorkerInfo {
     mUsedBytesOnTiers = new HashMap<String, Long>();
     mBlocks = new HashSet<Long>();
     mToRemoveBlocks = new HashSet<Long>();
+    mReportedBlocks = null;
   }
 
   /**
@@ -94,7 +101,8 @@ public final class MasterWorkerInfo {
    *        hierarchy
    * @param totalBytesOnTiers mapping from storage tier alias to total bytes
    * @param usedBytesOnTiers mapping from storage tier alias to used byes
-   * @param blocks set of block ids on this worker
+   * @param blocks set of block ids on this worker, in addition to the ones reported by
+   *        {@link #addReportedBlocks(Collection)} since the last registration
    * @return A Set of blocks removed (or lost) from this worker
    */
   public Set<Long> register(final StorageTierAssoc globalStorageTierAssoc,
@@ -133,6 +141,16 @@ public final class MasterWorkerInfo {
       mUsedBytes += bytes;
     }
 
+    Set<Long> allBlocks;
+    if (mReportedBlocks != null) {
+      // The worker sent most of its blocks in chunks before registering, merge in the rest.
+      allBlocks = mReportedBlocks;
+      allBlocks.addAll(blocks);
+      mReportedBlocks = null;
+    } else {
+      allBlocks = new HashSet<Long>(blocks);
+    }
+
     Set<Long> removedBlocks;
     if (mIsRegistered) {
       // This is a re-register of an existing worker. Assume the new block ownership data is more
@@ -140,18 +158,41 @@ public final class MasterWorkerInfo {
       LOG.info("re-registering an existing workerId: {}", mId);
 
       // Compute the difference between the existing block data, and the new data.
-      removedBlocks = Sets.difference(mBlocks, blocks);
+      removedBlocks = Sets.difference(mBlocks, allBlocks);
     } else {
       removedBlocks = Collections.emptySet();
     }
 
     // Set the new block information.
-    mBlocks = new HashSet<Long>(blocks);
+    mBlocks = allBlocks;
 
     mIsRegistered = true;
     return removedBlocks;
   }
 
+  /**
+   * Records a chunk of the blocks of a worker which registers its blocks in chunks. The blocks are
+   * added to the worker, and the ones which were not reported by the time the worker registers are
+   * considered removed from it.
+   *
+   * @param blockIds the ids of the blocks in the chunk
+   */
+  public synchronized void addReportedBlocks(Collection<Long> blockIds) {
+    if (mReportedBlocks == null) {
+      mReportedBlocks = new HashSet<Long>();
+    }
+    mReportedBlocks.addAll(blockIds);
+    mBlocks.addAll(blockIds);
+  }
+
+  /**
+   * Discards the blocks reported by a registration in chunks which was not completed, for example
+   * because the worker restarted in the middle of it.
+   */
+  public synchronized void clearReportedBlocks() {
+    mReportedBlocks = null;
+  }
+
   /**
    * Adds a block to the worker.
    *
@@ -159,6 +200,9 @@ public final class MasterWorkerInfo {
    */
   public synchronized void addBlock(long blockId) {
     mBlocks.add(blockId);
+    if (mReportedBlocks != null) {
+      mReportedBlocks.add(blockId);
+    }
   }
 
   /**
@@ -169,6 +213,9 @@ public final class MasterWorkerInfo {
   public synchronized void removeBlock(long blockId) {
     mBlocks.remove(blockId);
     mToRemoveBlocks.remove(blockId);
+    if (mReportedBlocks != null) {
+      mReportedBlocks.remove(blockId);
+    }
   }
 
   /**
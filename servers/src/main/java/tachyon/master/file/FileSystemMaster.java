@@ -17,13 +17,14 @@ package tachyon.master.file;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Future;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.thrift.TProcessor;
@@ -40,7 +41,6 @@ import com.google.protobuf.Message;
 import tachyon.Constants;
 import tachyon.TachyonURI;
 import tachyon.client.file.options.SetStateOptions;
-import tachyon.collections.Pair;
 import tachyon.collections.PrefixList;
 import tachyon.conf.TachyonConf;
 import tachyon.exception.BlockInfoException;
@@ -58,6 +58,7 @@ import tachyon.heartbeat.HeartbeatThread;
 import tachyon.master.MasterBase;
 import tachyon.master.MasterContext;
 import tachyon.master.block.BlockId;
+import tachyon.master.block.BlockLocationListener;
 import tachyon.master.block.BlockMaster;
 import tachyon.master.file.meta.FileSystemMasterView;
 import tachyon.master.file.meta.Inode;
@@ -73,6 +74,7 @@ import tachyon.master.file.meta.options.CreatePathOptions;
 import tachyon.master.file.options.CompleteFileOptions;
 import tachyon.master.file.options.CreateOptions;
 import tachyon.master.file.options.MkdirOptions;
+import tachyon.master.journal.AsyncJournalWriter;
 import tachyon.master.journal.Journal;
 import tachyon.master.journal.JournalOutputStream;
 import tachyon.master.journal.JournalProtoUtils;
@@ -80,6 +82,7 @@ import tachyon.proto.journal.File.AddMountPointEntry;
 import tachyon.proto.journal.File.AsyncPersistRequestEntry;
 import tachyon.proto.journal.File.CompleteFileEntry;
 import tachyon.proto.journal.File.DeleteFileEntry;
+import tachyon.proto.journal.File.DeleteFilesEntry;
 import tachyon.proto.journal.File.DeleteMountPointEntry;
 import tachyon.proto.journal.File.InodeDirectoryEntry;
 import tachyon.proto.journal.File.InodeDirectoryIdGeneratorEntry;
@@ -102,6 +105,7 @@ import tachyon.thrift.FileSystemMasterClientService;
 import tachyon.thrift.FileSystemMasterWorkerService;
 import tachyon.thrift.PersistCommandOptions;
 import tachyon.thrift.PersistFile;
+import tachyon.thrift.PinListDelta;
 import tachyon.thrift.WorkerNetAddress;
 import tachyon.underfs.UnderFileSystem;
 import tachyon.util.IdUtils;
@@ -115,6 +119,15 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 public final class FileSystemMaster extends MasterBase {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
+  /** The maximum number of paths added to the inode tree under one lock when loading a tree */
+  private static final int LOAD_METADATA_BATCH_SIZE = 1000;
+  /** The number of paths after which the progress of loading a tree is logged */
+  private static final long LOAD_METADATA_PROGRESS_PATHS = 100000;
+  /** The maximum number of stale files checked under one lock when refreshing the memory index */
+  private static final int IN_MEMORY_INDEX_REFRESH_BATCH_SIZE = 1000;
+  /** The maximum number of in memory files returned by one call of the client service */
+  public static final int IN_MEMORY_FILES_PAGE_SIZE = 1000;
+
   private final BlockMaster mBlockMaster;
   /** This manages the file system inode structure. This must be journaled. */
   private final InodeTree mInodeTree;
@@ -127,6 +140,13 @@ public final class FileSystemMaster extends MasterBase {
 
   private final PrefixList mWhitelist;
 
+  /** The locations of the blocks of persisted files in the under storage system */
+  private final UfsBlockLocationCache mUfsBlockLocationCache;
+  /** The lister of the under storage system trees whose metadata is loaded in bulk */
+  private final UfsTreeLister mUfsTreeLister;
+  /** The index of the files which are fully in memory */
+  private final InMemoryFileIndex mInMemoryFileIndex = new InMemoryFileIndex();
+
   /**
    * The service that tries to check inodefiles with ttl set. We store it here so that it can be
    * accessed from tests.
@@ -142,6 +162,17 @@ public final class FileSystemMaster extends MasterBase {
 
   private final TtlBucketList mTtlBuckets = new TtlBucketList();
 
+  /**
+   * Guards {@link #mInodeTree} and {@link #mTtlBuckets}, and orders the journal entries written
+   * for them. Lookups only take the read lock, so that they run concurrently with each other, while
+   * anything which changes the inode tree or writes to the journal takes the write lock.
+   */
+  private final ReentrantReadWriteLock mInodeTreeLock = new ReentrantReadWriteLock();
+  /** The read lock of {@link #mInodeTreeLock}. */
+  private final Lock mInodeTreeReadLock = mInodeTreeLock.readLock();
+  /** The write lock of {@link #mInodeTreeLock}. */
+  private final Lock mInodeTreeWriteLock = mInodeTreeLock.writeLock();
+
   /**
    * @param baseDirectory the base journal directory
    * @return the journal directory for this master
@@ -167,8 +198,16 @@ public final class FileSystemMaster extends MasterBase {
     // TODO(gene): Handle default config value for whitelist.
     TachyonConf conf = MasterContext.getConf();
     mWhitelist = new PrefixList(conf.getList(Constants.MASTER_WHITELIST, ","));
+    mUfsBlockLocationCache = new UfsBlockLocationCache(conf);
+    mUfsTreeLister = new UfsTreeLister(conf);
 
     mWorkerToAsyncPersistFiles = Maps.newHashMap();
+    mBlockMaster.registerBlockLocationListener(new BlockLocationListener() {
+      @Override
+      public void onBlockLocationChanged(long blockId) {
+        mInMemoryFileIndex.invalidate(IdUtils.createFileId(BlockId.getContainerId(blockId)));
+      }
+    });
   }
 
   @Override
@@ -229,6 +268,8 @@ public final class FileSystemMaster extends MasterBase {
       }
     } else if (innerEntry instanceof DeleteFileEntry) {
       deleteFileFromEntry((DeleteFileEntry) innerEntry);
+    } else if (innerEntry instanceof DeleteFilesEntry) {
+      deleteFilesFromEntry((DeleteFilesEntry) innerEntry);
     } else if (innerEntry instanceof RenameEntry) {
       renameFromEntry((RenameEntry) innerEntry);
     } else if (innerEntry instanceof InodeDirectoryIdGeneratorEntry) {
@@ -283,6 +324,7 @@ public final class FileSystemMaster extends MasterBase {
     // getExecutorService() because the super.start initializes the executor service.
     super.start(isLeader);
     if (isLeader) {
+      resetInMemoryFileIndex();
       mTtlCheckerService = getExecutorService().submit(
           new HeartbeatThread(HeartbeatContext.MASTER_TTL_CHECK, new MasterInodeTtlCheckExecutor(),
               MasterContext.getConf().getInt(Constants.MASTER_TTLCHECKER_INTERVAL_MS)));
@@ -299,7 +341,8 @@ public final class FileSystemMaster extends MasterBase {
    * @return true if there is a directory with the id, false otherwise
    */
   public boolean isDirectory(long id) {
-    synchronized (mInodeTree) {
+    mInodeTreeReadLock.lock();
+    try {
       Inode inode;
       try {
         inode = mInodeTree.getInodeById(id);
@@ -307,6 +350,8 @@ public final class FileSystemMaster extends MasterBase {
         return false;
       }
       return inode.isDirectory();
+    } finally {
+      mInodeTreeReadLock.unlock();
     }
   }
 
@@ -318,18 +363,28 @@ public final class FileSystemMaster extends MasterBase {
    * @return the file id for a given path, or -1 if there is no file at that path
    */
   public long getFileId(TachyonURI path) {
-    synchronized (mInodeTree) {
-      Inode inode;
+    mInodeTreeReadLock.lock();
+    try {
+      return mInodeTree.getInodeByPath(path).getId();
+    } catch (InvalidPathException e) {
+      // Fall through to loading the metadata, which needs the write lock.
+    } finally {
+      mInodeTreeReadLock.unlock();
+    }
+    try {
+      return loadMetadata(path, true);
+    } catch (FileAlreadyExistsException e) {
+      // The path was created or loaded concurrently.
+      mInodeTreeReadLock.lock();
       try {
-        inode = mInodeTree.getInodeByPath(path);
-      } catch (InvalidPathException e) {
-        try {
-          return loadMetadata(path, true);
-        } catch (Exception e2) {
-          return IdUtils.INVALID_FILE_ID;
-        }
+        return mInodeTree.getInodeByPath(path).getId();
+      } catch (InvalidPathException e2) {
+        return IdUtils.INVALID_FILE_ID;
+      } finally {
+        mInodeTreeReadLock.unlock();
       }
-      return inode.getId();
+    } catch (Exception e) {
+      return IdUtils.INVALID_FILE_ID;
     }
   }
 
@@ -340,9 +395,12 @@ public final class FileSystemMaster extends MasterBase {
    */
   public FileInfo getFileInfo(long fileId) throws FileDoesNotExistException {
     MasterContext.getMasterSource().incGetFileInfoOps(1);
-    synchronized (mInodeTree) {
+    mInodeTreeReadLock.lock();
+    try {
       Inode inode = mInodeTree.getInodeById(fileId);
       return getFileInfoInternal(inode);
+    } finally {
+      mInodeTreeReadLock.unlock();
     }
   }
 
@@ -353,14 +411,18 @@ public final class FileSystemMaster extends MasterBase {
    */
   public PersistenceState getPersistenceState(long fileId)
       throws FileDoesNotExistException {
-    synchronized (mInodeTree) {
+    mInodeTreeReadLock.lock();
+    try {
       Inode inode = mInodeTree.getInodeById(fileId);
       return inode.getPersistenceState();
+    } finally {
+      mInodeTreeReadLock.unlock();
     }
   }
 
   private FileInfo getFileInfoInternal(Inode inode) throws FileDoesNotExistException {
-    // This function should only be called from within synchronized (mInodeTree) blocks.
+    // This function should only be called while holding the read or write lock of
+    // mInodeTreeLock.
     FileInfo fileInfo = inode.generateClientFileInfo(mInodeTree.getPath(inode).toString());
     fileInfo.inMemoryPercentage = getInMemoryPercentage(inode);
     TachyonURI path = mInodeTree.getPath(inode);
@@ -389,7 +451,8 @@ public final class FileSystemMaster extends MasterBase {
    */
   public List<FileInfo> getFileInfoList(long fileId) throws FileDoesNotExistException {
     MasterContext.getMasterSource().incGetFileInfoOps(1);
-    synchronized (mInodeTree) {
+    mInodeTreeReadLock.lock();
+    try {
       Inode inode = mInodeTree.getInodeById(fileId);
 
       List<FileInfo> ret = new ArrayList<FileInfo>();
@@ -402,6 +465,8 @@ public final class FileSystemMaster extends MasterBase {
       }
       MasterContext.getMasterSource().incFileInfosGot(ret.size());
       return ret;
+    } finally {
+      mInodeTreeReadLock.unlock();
     }
   }
 
@@ -427,59 +492,82 @@ public final class FileSystemMaster extends MasterBase {
       throws BlockInfoException, FileDoesNotExistException, InvalidPathException,
       InvalidFileSizeException, FileAlreadyCompletedException {
     MasterContext.getMasterSource().incCompleteFileOps(1);
-    synchronized (mInodeTree) {
-      long opTimeMs = System.currentTimeMillis();
-      Inode inode = mInodeTree.getInodeById(fileId);
-      if (!inode.isFile()) {
-        throw new FileDoesNotExistException(
-            ExceptionMessage.FILEID_MUST_BE_FILE.getMessage(fileId));
-      }
+    long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    mInodeTreeWriteLock.lock();
+    try {
+      flushCounter = completeAndJournalFile(fileId, options);
+    } finally {
+      mInodeTreeWriteLock.unlock();
+    }
+    waitForJournalFlush(flushCounter);
+  }
 
-      InodeFile fileInode = (InodeFile) inode;
-      List<Long> blockIdList = fileInode.getBlockIds();
-      List<BlockInfo> blockInfoList = mBlockMaster.getBlockInfoList(blockIdList);
-      if (!fileInode.isPersisted() && blockInfoList.size() != blockIdList.size()) {
-        throw new BlockInfoException("Cannot complete a file without all the blocks committed");
-      }
-
-      // Iterate over all file blocks committed to Tachyon, computing the length and verify that all
-      // the blocks (except the last one) is the same size as the file block size.
-      long inMemoryLength = 0;
-      long fileBlockSize = fileInode.getBlockSizeBytes();
-      for (int i = 0; i < blockInfoList.size(); i ++) {
-        BlockInfo blockInfo = blockInfoList.get(i);
-        inMemoryLength += blockInfo.getLength();
-        if (i < blockInfoList.size() - 1 && blockInfo.getLength() != fileBlockSize) {
-          throw new BlockInfoException(
-              "Block index " + i + " has a block size smaller than the file block size ("
-                  + fileInode.getBlockSizeBytes() + ")");
-        }
-      }
+  /**
+   * Completes a file and journals it. This does not flush the journal. The write lock of
+   * mInodeTreeLock must be held.
+   *
+   * @param fileId the file id to complete
+   * @param options the method options
+   * @return the flush counter of the journal entry
+   * @throws BlockInfoException if a block information exception is encountered
+   * @throws FileDoesNotExistException if the file does not exist
+   * @throws InvalidPathException if an invalid path is encountered
+   * @throws InvalidFileSizeException if an invalid file size is encountered
+   * @throws FileAlreadyCompletedException if the file is already completed
+   */
+  private long completeAndJournalFile(long fileId, CompleteFileOptions options)
+      throws BlockInfoException, FileDoesNotExistException, InvalidPathException,
+      InvalidFileSizeException, FileAlreadyCompletedException {
+    long opTimeMs = System.currentTimeMillis();
+    Inode inode = mInodeTree.getInodeById(fileId);
+    if (!inode.isFile()) {
+      throw new FileDoesNotExistException(ExceptionMessage.FILEID_MUST_BE_FILE.getMessage(fileId));
+    }
 
-      // If the file is persisted, its length is determined by UFS. Otherwise, its length is
-      // determined by its memory footprint.
-      long length = fileInode.isPersisted() ? options.getUfsLength() : inMemoryLength;
+    InodeFile fileInode = (InodeFile) inode;
+    List<Long> blockIdList = fileInode.getBlockIds();
+    List<BlockInfo> blockInfoList = mBlockMaster.getBlockInfoList(blockIdList);
+    if (!fileInode.isPersisted() && blockInfoList.size() != blockIdList.size()) {
+      throw new BlockInfoException("Cannot complete a file without all the blocks committed");
+    }
 
-      completeFileInternal(fileInode.getBlockIds(), fileId, length, opTimeMs);
-      CompleteFileEntry completeFileEntry = CompleteFileEntry.newBuilder()
-          .addAllBlockIds(fileInode.getBlockIds())
-          .setId(fileId)
-          .setLength(length)
-          .setOpTimeMs(opTimeMs)
-          .build();
-      writeJournalEntry(JournalEntry.newBuilder().setCompleteFile(completeFileEntry).build());
-      flushJournal();
+    // Iterate over all file blocks committed to Tachyon, computing the length and verify that all
+    // the blocks (except the last one) is the same size as the file block size.
+    long inMemoryLength = 0;
+    long fileBlockSize = fileInode.getBlockSizeBytes();
+    for (int i = 0; i < blockInfoList.size(); i ++) {
+      BlockInfo blockInfo = blockInfoList.get(i);
+      inMemoryLength += blockInfo.getLength();
+      if (i < blockInfoList.size() - 1 && blockInfo.getLength() != fileBlockSize) {
+        throw new BlockInfoException(
+            "Block index " + i + " has a block size smaller than the file block size ("
+                + fileInode.getBlockSizeBytes() + ")");
+      }
     }
+
+    // If the file is persisted, its length is determined by UFS. Otherwise, its length is
+    // determined by its memory footprint.
+    long length = fileInode.isPersisted() ? options.getUfsLength() : inMemoryLength;
+
+    completeFileInternal(fileInode.getBlockIds(), fileId, length, opTimeMs);
+    CompleteFileEntry completeFileEntry = CompleteFileEntry.newBuilder()
+        .addAllBlockIds(fileInode.getBlockIds())
+        .setId(fileId)
+        .setLength(length)
+        .setOpTimeMs(opTimeMs)
+        .build();
+    return appendJournalEntry(JournalEntry.newBuilder().setCompleteFile(completeFileEntry).build());
   }
 
   void completeFileInternal(List<Long> blockIds, long fileId, long length, long opTimeMs)
       throws FileDoesNotExistException, InvalidPathException, InvalidFileSizeException,
       FileAlreadyCompletedException {
-    // This function should only be called from within synchronized (mInodeTree) blocks.
+    // This function should only be called while holding the write lock of mInodeTreeLock.
     InodeFile inode = (InodeFile) mInodeTree.getInodeById(fileId);
     inode.setBlockIds(blockIds);
     inode.setLastModificationTimeMs(opTimeMs);
     inode.complete(length);
+    mInMemoryFileIndex.invalidate(fileId);
 
     if (inode.isPersisted()) {
       // Commit all the file blocks (without locations) so the metadata for the block exists.
@@ -517,20 +605,25 @@ public final class FileSystemMaster extends MasterBase {
   public long create(TachyonURI path, CreateOptions options)
       throws InvalidPathException, FileAlreadyExistsException, BlockInfoException, IOException {
     MasterContext.getMasterSource().incCreateFileOps(1);
-    synchronized (mInodeTree) {
+    long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    List<Inode> created;
+    mInodeTreeWriteLock.lock();
+    try {
       InodeTree.CreatePathResult createResult = createInternal(path, options);
-      List<Inode> created = createResult.getCreated();
+      created = createResult.getCreated();
 
-      writeJournalEntry(mDirectoryIdGenerator.toJournalEntry());
-      journalCreatePathResult(createResult);
-      flushJournal();
-      return created.get(created.size() - 1).getId();
+      flushCounter = appendJournalEntry(mDirectoryIdGenerator.toJournalEntry());
+      flushCounter = Math.max(flushCounter, journalCreatePathResult(createResult));
+    } finally {
+      mInodeTreeWriteLock.unlock();
     }
+    waitForJournalFlush(flushCounter);
+    return created.get(created.size() - 1).getId();
   }
 
   InodeTree.CreatePathResult createInternal(TachyonURI path, CreateOptions options)
       throws InvalidPathException, FileAlreadyExistsException, BlockInfoException, IOException {
-    // This function should only be called from within synchronized (mInodeTree) blocks.
+    // This function should only be called while holding the write lock of mInodeTreeLock.
     CreatePathOptions createPathOptions = new CreatePathOptions.Builder(MasterContext.getConf())
         .setBlockSizeBytes(options.getBlockSizeBytes()).setDirectory(false)
         .setOperationTimeMs(options.getOperationTimeMs()).setPersisted(options.isPersisted())
@@ -545,6 +638,7 @@ public final class FileSystemMaster extends MasterBase {
     }
 
     mTtlBuckets.insert(inode);
+    mInMemoryFileIndex.invalidate(inode.getId());
 
     MasterContext.getMasterSource().incFilesCreated(1);
     MasterContext.getMasterSource().incDirectoriesCreated(created.size() - 1);
@@ -562,17 +656,24 @@ public final class FileSystemMaster extends MasterBase {
    */
   public long reinitializeFile(TachyonURI path, long blockSizeBytes, long ttl)
       throws InvalidPathException {
-    synchronized (mInodeTree) {
-      long id = mInodeTree.reinitializeFile(path, blockSizeBytes, ttl);
+    long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    long id;
+    mInodeTreeWriteLock.lock();
+    try {
+      id = mInodeTree.reinitializeFile(path, blockSizeBytes, ttl);
+      mInMemoryFileIndex.invalidate(id);
       ReinitializeFileEntry reinitializeFile = ReinitializeFileEntry.newBuilder()
           .setPath(path.getPath())
           .setBlockSizeBytes(blockSizeBytes)
           .setTtl(ttl)
           .build();
-      writeJournalEntry(JournalEntry.newBuilder().setReinitializeFile(reinitializeFile).build());
-      flushJournal();
-      return id;
+      flushCounter = appendJournalEntry(
+          JournalEntry.newBuilder().setReinitializeFile(reinitializeFile).build());
+    } finally {
+      mInodeTreeWriteLock.unlock();
     }
+    waitForJournalFlush(flushCounter);
+    return id;
   }
 
   private void resetBlockFileFromEntry(ReinitializeFileEntry entry) {
@@ -592,8 +693,11 @@ public final class FileSystemMaster extends MasterBase {
   public long getNewBlockIdForFile(long fileId) throws FileDoesNotExistException {
     MasterContext.getMasterSource().incGetNewBlockOps(1);
     Inode inode;
-    synchronized (mInodeTree) {
+    mInodeTreeReadLock.lock();
+    try {
       inode = mInodeTree.getInodeById(fileId);
+    } finally {
+      mInodeTreeReadLock.unlock();
     }
     if (!inode.isFile()) {
       throw new FileDoesNotExistException(ExceptionMessage.FILEID_MUST_BE_FILE.getMessage(fileId));
@@ -606,8 +710,11 @@ public final class FileSystemMaster extends MasterBase {
    * @return the number of files and directories
    */
   public int getNumberOfPaths() {
-    synchronized (mInodeTree) {
+    mInodeTreeReadLock.lock();
+    try {
       return mInodeTree.getSize();
+    } finally {
+      mInodeTreeReadLock.unlock();
     }
   }
 
@@ -615,8 +722,11 @@ public final class FileSystemMaster extends MasterBase {
    * @return the number of pinned files and directories
    */
   public int getNumberOfPinnedFiles() {
-    synchronized (mInodeTree) {
+    mInodeTreeReadLock.lock();
+    try {
       return mInodeTree.getPinnedSize();
+    } finally {
+      mInodeTreeReadLock.unlock();
     }
   }
 
@@ -633,18 +743,24 @@ public final class FileSystemMaster extends MasterBase {
   public boolean deleteFile(long fileId, boolean recursive)
       throws IOException, FileDoesNotExistException, DirectoryNotEmptyException {
     MasterContext.getMasterSource().incDeletePathOps(1);
-    synchronized (mInodeTree) {
+    long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    boolean ret;
+    mInodeTreeWriteLock.lock();
+    try {
       long opTimeMs = System.currentTimeMillis();
-      boolean ret = deleteFileInternal(fileId, recursive, false, opTimeMs);
+      ret = deleteFileInternal(fileId, recursive, false, opTimeMs);
       DeleteFileEntry deleteFile = DeleteFileEntry.newBuilder()
           .setId(fileId)
           .setRecursive(recursive)
           .setOpTimeMs(opTimeMs)
           .build();
-      writeJournalEntry(JournalEntry.newBuilder().setDeleteFile(deleteFile).build());
-      flushJournal();
-      return ret;
+      flushCounter =
+          appendJournalEntry(JournalEntry.newBuilder().setDeleteFile(deleteFile).build());
+    } finally {
+      mInodeTreeWriteLock.unlock();
     }
+    waitForJournalFlush(flushCounter);
+    return ret;
   }
 
   private void deleteFileFromEntry(DeleteFileEntry entry) {
@@ -656,6 +772,17 @@ public final class FileSystemMaster extends MasterBase {
     }
   }
 
+  private void deleteFilesFromEntry(DeleteFilesEntry entry) {
+    MasterContext.getMasterSource().incDeletePathOps(entry.getIdsCount());
+    try {
+      for (long id : entry.getIdsList()) {
+        deleteFileInternal(id, entry.getRecursive(), true, entry.getOpTimeMs());
+      }
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   /**
    * Convenience method for avoiding {@link DirectoryNotEmptyException} when calling
    * {@link #deleteFileInternal(long, boolean, boolean, long)}.
@@ -693,7 +820,7 @@ public final class FileSystemMaster extends MasterBase {
    */
   boolean deleteFileInternal(long fileId, boolean recursive, boolean replayed, long opTimeMs)
       throws FileDoesNotExistException, IOException, DirectoryNotEmptyException {
-    // This function should only be called from within synchronized (mInodeTree) blocks.
+    // This function should only be called while holding the write lock of mInodeTreeLock.
     //
     // TODO(jiri): A crash after any UFS object is deleted and before the delete operation is
     // journaled will result in an inconsistency between Tachyon and UFS.
@@ -747,6 +874,7 @@ public final class FileSystemMaster extends MasterBase {
       }
 
       mInodeTree.deleteInode(delInode, opTimeMs);
+      mInMemoryFileIndex.invalidate(delInode.getId());
     }
     MasterContext.getMasterSource().incPathsDeleted(delInodes.size());
     return true;
@@ -765,7 +893,10 @@ public final class FileSystemMaster extends MasterBase {
   public FileBlockInfo getFileBlockInfo(long fileId, int fileBlockIndex)
       throws BlockInfoException, FileDoesNotExistException, InvalidPathException {
     MasterContext.getMasterSource().incGetFileBlockInfoOps(1);
-    synchronized (mInodeTree) {
+    FileBlockInfo blockInfo;
+    String ufsPath;
+    mInodeTreeReadLock.lock();
+    try {
       Inode inode = mInodeTree.getInodeById(fileId);
       if (inode.isDirectory()) {
         throw new FileDoesNotExistException(
@@ -779,10 +910,14 @@ public final class FileSystemMaster extends MasterBase {
         throw new BlockInfoException(
             "FileId " + fileId + " BlockIndex " + fileBlockIndex + " is not a valid block.");
       }
-      FileBlockInfo blockInfo = generateFileBlockInfo(file, blockInfoList.get(0));
-      MasterContext.getMasterSource().incFileBlockInfosGot(1);
-      return blockInfo;
+      blockInfo = generateFileBlockInfo(file, blockInfoList.get(0));
+      ufsPath = getPersistedUfsPath(file);
+    } finally {
+      mInodeTreeReadLock.unlock();
     }
+    addUfsLocations(Collections.singletonList(blockInfo), ufsPath);
+    MasterContext.getMasterSource().incFileBlockInfosGot(1);
+    return blockInfo;
   }
 
   /**
@@ -794,22 +929,41 @@ public final class FileSystemMaster extends MasterBase {
   public List<FileBlockInfo> getFileBlockInfoList(long fileId)
       throws FileDoesNotExistException, InvalidPathException {
     MasterContext.getMasterSource().incGetFileBlockInfoOps(1);
-    synchronized (mInodeTree) {
+    List<FileBlockInfo> ret;
+    String ufsPath;
+    mInodeTreeReadLock.lock();
+    try {
       Inode inode = mInodeTree.getInodeById(fileId);
       if (inode.isDirectory()) {
         throw new FileDoesNotExistException(
             ExceptionMessage.FILEID_MUST_BE_FILE.getMessage(fileId));
       }
       InodeFile file = (InodeFile) inode;
-      List<BlockInfo> blockInfoList = mBlockMaster.getBlockInfoList(file.getBlockIds());
+      ret = getFileBlockInfoListInternal(file);
+      ufsPath = getPersistedUfsPath(file);
+    } finally {
+      mInodeTreeReadLock.unlock();
+    }
+    addUfsLocations(ret, ufsPath);
+    MasterContext.getMasterSource().incFileBlockInfosGot(ret.size());
+    return ret;
+  }
 
-      List<FileBlockInfo> ret = new ArrayList<FileBlockInfo>();
-      for (BlockInfo blockInfo : blockInfoList) {
-        ret.add(generateFileBlockInfo(file, blockInfo));
-      }
-      MasterContext.getMasterSource().incFileBlockInfosGot(ret.size());
-      return ret;
+  /**
+   * Gets the {@link FileBlockInfo} of all the blocks of a file which the block master knows about,
+   * without their locations in the under storage system.
+   *
+   * @param file the file
+   * @return a list of {@link FileBlockInfo} for the blocks of the file
+   */
+  private List<FileBlockInfo> getFileBlockInfoListInternal(InodeFile file) {
+    // This function should only be called while holding the read or write lock of
+    // mInodeTreeLock.
+    List<FileBlockInfo> ret = new ArrayList<FileBlockInfo>();
+    for (BlockInfo blockInfo : mBlockMaster.getBlockInfoList(file.getBlockIds())) {
+      ret.add(generateFileBlockInfo(file, blockInfo));
     }
+    return ret;
   }
 
   /**
@@ -826,53 +980,70 @@ public final class FileSystemMaster extends MasterBase {
 
   /**
    * Generates a {@link FileBlockInfo} object from internal metadata. This adds file information to
-   * the block, such as the file offset, and additional UFS locations for the block.
+   * the block, such as the file offset. The locations of the block in the under storage system are
+   * added by {@link #addUfsLocations(List, String)}, once the lock is released.
    *
    * @param file the file the block is a part of
    * @param blockInfo the {@link BlockInfo} to generate the {@link FileBlockInfo} from
    * @return a new {@link FileBlockInfo} for the block
-   * @throws InvalidPathException if the mount table is not able to resolve the file
    */
-  private FileBlockInfo generateFileBlockInfo(InodeFile file, BlockInfo blockInfo)
-      throws InvalidPathException {
-    // This function should only be called from within synchronized (mInodeTree) blocks.
+  private FileBlockInfo generateFileBlockInfo(InodeFile file, BlockInfo blockInfo) {
+    // This function should only be called while holding the read or write lock of
+    // mInodeTreeLock.
     FileBlockInfo fileBlockInfo = new FileBlockInfo();
     fileBlockInfo.blockInfo = blockInfo;
     fileBlockInfo.ufsLocations = new ArrayList<WorkerNetAddress>();
 
     // The sequence number part of the block id is the block index.
     fileBlockInfo.offset = file.getBlockSizeBytes() * BlockId.getSequenceNumber(blockInfo.blockId);
+    return fileBlockInfo;
+  }
 
-    if (fileBlockInfo.blockInfo.locations.isEmpty() && file.isPersisted()) {
-      // No tachyon locations, but there is a checkpoint in the under storage system. Add the
-      // locations from the under storage system.
-      String ufsPath = mMountTable.resolve(mInodeTree.getPath(file)).toString();
-      UnderFileSystem ufs = UnderFileSystem.get(ufsPath, MasterContext.getConf());
-      List<String> locs;
-      try {
-        locs = ufs.getFileLocations(ufsPath, fileBlockInfo.offset);
-      } catch (IOException e) {
-        return fileBlockInfo;
-      }
-      if (locs != null) {
-        for (String loc : locs) {
-          String resolvedHost = loc;
-          int resolvedPort = -1;
-          try {
-            String[] ipport = loc.split(":");
-            if (ipport.length == 2) {
-              resolvedHost = ipport[0];
-              resolvedPort = Integer.parseInt(ipport[1]);
-            }
-          } catch (NumberFormatException nfe) {
-            continue;
-          }
-          // The resolved port is the data transfer port not the rpc port
-          fileBlockInfo.ufsLocations.add(new WorkerNetAddress(resolvedHost, -1, resolvedPort, -1));
-        }
+  /**
+   * @param file the file
+   * @return the path of the file in the under storage system if the file is persisted, otherwise
+   *         null
+   * @throws InvalidPathException if the mount table is not able to resolve the file
+   */
+  private String getPersistedUfsPath(InodeFile file) throws InvalidPathException {
+    // This function should only be called while holding the read or write lock of
+    // mInodeTreeLock.
+    if (!file.isPersisted()) {
+      return null;
+    }
+    return mMountTable.resolve(mInodeTree.getPath(file)).toString();
+  }
+
+  /**
+   * Adds the locations of blocks in the under storage system to their {@link FileBlockInfo}, for
+   * the blocks which have a checkpoint there, and no Tachyon locations. The blocks are looked up
+   * together, so they share one timeout.
+   *
+   * @param fileBlockInfos the {@link FileBlockInfo} of the blocks of a file
+   * @param ufsPath the path of the file in the under storage system, or null if the file is not
+   *        persisted
+   */
+  private void addUfsLocations(List<FileBlockInfo> fileBlockInfos, String ufsPath) {
+    // This function may wait for the under storage system, so it must not be called while holding
+    // mInodeTreeLock.
+    if (ufsPath == null) {
+      return;
+    }
+    List<FileBlockInfo> missing = new ArrayList<FileBlockInfo>();
+    List<Long> offsets = new ArrayList<Long>();
+    for (FileBlockInfo fileBlockInfo : fileBlockInfos) {
+      if (fileBlockInfo.blockInfo.locations.isEmpty()) {
+        missing.add(fileBlockInfo);
+        offsets.add(fileBlockInfo.offset);
       }
     }
-    return fileBlockInfo;
+    if (missing.isEmpty()) {
+      return;
+    }
+    List<List<WorkerNetAddress>> locations = mUfsBlockLocationCache.get(ufsPath, offsets);
+    for (int i = 0; i < missing.size(); i ++) {
+      missing.get(i).ufsLocations.addAll(locations.get(i));
+    }
   }
 
   /**
@@ -886,35 +1057,129 @@ public final class FileSystemMaster extends MasterBase {
   }
 
   /**
-   * @return absolute paths of all in memory files
+   * @return absolute paths of all in memory files, in the order of their file ids
    */
   public List<TachyonURI> getInMemoryFiles() {
-    List<TachyonURI> ret = new ArrayList<TachyonURI>();
-    Queue<Pair<InodeDirectory, TachyonURI>> nodesQueue =
-        new LinkedList<Pair<InodeDirectory, TachyonURI>>();
-    synchronized (mInodeTree) {
-      // TODO(yupeng): Verify we want to use absolute path.
-      nodesQueue.add(new Pair<InodeDirectory, TachyonURI>(mInodeTree.getRoot(),
-          new TachyonURI(TachyonURI.SEPARATOR)));
-      while (!nodesQueue.isEmpty()) {
-        Pair<InodeDirectory, TachyonURI> pair = nodesQueue.poll();
-        InodeDirectory directory = pair.getFirst();
-        TachyonURI curUri = pair.getSecond();
-
-        Set<Inode> children = directory.getChildren();
-        for (Inode inode : children) {
-          TachyonURI newUri = curUri.join(inode.getName());
-          if (inode.isDirectory()) {
-            nodesQueue.add(new Pair<InodeDirectory, TachyonURI>((InodeDirectory) inode, newUri));
-          } else if (isFullyInMemory((InodeFile) inode)) {
-            ret.add(newUri);
-          }
+    refreshInMemoryFileIndex();
+    List<Long> fileIds = mInMemoryFileIndex.getFileIds(0, Integer.MAX_VALUE);
+    List<TachyonURI> ret = new ArrayList<TachyonURI>(fileIds.size());
+    mInodeTreeReadLock.lock();
+    try {
+      for (long fileId : fileIds) {
+        try {
+          ret.add(mInodeTree.getPath(mInodeTree.getInodeById(fileId)));
+        } catch (FileDoesNotExistException e) {
+          // The file was deleted after the index was refreshed.
         }
       }
+    } finally {
+      mInodeTreeReadLock.unlock();
     }
     return ret;
   }
 
+  /**
+   * @return the number of files which are fully in memory
+   */
+  public int getNumberOfInMemoryFiles() {
+    refreshInMemoryFileIndex();
+    return mInMemoryFileIndex.getNumberOfFiles();
+  }
+
+  /**
+   * Gets a page of the files which are fully in memory, in the order of their file ids.
+   *
+   * @param offset the number of in memory files to skip
+   * @param limit the maximum number of files to return
+   * @return the {@link FileInfo}s of the files
+   */
+  public List<FileInfo> getInMemoryFileInfoList(int offset, int limit) {
+    refreshInMemoryFileIndex();
+    return getExistingFileInfoList(mInMemoryFileIndex.getFileIds(offset, limit));
+  }
+
+  /**
+   * Gets a page of the files which are fully in memory, in the order of their file ids.
+   *
+   * @param afterFileId the file id to start after, the last file id of the previous page
+   * @param limit the maximum number of files to return
+   * @return the {@link FileInfo}s of the files whose ids are greater than the given one
+   */
+  public List<FileInfo> getInMemoryFileInfoListAfter(long afterFileId, int limit) {
+    refreshInMemoryFileIndex();
+    return getExistingFileInfoList(mInMemoryFileIndex.getFileIdsAfter(afterFileId, limit));
+  }
+
+  /**
+   * @param fileIds the ids of the files
+   * @return the {@link FileInfo}s of the files which still exist
+   */
+  private List<FileInfo> getExistingFileInfoList(List<Long> fileIds) {
+    List<FileInfo> ret = new ArrayList<FileInfo>(fileIds.size());
+    mInodeTreeReadLock.lock();
+    try {
+      for (long fileId : fileIds) {
+        try {
+          ret.add(getFileInfoInternal(mInodeTree.getInodeById(fileId)));
+        } catch (FileDoesNotExistException e) {
+          // The file was deleted after the index was refreshed.
+        }
+      }
+    } finally {
+      mInodeTreeReadLock.unlock();
+    }
+    return ret;
+  }
+
+  /**
+   * Starts tracking all the files in the in memory file index.
+   */
+  private void resetInMemoryFileIndex() {
+    List<Long> fileIds = new ArrayList<Long>();
+    mInodeTreeReadLock.lock();
+    try {
+      for (Inode inode : mInodeTree.getInodeChildrenRecursive(mInodeTree.getRoot())) {
+        if (inode.isFile()) {
+          fileIds.add(inode.getId());
+        }
+      }
+    } finally {
+      mInodeTreeReadLock.unlock();
+    }
+    mInMemoryFileIndex.reset(fileIds);
+    refreshInMemoryFileIndex();
+  }
+
+  /**
+   * Checks the files marked as stale in the in memory file index again. The read lock is only held
+   * for a batch of files at a time, so that a large number of changes does not stall writers.
+   */
+  private void refreshInMemoryFileIndex() {
+    // Refreshes are serialized, so that a reader never sees the index while another reader is in
+    // the middle of checking a file it has taken out.
+    synchronized (mInMemoryFileIndex) {
+      List<Long> fileIds;
+      while (!(fileIds =
+          mInMemoryFileIndex.pollStaleFileIds(IN_MEMORY_INDEX_REFRESH_BATCH_SIZE)).isEmpty()) {
+        mInodeTreeReadLock.lock();
+        try {
+          for (long fileId : fileIds) {
+            Inode inode;
+            try {
+              inode = mInodeTree.getInodeById(fileId);
+            } catch (FileDoesNotExistException e) {
+              inode = null;
+            }
+            mInMemoryFileIndex.update(fileId,
+                inode != null && inode.isFile() && isFullyInMemory((InodeFile) inode));
+          }
+        } finally {
+          mInodeTreeReadLock.unlock();
+        }
+      }
+    }
+  }
+
   /**
    * Gets the in-memory percentage of an Inode. For a file that has all blocks in memory, it returns
    * 100; for a file that has no block in memory, it returns 0. Returns 0 for a directory.
@@ -970,32 +1235,52 @@ public final class FileSystemMaster extends MasterBase {
       throws InvalidPathException, FileAlreadyExistsException, IOException {
     LOG.debug("mkdir {} ", path);
     MasterContext.getMasterSource().incCreateDirectoriesOps(1);
-    synchronized (mInodeTree) {
-      try {
-        CreatePathOptions createPathOptions = new CreatePathOptions.Builder(MasterContext.getConf())
-            .setAllowExists(options.isAllowExists())
-            .setDirectory(true)
-            .setPersisted(options.isPersisted())
-            .setRecursive(options.isRecursive())
-            .setOperationTimeMs(options.getOperationTimeMs())
-            .setPermissionStatus(PermissionStatus.get(MasterContext.getConf(), true))
-            .build();
-        InodeTree.CreatePathResult createResult = mInodeTree.createPath(path, createPathOptions);
+    long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    InodeTree.CreatePathResult createResult;
+    mInodeTreeWriteLock.lock();
+    try {
+      createResult = mkdirInternal(path, options);
 
-        LOG.debug("writing journal entry for mkdir {}", path);
-        writeJournalEntry(mDirectoryIdGenerator.toJournalEntry());
-        journalCreatePathResult(createResult);
-        flushJournal();
-        LOG.debug("flushed journal for mkdir {}", path);
-        MasterContext.getMasterSource().incDirectoriesCreated(1);
-        return createResult;
-      } catch (BlockInfoException bie) {
-        // Since we are creating a directory, the block size is ignored, no such exception should
-        // happen.
-        Throwables.propagate(bie);
-      }
+      LOG.debug("writing journal entry for mkdir {}", path);
+      flushCounter = appendJournalEntry(mDirectoryIdGenerator.toJournalEntry());
+      flushCounter = Math.max(flushCounter, journalCreatePathResult(createResult));
+    } finally {
+      mInodeTreeWriteLock.unlock();
+    }
+    waitForJournalFlush(flushCounter);
+    LOG.debug("flushed journal for mkdir {}", path);
+    MasterContext.getMasterSource().incDirectoriesCreated(1);
+    return createResult;
+  }
+
+  /**
+   * Creates a directory for a given path. This does not journal the change. The write lock of
+   * mInodeTreeLock must be held.
+   *
+   * @param path the path of the directory
+   * @param options method options
+   * @return the {@link InodeTree.CreatePathResult} of the path creation
+   * @throws InvalidPathException when the path is invalid
+   * @throws FileAlreadyExistsException when there is already a file at path
+   * @throws IOException if a non-Tachyon related exception occurs
+   */
+  private InodeTree.CreatePathResult mkdirInternal(TachyonURI path, MkdirOptions options)
+      throws InvalidPathException, FileAlreadyExistsException, IOException {
+    CreatePathOptions createPathOptions = new CreatePathOptions.Builder(MasterContext.getConf())
+        .setAllowExists(options.isAllowExists())
+        .setDirectory(true)
+        .setPersisted(options.isPersisted())
+        .setRecursive(options.isRecursive())
+        .setOperationTimeMs(options.getOperationTimeMs())
+        .setPermissionStatus(PermissionStatus.get(MasterContext.getConf(), true))
+        .build();
+    try {
+      return mInodeTree.createPath(path, createPathOptions);
+    } catch (BlockInfoException bie) {
+      // Since we are creating a directory, the block size is ignored, no such exception should
+      // happen.
+      throw Throwables.propagate(bie);
     }
-    return null;
   }
 
   /**
@@ -1003,26 +1288,31 @@ public final class FileSystemMaster extends MasterBase {
    * Synchronization is required outside of this method.
    *
    * @param createResult the {@link InodeTree.CreatePathResult} to journal
+   * @return the flush counter of the last journal entry written, or
+   *         {@link AsyncJournalWriter#INVALID_FLUSH_COUNTER} if nothing was written
    */
-  private void journalCreatePathResult(InodeTree.CreatePathResult createResult) {
+  private long journalCreatePathResult(InodeTree.CreatePathResult createResult) {
+    long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
     for (Inode inode : createResult.getModified()) {
       InodeLastModificationTimeEntry inodeLastModificationTime =
           InodeLastModificationTimeEntry.newBuilder()
           .setId(inode.getId())
           .setLastModificationTimeMs(inode.getLastModificationTimeMs())
           .build();
-      writeJournalEntry(JournalEntry.newBuilder()
+      flushCounter = appendJournalEntry(JournalEntry.newBuilder()
           .setInodeLastModificationTime(inodeLastModificationTime).build());
     }
     for (Inode inode : createResult.getCreated()) {
-      writeJournalEntry(inode.toJournalEntry());
+      flushCounter = appendJournalEntry(inode.toJournalEntry());
     }
     for (Inode inode : createResult.getPersisted()) {
       PersistDirectoryEntry persistDirectory = PersistDirectoryEntry.newBuilder()
           .setId(inode.getId())
           .build();
-      writeJournalEntry(JournalEntry.newBuilder().setPersistDirectory(persistDirectory).build());
+      flushCounter = appendJournalEntry(
+          JournalEntry.newBuilder().setPersistDirectory(persistDirectory).build());
     }
+    return flushCounter;
   }
 
   /**
@@ -1038,7 +1328,9 @@ public final class FileSystemMaster extends MasterBase {
   public boolean rename(long fileId, TachyonURI dstPath)
       throws FileDoesNotExistException, InvalidPathException, IOException {
     MasterContext.getMasterSource().incRenamePathOps(1);
-    synchronized (mInodeTree) {
+    long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    mInodeTreeWriteLock.lock();
+    try {
       Inode srcInode = mInodeTree.getInodeById(fileId);
       TachyonURI srcPath = mInodeTree.getPath(srcInode);
       // Renaming path to itself is a no-op.
@@ -1098,12 +1390,13 @@ public final class FileSystemMaster extends MasterBase {
           .setDstPath(dstPath.getPath())
           .setOpTimeMs(opTimeMs)
           .build();
-      writeJournalEntry(JournalEntry.newBuilder().setRename(rename).build());
-      flushJournal();
-
+      flushCounter = appendJournalEntry(JournalEntry.newBuilder().setRename(rename).build());
       LOG.debug("Renamed {} to {}", srcPath, dstPath);
-      return true;
+    } finally {
+      mInodeTreeWriteLock.unlock();
     }
+    waitForJournalFlush(flushCounter);
+    return true;
   }
 
   /**
@@ -1120,7 +1413,7 @@ public final class FileSystemMaster extends MasterBase {
    */
   boolean renameInternal(long fileId, TachyonURI dstPath, boolean replayed, long opTimeMs)
       throws FileDoesNotExistException, InvalidPathException, IOException {
-    // This function should only be called from within synchronized (mInodeTree) blocks.
+    // This function should only be called while holding the write lock of mInodeTreeLock.
     Inode srcInode = mInodeTree.getInodeById(fileId);
     TachyonURI srcPath = mInodeTree.getPath(srcInode);
     LOG.debug("Renaming {} to {}", srcPath, dstPath);
@@ -1214,7 +1507,8 @@ public final class FileSystemMaster extends MasterBase {
    */
   public boolean free(long fileId, boolean recursive) throws FileDoesNotExistException {
     MasterContext.getMasterSource().incFreeFileOps(1);
-    synchronized (mInodeTree) {
+    mInodeTreeReadLock.lock();
+    try {
       Inode inode = mInodeTree.getInodeById(fileId);
 
       if (inode.isDirectory() && !recursive && ((InodeDirectory) inode).getNumberOfChildren() > 0) {
@@ -1239,6 +1533,8 @@ public final class FileSystemMaster extends MasterBase {
         }
       }
       MasterContext.getMasterSource().incFilesFreed(freeInodes.size());
+    } finally {
+      mInodeTreeReadLock.unlock();
     }
     return true;
   }
@@ -1251,8 +1547,11 @@ public final class FileSystemMaster extends MasterBase {
    * @throws FileDoesNotExistException raise if the file does not exist
    */
   public TachyonURI getPath(long fileId) throws FileDoesNotExistException {
-    synchronized (mInodeTree) {
+    mInodeTreeReadLock.lock();
+    try {
       return mInodeTree.getPath(mInodeTree.getInodeById(fileId));
+    } finally {
+      mInodeTreeReadLock.unlock();
     }
   }
 
@@ -1260,8 +1559,24 @@ public final class FileSystemMaster extends MasterBase {
    * @return the set of inode ids which are pinned
    */
   public Set<Long> getPinIdList() {
-    synchronized (mInodeTree) {
+    mInodeTreeReadLock.lock();
+    try {
       return mInodeTree.getPinIdSet();
+    } finally {
+      mInodeTreeReadLock.unlock();
+    }
+  }
+
+  /**
+   * @param version the version of the pin list last seen by the caller
+   * @return the changes to the set of pinned file ids since the given version
+   */
+  public PinListDelta getPinListDelta(long version) {
+    mInodeTreeReadLock.lock();
+    try {
+      return mInodeTree.getPinListDelta(version);
+    } finally {
+      mInodeTreeReadLock.unlock();
     }
   }
 
@@ -1300,7 +1615,8 @@ public final class FileSystemMaster extends MasterBase {
    * @throws FileDoesNotExistException if the file does not exist
    */
   public void reportLostFile(long fileId) throws FileDoesNotExistException {
-    synchronized (mInodeTree) {
+    mInodeTreeReadLock.lock();
+    try {
       Inode inode = mInodeTree.getInodeById(fileId);
       if (inode.isDirectory()) {
         LOG.warn("Reported file is a directory {}", inode);
@@ -1308,15 +1624,13 @@ public final class FileSystemMaster extends MasterBase {
       }
 
       List<Long> blockIds = Lists.newArrayList();
-      try {
-        for (FileBlockInfo fileBlockInfo : getFileBlockInfoList(fileId)) {
-          blockIds.add(fileBlockInfo.blockInfo.blockId);
-        }
-      } catch (InvalidPathException e) {
-        LOG.info("Failed to get file info {}", fileId, e);
+      for (FileBlockInfo fileBlockInfo : getFileBlockInfoListInternal((InodeFile) inode)) {
+        blockIds.add(fileBlockInfo.blockInfo.blockId);
       }
       mBlockMaster.reportLostBlocks(blockIds);
       LOG.info("Reported file loss of blocks {}. Tachyon will recompute it: {}", blockIds, fileId);
+    } finally {
+      mInodeTreeReadLock.unlock();
     }
   }
 
@@ -1339,8 +1653,11 @@ public final class FileSystemMaster extends MasterBase {
       throws BlockInfoException, FileAlreadyExistsException, FileDoesNotExistException,
       InvalidPathException, InvalidFileSizeException, FileAlreadyCompletedException, IOException {
     TachyonURI ufsPath;
-    synchronized (mInodeTree) {
+    mInodeTreeReadLock.lock();
+    try {
       ufsPath = mMountTable.resolve(path);
+    } finally {
+      mInodeTreeReadLock.unlock();
     }
     UnderFileSystem ufs = UnderFileSystem.get(ufsPath.toString(), MasterContext.getConf());
     try {
@@ -1357,11 +1674,25 @@ public final class FileSystemMaster extends MasterBase {
             .setRecursive(recursive)
             .setPersisted(true)
             .build();
-        long fileId = create(path, createOptions);
         CompleteFileOptions completeOptions =
             new CompleteFileOptions.Builder(MasterContext.getConf()).setUfsLength(ufsLength)
                 .build();
-        completeFile(fileId, completeOptions);
+        // Hold the write lock across both steps, so that the file is never seen incomplete, and
+        // wait for the journal only once the lock is released.
+        long fileId;
+        long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+        mInodeTreeWriteLock.lock();
+        try {
+          InodeTree.CreatePathResult createResult = createInternal(path, createOptions);
+          List<Inode> created = createResult.getCreated();
+          fileId = created.get(created.size() - 1).getId();
+          flushCounter = appendJournalEntry(mDirectoryIdGenerator.toJournalEntry());
+          flushCounter = Math.max(flushCounter, journalCreatePathResult(createResult));
+          flushCounter = Math.max(flushCounter, completeAndJournalFile(fileId, completeOptions));
+        } finally {
+          mInodeTreeWriteLock.unlock();
+        }
+        waitForJournalFlush(flushCounter);
         return fileId;
       } else {
         return loadMetadataDirectory(path, recursive);
@@ -1385,10 +1716,27 @@ public final class FileSystemMaster extends MasterBase {
    */
   private long loadMetadataDirectory(TachyonURI path, boolean recursive)
       throws IOException, FileAlreadyExistsException, InvalidPathException {
-    MkdirOptions options =
-        new MkdirOptions.Builder(MasterContext.getConf()).setRecursive(recursive)
-            .setPersisted(true).build();
-    InodeTree.CreatePathResult result = mkdir(path, options);
+    InodeTree.CreatePathResult result = mkdir(path, newLoadMetadataDirectoryOptions(recursive));
+    return getLoadedDirectoryId(path, result);
+  }
+
+  /**
+   * @param recursive whether parent directories should be created if they do not already exist
+   * @return the options to create a directory whose metadata is loaded from UFS with
+   */
+  private MkdirOptions newLoadMetadataDirectoryOptions(boolean recursive) {
+    return new MkdirOptions.Builder(MasterContext.getConf()).setRecursive(recursive)
+        .setPersisted(true).build();
+  }
+
+  /**
+   * @param path the path of the loaded directory
+   * @param result the result of creating the directory
+   * @return the file id of the loaded directory
+   * @throws FileAlreadyExistsException if the directory already existed
+   */
+  private long getLoadedDirectoryId(TachyonURI path, InodeTree.CreatePathResult result)
+      throws FileAlreadyExistsException {
     List<Inode> inodes = null;
     if (result.getCreated().size() > 0) {
       inodes = result.getCreated();
@@ -1403,6 +1751,133 @@ public final class FileSystemMaster extends MasterBase {
     return inodes.get(inodes.size() - 1).getId();
   }
 
+  /**
+   * Loads metadata for the tree identified by the given path from UFS into Tachyon. The
+   * directories of the tree are listed in parallel, and the listed paths are added to the inode
+   * tree in batches, each of which is journaled with a single flush. Paths which already exist in
+   * Tachyon are left as they are.
+   *
+   * @param path the path of the root of the tree
+   * @param recursive whether parent directories should be created if they do not already exist
+   * @return the number of paths loaded
+   * @throws BlockInfoException if an invalid block size is encountered
+   * @throws FileDoesNotExistException if there is no UFS path
+   * @throws InvalidPathException if invalid path is encountered
+   * @throws InvalidFileSizeException if invalid file size is encountered
+   * @throws FileAlreadyCompletedException if a file is already completed
+   * @throws IOException if an I/O error occurs
+   */
+  public long loadMetadataTree(TachyonURI path, boolean recursive)
+      throws BlockInfoException, FileDoesNotExistException, InvalidPathException,
+      InvalidFileSizeException, FileAlreadyCompletedException, IOException {
+    TachyonURI ufsPath;
+    mInodeTreeReadLock.lock();
+    try {
+      ufsPath = mMountTable.resolve(path);
+    } finally {
+      mInodeTreeReadLock.unlock();
+    }
+    UnderFileSystem ufs = UnderFileSystem.get(ufsPath.toString(), MasterContext.getConf());
+    if (!ufs.exists(ufsPath.getPath())) {
+      throw new FileDoesNotExistException(
+          ExceptionMessage.PATH_DOES_NOT_EXIST.getMessage(path.getPath()));
+    }
+    if (ufs.isFile(ufsPath.getPath())) {
+      return loadPaths(Collections.singletonList(new UfsTreeLister.UfsPathStatus(path, false,
+          ufs.getBlockSizeByte(ufsPath.toString()), ufs.getFileSize(ufsPath.toString()))),
+          recursive);
+    }
+
+    long loaded = loadPaths(
+        Collections.singletonList(new UfsTreeLister.UfsPathStatus(path, true, 0, 0)), recursive);
+    UfsTreeLister.Listing listing = mUfsTreeLister.list(path, ufsPath.toString());
+    try {
+      List<UfsTreeLister.UfsPathStatus> batch;
+      while (!(batch = listing.nextBatch(LOAD_METADATA_BATCH_SIZE)).isEmpty()) {
+        long previous = loaded;
+        loaded += loadPaths(batch, true);
+        if (loaded / LOAD_METADATA_PROGRESS_PATHS != previous / LOAD_METADATA_PROGRESS_PATHS) {
+          LOG.info("Loaded metadata of {} paths under {} so far", loaded, path);
+        }
+      }
+    } finally {
+      listing.close();
+    }
+    LOG.info("Loaded metadata of {} paths under {}", loaded, path);
+    return loaded;
+  }
+
+  /**
+   * Adds paths listed in UFS to the inode tree, and waits for them to be journaled. A path is
+   * skipped if it already exists.
+   *
+   * @param statuses the statuses of the paths, where a directory comes before the paths in it
+   * @param recursive whether parent directories should be created if they do not already exist
+   * @return the number of paths added
+   * @throws BlockInfoException if an invalid block size is encountered
+   * @throws FileDoesNotExistException if a file disappears while it is added
+   * @throws InvalidPathException if invalid path is encountered
+   * @throws InvalidFileSizeException if invalid file size is encountered
+   * @throws FileAlreadyCompletedException if a file is already completed
+   * @throws IOException if an I/O error occurs
+   */
+  private long loadPaths(List<UfsTreeLister.UfsPathStatus> statuses, boolean recursive)
+      throws BlockInfoException, FileDoesNotExistException, InvalidPathException,
+      InvalidFileSizeException, FileAlreadyCompletedException, IOException {
+    long loaded = 0;
+    long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    mInodeTreeWriteLock.lock();
+    try {
+      for (UfsTreeLister.UfsPathStatus status : statuses) {
+        TachyonURI path = status.getTachyonPath();
+        try {
+          mInodeTree.getInodeByPath(path);
+          continue;
+        } catch (InvalidPathException e) {
+          // The path does not exist yet, load it.
+        }
+        InodeTree.CreatePathResult createResult;
+        if (status.isDirectory()) {
+          CreatePathOptions createPathOptions =
+              new CreatePathOptions.Builder(MasterContext.getConf())
+                  .setDirectory(true)
+                  .setPersisted(true)
+                  .setRecursive(recursive)
+                  .setPermissionStatus(PermissionStatus.get(MasterContext.getConf(), true))
+                  .build();
+          createResult = mInodeTree.createPath(path, createPathOptions);
+          MasterContext.getMasterSource().incDirectoriesCreated(1);
+        } else {
+          // Metadata loaded from UFS has no TTL set.
+          CreateOptions createOptions = new CreateOptions.Builder(MasterContext.getConf())
+              .setBlockSizeBytes(status.getBlockSizeBytes())
+              .setRecursive(recursive)
+              .setPersisted(true)
+              .build();
+          createResult = createInternal(path, createOptions);
+        }
+        flushCounter = appendJournalEntry(mDirectoryIdGenerator.toJournalEntry());
+        flushCounter = Math.max(flushCounter, journalCreatePathResult(createResult));
+        if (!status.isDirectory()) {
+          List<Inode> created = createResult.getCreated();
+          CompleteFileOptions completeOptions =
+              new CompleteFileOptions.Builder(MasterContext.getConf())
+                  .setUfsLength(status.getLength()).build();
+          flushCounter = completeAndJournalFile(created.get(created.size() - 1).getId(),
+              completeOptions);
+        }
+        loaded ++;
+      }
+    } catch (FileAlreadyExistsException e) {
+      // The paths which exist are skipped, so this cannot happen.
+      throw Throwables.propagate(e);
+    } finally {
+      mInodeTreeWriteLock.unlock();
+    }
+    waitForJournalFlush(flushCounter);
+    return loaded;
+  }
+
   /**
    * Mounts a UFS path onto a Tachyon path.
    *
@@ -1416,29 +1891,45 @@ public final class FileSystemMaster extends MasterBase {
   public boolean mount(TachyonURI tachyonPath, TachyonURI ufsPath)
       throws FileAlreadyExistsException, InvalidPathException, IOException {
     MasterContext.getMasterSource().incMountOps(1);
-    synchronized (mInodeTree) {
-      if (mountInternal(tachyonPath, ufsPath)) {
-        boolean loadMetadataSuceeded = false;
-        try {
-          // This will create the directory at tachyonPath
-          loadMetadataDirectory(tachyonPath, false);
-          loadMetadataSuceeded = true;
-        } finally {
-          if (!loadMetadataSuceeded) {
-            // We should be throwing an exception in this scenario
-            unmountInternal(tachyonPath);
-          }
+    // The under storage system is checked before the lock is taken; the mount table checks the
+    // mount point again against the other mount points once the lock is held.
+    if (!checkMountPoint(tachyonPath, ufsPath)) {
+      return false;
+    }
+    long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    mInodeTreeWriteLock.lock();
+    try {
+      if (!mMountTable.add(tachyonPath, ufsPath)) {
+        return false;
+      }
+      boolean loadMetadataSuceeded = false;
+      try {
+        // This will create the directory at tachyonPath. It is only journaled here, the journal
+        // is flushed once the lock is released.
+        InodeTree.CreatePathResult createResult =
+            mkdirInternal(tachyonPath, newLoadMetadataDirectoryOptions(false));
+        getLoadedDirectoryId(tachyonPath, createResult);
+        flushCounter = appendJournalEntry(mDirectoryIdGenerator.toJournalEntry());
+        flushCounter = Math.max(flushCounter, journalCreatePathResult(createResult));
+        loadMetadataSuceeded = true;
+      } finally {
+        if (!loadMetadataSuceeded) {
+          // We should be throwing an exception in this scenario
+          unmountInternal(tachyonPath);
         }
-        AddMountPointEntry addMountPoint =
-            AddMountPointEntry.newBuilder().setTachyonPath(tachyonPath.toString())
-                .setUfsPath(ufsPath.toString()).build();
-        writeJournalEntry(JournalEntry.newBuilder().setAddMountPoint(addMountPoint).build());
-        flushJournal();
-        MasterContext.getMasterSource().incPathsMounted(1);
-        return true;
       }
-    }
-    return false;
+      AddMountPointEntry addMountPoint =
+          AddMountPointEntry.newBuilder().setTachyonPath(tachyonPath.toString())
+              .setUfsPath(ufsPath.toString()).build();
+      flushCounter = Math.max(flushCounter,
+          appendJournalEntry(JournalEntry.newBuilder().setAddMountPoint(addMountPoint).build()));
+    } finally {
+      mInodeTreeWriteLock.unlock();
+    }
+    waitForJournalFlush(flushCounter);
+    MasterContext.getMasterSource().incDirectoriesCreated(1);
+    MasterContext.getMasterSource().incPathsMounted(1);
+    return true;
   }
 
   void mountFromEntry(AddMountPointEntry entry) throws InvalidPathException, IOException {
@@ -1449,6 +1940,21 @@ public final class FileSystemMaster extends MasterBase {
 
   boolean mountInternal(TachyonURI tachyonPath, TachyonURI ufsPath) throws InvalidPathException,
       IOException {
+    return checkMountPoint(tachyonPath, ufsPath) && mMountTable.add(tachyonPath, ufsPath);
+  }
+
+  /**
+   * Checks that a UFS path can be mounted onto a Tachyon path, as far as the under storage systems
+   * are concerned. This may wait for the under storage systems, so it should not be called while
+   * holding the lock of the inode tree.
+   *
+   * @param tachyonPath the URI of the Tachyon path
+   * @param ufsPath the URI of the UFS path
+   * @return true if the UFS path is an existing directory, and the Tachyon path does not shadow a
+   *         path in the default UFS
+   * @throws IOException if an I/O error occurs
+   */
+  private boolean checkMountPoint(TachyonURI tachyonPath, TachyonURI ufsPath) throws IOException {
     // Check that the ufsPath exists and is a directory
     UnderFileSystem ufs = UnderFileSystem.get(ufsPath.toString(), MasterContext.getConf());
     if (!ufs.exists(ufsPath.getPath())) {
@@ -1466,9 +1972,7 @@ public final class FileSystemMaster extends MasterBase {
       LOG.warn(ExceptionMessage.MOUNT_PATH_SHADOWS_DEFAULT_UFS.getMessage(tachyonPath));
       return false;
     }
-    // This should check that we are not mounting a prefix of an existing mount, and that no
-    // existing mount is a prefix of this mount.
-    return mMountTable.add(tachyonPath, ufsPath);
+    return true;
   }
 
   /**
@@ -1483,30 +1987,35 @@ public final class FileSystemMaster extends MasterBase {
   public boolean unmount(TachyonURI tachyonPath)
       throws FileDoesNotExistException, InvalidPathException, IOException {
     MasterContext.getMasterSource().incUnmountOps(1);
-    synchronized (mInodeTree) {
-      if (unmountInternal(tachyonPath)) {
-        Inode inode = mInodeTree.getInodeByPath(tachyonPath);
-        // Use the internal delete API, setting {@code replayed} to false to prevent the delete
-        // operations from being persisted in the UFS.
-        long fileId = inode.getId();
-        long opTimeMs = System.currentTimeMillis();
-        deleteFileRecursiveInternal(fileId, true /* replayed */, opTimeMs);
-        DeleteFileEntry deleteFile = DeleteFileEntry.newBuilder()
-            .setId(fileId)
-            .setRecursive(true)
-            .setOpTimeMs(opTimeMs)
-            .build();
-        writeJournalEntry(JournalEntry.newBuilder().setDeleteFile(deleteFile).build());
-        DeleteMountPointEntry deleteMountPoint = DeleteMountPointEntry.newBuilder()
-            .setTachyonPath(tachyonPath.toString())
-            .build();
-        writeJournalEntry(JournalEntry.newBuilder().setDeleteMountPoint(deleteMountPoint).build());
-        flushJournal();
-        MasterContext.getMasterSource().incPathsUnmounted(1);
-        return true;
+    long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    mInodeTreeWriteLock.lock();
+    try {
+      if (!unmountInternal(tachyonPath)) {
+        return false;
       }
+      Inode inode = mInodeTree.getInodeByPath(tachyonPath);
+      // Use the internal delete API, setting {@code replayed} to false to prevent the delete
+      // operations from being persisted in the UFS.
+      long fileId = inode.getId();
+      long opTimeMs = System.currentTimeMillis();
+      deleteFileRecursiveInternal(fileId, true /* replayed */, opTimeMs);
+      DeleteFileEntry deleteFile = DeleteFileEntry.newBuilder()
+          .setId(fileId)
+          .setRecursive(true)
+          .setOpTimeMs(opTimeMs)
+          .build();
+      writeJournalEntry(JournalEntry.newBuilder().setDeleteFile(deleteFile).build());
+      DeleteMountPointEntry deleteMountPoint = DeleteMountPointEntry.newBuilder()
+          .setTachyonPath(tachyonPath.toString())
+          .build();
+      flushCounter = appendJournalEntry(
+          JournalEntry.newBuilder().setDeleteMountPoint(deleteMountPoint).build());
+    } finally {
+      mInodeTreeWriteLock.unlock();
     }
-    return false;
+    waitForJournalFlush(flushCounter);
+    MasterContext.getMasterSource().incPathsUnmounted(1);
+    return true;
   }
 
   void unmountFromEntry(DeleteMountPointEntry entry) throws InvalidPathException {
@@ -1528,11 +2037,14 @@ public final class FileSystemMaster extends MasterBase {
    */
   public void resetFile(long fileId) throws FileDoesNotExistException {
     // TODO(yupeng) check the file is not persisted
-    synchronized (mInodeTree) {
+    mInodeTreeWriteLock.lock();
+    try {
       // free the file first
       free(fileId, false);
       InodeFile inodeFile = (InodeFile) mInodeTree.getInodeById(fileId);
       inodeFile.reset();
+    } finally {
+      mInodeTreeWriteLock.unlock();
     }
   }
 
@@ -1545,7 +2057,9 @@ public final class FileSystemMaster extends MasterBase {
    */
   public void setState(long fileId, SetStateOptions options) throws FileDoesNotExistException {
     MasterContext.getMasterSource().incSetStateOps(1);
-    synchronized (mInodeTree) {
+    long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    mInodeTreeWriteLock.lock();
+    try {
       long opTimeMs = System.currentTimeMillis();
       setStateInternal(fileId, opTimeMs, options);
       SetStateEntry.Builder setState =
@@ -1559,9 +2073,11 @@ public final class FileSystemMaster extends MasterBase {
       if (options.hasPersisted()) {
         setState.setPersisted(options.getPersisted());
       }
-      writeJournalEntry(JournalEntry.newBuilder().setSetState(setState).build());
-      flushJournal();
+      flushCounter = appendJournalEntry(JournalEntry.newBuilder().setSetState(setState).build());
+    } finally {
+      mInodeTreeWriteLock.unlock();
     }
+    waitForJournalFlush(flushCounter);
   }
 
   /**
@@ -1574,15 +2090,19 @@ public final class FileSystemMaster extends MasterBase {
   public long scheduleAsyncPersistence(long fileId) throws FileDoesNotExistException {
     long workerId = scheduleAsyncPersistenceInternal(fileId);
 
-    synchronized (mInodeTree) {
+    long flushCounter;
+    mInodeTreeWriteLock.lock();
+    try {
       // write to journal
       AsyncPersistRequestEntry asyncPersistRequestEntry =
           AsyncPersistRequestEntry.newBuilder().setFileId(fileId).build();
-      writeJournalEntry(
+      flushCounter = appendJournalEntry(
           JournalEntry.newBuilder().setAsyncPersistRequest(asyncPersistRequestEntry).build());
-      flushJournal();
-      return workerId;
+    } finally {
+      mInodeTreeWriteLock.unlock();
     }
+    waitForJournalFlush(flushCounter);
+    return workerId;
   }
 
   private long scheduleAsyncPersistenceInternal(long fileId) throws FileDoesNotExistException {
@@ -1596,9 +2116,12 @@ public final class FileSystemMaster extends MasterBase {
     }
 
     // update the state
-    synchronized (mInodeTree) {
+    mInodeTreeWriteLock.lock();
+    try {
       Inode inode = mInodeTree.getInodeById(fileId);
       inode.setPersistenceState(PersistenceState.IN_PROGRESS);
+    } finally {
+      mInodeTreeWriteLock.unlock();
     }
 
     synchronized (mWorkerToAsyncPersistFiles) {
@@ -1620,31 +2143,36 @@ public final class FileSystemMaster extends MasterBase {
   private long getWorkerStoringFile(long fileId) throws FileDoesNotExistException {
     Map<Long, Integer> workerBlockCounts = Maps.newHashMap();
     List<FileBlockInfo> blockInfoList;
+    mInodeTreeReadLock.lock();
     try {
-      blockInfoList = getFileBlockInfoList(fileId);
-
-      for (FileBlockInfo fileBlockInfo : blockInfoList) {
-        for (BlockLocation blockLocation : fileBlockInfo.blockInfo.locations) {
-          if (workerBlockCounts.containsKey(blockLocation.workerId)) {
-            workerBlockCounts.put(blockLocation.workerId,
-                workerBlockCounts.get(blockLocation.workerId) + 1);
-          } else {
-            workerBlockCounts.put(blockLocation.workerId, 1);
-          }
-
-          // TODO(yupeng) remove the requirement that all the blocks of a file must be stored on the
-          // same worker, for now it returns the first worker that has all the blocks
-          if (workerBlockCounts.get(blockLocation.workerId) == blockInfoList.size()) {
-            return blockLocation.workerId;
-          }
-        }
+      Inode inode = mInodeTree.getInodeById(fileId);
+      if (inode.isDirectory()) {
+        throw new FileDoesNotExistException(
+            ExceptionMessage.FILEID_MUST_BE_FILE.getMessage(fileId));
       }
+      // Only the Tachyon locations of the blocks are needed.
+      blockInfoList = getFileBlockInfoListInternal((InodeFile) inode);
     } catch (FileDoesNotExistException e) {
       LOG.error("The file {} to persist does not exist", fileId);
       return IdUtils.INVALID_WORKER_ID;
-    } catch (InvalidPathException e) {
-      LOG.error("The file {} to persist does not exist", fileId);
-      return IdUtils.INVALID_WORKER_ID;
+    } finally {
+      mInodeTreeReadLock.unlock();
+    }
+    for (FileBlockInfo fileBlockInfo : blockInfoList) {
+      for (BlockLocation blockLocation : fileBlockInfo.blockInfo.locations) {
+        if (workerBlockCounts.containsKey(blockLocation.workerId)) {
+          workerBlockCounts.put(blockLocation.workerId,
+              workerBlockCounts.get(blockLocation.workerId) + 1);
+        } else {
+          workerBlockCounts.put(blockLocation.workerId, 1);
+        }
+
+        // TODO(yupeng) remove the requirement that all the blocks of a file must be stored on the
+        // same worker, for now it returns the first worker that has all the blocks
+        if (workerBlockCounts.get(blockLocation.workerId) == blockInfoList.size()) {
+          return blockLocation.workerId;
+        }
+      }
     }
 
     if (workerBlockCounts.size() == 0) {
@@ -1671,7 +2199,8 @@ public final class FileSystemMaster extends MasterBase {
     List<Long> fileIdsToPersist = Lists.newArrayList();
 
     synchronized (mWorkerToAsyncPersistFiles) {
-      synchronized (mInodeTree) {
+      mInodeTreeWriteLock.lock();
+      try {
         if (!mWorkerToAsyncPersistFiles.containsKey(workerId)) {
           return filesToPersist;
         }
@@ -1682,7 +2211,7 @@ public final class FileSystemMaster extends MasterBase {
           if (inode.isCompleted()) {
             fileIdsToPersist.add(fileId);
             List<Long> blockIds = Lists.newArrayList();
-            for (FileBlockInfo fileBlockInfo : getFileBlockInfoList(fileId)) {
+            for (FileBlockInfo fileBlockInfo : getFileBlockInfoListInternal(inode)) {
               blockIds.add(fileBlockInfo.blockInfo.blockId);
             }
 
@@ -1691,7 +2220,8 @@ public final class FileSystemMaster extends MasterBase {
             inode.setPersistenceState(PersistenceState.IN_PROGRESS);
           }
         }
-
+      } finally {
+        mInodeTreeWriteLock.unlock();
       }
     }
     mWorkerToAsyncPersistFiles.get(workerId).removeAll(fileIdsToPersist);
@@ -1777,27 +2307,78 @@ public final class FileSystemMaster extends MasterBase {
    * This class represents the executor for periodic inode TTL check.
    */
   private final class MasterInodeTtlCheckExecutor implements HeartbeatExecutor {
+    /** The maximum number of files deleted under one hold of the write lock */
+    private final int mBatchSize =
+        MasterContext.getConf().getInt(Constants.MASTER_TTLCHECKER_BATCH_SIZE);
+
     @Override
     public void heartbeat() {
-      synchronized (mInodeTree) {
-        Set<TtlBucket> expiredBuckets = mTtlBuckets.getExpiredBuckets(System.currentTimeMillis());
+      long sweepTimeMs = System.currentTimeMillis();
+      List<InodeFile> expiredFiles = new ArrayList<InodeFile>();
+      mInodeTreeWriteLock.lock();
+      try {
+        // The expired buckets are taken out before the files are deleted, so that the files which
+        // are given a ttl during the sweep go to new buckets.
+        Set<TtlBucket> expiredBuckets =
+            Sets.newHashSet(mTtlBuckets.getExpiredBuckets(sweepTimeMs));
         for (TtlBucket bucket : expiredBuckets) {
-          for (InodeFile file : bucket.getFiles()) {
-            if (!file.isDeleted()) {
-              // file.isPinned() is deliberately not checked because ttl will have effect no matter
-              // whether the file is pinned.
-              try {
-                deleteFile(file.getId(), false);
-              } catch (Exception e) {
-                LOG.error("Exception trying to clean up {} for ttl check: {}", file.toString(),
-                    e.toString());
-              }
+          expiredFiles.addAll(bucket.getFiles());
+        }
+        mTtlBuckets.removeBuckets(expiredBuckets);
+      } finally {
+        mInodeTreeWriteLock.unlock();
+      }
+      // The files are deleted in batches, releasing the lock in between, so that a large number
+      // of expired files does not block the other requests for the whole sweep.
+      for (int i = 0; i < expiredFiles.size(); i += mBatchSize) {
+        deleteExpiredFiles(expiredFiles.subList(i, Math.min(expiredFiles.size(), i + mBatchSize)),
+            sweepTimeMs);
+      }
+    }
+
+    /**
+     * Deletes a batch of files with expired ttl, journaling them with one entry.
+     *
+     * @param files the files to delete
+     * @param sweepTimeMs the time the files were found expired at
+     */
+    private void deleteExpiredFiles(List<InodeFile> files, long sweepTimeMs) {
+      long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+      mInodeTreeWriteLock.lock();
+      try {
+        long opTimeMs = System.currentTimeMillis();
+        List<Long> deletedIds = new ArrayList<Long>(files.size());
+        for (InodeFile file : files) {
+          // The ttl of the file may have been reset since its bucket was taken out.
+          if (file.isDeleted() || file.getTtl() == Constants.NO_TTL
+              || file.getCreationTimeMs() + file.getTtl() > sweepTimeMs) {
+            continue;
+          }
+          // file.isPinned() is deliberately not checked because ttl will have effect no matter
+          // whether the file is pinned.
+          MasterContext.getMasterSource().incDeletePathOps(1);
+          try {
+            if (deleteFileInternal(file.getId(), false, false, opTimeMs)) {
+              deletedIds.add(file.getId());
             }
+          } catch (Exception e) {
+            LOG.error("Exception trying to clean up {} for ttl check: {}", file.toString(),
+                e.toString());
           }
         }
-
-        mTtlBuckets.removeBuckets(expiredBuckets);
+        if (!deletedIds.isEmpty()) {
+          DeleteFilesEntry deleteFiles = DeleteFilesEntry.newBuilder()
+              .addAllIds(deletedIds)
+              .setRecursive(false)
+              .setOpTimeMs(opTimeMs)
+              .build();
+          flushCounter =
+              appendJournalEntry(JournalEntry.newBuilder().setDeleteFiles(deleteFiles).build());
+        }
+      } finally {
+        mInodeTreeWriteLock.unlock();
       }
+      waitForJournalFlush(flushCounter);
     }
   }
 
@@ -1807,9 +2388,13 @@ public final class FileSystemMaster extends MasterBase {
   private final class LostFilesDetectionHeartbeatExecutor implements HeartbeatExecutor {
     @Override
     public void heartbeat() {
+      // Check the files changed since the last heartbeat, so that the stale files of the in memory
+      // file index do not pile up while nothing reads it.
+      refreshInMemoryFileIndex();
       for (long fileId : getLostFiles()) {
         // update the state
-        synchronized (mInodeTree) {
+        mInodeTreeWriteLock.lock();
+        try {
           Inode inode;
           try {
             inode = mInodeTree.getInodeById(fileId);
@@ -1819,6 +2404,8 @@ public final class FileSystemMaster extends MasterBase {
           } catch (FileDoesNotExistException e) {
             LOG.error("Exception trying to get inode from inode tree: {}", e.toString());
           }
+        } finally {
+          mInodeTreeWriteLock.unlock();
         }
       }
     }
@@ -113,6 +113,12 @@ public final class FileSystemMasterClientServiceHandler implements
     }
   }
 
+  @Override
+  public List<FileInfo> getInMemoryFileInfoList(long afterFileId) {
+    return mFileSystemMaster.getInMemoryFileInfoListAfter(afterFileId,
+        FileSystemMaster.IN_MEMORY_FILES_PAGE_SIZE);
+  }
+
   @Override
   public FileBlockInfo getFileBlockInfo(long fileId, int fileBlockIndex) throws TachyonTException {
     try {
@@ -157,6 +163,18 @@ public final class FileSystemMasterClientServiceHandler implements
     }
   }
 
+  @Override
+  public long loadMetadataTree(String tachyonPath, boolean recursive)
+      throws TachyonTException, ThriftIOException {
+    try {
+      return mFileSystemMaster.loadMetadataTree(new TachyonURI(tachyonPath), recursive);
+    } catch (TachyonException e) {
+      throw e.toTachyonTException();
+    } catch (IOException e) {
+      throw new ThriftIOException(e.getMessage());
+    }
+  }
+
   @Override
   public boolean mkdir(String path, MkdirTOptions options) throws TachyonTException,
       ThriftIOException {
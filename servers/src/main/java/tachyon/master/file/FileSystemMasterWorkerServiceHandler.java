@@ -29,6 +29,7 @@ import tachyon.exception.TachyonException;
 import tachyon.thrift.FileInfo;
 import tachyon.thrift.FileSystemCommand;
 import tachyon.thrift.FileSystemMasterWorkerService;
+import tachyon.thrift.PinListDelta;
 import tachyon.thrift.TachyonTException;
 
 /**
@@ -62,6 +63,11 @@ public final class FileSystemMasterWorkerServiceHandler
     }
   }
 
+  @Override
+  public PinListDelta getPinListDelta(long version) {
+    return mFileSystemMaster.getPinListDelta(version);
+  }
+
   @Override
   public Set<Long> getPinIdList() {
     return mFileSystemMaster.getPinIdList();
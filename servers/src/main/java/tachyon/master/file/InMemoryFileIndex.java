@@ -0,0 +1,145 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.file;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * The ids of the files which are fully in memory, kept up to date incrementally so that listing
+ * them does not walk the inode tree. A change to a file, or to the locations of its blocks, only
+ * marks the file as stale, which is cheap and takes no lock of the master; the owner of the index
+ * checks the stale files again and updates the index before reading it. Files are listed in the
+ * order of their ids. The index tracks nothing until it is reset with all the files, which the
+ * master does when it becomes the leader. This class is thread safe.
+ */
+public final class InMemoryFileIndex {
+  /** The ids of the files which are fully in memory. */
+  private final NavigableSet<Long> mFileIds = new ConcurrentSkipListSet<Long>();
+  /** The size of {@link #mFileIds}, whose own size() walks the whole set. */
+  private final AtomicInteger mNumberOfFiles = new AtomicInteger(0);
+  /** The ids of the files which changed since they were last checked. */
+  private final Set<Long> mStaleFileIds =
+      Collections.newSetFromMap(new ConcurrentHashMap<Long, Boolean>());
+  private volatile boolean mEnabled = false;
+
+  /**
+   * Clears the index and starts tracking the given files, which are all marked as stale.
+   *
+   * @param fileIds the ids of all the files
+   */
+  public synchronized void reset(Collection<Long> fileIds) {
+    mEnabled = false;
+    mFileIds.clear();
+    mNumberOfFiles.set(0);
+    mStaleFileIds.clear();
+    mStaleFileIds.addAll(fileIds);
+    mEnabled = true;
+  }
+
+  /**
+   * Marks a file as stale. Does nothing before the index is first reset.
+   *
+   * @param fileId the id of the file which changed
+   */
+  public void invalidate(long fileId) {
+    if (mEnabled) {
+      mStaleFileIds.add(fileId);
+    }
+  }
+
+  /**
+   * Takes some of the stale files out, to be checked with {@link #update(long, boolean)}.
+   *
+   * @param limit the maximum number of files to take
+   * @return the ids of the files taken, empty if no file is stale
+   */
+  public List<Long> pollStaleFileIds(int limit) {
+    List<Long> ret = new ArrayList<Long>(Math.min(limit, mStaleFileIds.size()));
+    Iterator<Long> iterator = mStaleFileIds.iterator();
+    while (ret.size() < limit && iterator.hasNext()) {
+      ret.add(iterator.next());
+      iterator.remove();
+    }
+    return ret;
+  }
+
+  /**
+   * Records whether a file is fully in memory.
+   *
+   * @param fileId the id of the file
+   * @param inMemory whether the file exists and is fully in memory
+   */
+  public void update(long fileId, boolean inMemory) {
+    if (inMemory) {
+      if (mFileIds.add(fileId)) {
+        mNumberOfFiles.incrementAndGet();
+      }
+    } else if (mFileIds.remove(fileId)) {
+      mNumberOfFiles.decrementAndGet();
+    }
+  }
+
+  /**
+   * @return the number of files which are fully in memory
+   */
+  public int getNumberOfFiles() {
+    return mNumberOfFiles.get();
+  }
+
+  /**
+   * @param offset the number of files to skip
+   * @param limit the maximum number of files to return
+   * @return the ids of the files which are fully in memory, starting at the given offset
+   */
+  public List<Long> getFileIds(int offset, int limit) {
+    Preconditions.checkArgument(offset >= 0 && limit >= 0,
+        "Offset %s and limit %s must not be negative", offset, limit);
+    return take(mFileIds.iterator(), offset, limit);
+  }
+
+  /**
+   * @param afterFileId the id of the file to start after
+   * @param limit the maximum number of files to return
+   * @return the ids of the files which are fully in memory, whose ids are greater than the given
+   *         one
+   */
+  public List<Long> getFileIdsAfter(long afterFileId, int limit) {
+    Preconditions.checkArgument(limit >= 0, "Limit %s must not be negative", limit);
+    return take(mFileIds.tailSet(afterFileId, false).iterator(), 0, limit);
+  }
+
+  private static List<Long> take(Iterator<Long> iterator, int offset, int limit) {
+    for (int i = 0; i < offset && iterator.hasNext(); i ++) {
+      iterator.next();
+    }
+    List<Long> ret = new ArrayList<Long>();
+    while (ret.size() < limit && iterator.hasNext()) {
+      ret.add(iterator.next());
+    }
+    return ret;
+  }
+}
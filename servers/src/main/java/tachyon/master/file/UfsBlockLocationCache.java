@@ -0,0 +1,261 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.file;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Objects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import tachyon.Constants;
+import tachyon.conf.TachyonConf;
+import tachyon.thrift.WorkerNetAddress;
+import tachyon.underfs.UnderFileSystem;
+import tachyon.util.ThreadFactoryUtils;
+
+/**
+ * Caches the locations of the blocks of files in the under storage system, which the master hands
+ * out for the blocks which are not in Tachyon. The locations are looked up on a bounded pool of
+ * threads, and a lookup which does not finish in time is left to complete in the background, so a
+ * slow under storage system delays a block info request by at most the timeout, which the lookups
+ * of all the blocks of the request share. Concurrent requests for the same block share one lookup.
+ * The locations are only hints for the clients, so they are reused until they expire. This class
+ * is thread safe.
+ */
+public final class UfsBlockLocationCache {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  /** The number of lookups which may wait for a thread, for each thread of the pool. */
+  private static final int QUEUED_LOOKUPS_PER_THREAD = 64;
+
+  private final TachyonConf mConf;
+  private final long mTimeoutMs;
+  private final ThreadPoolExecutor mExecutor;
+  /** Map from a block of a file in the under storage system to the locations of the block */
+  private final Cache<Key, List<WorkerNetAddress>> mLocations;
+  /** The lookups which are running or waiting for a thread */
+  private final ConcurrentMap<Key, Future<List<WorkerNetAddress>>> mLookups =
+      new ConcurrentHashMap<Key, Future<List<WorkerNetAddress>>>();
+
+  /**
+   * Creates a new instance of {@link UfsBlockLocationCache}.
+   *
+   * @param conf the configuration of the master
+   */
+  UfsBlockLocationCache(TachyonConf conf) {
+    mConf = conf;
+    mTimeoutMs = conf.getLong(Constants.MASTER_UFS_BLOCK_LOCATION_TIMEOUT_MS);
+    int threads = conf.getInt(Constants.MASTER_UFS_BLOCK_LOCATION_THREADS);
+    mExecutor = new ThreadPoolExecutor(threads, threads, Constants.MINUTE_MS,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<Runnable>(threads * QUEUED_LOOKUPS_PER_THREAD),
+        ThreadFactoryUtils.build("ufs-block-location-%d", true));
+    mExecutor.allowCoreThreadTimeOut(true);
+    mLocations = CacheBuilder.newBuilder()
+        .maximumSize(conf.getInt(Constants.MASTER_UFS_BLOCK_LOCATION_CACHE_MAX_BLOCKS))
+        .expireAfterWrite(conf.getLong(Constants.MASTER_UFS_BLOCK_LOCATION_CACHE_TTL_MS),
+            TimeUnit.MILLISECONDS).build();
+  }
+
+  /**
+   * Gets the locations of a block of a file in the under storage system, looking them up if they
+   * are not cached.
+   *
+   * @param ufsPath the path of the file in the under storage system
+   * @param offset the offset of the block in the file
+   * @return the locations of the block, which is empty if they could not be looked up in time
+   */
+  public List<WorkerNetAddress> get(String ufsPath, long offset) {
+    return get(ufsPath, Collections.singletonList(offset)).get(0);
+  }
+
+  /**
+   * Gets the locations of blocks of a file in the under storage system, looking up the ones which
+   * are not cached. All the lookups are started before waiting for any of them, and they share one
+   * timeout, so the request is delayed by at most the timeout however many blocks it asks for.
+   *
+   * @param ufsPath the path of the file in the under storage system
+   * @param offsets the offsets of the blocks in the file
+   * @return the locations of each block, in the order of the offsets; the locations of a block are
+   *         empty if they could not be looked up in time
+   */
+  public List<List<WorkerNetAddress>> get(String ufsPath, List<Long> offsets) {
+    List<List<WorkerNetAddress>> result = new ArrayList<List<WorkerNetAddress>>(offsets.size());
+    List<Future<List<WorkerNetAddress>>> lookups =
+        new ArrayList<Future<List<WorkerNetAddress>>>(offsets.size());
+    for (long offset : offsets) {
+      Key key = new Key(ufsPath, offset);
+      List<WorkerNetAddress> locations = mLocations.getIfPresent(key);
+      result.add(locations);
+      lookups.add(locations == null ? startLookup(key) : null);
+    }
+    long deadlineMs = System.currentTimeMillis() + mTimeoutMs;
+    for (int i = 0; i < offsets.size(); i ++) {
+      if (result.get(i) == null) {
+        result.set(i, await(lookups.get(i), ufsPath, offsets.get(i), deadlineMs));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Starts looking up the locations of a block, unless a lookup of the block is already running.
+   *
+   * @param key the block
+   * @return the lookup, or null if there are too many pending lookups to start another one
+   */
+  private Future<List<WorkerNetAddress>> startLookup(final Key key) {
+    Future<List<WorkerNetAddress>> lookup = mLookups.get(key);
+    if (lookup != null) {
+      return lookup;
+    }
+    FutureTask<List<WorkerNetAddress>> task =
+        new FutureTask<List<WorkerNetAddress>>(new Callable<List<WorkerNetAddress>>() {
+          @Override
+          public List<WorkerNetAddress> call() throws IOException {
+            try {
+              List<WorkerNetAddress> result = lookUp(key.mUfsPath, key.mOffset);
+              mLocations.put(key, result);
+              return result;
+            } finally {
+              mLookups.remove(key);
+            }
+          }
+        });
+    lookup = mLookups.putIfAbsent(key, task);
+    if (lookup != null) {
+      return lookup;
+    }
+    try {
+      mExecutor.execute(task);
+    } catch (RejectedExecutionException e) {
+      mLookups.remove(key);
+      LOG.warn("Too many pending lookups of block locations in the under storage system, "
+          + "skipping {} at offset {}", key.mUfsPath, key.mOffset);
+      return null;
+    }
+    return task;
+  }
+
+  /**
+   * Waits for a lookup of the locations of a block.
+   *
+   * @param lookup the lookup, or null if it could not be started
+   * @param ufsPath the path of the file in the under storage system
+   * @param offset the offset of the block in the file
+   * @param deadlineMs the time after which to stop waiting
+   * @return the locations of the block, which is empty if they could not be looked up in time
+   */
+  private List<WorkerNetAddress> await(Future<List<WorkerNetAddress>> lookup, String ufsPath,
+      long offset, long deadlineMs) {
+    if (lookup == null) {
+      return Collections.emptyList();
+    }
+    try {
+      long waitMs = Math.max(deadlineMs - System.currentTimeMillis(), 0);
+      return lookup.get(waitMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      LOG.warn("Looking up the block of {} at offset {} in the under storage system takes more "
+          + "than {}ms, continuing in the background", ufsPath, offset, mTimeoutMs);
+    } catch (ExecutionException e) {
+      LOG.debug("Failed to look up the block of {} at offset {} in the under storage system: {}",
+          ufsPath, offset, e.getCause().getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return Collections.emptyList();
+  }
+
+  /**
+   * Looks up the locations of a block of a file in the under storage system.
+   *
+   * @param ufsPath the path of the file in the under storage system
+   * @param offset the offset of the block in the file
+   * @return the locations of the block
+   * @throws IOException if the under storage system fails to look them up
+   */
+  private List<WorkerNetAddress> lookUp(String ufsPath, long offset) throws IOException {
+    UnderFileSystem ufs = UnderFileSystem.get(ufsPath, mConf);
+    List<String> locs = ufs.getFileLocations(ufsPath, offset);
+    List<WorkerNetAddress> locations = new ArrayList<WorkerNetAddress>();
+    if (locs != null) {
+      for (String loc : locs) {
+        String resolvedHost = loc;
+        int resolvedPort = -1;
+        try {
+          String[] ipport = loc.split(":");
+          if (ipport.length == 2) {
+            resolvedHost = ipport[0];
+            resolvedPort = Integer.parseInt(ipport[1]);
+          }
+        } catch (NumberFormatException nfe) {
+          continue;
+        }
+        // The resolved port is the data transfer port not the rpc port
+        locations.add(new WorkerNetAddress(resolvedHost, -1, resolvedPort, -1));
+      }
+    }
+    return Collections.unmodifiableList(locations);
+  }
+
+  /**
+   * A block of a file in the under storage system.
+   */
+  private static final class Key {
+    private final String mUfsPath;
+    private final long mOffset;
+
+    Key(String ufsPath, long offset) {
+      mUfsPath = ufsPath;
+      mOffset = offset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return mOffset == that.mOffset && mUfsPath.equals(that.mUfsPath);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(mUfsPath, mOffset);
+    }
+  }
+}
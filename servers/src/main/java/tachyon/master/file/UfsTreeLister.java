@@ -0,0 +1,311 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.file;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.base.Preconditions;
+
+import tachyon.Constants;
+import tachyon.TachyonURI;
+import tachyon.conf.TachyonConf;
+import tachyon.underfs.UnderFileSystem;
+import tachyon.util.ThreadFactoryUtils;
+import tachyon.util.io.PathUtils;
+
+/**
+ * Lists directory trees in the under storage system for the master to load their metadata. The
+ * directories of a tree are listed in parallel on a bounded pool of threads shared by all
+ * listings, and the status of the listed paths is looked up on the same threads in batches, so
+ * the round trips to a high latency under storage system overlap. The listed paths are handed to
+ * the loading thread through a bounded queue, in an order where a directory always comes before
+ * the paths in it. This class is thread safe.
+ */
+public final class UfsTreeLister {
+  /** The number of listed paths which may wait for the loading thread. */
+  private static final int QUEUED_PATHS = 4096;
+  /** The number of paths in a directory whose status is looked up by one task. */
+  private static final int PATHS_PER_TASK = 128;
+  /** The number of milliseconds between the checks whether a listing is closed. */
+  private static final long OFFER_INTERVAL_MS = 100;
+
+  private final TachyonConf mConf;
+  private final ThreadPoolExecutor mExecutor;
+
+  /**
+   * Creates a new instance of {@link UfsTreeLister}.
+   *
+   * @param conf the configuration of the master
+   */
+  UfsTreeLister(TachyonConf conf) {
+    mConf = conf;
+    int threads = conf.getInt(Constants.MASTER_LOAD_METADATA_THREADS);
+    mExecutor = new ThreadPoolExecutor(threads, threads, Constants.MINUTE_MS,
+        TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+        ThreadFactoryUtils.build("ufs-tree-lister-%d", true));
+    mExecutor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Starts listing the tree under a directory in the under storage system. The directory itself
+   * is not part of the listing.
+   *
+   * @param tachyonPath the Tachyon path the directory is loaded to
+   * @param ufsPath the path of the directory in the under storage system
+   * @return the listing, which must be closed
+   */
+  public Listing list(TachyonURI tachyonPath, String ufsPath) {
+    Listing listing = new Listing(UnderFileSystem.get(ufsPath, mConf));
+    listing.listDirectory(tachyonPath, ufsPath);
+    return listing;
+  }
+
+  /**
+   * The status of a path in the under storage system.
+   */
+  public static final class UfsPathStatus {
+    private final TachyonURI mTachyonPath;
+    private final boolean mDirectory;
+    private final long mBlockSizeBytes;
+    private final long mLength;
+
+    UfsPathStatus(TachyonURI tachyonPath, boolean directory, long blockSizeBytes, long length) {
+      mTachyonPath = tachyonPath;
+      mDirectory = directory;
+      mBlockSizeBytes = blockSizeBytes;
+      mLength = length;
+    }
+
+    /**
+     * @return the Tachyon path the path is loaded to
+     */
+    public TachyonURI getTachyonPath() {
+      return mTachyonPath;
+    }
+
+    /**
+     * @return whether the path is a directory
+     */
+    public boolean isDirectory() {
+      return mDirectory;
+    }
+
+    /**
+     * @return the block size of the file in bytes, or 0 for a directory
+     */
+    public long getBlockSizeBytes() {
+      return mBlockSizeBytes;
+    }
+
+    /**
+     * @return the length of the file in bytes, or 0 for a directory
+     */
+    public long getLength() {
+      return mLength;
+    }
+  }
+
+  /**
+   * A running listing of a tree. The listed paths are taken out with {@link #nextBatch(int)} by
+   * one thread; the listing stops at its first failure, which that thread gets thrown.
+   */
+  public final class Listing {
+    /** Marks the end of the listing in the queue of listed paths. */
+    private final UfsPathStatus mEnd = new UfsPathStatus(null, false, 0, 0);
+
+    private final UnderFileSystem mUfs;
+    private final BlockingQueue<UfsPathStatus> mPaths =
+        new ArrayBlockingQueue<UfsPathStatus>(QUEUED_PATHS);
+    /** The number of tasks of the listing which are running or waiting for a thread */
+    private final AtomicInteger mPendingTasks = new AtomicInteger();
+    private volatile IOException mFailure = null;
+    private volatile boolean mClosed = false;
+    private boolean mDone = false;
+
+    private Listing(UnderFileSystem ufs) {
+      mUfs = ufs;
+    }
+
+    /**
+     * Takes out the next listed paths, waiting for the first of them.
+     *
+     * @param maxPaths the maximum number of paths to take out
+     * @return the listed paths, which are empty once the whole tree is listed
+     * @throws IOException if the under storage system failed to list the tree
+     */
+    public List<UfsPathStatus> nextBatch(int maxPaths) throws IOException {
+      Preconditions.checkState(!mClosed, "The listing is closed");
+      List<UfsPathStatus> batch = new ArrayList<UfsPathStatus>();
+      while (!mDone && batch.isEmpty()) {
+        checkFailure();
+        UfsPathStatus first;
+        try {
+          first = mPaths.take();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException(e);
+        }
+        batch.add(first);
+        mPaths.drainTo(batch, maxPaths - 1);
+        if (batch.get(batch.size() - 1) == mEnd) {
+          batch.remove(batch.size() - 1);
+          mDone = true;
+        }
+      }
+      checkFailure();
+      return batch;
+    }
+
+    /**
+     * Stops the listing. The tasks of the listing which already run finish in the background.
+     */
+    public void close() {
+      mClosed = true;
+      mPaths.clear();
+    }
+
+    private void checkFailure() throws IOException {
+      if (mFailure != null) {
+        throw mFailure;
+      }
+    }
+
+    private void listDirectory(final TachyonURI tachyonPath, final String ufsPath) {
+      submit(new Runnable() {
+        @Override
+        public void run() {
+          String[] names;
+          try {
+            names = mUfs.list(ufsPath);
+          } catch (IOException e) {
+            fail(e);
+            return;
+          }
+          if (names == null) {
+            fail(new IOException("Failed to list " + ufsPath + " in the under storage system"));
+            return;
+          }
+          List<String> nameList = Arrays.asList(names);
+          for (int i = 0; i < names.length; i += PATHS_PER_TASK) {
+            lookUpStatus(tachyonPath, ufsPath,
+                nameList.subList(i, Math.min(names.length, i + PATHS_PER_TASK)));
+          }
+        }
+      });
+    }
+
+    private void lookUpStatus(final TachyonURI tachyonPath, final String ufsPath,
+        final List<String> names) {
+      submit(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            for (String name : names) {
+              // An empty name would list the directory again.
+              if (name.isEmpty() || isStopped()) {
+                continue;
+              }
+              String ufsChild = PathUtils.concatPath(ufsPath, name);
+              TachyonURI tachyonChild = tachyonPath.join(name);
+              if (mUfs.isFile(ufsChild)) {
+                offer(new UfsPathStatus(tachyonChild, false, mUfs.getBlockSizeByte(ufsChild),
+                    mUfs.getFileSize(ufsChild)));
+              } else if (offer(new UfsPathStatus(tachyonChild, true, 0, 0))) {
+                // The directory is queued before the paths in it are listed.
+                listDirectory(tachyonChild, ufsChild);
+              }
+            }
+          } catch (IOException e) {
+            fail(e);
+          }
+        }
+      });
+    }
+
+    /**
+     * Runs a task of the listing, ending the listing after the last task finishes.
+     *
+     * @param task the task
+     */
+    private void submit(final Runnable task) {
+      mPendingTasks.incrementAndGet();
+      try {
+        mExecutor.execute(new Runnable() {
+          @Override
+          public void run() {
+            try {
+              if (!isStopped()) {
+                task.run();
+              }
+            } finally {
+              finishTask();
+            }
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        fail(new IOException(e));
+        finishTask();
+      }
+    }
+
+    private void finishTask() {
+      if (mPendingTasks.decrementAndGet() == 0) {
+        offer(mEnd);
+      }
+    }
+
+    private void fail(IOException e) {
+      if (mFailure == null) {
+        mFailure = e;
+      }
+    }
+
+    private boolean isStopped() {
+      return mClosed || mFailure != null;
+    }
+
+    /**
+     * Queues a listed path for the loading thread, waiting while the queue is full.
+     *
+     * @param status the status of the path
+     * @return whether the path was queued, which is false if the listing was closed
+     */
+    private boolean offer(UfsPathStatus status) {
+      try {
+        while (!mPaths.offer(status, OFFER_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+          if (mClosed) {
+            return false;
+          }
+        }
+        return true;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        fail(new IOException(e));
+        return false;
+      }
+    }
+  }
+}
@@ -15,6 +15,9 @@
 
 package tachyon.master.file.meta;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
 import tachyon.master.journal.JournalEntryRepresentable;
 import tachyon.security.authorization.PermissionStatus;
 import tachyon.thrift.FileInfo;
@@ -23,6 +26,11 @@ import tachyon.thrift.FileInfo;
  * {@link Inode} is an abstract class, with information shared by all types of Inodes.
  */
 public abstract class Inode implements JournalEntryRepresentable {
+  /**
+   * Interns the user and group names, so that the inodes of the same owner share a single copy of
+   * each name instead of holding their own.
+   */
+  private static final Interner<String> NAME_INTERNER = Interners.newWeakInterner();
 
   /**
    * Builder for {@link Inode}.
@@ -181,8 +189,8 @@ public abstract class Inode implements JournalEntryRepresentable {
     mParentId = builder.mParentId;
     mPinned = builder.mPinned;
     if (builder.mPermissionStatus != null) {
-      mUserName = builder.mPermissionStatus.getUserName();
-      mGroupName = builder.mPermissionStatus.getGroupName();
+      mUserName = intern(builder.mPermissionStatus.getUserName());
+      mGroupName = intern(builder.mPermissionStatus.getGroupName());
       mPermission = builder.mPermissionStatus.getPermission().toShort();
     }
   }
@@ -354,7 +362,7 @@ public abstract class Inode implements JournalEntryRepresentable {
    * @param userName the user name of the inode
    */
   public synchronized void setUserName(String userName) {
-    mUserName = userName;
+    mUserName = intern(userName);
   }
 
   /**
@@ -368,7 +376,7 @@ public abstract class Inode implements JournalEntryRepresentable {
    * @param groupName the group name of the inode
    */
   public synchronized void setGroupName(String groupName) {
-    mGroupName = groupName;
+    mGroupName = intern(groupName);
   }
 
   /**
@@ -385,6 +393,10 @@ public abstract class Inode implements JournalEntryRepresentable {
     mPermission = permission;
   }
 
+  private static String intern(String name) {
+    return name == null ? null : NAME_INTERNER.intern(name);
+  }
+
   @Override
   public synchronized String toString() {
     return new StringBuilder("Inode(")
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.file.meta;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The children of an {@link InodeDirectory}, indexed by name. Most directories have few children,
+ * so they are kept in an array sorted by name, which is searched with a binary search and costs a
+ * single reference per child. Once a directory grows past {@link #MAX_ARRAY_SIZE} children, they
+ * are moved to a hash map, and back to an array when the directory shrinks to half that size.
+ *
+ * Children are looked up by id only by scanning them; for large directories, an index by id is
+ * built on the first such lookup and dropped on the next change, as the master itself never looks
+ * up children by id on a hot path.
+ *
+ * The name of a child must not change while it is in the directory. This class is not thread
+ * safe; {@link InodeDirectory} synchronizes access to it.
+ */
+final class InodeChildren {
+  /** The maximum number of children kept in a sorted array. */
+  static final int MAX_ARRAY_SIZE = 64;
+
+  private static final Inode[] EMPTY = new Inode[0];
+
+  private static final Comparator<Inode> NAME_ORDER = new Comparator<Inode>() {
+    @Override
+    public int compare(Inode a, Inode b) {
+      return a.getName().compareTo(b.getName());
+    }
+  };
+
+  /** The children sorted by name, or null if they are kept in {@link #mByName} instead. */
+  private Inode[] mArray = EMPTY;
+  /** Map from name to child, used instead of {@link #mArray} for large directories. */
+  private Map<String, Inode> mByName = null;
+  /** Map from id to child, built on demand for large directories, otherwise null. */
+  private Map<Long, Inode> mById = null;
+
+  /**
+   * Adds a child, unless there already is a child with the same name.
+   *
+   * @param child the child to add
+   * @return true if the child was added, false otherwise
+   */
+  boolean add(Inode child) {
+    String name = child.getName();
+    if (mArray != null) {
+      int index = search(name);
+      if (index >= 0) {
+        return false;
+      }
+      if (mArray.length < MAX_ARRAY_SIZE) {
+        int insertion = -index - 1;
+        Inode[] array = new Inode[mArray.length + 1];
+        System.arraycopy(mArray, 0, array, 0, insertion);
+        array[insertion] = child;
+        System.arraycopy(mArray, insertion, array, insertion + 1, mArray.length - insertion);
+        mArray = array;
+        return true;
+      }
+      toMap();
+    }
+    if (mByName.containsKey(name)) {
+      return false;
+    }
+    mByName.put(name, child);
+    mById = null;
+    return true;
+  }
+
+  /**
+   * @param name the name of a child
+   * @return the child with the given name, or null if there is none
+   */
+  Inode get(String name) {
+    if (mArray != null) {
+      int index = search(name);
+      return index >= 0 ? mArray[index] : null;
+    }
+    return mByName.get(name);
+  }
+
+  /**
+   * @param id the id of a child
+   * @return the child with the given id, or null if there is none
+   */
+  Inode get(long id) {
+    if (mArray != null) {
+      for (Inode child : mArray) {
+        if (child.getId() == id) {
+          return child;
+        }
+      }
+      return null;
+    }
+    if (mById == null) {
+      mById = new HashMap<Long, Inode>(mByName.size());
+      for (Inode child : mByName.values()) {
+        mById.put(child.getId(), child);
+      }
+    }
+    return mById.get(id);
+  }
+
+  /**
+   * Removes a child.
+   *
+   * @param child the child to remove
+   * @return true if the child was removed, false if it is not in the directory
+   */
+  boolean remove(Inode child) {
+    Inode existing = get(child.getName());
+    if (existing != null && existing.equals(child)) {
+      return remove(child.getName());
+    }
+    // The child is not under its current name, look for it by id.
+    existing = get(child.getId());
+    return existing != null && remove(existing.getName());
+  }
+
+  /**
+   * Removes the child with the given name.
+   *
+   * @param name the name of the child to remove
+   * @return true if the child was removed, false if there is no child with the given name
+   */
+  boolean remove(String name) {
+    if (mArray != null) {
+      int index = search(name);
+      if (index < 0) {
+        return false;
+      }
+      Inode[] array = mArray.length == 1 ? EMPTY : new Inode[mArray.length - 1];
+      System.arraycopy(mArray, 0, array, 0, index);
+      System.arraycopy(mArray, index + 1, array, index, mArray.length - index - 1);
+      mArray = array;
+      return true;
+    }
+    if (mByName.remove(name) == null) {
+      return false;
+    }
+    mById = null;
+    if (mByName.size() <= MAX_ARRAY_SIZE / 2) {
+      toArray();
+    }
+    return true;
+  }
+
+  /**
+   * @return the number of children
+   */
+  int size() {
+    return mArray != null ? mArray.length : mByName.size();
+  }
+
+  /**
+   * @return an unmodifiable view of the children, which must not be used after the children change
+   */
+  Collection<Inode> values() {
+    if (mArray != null) {
+      return Collections.unmodifiableList(Arrays.asList(mArray));
+    }
+    return Collections.unmodifiableCollection(mByName.values());
+  }
+
+  /**
+   * @param name the name to search for
+   * @return the index of the child with the given name in the array if there is one, otherwise
+   *         (-(insertion point) - 1), as {@link Arrays#binarySearch(Object[], Object)} does
+   */
+  private int search(String name) {
+    int low = 0;
+    int high = mArray.length - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = mArray[mid].getName().compareTo(name);
+      if (cmp < 0) {
+        low = mid + 1;
+      } else if (cmp > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  private void toMap() {
+    mByName = new HashMap<String, Inode>(mArray.length * 2);
+    for (Inode child : mArray) {
+      mByName.put(child.getName(), child);
+    }
+    mArray = null;
+  }
+
+  private void toArray() {
+    Inode[] array = mByName.values().toArray(new Inode[mByName.size()]);
+    Arrays.sort(array, NAME_ORDER);
+    mArray = array;
+    mByName = null;
+  }
+}
@@ -21,7 +21,6 @@ import java.util.Set;
 import com.google.common.collect.ImmutableSet;
 
 import tachyon.Constants;
-import tachyon.collections.IndexedSet;
 import tachyon.proto.journal.File.InodeDirectoryEntry;
 import tachyon.proto.journal.Journal.JournalEntry;
 import tachyon.security.authorization.PermissionStatus;
@@ -61,29 +60,15 @@ public final class InodeDirectory extends Inode {
     }
   }
 
-  private IndexedSet.FieldIndex<Inode> mIdIndex = new IndexedSet.FieldIndex<Inode>() {
-    @Override
-    public Object getFieldValue(Inode o) {
-      return o.getId();
-    }
-  };
-
-  private IndexedSet.FieldIndex<Inode> mNameIndex = new IndexedSet.FieldIndex<Inode>() {
-    @Override
-    public Object getFieldValue(Inode o) {
-      return o.getName();
-    }
-  };
-
-  @SuppressWarnings("unchecked")
-  private IndexedSet<Inode> mChildren = new IndexedSet<Inode>(mIdIndex, mNameIndex);
+  private final InodeChildren mChildren = new InodeChildren();
 
   private InodeDirectory(InodeDirectory.Builder builder) {
     super(builder);
   }
 
   /**
-   * Adds the given inode to the set of children.
+   * Adds the given inode to the set of children, unless the directory already has a child with the
+   * same name.
    *
    * @param child the inode to add
    */
@@ -126,7 +111,7 @@ public final class InodeDirectory extends Inode {
    * @return the inode with the given id, or null if there is no child with that id
    */
   public synchronized Inode getChild(long id) {
-    return mChildren.getFirstByField(mIdIndex, id);
+    return mChildren.get(id);
   }
 
   /**
@@ -134,14 +119,14 @@ public final class InodeDirectory extends Inode {
    * @return the inode with the given name, or null if there is no child with that name
    */
   public synchronized Inode getChild(String name) {
-    return mChildren.getFirstByField(mNameIndex, name);
+    return mChildren.get(name);
   }
 
   /**
    * @return an unmodifiable set of the children inodes
    */
   public synchronized Set<Inode> getChildren() {
-    return ImmutableSet.copyOf(mChildren.iterator());
+    return ImmutableSet.copyOf(mChildren.values());
   }
 
   /**
@@ -149,7 +134,7 @@ public final class InodeDirectory extends Inode {
    */
   public synchronized Set<Long> getChildrenIds() {
     Set<Long> ret = new HashSet<Long>(mChildren.size());
-    for (Inode child : mChildren) {
+    for (Inode child : mChildren.values()) {
       ret.add(child.getId());
     }
     return ret;
@@ -179,7 +164,7 @@ public final class InodeDirectory extends Inode {
    * @return true if the inode was removed, false otherwise
    */
   public synchronized boolean removeChild(String name) {
-    return mChildren.removeByField(mNameIndex, name);
+    return mChildren.remove(name);
   }
 
   @Override
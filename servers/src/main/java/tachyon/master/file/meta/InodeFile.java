@@ -16,10 +16,11 @@
 package tachyon.master.file.meta;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
 
 import tachyon.Constants;
 import tachyon.exception.BlockInfoException;
@@ -39,6 +40,7 @@ public final class InodeFile extends Inode {
   /** This default umask is used to calculate file permission from directory permission. */
   private static final FileSystemPermission UMASK =
       new FileSystemPermission(Constants.FILE_DIR_PERMISSION_DIFF);
+  private static final long[] NO_BLOCKS = new long[0];
 
   /**
    * Builder for {@link InodeFile}.
@@ -130,8 +132,10 @@ public final class InodeFile extends Inode {
 
   private long mBlockSizeBytes;
 
-  // list of block ids.
-  private List<Long> mBlocks;
+  // block ids, in a primitive array to avoid boxing; only the first mNumBlocks are in use.
+  private long[] mBlocks;
+
+  private int mNumBlocks;
 
   private boolean mCacheable;
 
@@ -146,7 +150,8 @@ public final class InodeFile extends Inode {
     super(builder);
     mBlockContainerId = builder.mBlockContainerId;
     mBlockSizeBytes = builder.mBlockSizeBytes;
-    mBlocks = new ArrayList<Long>(3);
+    mBlocks = NO_BLOCKS;
+    mNumBlocks = 0;
     mCacheable = builder.mCacheable;
     mCompleted = false;
     mLength = 0;
@@ -183,7 +188,8 @@ public final class InodeFile extends Inode {
    * Resets the file inode.
    */
   public void reset() {
-    mBlocks = Lists.newArrayList();
+    mBlocks = NO_BLOCKS;
+    mNumBlocks = 0;
     mLength = 0;
     mCompleted = false;
     mCacheable = false;
@@ -208,7 +214,7 @@ public final class InodeFile extends Inode {
    * @return a duplication of all the block ids of the file
    */
   public synchronized List<Long> getBlockIds() {
-    return new ArrayList<Long>(mBlocks);
+    return new ArrayList<Long>(Longs.asList(Arrays.copyOf(mBlocks, mNumBlocks)));
   }
 
   /**
@@ -229,12 +235,15 @@ public final class InodeFile extends Inode {
    * @return the id of a new block of the file
    */
   public synchronized long getNewBlockId() {
-    long blockId = BlockId.createBlockId(mBlockContainerId, mBlocks.size());
+    long blockId = BlockId.createBlockId(mBlockContainerId, mNumBlocks);
     // TODO(gene): Check for max block sequence number, and sanity check the sequence number.
     // TODO(gene): Check isComplete?
     // TODO(gene): This will not work with existing lineage implementation, since a new writer will
     // not be able to get the same block ids (to write the same block ids).
-    mBlocks.add(blockId);
+    if (mNumBlocks == mBlocks.length) {
+      mBlocks = Arrays.copyOf(mBlocks, Math.max(mNumBlocks * 2, 1));
+    }
+    mBlocks[mNumBlocks ++] = blockId;
     return blockId;
   }
 
@@ -246,11 +255,11 @@ public final class InodeFile extends Inode {
    * @throws BlockInfoException if the index of the block is out of range
    */
   public synchronized long getBlockIdByIndex(int blockIndex) throws BlockInfoException {
-    if (blockIndex < 0 || blockIndex >= mBlocks.size()) {
+    if (blockIndex < 0 || blockIndex >= mNumBlocks) {
       throw new BlockInfoException(
-          "blockIndex " + blockIndex + " is out of range. File blocks: " + mBlocks.size());
+          "blockIndex " + blockIndex + " is out of range. File blocks: " + mNumBlocks);
     }
-    return mBlocks.get(blockIndex);
+    return mBlocks[blockIndex];
   }
 
   /**
@@ -273,7 +282,8 @@ public final class InodeFile extends Inode {
    * @param blockIds the id's of the block
    */
   public synchronized void setBlockIds(List<Long> blockIds) {
-    mBlocks = Lists.newArrayList(Preconditions.checkNotNull(blockIds));
+    mBlocks = Longs.toArray(Preconditions.checkNotNull(blockIds));
+    mNumBlocks = mBlocks.length;
   }
 
   /**
@@ -316,12 +326,17 @@ public final class InodeFile extends Inode {
     }
     mCompleted = true;
     mLength = length;
-    mBlocks.clear();
+    // The number of blocks is known, so the block ids are allocated at their exact size.
+    int numBlocks = 0;
     while (length > 0) {
-      long blockSize = Math.min(length, mBlockSizeBytes);
-      getNewBlockId();
-      length -= blockSize;
+      numBlocks ++;
+      length -= Math.min(length, mBlockSizeBytes);
+    }
+    mBlocks = numBlocks == 0 ? NO_BLOCKS : new long[numBlocks];
+    for (int i = 0; i < numBlocks; i ++) {
+      mBlocks[i] = BlockId.createBlockId(mBlockContainerId, i);
     }
+    mNumBlocks = numBlocks;
   }
 
   @Override
@@ -331,7 +346,7 @@ public final class InodeFile extends Inode {
     sb.append(", Cacheable: ").append(mCacheable);
     sb.append(", Completed: ").append(mCompleted);
     sb.append(", Cacheable: ").append(mCacheable);
-    sb.append(", mBlocks: ").append(mBlocks);
+    sb.append(", mBlocks: ").append(Arrays.toString(Arrays.copyOf(mBlocks, mNumBlocks)));
     sb.append(", mTtl: ").append(mTtl);
     sb.append(")");
     return sb.toString();
@@ -385,7 +400,7 @@ public final class InodeFile extends Inode {
         .setLength(getLength())
         .setCompleted(isCompleted())
         .setCacheable(isCacheable())
-        .addAllBlocks(mBlocks)
+        .addAllBlocks(getBlockIds())
         .setTtl(mTtl)
         .setUserName(getUserName())
         .setGroupName(getGroupName())
@@ -17,7 +17,6 @@ package tachyon.master.file.meta;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
@@ -29,7 +28,6 @@ import org.slf4j.LoggerFactory;
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
 import com.google.protobuf.Message;
 
 import tachyon.Constants;
@@ -51,6 +49,7 @@ import tachyon.proto.journal.File.InodeDirectoryEntry;
 import tachyon.proto.journal.File.InodeFileEntry;
 import tachyon.proto.journal.Journal.JournalEntry;
 import tachyon.security.authorization.PermissionStatus;
+import tachyon.thrift.PinListDelta;
 import tachyon.underfs.UnderFileSystem;
 import tachyon.util.FormatUtils;
 import tachyon.util.io.PathUtils;
@@ -81,7 +80,7 @@ public final class InodeTree implements JournalCheckpointStreamable {
   @SuppressWarnings("unchecked")
   private final IndexedSet<Inode> mInodes = new IndexedSet<Inode>(mIdIndex);
   /** A set of inode ids representing pinned inode files */
-  private final Set<Long> mPinnedInodeFileIds = new HashSet<Long>();
+  private final PinList mPinnedInodeFileIds = new PinList();
 
   /**
    * Inode id management. Inode ids are essentially block ids.
@@ -454,7 +453,15 @@ public final class InodeTree implements JournalCheckpointStreamable {
    * @return the set of file ids which are pinned
    */
   public Set<Long> getPinIdSet() {
-    return Sets.newHashSet(mPinnedInodeFileIds);
+    return mPinnedInodeFileIds.getFileIds();
+  }
+
+  /**
+   * @param version the version of the pin list last seen by the caller
+   * @return the changes to the set of pinned file ids since the given version
+   */
+  public PinListDelta getPinListDelta(long version) {
+    return mPinnedInodeFileIds.getDelta(version);
   }
 
   /**
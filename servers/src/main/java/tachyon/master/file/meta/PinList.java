@@ -0,0 +1,192 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.file.meta;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.Sets;
+
+import tachyon.thrift.PinListDelta;
+
+/**
+ * The ids of the pinned files, with a version which is increased on every change and a bounded log
+ * of the recent changes, so that a worker which saw an earlier version only needs to be sent the
+ * ids added and removed since. A worker whose version is older than the log, or unknown, is sent
+ * the whole set instead.
+ * <p/>
+ * The first version is random, so that a version handed out by another master, or by this master
+ * before a restart, is all but certain to be unknown here rather than mistaken for a version of
+ * this list. This class is not thread safe, access must be guarded by the lock of the inode tree.
+ */
+public final class PinList {
+  /** The maximum number of changes kept in the log. */
+  static final int MAX_LOG_SIZE = 100000;
+  private static final Random RANDOM = new Random();
+
+  private final Set<Long> mFileIds = new HashSet<Long>();
+  /** The changes since {@link #mLogStartVersion}, oldest first. */
+  private final ArrayDeque<Change> mLog = new ArrayDeque<Change>();
+  private final int mMaxLogSize;
+  /** The version of the list, increased on every change. */
+  private long mVersion;
+  /** The earliest version from which the changes are known. */
+  private long mLogStartVersion;
+
+  /**
+   * A change of the pinned state of a file.
+   */
+  private static final class Change {
+    private final long mFileId;
+    private final boolean mPinned;
+
+    Change(long fileId, boolean pinned) {
+      mFileId = fileId;
+      mPinned = pinned;
+    }
+  }
+
+  /**
+   * Creates a new empty {@link PinList}.
+   */
+  public PinList() {
+    this(MAX_LOG_SIZE);
+  }
+
+  /**
+   * Creates a new empty {@link PinList}.
+   *
+   * @param maxLogSize the maximum number of changes kept in the log
+   */
+  PinList(int maxLogSize) {
+    mMaxLogSize = maxLogSize;
+    // Leave plenty of room below Long.MAX_VALUE for the versions to grow.
+    mVersion = (RANDOM.nextLong() >>> 2) + 1;
+    mLogStartVersion = mVersion;
+  }
+
+  /**
+   * @param fileId the id of the file to pin
+   */
+  public void add(long fileId) {
+    if (mFileIds.add(fileId)) {
+      log(new Change(fileId, true));
+    }
+  }
+
+  /**
+   * @param fileId the id of the file to unpin
+   */
+  public void remove(long fileId) {
+    if (mFileIds.remove(fileId)) {
+      log(new Change(fileId, false));
+    }
+  }
+
+  /**
+   * Unpins all files. The changes are not logged, every worker gets the whole set next time.
+   */
+  public void clear() {
+    mFileIds.clear();
+    mLog.clear();
+    mVersion ++;
+    mLogStartVersion = mVersion;
+  }
+
+  /**
+   * @return the number of pinned files
+   */
+  public int size() {
+    return mFileIds.size();
+  }
+
+  /**
+   * @return the current version of the list
+   */
+  public long getVersion() {
+    return mVersion;
+  }
+
+  /**
+   * @return a copy of the ids of the pinned files
+   */
+  public Set<Long> getFileIds() {
+    return Sets.newHashSet(mFileIds);
+  }
+
+  /**
+   * Gets the changes to the list since the given version. Only the last change of each file is
+   * included, so a file pinned and unpinned again is listed as removed.
+   *
+   * @param version the version of the list last seen by the caller
+   * @return the ids added and removed since the version, or the whole set marked as full if the
+   *         changes since the version are not known
+   */
+  public PinListDelta getDelta(long version) {
+    if (version < mLogStartVersion || version > mVersion) {
+      return new PinListDelta(mVersion, true, new ArrayList<Long>(mFileIds),
+          new ArrayList<Long>());
+    }
+    // Walk the log back from the latest change, so that a caller which is up to date costs nothing,
+    // and the first change seen for a file is its last one.
+    Set<Long> changed = new HashSet<Long>();
+    List<Long> added = new ArrayList<Long>();
+    List<Long> removed = new ArrayList<Long>();
+    Iterator<Change> iterator = mLog.descendingIterator();
+    for (long changeVersion = mVersion; changeVersion > version; changeVersion --) {
+      Change change = iterator.next();
+      if (changed.add(change.mFileId)) {
+        if (change.mPinned) {
+          added.add(change.mFileId);
+        } else {
+          removed.add(change.mFileId);
+        }
+      }
+    }
+    return new PinListDelta(mVersion, false, added, removed);
+  }
+
+  private void log(Change change) {
+    mLog.addLast(change);
+    mVersion ++;
+    if (mLog.size() > mMaxLogSize) {
+      mLog.removeFirst();
+      mLogStartVersion ++;
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return mFileIds.hashCode();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof PinList)) {
+      return false;
+    }
+    return Objects.equal(mFileIds, ((PinList) o).mFileIds);
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.journal;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Preconditions;
+
+import tachyon.Constants;
+import tachyon.exception.ExceptionMessage;
+import tachyon.proto.journal.Journal.JournalEntry;
+
+/**
+ * Writes journal entries to the log files in groups. Entries are appended to an in-memory queue,
+ * and a dedicated flusher thread writes out everything queued so far with a single flush (and,
+ * on HDFS, a single sync) of the journal. Every appended entry is given a flush counter, and a
+ * caller which needs its entries to be durable waits for that counter with
+ * {@link #flush(long)}. Callers should wait only after releasing the locks they hold, so that
+ * concurrent callers can get their entries into the same flush.
+ *
+ * Entries are written in the order they are appended, so a master must append the entries of a
+ * mutation while it still holds the lock which orders its mutations. This class is thread safe.
+ */
+public final class AsyncJournalWriter {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  /** The flush counter which is never waited for, meaning nothing was appended. */
+  public static final long INVALID_FLUSH_COUNTER = -1;
+
+  private final JournalWriter mJournalWriter;
+  private final Thread mFlusher;
+
+  /** The entries which were appended but not written out yet. */
+  private final Queue<JournalEntry> mQueue = new ArrayDeque<JournalEntry>();
+  /** The number of entries appended so far, which is also the counter of the last one. */
+  private long mAppendCounter = 0;
+  /** The number of entries written out and flushed so far. */
+  private long mFlushCounter = 0;
+  /** The failure of the flusher thread, after which no more entries are written. */
+  private IOException mFailure = null;
+  private boolean mClosed = false;
+
+  /**
+   * Creates a new instance of {@link AsyncJournalWriter}, and starts its flusher thread.
+   *
+   * @param journalWriter the journal writer to write the entries with; its checkpoint must be
+   *        written before any entry is appended
+   * @param name the name of the journal, used to name the flusher thread
+   */
+  public AsyncJournalWriter(JournalWriter journalWriter, String name) {
+    mJournalWriter = Preconditions.checkNotNull(journalWriter);
+    mFlusher = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        runFlusher();
+      }
+    }, name + "-JournalFlusher");
+    mFlusher.setDaemon(true);
+    mFlusher.start();
+  }
+
+  /**
+   * Appends an entry to the journal. The entry is not durable until {@link #flush(long)} returns
+   * for the returned counter.
+   *
+   * @param entry the entry to append; its sequence number is set when it is written out
+   * @return the flush counter of the entry
+   * @throws IOException if the journal is closed, or failed to write earlier entries
+   */
+  public synchronized long appendEntry(JournalEntry entry) throws IOException {
+    if (mClosed) {
+      throw new IOException(ExceptionMessage.JOURNAL_WRITE_AFTER_CLOSE.getMessage());
+    }
+    if (mFailure != null) {
+      throw new IOException(mFailure);
+    }
+    mQueue.add(entry);
+    mAppendCounter ++;
+    notifyAll();
+    return mAppendCounter;
+  }
+
+  /**
+   * @return the flush counter of the last appended entry, or {@link #INVALID_FLUSH_COUNTER} if no
+   *         entry was appended yet
+   */
+  public synchronized long getAppendCounter() {
+    return mAppendCounter == 0 ? INVALID_FLUSH_COUNTER : mAppendCounter;
+  }
+
+  /**
+   * Waits until the entry with the given flush counter, and every entry appended before it, is
+   * flushed to the journal.
+   *
+   * @param counter the flush counter returned by {@link #appendEntry(JournalEntry)}
+   * @throws IOException if the entries could not be flushed, or the wait was interrupted
+   */
+  public synchronized void flush(long counter) throws IOException {
+    if (counter == INVALID_FLUSH_COUNTER) {
+      return;
+    }
+    Preconditions.checkArgument(counter <= mAppendCounter,
+        "Flush counter %s was never handed out", counter);
+    while (mFlushCounter < counter) {
+      if (mFailure != null) {
+        throw new IOException(mFailure);
+      }
+      try {
+        wait();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException(e);
+      }
+    }
+  }
+
+  /**
+   * Flushes the entries appended so far, and stops the flusher thread. The underlying
+   * {@link JournalWriter} is not closed.
+   *
+   * @throws IOException if the remaining entries could not be flushed
+   */
+  public void close() throws IOException {
+    synchronized (this) {
+      if (mClosed) {
+        return;
+      }
+      mClosed = true;
+      notifyAll();
+    }
+    try {
+      mFlusher.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    }
+    synchronized (this) {
+      if (mFailure != null) {
+        throw new IOException(mFailure);
+      }
+    }
+  }
+
+  /**
+   * Writes out the queued entries in batches until the writer is closed and the queue is empty, or
+   * a batch fails.
+   */
+  private void runFlusher() {
+    while (true) {
+      List<JournalEntry> batch;
+      long batchCounter;
+      synchronized (this) {
+        while (mQueue.isEmpty() && !mClosed) {
+          try {
+            wait();
+          } catch (InterruptedException e) {
+            // Only close() stops the flusher, so that no appended entry is lost.
+            LOG.warn("Journal flusher {} was interrupted", mFlusher.getName());
+          }
+        }
+        if (mQueue.isEmpty()) {
+          return;
+        }
+        batch = new ArrayList<JournalEntry>(mQueue);
+        mQueue.clear();
+        batchCounter = mAppendCounter;
+      }
+      try {
+        JournalOutputStream outputStream = mJournalWriter.getEntryOutputStream();
+        for (JournalEntry entry : batch) {
+          outputStream.writeEntry(entry);
+        }
+        outputStream.flush();
+      } catch (IOException e) {
+        LOG.error("Failed to flush {} journal entries", batch.size(), e);
+        synchronized (this) {
+          mFailure = e;
+          mQueue.clear();
+          notifyAll();
+        }
+        return;
+      }
+      synchronized (this) {
+        mFlushCounter = batchCounter;
+        notifyAll();
+      }
+    }
+  }
+}
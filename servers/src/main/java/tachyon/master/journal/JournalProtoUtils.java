@@ -42,6 +42,8 @@ public final class JournalProtoUtils {
         return entry.getCompleteFile();
       case DELETE_FILE:
         return entry.getDeleteFile();
+      case DELETE_FILES:
+        return entry.getDeleteFiles();
       case DELETE_LINEAGE:
         return entry.getDeleteLineage();
       case DELETE_MOUNT_POINT:
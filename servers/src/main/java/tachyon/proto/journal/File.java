@@ -2331,6 +2331,646 @@ public final class File {
     // @@protoc_insertion_point(class_scope:tachyon.proto.journal.DeleteFileEntry)
   }
 
+  public interface DeleteFilesEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:tachyon.proto.journal.DeleteFilesEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated int64 ids = 1;</code>
+     */
+    java.util.List<java.lang.Long> getIdsList();
+    /**
+     * <code>repeated int64 ids = 1;</code>
+     */
+    int getIdsCount();
+    /**
+     * <code>repeated int64 ids = 1;</code>
+     */
+    long getIds(int index);
+
+    /**
+     * <code>optional bool recursive = 2;</code>
+     */
+    boolean hasRecursive();
+    /**
+     * <code>optional bool recursive = 2;</code>
+     */
+    boolean getRecursive();
+
+    /**
+     * <code>optional int64 op_time_ms = 3;</code>
+     */
+    boolean hasOpTimeMs();
+    /**
+     * <code>optional int64 op_time_ms = 3;</code>
+     */
+    long getOpTimeMs();
+  }
+  /**
+   * Protobuf type {@code tachyon.proto.journal.DeleteFilesEntry}
+   *
+   * <pre>
+   * Deletes several files at once, in order, with one journal entry.
+   * next available id: 4
+   * </pre>
+   */
+  public static final class DeleteFilesEntry extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:tachyon.proto.journal.DeleteFilesEntry)
+      DeleteFilesEntryOrBuilder {
+    // Use DeleteFilesEntry.newBuilder() to construct.
+    private DeleteFilesEntry(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private DeleteFilesEntry(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final DeleteFilesEntry defaultInstance;
+    public static DeleteFilesEntry getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public DeleteFilesEntry getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DeleteFilesEntry(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                ids_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              ids_.add(input.readInt64());
+              break;
+            }
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001) && input.getBytesUntilLimit() > 0) {
+                ids_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                ids_.add(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000001;
+              recursive_ = input.readBool();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000002;
+              opTimeMs_ = input.readInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          ids_ = java.util.Collections.unmodifiableList(ids_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return tachyon.proto.journal.File.internal_static_tachyon_proto_journal_DeleteFilesEntry_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return tachyon.proto.journal.File.internal_static_tachyon_proto_journal_DeleteFilesEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              tachyon.proto.journal.File.DeleteFilesEntry.class, tachyon.proto.journal.File.DeleteFilesEntry.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<DeleteFilesEntry> PARSER =
+        new com.google.protobuf.AbstractParser<DeleteFilesEntry>() {
+      public DeleteFilesEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DeleteFilesEntry(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeleteFilesEntry> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int IDS_FIELD_NUMBER = 1;
+    private java.util.List<java.lang.Long> ids_;
+    /**
+     * <code>repeated int64 ids = 1;</code>
+     */
+    public java.util.List<java.lang.Long>
+        getIdsList() {
+      return ids_;
+    }
+    /**
+     * <code>repeated int64 ids = 1;</code>
+     */
+    public int getIdsCount() {
+      return ids_.size();
+    }
+    /**
+     * <code>repeated int64 ids = 1;</code>
+     */
+    public long getIds(int index) {
+      return ids_.get(index);
+    }
+
+    public static final int RECURSIVE_FIELD_NUMBER = 2;
+    private boolean recursive_;
+    /**
+     * <code>optional bool recursive = 2;</code>
+     */
+    public boolean hasRecursive() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional bool recursive = 2;</code>
+     */
+    public boolean getRecursive() {
+      return recursive_;
+    }
+
+    public static final int OP_TIME_MS_FIELD_NUMBER = 3;
+    private long opTimeMs_;
+    /**
+     * <code>optional int64 op_time_ms = 3;</code>
+     */
+    public boolean hasOpTimeMs() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int64 op_time_ms = 3;</code>
+     */
+    public long getOpTimeMs() {
+      return opTimeMs_;
+    }
+
+    private void initFields() {
+      ids_ = java.util.Collections.emptyList();
+      recursive_ = false;
+      opTimeMs_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < ids_.size(); i++) {
+        output.writeInt64(1, ids_.get(i));
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBool(2, recursive_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt64(3, opTimeMs_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < ids_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(ids_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getIdsList().size();
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, recursive_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, opTimeMs_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static tachyon.proto.journal.File.DeleteFilesEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static tachyon.proto.journal.File.DeleteFilesEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static tachyon.proto.journal.File.DeleteFilesEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static tachyon.proto.journal.File.DeleteFilesEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static tachyon.proto.journal.File.DeleteFilesEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static tachyon.proto.journal.File.DeleteFilesEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static tachyon.proto.journal.File.DeleteFilesEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static tachyon.proto.journal.File.DeleteFilesEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static tachyon.proto.journal.File.DeleteFilesEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static tachyon.proto.journal.File.DeleteFilesEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(tachyon.proto.journal.File.DeleteFilesEntry prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code tachyon.proto.journal.DeleteFilesEntry}
+     *
+     * <pre>
+     * Deletes several files at once, in order, with one journal entry.
+     * next available id: 4
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:tachyon.proto.journal.DeleteFilesEntry)
+        tachyon.proto.journal.File.DeleteFilesEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return tachyon.proto.journal.File.internal_static_tachyon_proto_journal_DeleteFilesEntry_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return tachyon.proto.journal.File.internal_static_tachyon_proto_journal_DeleteFilesEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                tachyon.proto.journal.File.DeleteFilesEntry.class, tachyon.proto.journal.File.DeleteFilesEntry.Builder.class);
+      }
+
+      // Construct using tachyon.proto.journal.File.DeleteFilesEntry.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        ids_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        recursive_ = false;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        opTimeMs_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return tachyon.proto.journal.File.internal_static_tachyon_proto_journal_DeleteFilesEntry_descriptor;
+      }
+
+      public tachyon.proto.journal.File.DeleteFilesEntry getDefaultInstanceForType() {
+        return tachyon.proto.journal.File.DeleteFilesEntry.getDefaultInstance();
+      }
+
+      public tachyon.proto.journal.File.DeleteFilesEntry build() {
+        tachyon.proto.journal.File.DeleteFilesEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public tachyon.proto.journal.File.DeleteFilesEntry buildPartial() {
+        tachyon.proto.journal.File.DeleteFilesEntry result = new tachyon.proto.journal.File.DeleteFilesEntry(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          ids_ = java.util.Collections.unmodifiableList(ids_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.ids_ = ids_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.recursive_ = recursive_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.opTimeMs_ = opTimeMs_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof tachyon.proto.journal.File.DeleteFilesEntry) {
+          return mergeFrom((tachyon.proto.journal.File.DeleteFilesEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(tachyon.proto.journal.File.DeleteFilesEntry other) {
+        if (other == tachyon.proto.journal.File.DeleteFilesEntry.getDefaultInstance()) return this;
+        if (!other.ids_.isEmpty()) {
+          if (ids_.isEmpty()) {
+            ids_ = other.ids_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureIdsIsMutable();
+            ids_.addAll(other.ids_);
+          }
+          onChanged();
+        }
+        if (other.hasRecursive()) {
+          setRecursive(other.getRecursive());
+        }
+        if (other.hasOpTimeMs()) {
+          setOpTimeMs(other.getOpTimeMs());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        tachyon.proto.journal.File.DeleteFilesEntry parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (tachyon.proto.journal.File.DeleteFilesEntry) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<java.lang.Long> ids_ = java.util.Collections.emptyList();
+      private void ensureIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          ids_ = new java.util.ArrayList<java.lang.Long>(ids_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       */
+      public java.util.List<java.lang.Long>
+          getIdsList() {
+        return java.util.Collections.unmodifiableList(ids_);
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       */
+      public int getIdsCount() {
+        return ids_.size();
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       */
+      public long getIds(int index) {
+        return ids_.get(index);
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       */
+      public Builder setIds(
+          int index, long value) {
+        ensureIdsIsMutable();
+        ids_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       */
+      public Builder addIds(long value) {
+        ensureIdsIsMutable();
+        ids_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       */
+      public Builder addAllIds(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, ids_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 ids = 1;</code>
+       */
+      public Builder clearIds() {
+        ids_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private boolean recursive_ ;
+      /**
+       * <code>optional bool recursive = 2;</code>
+       */
+      public boolean hasRecursive() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional bool recursive = 2;</code>
+       */
+      public boolean getRecursive() {
+        return recursive_;
+      }
+      /**
+       * <code>optional bool recursive = 2;</code>
+       */
+      public Builder setRecursive(boolean value) {
+        bitField0_ |= 0x00000002;
+        recursive_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool recursive = 2;</code>
+       */
+      public Builder clearRecursive() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        recursive_ = false;
+        onChanged();
+        return this;
+      }
+
+      private long opTimeMs_ ;
+      /**
+       * <code>optional int64 op_time_ms = 3;</code>
+       */
+      public boolean hasOpTimeMs() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int64 op_time_ms = 3;</code>
+       */
+      public long getOpTimeMs() {
+        return opTimeMs_;
+      }
+      /**
+       * <code>optional int64 op_time_ms = 3;</code>
+       */
+      public Builder setOpTimeMs(long value) {
+        bitField0_ |= 0x00000004;
+        opTimeMs_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 op_time_ms = 3;</code>
+       */
+      public Builder clearOpTimeMs() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        opTimeMs_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:tachyon.proto.journal.DeleteFilesEntry)
+    }
+
+    static {
+      defaultInstance = new DeleteFilesEntry(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:tachyon.proto.journal.DeleteFilesEntry)
+  }
+
   public interface DeleteMountPointEntryOrBuilder extends
       // @@protoc_insertion_point(interface_extends:tachyon.proto.journal.DeleteMountPointEntry)
       com.google.protobuf.MessageOrBuilder {
@@ -10155,6 +10795,11 @@ public final class File {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_tachyon_proto_journal_DeleteFileEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_tachyon_proto_journal_DeleteFilesEntry_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_tachyon_proto_journal_DeleteFilesEntry_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_tachyon_proto_journal_DeleteMountPointEntry_descriptor;
   private static
@@ -10221,35 +10866,37 @@ public final class File {
       "teFileEntry\022\021\n\tblock_ids\030\001 \003(\003\022\n\n\002id\030\002 \001" +
       "(\003\022\016\n\006length\030\003 \001(\003\022\022\n\nop_time_ms\030\004 \001(\003\"D" +
       "\n\017DeleteFileEntry\022\n\n\002id\030\001 \001(\003\022\021\n\trecursi" +
-      "ve\030\002 \001(\010\022\022\n\nop_time_ms\030\003 \001(\003\"-\n\025DeleteMo" +
-      "untPointEntry\022\024\n\014tachyon_path\030\001 \001(\t\"\345\001\n\023" +
-      "InodeDirectoryEntry\022\n\n\002id\030\001 \001(\003\022\021\n\tparen",
-      "t_id\030\002 \001(\003\022\014\n\004name\030\003 \001(\t\022\031\n\021persistence_" +
-      "state\030\004 \001(\t\022\016\n\006pinned\030\005 \001(\010\022\030\n\020creation_" +
-      "time_ms\030\006 \001(\003\022!\n\031last_modification_time_" +
-      "ms\030\007 \001(\003\022\021\n\tuser_name\030\010 \001(\t\022\022\n\ngroup_nam" +
-      "e\030\t \001(\t\022\022\n\npermission\030\n \001(\005\"O\n\036InodeDire" +
-      "ctoryIdGeneratorEntry\022\024\n\014container_id\030\001 " +
-      "\001(\003\022\027\n\017sequence_number\030\002 \001(\003\"\315\002\n\016InodeFi" +
-      "leEntry\022\n\n\002id\030\001 \001(\003\022\021\n\tparent_id\030\002 \001(\003\022\014" +
-      "\n\004name\030\003 \001(\t\022\031\n\021persistence_state\030\004 \001(\t\022" +
-      "\016\n\006pinned\030\005 \001(\010\022\030\n\020creation_time_ms\030\006 \001(",
-      "\003\022!\n\031last_modification_time_ms\030\007 \001(\003\022\030\n\020" +
-      "block_size_bytes\030\010 \001(\003\022\016\n\006length\030\t \001(\003\022\021" +
-      "\n\tcompleted\030\n \001(\010\022\021\n\tcacheable\030\013 \001(\010\022\016\n\006" +
-      "blocks\030\014 \003(\003\022\013\n\003ttl\030\r \001(\003\022\021\n\tuser_name\030\016" +
-      " \001(\t\022\022\n\ngroup_name\030\017 \001(\t\022\022\n\npermission\030\020" +
-      " \001(\005\"O\n\036InodeLastModificationTimeEntry\022\n" +
-      "\n\002id\030\001 \001(\003\022!\n\031last_modification_time_ms\030" +
-      "\002 \001(\003\"#\n\025PersistDirectoryEntry\022\n\n\002id\030\001 \001" +
-      "(\003\"B\n\020PersistFileEntry\022\n\n\002id\030\001 \001(\003\022\016\n\006le" +
-      "ngth\030\002 \001(\003\022\022\n\nop_time_ms\030\003 \001(\003\"L\n\025Reinit",
-      "ializeFileEntry\022\014\n\004path\030\001 \001(\t\022\030\n\020block_s" +
-      "ize_bytes\030\002 \001(\003\022\013\n\003ttl\030\003 \001(\003\"?\n\013RenameEn" +
-      "try\022\n\n\002id\030\001 \001(\003\022\020\n\010dst_path\030\002 \001(\t\022\022\n\nop_" +
-      "time_ms\030\003 \001(\003\"_\n\rSetStateEntry\022\n\n\002id\030\001 \001" +
-      "(\003\022\022\n\nop_time_ms\030\002 \001(\003\022\016\n\006pinned\030\003 \001(\010\022\013" +
-      "\n\003ttl\030\004 \001(\003\022\021\n\tpersisted\030\005 \001(\010"
+      "ve\030\002 \001(\010\022\022\n\nop_time_ms\030\003 \001(\003\"F\n\020DeleteFi" +
+      "lesEntry\022\013\n\003ids\030\001 \003(\003\022\021\n\trecursive\030\002 \001(\010" +
+      "\022\022\n\nop_time_ms\030\003 \001(\003\"-\n\025DeleteMountPoint",
+      "Entry\022\024\n\014tachyon_path\030\001 \001(\t\"\345\001\n\023InodeDir" +
+      "ectoryEntry\022\n\n\002id\030\001 \001(\003\022\021\n\tparent_id\030\002 \001" +
+      "(\003\022\014\n\004name\030\003 \001(\t\022\031\n\021persistence_state\030\004 " +
+      "\001(\t\022\016\n\006pinned\030\005 \001(\010\022\030\n\020creation_time_ms\030" +
+      "\006 \001(\003\022!\n\031last_modification_time_ms\030\007 \001(\003" +
+      "\022\021\n\tuser_name\030\010 \001(\t\022\022\n\ngroup_name\030\t \001(\t\022" +
+      "\022\n\npermission\030\n \001(\005\"O\n\036InodeDirectoryIdG" +
+      "eneratorEntry\022\024\n\014container_id\030\001 \001(\003\022\027\n\017s" +
+      "equence_number\030\002 \001(\003\"\315\002\n\016InodeFileEntry\022" +
+      "\n\n\002id\030\001 \001(\003\022\021\n\tparent_id\030\002 \001(\003\022\014\n\004name\030\003",
+      " \001(\t\022\031\n\021persistence_state\030\004 \001(\t\022\016\n\006pinne" +
+      "d\030\005 \001(\010\022\030\n\020creation_time_ms\030\006 \001(\003\022!\n\031las" +
+      "t_modification_time_ms\030\007 \001(\003\022\030\n\020block_si" +
+      "ze_bytes\030\010 \001(\003\022\016\n\006length\030\t \001(\003\022\021\n\tcomple" +
+      "ted\030\n \001(\010\022\021\n\tcacheable\030\013 \001(\010\022\016\n\006blocks\030\014" +
+      " \003(\003\022\013\n\003ttl\030\r \001(\003\022\021\n\tuser_name\030\016 \001(\t\022\022\n\n" +
+      "group_name\030\017 \001(\t\022\022\n\npermission\030\020 \001(\005\"O\n\036" +
+      "InodeLastModificationTimeEntry\022\n\n\002id\030\001 \001" +
+      "(\003\022!\n\031last_modification_time_ms\030\002 \001(\003\"#\n" +
+      "\025PersistDirectoryEntry\022\n\n\002id\030\001 \001(\003\"B\n\020Pe",
+      "rsistFileEntry\022\n\n\002id\030\001 \001(\003\022\016\n\006length\030\002 \001" +
+      "(\003\022\022\n\nop_time_ms\030\003 \001(\003\"L\n\025ReinitializeFi" +
+      "leEntry\022\014\n\004path\030\001 \001(\t\022\030\n\020block_size_byte" +
+      "s\030\002 \001(\003\022\013\n\003ttl\030\003 \001(\003\"?\n\013RenameEntry\022\n\n\002i" +
+      "d\030\001 \001(\003\022\020\n\010dst_path\030\002 \001(\t\022\022\n\nop_time_ms\030" +
+      "\003 \001(\003\"_\n\rSetStateEntry\022\n\n\002id\030\001 \001(\003\022\022\n\nop" +
+      "_time_ms\030\002 \001(\003\022\016\n\006pinned\030\003 \001(\010\022\013\n\003ttl\030\004 " +
+      "\001(\003\022\021\n\tpersisted\030\005 \001(\010"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -10287,62 +10934,68 @@ public final class File {
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_tachyon_proto_journal_DeleteFileEntry_descriptor,
         new java.lang.String[] { "Id", "Recursive", "OpTimeMs", });
-    internal_static_tachyon_proto_journal_DeleteMountPointEntry_descriptor =
+    internal_static_tachyon_proto_journal_DeleteFilesEntry_descriptor =
       getDescriptor().getMessageTypes().get(4);
+    internal_static_tachyon_proto_journal_DeleteFilesEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_tachyon_proto_journal_DeleteFilesEntry_descriptor,
+        new java.lang.String[] { "Ids", "Recursive", "OpTimeMs", });
+    internal_static_tachyon_proto_journal_DeleteMountPointEntry_descriptor =
+      getDescriptor().getMessageTypes().get(5);
     internal_static_tachyon_proto_journal_DeleteMountPointEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_tachyon_proto_journal_DeleteMountPointEntry_descriptor,
         new java.lang.String[] { "TachyonPath", });
     internal_static_tachyon_proto_journal_InodeDirectoryEntry_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(6);
     internal_static_tachyon_proto_journal_InodeDirectoryEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_tachyon_proto_journal_InodeDirectoryEntry_descriptor,
         new java.lang.String[] { "Id", "ParentId", "Name", "PersistenceState", "Pinned", "CreationTimeMs", "LastModificationTimeMs", "UserName", "GroupName", "Permission", });
     internal_static_tachyon_proto_journal_InodeDirectoryIdGeneratorEntry_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_tachyon_proto_journal_InodeDirectoryIdGeneratorEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_tachyon_proto_journal_InodeDirectoryIdGeneratorEntry_descriptor,
         new java.lang.String[] { "ContainerId", "SequenceNumber", });
     internal_static_tachyon_proto_journal_InodeFileEntry_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_tachyon_proto_journal_InodeFileEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_tachyon_proto_journal_InodeFileEntry_descriptor,
         new java.lang.String[] { "Id", "ParentId", "Name", "PersistenceState", "Pinned", "CreationTimeMs", "LastModificationTimeMs", "BlockSizeBytes", "Length", "Completed", "Cacheable", "Blocks", "Ttl", "UserName", "GroupName", "Permission", });
     internal_static_tachyon_proto_journal_InodeLastModificationTimeEntry_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_tachyon_proto_journal_InodeLastModificationTimeEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_tachyon_proto_journal_InodeLastModificationTimeEntry_descriptor,
         new java.lang.String[] { "Id", "LastModificationTimeMs", });
     internal_static_tachyon_proto_journal_PersistDirectoryEntry_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(10);
     internal_static_tachyon_proto_journal_PersistDirectoryEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_tachyon_proto_journal_PersistDirectoryEntry_descriptor,
         new java.lang.String[] { "Id", });
     internal_static_tachyon_proto_journal_PersistFileEntry_descriptor =
-      getDescriptor().getMessageTypes().get(10);
+      getDescriptor().getMessageTypes().get(11);
     internal_static_tachyon_proto_journal_PersistFileEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_tachyon_proto_journal_PersistFileEntry_descriptor,
         new java.lang.String[] { "Id", "Length", "OpTimeMs", });
     internal_static_tachyon_proto_journal_ReinitializeFileEntry_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_tachyon_proto_journal_ReinitializeFileEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_tachyon_proto_journal_ReinitializeFileEntry_descriptor,
         new java.lang.String[] { "Path", "BlockSizeBytes", "Ttl", });
     internal_static_tachyon_proto_journal_RenameEntry_descriptor =
-      getDescriptor().getMessageTypes().get(12);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_tachyon_proto_journal_RenameEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_tachyon_proto_journal_RenameEntry_descriptor,
         new java.lang.String[] { "Id", "DstPath", "OpTimeMs", });
     internal_static_tachyon_proto_journal_SetStateEntry_descriptor =
-      getDescriptor().getMessageTypes().get(13);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_tachyon_proto_journal_SetStateEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_tachyon_proto_journal_SetStateEntry_descriptor,
@@ -280,13 +280,26 @@ public final class Journal {
      * <code>optional .tachyon.proto.journal.UpdateMetadataEntry update_metadata = 21;</code>
      */
     tachyon.proto.journal.RawTable.UpdateMetadataEntryOrBuilder getUpdateMetadataOrBuilder();
+
+    /**
+     * <code>optional .tachyon.proto.journal.DeleteFilesEntry delete_files = 22;</code>
+     */
+    boolean hasDeleteFiles();
+    /**
+     * <code>optional .tachyon.proto.journal.DeleteFilesEntry delete_files = 22;</code>
+     */
+    tachyon.proto.journal.File.DeleteFilesEntry getDeleteFiles();
+    /**
+     * <code>optional .tachyon.proto.journal.DeleteFilesEntry delete_files = 22;</code>
+     */
+    tachyon.proto.journal.File.DeleteFilesEntryOrBuilder getDeleteFilesOrBuilder();
   }
   /**
    * Protobuf type {@code tachyon.proto.journal.JournalEntry}
    *
    * <pre>
    * Wraps around all types of Tachyon journal messages.
-   * next available id: 22
+   * next available id: 23
    * </pre>
    */
   public static final class JournalEntry extends
@@ -603,6 +616,19 @@ public final class Journal {
               entryCase_ = 21;
               break;
             }
+            case 178: {
+              tachyon.proto.journal.File.DeleteFilesEntry.Builder subBuilder = null;
+              if (entryCase_ == 22) {
+                subBuilder = ((tachyon.proto.journal.File.DeleteFilesEntry) entry_).toBuilder();
+              }
+              entry_ = input.readMessage(tachyon.proto.journal.File.DeleteFilesEntry.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((tachyon.proto.journal.File.DeleteFilesEntry) entry_);
+                entry_ = subBuilder.buildPartial();
+              }
+              entryCase_ = 22;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -667,6 +693,7 @@ public final class Journal {
       RENAME(19),
       SET_STATE(20),
       UPDATE_METADATA(21),
+      DELETE_FILES(22),
       ENTRY_NOT_SET(0);
       private int value = 0;
       private EntryCase(int value) {
@@ -694,6 +721,7 @@ public final class Journal {
           case 19: return RENAME;
           case 20: return SET_STATE;
           case 21: return UPDATE_METADATA;
+          case 22: return DELETE_FILES;
           case 0: return ENTRY_NOT_SET;
           default: throw new java.lang.IllegalArgumentException(
             "Value is undefined for this oneof enum.");
@@ -1245,6 +1273,32 @@ public final class Journal {
       return tachyon.proto.journal.RawTable.UpdateMetadataEntry.getDefaultInstance();
     }
 
+    public static final int DELETE_FILES_FIELD_NUMBER = 22;
+    /**
+     * <code>optional .tachyon.proto.journal.DeleteFilesEntry delete_files = 22;</code>
+     */
+    public boolean hasDeleteFiles() {
+      return entryCase_ == 22;
+    }
+    /**
+     * <code>optional .tachyon.proto.journal.DeleteFilesEntry delete_files = 22;</code>
+     */
+    public tachyon.proto.journal.File.DeleteFilesEntry getDeleteFiles() {
+      if (entryCase_ == 22) {
+         return (tachyon.proto.journal.File.DeleteFilesEntry) entry_;
+      }
+      return tachyon.proto.journal.File.DeleteFilesEntry.getDefaultInstance();
+    }
+    /**
+     * <code>optional .tachyon.proto.journal.DeleteFilesEntry delete_files = 22;</code>
+     */
+    public tachyon.proto.journal.File.DeleteFilesEntryOrBuilder getDeleteFilesOrBuilder() {
+      if (entryCase_ == 22) {
+         return (tachyon.proto.journal.File.DeleteFilesEntry) entry_;
+      }
+      return tachyon.proto.journal.File.DeleteFilesEntry.getDefaultInstance();
+    }
+
     private void initFields() {
       sequenceNumber_ = 0L;
     }
@@ -1324,6 +1378,9 @@ public final class Journal {
       if (entryCase_ == 21) {
         output.writeMessage(21, (tachyon.proto.journal.RawTable.UpdateMetadataEntry) entry_);
       }
+      if (entryCase_ == 22) {
+        output.writeMessage(22, (tachyon.proto.journal.File.DeleteFilesEntry) entry_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -1417,6 +1474,10 @@ public final class Journal {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(21, (tachyon.proto.journal.RawTable.UpdateMetadataEntry) entry_);
       }
+      if (entryCase_ == 22) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(22, (tachyon.proto.journal.File.DeleteFilesEntry) entry_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -1500,7 +1561,7 @@ public final class Journal {
      *
      * <pre>
      * Wraps around all types of Tachyon journal messages.
-     * next available id: 22
+     * next available id: 23
      * </pre>
      */
     public static final class Builder extends
@@ -1715,6 +1776,13 @@ public final class Journal {
             result.entry_ = updateMetadataBuilder_.build();
           }
         }
+        if (entryCase_ == 22) {
+          if (deleteFilesBuilder_ == null) {
+            result.entry_ = entry_;
+          } else {
+            result.entry_ = deleteFilesBuilder_.build();
+          }
+        }
         result.bitField0_ = to_bitField0_;
         result.entryCase_ = entryCase_;
         onBuilt();
@@ -1816,6 +1884,10 @@ public final class Journal {
             mergeUpdateMetadata(other.getUpdateMetadata());
             break;
           }
+          case DELETE_FILES: {
+            mergeDeleteFiles(other.getDeleteFiles());
+            break;
+          }
           case ENTRY_NOT_SET: {
             break;
           }
@@ -4594,6 +4666,141 @@ public final class Journal {
         return updateMetadataBuilder_;
       }
 
+      private com.google.protobuf.SingleFieldBuilder<
+          tachyon.proto.journal.File.DeleteFilesEntry, tachyon.proto.journal.File.DeleteFilesEntry.Builder, tachyon.proto.journal.File.DeleteFilesEntryOrBuilder> deleteFilesBuilder_;
+      /**
+       * <code>optional .tachyon.proto.journal.DeleteFilesEntry delete_files = 22;</code>
+       */
+      public boolean hasDeleteFiles() {
+        return entryCase_ == 22;
+      }
+      /**
+       * <code>optional .tachyon.proto.journal.DeleteFilesEntry delete_files = 22;</code>
+       */
+      public tachyon.proto.journal.File.DeleteFilesEntry getDeleteFiles() {
+        if (deleteFilesBuilder_ == null) {
+          if (entryCase_ == 22) {
+            return (tachyon.proto.journal.File.DeleteFilesEntry) entry_;
+          }
+          return tachyon.proto.journal.File.DeleteFilesEntry.getDefaultInstance();
+        } else {
+          if (entryCase_ == 22) {
+            return deleteFilesBuilder_.getMessage();
+          }
+          return tachyon.proto.journal.File.DeleteFilesEntry.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .tachyon.proto.journal.DeleteFilesEntry delete_files = 22;</code>
+       */
+      public Builder setDeleteFiles(tachyon.proto.journal.File.DeleteFilesEntry value) {
+        if (deleteFilesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          entry_ = value;
+          onChanged();
+        } else {
+          deleteFilesBuilder_.setMessage(value);
+        }
+        entryCase_ = 22;
+        return this;
+      }
+      /**
+       * <code>optional .tachyon.proto.journal.DeleteFilesEntry delete_files = 22;</code>
+       */
+      public Builder setDeleteFiles(
+          tachyon.proto.journal.File.DeleteFilesEntry.Builder builderForValue) {
+        if (deleteFilesBuilder_ == null) {
+          entry_ = builderForValue.build();
+          onChanged();
+        } else {
+          deleteFilesBuilder_.setMessage(builderForValue.build());
+        }
+        entryCase_ = 22;
+        return this;
+      }
+      /**
+       * <code>optional .tachyon.proto.journal.DeleteFilesEntry delete_files = 22;</code>
+       */
+      public Builder mergeDeleteFiles(tachyon.proto.journal.File.DeleteFilesEntry value) {
+        if (deleteFilesBuilder_ == null) {
+          if (entryCase_ == 22 &&
+              entry_ != tachyon.proto.journal.File.DeleteFilesEntry.getDefaultInstance()) {
+            entry_ = tachyon.proto.journal.File.DeleteFilesEntry.newBuilder((tachyon.proto.journal.File.DeleteFilesEntry) entry_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            entry_ = value;
+          }
+          onChanged();
+        } else {
+          if (entryCase_ == 22) {
+            deleteFilesBuilder_.mergeFrom(value);
+          }
+          deleteFilesBuilder_.setMessage(value);
+        }
+        entryCase_ = 22;
+        return this;
+      }
+      /**
+       * <code>optional .tachyon.proto.journal.DeleteFilesEntry delete_files = 22;</code>
+       */
+      public Builder clearDeleteFiles() {
+        if (deleteFilesBuilder_ == null) {
+          if (entryCase_ == 22) {
+            entryCase_ = 0;
+            entry_ = null;
+            onChanged();
+          }
+        } else {
+          if (entryCase_ == 22) {
+            entryCase_ = 0;
+            entry_ = null;
+          }
+          deleteFilesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .tachyon.proto.journal.DeleteFilesEntry delete_files = 22;</code>
+       */
+      public tachyon.proto.journal.File.DeleteFilesEntry.Builder getDeleteFilesBuilder() {
+        return getDeleteFilesFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .tachyon.proto.journal.DeleteFilesEntry delete_files = 22;</code>
+       */
+      public tachyon.proto.journal.File.DeleteFilesEntryOrBuilder getDeleteFilesOrBuilder() {
+        if ((entryCase_ == 22) && (deleteFilesBuilder_ != null)) {
+          return deleteFilesBuilder_.getMessageOrBuilder();
+        } else {
+          if (entryCase_ == 22) {
+            return (tachyon.proto.journal.File.DeleteFilesEntry) entry_;
+          }
+          return tachyon.proto.journal.File.DeleteFilesEntry.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .tachyon.proto.journal.DeleteFilesEntry delete_files = 22;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          tachyon.proto.journal.File.DeleteFilesEntry, tachyon.proto.journal.File.DeleteFilesEntry.Builder, tachyon.proto.journal.File.DeleteFilesEntryOrBuilder> 
+          getDeleteFilesFieldBuilder() {
+        if (deleteFilesBuilder_ == null) {
+          if (!(entryCase_ == 22)) {
+            entry_ = tachyon.proto.journal.File.DeleteFilesEntry.getDefaultInstance();
+          }
+          deleteFilesBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              tachyon.proto.journal.File.DeleteFilesEntry, tachyon.proto.journal.File.DeleteFilesEntry.Builder, tachyon.proto.journal.File.DeleteFilesEntryOrBuilder>(
+                  (tachyon.proto.journal.File.DeleteFilesEntry) entry_,
+                  getParentForChildren(),
+                  isClean());
+          entry_ = null;
+        }
+        entryCase_ = 22;
+        return deleteFilesBuilder_;
+      }
+
       // @@protoc_insertion_point(builder_scope:tachyon.proto.journal.JournalEntry)
     }
 
@@ -4622,7 +4829,7 @@ public final class Journal {
       "\n\025journal/journal.proto\022\025tachyon.proto.j" +
       "ournal\032\023journal/block.proto\032\022journal/fil" +
       "e.proto\032\025journal/lineage.proto\032\027journal/" +
-      "raw_table.proto\"\312\013\n\014JournalEntry\022\027\n\017sequ" +
+      "raw_table.proto\"\213\014\n\014JournalEntry\022\027\n\017sequ" +
       "ence_number\030\001 \001(\003\022D\n\017add_mount_point\030\002 \001" +
       "(\0132).tachyon.proto.journal.AddMountPoint" +
       "EntryH\000\022]\n\034block_container_id_generator\030" +
@@ -4659,8 +4866,9 @@ public final class Journal {
       "\000\0229\n\tset_state\030\024 \001(\0132$.tachyon.proto.jou" +
       "rnal.SetStateEntryH\000\022E\n\017update_metadata\030" +
       "\025 \001(\0132*.tachyon.proto.journal.UpdateMeta",
-      "dataEntryH\000B\007\n\005entryB\027\n\025tachyon.proto.jo" +
-      "urnal"
+      "dataEntryH\000\022?\n\014delete_files\030\026 \001(\0132\'.tach" +
+      "yon.proto.journal.DeleteFilesEntryH\000B\007\n\005" +
+      "entryB\027\n\025tachyon.proto.journal"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -4683,7 +4891,7 @@ public final class Journal {
     internal_static_tachyon_proto_journal_JournalEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_tachyon_proto_journal_JournalEntry_descriptor,
-        new java.lang.String[] { "SequenceNumber", "AddMountPoint", "BlockContainerIdGenerator", "BlockInfo", "CompleteFile", "DeleteFile", "DeleteLineage", "DeleteMountPoint", "InodeDirectory", "InodeDirectoryIdGenerator", "InodeFile", "InodeLastModificationTime", "Lineage", "LineageIdGenerator", "PersistDirectory", "AsyncPersistRequest", "RawTable", "ReinitializeFile", "Rename", "SetState", "UpdateMetadata", "Entry", });
+        new java.lang.String[] { "SequenceNumber", "AddMountPoint", "BlockContainerIdGenerator", "BlockInfo", "CompleteFile", "DeleteFile", "DeleteLineage", "DeleteMountPoint", "InodeDirectory", "InodeDirectoryIdGenerator", "InodeFile", "InodeLastModificationTime", "Lineage", "LineageIdGenerator", "PersistDirectory", "AsyncPersistRequest", "RawTable", "ReinitializeFile", "Rename", "SetState", "UpdateMetadata", "DeleteFiles", "Entry", });
     tachyon.proto.journal.Block.getDescriptor();
     tachyon.proto.journal.File.getDescriptor();
     tachyon.proto.journal.Lineage.getDescriptor();
@@ -17,7 +17,6 @@ package tachyon.web;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import javax.servlet.ServletException;
@@ -27,8 +26,6 @@ import javax.servlet.http.HttpServletResponse;
 
 import com.google.common.base.Preconditions;
 
-import tachyon.TachyonURI;
-import tachyon.exception.FileDoesNotExistException;
 import tachyon.master.TachyonMaster;
 import tachyon.thrift.FileInfo;
 
@@ -62,25 +59,9 @@ public final class WebInterfaceMemoryServlet extends HttpServlet {
     request.setAttribute("masterNodeAddress", mMaster.getMasterAddress().toString());
     request.setAttribute("fatalError", "");
 
-    List<TachyonURI> inMemoryFiles = mMaster.getFileSystemMaster().getInMemoryFiles();
-    Collections.sort(inMemoryFiles);
-
-    List<UIFileInfo> fileInfos = new ArrayList<UIFileInfo>(inMemoryFiles.size());
-    for (TachyonURI file : inMemoryFiles) {
-      try {
-        long fileId = mMaster.getFileSystemMaster().getFileId(file);
-        FileInfo fileInfo = mMaster.getFileSystemMaster().getFileInfo(fileId);
-        if (fileInfo != null && fileInfo.getInMemoryPercentage() == 100) {
-          fileInfos.add(new UIFileInfo(fileInfo));
-        }
-      } catch (FileDoesNotExistException fee) {
-        request.setAttribute("fatalError",
-            "Error: File does not exist " + fee.getLocalizedMessage());
-        getServletContext().getRequestDispatcher("/memory.jsp").forward(request, response);
-        return;
-      }
-    }
-    request.setAttribute("inMemoryFileNum", fileInfos.size());
+    // Only the files of the requested page are looked up, in the order of their file ids.
+    int inMemoryFileNum = mMaster.getFileSystemMaster().getNumberOfInMemoryFiles();
+    request.setAttribute("inMemoryFileNum", inMemoryFileNum);
 
     // URL is "./memory", can not determine offset and limit, let javascript in jsp determine
     // and redirect to "./memory?offset=xxx&limit=xxx"
@@ -92,7 +73,16 @@ public final class WebInterfaceMemoryServlet extends HttpServlet {
     try {
       int offset = Integer.parseInt(request.getParameter("offset"));
       int limit = Integer.parseInt(request.getParameter("limit"));
-      List<UIFileInfo> sub = fileInfos.subList(offset, offset + limit);
+      if (offset < 0 || limit < 0 || offset + limit > inMemoryFileNum) {
+        throw new IndexOutOfBoundsException("offset " + offset + ", limit " + limit + ", size "
+            + inMemoryFileNum);
+      }
+      List<FileInfo> fileInfos =
+          mMaster.getFileSystemMaster().getInMemoryFileInfoList(offset, limit);
+      List<UIFileInfo> sub = new ArrayList<UIFileInfo>(fileInfos.size());
+      for (FileInfo fileInfo : fileInfos) {
+        sub.add(new UIFileInfo(fileInfo));
+      }
       request.setAttribute("fileInfos", sub);
     } catch (NumberFormatException nfe) {
       request.setAttribute("fatalError",
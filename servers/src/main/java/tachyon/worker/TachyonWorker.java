@@ -15,14 +15,11 @@
 
 package tachyon.worker;
 
-import java.io.IOException;
 import java.net.InetSocketAddress;
 
-import org.apache.thrift.protocol.TBinaryProtocol;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TServerTransport;
 import org.apache.thrift.transport.TTransportException;
-import org.apache.thrift.transport.TTransportFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,10 +29,11 @@ import tachyon.Constants;
 import tachyon.Version;
 import tachyon.conf.TachyonConf;
 import tachyon.metrics.MetricsSystem;
-import tachyon.security.authentication.AuthenticationUtils;
+import tachyon.network.ThriftServerType;
 import tachyon.thrift.BlockWorkerClientService;
 import tachyon.util.network.NetworkAddressUtils;
 import tachyon.util.network.NetworkAddressUtils.ServiceType;
+import tachyon.util.network.ThriftServerUtils;
 import tachyon.web.UIWebServer;
 import tachyon.web.WorkerUIWebServer;
 import tachyon.worker.block.BlockWorker;
@@ -64,10 +62,12 @@ public final class TachyonWorker {
   private MetricsSystem mWorkerMetricsSystem;
   /** Worker Web UI server */
   private UIWebServer mWebServer;
-  /** Thread pool for thrift */
-  private TThreadPoolServer mThriftServer;
+  /** The type of the thrift server */
+  private ThriftServerType mThriftServerType;
+  /** Thrift server */
+  private TServer mThriftServer;
   /** Server socket for thrift */
-  private TServerSocket mThriftServerSocket;
+  private TServerTransport mThriftServerSocket;
   /** RPC local port for thrift */
   private int mRPCPort;
   /** The address for the rpc server */
@@ -102,6 +102,8 @@ public final class TachyonWorker {
               mStartTimeMs, mTachyonConf);
 
       // Setup Thrift server
+      mThriftServerType =
+          mTachyonConf.getEnum(Constants.WORKER_RPC_SERVER_TYPE, ThriftServerType.class);
       mThriftServerSocket = createThriftServerSocket();
       mRPCPort = NetworkAddressUtils.getThriftPort(mThriftServerSocket);
       // Reset worker RPC port based on assigned port number
@@ -276,44 +278,31 @@ public final class TachyonWorker {
   }
 
   /**
-   * Helper method to create a {@link org.apache.thrift.server.TThreadPoolServer} for handling
-   * incoming RPC requests.
+   * Helper method to create a {@link TServer} of the configured type for handling incoming RPC
+   * requests.
    *
    * @return a thrift server
    */
-  private TThreadPoolServer createThriftServer() {
+  private TServer createThriftServer() {
     int minWorkerThreads = mTachyonConf.getInt(Constants.WORKER_WORKER_BLOCK_THREADS_MIN);
     int maxWorkerThreads = mTachyonConf.getInt(Constants.WORKER_WORKER_BLOCK_THREADS_MAX);
+    int selectorThreads = mTachyonConf.getInt(Constants.WORKER_RPC_SELECTOR_THREADS);
     BlockWorkerClientService.Processor<BlockWorkerClientServiceHandler> processor =
         new BlockWorkerClientService.Processor<BlockWorkerClientServiceHandler>(
             mBlockWorker.getWorkerServiceHandler());
-    TTransportFactory tTransportFactory;
-    try {
-      tTransportFactory = AuthenticationUtils.getServerTransportFactory(mTachyonConf);
-    } catch (IOException ioe) {
-      throw Throwables.propagate(ioe);
-    }
-    TThreadPoolServer.Args args = new TThreadPoolServer.Args(mThriftServerSocket)
-        .minWorkerThreads(minWorkerThreads).maxWorkerThreads(maxWorkerThreads).processor(processor)
-        .transportFactory(tTransportFactory)
-        .protocolFactory(new TBinaryProtocol.Factory(true, true));
-    if (WorkerContext.getConf().getBoolean(Constants.IN_TEST_MODE)) {
-      args.stopTimeoutVal = 0;
-    } else {
-      args.stopTimeoutVal = Constants.THRIFT_STOP_TIMEOUT_SECONDS;
-    }
-    return new TThreadPoolServer(args);
+    return ThriftServerUtils.createServer(mThriftServerType, mThriftServerSocket, processor,
+        minWorkerThreads, maxWorkerThreads, selectorThreads, "worker-rpc", mTachyonConf);
   }
 
   /**
-   * Helper method to create a {@link org.apache.thrift.transport.TServerSocket} for the RPC server
+   * Helper method to create the thrift server socket of the configured type for the RPC server.
    *
    * @return a thrift server socket
    */
-  private TServerSocket createThriftServerSocket() {
+  private TServerTransport createThriftServerSocket() {
     try {
-      return new TServerSocket(
-          NetworkAddressUtils.getBindAddress(ServiceType.WORKER_RPC, mTachyonConf));
+      return ThriftServerUtils.createServerSocket(mThriftServerType,
+          NetworkAddressUtils.getBindAddress(ServiceType.WORKER_RPC, mTachyonConf), mTachyonConf);
     } catch (TTransportException tte) {
       LOG.error(tte.getMessage(), tte);
       throw Throwables.propagate(tte);
@@ -31,14 +31,20 @@ public class WorkerSource implements Source {
   private final MetricRegistry mMetricRegistry = new MetricRegistry();
   private final Counter mBlocksAccessed =
       mMetricRegistry.counter(MetricRegistry.name("BlocksAccessed"));
+  private final Counter mBlocksAdmitted =
+      mMetricRegistry.counter(MetricRegistry.name("BlocksAdmitted"));
   private final Counter mBlocksCanceled =
       mMetricRegistry.counter(MetricRegistry.name("BlocksCanceled"));
+  private final Counter mBlocksCommitted =
+      mMetricRegistry.counter(MetricRegistry.name("BlocksCommitted"));
   private final Counter mBlocksDeleted =
       mMetricRegistry.counter(MetricRegistry.name("BlocksDeleted"));
   private final Counter mBlocksEvicted =
       mMetricRegistry.counter(MetricRegistry.name("BlocksEvicted"));
   private final Counter mBlocksPromoted =
       mMetricRegistry.counter(MetricRegistry.name("BlocksPromoted"));
+  private final Counter mBlocksRejected =
+      mMetricRegistry.counter(MetricRegistry.name("BlocksRejected"));
 
   // metrics from client
   private final Counter mBlocksReadLocal = mMetricRegistry.counter(MetricRegistry
@@ -61,6 +67,24 @@ public class WorkerSource implements Source {
       .name("BytesWrittenRemote"));
   private final Counter mBytesWrittenUfs = mMetricRegistry.counter(MetricRegistry
       .name("BytesWrittenUfs"));
+  private final Counter mFilesPersisted = mMetricRegistry.counter(MetricRegistry
+      .name("FilesPersisted"));
+
+  /**
+   * Creates a new instance of {@link WorkerSource}.
+   */
+  public WorkerSource() {
+    mMetricRegistry.register(MetricRegistry.name("BlockHitRatio"), new Gauge<Double>() {
+      @Override
+      public Double getValue() {
+        // A block is committed to the worker when it was not found there, so every commit is
+        // counted as a miss
+        long hits = mBlocksAccessed.getCount();
+        long requests = hits + mBlocksCommitted.getCount();
+        return requests == 0 ? 0.0 : (double) hits / requests;
+      }
+    });
+  }
 
   @Override
   public String getName() {
@@ -81,6 +105,15 @@ public class WorkerSource implements Source {
     mBlocksAccessed.inc(n);
   }
 
+  /**
+   * Increments the counter of blocks admitted by the evictor.
+   *
+   * @param n the increment
+   */
+  public void incBlocksAdmitted(long n) {
+    mBlocksAdmitted.inc(n);
+  }
+
   /**
    * Increments the counter of canceled blocks.
    *
@@ -90,6 +123,15 @@ public class WorkerSource implements Source {
     mBlocksCanceled.inc(n);
   }
 
+  /**
+   * Increments the counter of committed blocks.
+   *
+   * @param n the increment
+   */
+  public void incBlocksCommitted(long n) {
+    mBlocksCommitted.inc(n);
+  }
+
   /**
    * Increments the counter of deleted blocks.
    *
@@ -117,6 +159,15 @@ public class WorkerSource implements Source {
     mBlocksPromoted.inc(n);
   }
 
+  /**
+   * Increments the counter of blocks rejected by the evictor.
+   *
+   * @param n the increment
+   */
+  public void incBlocksRejected(long n) {
+    mBlocksRejected.inc(n);
+  }
+
   /**
    * Increments the counter of blocks read locally.
    *
@@ -207,6 +258,15 @@ public class WorkerSource implements Source {
     mBytesWrittenUfs.inc(n);
   }
 
+  /**
+   * Increments the counter of files persisted to UFS.
+   *
+   * @param n the increment
+   */
+  public void incFilesPersisted(long n) {
+    mFilesPersisted.inc(n);
+  }
+
   /**
    * Registers metric gauges.
    *
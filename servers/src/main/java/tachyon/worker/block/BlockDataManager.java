@@ -258,6 +258,17 @@ public final class BlockDataManager {
     return mBlockStore.getBlockStoreMeta();
   }
 
+  /**
+   * Gets the metadata for the entire block store, optionally without the block mapping, which is
+   * much cheaper to collect.
+   *
+   * @param includeBlockIds whether to include the block mapping per storage dir
+   * @return the block store metadata
+   */
+  public BlockStoreMeta getStoreMeta(boolean includeBlockIds) {
+    return mBlockStore.getBlockStoreMeta(includeBlockIds);
+  }
+
   /**
    * Gets the metadata of a block given its blockId or throws IOException. This method does not
    * require a lock id so the block is possible to be moved or removed after it returns.
@@ -351,6 +362,15 @@ public final class BlockDataManager {
     return mBlockStore.getBlockReader(sessionId, blockId, lockId);
   }
 
+  /**
+   * Registers a {@link BlockStoreEventListener} to the underlying block store.
+   *
+   * @param listener the listener to be notified of the block store events
+   */
+  public void registerBlockStoreEventListener(BlockStoreEventListener listener) {
+    mBlockStore.registerBlockStoreEventListener(listener);
+  }
+
   /**
    * Frees a block from Tachyon managed space.
    *
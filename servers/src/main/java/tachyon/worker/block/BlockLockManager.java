@@ -15,17 +15,17 @@
 
 package tachyon.worker.block;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.Sets;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
 
@@ -38,7 +38,10 @@ import tachyon.worker.WorkerContext;
 /**
  * Handle all block locks.
  * <p>
- * This class is thread-safe.
+ * This class is thread-safe. The lock records are kept in concurrent maps rather than behind one
+ * monitor, so locking and unlocking different blocks only contend on the striped block locks. A
+ * lock record is released by whoever removes it from {@link #mLockIdToRecordMap} first, which
+ * makes racing unlocks and session cleanups release each lock exactly once.
  */
 public final class BlockLockManager {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
@@ -53,12 +56,16 @@ public final class BlockLockManager {
 
   /** A map from a block id to its lock */
   private final ClientRWLock[] mLockArray = new ClientRWLock[sNumLocks];
-  /** A map from a session id to all the locks hold by this session */
-  private final Map<Long, Set<Long>> mSessionIdToLockIdsMap = new HashMap<Long, Set<Long>>();
+  /**
+   * A map from a session id to all the locks hold by this session. The set of a session is kept,
+   * even when empty, until the session is cleaned up, so that a concurrent lock never adds its id
+   * to a set which is no longer in the map.
+   */
+  private final ConcurrentMap<Long, Set<Long>> mSessionIdToLockIdsMap =
+      new ConcurrentHashMap<Long, Set<Long>>();
   /** A map from a lock id to the lock record of it */
-  private final Map<Long, LockRecord> mLockIdToRecordMap = new HashMap<Long, LockRecord>();
-  /** To guard access on {@link #mLockIdToRecordMap} and {@link #mSessionIdToLockIdsMap} */
-  private final Object mSharedMapsLock = new Object();
+  private final ConcurrentMap<Long, LockRecord> mLockIdToRecordMap =
+      new ConcurrentHashMap<Long, LockRecord>();
 
   /**
    * Creates a new instance of {@link BlockLockManager}.
@@ -100,14 +107,13 @@ public final class BlockLockManager {
     }
     lock.lock();
     long lockId = LOCK_ID_GEN.getAndIncrement();
-    synchronized (mSharedMapsLock) {
-      mLockIdToRecordMap.put(lockId, new LockRecord(sessionId, blockId, lock));
-      Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
-      if (sessionLockIds == null) {
-        mSessionIdToLockIdsMap.put(sessionId, Sets.newHashSet(lockId));
-      } else {
-        sessionLockIds.add(lockId);
-      }
+    mLockIdToRecordMap.put(lockId, new LockRecord(sessionId, blockId, lock));
+    Set<Long> sessionLockIds = getSessionLockIds(sessionId);
+    sessionLockIds.add(lockId);
+    while (mSessionIdToLockIdsMap.get(sessionId) != sessionLockIds) {
+      // The session was cleaned up concurrently, make sure a later cleanup still finds this lock.
+      sessionLockIds = getSessionLockIds(sessionId);
+      sessionLockIds.add(lockId);
     }
     return lockId;
   }
@@ -119,23 +125,16 @@ public final class BlockLockManager {
    * @throws BlockDoesNotExistException if lock id cannot be found
    */
   public void unlockBlock(long lockId) throws BlockDoesNotExistException {
-    Lock lock;
-    synchronized (mSharedMapsLock) {
-      LockRecord record = mLockIdToRecordMap.get(lockId);
-      if (record == null) {
-        throw new BlockDoesNotExistException(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_LOCK_ID,
-            lockId);
-      }
-      long sessionId = record.sessionId();
-      lock = record.lock();
-      mLockIdToRecordMap.remove(lockId);
-      Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
+    LockRecord record = mLockIdToRecordMap.remove(lockId);
+    if (record == null) {
+      throw new BlockDoesNotExistException(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_LOCK_ID,
+          lockId);
+    }
+    Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(record.sessionId());
+    if (sessionLockIds != null) {
       sessionLockIds.remove(lockId);
-      if (sessionLockIds.isEmpty()) {
-        mSessionIdToLockIdsMap.remove(sessionId);
-      }
     }
-    lock.unlock();
+    record.lock().unlock();
   }
 
   /**
@@ -147,28 +146,23 @@ public final class BlockLockManager {
    */
   // TODO(bin): Temporary, remove me later.
   public void unlockBlock(long sessionId, long blockId) throws BlockDoesNotExistException {
-    synchronized (mSharedMapsLock) {
-      Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
+    Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
+    if (sessionLockIds != null) {
       for (long lockId : sessionLockIds) {
         LockRecord record = mLockIdToRecordMap.get(lockId);
-        if (record == null) {
-          throw new BlockDoesNotExistException(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_LOCK_ID,
-              lockId);
+        if (record == null || blockId != record.blockId()) {
+          // The lock was released concurrently, or belongs to another block.
+          continue;
         }
-        if (blockId == record.blockId()) {
-          mLockIdToRecordMap.remove(lockId);
+        if (mLockIdToRecordMap.remove(lockId, record)) {
           sessionLockIds.remove(lockId);
-          if (sessionLockIds.isEmpty()) {
-            mSessionIdToLockIdsMap.remove(sessionId);
-          }
-          Lock lock = record.lock();
-          lock.unlock();
+          record.lock().unlock();
           return;
         }
       }
-      throw new BlockDoesNotExistException(
-          ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_BLOCK_AND_SESSION, blockId, sessionId);
     }
+    throw new BlockDoesNotExistException(
+        ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_BLOCK_AND_SESSION, blockId, sessionId);
   }
 
   /**
@@ -183,20 +177,18 @@ public final class BlockLockManager {
    */
   public void validateLock(long sessionId, long blockId, long lockId)
       throws BlockDoesNotExistException, InvalidWorkerStateException {
-    synchronized (mSharedMapsLock) {
-      LockRecord record = mLockIdToRecordMap.get(lockId);
-      if (record == null) {
-        throw new BlockDoesNotExistException(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_LOCK_ID,
-            lockId);
-      }
-      if (sessionId != record.sessionId()) {
-        throw new InvalidWorkerStateException(ExceptionMessage.LOCK_ID_FOR_DIFFERENT_SESSION,
-            lockId, record.sessionId(), sessionId);
-      }
-      if (blockId != record.blockId()) {
-        throw new InvalidWorkerStateException(ExceptionMessage.LOCK_ID_FOR_DIFFERENT_BLOCK, lockId,
-            record.blockId(), blockId);
-      }
+    LockRecord record = mLockIdToRecordMap.get(lockId);
+    if (record == null) {
+      throw new BlockDoesNotExistException(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_LOCK_ID,
+          lockId);
+    }
+    if (sessionId != record.sessionId()) {
+      throw new InvalidWorkerStateException(ExceptionMessage.LOCK_ID_FOR_DIFFERENT_SESSION,
+          lockId, record.sessionId(), sessionId);
+    }
+    if (blockId != record.blockId()) {
+      throw new InvalidWorkerStateException(ExceptionMessage.LOCK_ID_FOR_DIFFERENT_BLOCK, lockId,
+          record.blockId(), blockId);
     }
   }
 
@@ -206,22 +198,18 @@ public final class BlockLockManager {
    * @param sessionId the id of the session to cleanup
    */
   public void cleanupSession(long sessionId) {
-    synchronized (mSharedMapsLock) {
-      Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
-      if (sessionLockIds == null) {
-        return;
-      }
-      for (long lockId : sessionLockIds) {
-        LockRecord record = mLockIdToRecordMap.get(lockId);
-        if (record == null) {
-          LOG.error(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_LOCK_ID.getMessage(lockId));
-          continue;
-        }
-        Lock lock = record.lock();
-        lock.unlock();
-        mLockIdToRecordMap.remove(lockId);
+    Set<Long> sessionLockIds = mSessionIdToLockIdsMap.remove(sessionId);
+    if (sessionLockIds == null) {
+      return;
+    }
+    for (long lockId : sessionLockIds) {
+      LockRecord record = mLockIdToRecordMap.remove(lockId);
+      if (record == null) {
+        // Unlocked since the session's locks were collected.
+        LOG.debug(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_LOCK_ID.getMessage(lockId));
+        continue;
       }
-      mSessionIdToLockIdsMap.remove(sessionId);
+      record.lock().unlock();
     }
   }
 
@@ -231,13 +219,29 @@ public final class BlockLockManager {
    * @return a set of locked blocks
    */
   public Set<Long> getLockedBlocks() {
-    synchronized (mSharedMapsLock) {
-      Set<Long> set = new HashSet<Long>();
-      for (LockRecord lockRecord : mLockIdToRecordMap.values()) {
-        set.add(lockRecord.blockId());
+    Set<Long> set = new HashSet<Long>();
+    for (LockRecord lockRecord : mLockIdToRecordMap.values()) {
+      set.add(lockRecord.blockId());
+    }
+    return set;
+  }
+
+  /**
+   * Gets the ids of the locks held by a session, creating the set if needed.
+   *
+   * @param sessionId the session id
+   * @return the concurrent set of lock ids of the session
+   */
+  private Set<Long> getSessionLockIds(long sessionId) {
+    Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
+    if (sessionLockIds == null) {
+      Set<Long> newLockIds = Collections.newSetFromMap(new ConcurrentHashMap<Long, Boolean>());
+      sessionLockIds = mSessionIdToLockIdsMap.putIfAbsent(sessionId, newLockIds);
+      if (sessionLockIds == null) {
+        sessionLockIds = newLockIds;
       }
-      return set;
     }
+    return sessionLockIds;
   }
 
   /**
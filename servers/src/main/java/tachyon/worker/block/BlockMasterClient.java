@@ -17,6 +17,7 @@ package tachyon.worker.block;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 
@@ -162,4 +163,24 @@ public final class BlockMasterClient extends MasterClientBase {
       }
     });
   }
+
+  /**
+   * Sends a chunk of the blocks of the worker ahead of {@link #register}, for workers with too many
+   * blocks to send in a single registration.
+   *
+   * @param workerId the worker id of the worker registering
+   * @param blockReport the chunk of blocks, encoded by {@link tachyon.master.block.BlockReport}
+   * @throws TachyonException if the worker id does not exist
+   * @throws IOException if an I/O error occurs
+   */
+  public synchronized void registerBlocks(final long workerId, final ByteBuffer blockReport)
+      throws TachyonException, IOException {
+    retryRPC(new RpcCallableThrowsTachyonTException<Void>() {
+      @Override
+      public Void call() throws TachyonTException, TException {
+        mClient.registerWorkerBlocks(workerId, blockReport.duplicate());
+        return null;
+      }
+    });
+  }
 }
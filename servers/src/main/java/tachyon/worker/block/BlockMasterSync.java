@@ -16,6 +16,11 @@
 package tachyon.worker.block;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -32,6 +37,7 @@ import tachyon.exception.ConnectionFailedException;
 import tachyon.exception.InvalidWorkerStateException;
 import tachyon.exception.TachyonException;
 import tachyon.heartbeat.HeartbeatExecutor;
+import tachyon.master.block.BlockReport;
 import tachyon.thrift.Command;
 import tachyon.worker.NetAddress;
 import tachyon.worker.WorkerContext;
@@ -59,6 +65,8 @@ public final class BlockMasterSync implements HeartbeatExecutor {
   private final NetAddress mWorkerAddress;
   /** Milliseconds between heartbeats before a timeout */
   private final int mHeartbeatTimeoutMs;
+  /** The maximum number of blocks to send to the master in one RPC when registering */
+  private final int mRegisterChunkSize;
   /** Client for all master communication */
   private final BlockMasterClient mMasterClient;
   /** The thread pool to remove block */
@@ -82,6 +90,7 @@ public final class BlockMasterSync implements HeartbeatExecutor {
     TachyonConf conf = WorkerContext.getConf();
     mMasterClient = masterClient;
     mHeartbeatTimeoutMs = conf.getInt(Constants.WORKER_BLOCK_HEARTBEAT_TIMEOUT_MS);
+    mRegisterChunkSize = conf.getInt(Constants.WORKER_BLOCK_REGISTER_CHUNK_SIZE);
 
     try {
       registerWithMaster();
@@ -96,7 +105,9 @@ public final class BlockMasterSync implements HeartbeatExecutor {
 
   /**
    * Registers with the Tachyon master. This should be called before the continuous heartbeat thread
-   * begins. The workerId will be set after this method is successful.
+   * begins. The workerId will be set after this method is successful. If the worker has more
+   * blocks than fit in one chunk, the blocks are sent in compact chunks first, and the final
+   * registration carries no blocks.
    *
    * @throws IOException when workerId cannot be found
    * @throws ConnectionFailedException if network connection failed
@@ -105,9 +116,22 @@ public final class BlockMasterSync implements HeartbeatExecutor {
     BlockStoreMeta storeMeta = mBlockDataManager.getStoreMeta();
     try {
       StorageTierAssoc storageTierAssoc = new WorkerStorageTierAssoc(WorkerContext.getConf());
-      mMasterClient.register(WorkerIdRegistry.getWorkerId(),
-          storageTierAssoc.getOrderedStorageAliases(), storeMeta.getCapacityBytesOnTiers(),
-          storeMeta.getUsedBytesOnTiers(), storeMeta.getBlockList());
+      long workerId = WorkerIdRegistry.getWorkerId();
+      Map<String, List<Long>> blockList = storeMeta.getBlockList();
+      if (storeMeta.getNumberOfBlocks() > mRegisterChunkSize) {
+        List<ByteBuffer> blockReports = BlockReport.encode(blockList, mRegisterChunkSize);
+        LOG.info("Sending {} blocks to the master in {} chunks", storeMeta.getNumberOfBlocks(),
+            blockReports.size());
+        for (ByteBuffer blockReport : blockReports) {
+          mMasterClient.registerBlocks(workerId, blockReport);
+        }
+        blockList = new HashMap<String, List<Long>>();
+        for (String tierAlias : storageTierAssoc.getOrderedStorageAliases()) {
+          blockList.put(tierAlias, new ArrayList<Long>());
+        }
+      }
+      mMasterClient.register(workerId, storageTierAssoc.getOrderedStorageAliases(),
+          storeMeta.getCapacityBytesOnTiers(), storeMeta.getUsedBytesOnTiers(), blockList);
     } catch (IOException ioe) {
       LOG.error("Failed to register with master.", ioe);
       throw ioe;
@@ -46,8 +46,11 @@ import tachyon.worker.block.meta.TempBlockMeta;
  * {@link TieredBlockStore}, {@link tachyon.worker.block.allocator.Allocator} and
  * {@link tachyon.worker.block.evictor.Evictor}.
  * <p>
- * This class is NOT thread-safe. All operations on block metadata such as {@link StorageTier},
- * {@link StorageDir} should go through this class.
+ * This class is thread safe, as each {@link StorageDir} guards the blocks in it; lookups do not
+ * lock at all. A block which is committed or moved can always be found, in its old or its new
+ * place. Callers which decide where to put a block based on the available bytes must still
+ * serialize these decisions themselves. All operations on block metadata such as
+ * {@link StorageTier}, {@link StorageDir} should go through this class.
  */
 // TODO(bin): consider how to better expose information to Evictor and Allocator.
 public final class BlockMetadataManager {
@@ -136,8 +139,7 @@ public final class BlockMetadataManager {
     }
     BlockMeta block = new BlockMeta(Preconditions.checkNotNull(tempBlockMeta));
     StorageDir dir = tempBlockMeta.getParentDir();
-    dir.removeTempBlockMeta(tempBlockMeta);
-    dir.addBlockMeta(block);
+    dir.commitTempBlockMeta(tempBlockMeta, block);
   }
 
   /**
@@ -228,6 +230,16 @@ public final class BlockMetadataManager {
     return new BlockStoreMeta(this);
   }
 
+  /**
+   * Gets a summary of the meta data.
+   *
+   * @param includeBlockIds whether to include the ids of the blocks
+   * @return the metadata of this block store
+   */
+  public BlockStoreMeta getBlockStoreMeta(boolean includeBlockIds) {
+    return new BlockStoreMeta(this, includeBlockIds);
+  }
+
   /**
    * Gets the {@link StorageDir} given its location in the store. Throws an
    * {@link IllegalArgumentException} if the location is not a specific dir or the location is
@@ -366,11 +378,21 @@ public final class BlockMetadataManager {
       throws BlockDoesNotExistException, WorkerOutOfSpaceException, BlockAlreadyExistsException {
     StorageDir srcDir = blockMeta.getParentDir();
     StorageDir dstDir = tempBlockMeta.getParentDir();
-    srcDir.removeBlockMeta(blockMeta);
+    if (!srcDir.hasBlockMeta(blockMeta.getBlockId())) {
+      throw new BlockDoesNotExistException(ExceptionMessage.BLOCK_META_NOT_FOUND,
+          blockMeta.getBlockId());
+    }
     BlockMeta newBlockMeta =
         new BlockMeta(blockMeta.getBlockId(), blockMeta.getBlockSize(), dstDir);
-    dstDir.removeTempBlockMeta(tempBlockMeta);
-    dstDir.addBlockMeta(newBlockMeta);
+    if (srcDir == dstDir) {
+      srcDir.removeBlockMeta(blockMeta);
+      dstDir.commitTempBlockMeta(tempBlockMeta, newBlockMeta);
+    } else {
+      // The block is added to the destination before it is removed from the source, so that it
+      // can be found during the move
+      dstDir.commitTempBlockMeta(tempBlockMeta, newBlockMeta);
+      srcDir.removeBlockMeta(blockMeta);
+    }
     return newBlockMeta;
   }
 
@@ -421,9 +443,13 @@ public final class BlockMetadataManager {
           + " does not have enough space for " + blockSize + " bytes");
     }
     StorageDir oldDir = blockMeta.getParentDir();
-    oldDir.removeBlockMeta(blockMeta);
+    if (!oldDir.hasBlockMeta(blockMeta.getBlockId())) {
+      throw new BlockDoesNotExistException(ExceptionMessage.BLOCK_META_NOT_FOUND,
+          blockMeta.getBlockId());
+    }
     BlockMeta newBlockMeta = new BlockMeta(blockMeta.getBlockId(), blockSize, newDir);
     newDir.addBlockMeta(newBlockMeta);
+    oldDir.removeBlockMeta(blockMeta);
     return newBlockMeta;
   }
 
@@ -45,6 +45,11 @@ public final class BlockMetricsReporter extends BlockStoreEventListenerBase {
     mWorkerSource.incBlocksAccessed(1);
   }
 
+  @Override
+  public void onCommitBlock(long sessionId, long blockId, BlockStoreLocation location) {
+    mWorkerSource.incBlocksCommitted(1);
+  }
+
   @Override
   public void onMoveBlockByClient(long sessionId, long blockId, BlockStoreLocation oldLocation,
       BlockStoreLocation newLocation) {
@@ -277,6 +277,15 @@ interface BlockStore {
    */
   BlockStoreMeta getBlockStoreMeta();
 
+  /**
+   * Gets the meta data of the entire store in a snapshot, optionally without the ids of the
+   * blocks, which makes it cheap enough to be called frequently.
+   *
+   * @param includeBlockIds whether to include the ids of the blocks
+   * @return store meta data
+   */
+  BlockStoreMeta getBlockStoreMeta(boolean includeBlockIds);
+
   /**
    * Checks if the storage has a given block.
    *
@@ -56,6 +56,18 @@ public final class BlockStoreMeta {
    * @param manager a block metadata manager handle
    */
   public BlockStoreMeta(BlockMetadataManager manager) {
+    this(manager, true);
+  }
+
+  /**
+   * Creates a new instance of {@link BlockStoreMeta}. Without the block ids, the meta data only
+   * describes the capacity and usage of the store, which is much cheaper to collect.
+   *
+   * @param manager a block metadata manager handle
+   * @param includeBlockIds whether to collect the ids of the blocks on each tier; if false, the
+   *        block list of each tier is empty
+   */
+  public BlockStoreMeta(BlockMetadataManager manager, boolean includeBlockIds) {
     Preconditions.checkNotNull(manager);
     for (StorageTier tier : manager.getTiers()) {
       Long capacityBytes = mCapacityBytesOnTiers.get(tier.getTierAlias());
@@ -68,7 +80,9 @@ public final class BlockStoreMeta {
               + (tier.getCapacityBytes() - tier.getAvailableBytes()));
       List<Long> blockIdsOnTier = new ArrayList<Long>();
       for (StorageDir dir : tier.getStorageDirs()) {
-        blockIdsOnTier.addAll(dir.getBlockIds());
+        if (includeBlockIds) {
+          blockIdsOnTier.addAll(dir.getBlockIds());
+        }
         Pair<String, String> dirKey =
             new Pair<String, String>(tier.getTierAlias(), dir.getDirPath());
         mCapacityBytesOnDirs.put(dirKey, dir.getCapacityBytes());
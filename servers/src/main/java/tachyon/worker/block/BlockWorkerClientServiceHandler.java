@@ -16,7 +16,9 @@
 package tachyon.worker.block;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +27,7 @@ import tachyon.Constants;
 import tachyon.Sessions;
 import tachyon.StorageTierAssoc;
 import tachyon.WorkerStorageTierAssoc;
+import tachyon.exception.BlockDoesNotExistException;
 import tachyon.exception.TachyonException;
 import tachyon.thrift.LockBlockResult;
 import tachyon.thrift.TachyonTException;
@@ -75,6 +78,23 @@ public final class BlockWorkerClientServiceHandler implements BlockWorkerClientS
     }
   }
 
+  /**
+   * Updates the access times of a batch of blocks, see {@link #accessBlock(long)}. Blocks which
+   * were removed since they were read are skipped.
+   *
+   * @param blockIds the ids of the blocks to access
+   */
+  @Override
+  public void accessBlocks(List<Long> blockIds) {
+    for (long blockId : blockIds) {
+      try {
+        mWorker.accessBlock(Sessions.ACCESS_BLOCK_SESSION_ID, blockId);
+      } catch (BlockDoesNotExistException e) {
+        LOG.debug("Skipped access of removed block {}", blockId);
+      }
+    }
+  }
+
   // TODO(calvin): Make this supported again.
   @Override
   public boolean asyncCheckpoint(long fileId) throws TachyonTException {
@@ -141,6 +161,51 @@ public final class BlockWorkerClientServiceHandler implements BlockWorkerClientS
     }
   }
 
+  /**
+   * Locks a batch of blocks in Tachyon's space while the session is reading them. Each block is
+   * locked once, however often its id is given. Blocks which are not in Tachyon's space are left
+   * out of the result; if any other block fails to be locked, none of the blocks stays locked.
+   *
+   * @param sessionId the id of the session
+   * @param blockIds the ids of the blocks to be locked
+   * @return the paths of the locked block files by block id
+   * @throws TachyonTException if a tachyon error occurs
+   */
+  @Override
+  public Map<Long, String> lockBlocks(long sessionId, List<Long> blockIds)
+      throws TachyonTException {
+    Map<Long, String> blockPaths = new HashMap<Long, String>();
+    try {
+      for (long blockId : blockIds) {
+        if (blockPaths.containsKey(blockId)) {
+          continue;
+        }
+        long lockId;
+        try {
+          lockId = mWorker.lockBlock(sessionId, blockId);
+        } catch (BlockDoesNotExistException e) {
+          continue;
+        }
+        try {
+          blockPaths.put(blockId, mWorker.readBlock(sessionId, blockId, lockId));
+        } catch (TachyonException e) {
+          mWorker.unlockBlock(lockId);
+          throw e;
+        }
+      }
+    } catch (TachyonException e) {
+      for (long blockId : blockPaths.keySet()) {
+        try {
+          mWorker.unlockBlock(sessionId, blockId);
+        } catch (BlockDoesNotExistException be) {
+          LOG.warn("Failed to unlock block {} of session {}", blockId, sessionId, be);
+        }
+      }
+      throw e.toTachyonTException();
+    }
+    return blockPaths;
+  }
+
   /**
    * Used to promote block on under storage layer to top storage layer when there are more than one
    * storage layers in Tachyon's space.
@@ -232,6 +297,25 @@ public final class BlockWorkerClientServiceHandler implements BlockWorkerClientS
     }
   }
 
+  /**
+   * Unlocks a batch of blocks after they are accessed, once per occurrence of a block id. Every
+   * block is unlocked even if unlocking an earlier one fails. Failures are logged rather than
+   * reported, since the client could only retry the call and unlock the other blocks twice.
+   *
+   * @param sessionId the id of the client requesting the unlock
+   * @param blockIds the ids of the blocks to unlock
+   */
+  @Override
+  public void unlockBlocks(long sessionId, List<Long> blockIds) {
+    for (long blockId : blockIds) {
+      try {
+        mWorker.unlockBlock(sessionId, blockId);
+      } catch (TachyonException e) {
+        LOG.warn("Failed to unlock block {} of session {}", blockId, sessionId, e);
+      }
+    }
+  }
+
   /**
    * Local session send heartbeat to local worker to keep its temporary folder.
    *
@@ -15,6 +15,7 @@
 
 package tachyon.worker.block;
 
+import java.util.HashSet;
 import java.util.Set;
 
 import org.slf4j.Logger;
@@ -22,22 +23,33 @@ import org.slf4j.LoggerFactory;
 
 import tachyon.Constants;
 import tachyon.heartbeat.HeartbeatExecutor;
+import tachyon.thrift.PinListDelta;
 import tachyon.worker.file.FileSystemMasterClient;
 
 /**
  * PinListSync periodically syncs the set of pinned inodes from master,  and saves the new pinned
- * inodes to the {@link BlockDataManager}.
+ * inodes to the {@link BlockDataManager}. Only the changes since the version of the set last
+ * received are fetched; the master sends the whole set when it cannot tell the changes, such as
+ * on the first sync or after the master restarts.
  *
  */
 public final class PinListSync implements HeartbeatExecutor {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
+  /** The version which no pin list has, so that the first sync fetches the whole set */
+  private static final long UNKNOWN_VERSION = -1;
+
   /** Block data manager responsible for interacting with Tachyon and UFS storage */
   private final BlockDataManager mBlockDataManager;
 
   /** Client for all master communication */
   private FileSystemMasterClient mMasterClient;
 
+  /** The pinned inodes as of {@link #mVersion} */
+  private final Set<Long> mPinnedInodes = new HashSet<Long>();
+  /** The version of the pin list last received from the master */
+  private long mVersion = UNKNOWN_VERSION;
+
   /**
    * Creates a new instance of {@link PinListSync}.
    *
@@ -54,8 +66,18 @@ public final class PinListSync implements HeartbeatExecutor {
   public void heartbeat() {
     // Send the sync
     try {
-      Set<Long> pinList = mMasterClient.getPinList();
-      mBlockDataManager.updatePinList(pinList);
+      PinListDelta delta = mMasterClient.getPinListDelta(mVersion);
+      boolean changed = delta.isFull() || !delta.getAddedIds().isEmpty()
+          || !delta.getRemovedIds().isEmpty();
+      if (delta.isFull()) {
+        mPinnedInodes.clear();
+      }
+      mPinnedInodes.removeAll(delta.getRemovedIds());
+      mPinnedInodes.addAll(delta.getAddedIds());
+      mVersion = delta.getVersion();
+      if (changed) {
+        mBlockDataManager.updatePinList(mPinnedInodes);
+      }
     } catch (Exception e) {
       // An error occurred, retry after 1 second or error if sync timeout is reached
       LOG.error("Failed to receive pinlist.", e);
@@ -22,6 +22,8 @@ import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Preconditions;
+
 import tachyon.Constants;
 import tachyon.StorageTierAssoc;
 import tachyon.Sessions;
@@ -30,63 +32,91 @@ import tachyon.exception.BlockAlreadyExistsException;
 import tachyon.exception.BlockDoesNotExistException;
 import tachyon.exception.InvalidWorkerStateException;
 import tachyon.exception.WorkerOutOfSpaceException;
-import tachyon.util.CommonUtils;
 import tachyon.worker.WorkerContext;
 
 /**
- * {@link SpaceReserver} periodically checks if there is enough space reserved on each storage tier,
- * if there is no enough free space on some tier, free space from it.
+ * {@link SpaceReserver} keeps enough space free on each storage tier in the background, so that
+ * writers rarely have to evict blocks themselves. When the used space of a tier exceeds its high
+ * watermark, the reserver frees space on it until the reserved portion of the tier is available
+ * again, which acts as the low watermark. The tiers are checked periodically, and also right after
+ * a block is committed or moved into a tier, so that a burst of writes is noticed before the tier
+ * fills up.
  */
-public class SpaceReserver implements Runnable {
+public class SpaceReserver extends BlockStoreEventListenerBase implements Runnable {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
   private final BlockDataManager mBlockManager;
   /** Association between storage tier aliases and ordinals for the worker */
   private final StorageTierAssoc mStorageTierAssoc;
   /** Mapping from tier alias to space size to be reserved on the tier */
   private final Map<String, Long> mBytesToReserveOnTiers = new HashMap<String, Long>();
+  /** Mapping from tier alias to the used space above which space is freed on the tier */
+  private final Map<String, Long> mHighWatermarkBytesOnTiers = new HashMap<String, Long>();
   /** Milliseconds between each check */
   private final int mCheckIntervalMs;
   /** Flag to indicate if the checking should continue */
   private volatile boolean mRunning;
+  /** Flag to indicate that the tiers should be checked without waiting for the interval */
+  private boolean mCheckRequested = false;
 
   /**
-   * Creates a new instance of {@link SpaceReserver}.
+   * Creates a new instance of {@link SpaceReserver}, and registers it for the events of the block
+   * store of the given block manager.
    *
    * @param blockManager a block manager handle
    */
   public SpaceReserver(BlockDataManager blockManager) {
     mBlockManager = blockManager;
     mStorageTierAssoc = new WorkerStorageTierAssoc(WorkerContext.getConf());
-    Map<String, Long> capOnTiers = blockManager.getStoreMeta().getCapacityBytesOnTiers();
+    Map<String, Long> capOnTiers = blockManager.getStoreMeta(false).getCapacityBytesOnTiers();
     long lastTierReservedBytes = 0;
     for (int ordinal = 0; ordinal < mStorageTierAssoc.size(); ordinal ++) {
       String tierReservedSpaceProp =
           String.format(Constants.WORKER_TIERED_STORE_LEVEL_RESERVED_RATIO_FORMAT, ordinal);
       String tierAlias = mStorageTierAssoc.getAlias(ordinal);
-      long reservedSpaceBytes =
-          (long) (capOnTiers.get(tierAlias) * WorkerContext.getConf().getDouble(
-              tierReservedSpaceProp));
-      mBytesToReserveOnTiers.put(tierAlias, reservedSpaceBytes + lastTierReservedBytes);
+      long capacityBytes = capOnTiers.get(tierAlias);
+      double reservedRatio = WorkerContext.getConf().getDouble(tierReservedSpaceProp);
+      long reservedSpaceBytes = (long) (capacityBytes * reservedRatio);
+      long bytesToReserve = reservedSpaceBytes + lastTierReservedBytes;
+      mBytesToReserveOnTiers.put(tierAlias, bytesToReserve);
       lastTierReservedBytes += reservedSpaceBytes;
+
+      // Without a high watermark, space is freed as soon as the reserved space, which includes the
+      // space reserved for the tiers above, is not available.
+      long lowWatermarkBytes = capacityBytes - bytesToReserve;
+      long highWatermarkBytes = lowWatermarkBytes;
+      String tierHighWatermarkProp =
+          String.format(Constants.WORKER_TIERED_STORE_LEVEL_HIGH_WATERMARK_RATIO_FORMAT, ordinal);
+      if (WorkerContext.getConf().containsKey(tierHighWatermarkProp)) {
+        double highWatermarkRatio = WorkerContext.getConf().getDouble(tierHighWatermarkProp);
+        Preconditions.checkArgument(highWatermarkRatio > 0 && highWatermarkRatio <= 1,
+            "%s must be in (0, 1], but is %s", tierHighWatermarkProp, highWatermarkRatio);
+        // A high watermark below the low one would free space on every check.
+        highWatermarkBytes =
+            Math.max((long) (capacityBytes * highWatermarkRatio), lowWatermarkBytes);
+      }
+      mHighWatermarkBytesOnTiers.put(tierAlias, highWatermarkBytes);
     }
     mCheckIntervalMs =
         WorkerContext.getConf().getInt(Constants.WORKER_TIERED_STORE_RESERVER_INTERVAL_MS);
     mRunning = true;
+    blockManager.registerBlockStoreEventListener(this);
   }
 
   @Override
   public void run() {
-    long lastCheckMs = System.currentTimeMillis();
     while (mRunning) {
-      // Check the time since last check, and wait until it is within check interval
-      long lastIntervalMs = System.currentTimeMillis() - lastCheckMs;
-      long toSleepMs = mCheckIntervalMs - lastIntervalMs;
-      if (toSleepMs > 0) {
-        CommonUtils.sleepMs(LOG, toSleepMs);
-      } else {
+      long startMs = System.currentTimeMillis();
+      reserveSpace();
+      long lastIntervalMs = System.currentTimeMillis() - startMs;
+      if (lastIntervalMs > mCheckIntervalMs) {
         LOG.warn("Space reserver took: {}, expected: {}", lastIntervalMs, mCheckIntervalMs);
       }
-      reserveSpace();
+      try {
+        waitForNextCheck(mCheckIntervalMs - lastIntervalMs);
+      } catch (InterruptedException e) {
+        LOG.info("Space reserver is interrupted");
+        return;
+      }
     }
   }
 
@@ -96,11 +126,57 @@ public class SpaceReserver implements Runnable {
   public void stop() {
     LOG.info("Space reserver exits!");
     mRunning = false;
+    synchronized (this) {
+      notifyAll();
+    }
+  }
+
+  @Override
+  public void onCommitBlock(long sessionId, long blockId, BlockStoreLocation location) {
+    requestCheck();
+  }
+
+  @Override
+  public void onMoveBlockByClient(long sessionId, long blockId, BlockStoreLocation oldLocation,
+      BlockStoreLocation newLocation) {
+    requestCheck();
+  }
+
+  /**
+   * Makes the reserver check the tiers without waiting for the rest of the interval.
+   */
+  private synchronized void requestCheck() {
+    mCheckRequested = true;
+    notifyAll();
+  }
+
+  /**
+   * Waits until the next check is due, either because the given time passed or because a check
+   * was requested.
+   *
+   * @param waitMs the maximum time to wait, in milliseconds
+   * @throws InterruptedException if the wait is interrupted
+   */
+  private synchronized void waitForNextCheck(long waitMs) throws InterruptedException {
+    long deadlineMs = System.currentTimeMillis() + waitMs;
+    while (!mCheckRequested && mRunning) {
+      long remainingMs = deadlineMs - System.currentTimeMillis();
+      if (remainingMs <= 0) {
+        break;
+      }
+      wait(remainingMs);
+    }
+    mCheckRequested = false;
   }
 
   private void reserveSpace() {
+    // Only the capacity and usage are needed, which are cheap to collect without the block ids.
+    Map<String, Long> usedBytesOnTiers = mBlockManager.getStoreMeta(false).getUsedBytesOnTiers();
     for (int ordinal = mStorageTierAssoc.size() - 1; ordinal >= 0 ; ordinal --) {
       String tierAlias = mStorageTierAssoc.getAlias(ordinal);
+      if (usedBytesOnTiers.get(tierAlias) <= mHighWatermarkBytesOnTiers.get(tierAlias)) {
+        continue;
+      }
       long bytesReserved = mBytesToReserveOnTiers.get(tierAlias);
       try {
         mBlockManager.freeSpace(Sessions.MIGRATE_DATA_SESSION_ID, bytesReserved, tierAlias);
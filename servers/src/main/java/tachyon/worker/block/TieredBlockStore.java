@@ -73,10 +73,13 @@ import tachyon.worker.block.meta.TempBlockMeta;
  * block lock for this block via {@link TieredBlockStore#mLockManager}. This block lock is a
  * read/write lock, guarding both the metadata operations and the following I/O on this block. It
  * coordinates different threads (clients) when accessing the same block concurrently.</li>
- * <li>Any metadata operation (read or write) must go through {@link TieredBlockStore#mMetaManager}
- * and guarded by {@link TieredBlockStore#mMetadataLock}. This is also a read/write lock and
- * coordinates different threads (clients) when accessing the shared data structure for metadata.
- * </li>
+ * <li>Any metadata operation (read or write) must go through {@link TieredBlockStore#mMetaManager},
+ * which is thread safe on its own: lookups do not lock, and each {@link StorageDir} serializes the
+ * changes to its blocks. Reads therefore never wait for commits, moves, removals or evictions.</li>
+ * <li>Operations which take space based on the available bytes, i.e. allocation of a temp block
+ * and growing a temp block, hold the write lock of {@link TieredBlockStore#mAllocationLock}, so
+ * that two of them never decide based on the same free space. Evictors plan with its read lock, so
+ * that they see the space as it is between allocations.</li>
  * <li>Method {@link #createBlockMeta} does not acquire the block lock, because it only creates a
  * temp block which is only visible to its writer before committed (thus no concurrent access).</li>
  * <li>Eviction is done in {@link #freeSpaceInternal} and it is on the basis of best effort. For
@@ -97,12 +100,12 @@ public final class TieredBlockStore implements BlockStore {
       new ArrayList<BlockStoreEventListener>();
   /** A set of pinned inodes fetched from the master */
   private final Set<Long> mPinnedInodes = new HashSet<Long>();
-  /** Lock to guard metadata operations */
-  private final ReentrantReadWriteLock mMetadataLock = new ReentrantReadWriteLock();
-  /** ReadLock provided by {@link #mMetadataReadLock} to guard metadata read operations */
-  private final Lock mMetadataReadLock = mMetadataLock.readLock();
-  /** WriteLock provided by {@link #mMetadataReadLock} to guard metadata write operations */
-  private final Lock mMetadataWriteLock = mMetadataLock.writeLock();
+  /** Lock to serialize the operations which take space */
+  private final ReentrantReadWriteLock mAllocationLock = new ReentrantReadWriteLock();
+  /** ReadLock provided by {@link #mAllocationLock} to guard eviction plans */
+  private final Lock mAllocationReadLock = mAllocationLock.readLock();
+  /** WriteLock provided by {@link #mAllocationLock} to guard allocations */
+  private final Lock mAllocationWriteLock = mAllocationLock.writeLock();
   /** Association between storage tier aliases and ordinals */
   private final StorageTierAssoc mStorageTierAssoc;
 
@@ -134,10 +137,7 @@ public final class TieredBlockStore implements BlockStore {
   @Override
   public long lockBlock(long sessionId, long blockId) throws BlockDoesNotExistException {
     long lockId = mLockManager.lockBlock(sessionId, blockId, BlockLockType.READ);
-    mMetadataReadLock.lock();
-    boolean hasBlock = mMetaManager.hasBlockMeta(blockId);
-    mMetadataReadLock.unlock();
-    if (hasBlock) {
+    if (mMetaManager.hasBlockMeta(blockId)) {
       return lockId;
     }
     mLockManager.unlockBlock(lockId);
@@ -161,26 +161,16 @@ public final class TieredBlockStore implements BlockStore {
     // NOTE: a temp block is supposed to only be visible by its own writer, unnecessary to acquire
     // block lock here since no sharing
     // TODO(bin): Handle the case where multiple writers compete for the same block.
-    mMetadataReadLock.lock();
-    try {
-      TempBlockMeta tempBlockMeta = mMetaManager.getTempBlockMeta(blockId);
-      return new LocalFileBlockWriter(tempBlockMeta.getPath());
-    } finally {
-      mMetadataReadLock.unlock();
-    }
+    TempBlockMeta tempBlockMeta = mMetaManager.getTempBlockMeta(blockId);
+    return new LocalFileBlockWriter(tempBlockMeta.getPath());
   }
 
   @Override
   public BlockReader getBlockReader(long sessionId, long blockId, long lockId)
       throws BlockDoesNotExistException, InvalidWorkerStateException, IOException {
     mLockManager.validateLock(sessionId, blockId, lockId);
-    mMetadataReadLock.lock();
-    try {
-      BlockMeta blockMeta = mMetaManager.getBlockMeta(blockId);
-      return new LocalFileBlockReader(blockMeta.getPath());
-    } finally {
-      mMetadataReadLock.unlock();
-    }
+    BlockMeta blockMeta = mMetaManager.getBlockMeta(blockId);
+    return new LocalFileBlockReader(blockMeta.getPath());
   }
 
   @Override
@@ -209,24 +199,14 @@ public final class TieredBlockStore implements BlockStore {
   // TODO(bin): Make this method to return a snapshot.
   @Override
   public BlockMeta getVolatileBlockMeta(long blockId) throws BlockDoesNotExistException {
-    mMetadataReadLock.lock();
-    try {
-      return mMetaManager.getBlockMeta(blockId);
-    } finally {
-      mMetadataReadLock.unlock();
-    }
+    return mMetaManager.getBlockMeta(blockId);
   }
 
   @Override
   public BlockMeta getBlockMeta(long sessionId, long blockId, long lockId)
       throws BlockDoesNotExistException, InvalidWorkerStateException {
     mLockManager.validateLock(sessionId, blockId, lockId);
-    mMetadataReadLock.lock();
-    try {
-      return mMetaManager.getBlockMeta(blockId);
-    } finally {
-      mMetadataReadLock.unlock();
-    }
+    return mMetaManager.getBlockMeta(blockId);
   }
 
   @Override
@@ -318,10 +298,7 @@ public final class TieredBlockStore implements BlockStore {
 
   @Override
   public void accessBlock(long sessionId, long blockId) throws BlockDoesNotExistException {
-    mMetadataReadLock.lock();
-    boolean hasBlock = mMetaManager.hasBlockMeta(blockId);
-    mMetadataReadLock.unlock();
-    if (!hasBlock) {
+    if (!mMetaManager.hasBlockMeta(blockId)) {
       throw new BlockDoesNotExistException(ExceptionMessage.NO_BLOCK_ID_FOUND, blockId);
     }
     synchronized (mBlockStoreEventListeners) {
@@ -344,13 +321,7 @@ public final class TieredBlockStore implements BlockStore {
     mLockManager.cleanupSession(sessionId);
 
     // Collect a list of temp blocks the given session owns and abort all of them with best effort
-    List<TempBlockMeta> tempBlocksToRemove;
-    mMetadataReadLock.lock();
-    try {
-      tempBlocksToRemove = mMetaManager.getSessionTempBlocks(sessionId);
-    } finally {
-      mMetadataReadLock.unlock();
-    }
+    List<TempBlockMeta> tempBlocksToRemove = mMetaManager.getSessionTempBlocks(sessionId);
     for (TempBlockMeta tempBlockMeta : tempBlocksToRemove) {
       try {
         abortBlockInternal(sessionId, tempBlockMeta.getBlockId());
@@ -383,18 +354,17 @@ public final class TieredBlockStore implements BlockStore {
 
   @Override
   public boolean hasBlockMeta(long blockId) {
-    mMetadataReadLock.lock();
-    boolean hasBlock = mMetaManager.hasBlockMeta(blockId);
-    mMetadataReadLock.unlock();
-    return hasBlock;
+    return mMetaManager.hasBlockMeta(blockId);
   }
 
   @Override
   public BlockStoreMeta getBlockStoreMeta() {
-    mMetadataReadLock.lock();
-    BlockStoreMeta storeMeta = mMetaManager.getBlockStoreMeta();
-    mMetadataReadLock.unlock();
-    return storeMeta;
+    return getBlockStoreMeta(true);
+  }
+
+  @Override
+  public BlockStoreMeta getBlockStoreMeta(boolean includeBlockIds) {
+    return mMetaManager.getBlockStoreMeta(includeBlockIds);
   }
 
   @Override
@@ -405,8 +375,8 @@ public final class TieredBlockStore implements BlockStore {
   }
 
   /**
-   * Checks if a blockId is available for a new temp block. This method must be enclosed by
-   * {@link #mMetadataLock}.
+   * Checks if a blockId is available for a new temp block. This method must be enclosed by the
+   * write lock of {@link #mAllocationLock}.
    *
    * @param blockId the id of block
    * @throws BlockAlreadyExistsException if blockId already exists
@@ -422,7 +392,7 @@ public final class TieredBlockStore implements BlockStore {
 
   /**
    * Checks if blockId is a temporary block and owned by sessionId. This method must be enclosed by
-   * {@link #mMetadataLock}.
+   * the block lock of blockId.
    *
    * @param sessionId the id of session
    * @param blockId the id of block
@@ -457,27 +427,16 @@ public final class TieredBlockStore implements BlockStore {
       BlockAlreadyExistsException, InvalidWorkerStateException, IOException {
     long lockId = mLockManager.lockBlock(sessionId, blockId, BlockLockType.WRITE);
     try {
-      String path;
-      TempBlockMeta tempBlockMeta;
-      mMetadataReadLock.lock();
-      try {
-        checkTempBlockOwnedBySession(sessionId, blockId);
-        tempBlockMeta = mMetaManager.getTempBlockMeta(blockId);
-        path = tempBlockMeta.getPath();
-      } finally {
-        mMetadataReadLock.unlock();
-      }
+      checkTempBlockOwnedBySession(sessionId, blockId);
+      TempBlockMeta tempBlockMeta = mMetaManager.getTempBlockMeta(blockId);
 
-      // Heavy IO is guarded by block lock but not metadata lock. This may throw IOException.
-      FileUtils.delete(path);
+      // Heavy IO is guarded by block lock. This may throw IOException.
+      FileUtils.delete(tempBlockMeta.getPath());
 
-      mMetadataWriteLock.lock();
       try {
         mMetaManager.abortTempBlockMeta(tempBlockMeta);
       } catch (BlockDoesNotExistException nfe) {
         throw Throwables.propagate(nfe); // We shall never reach here
-      } finally {
-        mMetadataWriteLock.unlock();
       }
     } finally {
       mLockManager.unlockBlock(lockId);
@@ -503,25 +462,12 @@ public final class TieredBlockStore implements BlockStore {
       // When committing TempBlockMeta, the final BlockMeta calculates the block size according to
       // the actual file size of this TempBlockMeta. Therefore, commitTempBlockMeta must happen
       // after moving actual block file to its committed path.
-      BlockStoreLocation loc;
-      String srcPath;
-      String dstPath;
-      TempBlockMeta tempBlockMeta;
-      mMetadataReadLock.lock();
-      try {
-        checkTempBlockOwnedBySession(sessionId, blockId);
-        tempBlockMeta = mMetaManager.getTempBlockMeta(blockId);
-        srcPath = tempBlockMeta.getPath();
-        dstPath = tempBlockMeta.getCommitPath();
-        loc = tempBlockMeta.getBlockLocation();
-      } finally {
-        mMetadataReadLock.unlock();
-      }
+      checkTempBlockOwnedBySession(sessionId, blockId);
+      TempBlockMeta tempBlockMeta = mMetaManager.getTempBlockMeta(blockId);
 
-      // Heavy IO is guarded by block lock but not metadata lock. This may throw IOException.
-      FileUtils.move(srcPath, dstPath);
+      // Heavy IO is guarded by block lock. This may throw IOException.
+      FileUtils.move(tempBlockMeta.getPath(), tempBlockMeta.getCommitPath());
 
-      mMetadataWriteLock.lock();
       try {
         mMetaManager.commitTempBlockMeta(tempBlockMeta);
       } catch (BlockAlreadyExistsException aee) {
@@ -530,10 +476,8 @@ public final class TieredBlockStore implements BlockStore {
         throw Throwables.propagate(nfe); // we shall never reach here
       } catch (WorkerOutOfSpaceException ose) {
         throw Throwables.propagate(ose); // we shall never reach here
-      } finally {
-        mMetadataWriteLock.unlock();
       }
-      return loc;
+      return tempBlockMeta.getBlockLocation();
     } finally {
       mLockManager.unlockBlock(lockId);
     }
@@ -557,7 +501,7 @@ public final class TieredBlockStore implements BlockStore {
           throws BlockAlreadyExistsException {
     // NOTE: a temp block is supposed to be visible for its own writer, unnecessary to acquire
     // block lock here since no sharing
-    mMetadataWriteLock.lock();
+    mAllocationWriteLock.lock();
     try {
       if (newBlock) {
         checkTempBlockIdAvailable(blockId);
@@ -588,7 +532,7 @@ public final class TieredBlockStore implements BlockStore {
       }
       return tempBlock;
     } finally {
-      mMetadataWriteLock.unlock();
+      mAllocationWriteLock.unlock();
     }
   }
 
@@ -606,7 +550,7 @@ public final class TieredBlockStore implements BlockStore {
       throws BlockDoesNotExistException {
     // NOTE: a temp block is supposed to be visible for its own writer, unnecessary to acquire
     // block lock here since no sharing
-    mMetadataWriteLock.lock();
+    mAllocationWriteLock.lock();
     try {
       TempBlockMeta tempBlockMeta = mMetaManager.getTempBlockMeta(blockId);
       if (tempBlockMeta.getParentDir().getAvailableBytes() < additionalBytes) {
@@ -621,7 +565,7 @@ public final class TieredBlockStore implements BlockStore {
       }
       return new Pair<Boolean, BlockStoreLocation>(true, null);
     } finally {
-      mMetadataWriteLock.unlock();
+      mAllocationWriteLock.unlock();
     }
   }
 
@@ -638,7 +582,7 @@ public final class TieredBlockStore implements BlockStore {
   private void freeSpaceInternal(long sessionId, long availableBytes, BlockStoreLocation location)
       throws WorkerOutOfSpaceException, IOException {
     EvictionPlan plan;
-    mMetadataReadLock.lock();
+    mAllocationReadLock.lock();
     try {
       plan = mEvictor.freeSpaceWithView(availableBytes, location, getUpdatedView());
       // Absent plan means failed to evict enough space.
@@ -646,7 +590,7 @@ public final class TieredBlockStore implements BlockStore {
         throw new WorkerOutOfSpaceException(ExceptionMessage.NO_EVICTION_PLAN_TO_FREE_SPACE);
       }
     } finally {
-      mMetadataReadLock.unlock();
+      mAllocationReadLock.unlock();
     }
 
     // 1. remove blocks to make room.
@@ -748,25 +692,13 @@ public final class TieredBlockStore implements BlockStore {
           InvalidWorkerStateException, IOException {
     long lockId = mLockManager.lockBlock(sessionId, blockId, BlockLockType.WRITE);
     try {
-      long blockSize;
-      String srcFilePath;
-      String dstFilePath;
-      BlockMeta srcBlockMeta;
-      BlockStoreLocation srcLocation;
-      BlockStoreLocation dstLocation;
-
-      mMetadataReadLock.lock();
-      try {
-        if (mMetaManager.hasTempBlockMeta(blockId)) {
-          throw new InvalidWorkerStateException(ExceptionMessage.MOVE_UNCOMMITTED_BLOCK, blockId);
-        }
-        srcBlockMeta = mMetaManager.getBlockMeta(blockId);
-        srcLocation = srcBlockMeta.getBlockLocation();
-        srcFilePath = srcBlockMeta.getPath();
-        blockSize = srcBlockMeta.getBlockSize();
-      } finally {
-        mMetadataReadLock.unlock();
+      if (mMetaManager.hasTempBlockMeta(blockId)) {
+        throw new InvalidWorkerStateException(ExceptionMessage.MOVE_UNCOMMITTED_BLOCK, blockId);
       }
+      BlockMeta srcBlockMeta = mMetaManager.getBlockMeta(blockId);
+      BlockStoreLocation srcLocation = srcBlockMeta.getBlockLocation();
+      String srcFilePath = srcBlockMeta.getPath();
+      long blockSize = srcBlockMeta.getBlockSize();
 
       if (!srcLocation.belongTo(oldLocation)) {
         throw new BlockDoesNotExistException(ExceptionMessage.BLOCK_NOT_FOUND_AT_LOCATION, blockId,
@@ -781,7 +713,7 @@ public final class TieredBlockStore implements BlockStore {
       // When `newLocation` is some specific location, the `newLocation` and the `dstLocation` are
       // just the same; while for `newLocation` with a wildcard significance, the `dstLocation`
       // is a specific one with specific tier and dir which belongs to newLocation.
-      dstLocation = dstTempBlock.getBlockLocation();
+      BlockStoreLocation dstLocation = dstTempBlock.getBlockLocation();
 
       // When the dstLocation belongs to srcLocation, simply abort the tempBlockMeta just created
       // internally from the newLocation and return success with specific block location.
@@ -789,12 +721,11 @@ public final class TieredBlockStore implements BlockStore {
         mMetaManager.abortTempBlockMeta(dstTempBlock);
         return new MoveBlockResult(true, blockSize, srcLocation, dstLocation);
       }
-      dstFilePath = dstTempBlock.getCommitPath();
+      String dstFilePath = dstTempBlock.getCommitPath();
 
-      // Heavy IO is guarded by block lock but not metadata lock. This may throw IOException.
+      // Heavy IO is guarded by block lock. This may throw IOException.
       FileUtils.move(srcFilePath, dstFilePath);
 
-      mMetadataWriteLock.lock();
       try {
         // If this metadata update fails, we panic for now.
         // TODO(bin): Implement rollback scheme to recover from IO failures.
@@ -807,8 +738,6 @@ public final class TieredBlockStore implements BlockStore {
         // Only possible if sessionId gets cleaned between createBlockMetaInternal and
         // moveBlockMeta.
         throw Throwables.propagate(ose);
-      } finally {
-        mMetadataWriteLock.unlock();
       }
 
       return new MoveBlockResult(true, blockSize, srcLocation, dstLocation);
@@ -831,33 +760,22 @@ public final class TieredBlockStore implements BlockStore {
       throws InvalidWorkerStateException, BlockDoesNotExistException, IOException {
     long lockId = mLockManager.lockBlock(sessionId, blockId, BlockLockType.WRITE);
     try {
-      String filePath;
-      BlockMeta blockMeta;
-      mMetadataReadLock.lock();
-      try {
-        if (mMetaManager.hasTempBlockMeta(blockId)) {
-          throw new InvalidWorkerStateException(ExceptionMessage.REMOVE_UNCOMMITTED_BLOCK, blockId);
-        }
-        blockMeta = mMetaManager.getBlockMeta(blockId);
-        filePath = blockMeta.getPath();
-      } finally {
-        mMetadataReadLock.unlock();
+      if (mMetaManager.hasTempBlockMeta(blockId)) {
+        throw new InvalidWorkerStateException(ExceptionMessage.REMOVE_UNCOMMITTED_BLOCK, blockId);
       }
+      BlockMeta blockMeta = mMetaManager.getBlockMeta(blockId);
 
       if (!blockMeta.getBlockLocation().belongTo(location)) {
         throw new BlockDoesNotExistException(ExceptionMessage.BLOCK_NOT_FOUND_AT_LOCATION, blockId,
             location);
       }
-      // Heavy IO is guarded by block lock but not metadata lock. This may throw IOException.
-      FileUtils.delete(filePath);
+      // Heavy IO is guarded by block lock. This may throw IOException.
+      FileUtils.delete(blockMeta.getPath());
 
-      mMetadataWriteLock.lock();
       try {
         mMetaManager.removeBlockMeta(blockMeta);
       } catch (BlockDoesNotExistException nfe) {
         throw Throwables.propagate(nfe); // we shall never reach here
-      } finally {
-        mMetadataWriteLock.unlock();
       }
     } finally {
       mLockManager.unlockBlock(lockId);
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.block.evictor;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * A count-min sketch of how often blocks were accessed recently, used by {@link TinyLFUEvictor} to
+ * decide which blocks to admit. Each block is counted by {@link #DEPTH} counters of at most
+ * {@link #MAX_COUNT}, one in each row, and its frequency is estimated by the smallest of them. Once
+ * the sketch has counted {@link #RESET_FACTOR} times as many accesses as its width, every counter
+ * is halved, so that accesses from long ago are forgotten.
+ *
+ * This class is not thread safe.
+ */
+final class FrequencySketch {
+  /** The number of rows, each of which maps a block to a counter with its own hash function. */
+  private static final int DEPTH = 4;
+  /** The largest value of a counter, which is enough to tell hot blocks from cold ones. */
+  private static final int MAX_COUNT = 15;
+  /** The number of accesses per counter in a row after which the counters are halved. */
+  private static final int RESET_FACTOR = 10;
+  private static final int MIN_WIDTH = 16;
+  private static final int MAX_WIDTH = 1 << 28;
+  private static final long[] SEEDS =
+      {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+  /** The counters of all rows, one row after the other. */
+  private byte[] mCounters;
+  private int mWidth;
+  /** The number of accesses counted since the counters were last halved. */
+  private int mAdditions = 0;
+
+  /**
+   * Creates a new instance of {@link FrequencySketch}.
+   *
+   * @param expectedBlocks the number of blocks the sketch is expected to tell apart
+   */
+  FrequencySketch(int expectedBlocks) {
+    mWidth = 0;
+    ensureCapacity(expectedBlocks);
+  }
+
+  /**
+   * Widens the sketch if it is too narrow to tell apart the given number of blocks. Widening the
+   * sketch forgets every access counted so far.
+   *
+   * @param expectedBlocks the number of blocks the sketch is expected to tell apart
+   */
+  void ensureCapacity(int expectedBlocks) {
+    Preconditions.checkArgument(expectedBlocks >= 0);
+    int width = MIN_WIDTH;
+    while (width < expectedBlocks && width < MAX_WIDTH) {
+      width <<= 1;
+    }
+    if (width <= mWidth) {
+      return;
+    }
+    mWidth = width;
+    mCounters = new byte[DEPTH * width];
+    mAdditions = 0;
+  }
+
+  /**
+   * @param blockId the id of the block
+   * @return the estimated number of recent accesses to the block
+   */
+  int frequency(long blockId) {
+    int frequency = MAX_COUNT;
+    for (int row = 0; row < DEPTH; row ++) {
+      frequency = Math.min(frequency, mCounters[index(blockId, row)]);
+    }
+    return frequency;
+  }
+
+  /**
+   * Counts an access to a block.
+   *
+   * @param blockId the id of the block
+   */
+  void increment(long blockId) {
+    boolean added = false;
+    for (int row = 0; row < DEPTH; row ++) {
+      int index = index(blockId, row);
+      if (mCounters[index] < MAX_COUNT) {
+        mCounters[index] ++;
+        added = true;
+      }
+    }
+    if (added) {
+      mAdditions ++;
+      if (mAdditions >= RESET_FACTOR * mWidth) {
+        reset();
+      }
+    }
+  }
+
+  /**
+   * Halves every counter.
+   */
+  private void reset() {
+    for (int i = 0; i < mCounters.length; i ++) {
+      mCounters[i] >>= 1;
+    }
+    mAdditions /= 2;
+  }
+
+  /**
+   * @param blockId the id of the block
+   * @param row the row
+   * @return the index of the counter of the block in the given row
+   */
+  private int index(long blockId, int row) {
+    long hash = (blockId ^ SEEDS[row]) * 0x9e3779b97f4a7c15L;
+    hash ^= hash >>> 29;
+    return row * mWidth + (int) (hash & (mWidth - 1));
+  }
+}
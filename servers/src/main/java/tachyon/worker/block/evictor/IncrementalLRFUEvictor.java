@@ -0,0 +1,201 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.block.evictor;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import com.google.common.base.Function;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
+
+import tachyon.Constants;
+import tachyon.conf.TachyonConf;
+import tachyon.worker.WorkerContext;
+import tachyon.worker.block.BlockMetadataManagerView;
+import tachyon.worker.block.BlockStoreLocation;
+import tachyon.worker.block.allocator.Allocator;
+import tachyon.worker.block.meta.BlockMeta;
+import tachyon.worker.block.meta.StorageDirView;
+import tachyon.worker.block.meta.StorageTierView;
+
+/**
+ * This class evicts blocks by LRFU, in the same order as {@link LRFUEvictor}, but keeps the blocks
+ * sorted as they are accessed instead of sorting all of them on each eviction.
+ *
+ * The CRF value of a block which is not accessed decays by the same factor as every other block,
+ * so the order of two blocks only changes when one of them is accessed. With the decay rate
+ * c = {@link Constants#WORKER_EVICTOR_LRFU_STEP_FACTOR} * ln(
+ * {@link Constants#WORKER_EVICTOR_LRFU_ATTENUATION_FACTOR}), the CRF value of a block at logic
+ * time t is exp(K - c * t), where K = ln(CRF(t')) + c * t' is computed when the block is accessed
+ * at time t'. K does not change until the next access, and blocks in ascending order of K are in
+ * ascending order of CRF, so the blocks are kept in a sorted set of K. Accesses take O(log n) time,
+ * and an eviction only visits the blocks it evicts, in the order of the set. Keeping K in the
+ * logarithmic domain keeps it from overflowing as the logic time grows.
+ */
+public final class IncrementalLRFUEvictor extends EvictorBase {
+  /** Map from block id to the sort key of the block */
+  private final Map<Long, CRFKey> mBlockIdToKey = new ConcurrentHashMap<Long, CRFKey>();
+  /** The sort keys of all blocks, in ascending order of CRF */
+  private final ConcurrentSkipListSet<CRFKey> mSortedKeys = new ConcurrentSkipListSet<CRFKey>();
+  /** The natural logarithm of the factor by which the CRF values decay per logic time unit */
+  private final double mDecayRate;
+  /** Logic time count, guarded by this evictor */
+  private long mLogicTimeCount = 0;
+
+  /**
+   * Creates a new instance of {@link IncrementalLRFUEvictor}.
+   *
+   * @param view a view of block metadata information
+   * @param allocator an allocation policy
+   */
+  public IncrementalLRFUEvictor(BlockMetadataManagerView view, Allocator allocator) {
+    super(view, allocator);
+    TachyonConf conf = WorkerContext.getConf();
+    double stepFactor = conf.getDouble(Constants.WORKER_EVICTOR_LRFU_STEP_FACTOR);
+    double attenuationFactor = conf.getDouble(Constants.WORKER_EVICTOR_LRFU_ATTENUATION_FACTOR);
+    Preconditions.checkArgument(stepFactor >= 0.0 && stepFactor <= 1.0,
+        "Step factor should be in the range of [0.0, 1.0]");
+    Preconditions.checkArgument(attenuationFactor >= 2.0,
+        "Attenuation factor should be no less than 2.0");
+    mDecayRate = stepFactor * Math.log(attenuationFactor);
+
+    // Preloading blocks, with a CRF value of 0
+    for (StorageTierView tier : mManagerView.getTierViews()) {
+      for (StorageDirView dir : tier.getDirViews()) {
+        for (BlockMeta block : dir.getEvictableBlocks()) {
+          putKey(new CRFKey(Double.NEGATIVE_INFINITY, block.getBlockId()));
+        }
+      }
+    }
+  }
+
+  @Override
+  protected Iterator<Long> getBlockIterator() {
+    // The iterator of the set is weakly consistent, so accesses may go on during an eviction.
+    return Iterators.transform(mSortedKeys.iterator(), new Function<CRFKey, Long>() {
+      @Override
+      public Long apply(CRFKey input) {
+        return input.mBlockId;
+      }
+    });
+  }
+
+  @Override
+  public void onAccessBlock(long sessionId, long blockId) {
+    updateOnAccessAndCommit(blockId);
+  }
+
+  @Override
+  public void onCommitBlock(long sessionId, long blockId, BlockStoreLocation location) {
+    updateOnAccessAndCommit(blockId);
+  }
+
+  @Override
+  public void onRemoveBlockByClient(long sessionId, long blockId) {
+    updateOnRemoveBlock(blockId);
+  }
+
+  @Override
+  public void onRemoveBlockByWorker(long sessionId, long blockId) {
+    updateOnRemoveBlock(blockId);
+  }
+
+  @Override
+  protected synchronized void onRemoveBlockFromIterator(long blockId) {
+    removeKey(blockId);
+  }
+
+  /**
+   * Updates the sort key of a block when it is accessed or committed. As in {@link LRFUEvictor},
+   * the new CRF value of the block is {1.0 + old CRF * F(current time - last update time)}, or 1.0
+   * if the block is new.
+   *
+   * @param blockId id of the block to be accessed or committed
+   */
+  private synchronized void updateOnAccessAndCommit(long blockId) {
+    mLogicTimeCount ++;
+    double currentOffset = mDecayRate * mLogicTimeCount;
+    CRFKey oldKey = removeKey(blockId);
+    double crfValue = oldKey == null ? 0.0 : Math.exp(oldKey.mKey - currentOffset);
+    putKey(new CRFKey(Math.log(crfValue + 1.0) + currentOffset, blockId));
+  }
+
+  /**
+   * Removes the sort key of a block when it is removed.
+   *
+   * @param blockId id of the block to be removed
+   */
+  private synchronized void updateOnRemoveBlock(long blockId) {
+    mLogicTimeCount ++;
+    removeKey(blockId);
+  }
+
+  private void putKey(CRFKey key) {
+    mBlockIdToKey.put(key.mBlockId, key);
+    mSortedKeys.add(key);
+  }
+
+  private CRFKey removeKey(long blockId) {
+    CRFKey key = mBlockIdToKey.remove(blockId);
+    if (key != null) {
+      mSortedKeys.remove(key);
+    }
+    return key;
+  }
+
+  /**
+   * The sort key of a block, ordered by the key and then by the block id.
+   */
+  private static final class CRFKey implements Comparable<CRFKey> {
+    /** ln(CRF(t)) + c * t, for the last time t the block was accessed */
+    private final double mKey;
+    private final long mBlockId;
+
+    CRFKey(double key, long blockId) {
+      mKey = key;
+      mBlockId = blockId;
+    }
+
+    @Override
+    public int compareTo(CRFKey o) {
+      int cmp = Double.compare(mKey, o.mKey);
+      if (cmp != 0) {
+        return cmp;
+      }
+      return mBlockId < o.mBlockId ? -1 : (mBlockId == o.mBlockId ? 0 : 1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CRFKey)) {
+        return false;
+      }
+      return compareTo((CRFKey) o) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(mKey, mBlockId);
+    }
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.block.evictor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.base.Preconditions;
+
+import tachyon.Constants;
+import tachyon.conf.TachyonConf;
+import tachyon.worker.WorkerContext;
+import tachyon.worker.WorkerSource;
+import tachyon.worker.block.BlockMetadataManagerView;
+import tachyon.worker.block.BlockStoreLocation;
+import tachyon.worker.block.allocator.Allocator;
+import tachyon.worker.block.meta.BlockMeta;
+import tachyon.worker.block.meta.StorageDirView;
+import tachyon.worker.block.meta.StorageTierView;
+
+/**
+ * Implementation of an evictor which follows the W-TinyLFU policy, so that a scan over many blocks
+ * which are read once does not evict the blocks which are read over and over.
+ *
+ * New blocks enter a small LRU window, sized by
+ * {@link Constants#WORKER_EVICTOR_TINYLFU_WINDOW_RATIO}. When a block falls out of the window, it
+ * is admitted to the main segments only if it was accessed more often than the block which would
+ * be evicted from them next, as estimated by a {@link FrequencySketch} of recent accesses. The main
+ * segments are a segmented LRU: admitted blocks enter the probation segment, and move to the
+ * protected segment, sized by {@link Constants#WORKER_EVICTOR_TINYLFU_PROTECTED_RATIO}, when they
+ * are accessed again.
+ *
+ * Unlike a cache which drops the blocks it does not admit, a worker has already stored a block by
+ * the time it is committed, so rejected blocks are kept in a segment of their own which is evicted
+ * before any other. Blocks are evicted from the rejected, probation, window and protected segments
+ * in this order, each in LRU order. Admission decisions are counted in the {@link WorkerSource}.
+ */
+public final class TinyLFUEvictor extends EvictorBase {
+  private static final boolean UNUSED_MAP_VALUE = true;
+
+  private final double mWindowRatio;
+  private final double mProtectedRatio;
+  private final FrequencySketch mSketch;
+  private final WorkerSource mWorkerSource;
+
+  // The segments are ordered maps from block id to UNUSED_MAP_VALUE, with the least recently used
+  // block at the head. All of them are guarded by this evictor.
+  /** Blocks which fell out of the window and were not admitted */
+  private final Map<Long, Boolean> mRejected = newSegment();
+  /** Blocks which were committed recently */
+  private final Map<Long, Boolean> mWindow = newSegment();
+  /** Admitted blocks which were not accessed since they were admitted or demoted */
+  private final Map<Long, Boolean> mProbation = newSegment();
+  /** Admitted blocks which were accessed again */
+  private final Map<Long, Boolean> mProtected = newSegment();
+
+  /**
+   * Creates a new instance of {@link TinyLFUEvictor}.
+   *
+   * @param view a view of block metadata information
+   * @param allocator an allocation policy
+   */
+  public TinyLFUEvictor(BlockMetadataManagerView view, Allocator allocator) {
+    super(view, allocator);
+    TachyonConf conf = WorkerContext.getConf();
+    mWindowRatio = conf.getDouble(Constants.WORKER_EVICTOR_TINYLFU_WINDOW_RATIO);
+    mProtectedRatio = conf.getDouble(Constants.WORKER_EVICTOR_TINYLFU_PROTECTED_RATIO);
+    Preconditions.checkArgument(mWindowRatio > 0.0 && mWindowRatio < 1.0,
+        "Window ratio should be in the range of (0.0, 1.0)");
+    Preconditions.checkArgument(mProtectedRatio > 0.0 && mProtectedRatio < 1.0,
+        "Protected ratio should be in the range of (0.0, 1.0)");
+    mWorkerSource = WorkerContext.getWorkerSource();
+
+    // Preloading blocks into the probation segment, as they were all admitted before
+    for (StorageTierView tier : mManagerView.getTierViews()) {
+      for (StorageDirView dir : tier.getDirViews()) {
+        for (BlockMeta block : dir.getEvictableBlocks()) {
+          mProbation.put(block.getBlockId(), UNUSED_MAP_VALUE);
+        }
+      }
+    }
+    mSketch = new FrequencySketch(mProbation.size());
+  }
+
+  @Override
+  protected synchronized Iterator<Long> getBlockIterator() {
+    List<Long> blocks = new ArrayList<Long>(size());
+    blocks.addAll(mRejected.keySet());
+    blocks.addAll(mProbation.keySet());
+    blocks.addAll(mWindow.keySet());
+    blocks.addAll(mProtected.keySet());
+    return blocks.iterator();
+  }
+
+  @Override
+  public synchronized void onAccessBlock(long sessionId, long blockId) {
+    mSketch.increment(blockId);
+    if (mWindow.containsKey(blockId)) {
+      mWindow.put(blockId, UNUSED_MAP_VALUE);
+    } else if (mProtected.containsKey(blockId)) {
+      mProtected.put(blockId, UNUSED_MAP_VALUE);
+    } else if (mProbation.remove(blockId) != null) {
+      mProtected.put(blockId, UNUSED_MAP_VALUE);
+      balanceProtected();
+    } else if (mRejected.containsKey(blockId)) {
+      // A rejected block which is accessed again gets another chance to be admitted
+      mRejected.remove(blockId);
+      admitOrReject(blockId);
+    } else {
+      addToWindow(blockId);
+    }
+  }
+
+  @Override
+  public synchronized void onCommitBlock(long sessionId, long blockId,
+      BlockStoreLocation location) {
+    mSketch.increment(blockId);
+    remove(blockId);
+    addToWindow(blockId);
+  }
+
+  @Override
+  public synchronized void onRemoveBlockByClient(long sessionId, long blockId) {
+    remove(blockId);
+  }
+
+  @Override
+  public synchronized void onRemoveBlockByWorker(long sessionId, long blockId) {
+    remove(blockId);
+  }
+
+  @Override
+  protected synchronized void onRemoveBlockFromIterator(long blockId) {
+    remove(blockId);
+  }
+
+  /**
+   * Adds a block to the window, and moves the blocks which no longer fit in the window to the main
+   * segments or to the rejected segment.
+   *
+   * @param blockId the id of the block
+   */
+  private void addToWindow(long blockId) {
+    mWindow.put(blockId, UNUSED_MAP_VALUE);
+    mSketch.ensureCapacity(size());
+    long maxWindowSize = Math.max(1, (long) (size() * mWindowRatio));
+    while (mWindow.size() > maxWindowSize) {
+      admitOrReject(removeHead(mWindow));
+    }
+  }
+
+  /**
+   * Admits a block to the probation segment if it was accessed more often than the block which
+   * would be evicted from the main segments next, and adds it to the rejected segment otherwise.
+   * Blocks which were accessed since they were committed also win ties, so that blocks which are
+   * as hot as each other do not reject each other, while a scan still cannot displace a block
+   * which was only committed once.
+   *
+   * @param candidate the id of the block
+   */
+  private void admitOrReject(long candidate) {
+    Map<Long, Boolean> victims = mProbation.isEmpty() ? mProtected : mProbation;
+    boolean admit = victims.isEmpty();
+    if (!admit) {
+      int candidateFrequency = mSketch.frequency(candidate);
+      int victimFrequency = mSketch.frequency(victims.keySet().iterator().next());
+      admit = candidateFrequency > victimFrequency
+          || (candidateFrequency == victimFrequency && candidateFrequency > 1);
+    }
+    if (admit) {
+      mProbation.put(candidate, UNUSED_MAP_VALUE);
+      mWorkerSource.incBlocksAdmitted(1);
+    } else {
+      mRejected.put(candidate, UNUSED_MAP_VALUE);
+      mWorkerSource.incBlocksRejected(1);
+    }
+  }
+
+  /**
+   * Demotes the least recently used blocks of the protected segment to the probation segment until
+   * the protected segment fits in its share of the main segments.
+   */
+  private void balanceProtected() {
+    long maxProtectedSize =
+        Math.max(1, (long) ((mProbation.size() + mProtected.size()) * mProtectedRatio));
+    while (mProtected.size() > maxProtectedSize) {
+      mProbation.put(removeHead(mProtected), UNUSED_MAP_VALUE);
+    }
+  }
+
+  private void remove(long blockId) {
+    if (mWindow.remove(blockId) == null && mProbation.remove(blockId) == null
+        && mProtected.remove(blockId) == null) {
+      mRejected.remove(blockId);
+    }
+  }
+
+  private int size() {
+    return mRejected.size() + mWindow.size() + mProbation.size() + mProtected.size();
+  }
+
+  private static long removeHead(Map<Long, Boolean> segment) {
+    Iterator<Long> iterator = segment.keySet().iterator();
+    long blockId = iterator.next();
+    iterator.remove();
+    return blockId;
+  }
+
+  private static Map<Long, Boolean> newSegment() {
+    // Access ordered, so that putting an existing block moves it to the tail
+    return new LinkedHashMap<Long, Boolean>(16, 0.75f, true);
+  }
+}
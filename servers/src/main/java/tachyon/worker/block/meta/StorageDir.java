@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
@@ -44,17 +45,20 @@ import tachyon.worker.block.BlockStoreLocation;
  * Represents a directory in a storage tier. It has a fixed capacity allocated to it on
  * instantiation. It contains the set of blocks currently in the storage directory.
  * <p>
- * This class does not guarantee thread safety.
+ * This class is thread safe. Lookups of blocks and of the available bytes do not lock, while
+ * changes to the blocks in this dir are serialized by the lock of this dir, so that the blocks and
+ * the space they take are updated together. A block being committed is visible either as a temp
+ * block or as a committed block at any time.
  */
 public final class StorageDir {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
   private final long mCapacityBytes;
   /** A map from block id to block meta data */
-  private Map<Long, BlockMeta> mBlockIdToBlockMap;
+  private final Map<Long, BlockMeta> mBlockIdToBlockMap;
   /** A map from block id to temp block meta data */
-  private Map<Long, TempBlockMeta> mBlockIdToTempBlockMap;
-  /** A map from session id to the set of temp blocks created by this session */
-  private Map<Long, Set<Long>> mSessionIdToTempBlockIdsMap;
+  private final Map<Long, TempBlockMeta> mBlockIdToTempBlockMap;
+  /** A map from session id to the set of temp blocks created by this session, guarded by this */
+  private final Map<Long, Set<Long>> mSessionIdToTempBlockIdsMap;
   private AtomicLong mAvailableBytes;
   private AtomicLong mCommittedBytes;
   private String mDirPath;
@@ -68,8 +72,8 @@ public final class StorageDir {
     mAvailableBytes = new AtomicLong(capacityBytes);
     mCommittedBytes = new AtomicLong(0);
     mDirPath = dirPath;
-    mBlockIdToBlockMap = new HashMap<Long, BlockMeta>(200);
-    mBlockIdToTempBlockMap = new HashMap<Long, TempBlockMeta>(200);
+    mBlockIdToBlockMap = new ConcurrentHashMap<Long, BlockMeta>(200);
+    mBlockIdToTempBlockMap = new ConcurrentHashMap<Long, TempBlockMeta>(200);
     mSessionIdToTempBlockIdsMap = new HashMap<Long, Set<Long>>(200);
   }
 
@@ -271,7 +275,7 @@ public final class StorageDir {
    * @throws BlockAlreadyExistsException if blockId already exists
    * @throws WorkerOutOfSpaceException when not enough space to hold block
    */
-  public void addBlockMeta(BlockMeta blockMeta) throws WorkerOutOfSpaceException,
+  public synchronized void addBlockMeta(BlockMeta blockMeta) throws WorkerOutOfSpaceException,
       BlockAlreadyExistsException {
     Preconditions.checkNotNull(blockMeta);
     long blockId = blockMeta.getBlockId();
@@ -296,7 +300,8 @@ public final class StorageDir {
    * @throws BlockAlreadyExistsException if blockId already exists
    * @throws WorkerOutOfSpaceException when not enough space to hold block
    */
-  public void addTempBlockMeta(TempBlockMeta tempBlockMeta) throws WorkerOutOfSpaceException,
+  public synchronized void addTempBlockMeta(TempBlockMeta tempBlockMeta)
+      throws WorkerOutOfSpaceException,
       BlockAlreadyExistsException {
     Preconditions.checkNotNull(tempBlockMeta);
     long sessionId = tempBlockMeta.getSessionId();
@@ -328,7 +333,7 @@ public final class StorageDir {
    * @param blockMeta the meta data of the block
    * @throws BlockDoesNotExistException if no block is found
    */
-  public void removeBlockMeta(BlockMeta blockMeta) throws BlockDoesNotExistException {
+  public synchronized void removeBlockMeta(BlockMeta blockMeta) throws BlockDoesNotExistException {
     Preconditions.checkNotNull(blockMeta);
     long blockId = blockMeta.getBlockId();
     BlockMeta deletedBlockMeta = mBlockIdToBlockMap.remove(blockId);
@@ -344,7 +349,64 @@ public final class StorageDir {
    * @param tempBlockMeta the meta data of the temp block to remove
    * @throws BlockDoesNotExistException if no temp block is found
    */
-  public void removeTempBlockMeta(TempBlockMeta tempBlockMeta) throws BlockDoesNotExistException {
+  public synchronized void removeTempBlockMeta(TempBlockMeta tempBlockMeta)
+      throws BlockDoesNotExistException {
+    removeTempBlockMetaInternal(tempBlockMeta);
+    reclaimSpace(tempBlockMeta.getBlockSize(), false);
+  }
+
+  /**
+   * Replaces a temp block with a committed block, which takes the space reserved by the temp block.
+   * The committed block is added before the temp block is removed, so that a block being committed
+   * can always be found in this dir.
+   *
+   * @param tempBlockMeta the meta data of the temp block to replace
+   * @param blockMeta the meta data of the committed block
+   * @throws BlockDoesNotExistException if no temp block is found
+   * @throws BlockAlreadyExistsException if the block is already committed
+   * @throws WorkerOutOfSpaceException when the committed block is larger than the temp block, and
+   *         there is not enough space to hold the difference
+   */
+  public synchronized void commitTempBlockMeta(TempBlockMeta tempBlockMeta, BlockMeta blockMeta)
+      throws BlockDoesNotExistException, BlockAlreadyExistsException, WorkerOutOfSpaceException {
+    Preconditions.checkNotNull(blockMeta);
+    long blockId = blockMeta.getBlockId();
+    long blockSize = blockMeta.getBlockSize();
+    long tempBlockSize = tempBlockMeta.getBlockSize();
+    if (getTempBlockMeta(tempBlockMeta.getBlockId()) != tempBlockMeta) {
+      throw new BlockDoesNotExistException(ExceptionMessage.TEMP_BLOCK_META_NOT_FOUND,
+          tempBlockMeta.getBlockId());
+    }
+    if (hasBlockMeta(blockId)) {
+      throw new BlockAlreadyExistsException(ExceptionMessage.ADD_EXISTING_BLOCK, blockId, blockMeta
+          .getBlockLocation().tierAlias());
+    }
+    if (getAvailableBytes() + tempBlockSize < blockSize) {
+      throw new WorkerOutOfSpaceException(ExceptionMessage.NO_SPACE_FOR_BLOCK_META, blockId,
+          blockSize, getAvailableBytes() + tempBlockSize, blockMeta.getBlockLocation().tierAlias());
+    }
+    mBlockIdToBlockMap.put(blockId, blockMeta);
+    try {
+      removeTempBlockMetaInternal(tempBlockMeta);
+    } catch (BlockDoesNotExistException e) {
+      mBlockIdToBlockMap.remove(blockId);
+      throw e;
+    }
+    // Moves the reservation of the temp block to the committed block in one update, so that a
+    // concurrent allocation never sees the space of the temp block as free
+    mAvailableBytes.addAndGet(tempBlockSize - blockSize);
+    mCommittedBytes.addAndGet(blockSize);
+  }
+
+  /**
+   * Removes a temp block from the maps of this dir, without reclaiming its space. This method must
+   * be called with the lock of this dir held.
+   *
+   * @param tempBlockMeta the meta data of the temp block to remove
+   * @throws BlockDoesNotExistException if no temp block is found
+   */
+  private void removeTempBlockMetaInternal(TempBlockMeta tempBlockMeta)
+      throws BlockDoesNotExistException {
     Preconditions.checkNotNull(tempBlockMeta);
     final long blockId = tempBlockMeta.getBlockId();
     final long sessionId = tempBlockMeta.getSessionId();
@@ -361,7 +423,6 @@ public final class StorageDir {
     if (sessionBlocks.isEmpty()) {
       mSessionIdToTempBlockIdsMap.remove(sessionId);
     }
-    reclaimSpace(tempBlockMeta.getBlockSize(), false);
   }
 
   /**
@@ -371,7 +432,7 @@ public final class StorageDir {
    * @param newSize the new size after change in bytes
    * @throws InvalidWorkerStateException when newSize is smaller than oldSize
    */
-  public void resizeTempBlockMeta(TempBlockMeta tempBlockMeta, long newSize)
+  public synchronized void resizeTempBlockMeta(TempBlockMeta tempBlockMeta, long newSize)
       throws InvalidWorkerStateException {
     long oldSize = tempBlockMeta.getBlockSize();
     if (newSize > oldSize) {
@@ -389,7 +450,7 @@ public final class StorageDir {
    * @param tempBlockIds the list of temporary blocks to clean up, non temporary blocks or
    *        nonexistent blocks will be ignored
    */
-  public void cleanupSessionTempBlocks(long sessionId, List<Long> tempBlockIds) {
+  public synchronized void cleanupSessionTempBlocks(long sessionId, List<Long> tempBlockIds) {
     Set<Long> sessionTempBlocks = mSessionIdToTempBlockIdsMap.get(sessionId);
     // The session's temporary blocks have already been removed.
     if (sessionTempBlocks == null) {
@@ -425,7 +486,7 @@ public final class StorageDir {
    * @param sessionId the id of the session
    * @return A list of temporary blocks the session is associated with in this {@link StorageDir}
    */
-  public List<TempBlockMeta> getSessionTempBlocks(long sessionId) {
+  public synchronized List<TempBlockMeta> getSessionTempBlocks(long sessionId) {
     Set<Long> sessionTempBlockIds = mSessionIdToTempBlockIdsMap.get(sessionId);
 
     if (sessionTempBlockIds == null || sessionTempBlockIds.isEmpty()) {
@@ -17,6 +17,7 @@ package tachyon.worker.file;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
@@ -24,11 +25,16 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -41,7 +47,8 @@ import tachyon.exception.BlockDoesNotExistException;
 import tachyon.exception.InvalidWorkerStateException;
 import tachyon.thrift.FileInfo;
 import tachyon.underfs.UnderFileSystem;
-import tachyon.util.io.BufferUtils;
+import tachyon.util.CommonUtils;
+import tachyon.util.ThreadFactoryUtils;
 import tachyon.util.io.PathUtils;
 import tachyon.worker.WorkerContext;
 import tachyon.worker.block.BlockDataManager;
@@ -52,6 +59,8 @@ import tachyon.worker.block.io.BlockReader;
  */
 public final class FileDataManager {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+  /** The number of buffers each file being persisted reads ahead into. */
+  private static final int PREFETCH_BUFFERS = 4;
 
   private final UnderFileSystem mUfs;
   /** Block data manager for access block info */
@@ -63,6 +72,17 @@ public final class FileDataManager {
   private final Set<Long> mPersistedFiles;
   private final TachyonConf mTachyonConf;
   private final Object mLock = new Object();
+  /** The size of the buffers the blocks being persisted are read into */
+  private final int mBufferBytes;
+  /**
+   * The buffers which no prefetcher is using, kept for the next ones. It holds enough buffers for
+   * as many files as can be persisted at once; buffers beyond that are left to the garbage
+   * collector.
+   */
+  private final BlockingQueue<ByteBuffer> mIdleBuffers;
+  /** The threads reading ahead the blocks of the files being persisted */
+  private final ExecutorService mPrefetchService =
+      Executors.newCachedThreadPool(ThreadFactoryUtils.build("file-persist-prefetcher-%d", true));
 
   /**
    * Creates a new instance of {@link FileDataManager}.
@@ -74,6 +94,10 @@ public final class FileDataManager {
     mPersistingInProgressFiles = Sets.newHashSet();
     mPersistedFiles = Sets.newHashSet();
     mTachyonConf = WorkerContext.getConf();
+    mBufferBytes =
+        (int) mTachyonConf.getBytes(Constants.WORKER_FILESYSTEM_PERSIST_BUFFER_SIZE_BYTES);
+    mIdleBuffers = new ArrayBlockingQueue<ByteBuffer>(PREFETCH_BUFFERS
+        * Math.max(mTachyonConf.getInt(Constants.WORKER_FILESYSTEM_PERSIST_POOL_SIZE), 1));
     // Create Under FileSystem Client
     String ufsAddress = mTachyonConf.get(Constants.UNDERFS_ADDRESS);
     mUfs = UnderFileSystem.get(ufsAddress, mTachyonConf);
@@ -153,7 +177,10 @@ public final class FileDataManager {
   }
 
   /**
-   * Persists the blocks of a file into the under file system.
+   * Persists the blocks of a file into the under file system. The blocks are read ahead on a
+   * separate thread, in chunks of {@link #mBufferBytes}, while the chunks read before are written
+   * to the under file system, so that reading from the worker storage and writing to the under
+   * file system overlap.
    *
    * @param fileId the id of the file
    * @param blockIds the list of block ids
@@ -170,6 +197,8 @@ public final class FileDataManager {
 
     Map<Long, Long> blockIdToLockId = Maps.newHashMap();
     List<Throwable> errors = new ArrayList<Throwable>();
+    long startTimeMs = CommonUtils.getCurrentMs();
+    long bytes = 0;
     try {
       // lock all the blocks to prevent any eviction
       for (long blockId : blockIds) {
@@ -177,18 +206,7 @@ public final class FileDataManager {
         blockIdToLockId.put(blockId, lockId);
       }
 
-      for (long blockId : blockIds) {
-        long lockId = blockIdToLockId.get(blockId);
-
-        // obtain block reader
-        BlockReader reader =
-            mBlockDataManager.readBlockRemote(Sessions.CHECKPOINT_SESSION_ID, blockId, lockId);
-
-        // write content out
-        ReadableByteChannel inputChannel = reader.getChannel();
-        BufferUtils.fastCopy(inputChannel, outputChannel);
-        reader.close();
-      }
+      bytes = copyBlocks(blockIds, blockIdToLockId, outputChannel);
     } catch (BlockDoesNotExistException e) {
       errors.add(e);
     } catch (InvalidWorkerStateException e) {
@@ -216,12 +234,201 @@ public final class FileDataManager {
     outputStream.flush();
     outputChannel.close();
     outputStream.close();
+    long elapsedMs = Math.max(CommonUtils.getCurrentMs() - startTimeMs, 1);
+    LOG.info("persisted file {} ({} bytes in {} blocks) in {} ms, {} MB/s", fileId, bytes,
+        blockIds.size(), elapsedMs, bytes * Constants.SECOND_MS / elapsedMs / Constants.MB);
+    WorkerContext.getWorkerSource().incFilesPersisted(1);
+    WorkerContext.getWorkerSource().incBytesWrittenUfs(bytes);
     synchronized (mLock) {
       mPersistingInProgressFiles.remove(fileId);
       mPersistedFiles.add(fileId);
     }
   }
 
+  /**
+   * Copies the content of the given locked blocks, in order, to the output channel. The blocks are
+   * read by a {@link BlockPrefetcher} while this thread writes.
+   *
+   * @param blockIds the ids of the blocks to copy
+   * @param blockIdToLockId the lock ids of the blocks
+   * @param outputChannel the channel to write to
+   * @return the number of bytes copied
+   * @throws BlockDoesNotExistException if a block cannot be read
+   * @throws InvalidWorkerStateException if a block is locked by another session
+   * @throws IOException if reading a block, or writing the output, fails
+   */
+  private long copyBlocks(List<Long> blockIds, Map<Long, Long> blockIdToLockId,
+      WritableByteChannel outputChannel)
+      throws BlockDoesNotExistException, InvalidWorkerStateException, IOException {
+    BlockPrefetcher prefetcher = new BlockPrefetcher(blockIds, blockIdToLockId);
+    mPrefetchService.execute(prefetcher);
+    long bytes = 0;
+    try {
+      ByteBuffer buffer;
+      while ((buffer = prefetcher.takeChunk()) != null) {
+        bytes += buffer.remaining();
+        while (buffer.hasRemaining()) {
+          outputChannel.write(buffer);
+        }
+        prefetcher.returnChunk(buffer);
+      }
+    } finally {
+      // Stops the prefetcher early if the write failed, and waits for it to be done with the
+      // blocks before they are unlocked.
+      prefetcher.cancel();
+      prefetcher.releaseBuffers();
+    }
+    prefetcher.checkFailure();
+    return bytes;
+  }
+
+  /**
+   * Reads the blocks of a file being persisted, in order, into a fixed number of buffers which are
+   * handed to the writing thread through a queue. Once all the buffers are waiting to be written,
+   * the prefetcher waits for the writer to return one.
+   */
+  private final class BlockPrefetcher implements Runnable {
+    /** The buffer queued after the last chunk, which is never written. */
+    private final ByteBuffer mEndOfBlocks = ByteBuffer.allocate(0);
+    private final List<Long> mBlockIds;
+    private final Map<Long, Long> mBlockIdToLockId;
+    private final BlockingQueue<ByteBuffer> mFreeBuffers;
+    private final BlockingQueue<ByteBuffer> mFullBuffers;
+    private volatile boolean mCancelled = false;
+    private volatile Throwable mFailure = null;
+    private boolean mDone = false;
+
+    BlockPrefetcher(List<Long> blockIds, Map<Long, Long> blockIdToLockId) {
+      mBlockIds = blockIds;
+      mBlockIdToLockId = blockIdToLockId;
+      mFreeBuffers = new ArrayBlockingQueue<ByteBuffer>(PREFETCH_BUFFERS);
+      mFullBuffers = new ArrayBlockingQueue<ByteBuffer>(PREFETCH_BUFFERS + 1);
+      for (int i = 0; i < PREFETCH_BUFFERS; i ++) {
+        ByteBuffer buffer = mIdleBuffers.poll();
+        mFreeBuffers.add(buffer != null ? buffer : ByteBuffer.allocate(mBufferBytes));
+      }
+    }
+
+    @Override
+    public void run() {
+      try {
+        for (long blockId : mBlockIds) {
+          if (mCancelled) {
+            break;
+          }
+          BlockReader reader = mBlockDataManager.readBlockRemote(Sessions.CHECKPOINT_SESSION_ID,
+              blockId, mBlockIdToLockId.get(blockId));
+          try {
+            readBlock(reader.getChannel());
+          } finally {
+            reader.close();
+          }
+        }
+      } catch (Throwable t) {
+        mFailure = t;
+      } finally {
+        // The queue has room for the marker, as it holds one more element than there are buffers.
+        mFullBuffers.add(mEndOfBlocks);
+      }
+    }
+
+    private void readBlock(ReadableByteChannel inputChannel)
+        throws IOException, InterruptedException {
+      boolean endOfBlock = false;
+      while (!endOfBlock && !mCancelled) {
+        ByteBuffer buffer = mFreeBuffers.take();
+        buffer.clear();
+        while (buffer.hasRemaining()) {
+          if (inputChannel.read(buffer) == -1) {
+            endOfBlock = true;
+            break;
+          }
+        }
+        buffer.flip();
+        if (buffer.hasRemaining()) {
+          mFullBuffers.put(buffer);
+        } else {
+          mFreeBuffers.put(buffer);
+        }
+      }
+    }
+
+    /**
+     * @return the next chunk to write, or null if all the blocks were read, or reading them failed
+     * @throws IOException if interrupted while waiting for the chunk
+     */
+    ByteBuffer takeChunk() throws IOException {
+      if (mDone) {
+        return null;
+      }
+      ByteBuffer buffer;
+      try {
+        buffer = mFullBuffers.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException(e);
+      }
+      if (buffer == mEndOfBlocks) {
+        mDone = true;
+        return null;
+      }
+      return buffer;
+    }
+
+    /**
+     * Returns a chunk which was written, so that its buffer can be filled again.
+     *
+     * @param buffer the buffer of the chunk
+     */
+    void returnChunk(ByteBuffer buffer) {
+      mFreeBuffers.add(buffer);
+    }
+
+    /**
+     * Stops reading the blocks, and waits until the prefetcher is done.
+     *
+     * @throws IOException if interrupted while waiting
+     */
+    void cancel() throws IOException {
+      mCancelled = true;
+      ByteBuffer buffer;
+      while ((buffer = takeChunk()) != null) {
+        returnChunk(buffer);
+      }
+    }
+
+    /**
+     * Hands the buffers back to the manager for the next prefetchers. Must only be called once
+     * {@link #cancel()} returned, so that no buffer is still in use.
+     */
+    void releaseBuffers() {
+      ByteBuffer buffer;
+      while ((buffer = mFreeBuffers.poll()) != null) {
+        buffer.clear();
+        mIdleBuffers.offer(buffer);
+      }
+    }
+
+    /**
+     * Rethrows the failure of the prefetcher, if any.
+     *
+     * @throws BlockDoesNotExistException if a block cannot be read
+     * @throws InvalidWorkerStateException if a block is locked by another session
+     * @throws IOException if reading a block failed
+     */
+    void checkFailure()
+        throws BlockDoesNotExistException, InvalidWorkerStateException, IOException {
+      Throwable failure = mFailure;
+      if (failure == null) {
+        return;
+      }
+      Throwables.propagateIfPossible(failure, IOException.class);
+      Throwables.propagateIfInstanceOf(failure, BlockDoesNotExistException.class);
+      Throwables.propagateIfInstanceOf(failure, InvalidWorkerStateException.class);
+      throw new IOException(failure);
+    }
+  }
+
   /**
    * Prepares the destination file path of the given file id. Also creates the parent folder if it
    * does not exist.
@@ -244,6 +451,14 @@ public final class FileDataManager {
     return dstPath;
   }
 
+  /**
+   * Stops the threads reading ahead the blocks of the files being persisted. Files which are still
+   * being persisted fail.
+   */
+  public void stop() {
+    mPrefetchService.shutdownNow();
+  }
+
   /**
    * @return the persisted file
    */
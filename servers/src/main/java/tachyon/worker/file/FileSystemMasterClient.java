@@ -32,6 +32,7 @@ import tachyon.exception.TachyonException;
 import tachyon.thrift.FileInfo;
 import tachyon.thrift.FileSystemCommand;
 import tachyon.thrift.FileSystemMasterWorkerService;
+import tachyon.thrift.PinListDelta;
 import tachyon.thrift.TachyonService;
 
 /**
@@ -104,6 +105,22 @@ public final class FileSystemMasterClient extends MasterClientBase {
     });
   }
 
+  /**
+   * @param version the version of the pin list last seen by the worker
+   * @return the changes to the set of pinned file ids since the given version
+   * @throws ConnectionFailedException if network connection failed
+   * @throws IOException if an I/O error occurs
+   */
+  public synchronized PinListDelta getPinListDelta(final long version)
+      throws ConnectionFailedException, IOException {
+    return retryRPC(new RpcCallable<PinListDelta>() {
+      @Override
+      public PinListDelta call() throws TException {
+        return mClient.getPinListDelta(version);
+      }
+    });
+  }
+
   /**
    * Heartbeats to the worker. It also carries command for the worker to persist the given files.
    *
@@ -84,6 +84,7 @@ public final class FileSystemWorker extends WorkerBase {
       mFilePersistenceService.cancel(true);
     }
     mFileSystemMasterWorkerClient.close();
+    mFileDataManager.stop();
     getExecutorService().shutdown();
   }
 }
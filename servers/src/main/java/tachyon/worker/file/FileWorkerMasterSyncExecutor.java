@@ -31,6 +31,7 @@ import tachyon.heartbeat.HeartbeatExecutor;
 import tachyon.thrift.CommandType;
 import tachyon.thrift.FileSystemCommand;
 import tachyon.thrift.PersistFile;
+import tachyon.worker.WorkerContext;
 import tachyon.worker.WorkerIdRegistry;
 import tachyon.worker.block.BlockMasterSync;
 
@@ -49,14 +50,13 @@ import tachyon.worker.block.BlockMasterSync;
 final class FileWorkerMasterSyncExecutor implements HeartbeatExecutor {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
-  private static final int DEFAULT_FILE_PERSISTER_POOL_SIZE = 10;
   /** Logic for managing async file persistence */
   private final FileDataManager mFileDataManager;
   /** Client for communicating to file system master */
   private final FileSystemMasterClient mMasterClient;
   /** The thread pool to persist file */
-  private final ExecutorService mFixedExecutionService =
-      Executors.newFixedThreadPool(DEFAULT_FILE_PERSISTER_POOL_SIZE);
+  private final ExecutorService mFixedExecutionService = Executors.newFixedThreadPool(
+      WorkerContext.getConf().getInt(Constants.WORKER_FILESYSTEM_PERSIST_POOL_SIZE));
 
   /**
    * Creates a new instance of {@link FileWorkerMasterSyncExecutor}.
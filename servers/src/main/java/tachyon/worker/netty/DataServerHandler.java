@@ -15,27 +15,35 @@
 
 package tachyon.worker.netty;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Preconditions;
 
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.util.AttributeKey;
 
 import tachyon.Constants;
 import tachyon.StorageTierAssoc;
 import tachyon.WorkerStorageTierAssoc;
 import tachyon.conf.TachyonConf;
-import tachyon.exception.BlockDoesNotExistException;
 import tachyon.exception.InvalidWorkerStateException;
+import tachyon.exception.WorkerOutOfSpaceException;
 import tachyon.network.protocol.RPCBlockReadRequest;
 import tachyon.network.protocol.RPCBlockReadResponse;
 import tachyon.network.protocol.RPCBlockWriteRequest;
@@ -58,11 +66,18 @@ import tachyon.worker.block.io.BlockWriter;
 @ChannelHandler.Sharable
 public final class DataServerHandler extends SimpleChannelInboundHandler<RPCMessage> {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+  /** The chunked block reads of a channel which wait for the channel to become writable. */
+  private static final AttributeKey<Queue<ChunkedReadResponder>> PAUSED_READS =
+      AttributeKey.valueOf("pausedChunkedReads");
+  /** The block write sessions of a channel, keyed by block id. */
+  private static final AttributeKey<Map<Long, BlockWriteSession>> WRITE_SESSIONS =
+      AttributeKey.valueOf("blockWriteSessions");
 
   private final BlockDataManager mDataManager;
   private final TachyonConf mTachyonConf;
   private final StorageTierAssoc mStorageTierAssoc;
   private final FileTransferType mTransferType;
+  private final long mWriteReservationBytes;
 
   /**
    * Creates a new instance of {@link DataServerHandler}.
@@ -76,6 +91,8 @@ public final class DataServerHandler extends SimpleChannelInboundHandler<RPCMess
     mStorageTierAssoc = new WorkerStorageTierAssoc(mTachyonConf);
     mTransferType = mTachyonConf.getEnum(Constants.WORKER_NETWORK_NETTY_FILE_TRANSFER_TYPE,
         FileTransferType.class);
+    mWriteReservationBytes =
+        mTachyonConf.getBytes(Constants.WORKER_NETWORK_NETTY_WRITE_RESERVATION_BYTES);
   }
 
   @Override
@@ -98,12 +115,53 @@ public final class DataServerHandler extends SimpleChannelInboundHandler<RPCMess
     }
   }
 
+  @Override
+  public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+    if (evt instanceof IdleStateEvent) {
+      LOG.debug("Closing idle channel {}", ctx.channel());
+      ctx.close();
+    } else {
+      super.userEventTriggered(ctx, evt);
+    }
+  }
+
   @Override
   public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
     LOG.warn("Exception thrown while processing request", cause);
     ctx.close();
   }
 
+  @Override
+  public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+    resumeChunkedReads(ctx.channel());
+    super.channelWritabilityChanged(ctx);
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    Queue<ChunkedReadResponder> paused = ctx.channel().attr(PAUSED_READS).getAndRemove();
+    if (paused != null) {
+      for (ChunkedReadResponder responder : paused) {
+        responder.abort();
+      }
+    }
+    Map<Long, BlockWriteSession> sessions = ctx.channel().attr(WRITE_SESSIONS).getAndRemove();
+    if (sessions != null) {
+      // The client went away in the middle of writing; it cancels or abandons the temp blocks.
+      for (BlockWriteSession session : sessions.values()) {
+        session.abort();
+      }
+    }
+    super.channelInactive(ctx);
+  }
+
+  /**
+   * Serves a block read request. The channel is kept open after the response is written so that a
+   * client may send many read requests over one connection; each response carries the request id
+   * of the request it answers. Failures are reported as error responses rather than by closing the
+   * channel, since other requests may still be in flight on it. If the request asks for a chunked
+   * response, the range is streamed back by a {@link ChunkedReadResponder}.
+   */
   private void handleBlockReadRequest(final ChannelHandlerContext ctx,
       final RPCBlockReadRequest req) throws IOException {
     final long blockId = req.getBlockId();
@@ -112,43 +170,62 @@ public final class DataServerHandler extends SimpleChannelInboundHandler<RPCMess
     final long lockId = req.getLockId();
     final long sessionId = req.getSessionId();
 
-    BlockReader reader;
-    try {
-      reader = mDataManager.readBlockRemote(sessionId, blockId, lockId);
-    } catch (BlockDoesNotExistException nfe) {
-      throw new IOException(nfe);
-    } catch (InvalidWorkerStateException fpe) {
-      throw new IOException(fpe);
-    }
+    BlockReader reader = null;
     try {
       req.validate();
+      reader = mDataManager.readBlockRemote(sessionId, blockId, lockId);
       final long fileLength = reader.getLength();
       validateBounds(req, fileLength);
       final long readLength = returnLength(offset, len, fileLength);
-      RPCBlockReadResponse resp = new RPCBlockReadResponse(blockId, offset, readLength,
-          getDataBuffer(req, reader, readLength), RPCResponse.Status.SUCCESS);
-      ChannelFuture future = ctx.writeAndFlush(resp);
-      future.addListener(ChannelFutureListener.CLOSE);
-      future.addListener(new ClosableResourceChannelListener(reader));
+      if (req.getChunkLength() > 0 && readLength > req.getChunkLength()) {
+        new ChunkedReadResponder(ctx, req, reader, offset + readLength).writeNextChunk();
+      } else {
+        RPCBlockReadResponse resp = new RPCBlockReadResponse(blockId, offset, readLength,
+            getDataBuffer(reader, offset, readLength), RPCResponse.Status.SUCCESS,
+            req.getRequestId());
+        ChannelFuture future = ctx.writeAndFlush(resp);
+        future.addListener(new ClosableResourceChannelListener(reader));
+      }
       mDataManager.accessBlock(sessionId, blockId);
-      LOG.info("Preparation for responding to remote block request for: {} done.", blockId);
+      LOG.debug("Preparation for responding to remote block request for: {} done.", blockId);
+    } catch (InvalidWorkerStateException e) {
+      LOG.error("Invalid lock {} for remote read of block {}", lockId, blockId, e);
+      ctx.writeAndFlush(
+          RPCBlockReadResponse.createErrorResponse(req, RPCResponse.Status.BLOCK_LOCK_ERROR));
+      closeQuietly(reader);
     } catch (Exception e) {
       LOG.error("The file is not here : {}", e.getMessage(), e);
-      RPCBlockReadResponse resp =
-          RPCBlockReadResponse.createErrorResponse(req, RPCResponse.Status.FILE_DNE);
-      ChannelFuture future = ctx.writeAndFlush(resp);
-      future.addListener(ChannelFutureListener.CLOSE);
-      if (reader != null) {
-        reader.close();
-      }
+      ctx.writeAndFlush(RPCBlockReadResponse.createErrorResponse(req, RPCResponse.Status.FILE_DNE));
+      closeQuietly(reader);
+    }
+  }
+
+  /**
+   * Resumes the chunked reads of a channel which were waiting for the channel to drain, for as long
+   * as the channel stays writable.
+   */
+  private void resumeChunkedReads(Channel channel) {
+    Queue<ChunkedReadResponder> paused = channel.attr(PAUSED_READS).get();
+    while (paused != null && channel.isWritable() && !paused.isEmpty()) {
+      paused.poll().writeNextChunk();
     }
   }
 
-  // TODO(hy): This write request handler is very simple in order to be stateless. Therefore, the
-  // block file is opened and closed for every request. If this is too slow, then this handler
-  // should be optimized to keep state.
   private void handleBlockWriteRequest(final ChannelHandlerContext ctx,
       final RPCBlockWriteRequest req) throws IOException {
+    if (req.getMode() == RPCBlockWriteRequest.Mode.SINGLE) {
+      handleSingleBlockWriteRequest(ctx, req);
+    } else {
+      handleStreamedBlockWriteRequest(ctx, req);
+    }
+  }
+
+  /**
+   * Serves a self-contained block write request: the block file is opened, written and closed, the
+   * write is acknowledged and the channel is closed.
+   */
+  private void handleSingleBlockWriteRequest(final ChannelHandlerContext ctx,
+      final RPCBlockWriteRequest req) throws IOException {
     final long sessionId = req.getSessionId();
     final long blockId = req.getBlockId();
     final long offset = req.getOffset();
@@ -189,6 +266,63 @@ public final class DataServerHandler extends SimpleChannelInboundHandler<RPCMess
     }
   }
 
+  /**
+   * Serves a packet of a block write session. The block stays open on the channel between packets,
+   * and its space is reserved in batches which start at the size of the first packet and double
+   * up to {@link #mWriteReservationBytes}, so a packet usually costs no more than appending its
+   * data, while a small block never reserves much more than it writes. Packets are not
+   * acknowledged: the client learns about a failed packet from an error response, after which the
+   * rest of the session is dropped, and the last packet is acknowledged once the block is closed.
+   */
+  private void handleStreamedBlockWriteRequest(final ChannelHandlerContext ctx,
+      final RPCBlockWriteRequest req) {
+    final long blockId = req.getBlockId();
+    final boolean last = req.getMode() == RPCBlockWriteRequest.Mode.STREAM_END;
+
+    Map<Long, BlockWriteSession> sessions = ctx.channel().attr(WRITE_SESSIONS).get();
+    if (sessions == null) {
+      sessions = new HashMap<Long, BlockWriteSession>();
+      ctx.channel().attr(WRITE_SESSIONS).set(sessions);
+    }
+    BlockWriteSession session = sessions.get(blockId);
+    if (session == null) {
+      session = new BlockWriteSession(req.getSessionId(), blockId);
+      sessions.put(blockId, session);
+    }
+    if (last) {
+      sessions.remove(blockId);
+    }
+    if (session.isFailed()) {
+      // The client has already been sent an error; these packets were in flight before it knew.
+      return;
+    }
+    try {
+      req.validate();
+      session.append(req.getOffset(), req.getPayloadDataBuffer().getReadOnlyByteBuffer());
+      if (last) {
+        session.close();
+        ctx.writeAndFlush(new RPCBlockWriteResponse(req.getSessionId(), blockId, req.getOffset(),
+            req.getLength(), RPCResponse.Status.SUCCESS));
+      }
+    } catch (Exception e) {
+      LOG.error("Error writing remote block : {}", e.getMessage(), e);
+      session.abort();
+      ctx.writeAndFlush(
+          RPCBlockWriteResponse.createErrorResponse(req, RPCResponse.Status.WRITE_ERROR));
+    }
+  }
+
+  private void closeQuietly(Closeable resource) {
+    if (resource == null) {
+      return;
+    }
+    try {
+      resource.close();
+    } catch (IOException e) {
+      LOG.warn("Failed to close {}", resource, e);
+    }
+  }
+
   /**
    * Returns how much of a file to read. When {@code len} is {@code -1}, then
    * {@code fileLength - offset} is used.
@@ -210,27 +344,213 @@ public final class DataServerHandler extends SimpleChannelInboundHandler<RPCMess
    * Returns the appropriate {@link DataBuffer} representing the data to send, depending on the
    * configurable transfer type.
    *
-   * @param req The initiating {@link RPCBlockReadRequest}
    * @param reader The {@link BlockReader} for the block to read
+   * @param offset The offset, in bytes, of the data to read from the block
    * @param readLength The length, in bytes, of the data to read from the block
    * @return a {@link DataBuffer} representing the data
    * @throws IOException
    * @throws IllegalArgumentException
    */
-  private DataBuffer getDataBuffer(RPCBlockReadRequest req, BlockReader reader, long readLength)
+  private DataBuffer getDataBuffer(BlockReader reader, long offset, long readLength)
       throws IOException, IllegalArgumentException {
     switch (mTransferType) {
       case MAPPED:
-        ByteBuffer data = reader.read(req.getOffset(), (int) readLength);
+        ByteBuffer data = reader.read(offset, (int) readLength);
         return new DataByteBuffer(data, readLength);
       case TRANSFER: // intend to fall through as TRANSFER is the default type.
       default:
         if (reader.getChannel() instanceof FileChannel) {
-          return new DataFileChannel((FileChannel) reader.getChannel(), req.getOffset(),
-              readLength);
+          return new DataFileChannel((FileChannel) reader.getChannel(), offset, readLength);
         }
         reader.close();
         throw new IllegalArgumentException("Only FileChannel is supported!");
     }
   }
+
+  /**
+   * Streams the range of a block read request back as a sequence of responses of at most the
+   * requested chunk length. The next chunk is only read and written once the previous one has been
+   * written to the socket and the channel is writable, so a slow client holds back the worker
+   * instead of making it buffer the rest of the block. The block reader is closed once the last
+   * chunk is written or the channel fails. All the methods are called from the channel's event
+   * loop.
+   */
+  private final class ChunkedReadResponder implements ChannelFutureListener {
+    private final ChannelHandlerContext mContext;
+    private final RPCBlockReadRequest mRequest;
+    private final BlockReader mReader;
+    private final long mEnd;
+    private long mNextOffset;
+
+    /**
+     * @param ctx the context of the channel the request was received on
+     * @param request the block read request
+     * @param reader the reader of the block, owned by this responder from now on
+     * @param end the offset in the block at which the range ends
+     */
+    private ChunkedReadResponder(ChannelHandlerContext ctx, RPCBlockReadRequest request,
+        BlockReader reader, long end) {
+      mContext = ctx;
+      mRequest = request;
+      mReader = reader;
+      mEnd = end;
+      mNextOffset = request.getOffset();
+    }
+
+    /**
+     * Writes the next chunk of the range.
+     */
+    private void writeNextChunk() {
+      long length = Math.min(mRequest.getChunkLength(), mEnd - mNextOffset);
+      DataBuffer data;
+      try {
+        data = getDataBuffer(mReader, mNextOffset, length);
+      } catch (Exception e) {
+        LOG.error("Failed to read block {} at offset {}", mRequest.getBlockId(), mNextOffset, e);
+        mContext.writeAndFlush(
+            RPCBlockReadResponse.createErrorResponse(mRequest, RPCResponse.Status.FILE_DNE));
+        abort();
+        return;
+      }
+      RPCBlockReadResponse resp = new RPCBlockReadResponse(mRequest.getBlockId(), mNextOffset,
+          length, data, RPCResponse.Status.SUCCESS, mRequest.getRequestId());
+      mNextOffset += length;
+      ChannelFuture future = mContext.writeAndFlush(resp);
+      if (mNextOffset < mEnd) {
+        future.addListener(this);
+      } else {
+        future.addListener(new ClosableResourceChannelListener(mReader));
+      }
+    }
+
+    @Override
+    public void operationComplete(ChannelFuture future) {
+      if (!future.isSuccess()) {
+        // The channel is broken, the client will fail the request on its own.
+        abort();
+        return;
+      }
+      Channel channel = future.channel();
+      if (channel.isWritable()) {
+        writeNextChunk();
+        return;
+      }
+      Queue<ChunkedReadResponder> paused = new ArrayDeque<ChunkedReadResponder>();
+      Queue<ChunkedReadResponder> existing = channel.attr(PAUSED_READS).setIfAbsent(paused);
+      (existing == null ? paused : existing).add(this);
+      // The channel may have drained before this responder was queued.
+      resumeChunkedReads(channel);
+    }
+
+    /**
+     * Gives up on the rest of the range.
+     */
+    private void abort() {
+      closeQuietly(mReader);
+    }
+  }
+
+  /**
+   * The state of a block which is written over a channel by a sequence of packets. All the methods
+   * are called from the channel's event loop.
+   */
+  private final class BlockWriteSession {
+    private final long mSessionId;
+    private final long mBlockId;
+    private BlockWriter mWriter = null;
+    /** The offset in the block at which the next packet must start, or -1 before the first one. */
+    private long mNextOffset = -1;
+    /** The number of bytes reserved for the block so far. */
+    private long mReservedBytes = 0;
+    private boolean mFailed = false;
+
+    /**
+     * @param sessionId the id of the session writing the block
+     * @param blockId the id of the block
+     */
+    private BlockWriteSession(long sessionId, long blockId) {
+      mSessionId = sessionId;
+      mBlockId = blockId;
+    }
+
+    /**
+     * Appends a packet to the block, creating the temp block if the packet starts at offset 0 and
+     * reserving more space if the previous reservation does not cover the packet.
+     *
+     * @param offset the offset in the block at which the packet starts
+     * @param data the data of the packet
+     * @throws Exception if the block could not be created, reserved or written
+     */
+    private void append(long offset, ByteBuffer data) throws Exception {
+      long length = data.remaining();
+      if (mNextOffset == -1) {
+        if (offset == 0) {
+          mReservedBytes = createBlock(length);
+        } else {
+          // The block was created by earlier requests; nothing beyond them is known to be reserved.
+          mReservedBytes = offset;
+        }
+        mNextOffset = offset;
+        mWriter = mDataManager.getTempBlockWriterRemote(mSessionId, mBlockId);
+      }
+      Preconditions.checkState(offset == mNextOffset,
+          "Write of block %s at offset %s, expected offset %s", mBlockId, offset, mNextOffset);
+      long missingBytes = mNextOffset + length - mReservedBytes;
+      if (missingBytes > 0) {
+        mReservedBytes += requestSpace(missingBytes);
+      }
+      mWriter.append(data);
+      mNextOffset += length;
+    }
+
+    /**
+     * @return whether the session failed and ignores further packets
+     */
+    private boolean isFailed() {
+      return mFailed;
+    }
+
+    /**
+     * Closes the block after the last packet.
+     *
+     * @throws IOException if the block could not be closed
+     */
+    private void close() throws IOException {
+      if (mWriter != null) {
+        mWriter.close();
+        mWriter = null;
+      }
+    }
+
+    /**
+     * Gives up on the rest of the block.
+     */
+    private void abort() {
+      mFailed = true;
+      closeQuietly(mWriter);
+      mWriter = null;
+    }
+
+    private long createBlock(long length) throws Exception {
+      // Nothing is known about the size of the block yet, so only the first packet is reserved.
+      mDataManager.createBlockRemote(mSessionId, mBlockId, mStorageTierAssoc.getAlias(0), length);
+      return length;
+    }
+
+    private long requestSpace(long missingBytes) throws Exception {
+      // Grow the reservation geometrically, so it never exceeds twice what the block has used.
+      long batchBytes =
+          Math.max(missingBytes, Math.min(mReservedBytes, mWriteReservationBytes));
+      try {
+        mDataManager.requestSpace(mSessionId, mBlockId, batchBytes);
+        return batchBytes;
+      } catch (WorkerOutOfSpaceException e) {
+        if (batchBytes == missingBytes) {
+          throw e;
+        }
+        mDataManager.requestSpace(mSessionId, mBlockId, missingBytes);
+        return missingBytes;
+      }
+    }
+  }
 }
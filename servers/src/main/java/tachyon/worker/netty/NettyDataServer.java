@@ -58,7 +58,8 @@ public final class NettyDataServer implements DataServer {
     mTachyonConf = Preconditions.checkNotNull(tachyonConf);
     mDataServerHandler =
         new DataServerHandler(Preconditions.checkNotNull(dataManager), mTachyonConf);
-    mBootstrap = createBootstrap().childHandler(new PipelineHandler(mDataServerHandler));
+    mBootstrap = createBootstrap().childHandler(new PipelineHandler(mDataServerHandler,
+        mTachyonConf.getLong(Constants.WORKER_NETWORK_NETTY_IDLE_TIMEOUT_MS)));
 
     try {
       mChannelFuture = mBootstrap.bind(address).sync();
@@ -86,6 +87,8 @@ public final class NettyDataServer implements DataServer {
     // use pooled buffers
     boot.option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
     boot.childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+    // client channels are long-lived, so detect peers which went away without closing them
+    boot.childOption(ChannelOption.SO_KEEPALIVE, true);
 
     // set write buffer
     // this is the default, but its recommended to set it in case of change in future netty.
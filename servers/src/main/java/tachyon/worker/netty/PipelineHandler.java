@@ -15,10 +15,13 @@
 
 package tachyon.worker.netty;
 
+import java.util.concurrent.TimeUnit;
+
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.stream.ChunkedWriteHandler;
+import io.netty.handler.timeout.IdleStateHandler;
 
 import tachyon.network.protocol.RPCMessage;
 import tachyon.network.protocol.RPCMessageDecoder;
@@ -29,14 +32,26 @@ import tachyon.network.protocol.RPCMessageEncoder;
  */
 public final class PipelineHandler extends ChannelInitializer<SocketChannel> {
   private final DataServerHandler mDataServerHandler;
+  private final long mIdleTimeoutMs;
 
-  public PipelineHandler(final DataServerHandler handler) {
+  /**
+   * @param handler the data server handler shared by all the channels
+   * @param idleTimeoutMs the time after which a channel without any traffic is closed, or 0 to
+   *        keep idle channels open
+   */
+  public PipelineHandler(final DataServerHandler handler, final long idleTimeoutMs) {
     mDataServerHandler = handler;
+    mIdleTimeoutMs = idleTimeoutMs;
   }
 
   @Override
   protected void initChannel(SocketChannel ch) throws Exception {
     ChannelPipeline pipeline = ch.pipeline();
+    if (mIdleTimeoutMs > 0) {
+      // Clients keep channels open across requests, so reap the ones which have gone quiet.
+      pipeline.addLast("idleStateHandler",
+          new IdleStateHandler(0, 0, mIdleTimeoutMs, TimeUnit.MILLISECONDS));
+    }
     pipeline.addLast("nioChunkedWriter", new ChunkedWriteHandler());
     pipeline.addLast("frameDecoder", RPCMessage.createFrameDecoder());
     pipeline.addLast("RPCMessageDecoder", new RPCMessageDecoder());
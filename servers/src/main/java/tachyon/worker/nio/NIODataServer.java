@@ -230,6 +230,7 @@ public final class NIODataServer implements Runnable, DataServer {
       DataServerMessage tResponseMessage = DataServerMessage.createBlockResponseMessage(true,
           blockId, tMessage.getOffset(), dataLen, data);
       tResponseMessage.setLockId(lockId);
+      tResponseMessage.setRequestId(tMessage.getRequestId());
       mSendingData.put(socketChannel, tResponseMessage);
     }
   }
@@ -40,6 +40,7 @@ import com.google.common.collect.Sets;
 
 import tachyon.collections.IndexedSet;
 import tachyon.exception.TachyonException;
+import tachyon.exception.NoWorkerException;
 import tachyon.heartbeat.HeartbeatContext;
 import tachyon.heartbeat.HeartbeatScheduler;
 import tachyon.master.block.meta.MasterBlockInfo;
@@ -233,6 +234,44 @@ public class BlockMasterTest {
     Assert.assertNotEquals(lastUpdatedTime1, workerInfo.getLastUpdatedTimeMs());
   }
 
+  @Test
+  public void registerBlocksInChunksTest() throws Exception {
+    long workerId = mMaster.getWorkerId(NET_ADDRESS_1);
+    MasterWorkerInfo workerInfo = mPrivateAccess.getWorkerById(workerId);
+    final Map<String, Long> USED_BYTES_ON_TIERS = ImmutableMap.of("MEM", 0L, "HDD", 0L);
+    addWorker(mMaster, workerId, Arrays.asList("MEM", "HDD"),
+        ImmutableMap.of("MEM", 500L, "HDD", 500L), USED_BYTES_ON_TIERS);
+    mMaster.commitBlock(workerId, 0L, "MEM", 1L, 1L);
+    mMaster.commitBlock(workerId, 0L, "HDD", 2L, 1L);
+    mMaster.commitBlock(workerId, 0L, "HDD", 3L, 1L);
+
+    // The worker re-registers, sending two of its blocks in chunks and none in the registration.
+    mMaster.workerRegisterBlocks(workerId, ImmutableMap.<String, List<Long>>of(
+        "MEM", ImmutableList.of(1L), "HDD", ImmutableList.<Long>of()));
+    mMaster.workerRegisterBlocks(workerId, ImmutableMap.<String, List<Long>>of(
+        "MEM", ImmutableList.<Long>of(), "HDD", ImmutableList.of(2L)));
+    Assert.assertEquals(ImmutableSet.of(1L, 2L, 3L), workerInfo.getBlocks());
+    addWorker(mMaster, workerId, Arrays.asList("MEM", "HDD"),
+        ImmutableMap.of("MEM", 500L, "HDD", 500L), USED_BYTES_ON_TIERS);
+
+    // The block which was in no chunk is removed from the worker.
+    Assert.assertEquals(ImmutableSet.of(1L, 2L), workerInfo.getBlocks());
+    Assert.assertEquals(ImmutableSet.of(workerId),
+        mPrivateAccess.getMasterBlockInfo(2L).getWorkers());
+    Assert.assertEquals(ImmutableSet.of(), mPrivateAccess.getMasterBlockInfo(3L).getWorkers());
+
+    // A later registration without chunks is not affected by the earlier chunks.
+    mMaster.workerRegister(workerId, Arrays.asList("MEM", "HDD"),
+        ImmutableMap.of("MEM", 500L, "HDD", 500L), USED_BYTES_ON_TIERS,
+        ImmutableMap.<String, List<Long>>of("HDD", ImmutableList.of(2L)));
+    Assert.assertEquals(ImmutableSet.of(2L), workerInfo.getBlocks());
+  }
+
+  @Test(expected = NoWorkerException.class)
+  public void registerBlocksUnknownWorkerTest() throws Exception {
+    mMaster.workerRegisterBlocks(1L, ImmutableMap.<String, List<Long>>of());
+  }
+
   @Test
   public void unknownHeartbeatTest() throws Exception {
     Command heartBeat = mMaster.workerHeartbeat(0, null, null, null);
@@ -17,9 +17,13 @@ package tachyon.master.file;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.junit.AfterClass;
 import org.junit.Assert;
@@ -64,6 +68,7 @@ import tachyon.worker.NetAddress;
  */
 public final class FileSystemMasterTest {
   private static final long TTLCHECKER_INTERVAL_MS = 0;
+  private static final int TTLCHECKER_BATCH_SIZE = 2;
   private static final TachyonURI NESTED_URI = new TachyonURI("/nested/test");
   private static final TachyonURI NESTED_FILE_URI = new TachyonURI("/nested/test/file");
   private static final TachyonURI ROOT_URI = new TachyonURI("/");
@@ -72,6 +77,8 @@ public final class FileSystemMasterTest {
   private static CreateOptions sNestedFileOptions;
   private static long sOldTtlIntervalMs;
 
+  private Journal mBlockJournal;
+  private Journal mFsJournal;
   private BlockMaster mBlockMaster;
   private FileSystemMaster mFileSystemMaster;
   private long mWorkerId1;
@@ -101,15 +108,17 @@ public final class FileSystemMasterTest {
   public void before() throws Exception {
     MasterContext.getConf().set(Constants.MASTER_TTLCHECKER_INTERVAL_MS,
         String.valueOf(TTLCHECKER_INTERVAL_MS));
-    Journal blockJournal = new ReadWriteJournal(mTestFolder.newFolder().getAbsolutePath());
-    Journal fsJournal = new ReadWriteJournal(mTestFolder.newFolder().getAbsolutePath());
+    MasterContext.getConf().set(Constants.MASTER_TTLCHECKER_BATCH_SIZE,
+        String.valueOf(TTLCHECKER_BATCH_SIZE));
+    mBlockJournal = new ReadWriteJournal(mTestFolder.newFolder().getAbsolutePath());
+    mFsJournal = new ReadWriteJournal(mTestFolder.newFolder().getAbsolutePath());
     HeartbeatContext.setTimerClass(HeartbeatContext.MASTER_TTL_CHECK,
         HeartbeatContext.SCHEDULED_TIMER_CLASS);
     HeartbeatContext.setTimerClass(HeartbeatContext.MASTER_LOST_FILES_DETECTION,
         HeartbeatContext.SCHEDULED_TIMER_CLASS);
 
-    mBlockMaster = new BlockMaster(blockJournal);
-    mFileSystemMaster = new FileSystemMaster(mBlockMaster, fsJournal);
+    mBlockMaster = new BlockMaster(mBlockJournal);
+    mFileSystemMaster = new FileSystemMaster(mBlockMaster, mFsJournal);
 
     mBlockMaster.start(true);
     mFileSystemMaster.start(true);
@@ -206,6 +215,33 @@ public final class FileSystemMasterTest {
     mFileSystemMaster.getFileInfo(fileId);
   }
 
+  @Test
+  public void deleteExpiredFilesInBatchesTest() throws Exception {
+    CreateOptions options =
+        new CreateOptions.Builder(MasterContext.getConf()).setBlockSizeBytes(Constants.KB)
+            .setRecursive(true).setTtl(1).build();
+    int numFiles = TTLCHECKER_BATCH_SIZE * 2 + 1;
+    for (int i = 0; i < numFiles; i ++) {
+      mFileSystemMaster.create(NESTED_URI.join("file" + i), options);
+    }
+
+    executeTtlCheckOnce();
+    for (int i = 0; i < numFiles; i ++) {
+      Assert.assertEquals(IdUtils.INVALID_FILE_ID,
+          mFileSystemMaster.getFileId(NESTED_URI.join("file" + i)));
+    }
+
+    // The batched deletes are replayed from the journal.
+    mFileSystemMaster.stop();
+    mBlockMaster.stop();
+    mBlockMaster = new BlockMaster(mBlockJournal);
+    mFileSystemMaster = new FileSystemMaster(mBlockMaster, mFsJournal);
+    mBlockMaster.start(true);
+    mFileSystemMaster.start(true);
+    Assert.assertTrue(mFileSystemMaster.getFileInfoList(
+        mFileSystemMaster.getFileId(NESTED_URI)).isEmpty());
+  }
+
   @Test
   public void setTtlForFileWithNoTtlTest() throws Exception {
     CreateOptions options =
@@ -324,6 +360,34 @@ public final class FileSystemMasterTest {
     Assert.assertEquals(Lists.newArrayList(ROOT_FILE_URI), mFileSystemMaster.getInMemoryFiles());
   }
 
+  @Test
+  public void inMemoryFileIndexTest() throws Exception {
+    long blockId = createFileWithSingleBlock(ROOT_FILE_URI);
+    createFileWithSingleBlock(NESTED_FILE_URI);
+    long fileId = mFileSystemMaster.getFileId(ROOT_FILE_URI);
+    long nestedFileId = mFileSystemMaster.getFileId(NESTED_FILE_URI);
+    Assert.assertEquals(2, mFileSystemMaster.getNumberOfInMemoryFiles());
+
+    // Pages are in the order of the file ids.
+    List<FileInfo> page = mFileSystemMaster.getInMemoryFileInfoListAfter(-1, 1);
+    Assert.assertEquals(1, page.size());
+    Assert.assertEquals(fileId, page.get(0).getFileId());
+    page = mFileSystemMaster.getInMemoryFileInfoListAfter(fileId, 1);
+    Assert.assertEquals(1, page.size());
+    Assert.assertEquals(nestedFileId, page.get(0).getFileId());
+    Assert.assertTrue(mFileSystemMaster.getInMemoryFileInfoListAfter(nestedFileId, 1).isEmpty());
+    Assert.assertEquals(NESTED_FILE_URI.getPath(),
+        mFileSystemMaster.getInMemoryFileInfoList(1, 1).get(0).getPath());
+
+    // The worker evicts the block of the first file.
+    mBlockMaster.workerHeartbeat(mWorkerId1, ImmutableMap.of("MEM", 0L),
+        Lists.newArrayList(blockId), ImmutableMap.<String, List<Long>>of());
+    Assert.assertEquals(Lists.newArrayList(NESTED_FILE_URI), mFileSystemMaster.getInMemoryFiles());
+
+    mFileSystemMaster.deleteFile(nestedFileId, true);
+    Assert.assertEquals(0, mFileSystemMaster.getNumberOfInMemoryFiles());
+  }
+
   @Test
   public void renameTest() throws Exception {
     long fileId = mFileSystemMaster.create(NESTED_FILE_URI, sNestedFileOptions);
@@ -454,6 +518,45 @@ public final class FileSystemMasterTest {
     Assert.assertEquals(PersistenceState.LOST.name(), fileInfo.getPersistenceState());
   }
 
+  @Test(timeout = 10000)
+  public void concurrentLookupTest() throws Exception {
+    createFileWithSingleBlock(NESTED_FILE_URI);
+    final long fileId = mFileSystemMaster.getFileId(NESTED_FILE_URI);
+    ReentrantReadWriteLock lock =
+        (ReentrantReadWriteLock) Whitebox.getInternalState(mFileSystemMaster, "mInodeTreeLock");
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    Future<Long> create;
+    lock.readLock().lock();
+    try {
+      // A lookup does not wait for another lookup in progress.
+      Future<FileInfo> fileInfo = executor.submit(new Callable<FileInfo>() {
+        @Override
+        public FileInfo call() throws Exception {
+          return mFileSystemMaster.getFileInfo(fileId);
+        }
+      });
+      Assert.assertEquals(fileId, fileInfo.get().getFileId());
+
+      // A mutation does.
+      create = executor.submit(new Callable<Long>() {
+        @Override
+        public Long call() throws Exception {
+          return mFileSystemMaster.create(ROOT_FILE_URI, sNestedFileOptions);
+        }
+      });
+      try {
+        create.get(100, TimeUnit.MILLISECONDS);
+        Assert.fail("create should wait for the lookup in progress");
+      } catch (TimeoutException e) {
+        // expected
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    Assert.assertEquals(mFileSystemMaster.getFileId(ROOT_FILE_URI), (long) create.get());
+    executor.shutdown();
+  }
+
   private long createFileWithSingleBlock(TachyonURI uri) throws Exception {
     long fileId = mFileSystemMaster.create(uri, sNestedFileOptions);
     long blockId = mFileSystemMaster.getNewBlockIdForFile(fileId);
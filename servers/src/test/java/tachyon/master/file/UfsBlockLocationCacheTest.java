@@ -0,0 +1,140 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.file;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import com.google.common.collect.Lists;
+
+import tachyon.Constants;
+import tachyon.conf.TachyonConf;
+import tachyon.thrift.WorkerNetAddress;
+import tachyon.underfs.UnderFileSystem;
+import tachyon.util.CommonUtils;
+
+/**
+ * Unit tests for {@link UfsBlockLocationCache}.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(UnderFileSystem.class)
+public final class UfsBlockLocationCacheTest {
+  private static final String UFS_PATH = "/ufs/file";
+  private static final long OFFSET = 10;
+  private static final long TIMEOUT_MS = 100;
+
+  private UnderFileSystem mUfs;
+  private UfsBlockLocationCache mCache;
+
+  @Before
+  public void before() {
+    mUfs = PowerMockito.mock(UnderFileSystem.class);
+    PowerMockito.mockStatic(UnderFileSystem.class);
+    PowerMockito.when(UnderFileSystem.get(Mockito.anyString(), Mockito.any(TachyonConf.class)))
+        .thenReturn(mUfs);
+    TachyonConf conf = new TachyonConf();
+    conf.set(Constants.MASTER_UFS_BLOCK_LOCATION_TIMEOUT_MS, Long.toString(TIMEOUT_MS));
+    mCache = new UfsBlockLocationCache(conf);
+  }
+
+  @Test
+  public void getTest() throws Exception {
+    Mockito.when(mUfs.getFileLocations(UFS_PATH, OFFSET))
+        .thenReturn(Lists.newArrayList("host1:123", "host2", "host3:port"));
+
+    List<WorkerNetAddress> locations = mCache.get(UFS_PATH, OFFSET);
+    Assert.assertEquals(2, locations.size());
+    Assert.assertEquals("host1", locations.get(0).getHost());
+    Assert.assertEquals(123, locations.get(0).getDataPort());
+    Assert.assertEquals("host2", locations.get(1).getHost());
+    Assert.assertEquals(-1, locations.get(1).getDataPort());
+
+    // The locations are cached.
+    Assert.assertEquals(locations, mCache.get(UFS_PATH, OFFSET));
+    Mockito.verify(mUfs).getFileLocations(UFS_PATH, OFFSET);
+  }
+
+  @Test(timeout = 10000)
+  public void slowLookupTest() throws Exception {
+    final CountDownLatch latch = new CountDownLatch(1);
+    Mockito.when(mUfs.getFileLocations(UFS_PATH, OFFSET)).thenAnswer(new Answer<List<String>>() {
+      @Override
+      public List<String> answer(InvocationOnMock invocation) throws Throwable {
+        latch.await();
+        return Lists.newArrayList("host1");
+      }
+    });
+
+    // The request gives up waiting, but the lookup completes in the background.
+    Assert.assertTrue(mCache.get(UFS_PATH, OFFSET).isEmpty());
+    latch.countDown();
+    while (mCache.get(UFS_PATH, OFFSET).isEmpty()) {
+      CommonUtils.sleepMs(10);
+    }
+    Mockito.verify(mUfs).getFileLocations(UFS_PATH, OFFSET);
+  }
+
+  @Test(timeout = 10000)
+  public void getBlocksSharesTimeoutTest() throws Exception {
+    final CountDownLatch latch = new CountDownLatch(1);
+    List<Long> offsets = Lists.newArrayList(OFFSET, OFFSET * 2, OFFSET * 3);
+    Mockito.when(mUfs.getFileLocations(Mockito.eq(UFS_PATH), Mockito.anyLong()))
+        .thenAnswer(new Answer<List<String>>() {
+          @Override
+          public List<String> answer(InvocationOnMock invocation) throws Throwable {
+            latch.await();
+            return Lists.newArrayList("host1");
+          }
+        });
+
+    // The blocks are looked up together, so the request waits for one timeout, not one per block.
+    long startMs = System.currentTimeMillis();
+    List<List<WorkerNetAddress>> locations = mCache.get(UFS_PATH, offsets);
+    Assert.assertTrue(System.currentTimeMillis() - startMs < TIMEOUT_MS * offsets.size());
+    Assert.assertEquals(offsets.size(), locations.size());
+    for (List<WorkerNetAddress> blockLocations : locations) {
+      Assert.assertTrue(blockLocations.isEmpty());
+    }
+    latch.countDown();
+    for (long offset : offsets) {
+      while (mCache.get(UFS_PATH, offset).isEmpty()) {
+        CommonUtils.sleepMs(10);
+      }
+    }
+  }
+
+  @Test
+  public void failedLookupTest() throws Exception {
+    Mockito.when(mUfs.getFileLocations(UFS_PATH, OFFSET)).thenThrow(new IOException("test"));
+
+    Assert.assertTrue(mCache.get(UFS_PATH, OFFSET).isEmpty());
+    // Failures are not cached.
+    Assert.assertTrue(mCache.get(UFS_PATH, OFFSET).isEmpty());
+    Mockito.verify(mUfs, Mockito.times(2)).getFileLocations(UFS_PATH, OFFSET);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.io.Files;
+
+import tachyon.Constants;
+import tachyon.TachyonURI;
+import tachyon.conf.TachyonConf;
+
+/**
+ * Unit tests for {@link UfsTreeLister}.
+ */
+public final class UfsTreeListerTest {
+  /** More files than one task looks up, so that a directory is looked up by several tasks */
+  private static final int FILES_IN_DIR = 300;
+
+  @Rule
+  public TemporaryFolder mTestFolder = new TemporaryFolder();
+
+  private UfsTreeLister mLister;
+
+  @Before
+  public void before() {
+    TachyonConf conf = new TachyonConf();
+    conf.set(Constants.MASTER_LOAD_METADATA_THREADS, "4");
+    mLister = new UfsTreeLister(conf);
+  }
+
+  @Test
+  public void listTest() throws Exception {
+    File root = mTestFolder.newFolder("root");
+    Files.write(new byte[10], new File(root, "file"));
+    File dir = new File(root, "dir");
+    File subDir = new File(dir, "subDir");
+    Assert.assertTrue(subDir.mkdirs());
+    for (int i = 0; i < FILES_IN_DIR; i ++) {
+      Files.write(new byte[i], new File(subDir, "file" + i));
+    }
+
+    Map<String, UfsTreeLister.UfsPathStatus> statuses =
+        new HashMap<String, UfsTreeLister.UfsPathStatus>();
+    for (UfsTreeLister.UfsPathStatus status : listAll(root.getAbsolutePath())) {
+      String path = status.getTachyonPath().getPath();
+      // A directory comes before the paths in it.
+      if (!"/mnt".equals(new TachyonURI(path).getParent().getPath())) {
+        Assert.assertTrue(statuses.containsKey(new TachyonURI(path).getParent().getPath()));
+      }
+      Assert.assertNull(statuses.put(path, status));
+    }
+
+    Assert.assertEquals(FILES_IN_DIR + 3, statuses.size());
+    Assert.assertFalse(statuses.get("/mnt/file").isDirectory());
+    Assert.assertEquals(10, statuses.get("/mnt/file").getLength());
+    Assert.assertTrue(statuses.get("/mnt/dir").isDirectory());
+    Assert.assertTrue(statuses.get("/mnt/dir/subDir").isDirectory());
+    for (int i = 0; i < FILES_IN_DIR; i ++) {
+      Assert.assertEquals(i, statuses.get("/mnt/dir/subDir/file" + i).getLength());
+    }
+  }
+
+  @Test
+  public void emptyDirectoryTest() throws Exception {
+    Assert.assertTrue(listAll(mTestFolder.newFolder("root").getAbsolutePath()).isEmpty());
+  }
+
+  @Test
+  public void failedListTest() throws Exception {
+    UfsTreeLister.Listing listing = mLister.list(new TachyonURI("/mnt"),
+        new File(mTestFolder.getRoot(), "nonexistent").getAbsolutePath());
+    try {
+      listing.nextBatch(10);
+      Assert.fail("listing a nonexistent directory should fail");
+    } catch (IOException e) {
+      // expected
+    } finally {
+      listing.close();
+    }
+  }
+
+  private List<UfsTreeLister.UfsPathStatus> listAll(String ufsPath) throws IOException {
+    List<UfsTreeLister.UfsPathStatus> statuses = new ArrayList<UfsTreeLister.UfsPathStatus>();
+    UfsTreeLister.Listing listing = mLister.list(new TachyonURI("/mnt"), ufsPath);
+    try {
+      List<UfsTreeLister.UfsPathStatus> batch;
+      while (!(batch = listing.nextBatch(10)).isEmpty()) {
+        Assert.assertTrue(batch.size() <= 10);
+        statuses.addAll(batch);
+      }
+    } finally {
+      listing.close();
+    }
+    return statuses;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.file.meta;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link InodeChildren}.
+ */
+public final class InodeChildrenTest extends AbstractInodeTest {
+  private static final int NUM_CHILDREN = InodeChildren.MAX_ARRAY_SIZE * 2;
+
+  private InodeChildren mChildren;
+
+  @Before
+  public void before() {
+    mChildren = new InodeChildren();
+  }
+
+  @Test
+  public void addAndGetTest() {
+    // Add in reverse order, so that the sorted array has to insert before existing children.
+    for (int i = NUM_CHILDREN; i > 0; i --) {
+      Assert.assertTrue(mChildren.add(createInodeFile(i)));
+      Assert.assertEquals(NUM_CHILDREN - i + 1, mChildren.size());
+      checkChildren(i, NUM_CHILDREN);
+    }
+  }
+
+  @Test
+  public void addDuplicateNameTest() {
+    Assert.assertTrue(mChildren.add(createInodeFile(1)));
+    Assert.assertFalse(mChildren.add(createInodeFile(1)));
+    Assert.assertEquals(1, mChildren.size());
+  }
+
+  @Test
+  public void removeTest() {
+    for (int i = 1; i <= NUM_CHILDREN; i ++) {
+      mChildren.add(createInodeFile(i));
+    }
+    // Shrinking the directory moves the children back to an array at some point.
+    for (int i = 1; i <= NUM_CHILDREN; i ++) {
+      Assert.assertTrue(mChildren.remove("testFile" + i));
+      Assert.assertFalse(mChildren.remove("testFile" + i));
+      Assert.assertEquals(NUM_CHILDREN - i, mChildren.size());
+      Assert.assertNull(mChildren.get("testFile" + i));
+      Assert.assertNull(mChildren.get(createInodeFileId(i)));
+      checkChildren(i + 1, NUM_CHILDREN);
+    }
+  }
+
+  @Test
+  public void removeRenamedChildTest() {
+    InodeFile child = createInodeFile(1);
+    mChildren.add(child);
+    mChildren.add(createInodeFile(2));
+    child.setName("renamed");
+    Assert.assertTrue(mChildren.remove(child));
+    Assert.assertEquals(1, mChildren.size());
+    Assert.assertNull(mChildren.get(createInodeFileId(1)));
+    Assert.assertFalse(mChildren.remove(child));
+  }
+
+  @Test
+  public void valuesTest() {
+    Set<Inode> expected = new HashSet<Inode>();
+    for (int i = 1; i <= NUM_CHILDREN; i ++) {
+      InodeFile child = createInodeFile(i);
+      expected.add(child);
+      mChildren.add(child);
+      Assert.assertEquals(expected, new HashSet<Inode>(mChildren.values()));
+    }
+  }
+
+  private void checkChildren(int from, int to) {
+    for (int i = from; i <= to; i ++) {
+      Inode child = mChildren.get("testFile" + i);
+      Assert.assertNotNull(child);
+      Assert.assertEquals(createInodeFileId(i), child.getId());
+      Assert.assertSame(child, mChildren.get(createInodeFileId(i)));
+    }
+  }
+}
@@ -26,6 +26,7 @@ import tachyon.Constants;
 import tachyon.exception.FileAlreadyCompletedException;
 import tachyon.exception.InvalidFileSizeException;
 import tachyon.exception.BlockInfoException;
+import tachyon.master.block.BlockId;
 
 /**
  * Unit tests for {@link InodeFile}.
@@ -108,6 +109,21 @@ public final class InodeFileTest extends AbstractInodeTest {
     }
   }
 
+  @Test
+  public void completeBlockIdsTest() throws Exception {
+    InodeFile inodeFile = createInodeFile(1);
+    inodeFile.getNewBlockId();
+    inodeFile.complete(Constants.KB * 2 + 1);
+    List<Long> blockIds = inodeFile.getBlockIds();
+    Assert.assertEquals(3, blockIds.size());
+    for (int i = 0; i < blockIds.size(); i ++) {
+      Assert.assertEquals(BlockId.createBlockId(1, i), (long) blockIds.get(i));
+    }
+    // The returned ids are a copy.
+    blockIds.clear();
+    Assert.assertEquals(3, inodeFile.getBlockIds().size());
+  }
+
   @Test
   public void setCompletedTest() {
     InodeFile inode1 = createInodeFile(1);
@@ -124,4 +140,13 @@ public final class InodeFileTest extends AbstractInodeTest {
     Assert.assertEquals(AbstractInodeTest.TEST_GROUP_NAME, inode1.getGroupName());
     Assert.assertEquals((short)0644, inode1.getPermission());
   }
+
+  @Test
+  public void internedNamesTest() {
+    InodeFile inode1 = createInodeFile(1);
+    InodeFile inode2 = createInodeFile(2);
+    inode2.setUserName(new String(AbstractInodeTest.TEST_USER_NAME));
+    Assert.assertSame(inode1.getUserName(), inode2.getUserName());
+    Assert.assertSame(inode1.getGroupName(), inode2.getGroupName());
+  }
 }
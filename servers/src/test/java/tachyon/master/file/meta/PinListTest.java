@@ -0,0 +1,105 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.file.meta;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Sets;
+
+import tachyon.thrift.PinListDelta;
+
+/**
+ * Unit tests for {@link PinList}.
+ */
+public class PinListTest {
+  private PinList mPinList;
+
+  @Before
+  public void before() {
+    mPinList = new PinList(3);
+  }
+
+  @Test
+  public void deltaTest() {
+    long version = mPinList.getVersion();
+    mPinList.add(1);
+    mPinList.add(2);
+    mPinList.remove(1);
+
+    PinListDelta delta = mPinList.getDelta(version);
+    Assert.assertFalse(delta.isFull());
+    Assert.assertEquals(mPinList.getVersion(), delta.getVersion());
+    Assert.assertEquals(Sets.newHashSet(2L), Sets.newHashSet(delta.getAddedIds()));
+    Assert.assertEquals(Sets.newHashSet(1L), Sets.newHashSet(delta.getRemovedIds()));
+
+    // Nothing changed since the latest version.
+    delta = mPinList.getDelta(mPinList.getVersion());
+    Assert.assertFalse(delta.isFull());
+    Assert.assertTrue(delta.getAddedIds().isEmpty());
+    Assert.assertTrue(delta.getRemovedIds().isEmpty());
+  }
+
+  @Test
+  public void unchangedSetTest() {
+    long version = mPinList.getVersion();
+    mPinList.add(1);
+    mPinList.add(1);
+    mPinList.remove(2);
+    Assert.assertEquals(version + 1, mPinList.getVersion());
+  }
+
+  @Test
+  public void unknownVersionTest() {
+    mPinList.add(1);
+    mPinList.add(2);
+
+    PinListDelta delta = mPinList.getDelta(mPinList.getVersion() + 1);
+    Assert.assertTrue(delta.isFull());
+    Assert.assertEquals(Sets.newHashSet(1L, 2L), Sets.newHashSet(delta.getAddedIds()));
+    Assert.assertTrue(delta.getRemovedIds().isEmpty());
+  }
+
+  @Test
+  public void truncatedLogTest() {
+    long version = mPinList.getVersion();
+    for (long i = 0; i < 4; i ++) {
+      mPinList.add(i);
+    }
+
+    // The first change fell out of the log.
+    PinListDelta delta = mPinList.getDelta(version);
+    Assert.assertTrue(delta.isFull());
+    Assert.assertEquals(Sets.newHashSet(0L, 1L, 2L, 3L), Sets.newHashSet(delta.getAddedIds()));
+
+    delta = mPinList.getDelta(version + 1);
+    Assert.assertFalse(delta.isFull());
+    Assert.assertEquals(Sets.newHashSet(1L, 2L, 3L), Sets.newHashSet(delta.getAddedIds()));
+  }
+
+  @Test
+  public void clearTest() {
+    mPinList.add(1);
+    long version = mPinList.getVersion();
+    mPinList.clear();
+
+    Assert.assertEquals(0, mPinList.size());
+    PinListDelta delta = mPinList.getDelta(version);
+    Assert.assertTrue(delta.isFull());
+    Assert.assertTrue(delta.getAddedIds().isEmpty());
+  }
+}
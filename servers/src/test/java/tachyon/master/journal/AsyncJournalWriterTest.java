@@ -0,0 +1,151 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master.journal;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import tachyon.proto.journal.File.DeleteFileEntry;
+import tachyon.proto.journal.Journal.JournalEntry;
+
+/**
+ * Unit tests for {@link AsyncJournalWriter}.
+ */
+public final class AsyncJournalWriterTest {
+  private static final int THREADS = 4;
+  private static final int ENTRIES_PER_THREAD = 50;
+
+  @Rule
+  public TemporaryFolder mTestFolder = new TemporaryFolder();
+
+  private Journal mJournal;
+  private JournalWriter mJournalWriter;
+  private AsyncJournalWriter mAsyncJournalWriter;
+
+  @Before
+  public void before() throws Exception {
+    mJournal = new ReadWriteJournal(mTestFolder.newFolder().getAbsolutePath());
+    mJournalWriter = ((ReadWriteJournal) mJournal).getNewWriter();
+    mJournalWriter.getCheckpointOutputStream(0).close();
+    mAsyncJournalWriter = new AsyncJournalWriter(mJournalWriter, "test");
+  }
+
+  @After
+  public void after() throws Exception {
+    mAsyncJournalWriter.close();
+    mJournalWriter.close();
+  }
+
+  @Test
+  public void flushTest() throws Exception {
+    Assert.assertEquals(AsyncJournalWriter.INVALID_FLUSH_COUNTER,
+        mAsyncJournalWriter.getAppendCounter());
+    long first = mAsyncJournalWriter.appendEntry(newEntry(1));
+    long second = mAsyncJournalWriter.appendEntry(newEntry(2));
+    Assert.assertEquals(first + 1, second);
+    Assert.assertEquals(second, mAsyncJournalWriter.getAppendCounter());
+
+    mAsyncJournalWriter.flush(second);
+    List<JournalEntry> entries = readCurrentLog();
+    Assert.assertEquals(2, entries.size());
+    Assert.assertEquals(1, entries.get(0).getDeleteFile().getId());
+    Assert.assertEquals(2, entries.get(1).getDeleteFile().getId());
+  }
+
+  @Test(timeout = 10000)
+  public void concurrentAppendTest() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    List<Future<Void>> futures = new ArrayList<Future<Void>>();
+    for (int i = 0; i < THREADS; i ++) {
+      final int thread = i;
+      futures.add(executor.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws Exception {
+          for (int j = 0; j < ENTRIES_PER_THREAD; j ++) {
+            mAsyncJournalWriter.flush(
+                mAsyncJournalWriter.appendEntry(newEntry(thread * ENTRIES_PER_THREAD + j)));
+          }
+          return null;
+        }
+      }));
+    }
+    for (Future<Void> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+
+    // Every entry is written once, with consecutive sequence numbers.
+    List<JournalEntry> entries = readCurrentLog();
+    Assert.assertEquals(THREADS * ENTRIES_PER_THREAD, entries.size());
+    boolean[] seen = new boolean[THREADS * ENTRIES_PER_THREAD];
+    for (int i = 0; i < entries.size(); i ++) {
+      Assert.assertEquals(i + 1, entries.get(i).getSequenceNumber());
+      int id = (int) entries.get(i).getDeleteFile().getId();
+      Assert.assertFalse(seen[id]);
+      seen[id] = true;
+    }
+  }
+
+  @Test
+  public void closeFlushesTest() throws Exception {
+    mAsyncJournalWriter.appendEntry(newEntry(1));
+    mAsyncJournalWriter.close();
+    Assert.assertEquals(1, readCurrentLog().size());
+  }
+
+  @Test
+  public void appendAfterCloseTest() throws Exception {
+    mAsyncJournalWriter.close();
+    try {
+      mAsyncJournalWriter.appendEntry(newEntry(1));
+      Assert.fail("appending to a closed journal should fail");
+    } catch (IOException e) {
+      // expected
+    }
+  }
+
+  private JournalEntry newEntry(long id) {
+    return JournalEntry.newBuilder().setDeleteFile(DeleteFileEntry.newBuilder().setId(id)).build();
+  }
+
+  private List<JournalEntry> readCurrentLog() throws IOException {
+    List<JournalEntry> entries = new ArrayList<JournalEntry>();
+    JournalInputStream inputStream = mJournal.getJournalFormatter()
+        .deserialize(new FileInputStream(mJournal.getCurrentLogFilePath()));
+    try {
+      JournalEntry entry;
+      while ((entry = inputStream.getNextEntry()) != null) {
+        entries.add(entry);
+      }
+    } finally {
+      inputStream.close();
+    }
+    return entries;
+  }
+}
@@ -46,6 +46,7 @@ import tachyon.proto.journal.File.AddMountPointEntry;
 import tachyon.proto.journal.File.AsyncPersistRequestEntry;
 import tachyon.proto.journal.File.CompleteFileEntry;
 import tachyon.proto.journal.File.DeleteFileEntry;
+import tachyon.proto.journal.File.DeleteFilesEntry;
 import tachyon.proto.journal.File.DeleteMountPointEntry;
 import tachyon.proto.journal.File.InodeDirectoryEntry;
 import tachyon.proto.journal.File.InodeDirectoryIdGeneratorEntry;
@@ -171,6 +172,12 @@ public abstract class JournalFormatterTestBase {
                 .setRecursive(true)
                 .setOpTimeMs(TEST_OP_TIME_MS))
             .build())
+        .add(JournalEntry.newBuilder()
+            .setDeleteFiles(DeleteFilesEntry.newBuilder()
+                .addAllIds(Arrays.asList(TEST_FILE_ID, TEST_FILE_ID + 1))
+                .setRecursive(false)
+                .setOpTimeMs(TEST_OP_TIME_MS))
+            .build())
         .add(JournalEntry.newBuilder()
             .setRename(RenameEntry.newBuilder()
                 .setId(TEST_FILE_ID)
@@ -31,17 +31,20 @@ public class RPCBlockReadRequestTest {
   private static final long LENGTH = 33;
   private static final long LOCK_ID = 44;
   private static final long SESSION_ID = 55;
+  private static final long REQUEST_ID = 66;
+  private static final long CHUNK_LENGTH = 7;
 
   private ByteBuf mBuffer = null;
 
   private void assertValid(long blockId, long offset, long length, long lockId, long sessionId,
-      RPCBlockReadRequest req) {
+      long requestId, RPCBlockReadRequest req) {
     Assert.assertEquals(RPCMessage.Type.RPC_BLOCK_READ_REQUEST, req.getType());
     Assert.assertEquals(blockId, req.getBlockId());
     Assert.assertEquals(offset, req.getOffset());
     Assert.assertEquals(length, req.getLength());
     Assert.assertEquals(lockId, req.getLockId());
     Assert.assertEquals(sessionId, req.getSessionId());
+    Assert.assertEquals(requestId, req.getRequestId());
   }
 
   private void assertValid(RPCBlockReadRequest req) {
@@ -69,7 +72,7 @@ public class RPCBlockReadRequestTest {
   @Test
   public void encodedLengthTest() {
     RPCBlockReadRequest req = new RPCBlockReadRequest(BLOCK_ID, OFFSET, LENGTH, LOCK_ID,
-        SESSION_ID);
+        SESSION_ID, REQUEST_ID);
     int encodedLength = req.getEncodedLength();
     req.encode(mBuffer);
     Assert.assertEquals(encodedLength, mBuffer.readableBytes());
@@ -78,40 +81,59 @@ public class RPCBlockReadRequestTest {
   @Test
   public void encodeDecodeTest() {
     RPCBlockReadRequest req = new RPCBlockReadRequest(BLOCK_ID, OFFSET, LENGTH, LOCK_ID,
-        SESSION_ID);
+        SESSION_ID, REQUEST_ID);
     req.encode(mBuffer);
     RPCBlockReadRequest req2 = RPCBlockReadRequest.decode(mBuffer);
-    assertValid(BLOCK_ID, OFFSET, LENGTH, LOCK_ID, SESSION_ID, req);
-    assertValid(BLOCK_ID, OFFSET, LENGTH, LOCK_ID, SESSION_ID, req2);
+    assertValid(BLOCK_ID, OFFSET, LENGTH, LOCK_ID, SESSION_ID, REQUEST_ID, req);
+    assertValid(BLOCK_ID, OFFSET, LENGTH, LOCK_ID, SESSION_ID, REQUEST_ID, req2);
   }
 
   @Test
   public void validateTest() {
     RPCBlockReadRequest req = new RPCBlockReadRequest(BLOCK_ID, OFFSET, LENGTH, LOCK_ID,
-        SESSION_ID);
+        SESSION_ID, REQUEST_ID);
     assertValid(req);
   }
 
   @Test
   public void validLengthTest() {
     RPCBlockReadRequest req = new RPCBlockReadRequest(BLOCK_ID, OFFSET, -1, LOCK_ID,
-        SESSION_ID);
+        SESSION_ID, REQUEST_ID);
     assertValid(req);
-    req = new RPCBlockReadRequest(BLOCK_ID, OFFSET, 0, LOCK_ID, SESSION_ID);
+    req = new RPCBlockReadRequest(BLOCK_ID, OFFSET, 0, LOCK_ID, SESSION_ID, REQUEST_ID);
     assertValid(req);
   }
 
   @Test
   public void negativeOffsetTest() {
     RPCBlockReadRequest req = new RPCBlockReadRequest(BLOCK_ID, -1, LENGTH, LOCK_ID,
-        SESSION_ID);
+        SESSION_ID, REQUEST_ID);
     assertInvalid(req);
   }
 
   @Test
   public void invalidLengthTest() {
     RPCBlockReadRequest req = new RPCBlockReadRequest(BLOCK_ID, OFFSET, -100, LOCK_ID,
-        SESSION_ID);
+        SESSION_ID, REQUEST_ID);
+    assertInvalid(req);
+  }
+
+  @Test
+  public void encodeDecodeChunkLengthTest() {
+    RPCBlockReadRequest req = new RPCBlockReadRequest(BLOCK_ID, OFFSET, LENGTH, LOCK_ID,
+        SESSION_ID, REQUEST_ID, CHUNK_LENGTH);
+    req.encode(mBuffer);
+    RPCBlockReadRequest req2 = RPCBlockReadRequest.decode(mBuffer);
+    assertValid(BLOCK_ID, OFFSET, LENGTH, LOCK_ID, SESSION_ID, REQUEST_ID, req2);
+    Assert.assertEquals(CHUNK_LENGTH, req2.getChunkLength());
+    Assert.assertEquals(0, new RPCBlockReadRequest(BLOCK_ID, OFFSET, LENGTH, LOCK_ID, SESSION_ID,
+        REQUEST_ID).getChunkLength());
+  }
+
+  @Test
+  public void invalidChunkLengthTest() {
+    RPCBlockReadRequest req = new RPCBlockReadRequest(BLOCK_ID, OFFSET, LENGTH, LOCK_ID,
+        SESSION_ID, REQUEST_ID, -1);
     assertInvalid(req);
   }
 }
@@ -39,6 +39,7 @@ public class RPCBlockReadResponseTest {
   private static final long LENGTH = 0;
   private static final long LOCK_ID = 4444;
   private static final long SESSION_ID = 5555;
+  private static final long REQUEST_ID = 6666;
 
   private static final RPCResponse.Status STATUS = RPCResponse.Status.SUCCESS;
 
@@ -48,12 +49,13 @@ public class RPCBlockReadResponseTest {
   private ByteBuf mBuffer = null;
 
   private void assertValid(long blockId, long offset, long length, RPCResponse.Status status,
-      RPCBlockReadResponse resp) {
+      long requestId, RPCBlockReadResponse resp) {
     Assert.assertEquals(RPCMessage.Type.RPC_BLOCK_READ_RESPONSE, resp.getType());
     Assert.assertEquals(blockId, resp.getBlockId());
     Assert.assertEquals(offset, resp.getOffset());
     Assert.assertEquals(length, resp.getLength());
     Assert.assertEquals(status, resp.getStatus());
+    Assert.assertEquals(requestId, resp.getRequestId());
   }
 
   private void assertValid(RPCBlockReadResponse resp) {
@@ -71,7 +73,8 @@ public class RPCBlockReadResponseTest {
 
   @Test
   public void encodedLengthTest() {
-    RPCBlockReadResponse resp = new RPCBlockReadResponse(BLOCK_ID, OFFSET, LENGTH, null, STATUS);
+    RPCBlockReadResponse resp = new RPCBlockReadResponse(BLOCK_ID, OFFSET, LENGTH, null, STATUS,
+        REQUEST_ID);
     int encodedLength = resp.getEncodedLength();
     resp.encode(mBuffer);
     Assert.assertEquals(encodedLength, mBuffer.readableBytes());
@@ -79,16 +82,18 @@ public class RPCBlockReadResponseTest {
 
   @Test
   public void encodeDecodeTest() {
-    RPCBlockReadResponse resp = new RPCBlockReadResponse(BLOCK_ID, OFFSET, LENGTH, null, STATUS);
+    RPCBlockReadResponse resp = new RPCBlockReadResponse(BLOCK_ID, OFFSET, LENGTH, null, STATUS,
+        REQUEST_ID);
     resp.encode(mBuffer);
     RPCBlockReadResponse resp2 = RPCBlockReadResponse.decode(mBuffer);
-    assertValid(BLOCK_ID, OFFSET, LENGTH, STATUS, resp);
-    assertValid(BLOCK_ID, OFFSET, LENGTH, STATUS, resp2);
+    assertValid(BLOCK_ID, OFFSET, LENGTH, STATUS, REQUEST_ID, resp);
+    assertValid(BLOCK_ID, OFFSET, LENGTH, STATUS, REQUEST_ID, resp2);
   }
 
   @Test
   public void validateTest() {
-    RPCBlockReadResponse resp = new RPCBlockReadResponse(BLOCK_ID, OFFSET, LENGTH, null, STATUS);
+    RPCBlockReadResponse resp = new RPCBlockReadResponse(BLOCK_ID, OFFSET, LENGTH, null, STATUS,
+        REQUEST_ID);
     assertValid(resp);
   }
 
@@ -96,7 +101,8 @@ public class RPCBlockReadResponseTest {
   public void getPayloadDataBufferTest() {
     int length = 10;
     DataByteBuffer payload = new DataByteBuffer(ByteBuffer.allocate(length), length);
-    RPCBlockReadResponse resp = new RPCBlockReadResponse(BLOCK_ID, OFFSET, LENGTH, payload, STATUS);
+    RPCBlockReadResponse resp = new RPCBlockReadResponse(BLOCK_ID, OFFSET, LENGTH, payload, STATUS,
+        REQUEST_ID);
     assertValid(resp);
     Assert.assertEquals(payload, resp.getPayloadDataBuffer());
   }
@@ -104,7 +110,7 @@ public class RPCBlockReadResponseTest {
   @Test
   public void createErrorResponseTest() {
     RPCBlockReadRequest req = new RPCBlockReadRequest(BLOCK_ID, OFFSET, LENGTH, LOCK_ID,
-        SESSION_ID);
+        SESSION_ID, REQUEST_ID);
 
     for (RPCResponse.Status status : RPCResponse.Status.values()) {
       if (status == RPCResponse.Status.SUCCESS) {
@@ -113,7 +119,7 @@ public class RPCBlockReadResponseTest {
         RPCBlockReadResponse.createErrorResponse(req, status);
       } else {
         RPCBlockReadResponse resp = RPCBlockReadResponse.createErrorResponse(req, status);
-        assertValid(BLOCK_ID, OFFSET, 0, status, resp);
+        assertValid(BLOCK_ID, OFFSET, 0, status, REQUEST_ID, resp);
       }
     }
   }
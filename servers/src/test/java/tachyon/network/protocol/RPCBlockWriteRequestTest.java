@@ -0,0 +1,125 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.network.protocol;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import tachyon.network.protocol.databuffer.DataByteBuffer;
+
+/**
+ * Unit tests for {@link RPCBlockWriteRequest}.
+ */
+public class RPCBlockWriteRequestTest {
+  private static final long SESSION_ID = 11;
+  private static final long BLOCK_ID = 22;
+  private static final long OFFSET = 33;
+  private static final int LENGTH = 4;
+
+  private ByteBuf mBuffer = null;
+
+  private void assertValid(long sessionId, long blockId, long offset, long length,
+      RPCBlockWriteRequest.Mode mode, RPCBlockWriteRequest req) {
+    Assert.assertEquals(RPCMessage.Type.RPC_BLOCK_WRITE_REQUEST, req.getType());
+    Assert.assertEquals(sessionId, req.getSessionId());
+    Assert.assertEquals(blockId, req.getBlockId());
+    Assert.assertEquals(offset, req.getOffset());
+    Assert.assertEquals(length, req.getLength());
+    Assert.assertEquals(mode, req.getMode());
+  }
+
+  private void assertInvalid(RPCBlockWriteRequest req) {
+    try {
+      req.validate();
+      Assert.fail("request should be invalid.");
+    } catch (Exception e) {
+      return;
+    }
+  }
+
+  private RPCBlockWriteRequest newRequest(long offset, long length,
+      RPCBlockWriteRequest.Mode mode) {
+    return new RPCBlockWriteRequest(SESSION_ID, BLOCK_ID, offset, length, mode, null);
+  }
+
+  @Before
+  public final void before() {
+    mBuffer = Unpooled.buffer();
+  }
+
+  @Test
+  public void encodedLengthTest() {
+    RPCBlockWriteRequest req = newRequest(OFFSET, LENGTH, RPCBlockWriteRequest.Mode.STREAM);
+    int encodedLength = req.getEncodedLength();
+    req.encode(mBuffer);
+    Assert.assertEquals(encodedLength, mBuffer.readableBytes());
+  }
+
+  @Test
+  public void encodeDecodeTest() {
+    for (RPCBlockWriteRequest.Mode mode : RPCBlockWriteRequest.Mode.values()) {
+      RPCBlockWriteRequest req = newRequest(OFFSET, LENGTH, mode);
+      req.encode(mBuffer);
+      mBuffer.writeBytes(new byte[LENGTH]);
+      RPCBlockWriteRequest req2 = RPCBlockWriteRequest.decode(mBuffer);
+      assertValid(SESSION_ID, BLOCK_ID, OFFSET, LENGTH, mode, req2);
+      Assert.assertEquals(LENGTH, req2.getPayloadDataBuffer().getLength());
+      mBuffer.clear();
+    }
+  }
+
+  @Test
+  public void defaultModeTest() {
+    RPCBlockWriteRequest req = new RPCBlockWriteRequest(SESSION_ID, BLOCK_ID, OFFSET, LENGTH,
+        new DataByteBuffer(ByteBuffer.allocate(LENGTH), LENGTH));
+    assertValid(SESSION_ID, BLOCK_ID, OFFSET, LENGTH, RPCBlockWriteRequest.Mode.SINGLE, req);
+  }
+
+  @Test
+  public void unknownModeTest() {
+    newRequest(OFFSET, 0, RPCBlockWriteRequest.Mode.STREAM).encode(mBuffer);
+    // Overwrite the mode, which follows the 4 longs.
+    mBuffer.setShort(32, 100);
+    try {
+      RPCBlockWriteRequest.decode(mBuffer);
+      Assert.fail("decoding an unknown mode should fail.");
+    } catch (IllegalArgumentException e) {
+      return;
+    }
+  }
+
+  @Test
+  public void validateTest() {
+    newRequest(OFFSET, LENGTH, RPCBlockWriteRequest.Mode.STREAM).validate();
+    newRequest(OFFSET, 0, RPCBlockWriteRequest.Mode.STREAM_END).validate();
+  }
+
+  @Test
+  public void negativeOffsetTest() {
+    assertInvalid(newRequest(-1, LENGTH, RPCBlockWriteRequest.Mode.STREAM));
+  }
+
+  @Test
+  public void negativeLengthTest() {
+    assertInvalid(newRequest(OFFSET, -1, RPCBlockWriteRequest.Mode.STREAM));
+  }
+}
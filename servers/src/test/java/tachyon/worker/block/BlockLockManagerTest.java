@@ -15,6 +15,9 @@
 
 package tachyon.worker.block;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -156,4 +159,66 @@ public class BlockLockManagerTest {
     // Because sessionId2 has been cleaned up, expect validating sessionId2 to throw IOException
     mLockManager.validateLock(sessionId2, TEST_BLOCK_ID, lockId2);
   }
+
+  /**
+   * Tests that a lock released by {@link BlockLockManager#unlockBlock(long, long)} is no longer
+   * held by the session.
+   *
+   * @throws Exception if unlocking the block fails
+   */
+  @Test
+  public void unlockBlockBySessionTest() throws Exception {
+    long lockId = mLockManager.lockBlock(TEST_SESSION_ID, TEST_BLOCK_ID, BlockLockType.WRITE);
+    mLockManager.unlockBlock(TEST_SESSION_ID, TEST_BLOCK_ID);
+    Assert.assertTrue(mLockManager.getLockedBlocks().isEmpty());
+    mThrown.expect(BlockDoesNotExistException.class);
+    mThrown.expectMessage(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_LOCK_ID.getMessage(lockId));
+    mLockManager.unlockBlock(lockId);
+  }
+
+  /**
+   * Tests that locks taken and released by many sessions at once, with the locks left over
+   * released by cleaning up the sessions, are all released exactly once.
+   *
+   * @throws Exception if a thread fails
+   */
+  @Test(timeout = 10000)
+  public void concurrentLockUnlockTest() throws Exception {
+    final int threads = 8;
+    final int locksPerThread = 1000;
+    final CountDownLatch start = new CountDownLatch(1);
+    final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+    Thread[] workers = new Thread[threads];
+    for (int i = 0; i < threads; i ++) {
+      final long sessionId = i;
+      workers[i] = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            start.await();
+            for (int k = 0; k < locksPerThread; k ++) {
+              long lockId = mLockManager.lockBlock(sessionId, k, BlockLockType.READ);
+              if (k % 2 == 0) {
+                mLockManager.unlockBlock(lockId);
+              }
+            }
+            mLockManager.cleanupSession(sessionId);
+          } catch (Throwable t) {
+            failure.compareAndSet(null, t);
+          }
+        }
+      });
+      workers[i].start();
+    }
+    start.countDown();
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    Assert.assertNull(failure.get());
+    Assert.assertTrue(mLockManager.getLockedBlocks().isEmpty());
+    // Every block lock was released, so taking a write lock on each of them does not block.
+    for (int k = 0; k < locksPerThread; k ++) {
+      mLockManager.unlockBlock(mLockManager.lockBlock(TEST_SESSION_ID, k, BlockLockType.WRITE));
+    }
+  }
 }
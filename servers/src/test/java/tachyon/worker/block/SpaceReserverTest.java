@@ -30,6 +30,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 import org.powermock.reflect.Whitebox;
 
 import tachyon.Constants;
+import tachyon.util.CommonUtils;
 import tachyon.worker.WorkerContext;
 import tachyon.worker.WorkerSource;
 import tachyon.worker.file.FileSystemMasterClient;
@@ -49,6 +50,7 @@ public class SpaceReserverTest {
   private static final long[][] TIER_CAPACITY_BYTES = {{400}, {1000}};
 
   private BlockStore mBlockStore;
+  private BlockDataManager mBlockDataManager;
   private SpaceReserver mSpaceReserver;
 
   /** Rule to create a new temporary folder during each test. */
@@ -79,7 +81,7 @@ public class SpaceReserverTest {
     TieredBlockStoreTestUtils.setupTachyonConfWithMultiTier(baseDir, TIER_ORDINAL, TIER_ALIAS,
         TIER_PATH, TIER_CAPACITY_BYTES, null);
     mBlockStore = new TieredBlockStore();
-    BlockDataManager blockDataManager = new BlockDataManager(workerSource, blockMasterClient,
+    mBlockDataManager = new BlockDataManager(workerSource, blockMasterClient,
         workerFileSystemMasterClient, mBlockStore);
     String reserveRatioProp =
         String.format(Constants.WORKER_TIERED_STORE_LEVEL_RESERVED_RATIO_FORMAT, 0);
@@ -87,7 +89,7 @@ public class SpaceReserverTest {
     reserveRatioProp =
         String.format(Constants.WORKER_TIERED_STORE_LEVEL_RESERVED_RATIO_FORMAT, 1);
     WorkerContext.getConf().set(reserveRatioProp, "0.3");
-    mSpaceReserver = new SpaceReserver(blockDataManager);
+    mSpaceReserver = new SpaceReserver(mBlockDataManager);
   }
 
   /**
@@ -137,4 +139,91 @@ public class SpaceReserverTest {
     Assert.assertEquals(3 * BLOCK_SIZE, (long) usedBytesOnTiers.get("MEM"));
     Assert.assertEquals(7 * BLOCK_SIZE, (long) usedBytesOnTiers.get("HDD"));
   }
+
+  /**
+   * Tests that the reserver leaves a tier alone until its used space exceeds the high watermark,
+   * and then frees space down to the reserved ratio.
+   *
+   * @throws Exception if the Whitebox fails
+   */
+  @Test
+  public void highWatermarkTest() throws Exception {
+    String highWatermarkProp =
+        String.format(Constants.WORKER_TIERED_STORE_LEVEL_HIGH_WATERMARK_RATIO_FORMAT, 0);
+    WorkerContext.getConf().set(highWatermarkProp, "0.9");
+    SpaceReserver spaceReserver = new SpaceReserver(mBlockDataManager);
+    try {
+      long blockId = 100;
+      long blockSize = BLOCK_SIZE / 2;
+      BlockStoreLocation tier0 = BlockStoreLocation.anyDirInTier("MEM");
+      // Use 87.5% of the top tier, which is above the reserved ratio but below the watermark
+      for (int i = 0; i < 7; i ++) {
+        TieredBlockStoreTestUtils.cache(SESSION_ID, blockId ++, blockSize, mBlockStore, tier0);
+      }
+      Whitebox.invokeMethod(spaceReserver, "reserveSpace");
+      Assert.assertEquals(7 * blockSize, getUsedBytes("MEM"));
+
+      // Fill up the top tier, expect freeing it until 20% of it is available
+      TieredBlockStoreTestUtils.cache(SESSION_ID, blockId ++, blockSize, mBlockStore, tier0);
+      Whitebox.invokeMethod(spaceReserver, "reserveSpace");
+      Assert.assertEquals(6 * blockSize, getUsedBytes("MEM"));
+      Assert.assertEquals(2 * blockSize, getUsedBytes("HDD"));
+    } finally {
+      spaceReserver.stop();
+    }
+  }
+
+  /**
+   * Tests that a lower tier without a high watermark frees space as soon as the space reserved for
+   * it, including the space carried down from the tiers above, is not available.
+   *
+   * @throws Exception if the Whitebox fails
+   */
+  @Test
+  public void carriedDownReserveTest() throws Exception {
+    long blockId = 100;
+    long blockSize = BLOCK_SIZE / 2;
+    BlockStoreLocation tier1 = BlockStoreLocation.anyDirInTier("HDD");
+    // HDD reserves 30% of its 1000 bytes plus the 80 bytes of MEM, so 380 bytes. Use 650 bytes,
+    // which leaves the tier's own 30% available but not the carried down reserve.
+    for (int i = 0; i < 13; i ++) {
+      TieredBlockStoreTestUtils.cache(SESSION_ID, blockId ++, blockSize, mBlockStore, tier1);
+    }
+    Whitebox.invokeMethod(mSpaceReserver, "reserveSpace");
+    Assert.assertEquals(12 * blockSize, getUsedBytes("HDD"));
+  }
+
+  /**
+   * Tests that committing a block makes a running reserver check the tiers without waiting for
+   * the check interval.
+   *
+   * @throws Exception if caching the blocks fails
+   */
+  @Test(timeout = 10000)
+  public void checkOnCommitTest() throws Exception {
+    WorkerContext.getConf().set(Constants.WORKER_TIERED_STORE_RESERVER_INTERVAL_MS,
+        String.valueOf(Constants.HOUR_MS));
+    SpaceReserver spaceReserver = new SpaceReserver(mBlockDataManager);
+    Thread reserverThread = new Thread(spaceReserver);
+    reserverThread.start();
+    try {
+      long blockId = 100;
+      BlockStoreLocation tier0 = BlockStoreLocation.anyDirInTier("MEM");
+      for (int i = 0; i < 4; i ++) {
+        TieredBlockStoreTestUtils.cache(SESSION_ID, blockId ++, BLOCK_SIZE, mBlockStore, tier0);
+      }
+      while (getUsedBytes("MEM") > 3 * BLOCK_SIZE) {
+        CommonUtils.sleepMs(10);
+      }
+      Assert.assertEquals(3 * BLOCK_SIZE, getUsedBytes("MEM"));
+      Assert.assertEquals(1 * BLOCK_SIZE, getUsedBytes("HDD"));
+    } finally {
+      spaceReserver.stop();
+      reserverThread.join();
+    }
+  }
+
+  private long getUsedBytes(String tierAlias) {
+    return mBlockStore.getBlockStoreMeta(false).getUsedBytesOnTiers().get(tierAlias);
+  }
 }
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.block.evictor;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link FrequencySketch}.
+ */
+public class FrequencySketchTest {
+  private static final int BLOCKS = 1000;
+
+  /**
+   * Tests that the estimated frequency of a block is never below its actual number of accesses,
+   * up to the maximum count.
+   */
+  @Test
+  public void frequencyTest() {
+    FrequencySketch sketch = new FrequencySketch(BLOCKS);
+    for (long blockId = 0; blockId < BLOCKS; blockId ++) {
+      for (int i = 0; i < blockId % 10; i ++) {
+        sketch.increment(blockId);
+      }
+    }
+    for (long blockId = 0; blockId < BLOCKS; blockId ++) {
+      Assert.assertTrue(sketch.frequency(blockId) >= blockId % 10);
+    }
+  }
+
+  /**
+   * Tests that the counters are halved once enough accesses were counted, which is the only way
+   * the estimated frequency of a block can decrease.
+   */
+  @Test
+  public void resetTest() {
+    FrequencySketch sketch = new FrequencySketch(1);
+    for (int i = 0; i < 8; i ++) {
+      sketch.increment(0);
+    }
+    Assert.assertEquals(8, sketch.frequency(0));
+    int frequency = sketch.frequency(0);
+    boolean decreased = false;
+    for (long blockId = 1; blockId <= BLOCKS && !decreased; blockId ++) {
+      sketch.increment(blockId);
+      decreased = sketch.frequency(0) < frequency;
+      frequency = sketch.frequency(0);
+    }
+    Assert.assertTrue(decreased);
+  }
+}
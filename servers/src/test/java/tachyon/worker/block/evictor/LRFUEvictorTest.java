@@ -75,7 +75,7 @@ public class LRFUEvictorTest {
         new BlockMetadataManagerView(mMetaManager, Collections.<Long>emptySet(),
             Collections.<Long>emptySet());
     TachyonConf conf = WorkerContext.getConf();
-    conf.set(Constants.WORKER_EVICTOR_CLASS, LRFUEvictor.class.getName());
+    conf.set(Constants.WORKER_EVICTOR_CLASS, getEvictorClassName());
     conf.set(Constants.WORKER_ALLOCATOR_CLASS, MaxFreeAllocator.class.getName());
     mAllocator = Allocator.Factory.create(conf, mManagerView);
     mStepFactor = conf.getDouble(Constants.WORKER_EVICTOR_LRFU_STEP_FACTOR);
@@ -84,6 +84,13 @@ public class LRFUEvictorTest {
     mEvictor = Evictor.Factory.create(conf, mManagerView, mAllocator);
   }
 
+  /**
+   * @return the name of the evictor class under test
+   */
+  protected String getEvictorClassName() {
+    return LRFUEvictor.class.getName();
+  }
+
   private void cache(long sessionId, long blockId, long bytes, int tierLevel, int dirIdx)
       throws Exception {
     StorageDir dir = mMetaManager.getTiers().get(tierLevel).getDir(dirIdx);
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.block.evictor;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.codahale.metrics.Counter;
+
+import tachyon.collections.Pair;
+import tachyon.worker.WorkerContext;
+import tachyon.worker.block.BlockStoreEventListener;
+import tachyon.worker.block.BlockStoreLocation;
+import tachyon.worker.block.TieredBlockStoreTestUtils;
+
+/**
+ * Unit tests for specific behavior of {@link TinyLFUEvictor} such as keeping frequently accessed
+ * blocks through a scan.
+ */
+public class TinyLFUEvictorTest extends EvictorTestBase {
+  private static final int BLOCK_SIZE = 100;
+  private static final int HOT_BLOCKS = 4;
+  private static final int HOT_ACCESSES = 5;
+
+  /**
+   * Sets up all dependencies before a test runs.
+   *
+   * @throws Exception if setting up the meta manager, the lock manager or the evictor fails
+   */
+  @Before
+  public final void before() throws Exception {
+    init(TinyLFUEvictor.class.getName());
+  }
+
+  /**
+   * Resets the context of the worker after a test ran.
+   */
+  @After
+  public void after() {
+    WorkerContext.reset();
+  }
+
+  // access the block to update evictor
+  private void access(long blockId) {
+    ((BlockStoreEventListener) mEvictor).onAccessBlock(SESSION_ID, blockId);
+  }
+
+  private long getCount(String name) {
+    Counter counter = WorkerContext.getWorkerSource().getMetricRegistry().getCounters().get(name);
+    return counter.getCount();
+  }
+
+  /**
+   * Tests that blocks which are accessed over and over are not evicted for blocks which are only
+   * committed once, even though the latter were used more recently.
+   *
+   * @throws Exception if the caching fails
+   */
+  @Test
+  public void scanResistanceTest() throws Exception {
+    long capacity = TieredBlockStoreTestUtils.TIER_CAPACITY_BYTES[0][0];
+    int scanBlocks = (int) (capacity / BLOCK_SIZE) - HOT_BLOCKS;
+    for (int i = 0; i < HOT_BLOCKS; i ++) {
+      cache(SESSION_ID, BLOCK_ID + i, BLOCK_SIZE, 0, 0);
+    }
+    for (int i = 0; i < HOT_ACCESSES; i ++) {
+      for (int j = 0; j < HOT_BLOCKS; j ++) {
+        access(BLOCK_ID + j);
+      }
+    }
+    for (int i = 0; i < scanBlocks; i ++) {
+      cache(SESSION_ID, BLOCK_ID + HOT_BLOCKS + i, BLOCK_SIZE, 0, 0);
+    }
+
+    // Free half of the dir, which is more than the scan blocks rejected so far
+    BlockStoreLocation firstDir =
+        new BlockStoreLocation(TieredBlockStoreTestUtils.TIER_ALIAS[0], 0);
+    EvictionPlan plan = mEvictor.freeSpaceWithView(capacity / 2, firstDir, mManagerView);
+    Assert.assertNotNull(plan);
+    Set<Long> toFree = new HashSet<Long>();
+    for (BlockTransferInfo info : plan.toMove()) {
+      toFree.add(info.getBlockId());
+    }
+    for (Pair<Long, BlockStoreLocation> info : plan.toEvict()) {
+      toFree.add(info.getFirst());
+    }
+    Assert.assertEquals(capacity / 2 / BLOCK_SIZE, toFree.size());
+    for (int i = 0; i < HOT_BLOCKS; i ++) {
+      Assert.assertFalse(toFree.contains(BLOCK_ID + i));
+    }
+  }
+
+  /**
+   * Tests that admission decisions are counted, and that a rejected block which is accessed again
+   * is admitted after all.
+   *
+   * @throws Exception if the caching fails
+   */
+  @Test
+  public void admissionMetricsTest() throws Exception {
+    long admitted = getCount("BlocksAdmitted");
+    long rejected = getCount("BlocksRejected");
+    // The first block is admitted when the second one pushes it out of the window, and accessing it
+    // makes it more frequent than the second block, which is then rejected
+    cache(SESSION_ID, BLOCK_ID, BLOCK_SIZE, 0, 0);
+    cache(SESSION_ID, BLOCK_ID + 1, BLOCK_SIZE, 0, 0);
+    access(BLOCK_ID);
+    cache(SESSION_ID, BLOCK_ID + 2, BLOCK_SIZE, 0, 0);
+    Assert.assertEquals(admitted + 1, getCount("BlocksAdmitted"));
+    Assert.assertEquals(rejected + 1, getCount("BlocksRejected"));
+
+    // Accessing the rejected block makes it as frequent as the first block, which is enough to
+    // admit it now that it was accessed since it was committed
+    access(BLOCK_ID + 1);
+    Assert.assertEquals(admitted + 2, getCount("BlocksAdmitted"));
+    Assert.assertEquals(rejected + 1, getCount("BlocksRejected"));
+  }
+}
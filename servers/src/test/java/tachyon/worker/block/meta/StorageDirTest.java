@@ -484,6 +484,89 @@ public final class StorageDirTest {
     Assert.assertEquals(TEST_DIR_CAPACITY, mDir.getAvailableBytes());
   }
 
+  /**
+   * Tests the {@link StorageDir#commitTempBlockMeta(TempBlockMeta, BlockMeta)} method.
+   *
+   * @throws Exception if an operation on the metadata fails
+   */
+  @Test
+  public void commitTempBlockMetaTest() throws Exception {
+    mDir.addTempBlockMeta(mTempBlockMeta);
+    BlockMeta committed = new BlockMeta(TEST_TEMP_BLOCK_ID, TEST_BLOCK_SIZE, mDir);
+    mDir.commitTempBlockMeta(mTempBlockMeta, committed);
+    Assert.assertFalse(mDir.hasTempBlockMeta(TEST_TEMP_BLOCK_ID));
+    Assert.assertEquals(committed, mDir.getBlockMeta(TEST_TEMP_BLOCK_ID));
+    Assert.assertEquals(TEST_DIR_CAPACITY - TEST_BLOCK_SIZE, mDir.getAvailableBytes());
+    Assert.assertEquals(TEST_BLOCK_SIZE, mDir.getCommittedBytes());
+  }
+
+  /**
+   * Tests that committing a temporary block which is not in the dir fails without changing it.
+   *
+   * @throws Exception if an operation on the metadata fails
+   */
+  @Test
+  public void commitTempBlockMetaNotExistingTest() throws Exception {
+    BlockMeta committed = new BlockMeta(TEST_TEMP_BLOCK_ID, TEST_BLOCK_SIZE, mDir);
+    try {
+      mDir.commitTempBlockMeta(mTempBlockMeta, committed);
+      Assert.fail("committing a temp block which was never added should fail");
+    } catch (BlockDoesNotExistException e) {
+      // expected
+    }
+    Assert.assertFalse(mDir.hasBlockMeta(TEST_TEMP_BLOCK_ID));
+    Assert.assertEquals(TEST_DIR_CAPACITY, mDir.getAvailableBytes());
+  }
+
+  /**
+   * Tests that concurrent additions and removals of blocks keep the space of the dir accounted.
+   *
+   * @throws Exception if an operation on the metadata fails
+   */
+  @Test(timeout = 10000)
+  public void concurrentAddRemoveTest() throws Exception {
+    final int threads = 4;
+    final int blocksPerThread = 200;
+    List<Thread> workers = new ArrayList<Thread>();
+    final List<Throwable> failures = new ArrayList<Throwable>();
+    for (int i = 0; i < threads; i ++) {
+      final long firstBlockId = i * blocksPerThread;
+      workers.add(new Thread(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            for (long blockId = firstBlockId; blockId < firstBlockId + blocksPerThread;
+                blockId ++) {
+              TempBlockMeta tempBlock = new TempBlockMeta(TEST_SESSION_ID, blockId, 1, mDir);
+              mDir.addTempBlockMeta(tempBlock);
+              BlockMeta block = new BlockMeta(blockId, 1, mDir);
+              mDir.commitTempBlockMeta(tempBlock, block);
+              mDir.getBlockMeta(blockId);
+              if (blockId % 2 == 0) {
+                mDir.removeBlockMeta(block);
+              }
+            }
+          } catch (Throwable t) {
+            synchronized (failures) {
+              failures.add(t);
+            }
+          }
+        }
+      }));
+    }
+    for (Thread worker : workers) {
+      worker.start();
+    }
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    Assert.assertEquals(new ArrayList<Throwable>(), failures);
+    long remaining = threads * blocksPerThread / 2;
+    Assert.assertEquals(remaining, mDir.getBlockIds().size());
+    Assert.assertEquals(remaining, mDir.getCommittedBytes());
+    Assert.assertEquals(TEST_DIR_CAPACITY - remaining, mDir.getAvailableBytes());
+  }
+
   /**
    * Tests the {@link StorageDir#resizeTempBlockMeta(TempBlockMeta, long)} method.
    *
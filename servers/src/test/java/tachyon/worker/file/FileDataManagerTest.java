@@ -15,10 +15,12 @@
 
 package tachyon.worker.file;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
-import java.nio.channels.WritableByteChannel;
 import java.util.List;
 import java.util.Set;
 
@@ -27,7 +29,6 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
 import org.mockito.internal.util.reflection.Whitebox;
-import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
@@ -49,7 +50,7 @@ import tachyon.worker.block.io.BlockReader;
  * Tests {@link FileDataManager}.
  */
 @RunWith(PowerMockRunner.class)
-@PrepareForTest({BlockDataManager.class, BufferUtils.class})
+@PrepareForTest({BlockDataManager.class})
 public final class FileDataManagerTest {
 
   /**
@@ -68,26 +69,25 @@ public final class FileDataManagerTest {
     FileInfo fileInfo = new FileInfo();
     fileInfo.path = "test";
     Mockito.when(blockDataManager.getFileInfo(fileId)).thenReturn(fileInfo);
-    BlockReader reader = Mockito.mock(BlockReader.class);
     for (long blockId : blockIds) {
       Mockito.when(blockDataManager.lockBlock(Sessions.CHECKPOINT_SESSION_ID, blockId))
           .thenReturn(blockId);
+      BlockReader reader = mockReader(BufferUtils.getIncreasingByteArray((int) blockId * 10, 10));
       Mockito
           .when(blockDataManager.readBlockRemote(Sessions.CHECKPOINT_SESSION_ID, blockId, blockId))
           .thenReturn(reader);
     }
 
     FileDataManager manager = new FileDataManager(blockDataManager);
+    // read the blocks in several chunks each
+    Whitebox.setInternalState(manager, "mBufferBytes", 3);
 
     // mock ufs
     UnderFileSystem ufs = Mockito.mock(UnderFileSystem.class);
     String ufsRoot = new TachyonConf().get(Constants.UNDERFS_ADDRESS);
     Mockito.when(ufs.exists(ufsRoot)).thenReturn(true);
     Whitebox.setInternalState(manager, "mUfs", ufs);
-    OutputStream outputStream = Mockito.mock(OutputStream.class);
-
-    // mock BufferUtils
-    PowerMockito.mockStatic(BufferUtils.class);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
     String dstPath = PathUtils.concatPath(ufsRoot, fileInfo.getPath());
     Mockito.when(ufs.create(dstPath)).thenReturn(outputStream);
@@ -98,15 +98,63 @@ public final class FileDataManagerTest {
     Set<Long> persistedFiles = (Set<Long>) Whitebox.getInternalState(manager, "mPersistedFiles");
     Assert.assertEquals(Sets.newHashSet(fileId), persistedFiles);
 
-    // verify fastCopy called twice, once per block
-    PowerMockito.verifyStatic(Mockito.times(2));
-    BufferUtils.fastCopy(Mockito.any(ReadableByteChannel.class),
-        Mockito.any(WritableByteChannel.class));
+    // verify the blocks are written in order
+    Assert.assertArrayEquals(BufferUtils.getIncreasingByteArray(10, 20),
+        outputStream.toByteArray());
+    Mockito.verify(blockDataManager).unlockBlock(1L);
+    Mockito.verify(blockDataManager).unlockBlock(2L);
 
     // verify the file is not needed for another persistence
     Assert.assertFalse(manager.needPersistence(fileId));
   }
 
+  /**
+   * Tests that the blocks are unlocked when writing to the under file system fails.
+   *
+   * @throws Exception when the Whitebox fails
+   */
+  @Test
+  public void writeErrorTest() throws Exception {
+    long fileId = 1;
+    List<Long> blockIds = Lists.newArrayList(1L, 2L);
+
+    BlockDataManager blockDataManager = Mockito.mock(BlockDataManager.class);
+    FileInfo fileInfo = new FileInfo();
+    fileInfo.path = "test";
+    Mockito.when(blockDataManager.getFileInfo(fileId)).thenReturn(fileInfo);
+    for (long blockId : blockIds) {
+      Mockito.when(blockDataManager.lockBlock(Sessions.CHECKPOINT_SESSION_ID, blockId))
+          .thenReturn(blockId);
+      BlockReader reader = mockReader(BufferUtils.getIncreasingByteArray(100));
+      Mockito
+          .when(blockDataManager.readBlockRemote(Sessions.CHECKPOINT_SESSION_ID, blockId, blockId))
+          .thenReturn(reader);
+    }
+
+    FileDataManager manager = new FileDataManager(blockDataManager);
+    Whitebox.setInternalState(manager, "mBufferBytes", 3);
+
+    UnderFileSystem ufs = Mockito.mock(UnderFileSystem.class);
+    String ufsRoot = new TachyonConf().get(Constants.UNDERFS_ADDRESS);
+    Mockito.when(ufs.exists(ufsRoot)).thenReturn(true);
+    Whitebox.setInternalState(manager, "mUfs", ufs);
+    OutputStream outputStream = Mockito.mock(OutputStream.class);
+    Mockito.doThrow(new IOException("write failed")).when(outputStream)
+        .write(Mockito.any(byte[].class), Mockito.anyInt(), Mockito.anyInt());
+    String dstPath = PathUtils.concatPath(ufsRoot, fileInfo.getPath());
+    Mockito.when(ufs.create(dstPath)).thenReturn(outputStream);
+
+    try {
+      manager.persistFile(fileId, blockIds);
+      Assert.fail("the persist should fail");
+    } catch (IOException e) {
+      Assert.assertEquals("write failed", e.getMessage());
+      Mockito.verify(blockDataManager).unlockBlock(1L);
+      Mockito.verify(blockDataManager).unlockBlock(2L);
+      Assert.assertFalse(manager.isFilePersisted(fileId));
+    }
+  }
+
   /**
    * Tests that persisted file are cleared in the manager.
    */
@@ -159,8 +207,6 @@ public final class FileDataManagerTest {
     Whitebox.setInternalState(manager, "mUfs", ufs);
     OutputStream outputStream = Mockito.mock(OutputStream.class);
 
-    // mock BufferUtils
-    PowerMockito.mockStatic(BufferUtils.class);
     String dstPath = PathUtils.concatPath(ufsRoot, fileInfo.getPath());
     Mockito.when(ufs.create(dstPath)).thenReturn(outputStream);
 
@@ -175,4 +221,11 @@ public final class FileDataManagerTest {
       Mockito.verify(blockDataManager).unlockBlock(2L);
     }
   }
+
+  private BlockReader mockReader(byte[] data) throws IOException {
+    BlockReader reader = Mockito.mock(BlockReader.class);
+    ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(data));
+    Mockito.when(reader.getChannel()).thenReturn(channel);
+    return reader;
+  }
 }
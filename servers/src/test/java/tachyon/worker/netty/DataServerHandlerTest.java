@@ -0,0 +1,187 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.netty;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import tachyon.Constants;
+import tachyon.conf.TachyonConf;
+import tachyon.exception.WorkerOutOfSpaceException;
+import tachyon.network.protocol.RPCBlockWriteRequest;
+import tachyon.network.protocol.RPCBlockWriteResponse;
+import tachyon.network.protocol.RPCResponse;
+import tachyon.network.protocol.databuffer.DataByteBuffer;
+import tachyon.worker.block.BlockDataManager;
+import tachyon.worker.block.io.BlockWriter;
+
+/**
+ * Unit tests for the streamed block writes of {@link DataServerHandler}.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(BlockDataManager.class)
+public final class DataServerHandlerTest {
+  private static final long SESSION_ID = 1;
+  private static final long BLOCK_ID = 2;
+  private static final int PACKET_LENGTH = 10;
+  private static final long RESERVATION_BYTES = 64;
+
+  private BlockDataManager mDataManager;
+  private BlockWriter mWriter;
+  private EmbeddedChannel mChannel;
+
+  /**
+   * Sets up a handler, attached to a channel, whose block data manager hands out a mock writer.
+   *
+   * @throws Exception if setting up the mocks fails
+   */
+  @Before
+  public void before() throws Exception {
+    mDataManager = PowerMockito.mock(BlockDataManager.class);
+    mWriter = Mockito.mock(BlockWriter.class);
+    Mockito.when(mDataManager.getTempBlockWriterRemote(SESSION_ID, BLOCK_ID)).thenReturn(mWriter);
+    TachyonConf conf = new TachyonConf();
+    conf.set(Constants.WORKER_NETWORK_NETTY_WRITE_RESERVATION_BYTES,
+        Long.toString(RESERVATION_BYTES));
+    mChannel = new EmbeddedChannel(new DataServerHandler(mDataManager, conf));
+  }
+
+  /**
+   * Makes sure that the packets of a session are appended to one writer, and that only the last
+   * packet is acknowledged, once the block is closed.
+   *
+   * @throws Exception if writing the packets fails
+   */
+  @Test
+  public void multiPacketWriteTest() throws Exception {
+    int packets = 3;
+    for (int i = 0; i < packets; i ++) {
+      writePacket(i, i == packets - 1);
+    }
+
+    Mockito.verify(mDataManager).createBlockRemote(Mockito.eq(SESSION_ID), Mockito.eq(BLOCK_ID),
+        Mockito.anyString(), Mockito.eq((long) PACKET_LENGTH));
+    Mockito.verify(mDataManager).getTempBlockWriterRemote(SESSION_ID, BLOCK_ID);
+    Mockito.verify(mWriter, Mockito.times(packets)).append(Mockito.any(ByteBuffer.class));
+    Mockito.verify(mWriter).close();
+    RPCBlockWriteResponse response = (RPCBlockWriteResponse) mChannel.readOutbound();
+    Assert.assertEquals(RPCResponse.Status.SUCCESS, response.getStatus());
+    Assert.assertEquals(PACKET_LENGTH * (packets - 1), response.getOffset());
+    Assert.assertNull(mChannel.readOutbound());
+  }
+
+  /**
+   * Makes sure that the space of the block is reserved in batches which double, starting at the
+   * size of the first packet, up to the configured reservation.
+   *
+   * @throws Exception if writing the packets fails
+   */
+  @Test
+  public void reservationGrowthTest() throws Exception {
+    for (int i = 0; i < 9; i ++) {
+      writePacket(i, false);
+    }
+
+    // Reserved after each request: 10, 20, 40, 80 and 144 bytes, for 90 bytes written.
+    InOrder inOrder = Mockito.inOrder(mDataManager);
+    inOrder.verify(mDataManager).createBlockRemote(Mockito.eq(SESSION_ID), Mockito.eq(BLOCK_ID),
+        Mockito.anyString(), Mockito.eq((long) PACKET_LENGTH));
+    inOrder.verify(mDataManager).requestSpace(SESSION_ID, BLOCK_ID, 10);
+    inOrder.verify(mDataManager).requestSpace(SESSION_ID, BLOCK_ID, 20);
+    inOrder.verify(mDataManager).requestSpace(SESSION_ID, BLOCK_ID, 40);
+    inOrder.verify(mDataManager).requestSpace(SESSION_ID, BLOCK_ID, RESERVATION_BYTES);
+    Mockito.verify(mDataManager, Mockito.times(4)).requestSpace(Mockito.anyLong(),
+        Mockito.anyLong(), Mockito.anyLong());
+    Assert.assertNull(mChannel.readOutbound());
+  }
+
+  /**
+   * Makes sure that a batch which does not fit falls back to the space the packet needs.
+   *
+   * @throws Exception if writing the packets fails
+   */
+  @Test
+  public void reservationFallbackTest() throws Exception {
+    Mockito.doThrow(new WorkerOutOfSpaceException("test")).when(mDataManager)
+        .requestSpace(SESSION_ID, BLOCK_ID, 20);
+    for (int i = 0; i < 3; i ++) {
+      writePacket(i, false);
+    }
+
+    InOrder inOrder = Mockito.inOrder(mDataManager);
+    inOrder.verify(mDataManager).requestSpace(SESSION_ID, BLOCK_ID, 10);
+    inOrder.verify(mDataManager).requestSpace(SESSION_ID, BLOCK_ID, 20);
+    inOrder.verify(mDataManager).requestSpace(SESSION_ID, BLOCK_ID, PACKET_LENGTH);
+    Mockito.verify(mWriter, Mockito.times(3)).append(Mockito.any(ByteBuffer.class));
+    Assert.assertNull(mChannel.readOutbound());
+  }
+
+  /**
+   * Makes sure that a packet which cannot be reserved fails the session: the client gets an error,
+   * the block is closed, and the packets which follow are dropped.
+   *
+   * @throws Exception if writing the packets fails
+   */
+  @Test
+  public void failedRequestSpaceTest() throws Exception {
+    Mockito.doThrow(new WorkerOutOfSpaceException("test")).when(mDataManager)
+        .requestSpace(Mockito.eq(SESSION_ID), Mockito.eq(BLOCK_ID), Mockito.anyLong());
+    writePacket(0, false);
+    writePacket(1, false);
+    writePacket(2, true);
+
+    RPCBlockWriteResponse response = (RPCBlockWriteResponse) mChannel.readOutbound();
+    Assert.assertEquals(RPCResponse.Status.WRITE_ERROR, response.getStatus());
+    Assert.assertNull(mChannel.readOutbound());
+    Mockito.verify(mWriter).append(Mockito.any(ByteBuffer.class));
+    Mockito.verify(mWriter).close();
+  }
+
+  /**
+   * Makes sure that the block is closed if the channel closes in the middle of a session.
+   *
+   * @throws Exception if writing the packets fails
+   */
+  @Test
+  public void channelClosedTest() throws Exception {
+    writePacket(0, false);
+    writePacket(1, false);
+    mChannel.close();
+
+    Mockito.verify(mWriter, Mockito.times(2)).append(Mockito.any(ByteBuffer.class));
+    Mockito.verify(mWriter).close();
+    Assert.assertNull(mChannel.readOutbound());
+  }
+
+  private void writePacket(int index, boolean last) {
+    ByteBuffer data = ByteBuffer.allocate(PACKET_LENGTH);
+    mChannel.writeInbound(new RPCBlockWriteRequest(SESSION_ID, BLOCK_ID,
+        (long) index * PACKET_LENGTH, PACKET_LENGTH,
+        last ? RPCBlockWriteRequest.Mode.STREAM_END : RPCBlockWriteRequest.Mode.STREAM,
+        new DataByteBuffer(data, PACKET_LENGTH)));
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.shell.command;
+
+import java.io.IOException;
+import java.util.List;
+
+import tachyon.Constants;
+import tachyon.client.file.TachyonFileSystem;
+import tachyon.conf.TachyonConf;
+import tachyon.exception.TachyonException;
+import tachyon.thrift.FileInfo;
+import tachyon.util.FormatUtils;
+
+/**
+ * Lists all the files which are fully in memory.
+ */
+public final class LsInMemoryCommand extends AbstractTfsShellCommand {
+
+  /**
+   * Constructs a new instance to list all the files which are fully in memory.
+   *
+   * @param conf the configuration for Tachyon
+   * @param tfs the filesystem of Tachyon
+   */
+  public LsInMemoryCommand(TachyonConf conf, TachyonFileSystem tfs) {
+    super(conf, tfs);
+  }
+
+  @Override
+  public String getCommandName() {
+    return "lsInMemory";
+  }
+
+  @Override
+  protected int getNumOfArgs() {
+    return 0;
+  }
+
+  @Override
+  public void run(String... args) throws IOException {
+    try {
+      // The files are fetched a page at a time, each page starting after the last file printed.
+      long lastFileId = -1;
+      List<FileInfo> files;
+      while (!(files = mTfs.listInMemoryFiles(lastFileId)).isEmpty()) {
+        for (FileInfo file : files) {
+          System.out.format(Constants.COMMAND_FORMAT_LS,
+              FormatUtils.getSizeFromBytes(file.getLength()),
+              CommandUtils.convertMsToDate(file.getCreationTimeMs()), "In Memory",
+              file.getUserName(), file.getGroupName(), file.getPath());
+          lastFileId = file.getFileId();
+        }
+      }
+    } catch (TachyonException e) {
+      throw new IOException(e.getMessage());
+    }
+  }
+
+  @Override
+  public String getUsage() {
+    return "lsInMemory";
+  }
+
+  @Override
+  public String getDescription() {
+    return "Lists all the files which are fully in memory, in the order of their file ids.";
+  }
+}